@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,6 +14,9 @@ package org.eclipse.debug.jdi.tests;
 import java.util.List;
 import java.util.ListIterator;
 
+import org.eclipse.jdi.internal.ArrayReferenceImpl;
+import org.eclipse.jdi.internal.PrimitiveArrayView;
+
 import com.sun.jdi.ArrayReference;
 import com.sun.jdi.ClassNotLoadedException;
 import com.sun.jdi.DoubleValue;
@@ -251,4 +254,41 @@ public class ArrayReferenceTest extends AbstractJDITest {
 		int length = fArray.length();
 		assertEquals("1", 3, length);
 	}
+	/**
+	 * Test the primitive view of an array, which reads the components with
+	 * JDWP 'Array - Get values' a page at a time.
+	 */
+	public void testPrimitiveView() {
+		assertNull("1", ((ArrayReferenceImpl) fArray).primitiveView());
+
+		PrimitiveArrayView view = ((ArrayReferenceImpl) fDoubleArray).primitiveView();
+		assertNotNull("2", view);
+		assertEquals("3", 'D', view.componentTag());
+		assertEquals("4", fDoubleArray.length(), view.length());
+		List<Value> values = fDoubleArray.getValues();
+		for (int i = 0; i < values.size(); i++) {
+			assertEquals("5." + i, ((DoubleValue) values.get(i)).value(), view.getDouble(i), 0.0);
+			assertEquals("6." + i, values.get(i), view.getValue(i));
+		}
+
+		// a view keeps what it has read, a new view reads the components again
+		assertNotSame("7", view, ((ArrayReferenceImpl) fDoubleArray).primitiveView());
+		Value old = fDoubleArray.getValue(0);
+		try {
+			fDoubleArray.setValue(0, fVM.mirrorOf(42.0));
+			assertEquals("8", ((DoubleValue) old).value(), view.getDouble(0), 0.0);
+			assertEquals("9", 42.0, ((ArrayReferenceImpl) fDoubleArray).primitiveView().getDouble(0), 0.0);
+			fDoubleArray.setValue(0, old);
+		} catch (ClassNotLoadedException e) {
+			assertTrue("10.1", false);
+		} catch (InvalidTypeException e) {
+			assertTrue("10.2", false);
+		}
+
+		try {
+			view.getDouble(view.length());
+			assertTrue("11", false);
+		} catch (IndexOutOfBoundsException e) {
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,9 +11,12 @@
 
 package org.eclipse.debug.jdi.tests;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.ListIterator;
 
+import org.eclipse.jdi.internal.request.EventRequestManagerImpl;
+
 import com.sun.jdi.Field;
 import com.sun.jdi.Location;
 import com.sun.jdi.request.AccessWatchpointRequest;
@@ -114,6 +117,36 @@ public class EventRequestManagerTest extends AbstractJDITest {
 		fManager.deleteAllBreakpoints();
 		assertEquals("5", 0, fManager.breakpointRequests().size());
 	}
+	/**
+	 * Test enabling, disabling and deleting breakpoint requests in batches,
+	 * and finding them by location and by type.
+	 */
+	public void testJDIBreakpointRequestBatch() {
+		EventRequestManagerImpl manager = (EventRequestManagerImpl) fManager;
+		Location location = getLocation();
+		List<BreakpointRequest> bps = new ArrayList<BreakpointRequest>();
+		for (int i = 0; i < 10; i++) {
+			bps.add(fManager.createBreakpointRequest(location));
+		}
+		assertEquals("1", 10, manager.breakpointRequests(location).size());
+		assertEquals("2", 10, manager.breakpointRequests(location.declaringType()).size());
+
+		manager.enableEventRequests(bps);
+		for (int i = 0; i < bps.size(); i++) {
+			assertTrue("3." + i, bps.get(i).isEnabled());
+		}
+		manager.disableEventRequests(bps.subList(0, 5));
+		for (int i = 0; i < bps.size(); i++) {
+			assertEquals("4." + i, i >= 5, bps.get(i).isEnabled());
+		}
+
+		fManager.deleteEventRequests(bps);
+		for (int i = 0; i < bps.size(); i++) {
+			assertFalse("5." + i, bps.get(i).isEnabled());
+		}
+		assertEquals("6", 0, fManager.breakpointRequests().size());
+		assertEquals("7", 0, manager.breakpointRequests(location).size());
+	}
 	/**
 	 * Test JDI createClassPrepareRequest(), classPrepareRequests()
 	 * and deleteEventRequest(EventRequest)
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -193,6 +193,23 @@ public class ObjectReferenceTest extends AbstractJDITest {
 		//assertEquals("10", fVM.mirrorOf("HEY"), fObject.getValue(field));
 
 	}
+	/**
+	 * Test JDI getValues(List) with a mix of static and instance fields,
+	 * whose values are retrieved with requests that are in flight at the
+	 * same time.
+	 */
+	public void testJDIGetValuesStaticAndInstance() {
+		ReferenceType type = fObject.referenceType();
+		List<Field> fields = type.fields();
+		Map<Field, Value> values = fObject.getValues(fields);
+		assertEquals("1", fields.size(), values.size());
+		Iterator<Field> iterator = fields.iterator();
+		while (iterator.hasNext()) {
+			Field field = iterator.next();
+			assertTrue("2 " + field.name(), values.containsKey(field));
+			assertEquals("3 " + field.name(), fObject.getValue(field), values.get(field));
+		}
+	}
 	/**
 	 * Test JDI invokeMethod.
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -16,6 +16,10 @@ import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 
+import org.eclipse.jdi.internal.ReferenceTypePrefetcher;
+import org.eclipse.jdi.internal.VirtualMachineImpl;
+
+import com.sun.jdi.AbsentInformationException;
 import com.sun.jdi.Field;
 import com.sun.jdi.IntegerValue;
 import com.sun.jdi.Method;
@@ -369,4 +373,34 @@ public class ReferenceTypeTest extends AbstractJDITest {
 			}
 		}
 	}
+	/**
+	 * Test that prefetching the information of the types of a package
+	 * requests it with 'ReferenceType - Fields', 'ReferenceType - Methods',
+	 * 'ReferenceType - Source File' and 'Method - Line Table', and that the
+	 * information is not requested again afterwards.
+	 */
+	public void testPrefetch() {
+		ReferenceTypePrefetcher prefetcher = new ReferenceTypePrefetcher((VirtualMachineImpl) fVM);
+		List<ReferenceType> types = prefetcher.selectTypes(new String[] {"org.eclipse.debug.jdi.tests.program."});
+		assertTrue("1", types.contains(getMainClass()));
+		assertTrue("2", !types.contains(getSystemType()));
+		Iterator<ReferenceType> iterator = types.iterator();
+		while (iterator.hasNext()) {
+			assertTrue("3", iterator.next().name().startsWith("org.eclipse.debug.jdi.tests.program."));
+		}
+
+		prefetcher.prefetch(types);
+		int requestCount = prefetcher.getRequestCount();
+		prefetcher.prefetch(types);
+		assertEquals("4", requestCount, prefetcher.getRequestCount());
+
+		ReferenceType mainClass = getMainClass();
+		assertTrue("5", mainClass.fields().size() > 0);
+		assertTrue("6", mainClass.methods().size() > 0);
+		try {
+			assertEquals("7", "MainClass.java", mainClass.sourceName());
+		} catch (AbsentInformationException e) {
+			assertTrue("8", false);
+		}
+	}
 }
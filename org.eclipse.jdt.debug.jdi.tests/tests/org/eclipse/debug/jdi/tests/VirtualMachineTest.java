@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,6 +10,8 @@
  *******************************************************************************/
 package org.eclipse.debug.jdi.tests;
 
+import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
@@ -17,6 +19,10 @@ import java.util.Vector;
 
 import junit.framework.Test;
 
+import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpMetrics;
+
 import com.sun.jdi.BooleanValue;
 import com.sun.jdi.ByteValue;
 import com.sun.jdi.CharValue;
@@ -175,6 +181,25 @@ public class VirtualMachineTest extends AbstractJDITest {
 	public void testJDIEventRequestManager() {
 		assertNotNull("1", fVM.eventRequestManager());
 	}
+	/**
+	 * Test that the requests sent to the VM are counted in its metrics.
+	 */
+	public void testJDIMetrics() {
+		JdwpMetrics metrics = ((VirtualMachineImpl) fVM).metrics();
+		JdwpMetrics.CommandMetrics before = metrics.getCommandMetrics(JdwpCommandPacket.VM_ALL_THREADS);
+		long count = before == null ? 0 : before.getCount();
+		fVM.allThreads();
+		JdwpMetrics.CommandMetrics after = metrics.getCommandMetrics(JdwpCommandPacket.VM_ALL_THREADS);
+		assertNotNull("1", after);
+		assertEquals("2", count + 1, after.getCount());
+		assertTrue("3", after.getBytesIn() > 0);
+		assertTrue("4", after.getLatency().getMax() >= after.getLatency().getValueAtPercentile(50));
+
+		StringWriter dump = new StringWriter();
+		metrics.dump(new PrintWriter(dump));
+		String name = JdwpCommandPacket.commandMap().get(new Integer(JdwpCommandPacket.VM_ALL_THREADS));
+		assertTrue("5", dump.toString().indexOf(name) != -1);
+	}
 	/**
 	 * Test JDI mirrorOf(boolean).
 	 */
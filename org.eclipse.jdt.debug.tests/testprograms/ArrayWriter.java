@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright (c) 2015 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * 
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+/**
+ * Writes to an array from a second thread while the main thread is suspended
+ */
+public class ArrayWriter {
+
+	static int[] fgArray = new int[1000];
+
+	public static void main(String[] args) throws InterruptedException {
+		Thread writer = new Thread("Writer") {
+			public void run() {
+				int count = 0;
+				while (true) {
+					count++;
+					for (int i = 0; i < fgArray.length; i++) {
+						fgArray[i] = count;
+					}
+					try {
+						Thread.sleep(10);
+					} catch (InterruptedException e) {
+						return;
+					}
+				}
+			}
+		};
+		writer.setDaemon(true);
+		writer.start();
+		while (fgArray[0] == 0) {
+			Thread.sleep(10);
+		}
+		System.out.println("Array written"); // breakpoint here
+	}
+}
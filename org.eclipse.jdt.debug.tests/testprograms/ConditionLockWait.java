@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Copyright (c) 2015 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * 
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+public class ConditionLockWait {
+
+	static final Object LOCK = new Object();
+
+	public static boolean acquire() {
+		synchronized (LOCK) {
+			return false;
+		}
+	}
+
+	public static void main(String[] args) throws InterruptedException {
+		Thread[] waiters = new Thread[8];
+		synchronized (LOCK) {
+			for (int i = 0; i < waiters.length; i++) {
+				waiters[i] = new Thread(new Runnable() {
+					public void run() {
+						waitForLock();
+					}
+				});
+				waiters[i].setName("Waiter " + i);
+				waiters[i].start();
+			}
+			Thread.sleep(1000);
+			int held = waiters.length;
+			System.out.println("Releasing the lock of " + held + " waiters");
+		}
+		for (int i = 0; i < waiters.length; i++) {
+			waiters[i].join();
+		}
+		System.out.println("All waiters done");
+	}
+
+	static void waitForLock() {
+		int waited = 1;
+		System.out.println(Thread.currentThread().getName() + " done " + waited);
+	}
+}
@@ -0,0 +1,5024 @@
+/*******************************************************************************
+ * Copyright (c) 2015 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+/**
+ * A class with 5000 methods, like generated code
+ */
+public class ManyMethods {
+
+	int count;
+
+	public static void main(String[] args) {
+		ManyMethods me = new ManyMethods();
+		System.out.println(me.count);
+	}
+
+	void m0() { count++; }
+	void m1() { count++; }
+	void m2() { count++; }
+	void m3() { count++; }
+	void m4() { count++; }
+	void m5() { count++; }
+	void m6() { count++; }
+	void m7() { count++; }
+	void m8() { count++; }
+	void m9() { count++; }
+	void m10() { count++; }
+	void m11() { count++; }
+	void m12() { count++; }
+	void m13() { count++; }
+	void m14() { count++; }
+	void m15() { count++; }
+	void m16() { count++; }
+	void m17() { count++; }
+	void m18() { count++; }
+	void m19() { count++; }
+	void m20() { count++; }
+	void m21() { count++; }
+	void m22() { count++; }
+	void m23() { count++; }
+	void m24() { count++; }
+	void m25() { count++; }
+	void m26() { count++; }
+	void m27() { count++; }
+	void m28() { count++; }
+	void m29() { count++; }
+	void m30() { count++; }
+	void m31() { count++; }
+	void m32() { count++; }
+	void m33() { count++; }
+	void m34() { count++; }
+	void m35() { count++; }
+	void m36() { count++; }
+	void m37() { count++; }
+	void m38() { count++; }
+	void m39() { count++; }
+	void m40() { count++; }
+	void m41() { count++; }
+	void m42() { count++; }
+	void m43() { count++; }
+	void m44() { count++; }
+	void m45() { count++; }
+	void m46() { count++; }
+	void m47() { count++; }
+	void m48() { count++; }
+	void m49() { count++; }
+	void m50() { count++; }
+	void m51() { count++; }
+	void m52() { count++; }
+	void m53() { count++; }
+	void m54() { count++; }
+	void m55() { count++; }
+	void m56() { count++; }
+	void m57() { count++; }
+	void m58() { count++; }
+	void m59() { count++; }
+	void m60() { count++; }
+	void m61() { count++; }
+	void m62() { count++; }
+	void m63() { count++; }
+	void m64() { count++; }
+	void m65() { count++; }
+	void m66() { count++; }
+	void m67() { count++; }
+	void m68() { count++; }
+	void m69() { count++; }
+	void m70() { count++; }
+	void m71() { count++; }
+	void m72() { count++; }
+	void m73() { count++; }
+	void m74() { count++; }
+	void m75() { count++; }
+	void m76() { count++; }
+	void m77() { count++; }
+	void m78() { count++; }
+	void m79() { count++; }
+	void m80() { count++; }
+	void m81() { count++; }
+	void m82() { count++; }
+	void m83() { count++; }
+	void m84() { count++; }
+	void m85() { count++; }
+	void m86() { count++; }
+	void m87() { count++; }
+	void m88() { count++; }
+	void m89() { count++; }
+	void m90() { count++; }
+	void m91() { count++; }
+	void m92() { count++; }
+	void m93() { count++; }
+	void m94() { count++; }
+	void m95() { count++; }
+	void m96() { count++; }
+	void m97() { count++; }
+	void m98() { count++; }
+	void m99() { count++; }
+	void m100() { count++; }
+	void m101() { count++; }
+	void m102() { count++; }
+	void m103() { count++; }
+	void m104() { count++; }
+	void m105() { count++; }
+	void m106() { count++; }
+	void m107() { count++; }
+	void m108() { count++; }
+	void m109() { count++; }
+	void m110() { count++; }
+	void m111() { count++; }
+	void m112() { count++; }
+	void m113() { count++; }
+	void m114() { count++; }
+	void m115() { count++; }
+	void m116() { count++; }
+	void m117() { count++; }
+	void m118() { count++; }
+	void m119() { count++; }
+	void m120() { count++; }
+	void m121() { count++; }
+	void m122() { count++; }
+	void m123() { count++; }
+	void m124() { count++; }
+	void m125() { count++; }
+	void m126() { count++; }
+	void m127() { count++; }
+	void m128() { count++; }
+	void m129() { count++; }
+	void m130() { count++; }
+	void m131() { count++; }
+	void m132() { count++; }
+	void m133() { count++; }
+	void m134() { count++; }
+	void m135() { count++; }
+	void m136() { count++; }
+	void m137() { count++; }
+	void m138() { count++; }
+	void m139() { count++; }
+	void m140() { count++; }
+	void m141() { count++; }
+	void m142() { count++; }
+	void m143() { count++; }
+	void m144() { count++; }
+	void m145() { count++; }
+	void m146() { count++; }
+	void m147() { count++; }
+	void m148() { count++; }
+	void m149() { count++; }
+	void m150() { count++; }
+	void m151() { count++; }
+	void m152() { count++; }
+	void m153() { count++; }
+	void m154() { count++; }
+	void m155() { count++; }
+	void m156() { count++; }
+	void m157() { count++; }
+	void m158() { count++; }
+	void m159() { count++; }
+	void m160() { count++; }
+	void m161() { count++; }
+	void m162() { count++; }
+	void m163() { count++; }
+	void m164() { count++; }
+	void m165() { count++; }
+	void m166() { count++; }
+	void m167() { count++; }
+	void m168() { count++; }
+	void m169() { count++; }
+	void m170() { count++; }
+	void m171() { count++; }
+	void m172() { count++; }
+	void m173() { count++; }
+	void m174() { count++; }
+	void m175() { count++; }
+	void m176() { count++; }
+	void m177() { count++; }
+	void m178() { count++; }
+	void m179() { count++; }
+	void m180() { count++; }
+	void m181() { count++; }
+	void m182() { count++; }
+	void m183() { count++; }
+	void m184() { count++; }
+	void m185() { count++; }
+	void m186() { count++; }
+	void m187() { count++; }
+	void m188() { count++; }
+	void m189() { count++; }
+	void m190() { count++; }
+	void m191() { count++; }
+	void m192() { count++; }
+	void m193() { count++; }
+	void m194() { count++; }
+	void m195() { count++; }
+	void m196() { count++; }
+	void m197() { count++; }
+	void m198() { count++; }
+	void m199() { count++; }
+	void m200() { count++; }
+	void m201() { count++; }
+	void m202() { count++; }
+	void m203() { count++; }
+	void m204() { count++; }
+	void m205() { count++; }
+	void m206() { count++; }
+	void m207() { count++; }
+	void m208() { count++; }
+	void m209() { count++; }
+	void m210() { count++; }
+	void m211() { count++; }
+	void m212() { count++; }
+	void m213() { count++; }
+	void m214() { count++; }
+	void m215() { count++; }
+	void m216() { count++; }
+	void m217() { count++; }
+	void m218() { count++; }
+	void m219() { count++; }
+	void m220() { count++; }
+	void m221() { count++; }
+	void m222() { count++; }
+	void m223() { count++; }
+	void m224() { count++; }
+	void m225() { count++; }
+	void m226() { count++; }
+	void m227() { count++; }
+	void m228() { count++; }
+	void m229() { count++; }
+	void m230() { count++; }
+	void m231() { count++; }
+	void m232() { count++; }
+	void m233() { count++; }
+	void m234() { count++; }
+	void m235() { count++; }
+	void m236() { count++; }
+	void m237() { count++; }
+	void m238() { count++; }
+	void m239() { count++; }
+	void m240() { count++; }
+	void m241() { count++; }
+	void m242() { count++; }
+	void m243() { count++; }
+	void m244() { count++; }
+	void m245() { count++; }
+	void m246() { count++; }
+	void m247() { count++; }
+	void m248() { count++; }
+	void m249() { count++; }
+	void m250() { count++; }
+	void m251() { count++; }
+	void m252() { count++; }
+	void m253() { count++; }
+	void m254() { count++; }
+	void m255() { count++; }
+	void m256() { count++; }
+	void m257() { count++; }
+	void m258() { count++; }
+	void m259() { count++; }
+	void m260() { count++; }
+	void m261() { count++; }
+	void m262() { count++; }
+	void m263() { count++; }
+	void m264() { count++; }
+	void m265() { count++; }
+	void m266() { count++; }
+	void m267() { count++; }
+	void m268() { count++; }
+	void m269() { count++; }
+	void m270() { count++; }
+	void m271() { count++; }
+	void m272() { count++; }
+	void m273() { count++; }
+	void m274() { count++; }
+	void m275() { count++; }
+	void m276() { count++; }
+	void m277() { count++; }
+	void m278() { count++; }
+	void m279() { count++; }
+	void m280() { count++; }
+	void m281() { count++; }
+	void m282() { count++; }
+	void m283() { count++; }
+	void m284() { count++; }
+	void m285() { count++; }
+	void m286() { count++; }
+	void m287() { count++; }
+	void m288() { count++; }
+	void m289() { count++; }
+	void m290() { count++; }
+	void m291() { count++; }
+	void m292() { count++; }
+	void m293() { count++; }
+	void m294() { count++; }
+	void m295() { count++; }
+	void m296() { count++; }
+	void m297() { count++; }
+	void m298() { count++; }
+	void m299() { count++; }
+	void m300() { count++; }
+	void m301() { count++; }
+	void m302() { count++; }
+	void m303() { count++; }
+	void m304() { count++; }
+	void m305() { count++; }
+	void m306() { count++; }
+	void m307() { count++; }
+	void m308() { count++; }
+	void m309() { count++; }
+	void m310() { count++; }
+	void m311() { count++; }
+	void m312() { count++; }
+	void m313() { count++; }
+	void m314() { count++; }
+	void m315() { count++; }
+	void m316() { count++; }
+	void m317() { count++; }
+	void m318() { count++; }
+	void m319() { count++; }
+	void m320() { count++; }
+	void m321() { count++; }
+	void m322() { count++; }
+	void m323() { count++; }
+	void m324() { count++; }
+	void m325() { count++; }
+	void m326() { count++; }
+	void m327() { count++; }
+	void m328() { count++; }
+	void m329() { count++; }
+	void m330() { count++; }
+	void m331() { count++; }
+	void m332() { count++; }
+	void m333() { count++; }
+	void m334() { count++; }
+	void m335() { count++; }
+	void m336() { count++; }
+	void m337() { count++; }
+	void m338() { count++; }
+	void m339() { count++; }
+	void m340() { count++; }
+	void m341() { count++; }
+	void m342() { count++; }
+	void m343() { count++; }
+	void m344() { count++; }
+	void m345() { count++; }
+	void m346() { count++; }
+	void m347() { count++; }
+	void m348() { count++; }
+	void m349() { count++; }
+	void m350() { count++; }
+	void m351() { count++; }
+	void m352() { count++; }
+	void m353() { count++; }
+	void m354() { count++; }
+	void m355() { count++; }
+	void m356() { count++; }
+	void m357() { count++; }
+	void m358() { count++; }
+	void m359() { count++; }
+	void m360() { count++; }
+	void m361() { count++; }
+	void m362() { count++; }
+	void m363() { count++; }
+	void m364() { count++; }
+	void m365() { count++; }
+	void m366() { count++; }
+	void m367() { count++; }
+	void m368() { count++; }
+	void m369() { count++; }
+	void m370() { count++; }
+	void m371() { count++; }
+	void m372() { count++; }
+	void m373() { count++; }
+	void m374() { count++; }
+	void m375() { count++; }
+	void m376() { count++; }
+	void m377() { count++; }
+	void m378() { count++; }
+	void m379() { count++; }
+	void m380() { count++; }
+	void m381() { count++; }
+	void m382() { count++; }
+	void m383() { count++; }
+	void m384() { count++; }
+	void m385() { count++; }
+	void m386() { count++; }
+	void m387() { count++; }
+	void m388() { count++; }
+	void m389() { count++; }
+	void m390() { count++; }
+	void m391() { count++; }
+	void m392() { count++; }
+	void m393() { count++; }
+	void m394() { count++; }
+	void m395() { count++; }
+	void m396() { count++; }
+	void m397() { count++; }
+	void m398() { count++; }
+	void m399() { count++; }
+	void m400() { count++; }
+	void m401() { count++; }
+	void m402() { count++; }
+	void m403() { count++; }
+	void m404() { count++; }
+	void m405() { count++; }
+	void m406() { count++; }
+	void m407() { count++; }
+	void m408() { count++; }
+	void m409() { count++; }
+	void m410() { count++; }
+	void m411() { count++; }
+	void m412() { count++; }
+	void m413() { count++; }
+	void m414() { count++; }
+	void m415() { count++; }
+	void m416() { count++; }
+	void m417() { count++; }
+	void m418() { count++; }
+	void m419() { count++; }
+	void m420() { count++; }
+	void m421() { count++; }
+	void m422() { count++; }
+	void m423() { count++; }
+	void m424() { count++; }
+	void m425() { count++; }
+	void m426() { count++; }
+	void m427() { count++; }
+	void m428() { count++; }
+	void m429() { count++; }
+	void m430() { count++; }
+	void m431() { count++; }
+	void m432() { count++; }
+	void m433() { count++; }
+	void m434() { count++; }
+	void m435() { count++; }
+	void m436() { count++; }
+	void m437() { count++; }
+	void m438() { count++; }
+	void m439() { count++; }
+	void m440() { count++; }
+	void m441() { count++; }
+	void m442() { count++; }
+	void m443() { count++; }
+	void m444() { count++; }
+	void m445() { count++; }
+	void m446() { count++; }
+	void m447() { count++; }
+	void m448() { count++; }
+	void m449() { count++; }
+	void m450() { count++; }
+	void m451() { count++; }
+	void m452() { count++; }
+	void m453() { count++; }
+	void m454() { count++; }
+	void m455() { count++; }
+	void m456() { count++; }
+	void m457() { count++; }
+	void m458() { count++; }
+	void m459() { count++; }
+	void m460() { count++; }
+	void m461() { count++; }
+	void m462() { count++; }
+	void m463() { count++; }
+	void m464() { count++; }
+	void m465() { count++; }
+	void m466() { count++; }
+	void m467() { count++; }
+	void m468() { count++; }
+	void m469() { count++; }
+	void m470() { count++; }
+	void m471() { count++; }
+	void m472() { count++; }
+	void m473() { count++; }
+	void m474() { count++; }
+	void m475() { count++; }
+	void m476() { count++; }
+	void m477() { count++; }
+	void m478() { count++; }
+	void m479() { count++; }
+	void m480() { count++; }
+	void m481() { count++; }
+	void m482() { count++; }
+	void m483() { count++; }
+	void m484() { count++; }
+	void m485() { count++; }
+	void m486() { count++; }
+	void m487() { count++; }
+	void m488() { count++; }
+	void m489() { count++; }
+	void m490() { count++; }
+	void m491() { count++; }
+	void m492() { count++; }
+	void m493() { count++; }
+	void m494() { count++; }
+	void m495() { count++; }
+	void m496() { count++; }
+	void m497() { count++; }
+	void m498() { count++; }
+	void m499() { count++; }
+	void m500() { count++; }
+	void m501() { count++; }
+	void m502() { count++; }
+	void m503() { count++; }
+	void m504() { count++; }
+	void m505() { count++; }
+	void m506() { count++; }
+	void m507() { count++; }
+	void m508() { count++; }
+	void m509() { count++; }
+	void m510() { count++; }
+	void m511() { count++; }
+	void m512() { count++; }
+	void m513() { count++; }
+	void m514() { count++; }
+	void m515() { count++; }
+	void m516() { count++; }
+	void m517() { count++; }
+	void m518() { count++; }
+	void m519() { count++; }
+	void m520() { count++; }
+	void m521() { count++; }
+	void m522() { count++; }
+	void m523() { count++; }
+	void m524() { count++; }
+	void m525() { count++; }
+	void m526() { count++; }
+	void m527() { count++; }
+	void m528() { count++; }
+	void m529() { count++; }
+	void m530() { count++; }
+	void m531() { count++; }
+	void m532() { count++; }
+	void m533() { count++; }
+	void m534() { count++; }
+	void m535() { count++; }
+	void m536() { count++; }
+	void m537() { count++; }
+	void m538() { count++; }
+	void m539() { count++; }
+	void m540() { count++; }
+	void m541() { count++; }
+	void m542() { count++; }
+	void m543() { count++; }
+	void m544() { count++; }
+	void m545() { count++; }
+	void m546() { count++; }
+	void m547() { count++; }
+	void m548() { count++; }
+	void m549() { count++; }
+	void m550() { count++; }
+	void m551() { count++; }
+	void m552() { count++; }
+	void m553() { count++; }
+	void m554() { count++; }
+	void m555() { count++; }
+	void m556() { count++; }
+	void m557() { count++; }
+	void m558() { count++; }
+	void m559() { count++; }
+	void m560() { count++; }
+	void m561() { count++; }
+	void m562() { count++; }
+	void m563() { count++; }
+	void m564() { count++; }
+	void m565() { count++; }
+	void m566() { count++; }
+	void m567() { count++; }
+	void m568() { count++; }
+	void m569() { count++; }
+	void m570() { count++; }
+	void m571() { count++; }
+	void m572() { count++; }
+	void m573() { count++; }
+	void m574() { count++; }
+	void m575() { count++; }
+	void m576() { count++; }
+	void m577() { count++; }
+	void m578() { count++; }
+	void m579() { count++; }
+	void m580() { count++; }
+	void m581() { count++; }
+	void m582() { count++; }
+	void m583() { count++; }
+	void m584() { count++; }
+	void m585() { count++; }
+	void m586() { count++; }
+	void m587() { count++; }
+	void m588() { count++; }
+	void m589() { count++; }
+	void m590() { count++; }
+	void m591() { count++; }
+	void m592() { count++; }
+	void m593() { count++; }
+	void m594() { count++; }
+	void m595() { count++; }
+	void m596() { count++; }
+	void m597() { count++; }
+	void m598() { count++; }
+	void m599() { count++; }
+	void m600() { count++; }
+	void m601() { count++; }
+	void m602() { count++; }
+	void m603() { count++; }
+	void m604() { count++; }
+	void m605() { count++; }
+	void m606() { count++; }
+	void m607() { count++; }
+	void m608() { count++; }
+	void m609() { count++; }
+	void m610() { count++; }
+	void m611() { count++; }
+	void m612() { count++; }
+	void m613() { count++; }
+	void m614() { count++; }
+	void m615() { count++; }
+	void m616() { count++; }
+	void m617() { count++; }
+	void m618() { count++; }
+	void m619() { count++; }
+	void m620() { count++; }
+	void m621() { count++; }
+	void m622() { count++; }
+	void m623() { count++; }
+	void m624() { count++; }
+	void m625() { count++; }
+	void m626() { count++; }
+	void m627() { count++; }
+	void m628() { count++; }
+	void m629() { count++; }
+	void m630() { count++; }
+	void m631() { count++; }
+	void m632() { count++; }
+	void m633() { count++; }
+	void m634() { count++; }
+	void m635() { count++; }
+	void m636() { count++; }
+	void m637() { count++; }
+	void m638() { count++; }
+	void m639() { count++; }
+	void m640() { count++; }
+	void m641() { count++; }
+	void m642() { count++; }
+	void m643() { count++; }
+	void m644() { count++; }
+	void m645() { count++; }
+	void m646() { count++; }
+	void m647() { count++; }
+	void m648() { count++; }
+	void m649() { count++; }
+	void m650() { count++; }
+	void m651() { count++; }
+	void m652() { count++; }
+	void m653() { count++; }
+	void m654() { count++; }
+	void m655() { count++; }
+	void m656() { count++; }
+	void m657() { count++; }
+	void m658() { count++; }
+	void m659() { count++; }
+	void m660() { count++; }
+	void m661() { count++; }
+	void m662() { count++; }
+	void m663() { count++; }
+	void m664() { count++; }
+	void m665() { count++; }
+	void m666() { count++; }
+	void m667() { count++; }
+	void m668() { count++; }
+	void m669() { count++; }
+	void m670() { count++; }
+	void m671() { count++; }
+	void m672() { count++; }
+	void m673() { count++; }
+	void m674() { count++; }
+	void m675() { count++; }
+	void m676() { count++; }
+	void m677() { count++; }
+	void m678() { count++; }
+	void m679() { count++; }
+	void m680() { count++; }
+	void m681() { count++; }
+	void m682() { count++; }
+	void m683() { count++; }
+	void m684() { count++; }
+	void m685() { count++; }
+	void m686() { count++; }
+	void m687() { count++; }
+	void m688() { count++; }
+	void m689() { count++; }
+	void m690() { count++; }
+	void m691() { count++; }
+	void m692() { count++; }
+	void m693() { count++; }
+	void m694() { count++; }
+	void m695() { count++; }
+	void m696() { count++; }
+	void m697() { count++; }
+	void m698() { count++; }
+	void m699() { count++; }
+	void m700() { count++; }
+	void m701() { count++; }
+	void m702() { count++; }
+	void m703() { count++; }
+	void m704() { count++; }
+	void m705() { count++; }
+	void m706() { count++; }
+	void m707() { count++; }
+	void m708() { count++; }
+	void m709() { count++; }
+	void m710() { count++; }
+	void m711() { count++; }
+	void m712() { count++; }
+	void m713() { count++; }
+	void m714() { count++; }
+	void m715() { count++; }
+	void m716() { count++; }
+	void m717() { count++; }
+	void m718() { count++; }
+	void m719() { count++; }
+	void m720() { count++; }
+	void m721() { count++; }
+	void m722() { count++; }
+	void m723() { count++; }
+	void m724() { count++; }
+	void m725() { count++; }
+	void m726() { count++; }
+	void m727() { count++; }
+	void m728() { count++; }
+	void m729() { count++; }
+	void m730() { count++; }
+	void m731() { count++; }
+	void m732() { count++; }
+	void m733() { count++; }
+	void m734() { count++; }
+	void m735() { count++; }
+	void m736() { count++; }
+	void m737() { count++; }
+	void m738() { count++; }
+	void m739() { count++; }
+	void m740() { count++; }
+	void m741() { count++; }
+	void m742() { count++; }
+	void m743() { count++; }
+	void m744() { count++; }
+	void m745() { count++; }
+	void m746() { count++; }
+	void m747() { count++; }
+	void m748() { count++; }
+	void m749() { count++; }
+	void m750() { count++; }
+	void m751() { count++; }
+	void m752() { count++; }
+	void m753() { count++; }
+	void m754() { count++; }
+	void m755() { count++; }
+	void m756() { count++; }
+	void m757() { count++; }
+	void m758() { count++; }
+	void m759() { count++; }
+	void m760() { count++; }
+	void m761() { count++; }
+	void m762() { count++; }
+	void m763() { count++; }
+	void m764() { count++; }
+	void m765() { count++; }
+	void m766() { count++; }
+	void m767() { count++; }
+	void m768() { count++; }
+	void m769() { count++; }
+	void m770() { count++; }
+	void m771() { count++; }
+	void m772() { count++; }
+	void m773() { count++; }
+	void m774() { count++; }
+	void m775() { count++; }
+	void m776() { count++; }
+	void m777() { count++; }
+	void m778() { count++; }
+	void m779() { count++; }
+	void m780() { count++; }
+	void m781() { count++; }
+	void m782() { count++; }
+	void m783() { count++; }
+	void m784() { count++; }
+	void m785() { count++; }
+	void m786() { count++; }
+	void m787() { count++; }
+	void m788() { count++; }
+	void m789() { count++; }
+	void m790() { count++; }
+	void m791() { count++; }
+	void m792() { count++; }
+	void m793() { count++; }
+	void m794() { count++; }
+	void m795() { count++; }
+	void m796() { count++; }
+	void m797() { count++; }
+	void m798() { count++; }
+	void m799() { count++; }
+	void m800() { count++; }
+	void m801() { count++; }
+	void m802() { count++; }
+	void m803() { count++; }
+	void m804() { count++; }
+	void m805() { count++; }
+	void m806() { count++; }
+	void m807() { count++; }
+	void m808() { count++; }
+	void m809() { count++; }
+	void m810() { count++; }
+	void m811() { count++; }
+	void m812() { count++; }
+	void m813() { count++; }
+	void m814() { count++; }
+	void m815() { count++; }
+	void m816() { count++; }
+	void m817() { count++; }
+	void m818() { count++; }
+	void m819() { count++; }
+	void m820() { count++; }
+	void m821() { count++; }
+	void m822() { count++; }
+	void m823() { count++; }
+	void m824() { count++; }
+	void m825() { count++; }
+	void m826() { count++; }
+	void m827() { count++; }
+	void m828() { count++; }
+	void m829() { count++; }
+	void m830() { count++; }
+	void m831() { count++; }
+	void m832() { count++; }
+	void m833() { count++; }
+	void m834() { count++; }
+	void m835() { count++; }
+	void m836() { count++; }
+	void m837() { count++; }
+	void m838() { count++; }
+	void m839() { count++; }
+	void m840() { count++; }
+	void m841() { count++; }
+	void m842() { count++; }
+	void m843() { count++; }
+	void m844() { count++; }
+	void m845() { count++; }
+	void m846() { count++; }
+	void m847() { count++; }
+	void m848() { count++; }
+	void m849() { count++; }
+	void m850() { count++; }
+	void m851() { count++; }
+	void m852() { count++; }
+	void m853() { count++; }
+	void m854() { count++; }
+	void m855() { count++; }
+	void m856() { count++; }
+	void m857() { count++; }
+	void m858() { count++; }
+	void m859() { count++; }
+	void m860() { count++; }
+	void m861() { count++; }
+	void m862() { count++; }
+	void m863() { count++; }
+	void m864() { count++; }
+	void m865() { count++; }
+	void m866() { count++; }
+	void m867() { count++; }
+	void m868() { count++; }
+	void m869() { count++; }
+	void m870() { count++; }
+	void m871() { count++; }
+	void m872() { count++; }
+	void m873() { count++; }
+	void m874() { count++; }
+	void m875() { count++; }
+	void m876() { count++; }
+	void m877() { count++; }
+	void m878() { count++; }
+	void m879() { count++; }
+	void m880() { count++; }
+	void m881() { count++; }
+	void m882() { count++; }
+	void m883() { count++; }
+	void m884() { count++; }
+	void m885() { count++; }
+	void m886() { count++; }
+	void m887() { count++; }
+	void m888() { count++; }
+	void m889() { count++; }
+	void m890() { count++; }
+	void m891() { count++; }
+	void m892() { count++; }
+	void m893() { count++; }
+	void m894() { count++; }
+	void m895() { count++; }
+	void m896() { count++; }
+	void m897() { count++; }
+	void m898() { count++; }
+	void m899() { count++; }
+	void m900() { count++; }
+	void m901() { count++; }
+	void m902() { count++; }
+	void m903() { count++; }
+	void m904() { count++; }
+	void m905() { count++; }
+	void m906() { count++; }
+	void m907() { count++; }
+	void m908() { count++; }
+	void m909() { count++; }
+	void m910() { count++; }
+	void m911() { count++; }
+	void m912() { count++; }
+	void m913() { count++; }
+	void m914() { count++; }
+	void m915() { count++; }
+	void m916() { count++; }
+	void m917() { count++; }
+	void m918() { count++; }
+	void m919() { count++; }
+	void m920() { count++; }
+	void m921() { count++; }
+	void m922() { count++; }
+	void m923() { count++; }
+	void m924() { count++; }
+	void m925() { count++; }
+	void m926() { count++; }
+	void m927() { count++; }
+	void m928() { count++; }
+	void m929() { count++; }
+	void m930() { count++; }
+	void m931() { count++; }
+	void m932() { count++; }
+	void m933() { count++; }
+	void m934() { count++; }
+	void m935() { count++; }
+	void m936() { count++; }
+	void m937() { count++; }
+	void m938() { count++; }
+	void m939() { count++; }
+	void m940() { count++; }
+	void m941() { count++; }
+	void m942() { count++; }
+	void m943() { count++; }
+	void m944() { count++; }
+	void m945() { count++; }
+	void m946() { count++; }
+	void m947() { count++; }
+	void m948() { count++; }
+	void m949() { count++; }
+	void m950() { count++; }
+	void m951() { count++; }
+	void m952() { count++; }
+	void m953() { count++; }
+	void m954() { count++; }
+	void m955() { count++; }
+	void m956() { count++; }
+	void m957() { count++; }
+	void m958() { count++; }
+	void m959() { count++; }
+	void m960() { count++; }
+	void m961() { count++; }
+	void m962() { count++; }
+	void m963() { count++; }
+	void m964() { count++; }
+	void m965() { count++; }
+	void m966() { count++; }
+	void m967() { count++; }
+	void m968() { count++; }
+	void m969() { count++; }
+	void m970() { count++; }
+	void m971() { count++; }
+	void m972() { count++; }
+	void m973() { count++; }
+	void m974() { count++; }
+	void m975() { count++; }
+	void m976() { count++; }
+	void m977() { count++; }
+	void m978() { count++; }
+	void m979() { count++; }
+	void m980() { count++; }
+	void m981() { count++; }
+	void m982() { count++; }
+	void m983() { count++; }
+	void m984() { count++; }
+	void m985() { count++; }
+	void m986() { count++; }
+	void m987() { count++; }
+	void m988() { count++; }
+	void m989() { count++; }
+	void m990() { count++; }
+	void m991() { count++; }
+	void m992() { count++; }
+	void m993() { count++; }
+	void m994() { count++; }
+	void m995() { count++; }
+	void m996() { count++; }
+	void m997() { count++; }
+	void m998() { count++; }
+	void m999() { count++; }
+	void m1000() { count++; }
+	void m1001() { count++; }
+	void m1002() { count++; }
+	void m1003() { count++; }
+	void m1004() { count++; }
+	void m1005() { count++; }
+	void m1006() { count++; }
+	void m1007() { count++; }
+	void m1008() { count++; }
+	void m1009() { count++; }
+	void m1010() { count++; }
+	void m1011() { count++; }
+	void m1012() { count++; }
+	void m1013() { count++; }
+	void m1014() { count++; }
+	void m1015() { count++; }
+	void m1016() { count++; }
+	void m1017() { count++; }
+	void m1018() { count++; }
+	void m1019() { count++; }
+	void m1020() { count++; }
+	void m1021() { count++; }
+	void m1022() { count++; }
+	void m1023() { count++; }
+	void m1024() { count++; }
+	void m1025() { count++; }
+	void m1026() { count++; }
+	void m1027() { count++; }
+	void m1028() { count++; }
+	void m1029() { count++; }
+	void m1030() { count++; }
+	void m1031() { count++; }
+	void m1032() { count++; }
+	void m1033() { count++; }
+	void m1034() { count++; }
+	void m1035() { count++; }
+	void m1036() { count++; }
+	void m1037() { count++; }
+	void m1038() { count++; }
+	void m1039() { count++; }
+	void m1040() { count++; }
+	void m1041() { count++; }
+	void m1042() { count++; }
+	void m1043() { count++; }
+	void m1044() { count++; }
+	void m1045() { count++; }
+	void m1046() { count++; }
+	void m1047() { count++; }
+	void m1048() { count++; }
+	void m1049() { count++; }
+	void m1050() { count++; }
+	void m1051() { count++; }
+	void m1052() { count++; }
+	void m1053() { count++; }
+	void m1054() { count++; }
+	void m1055() { count++; }
+	void m1056() { count++; }
+	void m1057() { count++; }
+	void m1058() { count++; }
+	void m1059() { count++; }
+	void m1060() { count++; }
+	void m1061() { count++; }
+	void m1062() { count++; }
+	void m1063() { count++; }
+	void m1064() { count++; }
+	void m1065() { count++; }
+	void m1066() { count++; }
+	void m1067() { count++; }
+	void m1068() { count++; }
+	void m1069() { count++; }
+	void m1070() { count++; }
+	void m1071() { count++; }
+	void m1072() { count++; }
+	void m1073() { count++; }
+	void m1074() { count++; }
+	void m1075() { count++; }
+	void m1076() { count++; }
+	void m1077() { count++; }
+	void m1078() { count++; }
+	void m1079() { count++; }
+	void m1080() { count++; }
+	void m1081() { count++; }
+	void m1082() { count++; }
+	void m1083() { count++; }
+	void m1084() { count++; }
+	void m1085() { count++; }
+	void m1086() { count++; }
+	void m1087() { count++; }
+	void m1088() { count++; }
+	void m1089() { count++; }
+	void m1090() { count++; }
+	void m1091() { count++; }
+	void m1092() { count++; }
+	void m1093() { count++; }
+	void m1094() { count++; }
+	void m1095() { count++; }
+	void m1096() { count++; }
+	void m1097() { count++; }
+	void m1098() { count++; }
+	void m1099() { count++; }
+	void m1100() { count++; }
+	void m1101() { count++; }
+	void m1102() { count++; }
+	void m1103() { count++; }
+	void m1104() { count++; }
+	void m1105() { count++; }
+	void m1106() { count++; }
+	void m1107() { count++; }
+	void m1108() { count++; }
+	void m1109() { count++; }
+	void m1110() { count++; }
+	void m1111() { count++; }
+	void m1112() { count++; }
+	void m1113() { count++; }
+	void m1114() { count++; }
+	void m1115() { count++; }
+	void m1116() { count++; }
+	void m1117() { count++; }
+	void m1118() { count++; }
+	void m1119() { count++; }
+	void m1120() { count++; }
+	void m1121() { count++; }
+	void m1122() { count++; }
+	void m1123() { count++; }
+	void m1124() { count++; }
+	void m1125() { count++; }
+	void m1126() { count++; }
+	void m1127() { count++; }
+	void m1128() { count++; }
+	void m1129() { count++; }
+	void m1130() { count++; }
+	void m1131() { count++; }
+	void m1132() { count++; }
+	void m1133() { count++; }
+	void m1134() { count++; }
+	void m1135() { count++; }
+	void m1136() { count++; }
+	void m1137() { count++; }
+	void m1138() { count++; }
+	void m1139() { count++; }
+	void m1140() { count++; }
+	void m1141() { count++; }
+	void m1142() { count++; }
+	void m1143() { count++; }
+	void m1144() { count++; }
+	void m1145() { count++; }
+	void m1146() { count++; }
+	void m1147() { count++; }
+	void m1148() { count++; }
+	void m1149() { count++; }
+	void m1150() { count++; }
+	void m1151() { count++; }
+	void m1152() { count++; }
+	void m1153() { count++; }
+	void m1154() { count++; }
+	void m1155() { count++; }
+	void m1156() { count++; }
+	void m1157() { count++; }
+	void m1158() { count++; }
+	void m1159() { count++; }
+	void m1160() { count++; }
+	void m1161() { count++; }
+	void m1162() { count++; }
+	void m1163() { count++; }
+	void m1164() { count++; }
+	void m1165() { count++; }
+	void m1166() { count++; }
+	void m1167() { count++; }
+	void m1168() { count++; }
+	void m1169() { count++; }
+	void m1170() { count++; }
+	void m1171() { count++; }
+	void m1172() { count++; }
+	void m1173() { count++; }
+	void m1174() { count++; }
+	void m1175() { count++; }
+	void m1176() { count++; }
+	void m1177() { count++; }
+	void m1178() { count++; }
+	void m1179() { count++; }
+	void m1180() { count++; }
+	void m1181() { count++; }
+	void m1182() { count++; }
+	void m1183() { count++; }
+	void m1184() { count++; }
+	void m1185() { count++; }
+	void m1186() { count++; }
+	void m1187() { count++; }
+	void m1188() { count++; }
+	void m1189() { count++; }
+	void m1190() { count++; }
+	void m1191() { count++; }
+	void m1192() { count++; }
+	void m1193() { count++; }
+	void m1194() { count++; }
+	void m1195() { count++; }
+	void m1196() { count++; }
+	void m1197() { count++; }
+	void m1198() { count++; }
+	void m1199() { count++; }
+	void m1200() { count++; }
+	void m1201() { count++; }
+	void m1202() { count++; }
+	void m1203() { count++; }
+	void m1204() { count++; }
+	void m1205() { count++; }
+	void m1206() { count++; }
+	void m1207() { count++; }
+	void m1208() { count++; }
+	void m1209() { count++; }
+	void m1210() { count++; }
+	void m1211() { count++; }
+	void m1212() { count++; }
+	void m1213() { count++; }
+	void m1214() { count++; }
+	void m1215() { count++; }
+	void m1216() { count++; }
+	void m1217() { count++; }
+	void m1218() { count++; }
+	void m1219() { count++; }
+	void m1220() { count++; }
+	void m1221() { count++; }
+	void m1222() { count++; }
+	void m1223() { count++; }
+	void m1224() { count++; }
+	void m1225() { count++; }
+	void m1226() { count++; }
+	void m1227() { count++; }
+	void m1228() { count++; }
+	void m1229() { count++; }
+	void m1230() { count++; }
+	void m1231() { count++; }
+	void m1232() { count++; }
+	void m1233() { count++; }
+	void m1234() { count++; }
+	void m1235() { count++; }
+	void m1236() { count++; }
+	void m1237() { count++; }
+	void m1238() { count++; }
+	void m1239() { count++; }
+	void m1240() { count++; }
+	void m1241() { count++; }
+	void m1242() { count++; }
+	void m1243() { count++; }
+	void m1244() { count++; }
+	void m1245() { count++; }
+	void m1246() { count++; }
+	void m1247() { count++; }
+	void m1248() { count++; }
+	void m1249() { count++; }
+	void m1250() { count++; }
+	void m1251() { count++; }
+	void m1252() { count++; }
+	void m1253() { count++; }
+	void m1254() { count++; }
+	void m1255() { count++; }
+	void m1256() { count++; }
+	void m1257() { count++; }
+	void m1258() { count++; }
+	void m1259() { count++; }
+	void m1260() { count++; }
+	void m1261() { count++; }
+	void m1262() { count++; }
+	void m1263() { count++; }
+	void m1264() { count++; }
+	void m1265() { count++; }
+	void m1266() { count++; }
+	void m1267() { count++; }
+	void m1268() { count++; }
+	void m1269() { count++; }
+	void m1270() { count++; }
+	void m1271() { count++; }
+	void m1272() { count++; }
+	void m1273() { count++; }
+	void m1274() { count++; }
+	void m1275() { count++; }
+	void m1276() { count++; }
+	void m1277() { count++; }
+	void m1278() { count++; }
+	void m1279() { count++; }
+	void m1280() { count++; }
+	void m1281() { count++; }
+	void m1282() { count++; }
+	void m1283() { count++; }
+	void m1284() { count++; }
+	void m1285() { count++; }
+	void m1286() { count++; }
+	void m1287() { count++; }
+	void m1288() { count++; }
+	void m1289() { count++; }
+	void m1290() { count++; }
+	void m1291() { count++; }
+	void m1292() { count++; }
+	void m1293() { count++; }
+	void m1294() { count++; }
+	void m1295() { count++; }
+	void m1296() { count++; }
+	void m1297() { count++; }
+	void m1298() { count++; }
+	void m1299() { count++; }
+	void m1300() { count++; }
+	void m1301() { count++; }
+	void m1302() { count++; }
+	void m1303() { count++; }
+	void m1304() { count++; }
+	void m1305() { count++; }
+	void m1306() { count++; }
+	void m1307() { count++; }
+	void m1308() { count++; }
+	void m1309() { count++; }
+	void m1310() { count++; }
+	void m1311() { count++; }
+	void m1312() { count++; }
+	void m1313() { count++; }
+	void m1314() { count++; }
+	void m1315() { count++; }
+	void m1316() { count++; }
+	void m1317() { count++; }
+	void m1318() { count++; }
+	void m1319() { count++; }
+	void m1320() { count++; }
+	void m1321() { count++; }
+	void m1322() { count++; }
+	void m1323() { count++; }
+	void m1324() { count++; }
+	void m1325() { count++; }
+	void m1326() { count++; }
+	void m1327() { count++; }
+	void m1328() { count++; }
+	void m1329() { count++; }
+	void m1330() { count++; }
+	void m1331() { count++; }
+	void m1332() { count++; }
+	void m1333() { count++; }
+	void m1334() { count++; }
+	void m1335() { count++; }
+	void m1336() { count++; }
+	void m1337() { count++; }
+	void m1338() { count++; }
+	void m1339() { count++; }
+	void m1340() { count++; }
+	void m1341() { count++; }
+	void m1342() { count++; }
+	void m1343() { count++; }
+	void m1344() { count++; }
+	void m1345() { count++; }
+	void m1346() { count++; }
+	void m1347() { count++; }
+	void m1348() { count++; }
+	void m1349() { count++; }
+	void m1350() { count++; }
+	void m1351() { count++; }
+	void m1352() { count++; }
+	void m1353() { count++; }
+	void m1354() { count++; }
+	void m1355() { count++; }
+	void m1356() { count++; }
+	void m1357() { count++; }
+	void m1358() { count++; }
+	void m1359() { count++; }
+	void m1360() { count++; }
+	void m1361() { count++; }
+	void m1362() { count++; }
+	void m1363() { count++; }
+	void m1364() { count++; }
+	void m1365() { count++; }
+	void m1366() { count++; }
+	void m1367() { count++; }
+	void m1368() { count++; }
+	void m1369() { count++; }
+	void m1370() { count++; }
+	void m1371() { count++; }
+	void m1372() { count++; }
+	void m1373() { count++; }
+	void m1374() { count++; }
+	void m1375() { count++; }
+	void m1376() { count++; }
+	void m1377() { count++; }
+	void m1378() { count++; }
+	void m1379() { count++; }
+	void m1380() { count++; }
+	void m1381() { count++; }
+	void m1382() { count++; }
+	void m1383() { count++; }
+	void m1384() { count++; }
+	void m1385() { count++; }
+	void m1386() { count++; }
+	void m1387() { count++; }
+	void m1388() { count++; }
+	void m1389() { count++; }
+	void m1390() { count++; }
+	void m1391() { count++; }
+	void m1392() { count++; }
+	void m1393() { count++; }
+	void m1394() { count++; }
+	void m1395() { count++; }
+	void m1396() { count++; }
+	void m1397() { count++; }
+	void m1398() { count++; }
+	void m1399() { count++; }
+	void m1400() { count++; }
+	void m1401() { count++; }
+	void m1402() { count++; }
+	void m1403() { count++; }
+	void m1404() { count++; }
+	void m1405() { count++; }
+	void m1406() { count++; }
+	void m1407() { count++; }
+	void m1408() { count++; }
+	void m1409() { count++; }
+	void m1410() { count++; }
+	void m1411() { count++; }
+	void m1412() { count++; }
+	void m1413() { count++; }
+	void m1414() { count++; }
+	void m1415() { count++; }
+	void m1416() { count++; }
+	void m1417() { count++; }
+	void m1418() { count++; }
+	void m1419() { count++; }
+	void m1420() { count++; }
+	void m1421() { count++; }
+	void m1422() { count++; }
+	void m1423() { count++; }
+	void m1424() { count++; }
+	void m1425() { count++; }
+	void m1426() { count++; }
+	void m1427() { count++; }
+	void m1428() { count++; }
+	void m1429() { count++; }
+	void m1430() { count++; }
+	void m1431() { count++; }
+	void m1432() { count++; }
+	void m1433() { count++; }
+	void m1434() { count++; }
+	void m1435() { count++; }
+	void m1436() { count++; }
+	void m1437() { count++; }
+	void m1438() { count++; }
+	void m1439() { count++; }
+	void m1440() { count++; }
+	void m1441() { count++; }
+	void m1442() { count++; }
+	void m1443() { count++; }
+	void m1444() { count++; }
+	void m1445() { count++; }
+	void m1446() { count++; }
+	void m1447() { count++; }
+	void m1448() { count++; }
+	void m1449() { count++; }
+	void m1450() { count++; }
+	void m1451() { count++; }
+	void m1452() { count++; }
+	void m1453() { count++; }
+	void m1454() { count++; }
+	void m1455() { count++; }
+	void m1456() { count++; }
+	void m1457() { count++; }
+	void m1458() { count++; }
+	void m1459() { count++; }
+	void m1460() { count++; }
+	void m1461() { count++; }
+	void m1462() { count++; }
+	void m1463() { count++; }
+	void m1464() { count++; }
+	void m1465() { count++; }
+	void m1466() { count++; }
+	void m1467() { count++; }
+	void m1468() { count++; }
+	void m1469() { count++; }
+	void m1470() { count++; }
+	void m1471() { count++; }
+	void m1472() { count++; }
+	void m1473() { count++; }
+	void m1474() { count++; }
+	void m1475() { count++; }
+	void m1476() { count++; }
+	void m1477() { count++; }
+	void m1478() { count++; }
+	void m1479() { count++; }
+	void m1480() { count++; }
+	void m1481() { count++; }
+	void m1482() { count++; }
+	void m1483() { count++; }
+	void m1484() { count++; }
+	void m1485() { count++; }
+	void m1486() { count++; }
+	void m1487() { count++; }
+	void m1488() { count++; }
+	void m1489() { count++; }
+	void m1490() { count++; }
+	void m1491() { count++; }
+	void m1492() { count++; }
+	void m1493() { count++; }
+	void m1494() { count++; }
+	void m1495() { count++; }
+	void m1496() { count++; }
+	void m1497() { count++; }
+	void m1498() { count++; }
+	void m1499() { count++; }
+	void m1500() { count++; }
+	void m1501() { count++; }
+	void m1502() { count++; }
+	void m1503() { count++; }
+	void m1504() { count++; }
+	void m1505() { count++; }
+	void m1506() { count++; }
+	void m1507() { count++; }
+	void m1508() { count++; }
+	void m1509() { count++; }
+	void m1510() { count++; }
+	void m1511() { count++; }
+	void m1512() { count++; }
+	void m1513() { count++; }
+	void m1514() { count++; }
+	void m1515() { count++; }
+	void m1516() { count++; }
+	void m1517() { count++; }
+	void m1518() { count++; }
+	void m1519() { count++; }
+	void m1520() { count++; }
+	void m1521() { count++; }
+	void m1522() { count++; }
+	void m1523() { count++; }
+	void m1524() { count++; }
+	void m1525() { count++; }
+	void m1526() { count++; }
+	void m1527() { count++; }
+	void m1528() { count++; }
+	void m1529() { count++; }
+	void m1530() { count++; }
+	void m1531() { count++; }
+	void m1532() { count++; }
+	void m1533() { count++; }
+	void m1534() { count++; }
+	void m1535() { count++; }
+	void m1536() { count++; }
+	void m1537() { count++; }
+	void m1538() { count++; }
+	void m1539() { count++; }
+	void m1540() { count++; }
+	void m1541() { count++; }
+	void m1542() { count++; }
+	void m1543() { count++; }
+	void m1544() { count++; }
+	void m1545() { count++; }
+	void m1546() { count++; }
+	void m1547() { count++; }
+	void m1548() { count++; }
+	void m1549() { count++; }
+	void m1550() { count++; }
+	void m1551() { count++; }
+	void m1552() { count++; }
+	void m1553() { count++; }
+	void m1554() { count++; }
+	void m1555() { count++; }
+	void m1556() { count++; }
+	void m1557() { count++; }
+	void m1558() { count++; }
+	void m1559() { count++; }
+	void m1560() { count++; }
+	void m1561() { count++; }
+	void m1562() { count++; }
+	void m1563() { count++; }
+	void m1564() { count++; }
+	void m1565() { count++; }
+	void m1566() { count++; }
+	void m1567() { count++; }
+	void m1568() { count++; }
+	void m1569() { count++; }
+	void m1570() { count++; }
+	void m1571() { count++; }
+	void m1572() { count++; }
+	void m1573() { count++; }
+	void m1574() { count++; }
+	void m1575() { count++; }
+	void m1576() { count++; }
+	void m1577() { count++; }
+	void m1578() { count++; }
+	void m1579() { count++; }
+	void m1580() { count++; }
+	void m1581() { count++; }
+	void m1582() { count++; }
+	void m1583() { count++; }
+	void m1584() { count++; }
+	void m1585() { count++; }
+	void m1586() { count++; }
+	void m1587() { count++; }
+	void m1588() { count++; }
+	void m1589() { count++; }
+	void m1590() { count++; }
+	void m1591() { count++; }
+	void m1592() { count++; }
+	void m1593() { count++; }
+	void m1594() { count++; }
+	void m1595() { count++; }
+	void m1596() { count++; }
+	void m1597() { count++; }
+	void m1598() { count++; }
+	void m1599() { count++; }
+	void m1600() { count++; }
+	void m1601() { count++; }
+	void m1602() { count++; }
+	void m1603() { count++; }
+	void m1604() { count++; }
+	void m1605() { count++; }
+	void m1606() { count++; }
+	void m1607() { count++; }
+	void m1608() { count++; }
+	void m1609() { count++; }
+	void m1610() { count++; }
+	void m1611() { count++; }
+	void m1612() { count++; }
+	void m1613() { count++; }
+	void m1614() { count++; }
+	void m1615() { count++; }
+	void m1616() { count++; }
+	void m1617() { count++; }
+	void m1618() { count++; }
+	void m1619() { count++; }
+	void m1620() { count++; }
+	void m1621() { count++; }
+	void m1622() { count++; }
+	void m1623() { count++; }
+	void m1624() { count++; }
+	void m1625() { count++; }
+	void m1626() { count++; }
+	void m1627() { count++; }
+	void m1628() { count++; }
+	void m1629() { count++; }
+	void m1630() { count++; }
+	void m1631() { count++; }
+	void m1632() { count++; }
+	void m1633() { count++; }
+	void m1634() { count++; }
+	void m1635() { count++; }
+	void m1636() { count++; }
+	void m1637() { count++; }
+	void m1638() { count++; }
+	void m1639() { count++; }
+	void m1640() { count++; }
+	void m1641() { count++; }
+	void m1642() { count++; }
+	void m1643() { count++; }
+	void m1644() { count++; }
+	void m1645() { count++; }
+	void m1646() { count++; }
+	void m1647() { count++; }
+	void m1648() { count++; }
+	void m1649() { count++; }
+	void m1650() { count++; }
+	void m1651() { count++; }
+	void m1652() { count++; }
+	void m1653() { count++; }
+	void m1654() { count++; }
+	void m1655() { count++; }
+	void m1656() { count++; }
+	void m1657() { count++; }
+	void m1658() { count++; }
+	void m1659() { count++; }
+	void m1660() { count++; }
+	void m1661() { count++; }
+	void m1662() { count++; }
+	void m1663() { count++; }
+	void m1664() { count++; }
+	void m1665() { count++; }
+	void m1666() { count++; }
+	void m1667() { count++; }
+	void m1668() { count++; }
+	void m1669() { count++; }
+	void m1670() { count++; }
+	void m1671() { count++; }
+	void m1672() { count++; }
+	void m1673() { count++; }
+	void m1674() { count++; }
+	void m1675() { count++; }
+	void m1676() { count++; }
+	void m1677() { count++; }
+	void m1678() { count++; }
+	void m1679() { count++; }
+	void m1680() { count++; }
+	void m1681() { count++; }
+	void m1682() { count++; }
+	void m1683() { count++; }
+	void m1684() { count++; }
+	void m1685() { count++; }
+	void m1686() { count++; }
+	void m1687() { count++; }
+	void m1688() { count++; }
+	void m1689() { count++; }
+	void m1690() { count++; }
+	void m1691() { count++; }
+	void m1692() { count++; }
+	void m1693() { count++; }
+	void m1694() { count++; }
+	void m1695() { count++; }
+	void m1696() { count++; }
+	void m1697() { count++; }
+	void m1698() { count++; }
+	void m1699() { count++; }
+	void m1700() { count++; }
+	void m1701() { count++; }
+	void m1702() { count++; }
+	void m1703() { count++; }
+	void m1704() { count++; }
+	void m1705() { count++; }
+	void m1706() { count++; }
+	void m1707() { count++; }
+	void m1708() { count++; }
+	void m1709() { count++; }
+	void m1710() { count++; }
+	void m1711() { count++; }
+	void m1712() { count++; }
+	void m1713() { count++; }
+	void m1714() { count++; }
+	void m1715() { count++; }
+	void m1716() { count++; }
+	void m1717() { count++; }
+	void m1718() { count++; }
+	void m1719() { count++; }
+	void m1720() { count++; }
+	void m1721() { count++; }
+	void m1722() { count++; }
+	void m1723() { count++; }
+	void m1724() { count++; }
+	void m1725() { count++; }
+	void m1726() { count++; }
+	void m1727() { count++; }
+	void m1728() { count++; }
+	void m1729() { count++; }
+	void m1730() { count++; }
+	void m1731() { count++; }
+	void m1732() { count++; }
+	void m1733() { count++; }
+	void m1734() { count++; }
+	void m1735() { count++; }
+	void m1736() { count++; }
+	void m1737() { count++; }
+	void m1738() { count++; }
+	void m1739() { count++; }
+	void m1740() { count++; }
+	void m1741() { count++; }
+	void m1742() { count++; }
+	void m1743() { count++; }
+	void m1744() { count++; }
+	void m1745() { count++; }
+	void m1746() { count++; }
+	void m1747() { count++; }
+	void m1748() { count++; }
+	void m1749() { count++; }
+	void m1750() { count++; }
+	void m1751() { count++; }
+	void m1752() { count++; }
+	void m1753() { count++; }
+	void m1754() { count++; }
+	void m1755() { count++; }
+	void m1756() { count++; }
+	void m1757() { count++; }
+	void m1758() { count++; }
+	void m1759() { count++; }
+	void m1760() { count++; }
+	void m1761() { count++; }
+	void m1762() { count++; }
+	void m1763() { count++; }
+	void m1764() { count++; }
+	void m1765() { count++; }
+	void m1766() { count++; }
+	void m1767() { count++; }
+	void m1768() { count++; }
+	void m1769() { count++; }
+	void m1770() { count++; }
+	void m1771() { count++; }
+	void m1772() { count++; }
+	void m1773() { count++; }
+	void m1774() { count++; }
+	void m1775() { count++; }
+	void m1776() { count++; }
+	void m1777() { count++; }
+	void m1778() { count++; }
+	void m1779() { count++; }
+	void m1780() { count++; }
+	void m1781() { count++; }
+	void m1782() { count++; }
+	void m1783() { count++; }
+	void m1784() { count++; }
+	void m1785() { count++; }
+	void m1786() { count++; }
+	void m1787() { count++; }
+	void m1788() { count++; }
+	void m1789() { count++; }
+	void m1790() { count++; }
+	void m1791() { count++; }
+	void m1792() { count++; }
+	void m1793() { count++; }
+	void m1794() { count++; }
+	void m1795() { count++; }
+	void m1796() { count++; }
+	void m1797() { count++; }
+	void m1798() { count++; }
+	void m1799() { count++; }
+	void m1800() { count++; }
+	void m1801() { count++; }
+	void m1802() { count++; }
+	void m1803() { count++; }
+	void m1804() { count++; }
+	void m1805() { count++; }
+	void m1806() { count++; }
+	void m1807() { count++; }
+	void m1808() { count++; }
+	void m1809() { count++; }
+	void m1810() { count++; }
+	void m1811() { count++; }
+	void m1812() { count++; }
+	void m1813() { count++; }
+	void m1814() { count++; }
+	void m1815() { count++; }
+	void m1816() { count++; }
+	void m1817() { count++; }
+	void m1818() { count++; }
+	void m1819() { count++; }
+	void m1820() { count++; }
+	void m1821() { count++; }
+	void m1822() { count++; }
+	void m1823() { count++; }
+	void m1824() { count++; }
+	void m1825() { count++; }
+	void m1826() { count++; }
+	void m1827() { count++; }
+	void m1828() { count++; }
+	void m1829() { count++; }
+	void m1830() { count++; }
+	void m1831() { count++; }
+	void m1832() { count++; }
+	void m1833() { count++; }
+	void m1834() { count++; }
+	void m1835() { count++; }
+	void m1836() { count++; }
+	void m1837() { count++; }
+	void m1838() { count++; }
+	void m1839() { count++; }
+	void m1840() { count++; }
+	void m1841() { count++; }
+	void m1842() { count++; }
+	void m1843() { count++; }
+	void m1844() { count++; }
+	void m1845() { count++; }
+	void m1846() { count++; }
+	void m1847() { count++; }
+	void m1848() { count++; }
+	void m1849() { count++; }
+	void m1850() { count++; }
+	void m1851() { count++; }
+	void m1852() { count++; }
+	void m1853() { count++; }
+	void m1854() { count++; }
+	void m1855() { count++; }
+	void m1856() { count++; }
+	void m1857() { count++; }
+	void m1858() { count++; }
+	void m1859() { count++; }
+	void m1860() { count++; }
+	void m1861() { count++; }
+	void m1862() { count++; }
+	void m1863() { count++; }
+	void m1864() { count++; }
+	void m1865() { count++; }
+	void m1866() { count++; }
+	void m1867() { count++; }
+	void m1868() { count++; }
+	void m1869() { count++; }
+	void m1870() { count++; }
+	void m1871() { count++; }
+	void m1872() { count++; }
+	void m1873() { count++; }
+	void m1874() { count++; }
+	void m1875() { count++; }
+	void m1876() { count++; }
+	void m1877() { count++; }
+	void m1878() { count++; }
+	void m1879() { count++; }
+	void m1880() { count++; }
+	void m1881() { count++; }
+	void m1882() { count++; }
+	void m1883() { count++; }
+	void m1884() { count++; }
+	void m1885() { count++; }
+	void m1886() { count++; }
+	void m1887() { count++; }
+	void m1888() { count++; }
+	void m1889() { count++; }
+	void m1890() { count++; }
+	void m1891() { count++; }
+	void m1892() { count++; }
+	void m1893() { count++; }
+	void m1894() { count++; }
+	void m1895() { count++; }
+	void m1896() { count++; }
+	void m1897() { count++; }
+	void m1898() { count++; }
+	void m1899() { count++; }
+	void m1900() { count++; }
+	void m1901() { count++; }
+	void m1902() { count++; }
+	void m1903() { count++; }
+	void m1904() { count++; }
+	void m1905() { count++; }
+	void m1906() { count++; }
+	void m1907() { count++; }
+	void m1908() { count++; }
+	void m1909() { count++; }
+	void m1910() { count++; }
+	void m1911() { count++; }
+	void m1912() { count++; }
+	void m1913() { count++; }
+	void m1914() { count++; }
+	void m1915() { count++; }
+	void m1916() { count++; }
+	void m1917() { count++; }
+	void m1918() { count++; }
+	void m1919() { count++; }
+	void m1920() { count++; }
+	void m1921() { count++; }
+	void m1922() { count++; }
+	void m1923() { count++; }
+	void m1924() { count++; }
+	void m1925() { count++; }
+	void m1926() { count++; }
+	void m1927() { count++; }
+	void m1928() { count++; }
+	void m1929() { count++; }
+	void m1930() { count++; }
+	void m1931() { count++; }
+	void m1932() { count++; }
+	void m1933() { count++; }
+	void m1934() { count++; }
+	void m1935() { count++; }
+	void m1936() { count++; }
+	void m1937() { count++; }
+	void m1938() { count++; }
+	void m1939() { count++; }
+	void m1940() { count++; }
+	void m1941() { count++; }
+	void m1942() { count++; }
+	void m1943() { count++; }
+	void m1944() { count++; }
+	void m1945() { count++; }
+	void m1946() { count++; }
+	void m1947() { count++; }
+	void m1948() { count++; }
+	void m1949() { count++; }
+	void m1950() { count++; }
+	void m1951() { count++; }
+	void m1952() { count++; }
+	void m1953() { count++; }
+	void m1954() { count++; }
+	void m1955() { count++; }
+	void m1956() { count++; }
+	void m1957() { count++; }
+	void m1958() { count++; }
+	void m1959() { count++; }
+	void m1960() { count++; }
+	void m1961() { count++; }
+	void m1962() { count++; }
+	void m1963() { count++; }
+	void m1964() { count++; }
+	void m1965() { count++; }
+	void m1966() { count++; }
+	void m1967() { count++; }
+	void m1968() { count++; }
+	void m1969() { count++; }
+	void m1970() { count++; }
+	void m1971() { count++; }
+	void m1972() { count++; }
+	void m1973() { count++; }
+	void m1974() { count++; }
+	void m1975() { count++; }
+	void m1976() { count++; }
+	void m1977() { count++; }
+	void m1978() { count++; }
+	void m1979() { count++; }
+	void m1980() { count++; }
+	void m1981() { count++; }
+	void m1982() { count++; }
+	void m1983() { count++; }
+	void m1984() { count++; }
+	void m1985() { count++; }
+	void m1986() { count++; }
+	void m1987() { count++; }
+	void m1988() { count++; }
+	void m1989() { count++; }
+	void m1990() { count++; }
+	void m1991() { count++; }
+	void m1992() { count++; }
+	void m1993() { count++; }
+	void m1994() { count++; }
+	void m1995() { count++; }
+	void m1996() { count++; }
+	void m1997() { count++; }
+	void m1998() { count++; }
+	void m1999() { count++; }
+	void m2000() { count++; }
+	void m2001() { count++; }
+	void m2002() { count++; }
+	void m2003() { count++; }
+	void m2004() { count++; }
+	void m2005() { count++; }
+	void m2006() { count++; }
+	void m2007() { count++; }
+	void m2008() { count++; }
+	void m2009() { count++; }
+	void m2010() { count++; }
+	void m2011() { count++; }
+	void m2012() { count++; }
+	void m2013() { count++; }
+	void m2014() { count++; }
+	void m2015() { count++; }
+	void m2016() { count++; }
+	void m2017() { count++; }
+	void m2018() { count++; }
+	void m2019() { count++; }
+	void m2020() { count++; }
+	void m2021() { count++; }
+	void m2022() { count++; }
+	void m2023() { count++; }
+	void m2024() { count++; }
+	void m2025() { count++; }
+	void m2026() { count++; }
+	void m2027() { count++; }
+	void m2028() { count++; }
+	void m2029() { count++; }
+	void m2030() { count++; }
+	void m2031() { count++; }
+	void m2032() { count++; }
+	void m2033() { count++; }
+	void m2034() { count++; }
+	void m2035() { count++; }
+	void m2036() { count++; }
+	void m2037() { count++; }
+	void m2038() { count++; }
+	void m2039() { count++; }
+	void m2040() { count++; }
+	void m2041() { count++; }
+	void m2042() { count++; }
+	void m2043() { count++; }
+	void m2044() { count++; }
+	void m2045() { count++; }
+	void m2046() { count++; }
+	void m2047() { count++; }
+	void m2048() { count++; }
+	void m2049() { count++; }
+	void m2050() { count++; }
+	void m2051() { count++; }
+	void m2052() { count++; }
+	void m2053() { count++; }
+	void m2054() { count++; }
+	void m2055() { count++; }
+	void m2056() { count++; }
+	void m2057() { count++; }
+	void m2058() { count++; }
+	void m2059() { count++; }
+	void m2060() { count++; }
+	void m2061() { count++; }
+	void m2062() { count++; }
+	void m2063() { count++; }
+	void m2064() { count++; }
+	void m2065() { count++; }
+	void m2066() { count++; }
+	void m2067() { count++; }
+	void m2068() { count++; }
+	void m2069() { count++; }
+	void m2070() { count++; }
+	void m2071() { count++; }
+	void m2072() { count++; }
+	void m2073() { count++; }
+	void m2074() { count++; }
+	void m2075() { count++; }
+	void m2076() { count++; }
+	void m2077() { count++; }
+	void m2078() { count++; }
+	void m2079() { count++; }
+	void m2080() { count++; }
+	void m2081() { count++; }
+	void m2082() { count++; }
+	void m2083() { count++; }
+	void m2084() { count++; }
+	void m2085() { count++; }
+	void m2086() { count++; }
+	void m2087() { count++; }
+	void m2088() { count++; }
+	void m2089() { count++; }
+	void m2090() { count++; }
+	void m2091() { count++; }
+	void m2092() { count++; }
+	void m2093() { count++; }
+	void m2094() { count++; }
+	void m2095() { count++; }
+	void m2096() { count++; }
+	void m2097() { count++; }
+	void m2098() { count++; }
+	void m2099() { count++; }
+	void m2100() { count++; }
+	void m2101() { count++; }
+	void m2102() { count++; }
+	void m2103() { count++; }
+	void m2104() { count++; }
+	void m2105() { count++; }
+	void m2106() { count++; }
+	void m2107() { count++; }
+	void m2108() { count++; }
+	void m2109() { count++; }
+	void m2110() { count++; }
+	void m2111() { count++; }
+	void m2112() { count++; }
+	void m2113() { count++; }
+	void m2114() { count++; }
+	void m2115() { count++; }
+	void m2116() { count++; }
+	void m2117() { count++; }
+	void m2118() { count++; }
+	void m2119() { count++; }
+	void m2120() { count++; }
+	void m2121() { count++; }
+	void m2122() { count++; }
+	void m2123() { count++; }
+	void m2124() { count++; }
+	void m2125() { count++; }
+	void m2126() { count++; }
+	void m2127() { count++; }
+	void m2128() { count++; }
+	void m2129() { count++; }
+	void m2130() { count++; }
+	void m2131() { count++; }
+	void m2132() { count++; }
+	void m2133() { count++; }
+	void m2134() { count++; }
+	void m2135() { count++; }
+	void m2136() { count++; }
+	void m2137() { count++; }
+	void m2138() { count++; }
+	void m2139() { count++; }
+	void m2140() { count++; }
+	void m2141() { count++; }
+	void m2142() { count++; }
+	void m2143() { count++; }
+	void m2144() { count++; }
+	void m2145() { count++; }
+	void m2146() { count++; }
+	void m2147() { count++; }
+	void m2148() { count++; }
+	void m2149() { count++; }
+	void m2150() { count++; }
+	void m2151() { count++; }
+	void m2152() { count++; }
+	void m2153() { count++; }
+	void m2154() { count++; }
+	void m2155() { count++; }
+	void m2156() { count++; }
+	void m2157() { count++; }
+	void m2158() { count++; }
+	void m2159() { count++; }
+	void m2160() { count++; }
+	void m2161() { count++; }
+	void m2162() { count++; }
+	void m2163() { count++; }
+	void m2164() { count++; }
+	void m2165() { count++; }
+	void m2166() { count++; }
+	void m2167() { count++; }
+	void m2168() { count++; }
+	void m2169() { count++; }
+	void m2170() { count++; }
+	void m2171() { count++; }
+	void m2172() { count++; }
+	void m2173() { count++; }
+	void m2174() { count++; }
+	void m2175() { count++; }
+	void m2176() { count++; }
+	void m2177() { count++; }
+	void m2178() { count++; }
+	void m2179() { count++; }
+	void m2180() { count++; }
+	void m2181() { count++; }
+	void m2182() { count++; }
+	void m2183() { count++; }
+	void m2184() { count++; }
+	void m2185() { count++; }
+	void m2186() { count++; }
+	void m2187() { count++; }
+	void m2188() { count++; }
+	void m2189() { count++; }
+	void m2190() { count++; }
+	void m2191() { count++; }
+	void m2192() { count++; }
+	void m2193() { count++; }
+	void m2194() { count++; }
+	void m2195() { count++; }
+	void m2196() { count++; }
+	void m2197() { count++; }
+	void m2198() { count++; }
+	void m2199() { count++; }
+	void m2200() { count++; }
+	void m2201() { count++; }
+	void m2202() { count++; }
+	void m2203() { count++; }
+	void m2204() { count++; }
+	void m2205() { count++; }
+	void m2206() { count++; }
+	void m2207() { count++; }
+	void m2208() { count++; }
+	void m2209() { count++; }
+	void m2210() { count++; }
+	void m2211() { count++; }
+	void m2212() { count++; }
+	void m2213() { count++; }
+	void m2214() { count++; }
+	void m2215() { count++; }
+	void m2216() { count++; }
+	void m2217() { count++; }
+	void m2218() { count++; }
+	void m2219() { count++; }
+	void m2220() { count++; }
+	void m2221() { count++; }
+	void m2222() { count++; }
+	void m2223() { count++; }
+	void m2224() { count++; }
+	void m2225() { count++; }
+	void m2226() { count++; }
+	void m2227() { count++; }
+	void m2228() { count++; }
+	void m2229() { count++; }
+	void m2230() { count++; }
+	void m2231() { count++; }
+	void m2232() { count++; }
+	void m2233() { count++; }
+	void m2234() { count++; }
+	void m2235() { count++; }
+	void m2236() { count++; }
+	void m2237() { count++; }
+	void m2238() { count++; }
+	void m2239() { count++; }
+	void m2240() { count++; }
+	void m2241() { count++; }
+	void m2242() { count++; }
+	void m2243() { count++; }
+	void m2244() { count++; }
+	void m2245() { count++; }
+	void m2246() { count++; }
+	void m2247() { count++; }
+	void m2248() { count++; }
+	void m2249() { count++; }
+	void m2250() { count++; }
+	void m2251() { count++; }
+	void m2252() { count++; }
+	void m2253() { count++; }
+	void m2254() { count++; }
+	void m2255() { count++; }
+	void m2256() { count++; }
+	void m2257() { count++; }
+	void m2258() { count++; }
+	void m2259() { count++; }
+	void m2260() { count++; }
+	void m2261() { count++; }
+	void m2262() { count++; }
+	void m2263() { count++; }
+	void m2264() { count++; }
+	void m2265() { count++; }
+	void m2266() { count++; }
+	void m2267() { count++; }
+	void m2268() { count++; }
+	void m2269() { count++; }
+	void m2270() { count++; }
+	void m2271() { count++; }
+	void m2272() { count++; }
+	void m2273() { count++; }
+	void m2274() { count++; }
+	void m2275() { count++; }
+	void m2276() { count++; }
+	void m2277() { count++; }
+	void m2278() { count++; }
+	void m2279() { count++; }
+	void m2280() { count++; }
+	void m2281() { count++; }
+	void m2282() { count++; }
+	void m2283() { count++; }
+	void m2284() { count++; }
+	void m2285() { count++; }
+	void m2286() { count++; }
+	void m2287() { count++; }
+	void m2288() { count++; }
+	void m2289() { count++; }
+	void m2290() { count++; }
+	void m2291() { count++; }
+	void m2292() { count++; }
+	void m2293() { count++; }
+	void m2294() { count++; }
+	void m2295() { count++; }
+	void m2296() { count++; }
+	void m2297() { count++; }
+	void m2298() { count++; }
+	void m2299() { count++; }
+	void m2300() { count++; }
+	void m2301() { count++; }
+	void m2302() { count++; }
+	void m2303() { count++; }
+	void m2304() { count++; }
+	void m2305() { count++; }
+	void m2306() { count++; }
+	void m2307() { count++; }
+	void m2308() { count++; }
+	void m2309() { count++; }
+	void m2310() { count++; }
+	void m2311() { count++; }
+	void m2312() { count++; }
+	void m2313() { count++; }
+	void m2314() { count++; }
+	void m2315() { count++; }
+	void m2316() { count++; }
+	void m2317() { count++; }
+	void m2318() { count++; }
+	void m2319() { count++; }
+	void m2320() { count++; }
+	void m2321() { count++; }
+	void m2322() { count++; }
+	void m2323() { count++; }
+	void m2324() { count++; }
+	void m2325() { count++; }
+	void m2326() { count++; }
+	void m2327() { count++; }
+	void m2328() { count++; }
+	void m2329() { count++; }
+	void m2330() { count++; }
+	void m2331() { count++; }
+	void m2332() { count++; }
+	void m2333() { count++; }
+	void m2334() { count++; }
+	void m2335() { count++; }
+	void m2336() { count++; }
+	void m2337() { count++; }
+	void m2338() { count++; }
+	void m2339() { count++; }
+	void m2340() { count++; }
+	void m2341() { count++; }
+	void m2342() { count++; }
+	void m2343() { count++; }
+	void m2344() { count++; }
+	void m2345() { count++; }
+	void m2346() { count++; }
+	void m2347() { count++; }
+	void m2348() { count++; }
+	void m2349() { count++; }
+	void m2350() { count++; }
+	void m2351() { count++; }
+	void m2352() { count++; }
+	void m2353() { count++; }
+	void m2354() { count++; }
+	void m2355() { count++; }
+	void m2356() { count++; }
+	void m2357() { count++; }
+	void m2358() { count++; }
+	void m2359() { count++; }
+	void m2360() { count++; }
+	void m2361() { count++; }
+	void m2362() { count++; }
+	void m2363() { count++; }
+	void m2364() { count++; }
+	void m2365() { count++; }
+	void m2366() { count++; }
+	void m2367() { count++; }
+	void m2368() { count++; }
+	void m2369() { count++; }
+	void m2370() { count++; }
+	void m2371() { count++; }
+	void m2372() { count++; }
+	void m2373() { count++; }
+	void m2374() { count++; }
+	void m2375() { count++; }
+	void m2376() { count++; }
+	void m2377() { count++; }
+	void m2378() { count++; }
+	void m2379() { count++; }
+	void m2380() { count++; }
+	void m2381() { count++; }
+	void m2382() { count++; }
+	void m2383() { count++; }
+	void m2384() { count++; }
+	void m2385() { count++; }
+	void m2386() { count++; }
+	void m2387() { count++; }
+	void m2388() { count++; }
+	void m2389() { count++; }
+	void m2390() { count++; }
+	void m2391() { count++; }
+	void m2392() { count++; }
+	void m2393() { count++; }
+	void m2394() { count++; }
+	void m2395() { count++; }
+	void m2396() { count++; }
+	void m2397() { count++; }
+	void m2398() { count++; }
+	void m2399() { count++; }
+	void m2400() { count++; }
+	void m2401() { count++; }
+	void m2402() { count++; }
+	void m2403() { count++; }
+	void m2404() { count++; }
+	void m2405() { count++; }
+	void m2406() { count++; }
+	void m2407() { count++; }
+	void m2408() { count++; }
+	void m2409() { count++; }
+	void m2410() { count++; }
+	void m2411() { count++; }
+	void m2412() { count++; }
+	void m2413() { count++; }
+	void m2414() { count++; }
+	void m2415() { count++; }
+	void m2416() { count++; }
+	void m2417() { count++; }
+	void m2418() { count++; }
+	void m2419() { count++; }
+	void m2420() { count++; }
+	void m2421() { count++; }
+	void m2422() { count++; }
+	void m2423() { count++; }
+	void m2424() { count++; }
+	void m2425() { count++; }
+	void m2426() { count++; }
+	void m2427() { count++; }
+	void m2428() { count++; }
+	void m2429() { count++; }
+	void m2430() { count++; }
+	void m2431() { count++; }
+	void m2432() { count++; }
+	void m2433() { count++; }
+	void m2434() { count++; }
+	void m2435() { count++; }
+	void m2436() { count++; }
+	void m2437() { count++; }
+	void m2438() { count++; }
+	void m2439() { count++; }
+	void m2440() { count++; }
+	void m2441() { count++; }
+	void m2442() { count++; }
+	void m2443() { count++; }
+	void m2444() { count++; }
+	void m2445() { count++; }
+	void m2446() { count++; }
+	void m2447() { count++; }
+	void m2448() { count++; }
+	void m2449() { count++; }
+	void m2450() { count++; }
+	void m2451() { count++; }
+	void m2452() { count++; }
+	void m2453() { count++; }
+	void m2454() { count++; }
+	void m2455() { count++; }
+	void m2456() { count++; }
+	void m2457() { count++; }
+	void m2458() { count++; }
+	void m2459() { count++; }
+	void m2460() { count++; }
+	void m2461() { count++; }
+	void m2462() { count++; }
+	void m2463() { count++; }
+	void m2464() { count++; }
+	void m2465() { count++; }
+	void m2466() { count++; }
+	void m2467() { count++; }
+	void m2468() { count++; }
+	void m2469() { count++; }
+	void m2470() { count++; }
+	void m2471() { count++; }
+	void m2472() { count++; }
+	void m2473() { count++; }
+	void m2474() { count++; }
+	void m2475() { count++; }
+	void m2476() { count++; }
+	void m2477() { count++; }
+	void m2478() { count++; }
+	void m2479() { count++; }
+	void m2480() { count++; }
+	void m2481() { count++; }
+	void m2482() { count++; }
+	void m2483() { count++; }
+	void m2484() { count++; }
+	void m2485() { count++; }
+	void m2486() { count++; }
+	void m2487() { count++; }
+	void m2488() { count++; }
+	void m2489() { count++; }
+	void m2490() { count++; }
+	void m2491() { count++; }
+	void m2492() { count++; }
+	void m2493() { count++; }
+	void m2494() { count++; }
+	void m2495() { count++; }
+	void m2496() { count++; }
+	void m2497() { count++; }
+	void m2498() { count++; }
+	void m2499() { count++; }
+	void m2500() { count++; }
+	void m2501() { count++; }
+	void m2502() { count++; }
+	void m2503() { count++; }
+	void m2504() { count++; }
+	void m2505() { count++; }
+	void m2506() { count++; }
+	void m2507() { count++; }
+	void m2508() { count++; }
+	void m2509() { count++; }
+	void m2510() { count++; }
+	void m2511() { count++; }
+	void m2512() { count++; }
+	void m2513() { count++; }
+	void m2514() { count++; }
+	void m2515() { count++; }
+	void m2516() { count++; }
+	void m2517() { count++; }
+	void m2518() { count++; }
+	void m2519() { count++; }
+	void m2520() { count++; }
+	void m2521() { count++; }
+	void m2522() { count++; }
+	void m2523() { count++; }
+	void m2524() { count++; }
+	void m2525() { count++; }
+	void m2526() { count++; }
+	void m2527() { count++; }
+	void m2528() { count++; }
+	void m2529() { count++; }
+	void m2530() { count++; }
+	void m2531() { count++; }
+	void m2532() { count++; }
+	void m2533() { count++; }
+	void m2534() { count++; }
+	void m2535() { count++; }
+	void m2536() { count++; }
+	void m2537() { count++; }
+	void m2538() { count++; }
+	void m2539() { count++; }
+	void m2540() { count++; }
+	void m2541() { count++; }
+	void m2542() { count++; }
+	void m2543() { count++; }
+	void m2544() { count++; }
+	void m2545() { count++; }
+	void m2546() { count++; }
+	void m2547() { count++; }
+	void m2548() { count++; }
+	void m2549() { count++; }
+	void m2550() { count++; }
+	void m2551() { count++; }
+	void m2552() { count++; }
+	void m2553() { count++; }
+	void m2554() { count++; }
+	void m2555() { count++; }
+	void m2556() { count++; }
+	void m2557() { count++; }
+	void m2558() { count++; }
+	void m2559() { count++; }
+	void m2560() { count++; }
+	void m2561() { count++; }
+	void m2562() { count++; }
+	void m2563() { count++; }
+	void m2564() { count++; }
+	void m2565() { count++; }
+	void m2566() { count++; }
+	void m2567() { count++; }
+	void m2568() { count++; }
+	void m2569() { count++; }
+	void m2570() { count++; }
+	void m2571() { count++; }
+	void m2572() { count++; }
+	void m2573() { count++; }
+	void m2574() { count++; }
+	void m2575() { count++; }
+	void m2576() { count++; }
+	void m2577() { count++; }
+	void m2578() { count++; }
+	void m2579() { count++; }
+	void m2580() { count++; }
+	void m2581() { count++; }
+	void m2582() { count++; }
+	void m2583() { count++; }
+	void m2584() { count++; }
+	void m2585() { count++; }
+	void m2586() { count++; }
+	void m2587() { count++; }
+	void m2588() { count++; }
+	void m2589() { count++; }
+	void m2590() { count++; }
+	void m2591() { count++; }
+	void m2592() { count++; }
+	void m2593() { count++; }
+	void m2594() { count++; }
+	void m2595() { count++; }
+	void m2596() { count++; }
+	void m2597() { count++; }
+	void m2598() { count++; }
+	void m2599() { count++; }
+	void m2600() { count++; }
+	void m2601() { count++; }
+	void m2602() { count++; }
+	void m2603() { count++; }
+	void m2604() { count++; }
+	void m2605() { count++; }
+	void m2606() { count++; }
+	void m2607() { count++; }
+	void m2608() { count++; }
+	void m2609() { count++; }
+	void m2610() { count++; }
+	void m2611() { count++; }
+	void m2612() { count++; }
+	void m2613() { count++; }
+	void m2614() { count++; }
+	void m2615() { count++; }
+	void m2616() { count++; }
+	void m2617() { count++; }
+	void m2618() { count++; }
+	void m2619() { count++; }
+	void m2620() { count++; }
+	void m2621() { count++; }
+	void m2622() { count++; }
+	void m2623() { count++; }
+	void m2624() { count++; }
+	void m2625() { count++; }
+	void m2626() { count++; }
+	void m2627() { count++; }
+	void m2628() { count++; }
+	void m2629() { count++; }
+	void m2630() { count++; }
+	void m2631() { count++; }
+	void m2632() { count++; }
+	void m2633() { count++; }
+	void m2634() { count++; }
+	void m2635() { count++; }
+	void m2636() { count++; }
+	void m2637() { count++; }
+	void m2638() { count++; }
+	void m2639() { count++; }
+	void m2640() { count++; }
+	void m2641() { count++; }
+	void m2642() { count++; }
+	void m2643() { count++; }
+	void m2644() { count++; }
+	void m2645() { count++; }
+	void m2646() { count++; }
+	void m2647() { count++; }
+	void m2648() { count++; }
+	void m2649() { count++; }
+	void m2650() { count++; }
+	void m2651() { count++; }
+	void m2652() { count++; }
+	void m2653() { count++; }
+	void m2654() { count++; }
+	void m2655() { count++; }
+	void m2656() { count++; }
+	void m2657() { count++; }
+	void m2658() { count++; }
+	void m2659() { count++; }
+	void m2660() { count++; }
+	void m2661() { count++; }
+	void m2662() { count++; }
+	void m2663() { count++; }
+	void m2664() { count++; }
+	void m2665() { count++; }
+	void m2666() { count++; }
+	void m2667() { count++; }
+	void m2668() { count++; }
+	void m2669() { count++; }
+	void m2670() { count++; }
+	void m2671() { count++; }
+	void m2672() { count++; }
+	void m2673() { count++; }
+	void m2674() { count++; }
+	void m2675() { count++; }
+	void m2676() { count++; }
+	void m2677() { count++; }
+	void m2678() { count++; }
+	void m2679() { count++; }
+	void m2680() { count++; }
+	void m2681() { count++; }
+	void m2682() { count++; }
+	void m2683() { count++; }
+	void m2684() { count++; }
+	void m2685() { count++; }
+	void m2686() { count++; }
+	void m2687() { count++; }
+	void m2688() { count++; }
+	void m2689() { count++; }
+	void m2690() { count++; }
+	void m2691() { count++; }
+	void m2692() { count++; }
+	void m2693() { count++; }
+	void m2694() { count++; }
+	void m2695() { count++; }
+	void m2696() { count++; }
+	void m2697() { count++; }
+	void m2698() { count++; }
+	void m2699() { count++; }
+	void m2700() { count++; }
+	void m2701() { count++; }
+	void m2702() { count++; }
+	void m2703() { count++; }
+	void m2704() { count++; }
+	void m2705() { count++; }
+	void m2706() { count++; }
+	void m2707() { count++; }
+	void m2708() { count++; }
+	void m2709() { count++; }
+	void m2710() { count++; }
+	void m2711() { count++; }
+	void m2712() { count++; }
+	void m2713() { count++; }
+	void m2714() { count++; }
+	void m2715() { count++; }
+	void m2716() { count++; }
+	void m2717() { count++; }
+	void m2718() { count++; }
+	void m2719() { count++; }
+	void m2720() { count++; }
+	void m2721() { count++; }
+	void m2722() { count++; }
+	void m2723() { count++; }
+	void m2724() { count++; }
+	void m2725() { count++; }
+	void m2726() { count++; }
+	void m2727() { count++; }
+	void m2728() { count++; }
+	void m2729() { count++; }
+	void m2730() { count++; }
+	void m2731() { count++; }
+	void m2732() { count++; }
+	void m2733() { count++; }
+	void m2734() { count++; }
+	void m2735() { count++; }
+	void m2736() { count++; }
+	void m2737() { count++; }
+	void m2738() { count++; }
+	void m2739() { count++; }
+	void m2740() { count++; }
+	void m2741() { count++; }
+	void m2742() { count++; }
+	void m2743() { count++; }
+	void m2744() { count++; }
+	void m2745() { count++; }
+	void m2746() { count++; }
+	void m2747() { count++; }
+	void m2748() { count++; }
+	void m2749() { count++; }
+	void m2750() { count++; }
+	void m2751() { count++; }
+	void m2752() { count++; }
+	void m2753() { count++; }
+	void m2754() { count++; }
+	void m2755() { count++; }
+	void m2756() { count++; }
+	void m2757() { count++; }
+	void m2758() { count++; }
+	void m2759() { count++; }
+	void m2760() { count++; }
+	void m2761() { count++; }
+	void m2762() { count++; }
+	void m2763() { count++; }
+	void m2764() { count++; }
+	void m2765() { count++; }
+	void m2766() { count++; }
+	void m2767() { count++; }
+	void m2768() { count++; }
+	void m2769() { count++; }
+	void m2770() { count++; }
+	void m2771() { count++; }
+	void m2772() { count++; }
+	void m2773() { count++; }
+	void m2774() { count++; }
+	void m2775() { count++; }
+	void m2776() { count++; }
+	void m2777() { count++; }
+	void m2778() { count++; }
+	void m2779() { count++; }
+	void m2780() { count++; }
+	void m2781() { count++; }
+	void m2782() { count++; }
+	void m2783() { count++; }
+	void m2784() { count++; }
+	void m2785() { count++; }
+	void m2786() { count++; }
+	void m2787() { count++; }
+	void m2788() { count++; }
+	void m2789() { count++; }
+	void m2790() { count++; }
+	void m2791() { count++; }
+	void m2792() { count++; }
+	void m2793() { count++; }
+	void m2794() { count++; }
+	void m2795() { count++; }
+	void m2796() { count++; }
+	void m2797() { count++; }
+	void m2798() { count++; }
+	void m2799() { count++; }
+	void m2800() { count++; }
+	void m2801() { count++; }
+	void m2802() { count++; }
+	void m2803() { count++; }
+	void m2804() { count++; }
+	void m2805() { count++; }
+	void m2806() { count++; }
+	void m2807() { count++; }
+	void m2808() { count++; }
+	void m2809() { count++; }
+	void m2810() { count++; }
+	void m2811() { count++; }
+	void m2812() { count++; }
+	void m2813() { count++; }
+	void m2814() { count++; }
+	void m2815() { count++; }
+	void m2816() { count++; }
+	void m2817() { count++; }
+	void m2818() { count++; }
+	void m2819() { count++; }
+	void m2820() { count++; }
+	void m2821() { count++; }
+	void m2822() { count++; }
+	void m2823() { count++; }
+	void m2824() { count++; }
+	void m2825() { count++; }
+	void m2826() { count++; }
+	void m2827() { count++; }
+	void m2828() { count++; }
+	void m2829() { count++; }
+	void m2830() { count++; }
+	void m2831() { count++; }
+	void m2832() { count++; }
+	void m2833() { count++; }
+	void m2834() { count++; }
+	void m2835() { count++; }
+	void m2836() { count++; }
+	void m2837() { count++; }
+	void m2838() { count++; }
+	void m2839() { count++; }
+	void m2840() { count++; }
+	void m2841() { count++; }
+	void m2842() { count++; }
+	void m2843() { count++; }
+	void m2844() { count++; }
+	void m2845() { count++; }
+	void m2846() { count++; }
+	void m2847() { count++; }
+	void m2848() { count++; }
+	void m2849() { count++; }
+	void m2850() { count++; }
+	void m2851() { count++; }
+	void m2852() { count++; }
+	void m2853() { count++; }
+	void m2854() { count++; }
+	void m2855() { count++; }
+	void m2856() { count++; }
+	void m2857() { count++; }
+	void m2858() { count++; }
+	void m2859() { count++; }
+	void m2860() { count++; }
+	void m2861() { count++; }
+	void m2862() { count++; }
+	void m2863() { count++; }
+	void m2864() { count++; }
+	void m2865() { count++; }
+	void m2866() { count++; }
+	void m2867() { count++; }
+	void m2868() { count++; }
+	void m2869() { count++; }
+	void m2870() { count++; }
+	void m2871() { count++; }
+	void m2872() { count++; }
+	void m2873() { count++; }
+	void m2874() { count++; }
+	void m2875() { count++; }
+	void m2876() { count++; }
+	void m2877() { count++; }
+	void m2878() { count++; }
+	void m2879() { count++; }
+	void m2880() { count++; }
+	void m2881() { count++; }
+	void m2882() { count++; }
+	void m2883() { count++; }
+	void m2884() { count++; }
+	void m2885() { count++; }
+	void m2886() { count++; }
+	void m2887() { count++; }
+	void m2888() { count++; }
+	void m2889() { count++; }
+	void m2890() { count++; }
+	void m2891() { count++; }
+	void m2892() { count++; }
+	void m2893() { count++; }
+	void m2894() { count++; }
+	void m2895() { count++; }
+	void m2896() { count++; }
+	void m2897() { count++; }
+	void m2898() { count++; }
+	void m2899() { count++; }
+	void m2900() { count++; }
+	void m2901() { count++; }
+	void m2902() { count++; }
+	void m2903() { count++; }
+	void m2904() { count++; }
+	void m2905() { count++; }
+	void m2906() { count++; }
+	void m2907() { count++; }
+	void m2908() { count++; }
+	void m2909() { count++; }
+	void m2910() { count++; }
+	void m2911() { count++; }
+	void m2912() { count++; }
+	void m2913() { count++; }
+	void m2914() { count++; }
+	void m2915() { count++; }
+	void m2916() { count++; }
+	void m2917() { count++; }
+	void m2918() { count++; }
+	void m2919() { count++; }
+	void m2920() { count++; }
+	void m2921() { count++; }
+	void m2922() { count++; }
+	void m2923() { count++; }
+	void m2924() { count++; }
+	void m2925() { count++; }
+	void m2926() { count++; }
+	void m2927() { count++; }
+	void m2928() { count++; }
+	void m2929() { count++; }
+	void m2930() { count++; }
+	void m2931() { count++; }
+	void m2932() { count++; }
+	void m2933() { count++; }
+	void m2934() { count++; }
+	void m2935() { count++; }
+	void m2936() { count++; }
+	void m2937() { count++; }
+	void m2938() { count++; }
+	void m2939() { count++; }
+	void m2940() { count++; }
+	void m2941() { count++; }
+	void m2942() { count++; }
+	void m2943() { count++; }
+	void m2944() { count++; }
+	void m2945() { count++; }
+	void m2946() { count++; }
+	void m2947() { count++; }
+	void m2948() { count++; }
+	void m2949() { count++; }
+	void m2950() { count++; }
+	void m2951() { count++; }
+	void m2952() { count++; }
+	void m2953() { count++; }
+	void m2954() { count++; }
+	void m2955() { count++; }
+	void m2956() { count++; }
+	void m2957() { count++; }
+	void m2958() { count++; }
+	void m2959() { count++; }
+	void m2960() { count++; }
+	void m2961() { count++; }
+	void m2962() { count++; }
+	void m2963() { count++; }
+	void m2964() { count++; }
+	void m2965() { count++; }
+	void m2966() { count++; }
+	void m2967() { count++; }
+	void m2968() { count++; }
+	void m2969() { count++; }
+	void m2970() { count++; }
+	void m2971() { count++; }
+	void m2972() { count++; }
+	void m2973() { count++; }
+	void m2974() { count++; }
+	void m2975() { count++; }
+	void m2976() { count++; }
+	void m2977() { count++; }
+	void m2978() { count++; }
+	void m2979() { count++; }
+	void m2980() { count++; }
+	void m2981() { count++; }
+	void m2982() { count++; }
+	void m2983() { count++; }
+	void m2984() { count++; }
+	void m2985() { count++; }
+	void m2986() { count++; }
+	void m2987() { count++; }
+	void m2988() { count++; }
+	void m2989() { count++; }
+	void m2990() { count++; }
+	void m2991() { count++; }
+	void m2992() { count++; }
+	void m2993() { count++; }
+	void m2994() { count++; }
+	void m2995() { count++; }
+	void m2996() { count++; }
+	void m2997() { count++; }
+	void m2998() { count++; }
+	void m2999() { count++; }
+	void m3000() { count++; }
+	void m3001() { count++; }
+	void m3002() { count++; }
+	void m3003() { count++; }
+	void m3004() { count++; }
+	void m3005() { count++; }
+	void m3006() { count++; }
+	void m3007() { count++; }
+	void m3008() { count++; }
+	void m3009() { count++; }
+	void m3010() { count++; }
+	void m3011() { count++; }
+	void m3012() { count++; }
+	void m3013() { count++; }
+	void m3014() { count++; }
+	void m3015() { count++; }
+	void m3016() { count++; }
+	void m3017() { count++; }
+	void m3018() { count++; }
+	void m3019() { count++; }
+	void m3020() { count++; }
+	void m3021() { count++; }
+	void m3022() { count++; }
+	void m3023() { count++; }
+	void m3024() { count++; }
+	void m3025() { count++; }
+	void m3026() { count++; }
+	void m3027() { count++; }
+	void m3028() { count++; }
+	void m3029() { count++; }
+	void m3030() { count++; }
+	void m3031() { count++; }
+	void m3032() { count++; }
+	void m3033() { count++; }
+	void m3034() { count++; }
+	void m3035() { count++; }
+	void m3036() { count++; }
+	void m3037() { count++; }
+	void m3038() { count++; }
+	void m3039() { count++; }
+	void m3040() { count++; }
+	void m3041() { count++; }
+	void m3042() { count++; }
+	void m3043() { count++; }
+	void m3044() { count++; }
+	void m3045() { count++; }
+	void m3046() { count++; }
+	void m3047() { count++; }
+	void m3048() { count++; }
+	void m3049() { count++; }
+	void m3050() { count++; }
+	void m3051() { count++; }
+	void m3052() { count++; }
+	void m3053() { count++; }
+	void m3054() { count++; }
+	void m3055() { count++; }
+	void m3056() { count++; }
+	void m3057() { count++; }
+	void m3058() { count++; }
+	void m3059() { count++; }
+	void m3060() { count++; }
+	void m3061() { count++; }
+	void m3062() { count++; }
+	void m3063() { count++; }
+	void m3064() { count++; }
+	void m3065() { count++; }
+	void m3066() { count++; }
+	void m3067() { count++; }
+	void m3068() { count++; }
+	void m3069() { count++; }
+	void m3070() { count++; }
+	void m3071() { count++; }
+	void m3072() { count++; }
+	void m3073() { count++; }
+	void m3074() { count++; }
+	void m3075() { count++; }
+	void m3076() { count++; }
+	void m3077() { count++; }
+	void m3078() { count++; }
+	void m3079() { count++; }
+	void m3080() { count++; }
+	void m3081() { count++; }
+	void m3082() { count++; }
+	void m3083() { count++; }
+	void m3084() { count++; }
+	void m3085() { count++; }
+	void m3086() { count++; }
+	void m3087() { count++; }
+	void m3088() { count++; }
+	void m3089() { count++; }
+	void m3090() { count++; }
+	void m3091() { count++; }
+	void m3092() { count++; }
+	void m3093() { count++; }
+	void m3094() { count++; }
+	void m3095() { count++; }
+	void m3096() { count++; }
+	void m3097() { count++; }
+	void m3098() { count++; }
+	void m3099() { count++; }
+	void m3100() { count++; }
+	void m3101() { count++; }
+	void m3102() { count++; }
+	void m3103() { count++; }
+	void m3104() { count++; }
+	void m3105() { count++; }
+	void m3106() { count++; }
+	void m3107() { count++; }
+	void m3108() { count++; }
+	void m3109() { count++; }
+	void m3110() { count++; }
+	void m3111() { count++; }
+	void m3112() { count++; }
+	void m3113() { count++; }
+	void m3114() { count++; }
+	void m3115() { count++; }
+	void m3116() { count++; }
+	void m3117() { count++; }
+	void m3118() { count++; }
+	void m3119() { count++; }
+	void m3120() { count++; }
+	void m3121() { count++; }
+	void m3122() { count++; }
+	void m3123() { count++; }
+	void m3124() { count++; }
+	void m3125() { count++; }
+	void m3126() { count++; }
+	void m3127() { count++; }
+	void m3128() { count++; }
+	void m3129() { count++; }
+	void m3130() { count++; }
+	void m3131() { count++; }
+	void m3132() { count++; }
+	void m3133() { count++; }
+	void m3134() { count++; }
+	void m3135() { count++; }
+	void m3136() { count++; }
+	void m3137() { count++; }
+	void m3138() { count++; }
+	void m3139() { count++; }
+	void m3140() { count++; }
+	void m3141() { count++; }
+	void m3142() { count++; }
+	void m3143() { count++; }
+	void m3144() { count++; }
+	void m3145() { count++; }
+	void m3146() { count++; }
+	void m3147() { count++; }
+	void m3148() { count++; }
+	void m3149() { count++; }
+	void m3150() { count++; }
+	void m3151() { count++; }
+	void m3152() { count++; }
+	void m3153() { count++; }
+	void m3154() { count++; }
+	void m3155() { count++; }
+	void m3156() { count++; }
+	void m3157() { count++; }
+	void m3158() { count++; }
+	void m3159() { count++; }
+	void m3160() { count++; }
+	void m3161() { count++; }
+	void m3162() { count++; }
+	void m3163() { count++; }
+	void m3164() { count++; }
+	void m3165() { count++; }
+	void m3166() { count++; }
+	void m3167() { count++; }
+	void m3168() { count++; }
+	void m3169() { count++; }
+	void m3170() { count++; }
+	void m3171() { count++; }
+	void m3172() { count++; }
+	void m3173() { count++; }
+	void m3174() { count++; }
+	void m3175() { count++; }
+	void m3176() { count++; }
+	void m3177() { count++; }
+	void m3178() { count++; }
+	void m3179() { count++; }
+	void m3180() { count++; }
+	void m3181() { count++; }
+	void m3182() { count++; }
+	void m3183() { count++; }
+	void m3184() { count++; }
+	void m3185() { count++; }
+	void m3186() { count++; }
+	void m3187() { count++; }
+	void m3188() { count++; }
+	void m3189() { count++; }
+	void m3190() { count++; }
+	void m3191() { count++; }
+	void m3192() { count++; }
+	void m3193() { count++; }
+	void m3194() { count++; }
+	void m3195() { count++; }
+	void m3196() { count++; }
+	void m3197() { count++; }
+	void m3198() { count++; }
+	void m3199() { count++; }
+	void m3200() { count++; }
+	void m3201() { count++; }
+	void m3202() { count++; }
+	void m3203() { count++; }
+	void m3204() { count++; }
+	void m3205() { count++; }
+	void m3206() { count++; }
+	void m3207() { count++; }
+	void m3208() { count++; }
+	void m3209() { count++; }
+	void m3210() { count++; }
+	void m3211() { count++; }
+	void m3212() { count++; }
+	void m3213() { count++; }
+	void m3214() { count++; }
+	void m3215() { count++; }
+	void m3216() { count++; }
+	void m3217() { count++; }
+	void m3218() { count++; }
+	void m3219() { count++; }
+	void m3220() { count++; }
+	void m3221() { count++; }
+	void m3222() { count++; }
+	void m3223() { count++; }
+	void m3224() { count++; }
+	void m3225() { count++; }
+	void m3226() { count++; }
+	void m3227() { count++; }
+	void m3228() { count++; }
+	void m3229() { count++; }
+	void m3230() { count++; }
+	void m3231() { count++; }
+	void m3232() { count++; }
+	void m3233() { count++; }
+	void m3234() { count++; }
+	void m3235() { count++; }
+	void m3236() { count++; }
+	void m3237() { count++; }
+	void m3238() { count++; }
+	void m3239() { count++; }
+	void m3240() { count++; }
+	void m3241() { count++; }
+	void m3242() { count++; }
+	void m3243() { count++; }
+	void m3244() { count++; }
+	void m3245() { count++; }
+	void m3246() { count++; }
+	void m3247() { count++; }
+	void m3248() { count++; }
+	void m3249() { count++; }
+	void m3250() { count++; }
+	void m3251() { count++; }
+	void m3252() { count++; }
+	void m3253() { count++; }
+	void m3254() { count++; }
+	void m3255() { count++; }
+	void m3256() { count++; }
+	void m3257() { count++; }
+	void m3258() { count++; }
+	void m3259() { count++; }
+	void m3260() { count++; }
+	void m3261() { count++; }
+	void m3262() { count++; }
+	void m3263() { count++; }
+	void m3264() { count++; }
+	void m3265() { count++; }
+	void m3266() { count++; }
+	void m3267() { count++; }
+	void m3268() { count++; }
+	void m3269() { count++; }
+	void m3270() { count++; }
+	void m3271() { count++; }
+	void m3272() { count++; }
+	void m3273() { count++; }
+	void m3274() { count++; }
+	void m3275() { count++; }
+	void m3276() { count++; }
+	void m3277() { count++; }
+	void m3278() { count++; }
+	void m3279() { count++; }
+	void m3280() { count++; }
+	void m3281() { count++; }
+	void m3282() { count++; }
+	void m3283() { count++; }
+	void m3284() { count++; }
+	void m3285() { count++; }
+	void m3286() { count++; }
+	void m3287() { count++; }
+	void m3288() { count++; }
+	void m3289() { count++; }
+	void m3290() { count++; }
+	void m3291() { count++; }
+	void m3292() { count++; }
+	void m3293() { count++; }
+	void m3294() { count++; }
+	void m3295() { count++; }
+	void m3296() { count++; }
+	void m3297() { count++; }
+	void m3298() { count++; }
+	void m3299() { count++; }
+	void m3300() { count++; }
+	void m3301() { count++; }
+	void m3302() { count++; }
+	void m3303() { count++; }
+	void m3304() { count++; }
+	void m3305() { count++; }
+	void m3306() { count++; }
+	void m3307() { count++; }
+	void m3308() { count++; }
+	void m3309() { count++; }
+	void m3310() { count++; }
+	void m3311() { count++; }
+	void m3312() { count++; }
+	void m3313() { count++; }
+	void m3314() { count++; }
+	void m3315() { count++; }
+	void m3316() { count++; }
+	void m3317() { count++; }
+	void m3318() { count++; }
+	void m3319() { count++; }
+	void m3320() { count++; }
+	void m3321() { count++; }
+	void m3322() { count++; }
+	void m3323() { count++; }
+	void m3324() { count++; }
+	void m3325() { count++; }
+	void m3326() { count++; }
+	void m3327() { count++; }
+	void m3328() { count++; }
+	void m3329() { count++; }
+	void m3330() { count++; }
+	void m3331() { count++; }
+	void m3332() { count++; }
+	void m3333() { count++; }
+	void m3334() { count++; }
+	void m3335() { count++; }
+	void m3336() { count++; }
+	void m3337() { count++; }
+	void m3338() { count++; }
+	void m3339() { count++; }
+	void m3340() { count++; }
+	void m3341() { count++; }
+	void m3342() { count++; }
+	void m3343() { count++; }
+	void m3344() { count++; }
+	void m3345() { count++; }
+	void m3346() { count++; }
+	void m3347() { count++; }
+	void m3348() { count++; }
+	void m3349() { count++; }
+	void m3350() { count++; }
+	void m3351() { count++; }
+	void m3352() { count++; }
+	void m3353() { count++; }
+	void m3354() { count++; }
+	void m3355() { count++; }
+	void m3356() { count++; }
+	void m3357() { count++; }
+	void m3358() { count++; }
+	void m3359() { count++; }
+	void m3360() { count++; }
+	void m3361() { count++; }
+	void m3362() { count++; }
+	void m3363() { count++; }
+	void m3364() { count++; }
+	void m3365() { count++; }
+	void m3366() { count++; }
+	void m3367() { count++; }
+	void m3368() { count++; }
+	void m3369() { count++; }
+	void m3370() { count++; }
+	void m3371() { count++; }
+	void m3372() { count++; }
+	void m3373() { count++; }
+	void m3374() { count++; }
+	void m3375() { count++; }
+	void m3376() { count++; }
+	void m3377() { count++; }
+	void m3378() { count++; }
+	void m3379() { count++; }
+	void m3380() { count++; }
+	void m3381() { count++; }
+	void m3382() { count++; }
+	void m3383() { count++; }
+	void m3384() { count++; }
+	void m3385() { count++; }
+	void m3386() { count++; }
+	void m3387() { count++; }
+	void m3388() { count++; }
+	void m3389() { count++; }
+	void m3390() { count++; }
+	void m3391() { count++; }
+	void m3392() { count++; }
+	void m3393() { count++; }
+	void m3394() { count++; }
+	void m3395() { count++; }
+	void m3396() { count++; }
+	void m3397() { count++; }
+	void m3398() { count++; }
+	void m3399() { count++; }
+	void m3400() { count++; }
+	void m3401() { count++; }
+	void m3402() { count++; }
+	void m3403() { count++; }
+	void m3404() { count++; }
+	void m3405() { count++; }
+	void m3406() { count++; }
+	void m3407() { count++; }
+	void m3408() { count++; }
+	void m3409() { count++; }
+	void m3410() { count++; }
+	void m3411() { count++; }
+	void m3412() { count++; }
+	void m3413() { count++; }
+	void m3414() { count++; }
+	void m3415() { count++; }
+	void m3416() { count++; }
+	void m3417() { count++; }
+	void m3418() { count++; }
+	void m3419() { count++; }
+	void m3420() { count++; }
+	void m3421() { count++; }
+	void m3422() { count++; }
+	void m3423() { count++; }
+	void m3424() { count++; }
+	void m3425() { count++; }
+	void m3426() { count++; }
+	void m3427() { count++; }
+	void m3428() { count++; }
+	void m3429() { count++; }
+	void m3430() { count++; }
+	void m3431() { count++; }
+	void m3432() { count++; }
+	void m3433() { count++; }
+	void m3434() { count++; }
+	void m3435() { count++; }
+	void m3436() { count++; }
+	void m3437() { count++; }
+	void m3438() { count++; }
+	void m3439() { count++; }
+	void m3440() { count++; }
+	void m3441() { count++; }
+	void m3442() { count++; }
+	void m3443() { count++; }
+	void m3444() { count++; }
+	void m3445() { count++; }
+	void m3446() { count++; }
+	void m3447() { count++; }
+	void m3448() { count++; }
+	void m3449() { count++; }
+	void m3450() { count++; }
+	void m3451() { count++; }
+	void m3452() { count++; }
+	void m3453() { count++; }
+	void m3454() { count++; }
+	void m3455() { count++; }
+	void m3456() { count++; }
+	void m3457() { count++; }
+	void m3458() { count++; }
+	void m3459() { count++; }
+	void m3460() { count++; }
+	void m3461() { count++; }
+	void m3462() { count++; }
+	void m3463() { count++; }
+	void m3464() { count++; }
+	void m3465() { count++; }
+	void m3466() { count++; }
+	void m3467() { count++; }
+	void m3468() { count++; }
+	void m3469() { count++; }
+	void m3470() { count++; }
+	void m3471() { count++; }
+	void m3472() { count++; }
+	void m3473() { count++; }
+	void m3474() { count++; }
+	void m3475() { count++; }
+	void m3476() { count++; }
+	void m3477() { count++; }
+	void m3478() { count++; }
+	void m3479() { count++; }
+	void m3480() { count++; }
+	void m3481() { count++; }
+	void m3482() { count++; }
+	void m3483() { count++; }
+	void m3484() { count++; }
+	void m3485() { count++; }
+	void m3486() { count++; }
+	void m3487() { count++; }
+	void m3488() { count++; }
+	void m3489() { count++; }
+	void m3490() { count++; }
+	void m3491() { count++; }
+	void m3492() { count++; }
+	void m3493() { count++; }
+	void m3494() { count++; }
+	void m3495() { count++; }
+	void m3496() { count++; }
+	void m3497() { count++; }
+	void m3498() { count++; }
+	void m3499() { count++; }
+	void m3500() { count++; }
+	void m3501() { count++; }
+	void m3502() { count++; }
+	void m3503() { count++; }
+	void m3504() { count++; }
+	void m3505() { count++; }
+	void m3506() { count++; }
+	void m3507() { count++; }
+	void m3508() { count++; }
+	void m3509() { count++; }
+	void m3510() { count++; }
+	void m3511() { count++; }
+	void m3512() { count++; }
+	void m3513() { count++; }
+	void m3514() { count++; }
+	void m3515() { count++; }
+	void m3516() { count++; }
+	void m3517() { count++; }
+	void m3518() { count++; }
+	void m3519() { count++; }
+	void m3520() { count++; }
+	void m3521() { count++; }
+	void m3522() { count++; }
+	void m3523() { count++; }
+	void m3524() { count++; }
+	void m3525() { count++; }
+	void m3526() { count++; }
+	void m3527() { count++; }
+	void m3528() { count++; }
+	void m3529() { count++; }
+	void m3530() { count++; }
+	void m3531() { count++; }
+	void m3532() { count++; }
+	void m3533() { count++; }
+	void m3534() { count++; }
+	void m3535() { count++; }
+	void m3536() { count++; }
+	void m3537() { count++; }
+	void m3538() { count++; }
+	void m3539() { count++; }
+	void m3540() { count++; }
+	void m3541() { count++; }
+	void m3542() { count++; }
+	void m3543() { count++; }
+	void m3544() { count++; }
+	void m3545() { count++; }
+	void m3546() { count++; }
+	void m3547() { count++; }
+	void m3548() { count++; }
+	void m3549() { count++; }
+	void m3550() { count++; }
+	void m3551() { count++; }
+	void m3552() { count++; }
+	void m3553() { count++; }
+	void m3554() { count++; }
+	void m3555() { count++; }
+	void m3556() { count++; }
+	void m3557() { count++; }
+	void m3558() { count++; }
+	void m3559() { count++; }
+	void m3560() { count++; }
+	void m3561() { count++; }
+	void m3562() { count++; }
+	void m3563() { count++; }
+	void m3564() { count++; }
+	void m3565() { count++; }
+	void m3566() { count++; }
+	void m3567() { count++; }
+	void m3568() { count++; }
+	void m3569() { count++; }
+	void m3570() { count++; }
+	void m3571() { count++; }
+	void m3572() { count++; }
+	void m3573() { count++; }
+	void m3574() { count++; }
+	void m3575() { count++; }
+	void m3576() { count++; }
+	void m3577() { count++; }
+	void m3578() { count++; }
+	void m3579() { count++; }
+	void m3580() { count++; }
+	void m3581() { count++; }
+	void m3582() { count++; }
+	void m3583() { count++; }
+	void m3584() { count++; }
+	void m3585() { count++; }
+	void m3586() { count++; }
+	void m3587() { count++; }
+	void m3588() { count++; }
+	void m3589() { count++; }
+	void m3590() { count++; }
+	void m3591() { count++; }
+	void m3592() { count++; }
+	void m3593() { count++; }
+	void m3594() { count++; }
+	void m3595() { count++; }
+	void m3596() { count++; }
+	void m3597() { count++; }
+	void m3598() { count++; }
+	void m3599() { count++; }
+	void m3600() { count++; }
+	void m3601() { count++; }
+	void m3602() { count++; }
+	void m3603() { count++; }
+	void m3604() { count++; }
+	void m3605() { count++; }
+	void m3606() { count++; }
+	void m3607() { count++; }
+	void m3608() { count++; }
+	void m3609() { count++; }
+	void m3610() { count++; }
+	void m3611() { count++; }
+	void m3612() { count++; }
+	void m3613() { count++; }
+	void m3614() { count++; }
+	void m3615() { count++; }
+	void m3616() { count++; }
+	void m3617() { count++; }
+	void m3618() { count++; }
+	void m3619() { count++; }
+	void m3620() { count++; }
+	void m3621() { count++; }
+	void m3622() { count++; }
+	void m3623() { count++; }
+	void m3624() { count++; }
+	void m3625() { count++; }
+	void m3626() { count++; }
+	void m3627() { count++; }
+	void m3628() { count++; }
+	void m3629() { count++; }
+	void m3630() { count++; }
+	void m3631() { count++; }
+	void m3632() { count++; }
+	void m3633() { count++; }
+	void m3634() { count++; }
+	void m3635() { count++; }
+	void m3636() { count++; }
+	void m3637() { count++; }
+	void m3638() { count++; }
+	void m3639() { count++; }
+	void m3640() { count++; }
+	void m3641() { count++; }
+	void m3642() { count++; }
+	void m3643() { count++; }
+	void m3644() { count++; }
+	void m3645() { count++; }
+	void m3646() { count++; }
+	void m3647() { count++; }
+	void m3648() { count++; }
+	void m3649() { count++; }
+	void m3650() { count++; }
+	void m3651() { count++; }
+	void m3652() { count++; }
+	void m3653() { count++; }
+	void m3654() { count++; }
+	void m3655() { count++; }
+	void m3656() { count++; }
+	void m3657() { count++; }
+	void m3658() { count++; }
+	void m3659() { count++; }
+	void m3660() { count++; }
+	void m3661() { count++; }
+	void m3662() { count++; }
+	void m3663() { count++; }
+	void m3664() { count++; }
+	void m3665() { count++; }
+	void m3666() { count++; }
+	void m3667() { count++; }
+	void m3668() { count++; }
+	void m3669() { count++; }
+	void m3670() { count++; }
+	void m3671() { count++; }
+	void m3672() { count++; }
+	void m3673() { count++; }
+	void m3674() { count++; }
+	void m3675() { count++; }
+	void m3676() { count++; }
+	void m3677() { count++; }
+	void m3678() { count++; }
+	void m3679() { count++; }
+	void m3680() { count++; }
+	void m3681() { count++; }
+	void m3682() { count++; }
+	void m3683() { count++; }
+	void m3684() { count++; }
+	void m3685() { count++; }
+	void m3686() { count++; }
+	void m3687() { count++; }
+	void m3688() { count++; }
+	void m3689() { count++; }
+	void m3690() { count++; }
+	void m3691() { count++; }
+	void m3692() { count++; }
+	void m3693() { count++; }
+	void m3694() { count++; }
+	void m3695() { count++; }
+	void m3696() { count++; }
+	void m3697() { count++; }
+	void m3698() { count++; }
+	void m3699() { count++; }
+	void m3700() { count++; }
+	void m3701() { count++; }
+	void m3702() { count++; }
+	void m3703() { count++; }
+	void m3704() { count++; }
+	void m3705() { count++; }
+	void m3706() { count++; }
+	void m3707() { count++; }
+	void m3708() { count++; }
+	void m3709() { count++; }
+	void m3710() { count++; }
+	void m3711() { count++; }
+	void m3712() { count++; }
+	void m3713() { count++; }
+	void m3714() { count++; }
+	void m3715() { count++; }
+	void m3716() { count++; }
+	void m3717() { count++; }
+	void m3718() { count++; }
+	void m3719() { count++; }
+	void m3720() { count++; }
+	void m3721() { count++; }
+	void m3722() { count++; }
+	void m3723() { count++; }
+	void m3724() { count++; }
+	void m3725() { count++; }
+	void m3726() { count++; }
+	void m3727() { count++; }
+	void m3728() { count++; }
+	void m3729() { count++; }
+	void m3730() { count++; }
+	void m3731() { count++; }
+	void m3732() { count++; }
+	void m3733() { count++; }
+	void m3734() { count++; }
+	void m3735() { count++; }
+	void m3736() { count++; }
+	void m3737() { count++; }
+	void m3738() { count++; }
+	void m3739() { count++; }
+	void m3740() { count++; }
+	void m3741() { count++; }
+	void m3742() { count++; }
+	void m3743() { count++; }
+	void m3744() { count++; }
+	void m3745() { count++; }
+	void m3746() { count++; }
+	void m3747() { count++; }
+	void m3748() { count++; }
+	void m3749() { count++; }
+	void m3750() { count++; }
+	void m3751() { count++; }
+	void m3752() { count++; }
+	void m3753() { count++; }
+	void m3754() { count++; }
+	void m3755() { count++; }
+	void m3756() { count++; }
+	void m3757() { count++; }
+	void m3758() { count++; }
+	void m3759() { count++; }
+	void m3760() { count++; }
+	void m3761() { count++; }
+	void m3762() { count++; }
+	void m3763() { count++; }
+	void m3764() { count++; }
+	void m3765() { count++; }
+	void m3766() { count++; }
+	void m3767() { count++; }
+	void m3768() { count++; }
+	void m3769() { count++; }
+	void m3770() { count++; }
+	void m3771() { count++; }
+	void m3772() { count++; }
+	void m3773() { count++; }
+	void m3774() { count++; }
+	void m3775() { count++; }
+	void m3776() { count++; }
+	void m3777() { count++; }
+	void m3778() { count++; }
+	void m3779() { count++; }
+	void m3780() { count++; }
+	void m3781() { count++; }
+	void m3782() { count++; }
+	void m3783() { count++; }
+	void m3784() { count++; }
+	void m3785() { count++; }
+	void m3786() { count++; }
+	void m3787() { count++; }
+	void m3788() { count++; }
+	void m3789() { count++; }
+	void m3790() { count++; }
+	void m3791() { count++; }
+	void m3792() { count++; }
+	void m3793() { count++; }
+	void m3794() { count++; }
+	void m3795() { count++; }
+	void m3796() { count++; }
+	void m3797() { count++; }
+	void m3798() { count++; }
+	void m3799() { count++; }
+	void m3800() { count++; }
+	void m3801() { count++; }
+	void m3802() { count++; }
+	void m3803() { count++; }
+	void m3804() { count++; }
+	void m3805() { count++; }
+	void m3806() { count++; }
+	void m3807() { count++; }
+	void m3808() { count++; }
+	void m3809() { count++; }
+	void m3810() { count++; }
+	void m3811() { count++; }
+	void m3812() { count++; }
+	void m3813() { count++; }
+	void m3814() { count++; }
+	void m3815() { count++; }
+	void m3816() { count++; }
+	void m3817() { count++; }
+	void m3818() { count++; }
+	void m3819() { count++; }
+	void m3820() { count++; }
+	void m3821() { count++; }
+	void m3822() { count++; }
+	void m3823() { count++; }
+	void m3824() { count++; }
+	void m3825() { count++; }
+	void m3826() { count++; }
+	void m3827() { count++; }
+	void m3828() { count++; }
+	void m3829() { count++; }
+	void m3830() { count++; }
+	void m3831() { count++; }
+	void m3832() { count++; }
+	void m3833() { count++; }
+	void m3834() { count++; }
+	void m3835() { count++; }
+	void m3836() { count++; }
+	void m3837() { count++; }
+	void m3838() { count++; }
+	void m3839() { count++; }
+	void m3840() { count++; }
+	void m3841() { count++; }
+	void m3842() { count++; }
+	void m3843() { count++; }
+	void m3844() { count++; }
+	void m3845() { count++; }
+	void m3846() { count++; }
+	void m3847() { count++; }
+	void m3848() { count++; }
+	void m3849() { count++; }
+	void m3850() { count++; }
+	void m3851() { count++; }
+	void m3852() { count++; }
+	void m3853() { count++; }
+	void m3854() { count++; }
+	void m3855() { count++; }
+	void m3856() { count++; }
+	void m3857() { count++; }
+	void m3858() { count++; }
+	void m3859() { count++; }
+	void m3860() { count++; }
+	void m3861() { count++; }
+	void m3862() { count++; }
+	void m3863() { count++; }
+	void m3864() { count++; }
+	void m3865() { count++; }
+	void m3866() { count++; }
+	void m3867() { count++; }
+	void m3868() { count++; }
+	void m3869() { count++; }
+	void m3870() { count++; }
+	void m3871() { count++; }
+	void m3872() { count++; }
+	void m3873() { count++; }
+	void m3874() { count++; }
+	void m3875() { count++; }
+	void m3876() { count++; }
+	void m3877() { count++; }
+	void m3878() { count++; }
+	void m3879() { count++; }
+	void m3880() { count++; }
+	void m3881() { count++; }
+	void m3882() { count++; }
+	void m3883() { count++; }
+	void m3884() { count++; }
+	void m3885() { count++; }
+	void m3886() { count++; }
+	void m3887() { count++; }
+	void m3888() { count++; }
+	void m3889() { count++; }
+	void m3890() { count++; }
+	void m3891() { count++; }
+	void m3892() { count++; }
+	void m3893() { count++; }
+	void m3894() { count++; }
+	void m3895() { count++; }
+	void m3896() { count++; }
+	void m3897() { count++; }
+	void m3898() { count++; }
+	void m3899() { count++; }
+	void m3900() { count++; }
+	void m3901() { count++; }
+	void m3902() { count++; }
+	void m3903() { count++; }
+	void m3904() { count++; }
+	void m3905() { count++; }
+	void m3906() { count++; }
+	void m3907() { count++; }
+	void m3908() { count++; }
+	void m3909() { count++; }
+	void m3910() { count++; }
+	void m3911() { count++; }
+	void m3912() { count++; }
+	void m3913() { count++; }
+	void m3914() { count++; }
+	void m3915() { count++; }
+	void m3916() { count++; }
+	void m3917() { count++; }
+	void m3918() { count++; }
+	void m3919() { count++; }
+	void m3920() { count++; }
+	void m3921() { count++; }
+	void m3922() { count++; }
+	void m3923() { count++; }
+	void m3924() { count++; }
+	void m3925() { count++; }
+	void m3926() { count++; }
+	void m3927() { count++; }
+	void m3928() { count++; }
+	void m3929() { count++; }
+	void m3930() { count++; }
+	void m3931() { count++; }
+	void m3932() { count++; }
+	void m3933() { count++; }
+	void m3934() { count++; }
+	void m3935() { count++; }
+	void m3936() { count++; }
+	void m3937() { count++; }
+	void m3938() { count++; }
+	void m3939() { count++; }
+	void m3940() { count++; }
+	void m3941() { count++; }
+	void m3942() { count++; }
+	void m3943() { count++; }
+	void m3944() { count++; }
+	void m3945() { count++; }
+	void m3946() { count++; }
+	void m3947() { count++; }
+	void m3948() { count++; }
+	void m3949() { count++; }
+	void m3950() { count++; }
+	void m3951() { count++; }
+	void m3952() { count++; }
+	void m3953() { count++; }
+	void m3954() { count++; }
+	void m3955() { count++; }
+	void m3956() { count++; }
+	void m3957() { count++; }
+	void m3958() { count++; }
+	void m3959() { count++; }
+	void m3960() { count++; }
+	void m3961() { count++; }
+	void m3962() { count++; }
+	void m3963() { count++; }
+	void m3964() { count++; }
+	void m3965() { count++; }
+	void m3966() { count++; }
+	void m3967() { count++; }
+	void m3968() { count++; }
+	void m3969() { count++; }
+	void m3970() { count++; }
+	void m3971() { count++; }
+	void m3972() { count++; }
+	void m3973() { count++; }
+	void m3974() { count++; }
+	void m3975() { count++; }
+	void m3976() { count++; }
+	void m3977() { count++; }
+	void m3978() { count++; }
+	void m3979() { count++; }
+	void m3980() { count++; }
+	void m3981() { count++; }
+	void m3982() { count++; }
+	void m3983() { count++; }
+	void m3984() { count++; }
+	void m3985() { count++; }
+	void m3986() { count++; }
+	void m3987() { count++; }
+	void m3988() { count++; }
+	void m3989() { count++; }
+	void m3990() { count++; }
+	void m3991() { count++; }
+	void m3992() { count++; }
+	void m3993() { count++; }
+	void m3994() { count++; }
+	void m3995() { count++; }
+	void m3996() { count++; }
+	void m3997() { count++; }
+	void m3998() { count++; }
+	void m3999() { count++; }
+	void m4000() { count++; }
+	void m4001() { count++; }
+	void m4002() { count++; }
+	void m4003() { count++; }
+	void m4004() { count++; }
+	void m4005() { count++; }
+	void m4006() { count++; }
+	void m4007() { count++; }
+	void m4008() { count++; }
+	void m4009() { count++; }
+	void m4010() { count++; }
+	void m4011() { count++; }
+	void m4012() { count++; }
+	void m4013() { count++; }
+	void m4014() { count++; }
+	void m4015() { count++; }
+	void m4016() { count++; }
+	void m4017() { count++; }
+	void m4018() { count++; }
+	void m4019() { count++; }
+	void m4020() { count++; }
+	void m4021() { count++; }
+	void m4022() { count++; }
+	void m4023() { count++; }
+	void m4024() { count++; }
+	void m4025() { count++; }
+	void m4026() { count++; }
+	void m4027() { count++; }
+	void m4028() { count++; }
+	void m4029() { count++; }
+	void m4030() { count++; }
+	void m4031() { count++; }
+	void m4032() { count++; }
+	void m4033() { count++; }
+	void m4034() { count++; }
+	void m4035() { count++; }
+	void m4036() { count++; }
+	void m4037() { count++; }
+	void m4038() { count++; }
+	void m4039() { count++; }
+	void m4040() { count++; }
+	void m4041() { count++; }
+	void m4042() { count++; }
+	void m4043() { count++; }
+	void m4044() { count++; }
+	void m4045() { count++; }
+	void m4046() { count++; }
+	void m4047() { count++; }
+	void m4048() { count++; }
+	void m4049() { count++; }
+	void m4050() { count++; }
+	void m4051() { count++; }
+	void m4052() { count++; }
+	void m4053() { count++; }
+	void m4054() { count++; }
+	void m4055() { count++; }
+	void m4056() { count++; }
+	void m4057() { count++; }
+	void m4058() { count++; }
+	void m4059() { count++; }
+	void m4060() { count++; }
+	void m4061() { count++; }
+	void m4062() { count++; }
+	void m4063() { count++; }
+	void m4064() { count++; }
+	void m4065() { count++; }
+	void m4066() { count++; }
+	void m4067() { count++; }
+	void m4068() { count++; }
+	void m4069() { count++; }
+	void m4070() { count++; }
+	void m4071() { count++; }
+	void m4072() { count++; }
+	void m4073() { count++; }
+	void m4074() { count++; }
+	void m4075() { count++; }
+	void m4076() { count++; }
+	void m4077() { count++; }
+	void m4078() { count++; }
+	void m4079() { count++; }
+	void m4080() { count++; }
+	void m4081() { count++; }
+	void m4082() { count++; }
+	void m4083() { count++; }
+	void m4084() { count++; }
+	void m4085() { count++; }
+	void m4086() { count++; }
+	void m4087() { count++; }
+	void m4088() { count++; }
+	void m4089() { count++; }
+	void m4090() { count++; }
+	void m4091() { count++; }
+	void m4092() { count++; }
+	void m4093() { count++; }
+	void m4094() { count++; }
+	void m4095() { count++; }
+	void m4096() { count++; }
+	void m4097() { count++; }
+	void m4098() { count++; }
+	void m4099() { count++; }
+	void m4100() { count++; }
+	void m4101() { count++; }
+	void m4102() { count++; }
+	void m4103() { count++; }
+	void m4104() { count++; }
+	void m4105() { count++; }
+	void m4106() { count++; }
+	void m4107() { count++; }
+	void m4108() { count++; }
+	void m4109() { count++; }
+	void m4110() { count++; }
+	void m4111() { count++; }
+	void m4112() { count++; }
+	void m4113() { count++; }
+	void m4114() { count++; }
+	void m4115() { count++; }
+	void m4116() { count++; }
+	void m4117() { count++; }
+	void m4118() { count++; }
+	void m4119() { count++; }
+	void m4120() { count++; }
+	void m4121() { count++; }
+	void m4122() { count++; }
+	void m4123() { count++; }
+	void m4124() { count++; }
+	void m4125() { count++; }
+	void m4126() { count++; }
+	void m4127() { count++; }
+	void m4128() { count++; }
+	void m4129() { count++; }
+	void m4130() { count++; }
+	void m4131() { count++; }
+	void m4132() { count++; }
+	void m4133() { count++; }
+	void m4134() { count++; }
+	void m4135() { count++; }
+	void m4136() { count++; }
+	void m4137() { count++; }
+	void m4138() { count++; }
+	void m4139() { count++; }
+	void m4140() { count++; }
+	void m4141() { count++; }
+	void m4142() { count++; }
+	void m4143() { count++; }
+	void m4144() { count++; }
+	void m4145() { count++; }
+	void m4146() { count++; }
+	void m4147() { count++; }
+	void m4148() { count++; }
+	void m4149() { count++; }
+	void m4150() { count++; }
+	void m4151() { count++; }
+	void m4152() { count++; }
+	void m4153() { count++; }
+	void m4154() { count++; }
+	void m4155() { count++; }
+	void m4156() { count++; }
+	void m4157() { count++; }
+	void m4158() { count++; }
+	void m4159() { count++; }
+	void m4160() { count++; }
+	void m4161() { count++; }
+	void m4162() { count++; }
+	void m4163() { count++; }
+	void m4164() { count++; }
+	void m4165() { count++; }
+	void m4166() { count++; }
+	void m4167() { count++; }
+	void m4168() { count++; }
+	void m4169() { count++; }
+	void m4170() { count++; }
+	void m4171() { count++; }
+	void m4172() { count++; }
+	void m4173() { count++; }
+	void m4174() { count++; }
+	void m4175() { count++; }
+	void m4176() { count++; }
+	void m4177() { count++; }
+	void m4178() { count++; }
+	void m4179() { count++; }
+	void m4180() { count++; }
+	void m4181() { count++; }
+	void m4182() { count++; }
+	void m4183() { count++; }
+	void m4184() { count++; }
+	void m4185() { count++; }
+	void m4186() { count++; }
+	void m4187() { count++; }
+	void m4188() { count++; }
+	void m4189() { count++; }
+	void m4190() { count++; }
+	void m4191() { count++; }
+	void m4192() { count++; }
+	void m4193() { count++; }
+	void m4194() { count++; }
+	void m4195() { count++; }
+	void m4196() { count++; }
+	void m4197() { count++; }
+	void m4198() { count++; }
+	void m4199() { count++; }
+	void m4200() { count++; }
+	void m4201() { count++; }
+	void m4202() { count++; }
+	void m4203() { count++; }
+	void m4204() { count++; }
+	void m4205() { count++; }
+	void m4206() { count++; }
+	void m4207() { count++; }
+	void m4208() { count++; }
+	void m4209() { count++; }
+	void m4210() { count++; }
+	void m4211() { count++; }
+	void m4212() { count++; }
+	void m4213() { count++; }
+	void m4214() { count++; }
+	void m4215() { count++; }
+	void m4216() { count++; }
+	void m4217() { count++; }
+	void m4218() { count++; }
+	void m4219() { count++; }
+	void m4220() { count++; }
+	void m4221() { count++; }
+	void m4222() { count++; }
+	void m4223() { count++; }
+	void m4224() { count++; }
+	void m4225() { count++; }
+	void m4226() { count++; }
+	void m4227() { count++; }
+	void m4228() { count++; }
+	void m4229() { count++; }
+	void m4230() { count++; }
+	void m4231() { count++; }
+	void m4232() { count++; }
+	void m4233() { count++; }
+	void m4234() { count++; }
+	void m4235() { count++; }
+	void m4236() { count++; }
+	void m4237() { count++; }
+	void m4238() { count++; }
+	void m4239() { count++; }
+	void m4240() { count++; }
+	void m4241() { count++; }
+	void m4242() { count++; }
+	void m4243() { count++; }
+	void m4244() { count++; }
+	void m4245() { count++; }
+	void m4246() { count++; }
+	void m4247() { count++; }
+	void m4248() { count++; }
+	void m4249() { count++; }
+	void m4250() { count++; }
+	void m4251() { count++; }
+	void m4252() { count++; }
+	void m4253() { count++; }
+	void m4254() { count++; }
+	void m4255() { count++; }
+	void m4256() { count++; }
+	void m4257() { count++; }
+	void m4258() { count++; }
+	void m4259() { count++; }
+	void m4260() { count++; }
+	void m4261() { count++; }
+	void m4262() { count++; }
+	void m4263() { count++; }
+	void m4264() { count++; }
+	void m4265() { count++; }
+	void m4266() { count++; }
+	void m4267() { count++; }
+	void m4268() { count++; }
+	void m4269() { count++; }
+	void m4270() { count++; }
+	void m4271() { count++; }
+	void m4272() { count++; }
+	void m4273() { count++; }
+	void m4274() { count++; }
+	void m4275() { count++; }
+	void m4276() { count++; }
+	void m4277() { count++; }
+	void m4278() { count++; }
+	void m4279() { count++; }
+	void m4280() { count++; }
+	void m4281() { count++; }
+	void m4282() { count++; }
+	void m4283() { count++; }
+	void m4284() { count++; }
+	void m4285() { count++; }
+	void m4286() { count++; }
+	void m4287() { count++; }
+	void m4288() { count++; }
+	void m4289() { count++; }
+	void m4290() { count++; }
+	void m4291() { count++; }
+	void m4292() { count++; }
+	void m4293() { count++; }
+	void m4294() { count++; }
+	void m4295() { count++; }
+	void m4296() { count++; }
+	void m4297() { count++; }
+	void m4298() { count++; }
+	void m4299() { count++; }
+	void m4300() { count++; }
+	void m4301() { count++; }
+	void m4302() { count++; }
+	void m4303() { count++; }
+	void m4304() { count++; }
+	void m4305() { count++; }
+	void m4306() { count++; }
+	void m4307() { count++; }
+	void m4308() { count++; }
+	void m4309() { count++; }
+	void m4310() { count++; }
+	void m4311() { count++; }
+	void m4312() { count++; }
+	void m4313() { count++; }
+	void m4314() { count++; }
+	void m4315() { count++; }
+	void m4316() { count++; }
+	void m4317() { count++; }
+	void m4318() { count++; }
+	void m4319() { count++; }
+	void m4320() { count++; }
+	void m4321() { count++; }
+	void m4322() { count++; }
+	void m4323() { count++; }
+	void m4324() { count++; }
+	void m4325() { count++; }
+	void m4326() { count++; }
+	void m4327() { count++; }
+	void m4328() { count++; }
+	void m4329() { count++; }
+	void m4330() { count++; }
+	void m4331() { count++; }
+	void m4332() { count++; }
+	void m4333() { count++; }
+	void m4334() { count++; }
+	void m4335() { count++; }
+	void m4336() { count++; }
+	void m4337() { count++; }
+	void m4338() { count++; }
+	void m4339() { count++; }
+	void m4340() { count++; }
+	void m4341() { count++; }
+	void m4342() { count++; }
+	void m4343() { count++; }
+	void m4344() { count++; }
+	void m4345() { count++; }
+	void m4346() { count++; }
+	void m4347() { count++; }
+	void m4348() { count++; }
+	void m4349() { count++; }
+	void m4350() { count++; }
+	void m4351() { count++; }
+	void m4352() { count++; }
+	void m4353() { count++; }
+	void m4354() { count++; }
+	void m4355() { count++; }
+	void m4356() { count++; }
+	void m4357() { count++; }
+	void m4358() { count++; }
+	void m4359() { count++; }
+	void m4360() { count++; }
+	void m4361() { count++; }
+	void m4362() { count++; }
+	void m4363() { count++; }
+	void m4364() { count++; }
+	void m4365() { count++; }
+	void m4366() { count++; }
+	void m4367() { count++; }
+	void m4368() { count++; }
+	void m4369() { count++; }
+	void m4370() { count++; }
+	void m4371() { count++; }
+	void m4372() { count++; }
+	void m4373() { count++; }
+	void m4374() { count++; }
+	void m4375() { count++; }
+	void m4376() { count++; }
+	void m4377() { count++; }
+	void m4378() { count++; }
+	void m4379() { count++; }
+	void m4380() { count++; }
+	void m4381() { count++; }
+	void m4382() { count++; }
+	void m4383() { count++; }
+	void m4384() { count++; }
+	void m4385() { count++; }
+	void m4386() { count++; }
+	void m4387() { count++; }
+	void m4388() { count++; }
+	void m4389() { count++; }
+	void m4390() { count++; }
+	void m4391() { count++; }
+	void m4392() { count++; }
+	void m4393() { count++; }
+	void m4394() { count++; }
+	void m4395() { count++; }
+	void m4396() { count++; }
+	void m4397() { count++; }
+	void m4398() { count++; }
+	void m4399() { count++; }
+	void m4400() { count++; }
+	void m4401() { count++; }
+	void m4402() { count++; }
+	void m4403() { count++; }
+	void m4404() { count++; }
+	void m4405() { count++; }
+	void m4406() { count++; }
+	void m4407() { count++; }
+	void m4408() { count++; }
+	void m4409() { count++; }
+	void m4410() { count++; }
+	void m4411() { count++; }
+	void m4412() { count++; }
+	void m4413() { count++; }
+	void m4414() { count++; }
+	void m4415() { count++; }
+	void m4416() { count++; }
+	void m4417() { count++; }
+	void m4418() { count++; }
+	void m4419() { count++; }
+	void m4420() { count++; }
+	void m4421() { count++; }
+	void m4422() { count++; }
+	void m4423() { count++; }
+	void m4424() { count++; }
+	void m4425() { count++; }
+	void m4426() { count++; }
+	void m4427() { count++; }
+	void m4428() { count++; }
+	void m4429() { count++; }
+	void m4430() { count++; }
+	void m4431() { count++; }
+	void m4432() { count++; }
+	void m4433() { count++; }
+	void m4434() { count++; }
+	void m4435() { count++; }
+	void m4436() { count++; }
+	void m4437() { count++; }
+	void m4438() { count++; }
+	void m4439() { count++; }
+	void m4440() { count++; }
+	void m4441() { count++; }
+	void m4442() { count++; }
+	void m4443() { count++; }
+	void m4444() { count++; }
+	void m4445() { count++; }
+	void m4446() { count++; }
+	void m4447() { count++; }
+	void m4448() { count++; }
+	void m4449() { count++; }
+	void m4450() { count++; }
+	void m4451() { count++; }
+	void m4452() { count++; }
+	void m4453() { count++; }
+	void m4454() { count++; }
+	void m4455() { count++; }
+	void m4456() { count++; }
+	void m4457() { count++; }
+	void m4458() { count++; }
+	void m4459() { count++; }
+	void m4460() { count++; }
+	void m4461() { count++; }
+	void m4462() { count++; }
+	void m4463() { count++; }
+	void m4464() { count++; }
+	void m4465() { count++; }
+	void m4466() { count++; }
+	void m4467() { count++; }
+	void m4468() { count++; }
+	void m4469() { count++; }
+	void m4470() { count++; }
+	void m4471() { count++; }
+	void m4472() { count++; }
+	void m4473() { count++; }
+	void m4474() { count++; }
+	void m4475() { count++; }
+	void m4476() { count++; }
+	void m4477() { count++; }
+	void m4478() { count++; }
+	void m4479() { count++; }
+	void m4480() { count++; }
+	void m4481() { count++; }
+	void m4482() { count++; }
+	void m4483() { count++; }
+	void m4484() { count++; }
+	void m4485() { count++; }
+	void m4486() { count++; }
+	void m4487() { count++; }
+	void m4488() { count++; }
+	void m4489() { count++; }
+	void m4490() { count++; }
+	void m4491() { count++; }
+	void m4492() { count++; }
+	void m4493() { count++; }
+	void m4494() { count++; }
+	void m4495() { count++; }
+	void m4496() { count++; }
+	void m4497() { count++; }
+	void m4498() { count++; }
+	void m4499() { count++; }
+	void m4500() { count++; }
+	void m4501() { count++; }
+	void m4502() { count++; }
+	void m4503() { count++; }
+	void m4504() { count++; }
+	void m4505() { count++; }
+	void m4506() { count++; }
+	void m4507() { count++; }
+	void m4508() { count++; }
+	void m4509() { count++; }
+	void m4510() { count++; }
+	void m4511() { count++; }
+	void m4512() { count++; }
+	void m4513() { count++; }
+	void m4514() { count++; }
+	void m4515() { count++; }
+	void m4516() { count++; }
+	void m4517() { count++; }
+	void m4518() { count++; }
+	void m4519() { count++; }
+	void m4520() { count++; }
+	void m4521() { count++; }
+	void m4522() { count++; }
+	void m4523() { count++; }
+	void m4524() { count++; }
+	void m4525() { count++; }
+	void m4526() { count++; }
+	void m4527() { count++; }
+	void m4528() { count++; }
+	void m4529() { count++; }
+	void m4530() { count++; }
+	void m4531() { count++; }
+	void m4532() { count++; }
+	void m4533() { count++; }
+	void m4534() { count++; }
+	void m4535() { count++; }
+	void m4536() { count++; }
+	void m4537() { count++; }
+	void m4538() { count++; }
+	void m4539() { count++; }
+	void m4540() { count++; }
+	void m4541() { count++; }
+	void m4542() { count++; }
+	void m4543() { count++; }
+	void m4544() { count++; }
+	void m4545() { count++; }
+	void m4546() { count++; }
+	void m4547() { count++; }
+	void m4548() { count++; }
+	void m4549() { count++; }
+	void m4550() { count++; }
+	void m4551() { count++; }
+	void m4552() { count++; }
+	void m4553() { count++; }
+	void m4554() { count++; }
+	void m4555() { count++; }
+	void m4556() { count++; }
+	void m4557() { count++; }
+	void m4558() { count++; }
+	void m4559() { count++; }
+	void m4560() { count++; }
+	void m4561() { count++; }
+	void m4562() { count++; }
+	void m4563() { count++; }
+	void m4564() { count++; }
+	void m4565() { count++; }
+	void m4566() { count++; }
+	void m4567() { count++; }
+	void m4568() { count++; }
+	void m4569() { count++; }
+	void m4570() { count++; }
+	void m4571() { count++; }
+	void m4572() { count++; }
+	void m4573() { count++; }
+	void m4574() { count++; }
+	void m4575() { count++; }
+	void m4576() { count++; }
+	void m4577() { count++; }
+	void m4578() { count++; }
+	void m4579() { count++; }
+	void m4580() { count++; }
+	void m4581() { count++; }
+	void m4582() { count++; }
+	void m4583() { count++; }
+	void m4584() { count++; }
+	void m4585() { count++; }
+	void m4586() { count++; }
+	void m4587() { count++; }
+	void m4588() { count++; }
+	void m4589() { count++; }
+	void m4590() { count++; }
+	void m4591() { count++; }
+	void m4592() { count++; }
+	void m4593() { count++; }
+	void m4594() { count++; }
+	void m4595() { count++; }
+	void m4596() { count++; }
+	void m4597() { count++; }
+	void m4598() { count++; }
+	void m4599() { count++; }
+	void m4600() { count++; }
+	void m4601() { count++; }
+	void m4602() { count++; }
+	void m4603() { count++; }
+	void m4604() { count++; }
+	void m4605() { count++; }
+	void m4606() { count++; }
+	void m4607() { count++; }
+	void m4608() { count++; }
+	void m4609() { count++; }
+	void m4610() { count++; }
+	void m4611() { count++; }
+	void m4612() { count++; }
+	void m4613() { count++; }
+	void m4614() { count++; }
+	void m4615() { count++; }
+	void m4616() { count++; }
+	void m4617() { count++; }
+	void m4618() { count++; }
+	void m4619() { count++; }
+	void m4620() { count++; }
+	void m4621() { count++; }
+	void m4622() { count++; }
+	void m4623() { count++; }
+	void m4624() { count++; }
+	void m4625() { count++; }
+	void m4626() { count++; }
+	void m4627() { count++; }
+	void m4628() { count++; }
+	void m4629() { count++; }
+	void m4630() { count++; }
+	void m4631() { count++; }
+	void m4632() { count++; }
+	void m4633() { count++; }
+	void m4634() { count++; }
+	void m4635() { count++; }
+	void m4636() { count++; }
+	void m4637() { count++; }
+	void m4638() { count++; }
+	void m4639() { count++; }
+	void m4640() { count++; }
+	void m4641() { count++; }
+	void m4642() { count++; }
+	void m4643() { count++; }
+	void m4644() { count++; }
+	void m4645() { count++; }
+	void m4646() { count++; }
+	void m4647() { count++; }
+	void m4648() { count++; }
+	void m4649() { count++; }
+	void m4650() { count++; }
+	void m4651() { count++; }
+	void m4652() { count++; }
+	void m4653() { count++; }
+	void m4654() { count++; }
+	void m4655() { count++; }
+	void m4656() { count++; }
+	void m4657() { count++; }
+	void m4658() { count++; }
+	void m4659() { count++; }
+	void m4660() { count++; }
+	void m4661() { count++; }
+	void m4662() { count++; }
+	void m4663() { count++; }
+	void m4664() { count++; }
+	void m4665() { count++; }
+	void m4666() { count++; }
+	void m4667() { count++; }
+	void m4668() { count++; }
+	void m4669() { count++; }
+	void m4670() { count++; }
+	void m4671() { count++; }
+	void m4672() { count++; }
+	void m4673() { count++; }
+	void m4674() { count++; }
+	void m4675() { count++; }
+	void m4676() { count++; }
+	void m4677() { count++; }
+	void m4678() { count++; }
+	void m4679() { count++; }
+	void m4680() { count++; }
+	void m4681() { count++; }
+	void m4682() { count++; }
+	void m4683() { count++; }
+	void m4684() { count++; }
+	void m4685() { count++; }
+	void m4686() { count++; }
+	void m4687() { count++; }
+	void m4688() { count++; }
+	void m4689() { count++; }
+	void m4690() { count++; }
+	void m4691() { count++; }
+	void m4692() { count++; }
+	void m4693() { count++; }
+	void m4694() { count++; }
+	void m4695() { count++; }
+	void m4696() { count++; }
+	void m4697() { count++; }
+	void m4698() { count++; }
+	void m4699() { count++; }
+	void m4700() { count++; }
+	void m4701() { count++; }
+	void m4702() { count++; }
+	void m4703() { count++; }
+	void m4704() { count++; }
+	void m4705() { count++; }
+	void m4706() { count++; }
+	void m4707() { count++; }
+	void m4708() { count++; }
+	void m4709() { count++; }
+	void m4710() { count++; }
+	void m4711() { count++; }
+	void m4712() { count++; }
+	void m4713() { count++; }
+	void m4714() { count++; }
+	void m4715() { count++; }
+	void m4716() { count++; }
+	void m4717() { count++; }
+	void m4718() { count++; }
+	void m4719() { count++; }
+	void m4720() { count++; }
+	void m4721() { count++; }
+	void m4722() { count++; }
+	void m4723() { count++; }
+	void m4724() { count++; }
+	void m4725() { count++; }
+	void m4726() { count++; }
+	void m4727() { count++; }
+	void m4728() { count++; }
+	void m4729() { count++; }
+	void m4730() { count++; }
+	void m4731() { count++; }
+	void m4732() { count++; }
+	void m4733() { count++; }
+	void m4734() { count++; }
+	void m4735() { count++; }
+	void m4736() { count++; }
+	void m4737() { count++; }
+	void m4738() { count++; }
+	void m4739() { count++; }
+	void m4740() { count++; }
+	void m4741() { count++; }
+	void m4742() { count++; }
+	void m4743() { count++; }
+	void m4744() { count++; }
+	void m4745() { count++; }
+	void m4746() { count++; }
+	void m4747() { count++; }
+	void m4748() { count++; }
+	void m4749() { count++; }
+	void m4750() { count++; }
+	void m4751() { count++; }
+	void m4752() { count++; }
+	void m4753() { count++; }
+	void m4754() { count++; }
+	void m4755() { count++; }
+	void m4756() { count++; }
+	void m4757() { count++; }
+	void m4758() { count++; }
+	void m4759() { count++; }
+	void m4760() { count++; }
+	void m4761() { count++; }
+	void m4762() { count++; }
+	void m4763() { count++; }
+	void m4764() { count++; }
+	void m4765() { count++; }
+	void m4766() { count++; }
+	void m4767() { count++; }
+	void m4768() { count++; }
+	void m4769() { count++; }
+	void m4770() { count++; }
+	void m4771() { count++; }
+	void m4772() { count++; }
+	void m4773() { count++; }
+	void m4774() { count++; }
+	void m4775() { count++; }
+	void m4776() { count++; }
+	void m4777() { count++; }
+	void m4778() { count++; }
+	void m4779() { count++; }
+	void m4780() { count++; }
+	void m4781() { count++; }
+	void m4782() { count++; }
+	void m4783() { count++; }
+	void m4784() { count++; }
+	void m4785() { count++; }
+	void m4786() { count++; }
+	void m4787() { count++; }
+	void m4788() { count++; }
+	void m4789() { count++; }
+	void m4790() { count++; }
+	void m4791() { count++; }
+	void m4792() { count++; }
+	void m4793() { count++; }
+	void m4794() { count++; }
+	void m4795() { count++; }
+	void m4796() { count++; }
+	void m4797() { count++; }
+	void m4798() { count++; }
+	void m4799() { count++; }
+	void m4800() { count++; }
+	void m4801() { count++; }
+	void m4802() { count++; }
+	void m4803() { count++; }
+	void m4804() { count++; }
+	void m4805() { count++; }
+	void m4806() { count++; }
+	void m4807() { count++; }
+	void m4808() { count++; }
+	void m4809() { count++; }
+	void m4810() { count++; }
+	void m4811() { count++; }
+	void m4812() { count++; }
+	void m4813() { count++; }
+	void m4814() { count++; }
+	void m4815() { count++; }
+	void m4816() { count++; }
+	void m4817() { count++; }
+	void m4818() { count++; }
+	void m4819() { count++; }
+	void m4820() { count++; }
+	void m4821() { count++; }
+	void m4822() { count++; }
+	void m4823() { count++; }
+	void m4824() { count++; }
+	void m4825() { count++; }
+	void m4826() { count++; }
+	void m4827() { count++; }
+	void m4828() { count++; }
+	void m4829() { count++; }
+	void m4830() { count++; }
+	void m4831() { count++; }
+	void m4832() { count++; }
+	void m4833() { count++; }
+	void m4834() { count++; }
+	void m4835() { count++; }
+	void m4836() { count++; }
+	void m4837() { count++; }
+	void m4838() { count++; }
+	void m4839() { count++; }
+	void m4840() { count++; }
+	void m4841() { count++; }
+	void m4842() { count++; }
+	void m4843() { count++; }
+	void m4844() { count++; }
+	void m4845() { count++; }
+	void m4846() { count++; }
+	void m4847() { count++; }
+	void m4848() { count++; }
+	void m4849() { count++; }
+	void m4850() { count++; }
+	void m4851() { count++; }
+	void m4852() { count++; }
+	void m4853() { count++; }
+	void m4854() { count++; }
+	void m4855() { count++; }
+	void m4856() { count++; }
+	void m4857() { count++; }
+	void m4858() { count++; }
+	void m4859() { count++; }
+	void m4860() { count++; }
+	void m4861() { count++; }
+	void m4862() { count++; }
+	void m4863() { count++; }
+	void m4864() { count++; }
+	void m4865() { count++; }
+	void m4866() { count++; }
+	void m4867() { count++; }
+	void m4868() { count++; }
+	void m4869() { count++; }
+	void m4870() { count++; }
+	void m4871() { count++; }
+	void m4872() { count++; }
+	void m4873() { count++; }
+	void m4874() { count++; }
+	void m4875() { count++; }
+	void m4876() { count++; }
+	void m4877() { count++; }
+	void m4878() { count++; }
+	void m4879() { count++; }
+	void m4880() { count++; }
+	void m4881() { count++; }
+	void m4882() { count++; }
+	void m4883() { count++; }
+	void m4884() { count++; }
+	void m4885() { count++; }
+	void m4886() { count++; }
+	void m4887() { count++; }
+	void m4888() { count++; }
+	void m4889() { count++; }
+	void m4890() { count++; }
+	void m4891() { count++; }
+	void m4892() { count++; }
+	void m4893() { count++; }
+	void m4894() { count++; }
+	void m4895() { count++; }
+	void m4896() { count++; }
+	void m4897() { count++; }
+	void m4898() { count++; }
+	void m4899() { count++; }
+	void m4900() { count++; }
+	void m4901() { count++; }
+	void m4902() { count++; }
+	void m4903() { count++; }
+	void m4904() { count++; }
+	void m4905() { count++; }
+	void m4906() { count++; }
+	void m4907() { count++; }
+	void m4908() { count++; }
+	void m4909() { count++; }
+	void m4910() { count++; }
+	void m4911() { count++; }
+	void m4912() { count++; }
+	void m4913() { count++; }
+	void m4914() { count++; }
+	void m4915() { count++; }
+	void m4916() { count++; }
+	void m4917() { count++; }
+	void m4918() { count++; }
+	void m4919() { count++; }
+	void m4920() { count++; }
+	void m4921() { count++; }
+	void m4922() { count++; }
+	void m4923() { count++; }
+	void m4924() { count++; }
+	void m4925() { count++; }
+	void m4926() { count++; }
+	void m4927() { count++; }
+	void m4928() { count++; }
+	void m4929() { count++; }
+	void m4930() { count++; }
+	void m4931() { count++; }
+	void m4932() { count++; }
+	void m4933() { count++; }
+	void m4934() { count++; }
+	void m4935() { count++; }
+	void m4936() { count++; }
+	void m4937() { count++; }
+	void m4938() { count++; }
+	void m4939() { count++; }
+	void m4940() { count++; }
+	void m4941() { count++; }
+	void m4942() { count++; }
+	void m4943() { count++; }
+	void m4944() { count++; }
+	void m4945() { count++; }
+	void m4946() { count++; }
+	void m4947() { count++; }
+	void m4948() { count++; }
+	void m4949() { count++; }
+	void m4950() { count++; }
+	void m4951() { count++; }
+	void m4952() { count++; }
+	void m4953() { count++; }
+	void m4954() { count++; }
+	void m4955() { count++; }
+	void m4956() { count++; }
+	void m4957() { count++; }
+	void m4958() { count++; }
+	void m4959() { count++; }
+	void m4960() { count++; }
+	void m4961() { count++; }
+	void m4962() { count++; }
+	void m4963() { count++; }
+	void m4964() { count++; }
+	void m4965() { count++; }
+	void m4966() { count++; }
+	void m4967() { count++; }
+	void m4968() { count++; }
+	void m4969() { count++; }
+	void m4970() { count++; }
+	void m4971() { count++; }
+	void m4972() { count++; }
+	void m4973() { count++; }
+	void m4974() { count++; }
+	void m4975() { count++; }
+	void m4976() { count++; }
+	void m4977() { count++; }
+	void m4978() { count++; }
+	void m4979() { count++; }
+	void m4980() { count++; }
+	void m4981() { count++; }
+	void m4982() { count++; }
+	void m4983() { count++; }
+	void m4984() { count++; }
+	void m4985() { count++; }
+	void m4986() { count++; }
+	void m4987() { count++; }
+	void m4988() { count++; }
+	void m4989() { count++; }
+	void m4990() { count++; }
+	void m4991() { count++; }
+	void m4992() { count++; }
+	void m4993() { count++; }
+	void m4994() { count++; }
+	void m4995() { count++; }
+	void m4996() { count++; }
+	void m4997() { count++; }
+	void m4998() { count++; }
+	void m4999() { count++; }
+}
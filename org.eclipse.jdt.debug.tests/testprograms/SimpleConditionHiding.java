@@ -0,0 +1,57 @@
+/*******************************************************************************
+ * Copyright (c) 2015 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+/**
+ * Fields that simple breakpoint conditions must resolve as the compiler does:
+ * a hidden field, an ambiguous field and a field of an enclosing instance
+ */
+public class SimpleConditionHiding {
+
+	static class Base {
+		int fValue = 1;
+
+		void run() {
+			System.out.println(fValue); // breakpoint here
+		}
+	}
+
+	static class Sub extends Base {
+		int fValue = 2;
+	}
+
+	interface Constants {
+		int fShared = 3;
+	}
+
+	static class Holder {
+		int fShared = 4;
+	}
+
+	static class Ambiguous extends Holder implements Constants {
+		void run() {
+			System.out.println(this); // breakpoint here
+		}
+	}
+
+	int fOuter = 5;
+
+	class Inner {
+		void run() {
+			System.out.println(fOuter); // breakpoint here
+		}
+	}
+
+	public static void main(String[] args) {
+		new Sub().run();
+		new Ambiguous().run();
+		new SimpleConditionHiding().new Inner().run();
+	}
+}
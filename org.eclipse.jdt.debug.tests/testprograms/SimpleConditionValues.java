@@ -0,0 +1,35 @@
+/*******************************************************************************
+ * Copyright (c) 2015 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ * 
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+/**
+ * Values of each kind compared by simple breakpoint conditions
+ */
+public class SimpleConditionValues {
+
+	int fCount = 7;
+
+	public static void main(String[] args) {
+		new SimpleConditionValues().run();
+	}
+
+	void run() {
+		int i = -1;
+		long big = 4294967295L;
+		double nan = Double.NaN;
+		float f = 0.1f;
+		float twoTo24 = 16777216f;
+		char c = 'a';
+		String name = "name";
+		String none = null;
+		Object object = new Object();
+		System.out.println(name + i + big + nan + f + twoTo24 + c + none + object); // breakpoint here
+	}
+}
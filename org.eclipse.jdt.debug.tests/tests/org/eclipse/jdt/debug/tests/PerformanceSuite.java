@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2011 IBM Corporation and others.
+ *  Copyright (c) 2000, 2015 IBM Corporation and others.
  *  All rights reserved. This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License v1.0
  *  which accompanies this distribution, and is available at
@@ -14,12 +14,21 @@ import junit.framework.Test;
 import junit.framework.TestSuite;
 
 import org.eclipse.jdt.debug.tests.performance.BreakpointManagerPerfTests;
+import org.eclipse.jdt.debug.tests.performance.EventDispatchPerfTests;
+import org.eclipse.jdt.debug.tests.performance.JDIMirrorLookupPerfTests;
+import org.eclipse.jdt.debug.tests.performance.LineTablePerfTests;
+import org.eclipse.jdt.debug.tests.performance.PacketCapturePerfTests;
+import org.eclipse.jdt.debug.tests.performance.PacketReceiveManagerPerfTests;
 import org.eclipse.jdt.debug.tests.performance.PerfBreakpointTests;
 import org.eclipse.jdt.debug.tests.performance.PerfConditionalBreakpointsTests;
 import org.eclipse.jdt.debug.tests.performance.PerfConsoleTests;
 import org.eclipse.jdt.debug.tests.performance.PerfContextualLaunchMenu;
+import org.eclipse.jdt.debug.tests.performance.PerfEvaluationTests;
 import org.eclipse.jdt.debug.tests.performance.PerfSteppingTests;
 import org.eclipse.jdt.debug.tests.performance.PerfVariableDetailTests;
+import org.eclipse.jdt.debug.tests.performance.SharedSelectorPerfTests;
+import org.eclipse.jdt.debug.tests.performance.StratumLineIndexPerfTests;
+import org.eclipse.jdt.debug.tests.performance.StubVMPerfTests;
 
 /**
  * Tests for integration and nightly builds.
@@ -47,5 +56,14 @@ public class PerformanceSuite extends DebugSuite {
         addTest(new TestSuite(PerfConsoleTests.class));
         addTest(new TestSuite(PerfVariableDetailTests.class));
         addTest(new TestSuite(BreakpointManagerPerfTests.class));
+        addTest(new TestSuite(PacketReceiveManagerPerfTests.class));
+        addTest(new TestSuite(JDIMirrorLookupPerfTests.class));
+        addTest(new TestSuite(EventDispatchPerfTests.class));
+        addTest(new TestSuite(LineTablePerfTests.class));
+        addTest(new TestSuite(StratumLineIndexPerfTests.class));
+        addTest(new TestSuite(PacketCapturePerfTests.class));
+        addTest(new TestSuite(SharedSelectorPerfTests.class));
+        addTest(new TestSuite(StubVMPerfTests.class));
+        addTest(new TestSuite(PerfEvaluationTests.class));
     }
 }
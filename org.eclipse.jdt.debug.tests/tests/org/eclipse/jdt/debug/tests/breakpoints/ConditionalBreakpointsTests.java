@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2013 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,6 +10,8 @@
  *******************************************************************************/
 package org.eclipse.jdt.debug.tests.breakpoints;
 
+import org.eclipse.core.runtime.preferences.IEclipsePreferences;
+import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.debug.core.model.IBreakpoint;
 import org.eclipse.debug.core.model.IStackFrame;
 import org.eclipse.debug.core.model.IVariable;
@@ -18,6 +20,9 @@ import org.eclipse.jdt.debug.core.IJavaPrimitiveValue;
 import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
+import org.eclipse.jdt.internal.debug.core.breakpoints.CompiledExpressionCache;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 
 /**
  * Tests conditional breakpoints.
@@ -60,6 +65,64 @@ public class ConditionalBreakpointsTests extends AbstractDebugTest {
 		}		
 	}
 
+	/**
+	 * Tests that a condition is compiled once and reused for later hits
+	 * @throws Exception
+	 */
+	public void testCompiledConditionIsCached() throws Exception {
+		String typeName = "HitCountLooper";
+		IJavaLineBreakpoint bp = createConditionalLineBreakpoint(16, typeName, "i == 3", true);
+		
+		IJavaThread thread= null;
+		try {
+			thread= launchToLineBreakpoint(typeName, bp);
+
+			CompiledExpressionCache cache = ((JDIDebugTarget)thread.getDebugTarget()).getCompiledExpressionCache();
+			assertEquals("The condition should have been compiled once", 1, cache.getMissCount());
+			assertEquals("The compiled condition should have been reused for the later hits", 3, cache.getHitCount());
+			
+			bp.delete();
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}		
+	}
+
+	/**
+	 * Tests that a simple condition is evaluated without compiling it when
+	 * simple conditions are evaluated directly
+	 * @throws Exception
+	 */
+	public void testSimpleConditionEvaluatedDirectly() throws Exception {
+		String typeName = "HitCountLooper";
+		IJavaLineBreakpoint bp = createConditionalLineBreakpoint(16, typeName, "i == 3 && args != null", true);
+		
+		IEclipsePreferences node = InstanceScope.INSTANCE.getNode(JDIDebugPlugin.getUniqueIdentifier());
+		node.putBoolean(JDIDebugPlugin.PREF_EVALUATE_SIMPLE_CONDITIONS, true);
+		IJavaThread thread= null;
+		try {
+			thread= launchToLineBreakpoint(typeName, bp);
+
+			IJavaStackFrame frame = (IJavaStackFrame)thread.getTopStackFrame();
+			IVariable var = findVariable(frame, "i");
+			assertNotNull("Could not find variable 'i'", var);
+			
+			IJavaPrimitiveValue value = (IJavaPrimitiveValue)var.getValue();
+			assertNotNull("variable 'i' has no value", value);
+			int iValue = value.getIntValue();
+			assertTrue("value of 'i' should be '3', but was " + iValue, iValue == 3);
+			
+			CompiledExpressionCache cache = ((JDIDebugTarget)thread.getDebugTarget()).getCompiledExpressionCache();
+			assertEquals("The condition should not have been compiled", 0, cache.getMissCount());
+			
+			bp.delete();
+		} finally {
+			node.remove(JDIDebugPlugin.PREF_EVALUATE_SIMPLE_CONDITIONS);
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}		
+	}
+
 	/**
 	 * Tests a static method call that has a conditional breakpoint on it
 	 * @throws Exception
@@ -127,6 +190,28 @@ public class ConditionalBreakpointsTests extends AbstractDebugTest {
 		}		
 	}
 
+	/**
+	 * Tests that conditions that wait for a lock held by another suspended
+	 * thread do not keep the event set of that thread from being handled. The
+	 * waiting conditions outnumber the workers that dispatch event sets.
+	 * @throws Exception
+	 */
+	public void testConditionWaitingForLockOfSuspendedThread() throws Exception {
+		String typeName = "ConditionLockWait";
+		createConditionalLineBreakpoint(45, typeName, "acquire()", true);
+		createConditionalLineBreakpoint(36, typeName, "held == 0", true);
+		IJavaLineBreakpoint bp = createLineBreakpoint(41, typeName);
+		
+		IJavaThread thread= null;
+		try {
+			thread= launchToLineBreakpoint(typeName, bp);
+			assertEquals("Should have suspended once all the waiters were done", "main", thread.getName());
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}		
+	}
+
 	/**
 	 * Tests a conditional step return
 	 * @throws Exception
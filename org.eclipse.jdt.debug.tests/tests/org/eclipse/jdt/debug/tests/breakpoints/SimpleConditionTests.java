@@ -0,0 +1,249 @@
+/*******************************************************************************
+ * Copyright (c) 2015 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.breakpoints;
+
+import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
+import org.eclipse.jdt.debug.core.IJavaStackFrame;
+import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.breakpoints.SimpleCondition;
+
+/**
+ * Tests breakpoint conditions evaluated from the values of the stack frame,
+ * without the evaluation engine.
+ */
+public class SimpleConditionTests extends AbstractDebugTest {
+
+	private static final String TYPE_NAME = "SimpleConditionValues";
+
+	private static final int LINE_NUMBER = 33;
+
+	/**
+	 * Constructor
+	 * @param name
+	 */
+	public SimpleConditionTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * Tests that number literals have the type and the value the compiler
+	 * gives them
+	 * @throws Exception
+	 */
+	public void testLiteralTyping() throws Exception {
+		createLineBreakpoint(LINE_NUMBER, TYPE_NAME);
+		IJavaThread thread = null;
+		try {
+			thread = launchToBreakpoint(TYPE_NAME);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			assertCondition(Boolean.TRUE, "i == 0xFFFFFFFF", frame);
+			assertCondition(Boolean.TRUE, "0x80000000 < 0", frame);
+			assertCondition(Boolean.TRUE, "0x80000000 == -2147483648", frame);
+			assertCondition(Boolean.TRUE, "-0x80000000 == 0x80000000", frame);
+			assertCondition(Boolean.TRUE, "i == 037777777777", frame);
+			assertCondition(Boolean.TRUE, "i == 0b11111111111111111111111111111111", frame);
+			assertCondition(Boolean.TRUE, "i == -1", frame);
+			assertCondition(Boolean.FALSE, "i == 0xFFFFFFFFL", frame);
+			assertCondition(Boolean.TRUE, "big == 0xFFFFFFFFL", frame);
+			assertCondition(Boolean.TRUE, "big == 4_294_967_295L", frame);
+			assertCondition(Boolean.TRUE, "0xFFFFFFFFFFFFFFFFL == -1", frame);
+			assertCondition(Boolean.TRUE, "f == 0.1f", frame);
+			assertCondition(Boolean.FALSE, "f == 0.1", frame);
+			assertCondition(Boolean.TRUE, "c == 'a'", frame);
+			assertCondition(Boolean.TRUE, "c == 97", frame);
+			assertCondition(Boolean.TRUE, "fCount == 7 && this.fCount >= 7", frame);
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that comparisons of integral and <code>float</code> values are
+	 * done in <code>float</code>, and comparisons with <code>double</code>
+	 * values in <code>double</code>, as the compiler does
+	 * @throws Exception
+	 */
+	public void testFloatPromotion() throws Exception {
+		createLineBreakpoint(LINE_NUMBER, TYPE_NAME);
+		IJavaThread thread = null;
+		try {
+			thread = launchToBreakpoint(TYPE_NAME);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			// 16777217 is not representable as a float, and rounds to 16777216f
+			assertCondition(Boolean.TRUE, "twoTo24 == 16777217", frame);
+			assertCondition(Boolean.TRUE, "16777217 == twoTo24", frame);
+			assertCondition(Boolean.TRUE, "twoTo24 == 16777217L", frame);
+			assertCondition(Boolean.FALSE, "twoTo24 < 16777217", frame);
+			assertCondition(Boolean.TRUE, "twoTo24 == 16777217f", frame);
+			assertCondition(Boolean.FALSE, "twoTo24 == 16777217.0", frame);
+			assertCondition(Boolean.TRUE, "twoTo24 < 16777217.0", frame);
+			assertCondition(Boolean.TRUE, "f == 0.1f", frame);
+			assertCondition(Boolean.FALSE, "f == 0.1", frame);
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that comparisons with NaN are left to the engine
+	 * @throws Exception
+	 */
+	public void testNaN() throws Exception {
+		createLineBreakpoint(LINE_NUMBER, TYPE_NAME);
+		IJavaThread thread = null;
+		try {
+			thread = launchToBreakpoint(TYPE_NAME);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			assertCondition(null, "nan == nan", frame);
+			assertCondition(null, "nan != 1.0", frame);
+			assertCondition(null, "nan < 1", frame);
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests String equals with string literals and string objects
+	 * @throws Exception
+	 */
+	public void testStringEquals() throws Exception {
+		createLineBreakpoint(LINE_NUMBER, TYPE_NAME);
+		IJavaThread thread = null;
+		try {
+			thread = launchToBreakpoint(TYPE_NAME);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			assertCondition(Boolean.TRUE, "name.equals(\"name\")", frame);
+			assertCondition(Boolean.TRUE, "\"name\".equals(name)", frame);
+			assertCondition(Boolean.FALSE, "name.equals(\"other\")", frame);
+			assertCondition(Boolean.FALSE, "name.equals(none)", frame);
+			assertCondition(Boolean.TRUE, "!name.equals(object)", frame);
+			// a null receiver throws, and other receivers may override equals
+			assertCondition(null, "none.equals(name)", frame);
+			assertCondition(null, "object.equals(name)", frame);
+			// string literals are compared by identity with interned strings
+			assertCondition(null, "name == \"name\"", frame);
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests comparisons with null
+	 * @throws Exception
+	 */
+	public void testNull() throws Exception {
+		createLineBreakpoint(LINE_NUMBER, TYPE_NAME);
+		IJavaThread thread = null;
+		try {
+			thread = launchToBreakpoint(TYPE_NAME);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			assertCondition(Boolean.TRUE, "none == null", frame);
+			assertCondition(Boolean.TRUE, "null == none", frame);
+			assertCondition(Boolean.FALSE, "name == null", frame);
+			assertCondition(Boolean.TRUE, "object != null && name != null", frame);
+			assertCondition(Boolean.TRUE, "object == object", frame);
+			assertCondition(Boolean.FALSE, "object == name", frame);
+			assertCondition(null, "i == null", frame);
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that names resolve to the fields of the type declaring the method,
+	 * not of the runtime type of <code>this</code>, and that ambiguous names
+	 * and fields of enclosing instances are left to the engine
+	 * @throws Exception
+	 */
+	public void testHiddenField() throws Exception {
+		String typeName = "SimpleConditionHiding";
+		createLineBreakpoint(22, typeName);
+		IJavaLineBreakpoint ambiguous = createLineBreakpoint(40, typeName);
+		IJavaLineBreakpoint outer = createLineBreakpoint(48, typeName);
+		IJavaThread thread = null;
+		try {
+			thread = launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			// this is a Sub, whose fValue hides the fValue of Base
+			assertCondition(Boolean.TRUE, "fValue == 1", frame);
+			assertCondition(Boolean.TRUE, "this.fValue == 1", frame);
+
+			thread = resumeToLineBreakpoint(thread, ambiguous);
+			frame = (IJavaStackFrame) thread.getTopStackFrame();
+			assertCondition(null, "fShared == 3", frame);
+			assertCondition(null, "this.fShared == 4", frame);
+
+			thread = resumeToLineBreakpoint(thread, outer);
+			frame = (IJavaStackFrame) thread.getTopStackFrame();
+			assertCondition(null, "fOuter == 5", frame);
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests that the conditions that are not simple are left to the engine
+	 * @throws Exception
+	 */
+	public void testFallBackToEngine() throws Exception {
+		// not parsed as simple conditions
+		assertNull("2147483648 is out of the range of int", SimpleCondition.parse("i == 2147483648"));
+		assertNull("9223372036854775808L is out of the range of long", SimpleCondition.parse("big == 9223372036854775808L"));
+		assertNull("0x100000000 is out of the range of int", SimpleCondition.parse("i == 0x100000000"));
+		assertNull("Hexadecimal floating point literals are not supported", SimpleCondition.parse("f == 0x1p3"));
+		assertNull("1e400 is too large", SimpleCondition.parse("nan < 1e400"));
+		assertNull("Arithmetic is not supported", SimpleCondition.parse("i + 1 == 0"));
+		assertNull("Method calls are not supported", SimpleCondition.parse("Math.abs(i) == 1"));
+		assertNull("Qualified names are not supported", SimpleCondition.parse("System.out != null"));
+		assertNull("Malformed conditions are not supported", SimpleCondition.parse("i == "));
+
+		// parsed, but not evaluated from the frame values
+		createLineBreakpoint(LINE_NUMBER, TYPE_NAME);
+		IJavaThread thread = null;
+		try {
+			thread = launchToBreakpoint(TYPE_NAME);
+			assertNotNull("Breakpoint not hit within timeout period", thread);
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			assertCondition(null, "unknown == 1", frame);
+			assertCondition(null, "this.unknown == 1", frame);
+			assertCondition(null, "i", frame);
+			assertCondition(null, "i && true", frame);
+			assertCondition(null, "name < 1", frame);
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Asserts that the given condition is a simple condition with the given
+	 * value in the given frame, or <code>null</code> if its evaluation is left
+	 * to the engine.
+	 */
+	private void assertCondition(Boolean expected, String condition, IJavaStackFrame frame) throws Exception {
+		SimpleCondition simple = SimpleCondition.parse(condition);
+		assertNotNull("Not a simple condition: " + condition, simple);
+		assertEquals("Wrong value for: " + condition, expected, simple.evaluate(frame));
+	}
+}
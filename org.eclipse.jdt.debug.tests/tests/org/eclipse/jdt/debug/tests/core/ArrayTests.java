@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -21,6 +21,7 @@ import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.model.JDIArrayValue;
 
 /**
  * Tests indexed collection API
@@ -98,6 +99,40 @@ public class ArrayTests extends AbstractDebugTest {
 		}				
 	}	
 	
+	/**
+	 * Tests that the entries of a range read together see a value set after
+	 * the range was created.
+	 * 
+	 * @throws Exception
+	 */
+	public void testGetVariableRangeAfterSetValue() throws Exception {
+		String typeName = "ArrayTests";
+		ILineBreakpoint bp = createLineBreakpoint(19, typeName);
+		
+		IJavaThread thread = null;
+		try {
+			thread= launchToLineBreakpoint(typeName, bp);
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			assertNotNull(frame);
+			IJavaVariable v = findVariable(frame, "array");
+			assertNotNull(v);
+			IJavaArray array = (IJavaArray) v.getValue();
+			assertNotNull(array);
+			IVariable[] variables = array.getVariables(50, 15);
+			assertNotNull(variables);
+			IJavaDebugTarget target = (IJavaDebugTarget) frame.getDebugTarget();
+			assertEquals("Wrong value", target.newValue(50), variables[0].getValue());
+			array.setValue(51, target.newValue(-1));
+			assertEquals("Wrong value after set", target.newValue(-1), variables[1].getValue());
+			for (int i = 2; i < 15; i++) {
+				assertEquals("Wrong value", target.newValue(50 + i), variables[i].getValue());
+			}
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}				
+	}	
+	
 	public void testSetValueRange() throws Exception {
 		String typeName = "ByteArrayTests";
 		ILineBreakpoint bp = createLineBreakpoint(27, typeName);
@@ -642,4 +677,40 @@ public class ArrayTests extends AbstractDebugTest {
 			removeAllBreakpoints();
 		}	
 	}
+
+	/**
+	 * Tests that the values of a primitive array read while the reading thread
+	 * stays suspended reflect the writes other threads make in the meantime.
+	 * 
+	 * @throws Exception
+	 */
+	public void testReadArrayWrittenByRunningThread() throws Exception {
+		String typeName = "ArrayWriter";
+		ILineBreakpoint bp = createLineBreakpoint(41, typeName);
+		
+		IJavaThread thread = null;
+		try {
+			thread= launchToLineBreakpoint(typeName, bp);
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			assertNotNull(frame);
+			IJavaVariable v = findVariable(frame, "fgArray");
+			assertNotNull(v);
+			JDIArrayValue array = (JDIArrayValue) v.getValue();
+			IJavaVariable entry = (IJavaVariable) array.getVariables(0, 1)[0];
+			int first = ((IJavaPrimitiveValue) entry.getValue()).getIntValue();
+			int firstValue = ((IJavaPrimitiveValue) array.getValue(0)).getIntValue();
+			int firstValues = ((IJavaPrimitiveValue) array.getValues(0, 1)[0]).getIntValue();
+			assertTrue("The writer thread should be running", thread.isSuspended() && !thread.getDebugTarget().isSuspended());
+			Thread.sleep(500);
+			int second = ((IJavaPrimitiveValue) entry.getValue()).getIntValue();
+			assertTrue("Array entry value should have changed", second > first);
+			int secondValue = ((IJavaPrimitiveValue) array.getValue(0)).getIntValue();
+			assertTrue("Array value should have changed", secondValue > firstValue);
+			int secondValues = ((IJavaPrimitiveValue) array.getValues(0, 1)[0]).getIntValue();
+			assertTrue("Array values should have changed", secondValues > firstValues);
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2014 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,6 +10,9 @@
  *******************************************************************************/
 package org.eclipse.jdt.debug.tests.core;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.jdt.core.IBuffer;
@@ -24,6 +27,8 @@ import org.eclipse.jdt.debug.testplugin.DebugElementEventWaiter;
 import org.eclipse.jdt.debug.testplugin.DebugEventWaiter;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
 import org.eclipse.jdt.debug.tests.TestAgainException;
+import org.eclipse.jdt.internal.debug.core.hcr.HotCodeReplaceTimings;
+import org.eclipse.jdt.internal.debug.core.hcr.IHotCodeReplaceTimingsListener;
 
 /**
  * Tests hot code replace
@@ -86,6 +91,36 @@ public class HcrTests extends AbstractDebugTest {
 		
 	}
 	
+	class HCRTimingsListener extends HCRListener implements IHotCodeReplaceTimingsListener {
+
+		List<HotCodeReplaceTimings> timings = new ArrayList<HotCodeReplaceTimings>();
+
+		/* (non-Javadoc)
+		 * @see org.eclipse.jdt.internal.debug.core.hcr.IHotCodeReplaceTimingsListener#hotCodeReplaceTimings(org.eclipse.jdt.internal.debug.core.hcr.HotCodeReplaceTimings)
+		 */
+		public synchronized void hotCodeReplaceTimings(HotCodeReplaceTimings t) {
+			timings.add(t);
+			notifyAll();
+		}
+
+		/**
+		 * Waits for the timings of the given number of targets.
+		 * 
+		 * @param count the number of targets
+		 * @return the timings received
+		 */
+		public synchronized List<HotCodeReplaceTimings> waitTimings(int count) {
+			long end = System.currentTimeMillis() + AbstractDebugTest.DEFAULT_TIMEOUT;
+			while (timings.size() < count && System.currentTimeMillis() < end) {
+				try {
+					wait(end - System.currentTimeMillis());
+				} catch (InterruptedException e) {
+				}
+			}
+			return new ArrayList<HotCodeReplaceTimings>(timings);
+		}
+	}
+
 	public HcrTests(String name) {
 		super(name);
 	}
@@ -235,6 +270,66 @@ public class HcrTests extends AbstractDebugTest {
 		}		
 	}
 	
+	/**
+	 * Tests that hot code replace is performed in each of two targets, and
+	 * that a listener is told the time spent in each phase in each target.
+	 * 
+	 * @throws Exception
+	 */
+	public void testHcrTimingsInTwoTargets() throws Exception {
+		String typeName = "org.eclipse.debug.tests.targets.HcrClass";
+		createLineBreakpoint(39, typeName);		
+		HCRTimingsListener listener = new HCRTimingsListener();
+		JDIDebugModel.addHotCodeReplaceListener(listener);
+		IJavaThread thread1 = null;
+		IJavaThread thread2 = null;
+		try {
+			thread1 = launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread1);
+			thread2 = launchToBreakpoint(typeName);
+			assertNotNull("Breakpoint not hit within timeout period", thread2);
+			
+			IJavaDebugTarget target1 = (IJavaDebugTarget)thread1.getDebugTarget();
+			IJavaDebugTarget target2 = (IJavaDebugTarget)thread2.getDebugTarget();
+			if (target1.supportsHotCodeReplace()) {
+				removeAllBreakpoints();
+				// now do the HCR
+				ICompilationUnit cu = getCompilationUnit(get14Project(), "src", "org.eclipse.debug.tests.targets", "HcrClass.java");
+				cu = cu.getPrimary();
+				if (!cu.isWorkingCopy()) {
+					cu = cu.getWorkingCopy(null);
+				}
+				assertTrue("HcrClass.java does not exist", cu.exists());
+				IBuffer buffer = cu.getBuffer();
+				String contents = buffer.getContents();
+				int index = contents.indexOf("\"One\"");
+				assertTrue("Could not find code to replace", index > 0);
+				String newCode = contents.substring(0, index) + "\"Two\"" + contents.substring(index + 5);
+				buffer.setContents(newCode);
+				
+				// save contents
+				cu.commitWorkingCopy(true, null);
+				waitForBuild();
+				List<HotCodeReplaceTimings> timings = listener.waitTimings(2);
+				assertEquals("Timings should have been reported for both targets", 2, timings.size());
+				assertTrue("Timings should be for both targets", 
+						timings.get(0).getTarget() != timings.get(1).getTarget());
+				for (HotCodeReplaceTimings t : timings) {
+					assertTrue("Wrong target", t.getTarget() == target1 || t.getTarget() == target2);
+					assertTrue("Redefinition should take time", t.getTime(HotCodeReplaceTimings.REDEFINITION) > 0);
+					assertTrue("Total should include the phases", t.getTotalTime() >= t.getTime(HotCodeReplaceTimings.REDEFINITION));
+				}
+			} else {
+				System.err.println("Warning: HCR test skipped since target VM does not support HCR.");
+			}
+		} finally {
+			terminateAndRemove(thread1);
+			terminateAndRemove(thread2);
+			removeAllBreakpoints();
+			JDIDebugModel.removeHotCodeReplaceListener(listener);
+		}		
+	}
+	
 	/**
 	 * Tests that a target specific listener overrides a generic listener.
 	 * 
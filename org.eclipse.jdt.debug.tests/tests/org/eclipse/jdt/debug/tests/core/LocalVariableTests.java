@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2012 IBM Corporation and others.
+ *  Copyright (c) 2000, 2015 IBM Corporation and others.
  *  All rights reserved. This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License v1.0
  *  which accompanies this distribution, and is available at
@@ -10,18 +10,23 @@
  *******************************************************************************/
 package org.eclipse.jdt.debug.tests.core;
 
+import org.eclipse.debug.core.model.IDebugTarget;
 import org.eclipse.debug.core.model.ILineBreakpoint;
 import org.eclipse.debug.core.model.IValue;
 import org.eclipse.debug.core.model.IVariable;
 import org.eclipse.debug.ui.DebugUITools;
 import org.eclipse.debug.ui.IDebugModelPresentation;
 import org.eclipse.debug.ui.IValueDetailListener;
+import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpMetrics;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
 import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
 import org.eclipse.jdt.internal.debug.core.model.JDIArrayValue;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 import org.eclipse.jdt.internal.debug.core.model.JDILocalVariable;
 import org.eclipse.jdt.internal.debug.core.model.JDINullValue;
 
@@ -153,6 +158,107 @@ public class LocalVariableTests extends AbstractDebugTest implements IValueDetai
 		}		
 	}		
 	
+	/**
+	 * Tests that the values of the locals of a frame are fetched with one
+	 * request when the frame is expanded, and are not returned once the thread
+	 * has resumed
+	 * 
+	 * @throws Exception
+	 */
+	public void testPrefetchedValuesAfterResume() throws Exception {
+		String typeName = "HitCountLooper";
+		ILineBreakpoint bp = createLineBreakpoint(16, typeName);
+		
+		IJavaThread thread= null;
+		try {
+			thread= launchToLineBreakpoint(typeName, bp);
+			IJavaStackFrame frame = (IJavaStackFrame)thread.getTopStackFrame();
+			IJavaDebugTarget target = (IJavaDebugTarget)frame.getDebugTarget();
+			long frameValues = getRequestCount(target, JdwpCommandPacket.SF_GET_VALUES);
+			long objectValues = getRequestCount(target, JdwpCommandPacket.OR_GET_VALUES);
+			IVariable[] vars = frame.getVariables();
+			assertEquals("Should be two variables", 2, vars.length);
+			IVariable i = vars[1];
+			assertEquals("Second variable should be 'i'", "i", i.getName());
+			assertEquals("'i' value should be '0'", target.newValue(0), i.getValue());
+			vars[0].getValue();
+			assertEquals("The locals should be fetched with one request", frameValues + 1, getRequestCount(target, JdwpCommandPacket.SF_GET_VALUES));
+			assertEquals("No object should be read", objectValues, getRequestCount(target, JdwpCommandPacket.OR_GET_VALUES));
+			
+			thread = resumeToLineBreakpoint(thread, bp);
+			frameValues = getRequestCount(target, JdwpCommandPacket.SF_GET_VALUES);
+			// the value fetched with the variables on the first suspend is stale
+			assertEquals("'i' value should be '1'", target.newValue(1), i.getValue());
+			assertEquals("The stale value should be fetched again", frameValues + 1, getRequestCount(target, JdwpCommandPacket.SF_GET_VALUES));
+			
+			thread = resumeToLineBreakpoint(thread, bp);
+			frame = (IJavaStackFrame)thread.getTopStackFrame();
+			frameValues = getRequestCount(target, JdwpCommandPacket.SF_GET_VALUES);
+			vars = frame.getVariables();
+			assertEquals("'i' value should be '2'", target.newValue(2), vars[1].getValue());
+			assertEquals("'i' value should still be '2'", target.newValue(2), vars[1].getValue());
+			vars[0].getValue();
+			assertEquals("The locals should be fetched again with one request", frameValues + 1, getRequestCount(target, JdwpCommandPacket.SF_GET_VALUES));
+			assertEquals("No object should be read", objectValues, getRequestCount(target, JdwpCommandPacket.OR_GET_VALUES));
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+	
+	/**
+	 * Tests that the values of the fields of <code>this</code> are fetched
+	 * with one request when it is expanded, and those of the locals with
+	 * another
+	 * 
+	 * @throws Exception
+	 */
+	public void testPrefetchedFieldValues() throws Exception {
+		String typeName = "SimpleConditionValues";
+		ILineBreakpoint bp = createLineBreakpoint(33, typeName);
+		
+		IJavaThread thread= null;
+		try {
+			thread= launchToLineBreakpoint(typeName, bp);
+			IJavaStackFrame frame = (IJavaStackFrame)thread.getTopStackFrame();
+			IJavaDebugTarget target = (IJavaDebugTarget)frame.getDebugTarget();
+			long frameValues = getRequestCount(target, JdwpCommandPacket.SF_GET_VALUES);
+			long objectValues = getRequestCount(target, JdwpCommandPacket.OR_GET_VALUES);
+			IVariable[] vars = frame.getVariables();
+			IVariable thisVariable = null;
+			for (int i = 0; i < vars.length; i++) {
+				if (vars[i].getName().equals("this")) {
+					thisVariable = vars[i];
+				} else {
+					vars[i].getValue();
+				}
+			}
+			assertNotNull("Could not find variable 'this'", thisVariable);
+			assertEquals("The locals should be fetched with one request", frameValues + 1, getRequestCount(target, JdwpCommandPacket.SF_GET_VALUES));
+			
+			IVariable[] fields = thisVariable.getValue().getVariables();
+			assertTrue("'this' should have fields", fields.length > 0);
+			for (int i = 0; i < fields.length; i++) {
+				fields[i].getValue();
+			}
+			assertEquals("The fields should be fetched with one request", objectValues + 1, getRequestCount(target, JdwpCommandPacket.OR_GET_VALUES));
+			assertEquals("No local should be fetched again", frameValues + 1, getRequestCount(target, JdwpCommandPacket.SF_GET_VALUES));
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+	
+	/**
+	 * Returns the number of requests with the given command sent to the VM of
+	 * the given target so far.
+	 */
+	private long getRequestCount(IDebugTarget target, int command) {
+		VirtualMachineImpl vm = (VirtualMachineImpl) ((JDIDebugTarget) target).getVM();
+		JdwpMetrics.CommandMetrics metrics = vm.metrics().getCommandMetrics(command);
+		return metrics == null ? 0 : metrics.getCount();
+	}
+	
 	protected void doArrayDetailTestNonDefPkg(String varName, String expectedDetails) throws Exception {
 		doArrayDetailTest(varName, expectedDetails, "org.eclipse.debug.tests.targets.ArrayDetailTests", 64);
 	}
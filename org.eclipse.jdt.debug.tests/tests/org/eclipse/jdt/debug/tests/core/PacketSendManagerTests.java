@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2015 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.core;
+
+import java.io.IOException;
+
+import junit.framework.TestCase;
+
+import org.eclipse.jdi.internal.connect.PacketSendManager;
+import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+
+import com.sun.jdi.connect.spi.Connection;
+
+/**
+ * Tests the gathering of outgoing packets into flushes by the
+ * {@link PacketSendManager}. No target VM is needed.
+ */
+public class PacketSendManagerTests extends TestCase {
+
+	/**
+	 * Number of packets sent
+	 */
+	private static final int PACKETS = 20;
+
+	/**
+	 * A connection that counts the packets written to it.
+	 */
+	static class CountingConnection extends Connection {
+		private int fWritten = 0;
+		private boolean fOpen = true;
+
+		@Override
+		public synchronized void close() {
+			fOpen = false;
+		}
+
+		@Override
+		public synchronized boolean isOpen() {
+			return fOpen;
+		}
+
+		@Override
+		public byte[] readPacket() throws IOException {
+			throw new IOException("Nothing to read"); //$NON-NLS-1$
+		}
+
+		@Override
+		public synchronized void writePacket(byte[] packet) {
+			fWritten++;
+		}
+
+		synchronized int getWritten() {
+			return fWritten;
+		}
+	}
+
+	/**
+	 * Constructor
+	 * @param name
+	 */
+	public PacketSendManagerTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * Tests that packets sent while the first one waits for the flush
+	 * latency are written with it
+	 * @throws Exception
+	 */
+	public void testFlushLatencyGathersPackets() throws Exception {
+		CountingConnection connection = new CountingConnection();
+		PacketSendManager manager = new PacketSendManager(connection);
+		manager.setMaxFlushLatency(500);
+		Thread thread = new Thread(manager, "Packet Send Manager"); //$NON-NLS-1$
+		thread.setDaemon(true);
+		thread.start();
+		try {
+			for (int i = 0; i < PACKETS; i++) {
+				manager.sendPacket(new JdwpCommandPacket(JdwpCommandPacket.VM_VERSION));
+			}
+			long timeout = System.currentTimeMillis() + 10000;
+			while (manager.getFlushedPacketCount() < PACKETS && System.currentTimeMillis() < timeout) {
+				Thread.sleep(10);
+			}
+			assertEquals("Not all packets were written", PACKETS, manager.getFlushedPacketCount()); //$NON-NLS-1$
+			assertEquals("Not all packets reached the connection", PACKETS, connection.getWritten()); //$NON-NLS-1$
+			long flushes = manager.getFlushCount();
+			assertTrue("No flush counted", flushes > 0); //$NON-NLS-1$
+			assertTrue("Packets were not gathered: " + flushes + " flushes for " + PACKETS + " packets", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					(double) manager.getFlushedPacketCount() / flushes > 1);
+			assertEquals("Wrong number of bytes written", PACKETS * new JdwpCommandPacket(JdwpCommandPacket.VM_VERSION).getLength(), //$NON-NLS-1$
+					manager.getFlushedByteCount());
+		} finally {
+			manager.disconnectVM();
+			thread.join(5000);
+		}
+	}
+}
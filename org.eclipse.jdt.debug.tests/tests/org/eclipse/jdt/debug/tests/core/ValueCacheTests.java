@@ -0,0 +1,187 @@
+/*******************************************************************************
+ * Copyright (c) 2015 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.core;
+
+import java.util.Collection;
+
+import junit.framework.TestCase;
+
+import org.eclipse.jdi.internal.ValueCache;
+
+/**
+ * Tests the cache of mirrors under their JDWP id.
+ */
+public class ValueCacheTests extends TestCase {
+
+	/**
+	 * Constructor
+	 * @param name
+	 */
+	public ValueCacheTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * Tests that lookups of cached values are counted as hits, and other
+	 * lookups as misses
+	 */
+	public void testHitsAndMisses() {
+		ValueCache cache = new ValueCache();
+		Object one = new Object();
+		Object two = new Object();
+		cache.put(1, one);
+		cache.put(2, two);
+		assertSame("Wrong value for 1", one, cache.get(1));
+		assertSame("Wrong value for 2", two, cache.get(2));
+		assertSame("Wrong value for 1", one, cache.get(1));
+		assertNull("3 is not cached", cache.get(3));
+		assertEquals("Wrong hit count", 3, cache.getHitCount());
+		assertEquals("Wrong miss count", 1, cache.getMissCount());
+		assertEquals("Wrong size", 2, cache.size());
+		assertEquals("An unbounded cache does not evict", 0, cache.getEvictionCount());
+
+		Object other = new Object();
+		cache.put(1, other);
+		assertSame("A value put again under the same id replaces the old one", other, cache.get(1));
+		assertEquals("Wrong size", 2, cache.size());
+	}
+
+	/**
+	 * Tests that a full segment evicts its least recently used value
+	 */
+	public void testLeastRecentlyUsedEviction() {
+		long[] ids = idsInSameSegment(3);
+		// two values per segment
+		ValueCache cache = new ValueCache(32);
+		Object first = new Object();
+		Object second = new Object();
+		Object third = new Object();
+		cache.put(ids[0], first);
+		cache.put(ids[1], second);
+		assertEquals("The segment is not full yet", 0, cache.getEvictionCount());
+		// makes the first value the most recently used one
+		cache.get(ids[0]);
+		cache.put(ids[2], third);
+		assertEquals("The segment is full", 1, cache.getEvictionCount());
+
+		// looking up strongly cached values does not evict anything
+		assertSame("Wrong value for the first id", first, cache.get(ids[0]));
+		assertSame("Wrong value for the third id", third, cache.get(ids[2]));
+		assertEquals("The second value should have been evicted", 1, cache.getEvictionCount());
+
+		// reviving the second value evicts the least recently used one
+		assertSame("Wrong value for the second id", second, cache.get(ids[1]));
+		assertEquals("Reviving a value evicts another one", 2, cache.getEvictionCount());
+		assertSame("Wrong value for the third id", third, cache.get(ids[2]));
+		assertSame("Wrong value for the second id", second, cache.get(ids[1]));
+		assertEquals("The first value should have been evicted", 2, cache.getEvictionCount());
+		assertEquals("Evicted values keep their entry", 3, cache.size());
+	}
+
+	/**
+	 * Tests that values in different segments do not evict each other
+	 */
+	public void testEvictionIsPerSegment() {
+		// one value per segment
+		ValueCache cache = new ValueCache(16);
+		long id = 1;
+		long otherSegment = 2;
+		while (sameSegment(id, otherSegment)) {
+			otherSegment++;
+		}
+		cache.put(id, new Object());
+		cache.put(otherSegment, new Object());
+		assertEquals("Values in different segments should not be evicted", 0, cache.getEvictionCount());
+	}
+
+	/**
+	 * Tests that an evicted value that is still referenced elsewhere is
+	 * returned instead of being replaced, and is strongly cached again
+	 */
+	public void testDemotionAndRevival() {
+		long[] ids = idsInSameSegment(2);
+		ValueCache cache = new ValueCache(16);
+		Object first = new Object();
+		Object second = new Object();
+		cache.put(ids[0], first);
+		cache.put(ids[1], second);
+		assertEquals("The first value should have been evicted", 1, cache.getEvictionCount());
+
+		Collection<Object> values = cache.values();
+		assertTrue("Evicted values are still cached", values.contains(first));
+		assertTrue("Wrong values", values.contains(second));
+
+		assertSame("The evicted value should be revived", first, cache.get(ids[0]));
+		assertEquals("A revived value is a hit", 1, cache.getHitCount());
+		assertEquals("Reviving the first value evicts the second one", 2, cache.getEvictionCount());
+		assertSame("The first value should be strongly cached again", first, cache.get(ids[0]));
+		assertEquals("The first value should be strongly cached again", 2, cache.getEvictionCount());
+	}
+
+	/**
+	 * Tests the values of a given type and the removal of values
+	 */
+	public void testValuesWithTypeAndRemove() {
+		ValueCache cache = new ValueCache();
+		for (int i = 0; i < 100; i++) {
+			if (i % 2 == 0) {
+				cache.put(i, Integer.valueOf(i));
+			} else {
+				cache.put(i, String.valueOf(i));
+			}
+		}
+		assertEquals("Wrong number of values", 100, cache.values().size());
+		Collection<Object> strings = cache.valuesWithType(String.class);
+		assertEquals("Wrong number of strings", 50, strings.size());
+		for (Object value : strings) {
+			assertTrue("Not a string: " + value, value instanceof String);
+		}
+		assertTrue("The runtime class should match exactly", cache.valuesWithType(Number.class).isEmpty());
+
+		for (int i = 1; i < 100; i += 2) {
+			assertEquals("Wrong removed value", String.valueOf(i), cache.remove(i));
+		}
+		assertNull("Removing a missing id returns null", cache.remove(1));
+		assertTrue("All strings should have been removed", cache.valuesWithType(String.class).isEmpty());
+		assertEquals("Wrong number of integers", 50, cache.valuesWithType(Integer.class).size());
+		assertEquals("Wrong size", 50, cache.size());
+		assertNull("Removed values should not be found", cache.get(1));
+		assertEquals("Wrong value", Integer.valueOf(2), cache.get(2));
+	}
+
+	/**
+	 * Returns the given number of ids that fall in the same segment of a
+	 * cache.
+	 */
+	private long[] idsInSameSegment(int count) {
+		long[] ids = new long[count];
+		ids[0] = 1;
+		int found = 1;
+		for (long id = 2; found < count; id++) {
+			if (sameSegment(ids[0], id)) {
+				ids[found++] = id;
+			}
+		}
+		return ids;
+	}
+
+	/**
+	 * Returns whether the given ids fall in the same segment of a cache, that
+	 * is whether they evict each other in a cache that holds one value per
+	 * segment.
+	 */
+	private boolean sameSegment(long id, long other) {
+		ValueCache cache = new ValueCache(16);
+		cache.put(id, new Object());
+		cache.put(other, new Object());
+		return cache.getEvictionCount() > 0;
+	}
+}
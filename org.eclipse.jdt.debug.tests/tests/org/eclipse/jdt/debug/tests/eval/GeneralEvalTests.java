@@ -11,8 +11,14 @@
 package org.eclipse.jdt.debug.tests.eval;
 
 import org.eclipse.debug.core.model.IValue;
+import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.tests.AbstractDebugTest;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.TypeResolutionCache;
+import org.eclipse.jdt.internal.debug.eval.ast.engine.ASTEvaluationEngine;
+import org.eclipse.jdt.internal.debug.eval.ast.instructions.InstructionSequence;
 
 /**
  * Tests that evaluations in non-generified source
@@ -465,4 +471,70 @@ public class GeneralEvalTests extends AbstractDebugTest {
 			terminateAndRemove(thread);
 		}
 	}
+	
+	/**
+	 * Tests that a constant expression is compiled to a single value and
+	 * evaluates like the expression
+	 * @throws Exception
+	 */
+	public void testConstantExpressionFolding() throws Exception {
+		IJavaThread thread = null;
+		try {
+			String typename = "HitCountLooper";
+			createLineBreakpoint(16, typename);
+			thread = launchToBreakpoint(typename);
+			assertNotNull("the program did not suspend", thread);
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			ASTEvaluationEngine engine = new ASTEvaluationEngine(getProjectContext(), (IJavaDebugTarget) thread.getDebugTarget());
+			try {
+				InstructionSequence constant = (InstructionSequence) engine.getCompiledExpression("-(1 + 2 * 3) + \"\"", frame);
+				InstructionSequence variable = (InstructionSequence) engine.getCompiledExpression("-(i + 2 * 3) + \"\"", frame);
+				assertFalse("The constant expression should compile", constant.hasErrors());
+				assertTrue("The constant expression should be folded", constant.getInstructions().length < variable.getInstructions().length);
+			}
+			finally {
+				engine.dispose();
+			}
+			IValue value = doEval(thread, "-(1 + 2 * 3) + \"\"");
+			assertEquals("The result of -(1 + 2 * 3) + \"\" should be -7", "-7", value.getValueString());
+		}
+		finally {
+			removeAllBreakpoints();
+			terminateAndRemove(thread);
+		}
+	}
+
+	/**
+	 * Tests that the types and methods resolved by an evaluation are cached by
+	 * the target and reused by the next evaluation
+	 * 
+	 * @throws Exception
+	 */
+	public void testResolvedTypesAreCached() throws Exception {
+		IJavaThread thread = null;
+		try {
+			String typename = "HitCountLooper";
+			createLineBreakpoint(16, typename);
+			thread = launchToBreakpoint(typename);
+			assertNotNull("the program did not suspend", thread);
+			String snippet = "new java.util.ArrayList(i).size()";
+			IValue value = doEval(thread, snippet);
+			assertEquals("The size of the list should be 0", "0", value.getValueString());
+			TypeResolutionCache cache = ((JDIDebugTarget) thread.getDebugTarget()).getTypeResolutionCache();
+			long typeHits = cache.getTypeHitCount();
+			long methodHits = cache.getMethodHitCount();
+			long typeMisses = cache.getTypeMissCount();
+			long methodMisses = cache.getMethodMissCount();
+			value = doEval(thread, snippet);
+			assertEquals("The size of the list should be 0", "0", value.getValueString());
+			assertTrue("The type should have been found in the cache", cache.getTypeHitCount() > typeHits);
+			assertTrue("The method should have been found in the cache", cache.getMethodHitCount() > methodHits);
+			assertEquals("No type should have been resolved again", typeMisses, cache.getTypeMissCount());
+			assertEquals("No method should have been resolved again", methodMisses, cache.getMethodMissCount());
+		}
+		finally {
+			removeAllBreakpoints();
+			terminateAndRemove(thread);
+		}
+	}
 }
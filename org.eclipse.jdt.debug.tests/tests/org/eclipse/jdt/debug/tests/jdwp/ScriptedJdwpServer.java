@@ -0,0 +1,491 @@
+/*******************************************************************************
+ * Copyright (c) 2015 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.jdwp;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
+
+/**
+ * A stub JDWP server that serves scripted classes, methods, fields, objects,
+ * threads and frames, so that the reading of these mirrors by the JDI
+ * implementation can be measured without the noise of a real VM.
+ * <p>
+ * The data is defined with the <code>define...</code> methods, at any time.
+ * Every reply can be delayed by a configurable latency, to play a remote or
+ * busy VM. The values of the fields of all the objects are derived from the
+ * field: primitive fields hold their own id, reference fields hold
+ * <code>null</code>.
+ * </p>
+ */
+public class ScriptedJdwpServer extends StubJdwpServer {
+
+	private static final byte TYPE_TAG_CLASS = 1;
+	private static final int MODIFIER_PUBLIC = 0x0001;
+	private static final int CLASS_STATUS_INITIALIZED = 7;
+	private static final int THREAD_STATUS_RUNNING = 1;
+	private static final int SUSPEND_STATUS_SUSPENDED = 1;
+
+	/**
+	 * A class of the script
+	 */
+	private static class TypeData {
+		final long fId;
+		final String fSignature;
+		final List<MemberData> fMethods = new ArrayList<MemberData>();
+		final List<MemberData> fFields = new ArrayList<MemberData>();
+
+		TypeData(long id, String signature) {
+			fId = id;
+			fSignature = signature;
+		}
+	}
+
+	/**
+	 * A method or field of the script
+	 */
+	private static class MemberData {
+		final long fId;
+		final TypeData fType;
+		final String fName;
+		final String fSignature;
+
+		MemberData(long id, TypeData type, String name, String signature) {
+			fId = id;
+			fType = type;
+			fName = name;
+			fSignature = signature;
+		}
+	}
+
+	/**
+	 * A frame of the script
+	 */
+	private static class FrameData {
+		final long fId;
+		final MemberData fMethod;
+		final long fIndex;
+		final long fThisObject;
+
+		FrameData(long id, MemberData method, long index, long thisObject) {
+			fId = id;
+			fMethod = method;
+			fIndex = index;
+			fThisObject = thisObject;
+		}
+	}
+
+	/**
+	 * A thread of the script, its top frame first
+	 */
+	private static class ThreadData {
+		final long fId;
+		final String fName;
+		final List<FrameData> fFrames = new ArrayList<FrameData>();
+
+		ThreadData(long id, String name) {
+			fId = id;
+			fName = name;
+		}
+	}
+
+	/**
+	 * All the ids are allocated from this counter, so any id identifies a
+	 * single mirror.
+	 */
+	private long fLastId = 0;
+	private Map<Long, TypeData> fTypes = new LinkedHashMap<Long, TypeData>();
+	private Map<Long, MemberData> fMembers = new HashMap<Long, MemberData>();
+	private Map<Long, TypeData> fObjects = new HashMap<Long, TypeData>();
+	private Map<Long, ThreadData> fThreads = new LinkedHashMap<Long, ThreadData>();
+	private Map<Long, FrameData> fFrames = new HashMap<Long, FrameData>();
+
+	private volatile long fLatency = 0;
+
+	/**
+	 * Creates a server with no data, listening on a free local port.
+	 * @throws IOException
+	 */
+	public ScriptedJdwpServer() throws IOException {
+		super();
+	}
+
+	/**
+	 * Sets the time every reply is delayed by.
+	 * @param nanos the latency in nanoseconds
+	 */
+	public void setLatency(long nanos) {
+		fLatency = nanos;
+	}
+
+	/**
+	 * Defines a class.
+	 * @param signature the JNI signature of the class
+	 * @return the id of the class
+	 */
+	public synchronized long defineClass(String signature) {
+		TypeData type = new TypeData(++fLastId, signature);
+		fTypes.put(new Long(type.fId), type);
+		return type.fId;
+	}
+
+	/**
+	 * Defines a public method.
+	 * @param classId the id of the declaring class
+	 * @param name the name of the method
+	 * @param signature the JNI signature of the method
+	 * @return the id of the method
+	 */
+	public synchronized long defineMethod(long classId, String name, String signature) {
+		TypeData type = fTypes.get(new Long(classId));
+		MemberData method = new MemberData(++fLastId, type, name, signature);
+		type.fMethods.add(method);
+		fMembers.put(new Long(method.fId), method);
+		return method.fId;
+	}
+
+	/**
+	 * Defines a public instance field.
+	 * @param classId the id of the declaring class
+	 * @param name the name of the field
+	 * @param signature the JNI signature of the type of the field
+	 * @return the id of the field
+	 */
+	public synchronized long defineField(long classId, String name, String signature) {
+		TypeData type = fTypes.get(new Long(classId));
+		MemberData field = new MemberData(++fLastId, type, name, signature);
+		type.fFields.add(field);
+		fMembers.put(new Long(field.fId), field);
+		return field.fId;
+	}
+
+	/**
+	 * Defines an object.
+	 * @param classId the id of the class of the object
+	 * @return the id of the object
+	 */
+	public synchronized long defineObject(long classId) {
+		long id = ++fLastId;
+		fObjects.put(new Long(id), fTypes.get(new Long(classId)));
+		return id;
+	}
+
+	/**
+	 * Defines a suspended thread with no frames.
+	 * @param name the name of the thread
+	 * @return the id of the thread
+	 */
+	public synchronized long defineThread(String name) {
+		ThreadData thread = new ThreadData(++fLastId, name);
+		fThreads.put(new Long(thread.fId), thread);
+		return thread.fId;
+	}
+
+	/**
+	 * Defines a frame on top of the frames of a thread.
+	 * @param threadId the id of the thread
+	 * @param methodId the id of the method executed by the frame
+	 * @param index the code index of the location of the frame
+	 * @param thisObjectId the id of the object executing the method
+	 * @return the id of the frame
+	 */
+	public synchronized long defineFrame(long threadId, long methodId, long index, long thisObjectId) {
+		FrameData frame = new FrameData(++fLastId, fMembers.get(new Long(methodId)), index, thisObjectId);
+		fThreads.get(new Long(threadId)).fFrames.add(0, frame);
+		fFrames.put(new Long(frame.fId), frame);
+		return frame.fId;
+	}
+
+	/**
+	 * Defines a class with the given number of <code>int</code> fields and
+	 * one instance of it.
+	 * @param signature the JNI signature of the class
+	 * @param fields the number of fields
+	 * @return the id of the object
+	 */
+	public synchronized long defineObject(String signature, int fields) {
+		long classId = defineClass(signature);
+		for (int i = 0; i < fields; i++) {
+			defineField(classId, "field" + i, "I"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return defineObject(classId);
+	}
+
+	/**
+	 * Defines a thread whose stack has the given depth, each frame executing
+	 * a different method of the same class on the same object.
+	 * @param name the name of the thread
+	 * @param depth the number of frames
+	 * @return the id of the thread
+	 */
+	public synchronized long defineThread(String name, int depth) {
+		long classId = defineClass("Lstub/" + name + ";"); //$NON-NLS-1$ //$NON-NLS-2$
+		long object = defineObject(classId);
+		long threadId = defineThread(name);
+		for (int i = 0; i < depth; i++) {
+			long method = defineMethod(classId, "method" + i, "()V"); //$NON-NLS-1$ //$NON-NLS-2$
+			defineFrame(threadId, method, i, object);
+		}
+		return threadId;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eclipse.jdt.debug.tests.jdwp.StubJdwpServer#handleCommand(org.eclipse.jdi.internal.jdwp.JdwpCommandPacket)
+	 */
+	@Override
+	protected void handleCommand(JdwpCommandPacket command) throws IOException {
+		long latency = fLatency;
+		if (latency > 0) {
+			try {
+				Thread.sleep(latency / 1000000, (int) (latency % 1000000));
+			} catch (InterruptedException e) {
+				throw new InterruptedIOException();
+			}
+		}
+		byte[] data = scriptedReply(command);
+		if (data == null) {
+			super.handleCommand(command);
+		} else {
+			reply(command, JdwpReplyPacket.NONE, data);
+		}
+	}
+
+	/**
+	 * Returns the data of the reply to the given command from the script.
+	 * @param command the command
+	 * @return the data of the reply, or <code>null</code> if the script
+	 * does not know the command
+	 * @throws IOException
+	 */
+	private synchronized byte[] scriptedReply(JdwpCommandPacket command) throws IOException {
+		DataInputStream in = command.dataInStream();
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		switch (command.getCommand()) {
+			case JdwpCommandPacket.VM_VERSION:
+				writeString("Scripted JDWP server", out); //$NON-NLS-1$
+				out.writeInt(1);
+				out.writeInt(6);
+				writeString("1.6.0", out); //$NON-NLS-1$
+				writeString("Stub VM", out); //$NON-NLS-1$
+				break;
+			case JdwpCommandPacket.VM_ALL_THREADS:
+				out.writeInt(fThreads.size());
+				for (ThreadData thread : fThreads.values()) {
+					out.writeLong(thread.fId);
+				}
+				break;
+			case JdwpCommandPacket.VM_CLASSES_BY_SIGNATURE: {
+				String signature = readString(in);
+				List<TypeData> types = new ArrayList<TypeData>();
+				for (TypeData type : fTypes.values()) {
+					if (type.fSignature.equals(signature)) {
+						types.add(type);
+					}
+				}
+				out.writeInt(types.size());
+				for (TypeData type : types) {
+					out.writeByte(TYPE_TAG_CLASS);
+					out.writeLong(type.fId);
+					out.writeInt(CLASS_STATUS_INITIALIZED);
+				}
+				break;
+			}
+			case JdwpCommandPacket.VM_ALL_CLASSES_WITH_GENERIC:
+				out.writeInt(fTypes.size());
+				for (TypeData type : fTypes.values()) {
+					out.writeByte(TYPE_TAG_CLASS);
+					out.writeLong(type.fId);
+					writeString(type.fSignature, out);
+					writeString("", out); //$NON-NLS-1$
+					out.writeInt(CLASS_STATUS_INITIALIZED);
+				}
+				break;
+			case JdwpCommandPacket.RT_SIGNATURE:
+			case JdwpCommandPacket.RT_SIGNATURE_WITH_GENERIC: {
+				TypeData type = fTypes.get(new Long(in.readLong()));
+				if (type == null) {
+					return null;
+				}
+				writeString(type.fSignature, out);
+				if (command.getCommand() == JdwpCommandPacket.RT_SIGNATURE_WITH_GENERIC) {
+					writeString("", out); //$NON-NLS-1$
+				}
+				break;
+			}
+			case JdwpCommandPacket.RT_MODIFIERS:
+				out.writeInt(MODIFIER_PUBLIC);
+				break;
+			case JdwpCommandPacket.RT_CLASS_LOADER:
+				// the bootstrap class loader
+				out.writeLong(0);
+				break;
+			case JdwpCommandPacket.RT_METHODS_WITH_GENERIC:
+			case JdwpCommandPacket.RT_FIELDS_WITH_GENERIC: {
+				TypeData type = fTypes.get(new Long(in.readLong()));
+				if (type == null) {
+					return null;
+				}
+				List<MemberData> members = command.getCommand() == JdwpCommandPacket.RT_METHODS_WITH_GENERIC ? type.fMethods : type.fFields;
+				out.writeInt(members.size());
+				for (MemberData member : members) {
+					out.writeLong(member.fId);
+					writeString(member.fName, out);
+					writeString(member.fSignature, out);
+					writeString("", out); //$NON-NLS-1$
+					out.writeInt(MODIFIER_PUBLIC);
+				}
+				break;
+			}
+			case JdwpCommandPacket.OR_REFERENCE_TYPE: {
+				TypeData type = fObjects.get(new Long(in.readLong()));
+				if (type == null) {
+					return null;
+				}
+				out.writeByte(TYPE_TAG_CLASS);
+				out.writeLong(type.fId);
+				break;
+			}
+			case JdwpCommandPacket.OR_GET_VALUES: {
+				in.readLong();
+				int count = in.readInt();
+				out.writeInt(count);
+				for (int i = 0; i < count; i++) {
+					MemberData field = fMembers.get(new Long(in.readLong()));
+					if (field == null) {
+						return null;
+					}
+					writeValue(field, out);
+				}
+				break;
+			}
+			case JdwpCommandPacket.TR_NAME: {
+				ThreadData thread = fThreads.get(new Long(in.readLong()));
+				if (thread == null) {
+					return null;
+				}
+				writeString(thread.fName, out);
+				break;
+			}
+			case JdwpCommandPacket.TR_STATUS:
+				out.writeInt(THREAD_STATUS_RUNNING);
+				out.writeInt(SUSPEND_STATUS_SUSPENDED);
+				break;
+			case JdwpCommandPacket.TR_SUSPEND_COUNT:
+				out.writeInt(1);
+				break;
+			case JdwpCommandPacket.TR_FRAME_COUNT: {
+				ThreadData thread = fThreads.get(new Long(in.readLong()));
+				if (thread == null) {
+					return null;
+				}
+				out.writeInt(thread.fFrames.size());
+				break;
+			}
+			case JdwpCommandPacket.TR_FRAMES: {
+				ThreadData thread = fThreads.get(new Long(in.readLong()));
+				if (thread == null) {
+					return null;
+				}
+				int start = in.readInt();
+				int length = in.readInt();
+				int end = length == -1 ? thread.fFrames.size() : Math.min(start + length, thread.fFrames.size());
+				out.writeInt(Math.max(end - start, 0));
+				for (int i = start; i < end; i++) {
+					FrameData frame = thread.fFrames.get(i);
+					out.writeLong(frame.fId);
+					out.writeByte(TYPE_TAG_CLASS);
+					out.writeLong(frame.fMethod.fType.fId);
+					out.writeLong(frame.fMethod.fId);
+					out.writeLong(frame.fIndex);
+				}
+				break;
+			}
+			case JdwpCommandPacket.SF_THIS_OBJECT: {
+				in.readLong();
+				FrameData frame = fFrames.get(new Long(in.readLong()));
+				if (frame == null) {
+					return null;
+				}
+				out.writeByte('L');
+				out.writeLong(frame.fThisObject);
+				break;
+			}
+			default:
+				return null;
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Writes the tagged value of the given field.
+	 */
+	private static void writeValue(MemberData field, DataOutputStream out) throws IOException {
+		char tag = field.fSignature.charAt(0);
+		out.writeByte(tag);
+		switch (tag) {
+			case 'Z':
+				out.writeBoolean((field.fId & 1) != 0);
+				break;
+			case 'B':
+				out.writeByte((byte) field.fId);
+				break;
+			case 'C':
+				out.writeChar((char) field.fId);
+				break;
+			case 'S':
+				out.writeShort((short) field.fId);
+				break;
+			case 'I':
+				out.writeInt((int) field.fId);
+				break;
+			case 'J':
+				out.writeLong(field.fId);
+				break;
+			case 'F':
+				out.writeFloat(field.fId);
+				break;
+			case 'D':
+				out.writeDouble(field.fId);
+				break;
+			default:
+				out.writeLong(0);
+		}
+	}
+
+	/**
+	 * Writes a JDWP string.
+	 */
+	private static void writeString(String string, DataOutputStream out) throws IOException {
+		byte[] bytes = string.getBytes("UTF8"); //$NON-NLS-1$
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	/**
+	 * Reads a JDWP string.
+	 */
+	private static String readString(DataInputStream in) throws IOException {
+		byte[] bytes = new byte[in.readInt()];
+		in.readFully(bytes);
+		return new String(bytes, "UTF8"); //$NON-NLS-1$
+	}
+}
@@ -0,0 +1,237 @@
+/*******************************************************************************
+ * Copyright (c) 2015 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.jdwp;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Map;
+
+import org.eclipse.jdi.Bootstrap;
+import org.eclipse.jdi.internal.event.EventImpl;
+import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
+
+import com.sun.jdi.VirtualMachine;
+import com.sun.jdi.connect.AttachingConnector;
+import com.sun.jdi.connect.Connector.Argument;
+import com.sun.jdi.connect.IllegalConnectorArgumentsException;
+
+/**
+ * An in-process JDWP server that plays the part of a VM for the JDI
+ * implementation, so that the JDI layer can be exercised without launching a
+ * target. It listens on a local port, accepts a single connection, performs
+ * the JDWP handshake and replies to the commands it knows; other commands get
+ * a reply with the {@link JdwpReplyPacket#NOT_IMPLEMENTED} error. Events are
+ * sent on demand.
+ */
+public class StubJdwpServer implements Runnable {
+
+	/**
+	 * Size of all the ids of the stub VM
+	 */
+	public static final int ID_SIZE = 8;
+
+	private static final byte[] HANDSHAKE = "JDWP-Handshake".getBytes(); //$NON-NLS-1$
+
+	private ServerSocket fServerSocket;
+	private Socket fSocket;
+	private OutputStream fOut;
+	private Thread fThread;
+	private int fLastRequestId = 0;
+
+	/**
+	 * Creates a server listening on a free local port. Its connection is
+	 * accepted once {@link #start()} is called.
+	 * @throws IOException
+	 */
+	public StubJdwpServer() throws IOException {
+		fServerSocket = new ServerSocket(0, 1, InetAddress.getByName("127.0.0.1")); //$NON-NLS-1$
+	}
+
+	/**
+	 * @return the port the server listens on
+	 */
+	public int getPort() {
+		return fServerSocket.getLocalPort();
+	}
+
+	/**
+	 * Attaches the JDI implementation to this server, which must have been
+	 * started, and resumes the VM, so that the ID sizes are known when the
+	 * first event is read.
+	 * @return the attached VM
+	 * @throws IOException
+	 * @throws IllegalConnectorArgumentsException
+	 */
+	public VirtualMachine attach() throws IOException, IllegalConnectorArgumentsException {
+		AttachingConnector connector = Bootstrap.virtualMachineManager().attachingConnectors().get(0);
+		Map<String, Argument> args = connector.defaultArguments();
+		args.get("hostname").setValue("127.0.0.1"); //$NON-NLS-1$ //$NON-NLS-2$
+		args.get("port").setValue(String.valueOf(getPort())); //$NON-NLS-1$
+		VirtualMachine vm = connector.attach(args);
+		vm.resume();
+		return vm;
+	}
+
+	/**
+	 * Starts the thread that accepts the connection and replies to commands.
+	 */
+	public void start() {
+		fThread = new Thread(this, "Stub JDWP Server " + getPort()); //$NON-NLS-1$
+		fThread.setDaemon(true);
+		fThread.start();
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Runnable#run()
+	 */
+	public void run() {
+		try {
+			Socket socket = fServerSocket.accept();
+			socket.setTcpNoDelay(true);
+			DataInputStream in = new DataInputStream(socket.getInputStream());
+			synchronized (this) {
+				fSocket = socket;
+				fOut = socket.getOutputStream();
+			}
+			byte[] handshake = new byte[HANDSHAKE.length];
+			in.readFully(handshake);
+			write(handshake);
+			while (true) {
+				int length = in.readInt();
+				byte[] bytes = new byte[length];
+				bytes[0] = (byte) (length >>> 24);
+				bytes[1] = (byte) (length >>> 16);
+				bytes[2] = (byte) (length >>> 8);
+				bytes[3] = (byte) length;
+				in.readFully(bytes, 4, length - 4);
+				JdwpPacket packet = JdwpPacket.build(bytes);
+				if (packet instanceof JdwpCommandPacket) {
+					handleCommand((JdwpCommandPacket) packet);
+				}
+			}
+		} catch (IOException e) {
+			// closed
+		} finally {
+			close();
+		}
+	}
+
+	/**
+	 * Replies to the given command.
+	 * @param command the command sent by the debugger
+	 * @throws IOException
+	 */
+	protected void handleCommand(JdwpCommandPacket command) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream data = new DataOutputStream(bytes);
+		switch (command.getCommand()) {
+			case JdwpCommandPacket.VM_ID_SIZES:
+				for (int i = 0; i < 5; i++) {
+					data.writeInt(ID_SIZE);
+				}
+				break;
+			case JdwpCommandPacket.VM_DISPOSE:
+			case JdwpCommandPacket.VM_RESUME:
+			case JdwpCommandPacket.ER_CLEAR:
+				break;
+			case JdwpCommandPacket.VM_ALL_THREADS:
+				data.writeInt(0);
+				break;
+			case JdwpCommandPacket.ER_SET:
+				data.writeInt(++fLastRequestId);
+				break;
+			default:
+				reply(command, JdwpReplyPacket.NOT_IMPLEMENTED, null);
+				return;
+		}
+		reply(command, JdwpReplyPacket.NONE, bytes.toByteArray());
+	}
+
+	/**
+	 * Sends the reply to the given command.
+	 * @param command the command
+	 * @param errorCode the error code of the reply
+	 * @param data the data of the reply, or <code>null</code>
+	 * @throws IOException
+	 */
+	protected void reply(JdwpCommandPacket command, short errorCode, byte[] data) throws IOException {
+		byte[] header = new byte[JdwpPacket.MIN_PACKET_LENGTH];
+		int length = header.length + (data == null ? 0 : data.length);
+		int id = command.getId();
+		header[0] = (byte) (length >>> 24);
+		header[1] = (byte) (length >>> 16);
+		header[2] = (byte) (length >>> 8);
+		header[3] = (byte) length;
+		header[4] = (byte) (id >>> 24);
+		header[5] = (byte) (id >>> 16);
+		header[6] = (byte) (id >>> 8);
+		header[7] = (byte) id;
+		header[8] = JdwpPacket.FLAG_REPLY_PACKET;
+		header[9] = (byte) (errorCode >>> 8);
+		header[10] = (byte) errorCode;
+		write(JdwpPacket.build(header, data).getPacketAsBytes());
+	}
+
+	/**
+	 * Sends a thread start event, not caused by any request, that suspends
+	 * nothing.
+	 * @param threadId the id of the thread
+	 * @throws IOException
+	 */
+	public void sendThreadStartEvent(long threadId) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream data = new DataOutputStream(bytes);
+		data.writeByte(0); // suspend policy: none
+		data.writeInt(1); // one event
+		data.writeByte(EventImpl.EVENT_THREAD_START);
+		data.writeInt(0); // request id
+		data.writeLong(threadId);
+		JdwpCommandPacket event = new JdwpCommandPacket(JdwpCommandPacket.E_COMPOSITE);
+		event.setData(bytes.toByteArray());
+		write(event.getPacketAsBytes());
+	}
+
+	/**
+	 * Writes the given bytes to the debugger.
+	 * @param bytes the bytes
+	 * @throws IOException
+	 */
+	protected synchronized void write(byte[] bytes) throws IOException {
+		if (fOut == null) {
+			throw new IOException("Not connected"); //$NON-NLS-1$
+		}
+		fOut.write(bytes);
+		fOut.flush();
+	}
+
+	/**
+	 * Closes the connection and stops listening.
+	 */
+	public synchronized void close() {
+		try {
+			fServerSocket.close();
+			if (fSocket != null) {
+				fSocket.close();
+			}
+		} catch (IOException e) {
+			// ignore
+		}
+		fOut = null;
+	}
+}
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2015 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.performance;
+
+import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
+import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.tests.AbstractDebugPerformanceTest;
+import org.eclipse.jdt.internal.debug.core.IJDIEventListener;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.JDIThread;
+import org.eclipse.test.performance.Dimension;
+
+import com.sun.jdi.Location;
+import com.sun.jdi.ThreadReference;
+import com.sun.jdi.event.Event;
+import com.sun.jdi.event.EventSet;
+import com.sun.jdi.request.BreakpointRequest;
+import com.sun.jdi.request.EventRequest;
+
+/**
+ * Tests the throughput of the event dispatch of a debug target, from the
+ * breakpoint event being read from the VM to the thread being resumed by the
+ * vote of the listener.
+ */
+public class EventDispatchPerfTests extends AbstractDebugPerformanceTest {
+
+	/**
+	 * Number of breakpoint events dispatched per sample
+	 */
+	private static final int EVENTS = 10000;
+
+	/**
+	 * Resumes the thread after each event, and keeps it suspended after every
+	 * {@link EventDispatchPerfTests#EVENTS} events.
+	 */
+	class CountingListener implements IJDIEventListener {
+		int fCount = 0;
+
+		public synchronized boolean handleEvent(Event event, JDIDebugTarget target, boolean suspendVote, EventSet eventSet) {
+			fCount++;
+			if (fCount % EVENTS == 0) {
+				notifyAll();
+				return false;
+			}
+			return true;
+		}
+
+		public void eventSetComplete(Event event, JDIDebugTarget target, boolean suspend, EventSet eventSet) {
+		}
+
+		synchronized void waitFor(int count) throws InterruptedException {
+			long end = System.currentTimeMillis() + 60000;
+			while (fCount < count && System.currentTimeMillis() < end) {
+				wait(1000);
+			}
+			assertEquals("Events not dispatched", count, fCount);
+		}
+	}
+
+	/**
+	 * Constructor
+	 * @param name
+	 */
+	public EventDispatchPerfTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * Tests dispatching breakpoint events hit in a loop.
+	 * @throws Exception
+	 */
+	public void testBreakpointEventDispatch() throws Exception {
+		tagAsSummary("Dispatch breakpoint events", Dimension.ELAPSED_PROCESS);
+		String typeName = "PerfLoop";
+		IJavaLineBreakpoint bp = createLineBreakpoint(22, typeName);
+		IJavaThread thread = null;
+		try {
+			thread = launchToLineBreakpoint(typeName, bp);
+			removeAllBreakpoints();
+			JDIDebugTarget target = (JDIDebugTarget) thread.getDebugTarget();
+			ThreadReference reference = ((JDIThread) thread).getUnderlyingThread();
+			Location location = reference.frame(0).location();
+			BreakpointRequest request = target.getEventRequestManager().createBreakpointRequest(location);
+			request.setSuspendPolicy(EventRequest.SUSPEND_EVENT_THREAD);
+			CountingListener listener = new CountingListener();
+			target.addJDIEventListener(listener, request);
+			request.enable();
+			try {
+				// warm up
+				reference.resume();
+				listener.waitFor(EVENTS);
+				for (int i = 2; i <= 6; i++) {
+					startMeasuring();
+					reference.resume();
+					listener.waitFor(i * EVENTS);
+					stopMeasuring();
+				}
+			} finally {
+				request.disable();
+				target.removeJDIEventListener(listener, request);
+			}
+			commitMeasurements();
+			assertPerformance();
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+}
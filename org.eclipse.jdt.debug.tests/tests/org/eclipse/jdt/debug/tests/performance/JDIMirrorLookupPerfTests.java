@@ -0,0 +1,262 @@
+/*******************************************************************************
+ * Copyright (c) 2015 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.performance;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.debug.core.model.ILineBreakpoint;
+import org.eclipse.jdi.internal.ObjectReferenceImpl;
+import org.eclipse.jdi.internal.ReferenceTypeImpl;
+import org.eclipse.jdi.internal.ThreadReferenceImpl;
+import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
+import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.tests.AbstractDebugPerformanceTest;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.JDIThread;
+import org.eclipse.test.performance.Dimension;
+
+import com.sun.jdi.Field;
+import com.sun.jdi.ReferenceType;
+import com.sun.jdi.ThreadReference;
+import com.sun.jdi.VirtualMachine;
+
+/**
+ * Tests the cost of decoding JDWP replies that refer to mirrors the JDI client
+ * has already cached, such as reference types, threads and thread groups.
+ * Besides the elapsed time, the bytes allocated by the thread looking up the
+ * cached mirrors are measured where the VM supports it, and must stay under
+ * the size of one small object per lookup.
+ */
+public class JDIMirrorLookupPerfTests extends AbstractDebugPerformanceTest {
+
+	/**
+	 * Most bytes that looking up a cached mirror may allocate, including the
+	 * share of the decoder of the reply the mirror is read from. Any object
+	 * allocated per lookup takes at least as much.
+	 */
+	private static final long MAX_ALLOCATED_BYTES_PER_LOOKUP = 16;
+
+	/**
+	 * Bytes allocated by the current thread while measuring, or -1 if the VM
+	 * does not measure them
+	 */
+	private long fAllocatedBytes;
+
+	/**
+	 * Value of the allocated bytes of the current thread when measuring
+	 * started
+	 */
+	private long fAllocatedBytesAtStart;
+
+	/**
+	 * Constructor
+	 * @param name
+	 */
+	public JDIMirrorLookupPerfTests(String name) {
+		super(name);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eclipse.jdt.debug.tests.AbstractDebugPerformanceTest#setUp()
+	 */
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		fAllocatedBytes = getAllocatedBytes() < 0 ? -1 : 0;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eclipse.jdt.debug.tests.AbstractDebugPerformanceTest#startMeasuring()
+	 */
+	@Override
+	protected void startMeasuring() {
+		fAllocatedBytesAtStart = getAllocatedBytes();
+		super.startMeasuring();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.eclipse.jdt.debug.tests.AbstractDebugPerformanceTest#stopMeasuring()
+	 */
+	@Override
+	protected void stopMeasuring() {
+		super.stopMeasuring();
+		if (fAllocatedBytes >= 0) {
+			fAllocatedBytes += getAllocatedBytes() - fAllocatedBytesAtStart;
+		}
+	}
+
+	/**
+	 * Returns the bytes allocated by the current thread so far, or -1 if the
+	 * VM does not measure them.
+	 */
+	private static long getAllocatedBytes() {
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (bean instanceof com.sun.management.ThreadMXBean) {
+			com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+			if (sunBean.isThreadAllocatedMemorySupported() && sunBean.isThreadAllocatedMemoryEnabled()) {
+				return sunBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Asserts that the bytes allocated per mirror lookup while measuring are
+	 * under {@link #MAX_ALLOCATED_BYTES_PER_LOOKUP}, if the VM measures them.
+	 *
+	 * @param lookups the number of mirrors looked up while measuring
+	 */
+	private void assertAllocatedBytes(long lookups) {
+		if (fAllocatedBytes >= 0) {
+			long perLookup = fAllocatedBytes / lookups;
+			assertTrue("Looking up a cached mirror allocated " + perLookup + " bytes", perLookup < MAX_ALLOCATED_BYTES_PER_LOOKUP);
+		}
+	}
+
+	/**
+	 * Tests reading the ids of the cached reference types and threads from a
+	 * reply and looking up their mirrors, which must not allocate per lookup.
+	 * @throws Exception
+	 */
+	public void testCachedMirrorLookup() throws Exception {
+		String typeName = "Breakpoints";
+		ILineBreakpoint bp = createLineBreakpoint(52, typeName);
+		IJavaThread thread = null;
+		try {
+			thread = launchToLineBreakpoint(typeName, bp);
+			VirtualMachineImpl vm = (VirtualMachineImpl) ((JDIDebugTarget) thread.getDebugTarget()).getVM();
+			List<ReferenceType> types = vm.allClasses();
+			List<ThreadReference> threads = vm.allThreads();
+			ByteArrayOutputStream typeBytes = new ByteArrayOutputStream();
+			DataOutputStream typeData = new DataOutputStream(typeBytes);
+			for (ReferenceType type : types) {
+				((ReferenceTypeImpl) type).writeWithTag(vm, typeData);
+			}
+			ByteArrayOutputStream threadBytes = new ByteArrayOutputStream();
+			DataOutputStream threadData = new DataOutputStream(threadBytes);
+			for (ThreadReference reference : threads) {
+				((ThreadReferenceImpl) reference).writeWithTag(vm, threadData);
+			}
+			byte[] typeReply = typeBytes.toByteArray();
+			byte[] threadReply = threadBytes.toByteArray();
+			// warm up
+			for (int i = 0; i < 200; i++) {
+				lookUp(vm, typeReply, types, threadReply, threads);
+			}
+			for (int i = 0; i < 50; i++) {
+				startMeasuring();
+				for (int j = 0; j < 200; j++) {
+					lookUp(vm, typeReply, types, threadReply, threads);
+				}
+				stopMeasuring();
+			}
+			commitMeasurements();
+			assertAllocatedBytes(50L * 200 * (types.size() + threads.size()));
+			assertPerformance();
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Reads the given replies, which refer to the given cached types and
+	 * threads, and asserts that the cached mirrors are read back.
+	 */
+	private void lookUp(VirtualMachineImpl vm, byte[] typeReply, List<ReferenceType> types, byte[] threadReply, List<ThreadReference> threads) throws Exception {
+		JdwpReplyDecoder in = new JdwpReplyDecoder(typeReply);
+		for (int i = 0; i < types.size(); i++) {
+			if (ReferenceTypeImpl.readWithTypeTag(vm, in) != types.get(i)) {
+				fail("Reference type not looked up in the cache");
+			}
+		}
+		in = new JdwpReplyDecoder(threadReply);
+		for (int i = 0; i < threads.size(); i++) {
+			if (ObjectReferenceImpl.readObjectRefWithTag(vm, in) != threads.get(i)) {
+				fail("Thread not looked up in the cache");
+			}
+		}
+	}
+
+	/**
+	 * Tests decoding the reply of 'VirtualMachine - All Classes With Generic',
+	 * in which every type is known after the first request.
+	 * @throws Exception
+	 */
+	public void testAllClassesDecoding() throws Exception {
+		tagAsSummary("Decode known reference types", Dimension.ELAPSED_PROCESS);
+		String typeName = "Breakpoints";
+		ILineBreakpoint bp = createLineBreakpoint(52, typeName);
+		IJavaThread thread = null;
+		try {
+			thread = launchToLineBreakpoint(typeName, bp);
+			VirtualMachine vm = ((JDIDebugTarget) thread.getDebugTarget()).getVM();
+			// warm up
+			for (int i = 0; i < 20; i++) {
+				vm.allClasses();
+			}
+			for (int i = 0; i < 50; i++) {
+				startMeasuring();
+				for (int j = 0; j < 20; j++) {
+					vm.allClasses();
+				}
+				stopMeasuring();
+			}
+			commitMeasurements();
+			assertPerformance();
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests decoding the reply of 'Object - Get Values' for the fields of a
+	 * thread, some of which refer to thread groups and threads.
+	 * @throws Exception
+	 */
+	public void testGetValuesDecoding() throws Exception {
+		String typeName = "Breakpoints";
+		ILineBreakpoint bp = createLineBreakpoint(52, typeName);
+		IJavaThread thread = null;
+		try {
+			thread = launchToLineBreakpoint(typeName, bp);
+			ThreadReference reference = ((JDIThread) thread).getUnderlyingThread();
+			List<Field> fields = new ArrayList<Field>();
+			for (Field field : reference.referenceType().allFields()) {
+				if (!field.isStatic()) {
+					fields.add(field);
+				}
+			}
+			// warm up
+			for (int i = 0; i < 500; i++) {
+				reference.getValues(fields);
+			}
+			for (int i = 0; i < 50; i++) {
+				startMeasuring();
+				for (int j = 0; j < 500; j++) {
+					reference.getValues(fields);
+				}
+				stopMeasuring();
+			}
+			commitMeasurements();
+			assertPerformance();
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+}
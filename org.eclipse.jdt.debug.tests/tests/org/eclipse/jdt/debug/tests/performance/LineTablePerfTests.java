@@ -0,0 +1,126 @@
+/*******************************************************************************
+ * Copyright (c) 2015 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.performance;
+
+import java.util.List;
+
+import org.eclipse.debug.core.model.ILineBreakpoint;
+import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.tests.AbstractDebugPerformanceTest;
+import org.eclipse.jdt.internal.debug.core.model.JDIThread;
+import org.eclipse.test.performance.Dimension;
+
+import com.sun.jdi.Location;
+import com.sun.jdi.ReferenceType;
+
+/**
+ * Tests the cost of looking up the line tables of a type with 5000 methods,
+ * once the line tables have been read from the VM.
+ */
+public class LineTablePerfTests extends AbstractDebugPerformanceTest {
+
+	/**
+	 * Line of the first method of <code>ManyMethods</code>, one method per line
+	 */
+	private static final int FIRST_METHOD_LINE = 24;
+
+	/**
+	 * Number of methods of <code>ManyMethods</code>
+	 */
+	private static final int METHODS = 5000;
+
+	/**
+	 * Constructor
+	 * @param name
+	 */
+	public LineTablePerfTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * Launches <code>ManyMethods</code> and returns its type, with the line
+	 * tables of its methods read.
+	 */
+	private ReferenceType getManyMethodsType(IJavaThread thread) throws Exception {
+		ReferenceType type = ((JDIThread) thread).getUnderlyingThread().frame(0).location().declaringType();
+		assertEquals("Wrong number of line locations", METHODS + 4, type.allLineLocations().size());
+		return type;
+	}
+
+	/**
+	 * Tests finding the locations of lines of a type with many methods, as
+	 * when installing line breakpoints.
+	 * @throws Exception
+	 */
+	public void testLocationsOfLine() throws Exception {
+		tagAsSummary("Locations of line in 5000 methods", Dimension.ELAPSED_PROCESS);
+		String typeName = "ManyMethods";
+		ILineBreakpoint bp = createLineBreakpoint(21, typeName);
+		IJavaThread thread = null;
+		try {
+			thread = launchToLineBreakpoint(typeName, bp);
+			ReferenceType type = getManyMethodsType(thread);
+			List<Location> locations = type.locationsOfLine(FIRST_METHOD_LINE + 100);
+			assertEquals("Wrong number of locations", 1, locations.size());
+			assertEquals("Wrong method", "m100", locations.get(0).method().name());
+			// warm up
+			for (int i = 0; i < METHODS; i++) {
+				type.locationsOfLine(FIRST_METHOD_LINE + i);
+			}
+			for (int i = 0; i < 50; i++) {
+				startMeasuring();
+				for (int j = 0; j < METHODS; j++) {
+					type.locationsOfLine(FIRST_METHOD_LINE + j);
+				}
+				stopMeasuring();
+			}
+			commitMeasurements();
+			assertPerformance();
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Tests finding the lines of locations of a type with many methods, as
+	 * when showing stack frames.
+	 * @throws Exception
+	 */
+	public void testLineNumberOfLocation() throws Exception {
+		tagAsSummary("Line numbers of locations in 5000 methods", Dimension.ELAPSED_PROCESS);
+		String typeName = "ManyMethods";
+		ILineBreakpoint bp = createLineBreakpoint(21, typeName);
+		IJavaThread thread = null;
+		try {
+			thread = launchToLineBreakpoint(typeName, bp);
+			List<Location> locations = getManyMethodsType(thread).allLineLocations();
+			// warm up
+			for (Location location : locations) {
+				location.lineNumber();
+			}
+			for (int i = 0; i < 50; i++) {
+				startMeasuring();
+				for (int j = 0; j < 20; j++) {
+					for (Location location : locations) {
+						location.lineNumber();
+					}
+				}
+				stopMeasuring();
+			}
+			commitMeasurements();
+			assertPerformance();
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+}
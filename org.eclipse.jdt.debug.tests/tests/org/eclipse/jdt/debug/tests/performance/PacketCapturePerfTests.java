@@ -0,0 +1,188 @@
+/*******************************************************************************
+ * Copyright (c) 2015 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.performance;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.List;
+
+import org.eclipse.jdi.internal.connect.PacketCapture;
+import org.eclipse.jdi.internal.connect.PacketReceiveManager;
+import org.eclipse.jdi.internal.connect.ReplayConnection;
+import org.eclipse.jdi.internal.jdwp.JdwpPacket;
+import org.eclipse.jdt.debug.tests.AbstractDebugPerformanceTest;
+import org.eclipse.test.performance.Dimension;
+
+/**
+ * Tests the cost of capturing JDWP packets into a {@link PacketCapture}, and
+ * of replaying a capture through a {@link ReplayConnection}. No target VM is
+ * needed.
+ */
+public class PacketCapturePerfTests extends AbstractDebugPerformanceTest {
+
+	/**
+	 * Number of packets per sample
+	 */
+	private static final int PACKETS = 100000;
+
+	/**
+	 * Constructor
+	 * @param name
+	 */
+	public PacketCapturePerfTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * Tests recording packets into a capture file small enough to wrap
+	 * around several times per sample.
+	 * @throws Exception
+	 */
+	public void testCapturePackets() throws Exception {
+		tagAsSummary("Capture JDWP packets", Dimension.ELAPSED_PROCESS);
+		File file = File.createTempFile("jdwp", ".cap"); //$NON-NLS-1$ //$NON-NLS-2$
+		PacketCapture capture = new PacketCapture(file, 1024 * 1024);
+		try {
+			byte[] packet = commandBytes(1, 64);
+			// warm up
+			for (int i = 0; i < PACKETS; i++) {
+				capture.record(PacketCapture.TO_VM, packet);
+			}
+			for (int i = 0; i < 20; i++) {
+				startMeasuring();
+				for (int j = 0; j < PACKETS; j++) {
+					capture.record(PacketCapture.FROM_VM, packet);
+				}
+				stopMeasuring();
+			}
+			commitMeasurements();
+			assertPerformance();
+			capture.close();
+			List<PacketCapture.Record> records = PacketCapture.read(file);
+			assertFalse("No packet in the capture", records.isEmpty()); //$NON-NLS-1$
+			assertTrue("Oldest packets not overwritten", records.size() < PACKETS); //$NON-NLS-1$
+		} finally {
+			capture.close();
+			file.delete();
+		}
+	}
+
+	/**
+	 * Tests replaying a capture of commands and their replies through a
+	 * {@link PacketReceiveManager}, the commands being issued with other ids
+	 * than in the capture.
+	 * @throws Exception
+	 */
+	public void testReplayReplies() throws Exception {
+		File file = File.createTempFile("jdwp", ".cap"); //$NON-NLS-1$ //$NON-NLS-2$
+		try {
+			PacketCapture capture = new PacketCapture(file, 16 * 1024 * 1024);
+			for (int i = 0; i < PACKETS; i++) {
+				capture.record(PacketCapture.TO_VM, commandBytes(i, 16));
+				capture.record(PacketCapture.FROM_VM, replyBytes(i, 32));
+			}
+			capture.close();
+			List<PacketCapture.Record> records = PacketCapture.read(file);
+			assertEquals("Packets missing from the capture", 2 * PACKETS, records.size()); //$NON-NLS-1$
+			for (int i = 0; i < 10; i++) {
+				ReplayConnection connection = new ReplayConnection(records);
+				PacketReceiveManager manager = new PacketReceiveManager(connection, null);
+				Thread reader = new Thread(manager, "Packet Receive Manager"); //$NON-NLS-1$
+				reader.setDaemon(true);
+				reader.start();
+				try {
+					startMeasuring();
+					for (int j = 0; j < PACKETS; j++) {
+						int id = PACKETS + j;
+						connection.writePacket(commandBytes(id, 16));
+						JdwpPacket reply = manager.getReply(id, 30000);
+						assertEquals("Wrong reply", id, reply.getId()); //$NON-NLS-1$
+					}
+					stopMeasuring();
+					assertTrue("Capture not replayed", connection.isReplayed()); //$NON-NLS-1$
+					assertEquals("Commands not matched", 0, connection.getUnmatchedCommands()); //$NON-NLS-1$
+				} finally {
+					manager.disconnectVM();
+				}
+			}
+			commitMeasurements();
+			assertPerformance();
+		} finally {
+			file.delete();
+		}
+	}
+
+	/**
+	 * Tests that reading a capture whose oldest record is replaced by the mark
+	 * of the end of the records fails instead of going around forever.
+	 * @throws Exception
+	 */
+	public void testReadCorruptedCapture() throws Exception {
+		File file = File.createTempFile("jdwp", ".cap"); //$NON-NLS-1$ //$NON-NLS-2$
+		try {
+			PacketCapture capture = new PacketCapture(file, 64 * 1024);
+			for (int i = 0; i < 10; i++) {
+				capture.record(PacketCapture.TO_VM, commandBytes(i, 16));
+			}
+			capture.close();
+			RandomAccessFile output = new RandomAccessFile(file, "rw"); //$NON-NLS-1$
+			try {
+				// the oldest record follows the header of 40 bytes
+				output.seek(40);
+				output.writeInt(-1);
+			} finally {
+				output.close();
+			}
+			try {
+				PacketCapture.read(file);
+				fail("Corrupted capture read"); //$NON-NLS-1$
+			} catch (IOException e) {
+				// expected
+			}
+		} finally {
+			file.delete();
+		}
+	}
+
+	/**
+	 * @return the bytes of a 'VirtualMachine - Version' command packet with
+	 *         the given id and amount of data
+	 */
+	byte[] commandBytes(int id, int dataLength) {
+		byte[] bytes = headerBytes(id, dataLength);
+		bytes[9] = 1;
+		bytes[10] = 1;
+		return bytes;
+	}
+
+	/**
+	 * @return the bytes of a reply packet without error with the given id and
+	 *         amount of data
+	 */
+	byte[] replyBytes(int id, int dataLength) {
+		byte[] bytes = headerBytes(id, dataLength);
+		bytes[8] = JdwpPacket.FLAG_REPLY_PACKET;
+		return bytes;
+	}
+
+	private byte[] headerBytes(int id, int dataLength) {
+		int length = JdwpPacket.MIN_PACKET_LENGTH + dataLength;
+		byte[] bytes = new byte[length];
+		bytes[2] = (byte) (length >>> 8);
+		bytes[3] = (byte) length;
+		bytes[4] = (byte) (id >>> 24);
+		bytes[5] = (byte) (id >>> 16);
+		bytes[6] = (byte) (id >>> 8);
+		bytes[7] = (byte) id;
+		return bytes;
+	}
+}
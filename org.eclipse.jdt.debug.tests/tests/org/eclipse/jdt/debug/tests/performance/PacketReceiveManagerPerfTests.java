@@ -0,0 +1,194 @@
+/*******************************************************************************
+ * Copyright (c) 2015 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.performance;
+
+import java.io.IOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.eclipse.jdi.internal.connect.PacketReceiveManager;
+import org.eclipse.jdi.internal.jdwp.JdwpPacket;
+import org.eclipse.jdt.debug.tests.AbstractDebugPerformanceTest;
+import org.eclipse.test.performance.Dimension;
+
+import com.sun.jdi.connect.spi.ClosedConnectionException;
+import com.sun.jdi.connect.spi.Connection;
+
+/**
+ * Tests the cost of handing replies to the threads waiting for them in the
+ * {@link PacketReceiveManager}, with several requests outstanding at once.
+ * No target VM is needed: replies are fed through an in-memory connection.
+ */
+public class PacketReceiveManagerPerfTests extends AbstractDebugPerformanceTest {
+
+	/**
+	 * Number of rounds of replies measured per sample
+	 */
+	private static final int ROUNDS = 200;
+
+	/**
+	 * A connection that hands out the packets queued with {@link #feed(byte[])}
+	 */
+	class QueueConnection extends Connection {
+		BlockingQueue<byte[]> fPackets = new LinkedBlockingQueue<byte[]>();
+		boolean fOpen = true;
+
+		void feed(byte[] packet) {
+			fPackets.add(packet);
+		}
+
+		@Override
+		public synchronized void close() throws IOException {
+			fOpen = false;
+			// unblock the reader
+			fPackets.add(new byte[0]);
+		}
+
+		@Override
+		public synchronized boolean isOpen() {
+			return fOpen;
+		}
+
+		@Override
+		public byte[] readPacket() throws IOException {
+			try {
+				byte[] packet = fPackets.take();
+				if (packet.length == 0) {
+					throw new ClosedConnectionException();
+				}
+				return packet;
+			} catch (InterruptedException e) {
+				throw new ClosedConnectionException();
+			}
+		}
+
+		@Override
+		public void writePacket(byte[] packet) throws IOException {
+		}
+	}
+
+	/**
+	 * Constructor
+	 * @param name
+	 */
+	public PacketReceiveManagerPerfTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * Tests reply dispatch with a single outstanding request
+	 * @throws Exception
+	 */
+	public void testReplyDispatch1() throws Exception {
+		runReplyDispatch(1);
+	}
+
+	/**
+	 * Tests reply dispatch with 16 outstanding requests
+	 * @throws Exception
+	 */
+	public void testReplyDispatch16() throws Exception {
+		runReplyDispatch(16);
+	}
+
+	/**
+	 * Tests reply dispatch with 256 outstanding requests
+	 * @throws Exception
+	 */
+	public void testReplyDispatch256() throws Exception {
+		tagAsSummary("Dispatch JDWP replies to 256 waiting threads", Dimension.ELAPSED_PROCESS);
+		runReplyDispatch(256);
+	}
+
+	/**
+	 * Starts <code>outstanding</code> threads that each wait for one reply per
+	 * round, and feeds the replies of each round in reverse order.
+	 *
+	 * @param outstanding the number of requests waiting at the same time
+	 * @throws Exception
+	 */
+	void runReplyDispatch(final int outstanding) throws Exception {
+		QueueConnection connection = new QueueConnection();
+		final PacketReceiveManager manager = new PacketReceiveManager(connection, null);
+		Thread reader = new Thread(manager, "Packet Receive Manager"); //$NON-NLS-1$
+		reader.setDaemon(true);
+		reader.start();
+		final int samples = 30;
+		final int totalRounds = ROUNDS * (samples + 5);
+		final CyclicBarrier barrier = new CyclicBarrier(outstanding + 1);
+		final Exception[] failure = new Exception[1];
+		Thread[] waiters = new Thread[outstanding];
+		for (int i = 0; i < outstanding; i++) {
+			final int index = i;
+			waiters[i] = new Thread("Reply waiter " + i) { //$NON-NLS-1$
+				@Override
+				public void run() {
+					try {
+						for (int round = 0; round < totalRounds; round++) {
+							manager.getReply(round * outstanding + index, 30000);
+							barrier.await();
+						}
+					} catch (Exception e) {
+						failure[0] = e;
+						barrier.reset();
+					}
+				}
+			};
+			waiters[i].setDaemon(true);
+			waiters[i].start();
+		}
+		try {
+			int round = 0;
+			// warm up
+			for (int i = 0; i < 5 * ROUNDS; i++) {
+				feedRound(connection, round++, outstanding);
+				barrier.await();
+			}
+			for (int i = 0; i < samples; i++) {
+				startMeasuring();
+				for (int j = 0; j < ROUNDS; j++) {
+					feedRound(connection, round++, outstanding);
+					barrier.await();
+				}
+				stopMeasuring();
+			}
+			assertNull("A waiting thread failed", failure[0]);
+			commitMeasurements();
+			assertPerformance();
+		} finally {
+			manager.disconnectVM();
+		}
+	}
+
+	/**
+	 * Queues the replies of the given round, last request first
+	 */
+	void feedRound(QueueConnection connection, int round, int outstanding) {
+		for (int i = outstanding - 1; i >= 0; i--) {
+			connection.feed(replyBytes(round * outstanding + i));
+		}
+	}
+
+	/**
+	 * @return the bytes of an empty reply packet without error for the given id
+	 */
+	byte[] replyBytes(int id) {
+		byte[] bytes = new byte[11];
+		bytes[3] = 11;
+		bytes[4] = (byte) (id >>> 24);
+		bytes[5] = (byte) (id >>> 16);
+		bytes[6] = (byte) (id >>> 8);
+		bytes[7] = (byte) id;
+		bytes[8] = JdwpPacket.FLAG_REPLY_PACKET;
+		return bytes;
+	}
+}
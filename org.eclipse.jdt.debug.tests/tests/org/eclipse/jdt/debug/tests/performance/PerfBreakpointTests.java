@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2011 IBM Corporation and others.
+ *  Copyright (c) 2000, 2015 IBM Corporation and others.
  *  All rights reserved. This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License v1.0
  *  which accompanies this distribution, and is available at
@@ -24,6 +24,7 @@ import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.IJavaWatchpoint;
 import org.eclipse.jdt.debug.core.JDIDebugModel;
 import org.eclipse.jdt.debug.tests.AbstractDebugPerformanceTest;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 import org.eclipse.test.performance.Dimension;
 
 /**
@@ -90,6 +91,50 @@ public class PerfBreakpointTests extends AbstractDebugPerformanceTest implements
         }
     }
 
+    /**
+     * Tests the performance of launching with line breakpoints to install in
+     * a type that is loaded after the target is initialized. The breakpoints
+     * are installed when the type is prepared, and their requests are enabled
+     * in one batch while the class prepare event is handled.
+     * @throws Exception
+     */
+    public void testLineBreakpointInstallOnLaunch() throws Exception {
+        tagAsSummary("Launch with Line Breakpoints", Dimension.ELAPSED_PROCESS);
+        String typeName = "LargeSourceFile";
+        IResource resource = getBreakpointResource(typeName);
+
+        int[] lineNumbers = new int[150];
+        for (int i = 0; i < lineNumbers.length; i++) {
+            lineNumbers[i] = 15 + i;
+        }
+        try {
+            createLineBreakpoints(resource, typeName, lineNumbers);
+            createLineBreakpoint(14, typeName);
+            for (int i = 0; i < 3; i++) {
+                IJavaThread thread = launchToBreakpoint(typeName, false);
+                terminateAndRemove(thread);
+            }
+            for (int i = 0; i < 10; i++) {
+                System.gc();
+                startMeasuring();
+                IJavaThread thread = launchToBreakpoint(typeName, false);
+                stopMeasuring();
+                JDIDebugTarget target = (JDIDebugTarget) thread.getDebugTarget();
+                assertTrue("Breakpoints should be installed on initialization", target.getBreakpointInstallTime() >= 0);
+                IBreakpoint[] breakpoints = getBreakpointManager().getBreakpoints(JDIDebugModel.getPluginIdentifier());
+                assertEquals("Wrong number of breakpoints", lineNumbers.length + 1, breakpoints.length);
+                for (int j = 0; j < breakpoints.length; j++) {
+                    assertTrue("Breakpoint should be installed when the type is prepared", ((IJavaLineBreakpoint) breakpoints[j]).isInstalled());
+                }
+                terminateAndRemove(thread);
+            }
+            commitMeasurements();
+            assertPerformance();
+        } finally {
+            removeAllBreakpoints();
+        }
+    }
+
     /**
      * Tests the performance of breakpoint removal
      * @throws Exception
@@ -0,0 +1,132 @@
+/*******************************************************************************
+ * Copyright (c) 2015 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.performance;
+
+import org.eclipse.debug.core.DebugEvent;
+import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+import org.eclipse.jdt.debug.core.IJavaStackFrame;
+import org.eclipse.jdt.debug.core.IJavaThread;
+import org.eclipse.jdt.debug.eval.ICompiledExpression;
+import org.eclipse.jdt.debug.eval.IEvaluationListener;
+import org.eclipse.jdt.debug.eval.IEvaluationResult;
+import org.eclipse.jdt.debug.tests.AbstractDebugPerformanceTest;
+import org.eclipse.jdt.internal.debug.eval.ast.engine.ASTEvaluationEngine;
+import org.eclipse.test.performance.Dimension;
+
+/**
+ * Tests the performance of evaluating compiled expressions: a corpus of
+ * typical watch expressions and breakpoint conditions is compiled once and
+ * evaluated repeatedly in a suspended thread.
+ */
+public class PerfEvaluationTests extends AbstractDebugPerformanceTest {
+
+	/**
+	 * Watch expressions and conditions in the context of line 16 of
+	 * HitCountLooper
+	 */
+	private static final String[] CORPUS = new String[] {
+		"i",
+		"i == 3",
+		"i > 2 && i < 10",
+		"i % 100 == 0 || args == null",
+		"args.length",
+		"args != null && args.length == 0",
+		"\"Main Looping \" + i",
+		"1 + 2 * 3 == 7",
+		"Integer.toString(i)",
+		"String.valueOf(i).equals(\"3\")",
+		"new StringBuffer().append(i).append(args.length).toString()",
+		"Math.max(i, 5) - Math.min(i, 5)"
+	};
+
+	/**
+	 * Listener waiting for the result of an evaluation
+	 */
+	class ResultListener implements IEvaluationListener {
+		private IEvaluationResult fResult;
+
+		public synchronized void evaluationComplete(IEvaluationResult result) {
+			fResult = result;
+			notifyAll();
+		}
+
+		synchronized IEvaluationResult waitForResult() throws InterruptedException {
+			long timeout = System.currentTimeMillis() + DEFAULT_TIMEOUT;
+			while (fResult == null && System.currentTimeMillis() < timeout) {
+				wait(DEFAULT_TIMEOUT);
+			}
+			return fResult;
+		}
+	}
+
+	/**
+	 * Constructor
+	 * @param name
+	 */
+	public PerfEvaluationTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * Tests evaluating the corpus 10 times per sample.
+	 * @throws Exception
+	 */
+	public void testEvaluateCorpus() throws Exception {
+		tagAsSummary("Evaluate compiled expressions", Dimension.ELAPSED_PROCESS);
+		String typeName = "HitCountLooper";
+		createLineBreakpoint(16, typeName);
+		IJavaThread thread = null;
+		try {
+			thread = launchToBreakpoint(typeName);
+			assertNotNull("The program did not suspend", thread);
+			IJavaStackFrame frame = (IJavaStackFrame) thread.getTopStackFrame();
+			ASTEvaluationEngine engine = new ASTEvaluationEngine(getProjectContext(), (IJavaDebugTarget) thread.getDebugTarget());
+			try {
+				ICompiledExpression[] expressions = new ICompiledExpression[CORPUS.length];
+				for (int i = 0; i < CORPUS.length; i++) {
+					expressions[i] = engine.getCompiledExpression(CORPUS[i], frame);
+					assertFalse("Compilation errors in " + CORPUS[i], expressions[i].hasErrors());
+				}
+				// warm up
+				for (int i = 0; i < 5; i++) {
+					evaluateAll(engine, expressions, frame);
+				}
+				for (int i = 0; i < 20; i++) {
+					startMeasuring();
+					for (int j = 0; j < 10; j++) {
+						evaluateAll(engine, expressions, frame);
+					}
+					stopMeasuring();
+				}
+				commitMeasurements();
+				assertPerformance();
+			} finally {
+				engine.dispose();
+			}
+		} finally {
+			terminateAndRemove(thread);
+			removeAllBreakpoints();
+		}
+	}
+
+	/**
+	 * Evaluates each of the given expressions and checks it has a result.
+	 */
+	private void evaluateAll(ASTEvaluationEngine engine, ICompiledExpression[] expressions, IJavaStackFrame frame) throws Exception {
+		for (int i = 0; i < expressions.length; i++) {
+			ResultListener listener = new ResultListener();
+			engine.evaluateExpression(expressions[i], frame, listener, DebugEvent.EVALUATION_IMPLICIT, false);
+			IEvaluationResult result = listener.waitForResult();
+			assertNotNull("No result for " + expressions[i].getSnippet(), result);
+			assertFalse("Errors evaluating " + expressions[i].getSnippet(), result.hasErrors());
+		}
+	}
+}
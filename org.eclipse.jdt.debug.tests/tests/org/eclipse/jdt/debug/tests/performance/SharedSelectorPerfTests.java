@@ -0,0 +1,144 @@
+/*******************************************************************************
+ * Copyright (c) 2015 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.performance;
+
+import java.lang.management.ManagementFactory;
+
+import org.eclipse.jdi.Bootstrap;
+import org.eclipse.jdi.internal.VirtualMachineManagerImpl;
+import org.eclipse.jdt.debug.tests.AbstractDebugPerformanceTest;
+import org.eclipse.jdt.debug.tests.jdwp.StubJdwpServer;
+import org.eclipse.test.performance.Dimension;
+
+import com.sun.jdi.VirtualMachine;
+import com.sun.jdi.event.EventSet;
+import com.sun.jdi.event.ThreadStartEvent;
+
+/**
+ * Tests how the JDI implementation scales with the number of VMs it is
+ * connected to, with the IO of each VM performed by its own threads or by the
+ * shared selector: the threads used and the latency of events. The VMs are
+ * played by {@link StubJdwpServer}s.
+ */
+public class SharedSelectorPerfTests extends AbstractDebugPerformanceTest {
+
+	/**
+	 * Number of VMs connected at once
+	 */
+	private static final int VMS = 40;
+
+	/**
+	 * Number of events sent to each VM per sample
+	 */
+	private static final int EVENTS = 50;
+
+	/**
+	 * Constructor
+	 * @param name
+	 */
+	public SharedSelectorPerfTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * Tests the latency of events with two threads per VM.
+	 * @throws Exception
+	 */
+	public void testEventLatencyDedicatedThreads() throws Exception {
+		runEventLatency(false);
+	}
+
+	/**
+	 * Tests the latency of events with a single thread for all the VMs.
+	 * @throws Exception
+	 */
+	public void testEventLatencySharedSelector() throws Exception {
+		tagAsSummary("Event latency of 40 VMs with a shared selector", Dimension.ELAPSED_PROCESS); //$NON-NLS-1$
+		runEventLatency(true);
+	}
+
+	/**
+	 * Connects to {@link #VMS} stub VMs and measures the time taken for an
+	 * event sent by each VM in turn to be removed from its event queue.
+	 *
+	 * @param shared whether the IO is performed by the shared selector
+	 * @throws Exception
+	 */
+	void runEventLatency(boolean shared) throws Exception {
+		VirtualMachineManagerImpl manager = (VirtualMachineManagerImpl) Bootstrap.virtualMachineManager();
+		boolean wasShared = manager.useSharedSelector();
+		StubJdwpServer[] servers = new StubJdwpServer[VMS];
+		VirtualMachine[] vms = new VirtualMachine[VMS];
+		try {
+			manager.setUseSharedSelector(shared);
+			for (int i = 0; i < VMS; i++) {
+				servers[i] = new StubJdwpServer();
+				servers[i].start();
+			}
+			int threadsBefore = ManagementFactory.getThreadMXBean().getThreadCount();
+			for (int i = 0; i < VMS; i++) {
+				vms[i] = servers[i].attach();
+			}
+			// let the attach threads end
+			Thread.sleep(500);
+			int threads = ManagementFactory.getThreadMXBean().getThreadCount() - threadsBefore;
+			if (shared) {
+				assertTrue("Threads started for " + VMS + " VMs: " + threads, threads < VMS); //$NON-NLS-1$ //$NON-NLS-2$
+			} else {
+				assertTrue("Threads started for " + VMS + " VMs: " + threads, threads >= VMS); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+
+			long threadId = 1;
+			// warm up
+			sendEvents(servers, vms, threadId);
+			threadId += VMS * EVENTS;
+			for (int i = 0; i < 10; i++) {
+				startMeasuring();
+				sendEvents(servers, vms, threadId);
+				stopMeasuring();
+				threadId += VMS * EVENTS;
+			}
+			commitMeasurements();
+			assertPerformance();
+		} finally {
+			manager.setUseSharedSelector(wasShared);
+			for (int i = 0; i < VMS; i++) {
+				if (vms[i] != null) {
+					try {
+						vms[i].dispose();
+					} catch (Exception e) {
+						// the stub may be gone
+					}
+				}
+				if (servers[i] != null) {
+					servers[i].close();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Has each VM in turn send a thread start event and waits for it, for
+	 * {@link #EVENTS} rounds.
+	 */
+	private void sendEvents(StubJdwpServer[] servers, VirtualMachine[] vms, long firstThreadId) throws Exception {
+		long threadId = firstThreadId;
+		for (int i = 0; i < EVENTS; i++) {
+			for (int j = 0; j < VMS; j++) {
+				servers[j].sendThreadStartEvent(threadId);
+				EventSet set = vms[j].eventQueue().remove(30000);
+				assertNotNull("No event received", set); //$NON-NLS-1$
+				assertTrue("Wrong event received", set.eventIterator().nextEvent() instanceof ThreadStartEvent); //$NON-NLS-1$
+				threadId++;
+			}
+		}
+	}
+}
@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2015 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.performance;
+
+import org.eclipse.jdi.internal.StratumLineIndex;
+import org.eclipse.jdt.debug.tests.AbstractDebugPerformanceTest;
+import org.eclipse.test.performance.Dimension;
+
+/**
+ * Tests the cost of building and looking up the line mappings of a large
+ * synthetic SMAP, as for a type generated from a big JSP with many included
+ * files. No target VM is needed.
+ */
+public class StratumLineIndexPerfTests extends AbstractDebugPerformanceTest {
+
+	/**
+	 * Number of input source files of the SMAP
+	 */
+	private static final int FILES = 50;
+
+	/**
+	 * Number of lines of each input source file
+	 */
+	private static final int LINES = 2000;
+
+	/**
+	 * Number of output lines each input line is translated to
+	 */
+	private static final int RANGE = 3;
+
+	/**
+	 * Constructor
+	 * @param name
+	 */
+	public StratumLineIndexPerfTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * Returns the indexes of the line section
+	 * <code>1#f,2000:o,3</code> of each file <code>f</code>, the output
+	 * lines of the files following one another: the index of the output
+	 * lines, then the index of the input lines of each file.
+	 */
+	private StratumLineIndex[] createIndexes() {
+		StratumLineIndex[] indexes = new StratumLineIndex[FILES + 1];
+		indexes[0] = new StratumLineIndex();
+		int outputLine = 1;
+		for (int file = 0; file < FILES; file++) {
+			indexes[file + 1] = new StratumLineIndex();
+			// input lines in decreasing order, so that sorting is needed
+			for (int line = LINES; line > 0; line--) {
+				int outputStartLine = outputLine + (line - 1) * RANGE;
+				indexes[file + 1].add(line, outputStartLine, RANGE);
+				for (int i = 0; i < RANGE; i++) {
+					indexes[0].add(outputStartLine + i, file, line);
+				}
+			}
+			outputLine += LINES * RANGE;
+		}
+		for (StratumLineIndex index : indexes) {
+			index.sort();
+		}
+		return indexes;
+	}
+
+	/**
+	 * Tests building the indexes of a large SMAP.
+	 * @throws Exception
+	 */
+	public void testBuildIndexes() throws Exception {
+		tagAsSummary("Build SMAP line indexes", Dimension.ELAPSED_PROCESS);
+		// warm up
+		for (int i = 0; i < 20; i++) {
+			createIndexes();
+		}
+		for (int i = 0; i < 50; i++) {
+			startMeasuring();
+			createIndexes();
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Tests looking up every line of a large SMAP both ways, as when
+	 * installing stratum breakpoints and showing stack frames.
+	 * @throws Exception
+	 */
+	public void testLookupLines() throws Exception {
+		tagAsSummary("Look up SMAP lines", Dimension.ELAPSED_PROCESS);
+		StratumLineIndex[] indexes = createIndexes();
+		StratumLineIndex outputIndex = indexes[0];
+		assertEquals("Wrong number of output lines", FILES * LINES * RANGE, outputIndex.size());
+		int position = outputIndex.indexOf(LINES * RANGE + 4);
+		assertEquals("Wrong input file", 1, outputIndex.firstAt(position));
+		assertEquals("Wrong input line", 2, outputIndex.secondAt(position));
+		// warm up
+		lookupLines(indexes);
+		for (int i = 0; i < 50; i++) {
+			startMeasuring();
+			for (int j = 0; j < 10; j++) {
+				lookupLines(indexes);
+			}
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	private void lookupLines(StratumLineIndex[] indexes) {
+		for (int file = 1; file <= FILES; file++) {
+			for (int line = 1; line <= LINES; line++) {
+				assertTrue("Missing input line", indexes[file].indexOf(line) != -1);
+			}
+		}
+		for (int line = 1; line <= FILES * LINES * RANGE; line++) {
+			assertTrue("Missing output line", indexes[0].indexOf(line) != -1);
+		}
+	}
+}
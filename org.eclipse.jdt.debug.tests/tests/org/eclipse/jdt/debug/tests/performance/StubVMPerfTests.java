@@ -0,0 +1,222 @@
+/*******************************************************************************
+ * Copyright (c) 2015 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.debug.tests.performance;
+
+import java.util.List;
+
+import org.eclipse.jdt.debug.tests.AbstractDebugPerformanceTest;
+import org.eclipse.jdt.debug.tests.jdwp.ScriptedJdwpServer;
+import org.eclipse.test.performance.Dimension;
+
+import com.sun.jdi.Field;
+import com.sun.jdi.ObjectReference;
+import com.sun.jdi.ThreadReference;
+import com.sun.jdi.VirtualMachine;
+import com.sun.jdi.event.EventSet;
+
+/**
+ * Tests the costs of the JDI implementation in isolation, against a
+ * {@link ScriptedJdwpServer} in place of a launched VM: attaching, reading
+ * stack frames and field values, and dispatching events.
+ */
+public class StubVMPerfTests extends AbstractDebugPerformanceTest {
+
+	private ScriptedJdwpServer fServer;
+	private VirtualMachine fVM;
+
+	/**
+	 * Constructor
+	 * @param name
+	 */
+	public StubVMPerfTests(String name) {
+		super(name);
+	}
+
+	/**
+	 * Overridden to dispose of the VM and stop the server.
+	 * @see org.eclipse.jdt.debug.tests.AbstractDebugPerformanceTest#tearDown()
+	 */
+	@Override
+	protected void tearDown() throws Exception {
+		try {
+			if (fVM != null) {
+				fVM.dispose();
+			}
+		} catch (Exception e) {
+			// the server may be gone
+		} finally {
+			if (fServer != null) {
+				fServer.close();
+			}
+			super.tearDown();
+		}
+	}
+
+	/**
+	 * Starts the server and attaches to it.
+	 */
+	private void attach() throws Exception {
+		fServer.start();
+		fVM = fServer.attach();
+	}
+
+	/**
+	 * Tests attaching to a VM and disposing of it.
+	 * @throws Exception
+	 */
+	public void testAttach() throws Exception {
+		ScriptedJdwpServer[] servers = new ScriptedJdwpServer[220];
+		try {
+			for (int i = 0; i < servers.length; i++) {
+				servers[i] = new ScriptedJdwpServer();
+				servers[i].defineThread("main", 10);
+				servers[i].start();
+			}
+			int next = 0;
+			// warm up
+			for (int i = 0; i < 20; i++) {
+				attachAndDispose(servers[next++]);
+			}
+			for (int i = 0; i < 20; i++) {
+				startMeasuring();
+				for (int j = 0; j < 10; j++) {
+					attachAndDispose(servers[next++]);
+				}
+				stopMeasuring();
+			}
+			commitMeasurements();
+			assertPerformance();
+		} finally {
+			for (int i = 0; i < servers.length; i++) {
+				if (servers[i] != null) {
+					servers[i].close();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Attaches to the given server, reads its threads and disposes of the VM.
+	 */
+	private void attachAndDispose(ScriptedJdwpServer server) throws Exception {
+		VirtualMachine vm = server.attach();
+		vm.allThreads().get(0).name();
+		vm.dispose();
+	}
+
+	/**
+	 * Tests reading the 200 frames of a thread.
+	 * @throws Exception
+	 */
+	public void testThreadFrames() throws Exception {
+		tagAsSummary("Read 200 stack frames from a stub VM", Dimension.ELAPSED_PROCESS);
+		fServer = new ScriptedJdwpServer();
+		fServer.defineThread("main", 200);
+		attach();
+		ThreadReference thread = fVM.allThreads().get(0);
+		runFrames(thread, 200);
+	}
+
+	/**
+	 * Tests reading the 20 frames of a thread from a VM that takes 200
+	 * microseconds to reply.
+	 * @throws Exception
+	 */
+	public void testThreadFramesWithLatency() throws Exception {
+		fServer = new ScriptedJdwpServer();
+		fServer.defineThread("main", 20);
+		attach();
+		ThreadReference thread = fVM.allThreads().get(0);
+		fServer.setLatency(200000);
+		runFrames(thread, 20);
+	}
+
+	/**
+	 * Reads the frames of the given thread, 100 times per sample.
+	 */
+	private void runFrames(ThreadReference thread, int depth) throws Exception {
+		// warm up
+		for (int i = 0; i < 100; i++) {
+			assertEquals("Wrong number of frames", depth, thread.frames().size());
+		}
+		for (int i = 0; i < 20; i++) {
+			startMeasuring();
+			for (int j = 0; j < 100; j++) {
+				thread.frames();
+			}
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Tests reading the values of the 100 fields of an object.
+	 * @throws Exception
+	 */
+	public void testObjectGetValues() throws Exception {
+		fServer = new ScriptedJdwpServer();
+		long threadId = fServer.defineThread("main");
+		long object = fServer.defineObject("Lstub/Data;", 100);
+		long classId = fServer.defineClass("Lstub/Main;");
+		fServer.defineFrame(threadId, fServer.defineMethod(classId, "main", "()V"), 0, object);
+		attach();
+		ObjectReference reference = fVM.allThreads().get(0).frame(0).thisObject();
+		List<Field> fields = reference.referenceType().fields();
+		// warm up
+		for (int i = 0; i < 500; i++) {
+			assertEquals("Wrong number of values", 100, reference.getValues(fields).size());
+		}
+		for (int i = 0; i < 20; i++) {
+			startMeasuring();
+			for (int j = 0; j < 500; j++) {
+				reference.getValues(fields);
+			}
+			stopMeasuring();
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Tests dispatching events from the VM to the event queue.
+	 * @throws Exception
+	 */
+	public void testEventDispatch() throws Exception {
+		fServer = new ScriptedJdwpServer();
+		attach();
+		long threadId = 1;
+		// warm up
+		dispatchEvents(threadId);
+		threadId += 1000;
+		for (int i = 0; i < 20; i++) {
+			startMeasuring();
+			dispatchEvents(threadId);
+			stopMeasuring();
+			threadId += 1000;
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Has the VM send 1000 events and removes them from the event queue.
+	 */
+	private void dispatchEvents(long firstThreadId) throws Exception {
+		for (int i = 0; i < 1000; i++) {
+			fServer.sendThreadStartEvent(firstThreadId + i);
+		}
+		for (int i = 0; i < 1000; i++) {
+			EventSet set = fVM.eventQueue().remove(30000);
+			assertNotNull("No event received", set);
+		}
+	}
+}
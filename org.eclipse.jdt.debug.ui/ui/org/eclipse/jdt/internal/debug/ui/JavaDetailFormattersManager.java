@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -51,6 +51,7 @@ import org.eclipse.jdt.debug.eval.IEvaluationResult;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.jdt.internal.debug.core.JavaDebugUtils;
 import org.eclipse.jdt.internal.debug.core.logicalstructures.JDIAllInstancesValue;
+import org.eclipse.jdt.internal.debug.core.model.JDIArrayValue;
 import org.eclipse.jdt.internal.debug.core.model.JDINullValue;
 import org.eclipse.jdt.internal.debug.core.model.JDIReferenceListValue;
 import org.eclipse.jface.util.IPropertyChangeListener;
@@ -682,10 +683,15 @@ public class JavaDetailFormattersManager implements IPropertyChangeListener, IDe
 				length = arrayValue.getLength();
 				if (maxLength > 0 && length > maxEntries) {
 					partial = true;
-					IVariable[] variables = arrayValue.getVariables(0, maxEntries);
-					arrayValues = new IJavaValue[variables.length];
-					for (int i = 0; i < variables.length; i++) {
-						arrayValues[i] = (IJavaValue) variables[i].getValue();
+					if (arrayValue instanceof JDIArrayValue) {
+						// reads the entries in one request rather than one per entry
+						arrayValues = ((JDIArrayValue) arrayValue).getValues(0, maxEntries);
+					} else {
+						IVariable[] variables = arrayValue.getVariables(0, maxEntries);
+						arrayValues = new IJavaValue[variables.length];
+						for (int i = 0; i < variables.length; i++) {
+							arrayValues[i] = (IJavaValue) variables[i].getValue();
+						}
 					}
 				} else {
 					arrayValues= arrayValue.getValues();
@@ -223,6 +223,38 @@ public class ASTInstructionCompiler extends ASTVisitor {
 		}
 	}
 
+	/**
+	 * Pushes a single instruction for the value of the given expression if it
+	 * is a compile time constant, rather than the instructions computing it.
+	 * 
+	 * @param node
+	 *            the expression
+	 * @return whether an instruction was pushed
+	 */
+	private boolean pushConstant(Expression node) {
+		Object value = node.resolveConstantExpressionValue();
+		if (value instanceof String) {
+			push(new PushString((String) value));
+		} else if (value instanceof Boolean) {
+			push(new PushBoolean(((Boolean) value).booleanValue()));
+		} else if (value instanceof Character) {
+			push(new PushChar(((Character) value).charValue()));
+		} else if (value instanceof Long) {
+			push(new PushLong(((Long) value).longValue()));
+		} else if (value instanceof Float) {
+			push(new PushFloat(((Float) value).floatValue()));
+		} else if (value instanceof Double) {
+			push(new PushDouble(((Double) value).doubleValue()));
+		} else if (value instanceof Integer || value instanceof Short
+				|| value instanceof Byte) {
+			push(new PushInt(((Number) value).intValue()));
+		} else {
+			return false;
+		}
+		verbose("Fold " + node + " to " + value); //$NON-NLS-1$ //$NON-NLS-2$
+		return true;
+	}
+
 	/**
 	 * Prints the given message to the console if verbose mode is on.
 	 * 
@@ -2433,6 +2465,12 @@ public class ASTInstructionCompiler extends ASTVisitor {
 			return false;
 		}
 
+		if (pushConstant(node)) {
+			// endVisit(InfixExpression) does not store instructions
+			storeInstruction();
+			return false;
+		}
+
 		String opToken = node.getOperator().toString();
 		int opTokenLength = opToken.length();
 		char char0 = opToken.charAt(0);
@@ -3358,6 +3396,10 @@ public class ASTInstructionCompiler extends ASTVisitor {
 			return false;
 		}
 
+		if (pushConstant(node)) {
+			return false;
+		}
+
 		Expression operand = node.getOperand();
 		int expressionTypeId = getTypeId(operand);
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2013 IBM Corporation and others.
+ * Copyright (c) 2005, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -23,6 +23,8 @@ import org.eclipse.jdt.debug.core.IJavaReferenceType;
 import org.eclipse.jdt.debug.core.IJavaType;
 import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.TypeResolutionCache;
 import org.eclipse.jdt.internal.debug.eval.ast.instructions.InstructionsEvaluationMessages;
 
 import com.ibm.icu.text.MessageFormat;
@@ -30,7 +32,7 @@ import com.sun.jdi.InvocationException;
 
 /**
  * Common runtime context code for class loading and cache of class
- * loader/java.lang.Class.
+ * loader/java.lang.Class. Classes loaded are cached by the debug target.
  * 
  * @since 3.2
  */
@@ -168,7 +170,21 @@ public abstract class AbstractRuntimeContext implements IRuntimeContext {
 	 * (java.lang.String)
 	 */
 	public IJavaClassObject classForName(String name) throws CoreException {
-		return classForName(name, getClassLoaderObject());
+		IJavaObject loader = getClassLoaderObject();
+		if (!(getVM() instanceof JDIDebugTarget)) {
+			return classForName(name, loader);
+		}
+		// resolved types are cached by the target for later evaluations
+		TypeResolutionCache cache = ((JDIDebugTarget) getVM())
+				.getTypeResolutionCache();
+		IJavaClassObject classObject = cache.getClassObject(loader, name);
+		if (classObject == null) {
+			classObject = classForName(name, loader);
+			if (classObject != null) {
+				cache.putClassObject(loader, name, classObject);
+			}
+		}
+		return classObject;
 	}
 
 	/*
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,11 +11,12 @@
 package org.eclipse.jdt.internal.debug.eval.ast.engine;
 
 import java.util.ArrayList;
+import java.util.EmptyStackException;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Stack;
+import java.util.Set;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
@@ -27,6 +28,7 @@ import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.debug.core.JDIDebugModel;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
+import org.eclipse.jdt.internal.debug.core.model.JDIObjectValue;
 import org.eclipse.jdt.internal.debug.eval.ast.instructions.Instruction;
 import org.eclipse.jdt.internal.debug.eval.ast.instructions.InstructionSequence;
 
@@ -36,7 +38,11 @@ public class Interpreter {
 	private Instruction[] fInstructions;
 	private int fInstructionCounter;
 	private IRuntimeContext fContext;
-	private Stack<Object> fStack;
+	/**
+	 * The operand stack, which is only used by the evaluation thread
+	 */
+	private Object[] fStack;
+	private int fStackSize;
 	private IJavaValue fLastValue;
 
 	/**
@@ -49,6 +55,11 @@ public class Interpreter {
 	 */
 	private List<IJavaObject> fPermStorage = null;
 
+	/**
+	 * The objects in {@link #fPermStorage}, to disable GC once per object
+	 */
+	private Set<IJavaObject> fPermObjects = null;
+
 	private boolean fStopped = false;
 
 	public Interpreter(InstructionSequence instructions, IRuntimeContext context) {
@@ -60,16 +71,19 @@ public class Interpreter {
 	public void execute() throws CoreException {
 		try {
 			reset();
-			while (fInstructionCounter < fInstructions.length && !fStopped) {
-				Instruction instruction = fInstructions[fInstructionCounter++];
+			for (Instruction instruction : fInstructions) {
 				instruction.setInterpreter(this);
-				instruction.execute();
-				instruction.setInterpreter(null);
+			}
+			while (fInstructionCounter < fInstructions.length && !fStopped) {
+				fInstructions[fInstructionCounter++].execute();
 			}
 		} catch (VMDisconnectedException e) {
 			throw new CoreException(new Status(IStatus.ERROR,
 					JDIDebugModel.getPluginIdentifier(), e.getMessage(), e));
 		} finally {
+			for (Instruction instruction : fInstructions) {
+				instruction.setInterpreter(null);
+			}
 			releaseObjects();
 		}
 	}
@@ -79,7 +93,8 @@ public class Interpreter {
 	}
 
 	private void reset() {
-		fStack = new Stack<Object>();
+		fStack = new Object[16];
+		fStackSize = 0;
 		fInstructionCounter = 0;
 	}
 
@@ -96,14 +111,20 @@ public class Interpreter {
 	 * evaluation completes.
 	 */
 	public void push(Object object) {
-		fStack.push(object);
+		if (fStackSize == fStack.length) {
+			Object[] stack = new Object[fStackSize * 2];
+			System.arraycopy(fStack, 0, stack, 0, fStackSize);
+			fStack = stack;
+		}
+		fStack[fStackSize++] = object;
 		if (object instanceof IJavaObject) {
 			disableCollection((IJavaObject) object);
 		}
 	}
 
 	/**
-	 * Avoid garbage collecting interim results.
+	 * Avoid garbage collecting interim results. Objects pushed more than once
+	 * are only disabled once.
 	 * 
 	 * @param value
 	 *            object to disable garbage collection for
@@ -111,6 +132,10 @@ public class Interpreter {
 	private void disableCollection(IJavaObject value) {
 		if (fPermStorage == null) {
 			fPermStorage = new ArrayList<IJavaObject>(5);
+			fPermObjects = new HashSet<IJavaObject>();
+		}
+		if (!fPermObjects.add(value)) {
+			return;
 		}
 		try {
 			value.disableCollection();
@@ -121,24 +146,20 @@ public class Interpreter {
 	}
 
 	/**
-	 * Re-enable garbage collection if interim results.
+	 * Re-enable garbage collection if interim results, in a single batch.
 	 */
 	private void releaseObjects() {
 		if (fPermStorage != null) {
-			Iterator<IJavaObject> iterator = fPermStorage.iterator();
-			while (iterator.hasNext()) {
-				IJavaObject object = iterator.next();
-				try {
-					object.enableCollection();
-				} catch (CoreException e) {
-					// don't worry about GC if the VM has terminated
-					if ((e.getStatus().getException() instanceof VMDisconnectedException)) {
-						break;
-					}
+			try {
+				JDIObjectValue.enableCollection(fPermStorage);
+			} catch (CoreException e) {
+				// don't worry about GC if the VM has terminated
+				if (!(e.getStatus().getException() instanceof VMDisconnectedException)) {
 					JDIDebugPlugin.log(e);
 				}
 			}
 			fPermStorage = null;
+			fPermObjects = null;
 		}
 	}
 
@@ -146,14 +167,22 @@ public class Interpreter {
 	 * Peeks at the top object of the stack
 	 */
 	public Object peek() {
-		return fStack.peek();
+		if (fStackSize == 0) {
+			throw new EmptyStackException();
+		}
+		return fStack[fStackSize - 1];
 	}
 
 	/**
 	 * Pops an object off of the stack
 	 */
 	public Object pop() {
-		return fStack.pop();
+		if (fStackSize == 0) {
+			throw new EmptyStackException();
+		}
+		Object object = fStack[--fStackSize];
+		fStack[fStackSize] = null;
+		return object;
 	}
 
 	/**
@@ -164,13 +193,13 @@ public class Interpreter {
 	}
 
 	public IJavaValue getResult() {
-		if (fStack == null || fStack.isEmpty()) {
+		if (fStack == null || fStackSize == 0) {
 			if (fLastValue == null) {
 				return getContext().getVM().voidValue();
 			}
 			return fLastValue;
 		}
-		Object top = fStack.peek();
+		Object top = peek();
 		if (top instanceof IJavaVariable) {
 			try {
 				return (IJavaValue) ((IJavaVariable) top).getValue();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,7 +11,6 @@
 package org.eclipse.jdi.internal;
 
 import java.io.ByteArrayOutputStream;
-import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -21,6 +20,7 @@ import java.util.List;
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
 import org.eclipse.jdi.internal.jdwp.JdwpObjectID;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 
 import com.sun.jdi.ArrayReference;
@@ -44,6 +44,12 @@ public class ArrayReferenceImpl extends ObjectReferenceImpl implements
 
 	private int fLength = -1;
 
+	/**
+	 * JDWP tag of the component type if it is primitive, 0 if it is not, or -1
+	 * if not known yet.
+	 */
+	private byte fPrimitiveTag = -1;
+
 	/**
 	 * Creates new ArrayReferenceImpl.
 	 * @param vmImpl the VM
@@ -112,62 +118,8 @@ public class ArrayReferenceImpl extends ObjectReferenceImpl implements
 		// Note that this information should not be cached.
 		initJdwpRequest();
 		try {
-			ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
-			DataOutputStream outData = new DataOutputStream(outBytes);
-			write(this, outData); // arrayObject
-			writeInt(firstIndex, "firstIndex", outData); //$NON-NLS-1$
-			writeInt(length, "length", outData); //$NON-NLS-1$
-
-			JdwpReplyPacket replyPacket = requestVM(
-					JdwpCommandPacket.AR_GET_VALUES, outBytes);
-			switch (replyPacket.errorCode()) {
-			case JdwpReplyPacket.INVALID_INDEX:
-				throw new IndexOutOfBoundsException(
-						JDIMessages.ArrayReferenceImpl_Invalid_index_of_array_reference_given_1);
-			}
-			defaultReplyErrorHandler(replyPacket.errorCode());
-
-			DataInputStream replyData = replyPacket.dataInStream();
-
-			/*
-			 * NOTE: The JDWP documentation is not clear on this: it turns out
-			 * that the following is received from the VM: - type tag; - length
-			 * of array; - values of elements.
-			 */
-
-			int type = readByte("type", JdwpID.tagMap(), replyData); //$NON-NLS-1$
-			int readLength = readInt("length", replyData); //$NON-NLS-1$
-			// See also ValueImpl.
-			switch (type) {
-			// Multidimensional array.
-			case ArrayReferenceImpl.tag:
-				// Object references.
-			case ClassLoaderReferenceImpl.tag:
-			case ClassObjectReferenceImpl.tag:
-			case StringReferenceImpl.tag:
-			case ObjectReferenceImpl.tag:
-			case ThreadGroupReferenceImpl.tag:
-			case ThreadReferenceImpl.tag:
-				return readObjectSequence(readLength, replyData);
-
-				// Primitive type.
-			case BooleanValueImpl.tag:
-			case ByteValueImpl.tag:
-			case CharValueImpl.tag:
-			case DoubleValueImpl.tag:
-			case FloatValueImpl.tag:
-			case IntegerValueImpl.tag:
-			case LongValueImpl.tag:
-			case ShortValueImpl.tag:
-				return readPrimitiveSequence(readLength, type, replyData);
-
-			case VoidValueImpl.tag:
-			case 0:
-			default:
-				throw new InternalException(
-						JDIMessages.ArrayReferenceImpl_Invalid_ArrayReference_Value_tag_encountered___2
-								+ type);
-			}
+			JdwpReplyPacket replyPacket = requestValues(firstIndex, length);
+			return readValues(replyPacket.dataDecoder());
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
 			return null;
@@ -177,43 +129,141 @@ public class ArrayReferenceImpl extends ObjectReferenceImpl implements
 	}
 
 	/**
-	 * Reads the given length of objects from the given stream
-	 * @param length the number of objects to read
-	 * @param in the stream to read from 
-	 * @return the {@link List} of {@link ValueImpl}s
-	 * @throws IOException if the reading fails
-	 * @returns Returns sequence of object reference values.
+	 * Sends an 'ArrayReference - Get Values' request and handles the errors of
+	 * the reply. Must be called between {@link #initJdwpRequest()} and
+	 * {@link #handledJdwpRequest()}.
+	 * 
+	 * @param firstIndex
+	 *            the index of the first component
+	 * @param length
+	 *            the number of components
+	 * @return the reply packet
+	 * @throws IOException
+	 *             if writing the request fails
 	 */
-	private List<Value> readObjectSequence(int length, DataInputStream in)
+	private JdwpReplyPacket requestValues(int firstIndex, int length)
 			throws IOException {
-		List<Value> elements = new ArrayList<Value>(length);
-		for (int i = 0; i < length; i++) {
-			ValueImpl value = ObjectReferenceImpl
-					.readObjectRefWithTag(this, in);
-			elements.add(value);
+		ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+		DataOutputStream outData = new DataOutputStream(outBytes);
+		write(this, outData); // arrayObject
+		writeInt(firstIndex, "firstIndex", outData); //$NON-NLS-1$
+		writeInt(length, "length", outData); //$NON-NLS-1$
+
+		JdwpReplyPacket replyPacket = requestVM(
+				JdwpCommandPacket.AR_GET_VALUES, outBytes);
+		switch (replyPacket.errorCode()) {
+		case JdwpReplyPacket.INVALID_INDEX:
+			throw new IndexOutOfBoundsException(
+					JDIMessages.ArrayReferenceImpl_Invalid_index_of_array_reference_given_1);
 		}
-		return elements;
+		defaultReplyErrorHandler(replyPacket.errorCode());
+		return replyPacket;
 	}
 
 	/**
-	 * @param length
-	 *            the number of primitives to read
+	 * Returns a new view of the components of this array that reads them into
+	 * arrays of their primitive type, page by page, without creating a
+	 * {@link Value} for each of them. The view keeps the pages it has read, so
+	 * it must only be used for a single request of the client, see
+	 * {@link PrimitiveArrayView}.
+	 * 
+	 * @return a new view, or <code>null</code> if the components of this array
+	 *         are not of primitive type
+	 */
+	public PrimitiveArrayView primitiveView() {
+		synchronized (this) {
+			if (fPrimitiveTag == -1) {
+				String signature = ((ArrayTypeImpl) referenceType())
+						.componentSignature();
+				fPrimitiveTag = TypeImpl.isPrimitiveSignature(signature) ? TypeImpl
+						.signatureToTag(signature) : 0;
+			}
+		}
+		if (fPrimitiveTag == 0) {
+			return null;
+		}
+		return new PrimitiveArrayView(this, fPrimitiveTag);
+	}
+
+	/**
+	 * Reads a range of components of primitive type into a new array.
+	 * 
 	 * @param type
-	 *            the type
+	 *            the JDWP tag of the component type
+	 * @param firstIndex
+	 *            the index of the first component
+	 * @param length
+	 *            the number of components, which must all be in the array
+	 * @return an array of the primitive type, like <code>int[]</code>
+	 * @see PrimitiveArrayView
+	 */
+	Object getPrimitiveValues(byte type, int firstIndex, int length) {
+		initJdwpRequest();
+		try {
+			JdwpReplyPacket replyPacket = requestValues(firstIndex, length);
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
+			// See readValues(JdwpReplyDecoder) for the layout of the reply.
+			readByte("type", JdwpID.tagMap(), replyData); //$NON-NLS-1$
+			int readLength = readInt("length", replyData); //$NON-NLS-1$
+			return PrimitiveArrayView.readPage(this, type, readLength,
+					replyData);
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+			return null;
+		} finally {
+			handledJdwpRequest();
+		}
+	}
+
+	/**
+	 * Reads the values of an 'ArrayReference - Get Values' reply.
+	 * 
 	 * @param in
-	 *            the input stream
-	 * @return Returns sequence of values of primitive type.
+	 *            the decoder over the reply data
+	 * @return the {@link List} of {@link ValueImpl}s
 	 * @throws IOException
-	 *             if reading from the stream encounters a problem
+	 *             if the reply is shorter than its content requires
 	 */
-	private List<Value> readPrimitiveSequence(int length, int type, DataInputStream in)
-			throws IOException {
-		List<Value> elements = new ArrayList<Value>(length);
-		for (int i = 0; i < length; i++) {
-			ValueImpl value = ValueImpl.readWithoutTag(this, type, in);
-			elements.add(value);
+	private List<Value> readValues(JdwpReplyDecoder in) throws IOException {
+		/*
+		 * NOTE: The JDWP documentation is not clear on this: it turns out that
+		 * the following is received from the VM: - type tag; - length of
+		 * array; - values of elements.
+		 */
+		int type = readByte("type", JdwpID.tagMap(), in); //$NON-NLS-1$
+		int readLength = readInt("length", in); //$NON-NLS-1$
+		List<Value> elements = new ArrayList<Value>(readLength);
+		switch (type) {
+		case ArrayReferenceImpl.tag:
+		case ClassLoaderReferenceImpl.tag:
+		case ClassObjectReferenceImpl.tag:
+		case StringReferenceImpl.tag:
+		case ObjectReferenceImpl.tag:
+		case ThreadGroupReferenceImpl.tag:
+		case ThreadReferenceImpl.tag:
+			for (int i = 0; i < readLength; i++) {
+				elements.add(ObjectReferenceImpl.readObjectRefWithTag(this, in));
+			}
+			return elements;
+
+		case BooleanValueImpl.tag:
+		case ByteValueImpl.tag:
+		case CharValueImpl.tag:
+		case DoubleValueImpl.tag:
+		case FloatValueImpl.tag:
+		case IntegerValueImpl.tag:
+		case LongValueImpl.tag:
+		case ShortValueImpl.tag:
+			for (int i = 0; i < readLength; i++) {
+				elements.add(ValueImpl.readWithoutTag(this, type, in));
+			}
+			return elements;
+
+		default:
+			throw new InternalException(
+					JDIMessages.ArrayReferenceImpl_Invalid_ArrayReference_Value_tag_encountered___2
+							+ type);
 		}
-		return elements;
 	}
 
 	/**
@@ -226,7 +276,7 @@ public class ArrayReferenceImpl extends ObjectReferenceImpl implements
 				JdwpReplyPacket replyPacket = requestVM(
 						JdwpCommandPacket.AR_LENGTH, this);
 				defaultReplyErrorHandler(replyPacket.errorCode());
-				DataInputStream replyData = replyPacket.dataInStream();
+				JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 				fLength = readInt("length", replyData); //$NON-NLS-1$ 
 			} catch (IOException e) {
 				defaultIOExceptionHandler(e);
@@ -359,6 +409,7 @@ public class ArrayReferenceImpl extends ObjectReferenceImpl implements
 
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.AR_SET_VALUES, outBytes);
+			virtualMachineImpl().changed();
 			switch (replyPacket.errorCode()) {
 			case JdwpReplyPacket.TYPE_MISMATCH:
 				throw new InvalidTypeException();
@@ -423,30 +474,28 @@ public class ArrayReferenceImpl extends ObjectReferenceImpl implements
 	}
 
 	/**
-	 * Reads JDWP representation and returns new instance.
-	 * 
-	 * @param target
-	 *            the target {@link Mirror} object
-	 * @param in
-	 *            the input stream to read from
 	 * @return Reads JDWP representation and returns new instance.
-	 * @throws IOException
-	 *             if there is a problem reading from the stream
 	 */
-	public static ArrayReferenceImpl read(MirrorImpl target, DataInputStream in)
-			throws IOException {
+	public static ArrayReferenceImpl read(MirrorImpl target,
+			JdwpReplyDecoder in) throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
-		JdwpObjectID ID = new JdwpObjectID(vmImpl);
-		ID.read(in);
+		long id = in.readID(vmImpl.objectIDSize());
 		if (target.fVerboseWriter != null) {
-			target.fVerboseWriter.println("arrayReference", ID.value()); //$NON-NLS-1$
+			target.fVerboseWriter.println("arrayReference", id); //$NON-NLS-1$
 		}
-
-		if (ID.isNull()) {
+		if (id == JdwpID.VALUE_NULL) {
 			return null;
 		}
+		return forID(vmImpl, id);
+	}
 
-		ArrayReferenceImpl mirror = new ArrayReferenceImpl(vmImpl, ID);
-		return mirror;
+	/**
+	 * @return Returns a new instance with the given non-null id.
+	 */
+	private static ArrayReferenceImpl forID(VirtualMachineImpl vmImpl,
+			long id) {
+		JdwpObjectID ID = new JdwpObjectID(vmImpl);
+		ID.setValue(id);
+		return new ArrayReferenceImpl(vmImpl, ID);
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,7 +11,6 @@
 package org.eclipse.jdi.internal;
 
 import java.io.ByteArrayOutputStream;
-import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.util.Collections;
@@ -23,6 +22,7 @@ import org.eclipse.jdi.internal.jdwp.JdwpArrayID;
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
 import org.eclipse.jdi.internal.jdwp.JdwpObjectID;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 
 import com.sun.jdi.AbsentInformationException;
@@ -134,7 +134,7 @@ public class ArrayTypeImpl extends ReferenceTypeImpl implements ArrayType {
 					JdwpCommandPacket.AT_NEW_INSTANCE, outBytes);
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			ArrayReferenceImpl arrayRef = (ArrayReferenceImpl) ObjectReferenceImpl
 					.readObjectRefWithTag(this, replyData);
 			return arrayRef;
@@ -158,24 +158,30 @@ public class ArrayTypeImpl extends ReferenceTypeImpl implements ArrayType {
 	}
 
 	/**
-	 * @param target the target
-	 * @param in the stream
 	 * @return Reads JDWP representation and returns new instance.
-	 * @throws IOException if the reading fails
 	 */
-	public static ArrayTypeImpl read(MirrorImpl target, DataInputStream in)
+	public static ArrayTypeImpl read(MirrorImpl target, JdwpReplyDecoder in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
-		JdwpArrayID ID = new JdwpArrayID(vmImpl);
-		ID.read(in);
-		if (target.fVerboseWriter != null)
-			target.fVerboseWriter.println("arrayType", ID.value()); //$NON-NLS-1$
-
-		if (ID.isNull())
+		long id = in.readID(vmImpl.referenceTypeIDSize());
+		if (target.fVerboseWriter != null) {
+			target.fVerboseWriter.println("arrayType", id); //$NON-NLS-1$
+		}
+		if (id == JdwpID.VALUE_NULL) {
 			return null;
+		}
+		return forID(vmImpl, id);
+	}
 
-		ArrayTypeImpl mirror = (ArrayTypeImpl) vmImpl.getCachedMirror(ID);
+	/**
+	 * @return Returns the cached instance with the given non-null id, or a
+	 *         new instance if there is none.
+	 */
+	private static ArrayTypeImpl forID(VirtualMachineImpl vmImpl, long id) {
+		ArrayTypeImpl mirror = (ArrayTypeImpl) vmImpl.getCachedRefType(id);
 		if (mirror == null) {
+			JdwpArrayID ID = new JdwpArrayID(vmImpl);
+			ID.setValue(id);
 			mirror = new ArrayTypeImpl(vmImpl, ID);
 			vmImpl.addCachedMirror(mirror);
 		}
@@ -246,27 +252,22 @@ public class ArrayTypeImpl extends ReferenceTypeImpl implements ArrayType {
 	 * @throws IOException if the read fails
 	 */
 	public static ArrayTypeImpl readWithSignature(MirrorImpl target,
-			boolean withGenericSignature, DataInputStream in)
+			boolean withGenericSignature, JdwpReplyDecoder in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
-		JdwpArrayID ID = new JdwpArrayID(vmImpl);
-		ID.read(in);
+		long id = in.readID(vmImpl.referenceTypeIDSize());
 		if (target.fVerboseWriter != null)
-			target.fVerboseWriter.println("arrayType", ID.value()); //$NON-NLS-1$
+			target.fVerboseWriter.println("arrayType", id); //$NON-NLS-1$
 
 		String signature = target.readString("signature", in); //$NON-NLS-1$
 		String genericSignature = null;
 		if (withGenericSignature) {
 			genericSignature = target.readString("generic signature", in); //$NON-NLS-1$
 		}
-		if (ID.isNull())
+		if (id == JdwpID.VALUE_NULL)
 			return null;
 
-		ArrayTypeImpl mirror = (ArrayTypeImpl) vmImpl.getCachedMirror(ID);
-		if (mirror == null) {
-			mirror = new ArrayTypeImpl(vmImpl, ID);
-			vmImpl.addCachedMirror(mirror);
-		}
+		ArrayTypeImpl mirror = forID(vmImpl, id);
 		mirror.setSignature(signature);
 		mirror.setGenericSignature(genericSignature);
 		return mirror;
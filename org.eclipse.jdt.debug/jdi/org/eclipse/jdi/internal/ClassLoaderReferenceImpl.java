@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,7 +10,6 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -19,6 +18,7 @@ import java.util.List;
 import org.eclipse.jdi.internal.jdwp.JdwpClassLoaderID;
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 
 import com.sun.jdi.ClassLoaderReference;
@@ -83,7 +83,7 @@ public class ClassLoaderReferenceImpl extends ObjectReferenceImpl implements Cla
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.CLR_VISIBLE_CLASSES, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
 			List<ReferenceType> elements = new ArrayList<ReferenceType>(nrOfElements);
 			for (int i = 0; i < nrOfElements; i++) {
@@ -105,18 +105,25 @@ public class ClassLoaderReferenceImpl extends ObjectReferenceImpl implements Cla
 	 * @return Reads JDWP representation and returns new instance.
 	 */
 	public static ClassLoaderReferenceImpl read(MirrorImpl target,
-			DataInputStream in) throws IOException {
+			JdwpReplyDecoder in) throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
-		JdwpClassLoaderID ID = new JdwpClassLoaderID(vmImpl);
-		ID.read(in);
-		if (target.fVerboseWriter != null)
-			target.fVerboseWriter.println("classLoaderReference", ID.value()); //$NON-NLS-1$
-
-		if (ID.isNull())
+		long id = in.readID(vmImpl.objectIDSize());
+		if (target.fVerboseWriter != null) {
+			target.fVerboseWriter.println("classLoaderReference", id); //$NON-NLS-1$
+		}
+		if (id == JdwpID.VALUE_NULL) {
 			return null;
+		}
+		return forID(vmImpl, id);
+	}
 
-		ClassLoaderReferenceImpl mirror = new ClassLoaderReferenceImpl(vmImpl,
-				ID);
-		return mirror;
+	/**
+	 * @return Returns a new instance with the given non-null id.
+	 */
+	private static ClassLoaderReferenceImpl forID(VirtualMachineImpl vmImpl,
+			long id) {
+		JdwpClassLoaderID ID = new JdwpClassLoaderID(vmImpl);
+		ID.setValue(id);
+		return new ClassLoaderReferenceImpl(vmImpl, ID);
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,12 +10,12 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 
 import org.eclipse.jdi.internal.jdwp.JdwpClassObjectID;
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 
 import com.sun.jdi.ClassObjectReference;
@@ -56,7 +56,7 @@ public class ClassObjectReferenceImpl extends ObjectReferenceImpl implements
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.COR_REFLECTED_TYPE, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			return ReferenceTypeImpl.readWithTypeTag(this, replyData);
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
@@ -70,18 +70,25 @@ public class ClassObjectReferenceImpl extends ObjectReferenceImpl implements
 	 * @return Reads JDWP representation and returns new instance.
 	 */
 	public static ClassObjectReferenceImpl read(MirrorImpl target,
-			DataInputStream in) throws IOException {
+			JdwpReplyDecoder in) throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
-		JdwpClassObjectID ID = new JdwpClassObjectID(vmImpl);
-		ID.read(in);
-		if (target.fVerboseWriter != null)
-			target.fVerboseWriter.println("classObjectReference", ID.value()); //$NON-NLS-1$
-
-		if (ID.isNull())
+		long id = in.readID(vmImpl.objectIDSize());
+		if (target.fVerboseWriter != null) {
+			target.fVerboseWriter.println("classObjectReference", id); //$NON-NLS-1$
+		}
+		if (id == JdwpID.VALUE_NULL) {
 			return null;
+		}
+		return forID(vmImpl, id);
+	}
 
-		ClassObjectReferenceImpl mirror = new ClassObjectReferenceImpl(vmImpl,
-				ID);
-		return mirror;
+	/**
+	 * @return Returns a new instance with the given non-null id.
+	 */
+	private static ClassObjectReferenceImpl forID(VirtualMachineImpl vmImpl,
+			long id) {
+		JdwpClassObjectID ID = new JdwpClassObjectID(vmImpl);
+		ID.setValue(id);
+		return new ClassObjectReferenceImpl(vmImpl, ID);
 	}
 }
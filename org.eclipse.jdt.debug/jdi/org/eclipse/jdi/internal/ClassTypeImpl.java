@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,7 +11,6 @@
 package org.eclipse.jdi.internal;
 
 import java.io.ByteArrayOutputStream;
-import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -22,6 +21,7 @@ import org.eclipse.jdi.internal.jdwp.JdwpClassID;
 import org.eclipse.jdi.internal.jdwp.JdwpClassObjectID;
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 
 import com.sun.jdi.ClassNotLoadedException;
@@ -194,6 +194,7 @@ public class ClassTypeImpl extends ReferenceTypeImpl implements ClassType {
 
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.CT_INVOKE_METHOD, outBytes);
+			virtualMachineImpl().changed();
 			switch (replyPacket.errorCode()) {
 			case JdwpReplyPacket.INVALID_METHODID:
 				throw new IllegalArgumentException();
@@ -207,7 +208,7 @@ public class ClassTypeImpl extends ReferenceTypeImpl implements ClassType {
 				throw new IncompatibleThreadStateException();
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			ValueImpl value = ValueImpl.readWithTag(this, replyData);
 			ObjectReferenceImpl exception = ObjectReferenceImpl
 					.readObjectRefWithTag(this, replyData);
@@ -271,6 +272,7 @@ public class ClassTypeImpl extends ReferenceTypeImpl implements ClassType {
 
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.CT_NEW_INSTANCE, outBytes);
+			virtualMachineImpl().changed();
 			switch (replyPacket.errorCode()) {
 			case JdwpReplyPacket.INVALID_METHODID:
 				throw new IllegalArgumentException();
@@ -284,7 +286,7 @@ public class ClassTypeImpl extends ReferenceTypeImpl implements ClassType {
 				throw new IncompatibleThreadStateException();
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			ObjectReferenceImpl object = ObjectReferenceImpl
 					.readObjectRefWithTag(this, replyData);
 			ObjectReferenceImpl exception = ObjectReferenceImpl
@@ -328,6 +330,7 @@ public class ClassTypeImpl extends ReferenceTypeImpl implements ClassType {
 
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.CT_SET_VALUES, outBytes);
+			virtualMachineImpl().changed();
 			switch (replyPacket.errorCode()) {
 			case JdwpReplyPacket.TYPE_MISMATCH:
 				throw new InvalidTypeException();
@@ -378,7 +381,7 @@ public class ClassTypeImpl extends ReferenceTypeImpl implements ClassType {
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.CT_SUPERCLASS, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			fSuperclass = ClassTypeImpl.read(this, replyData);
 			return fSuperclass;
 		} catch (IOException e) {
@@ -389,23 +392,31 @@ public class ClassTypeImpl extends ReferenceTypeImpl implements ClassType {
 		}
 	}
 
-	/*
-	 * @return Reads ID and returns known ReferenceTypeImpl with that ID, or if
-	 * ID is unknown a newly created ReferenceTypeImpl.
+	/**
+	 * @return Reads JDWP representation and returns new instance.
 	 */
-	public static ClassTypeImpl read(MirrorImpl target, DataInputStream in)
+	public static ClassTypeImpl read(MirrorImpl target, JdwpReplyDecoder in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
-		JdwpClassID ID = new JdwpClassID(vmImpl);
-		ID.read(in);
-		if (target.fVerboseWriter != null)
-			target.fVerboseWriter.println("classType", ID.value()); //$NON-NLS-1$
-
-		if (ID.isNull())
+		long id = in.readID(vmImpl.referenceTypeIDSize());
+		if (target.fVerboseWriter != null) {
+			target.fVerboseWriter.println("classType", id); //$NON-NLS-1$
+		}
+		if (id == JdwpID.VALUE_NULL) {
 			return null;
+		}
+		return forID(vmImpl, id);
+	}
 
-		ClassTypeImpl mirror = (ClassTypeImpl) vmImpl.getCachedMirror(ID);
+	/**
+	 * @return Returns the cached instance with the given non-null id, or a
+	 *         new instance if there is none.
+	 */
+	private static ClassTypeImpl forID(VirtualMachineImpl vmImpl, long id) {
+		ClassTypeImpl mirror = (ClassTypeImpl) vmImpl.getCachedRefType(id);
 		if (mirror == null) {
+			JdwpClassID ID = new JdwpClassID(vmImpl);
+			ID.setValue(id);
 			mirror = new ClassTypeImpl(vmImpl, ID);
 			vmImpl.addCachedMirror(mirror);
 		}
@@ -417,27 +428,22 @@ public class ClassTypeImpl extends ReferenceTypeImpl implements ClassType {
 	 * ID is unknown a newly created ReferenceTypeImpl.
 	 */
 	public static ClassTypeImpl readWithSignature(MirrorImpl target,
-			boolean withGenericSignature, DataInputStream in)
+			boolean withGenericSignature, JdwpReplyDecoder in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
-		JdwpClassID ID = new JdwpClassID(vmImpl);
-		ID.read(in);
+		long id = in.readID(vmImpl.referenceTypeIDSize());
 		if (target.fVerboseWriter != null)
-			target.fVerboseWriter.println("classType", ID.value()); //$NON-NLS-1$
+			target.fVerboseWriter.println("classType", id); //$NON-NLS-1$
 
 		String signature = target.readString("signature", in); //$NON-NLS-1$
 		String genericSignature = null;
 		if (withGenericSignature) {
 			genericSignature = target.readString("generic signature", in); //$NON-NLS-1$
 		}
-		if (ID.isNull())
+		if (id == JdwpID.VALUE_NULL)
 			return null;
 
-		ClassTypeImpl mirror = (ClassTypeImpl) vmImpl.getCachedMirror(ID);
-		if (mirror == null) {
-			mirror = new ClassTypeImpl(vmImpl, ID);
-			vmImpl.addCachedMirror(mirror);
-		}
+		ClassTypeImpl mirror = forID(vmImpl, id);
 		mirror.setSignature(signature);
 		mirror.setGenericSignature(genericSignature);
 		return mirror;
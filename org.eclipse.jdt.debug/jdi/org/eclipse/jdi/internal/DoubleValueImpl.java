@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,11 +10,11 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal;
 
-import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 
 import org.eclipse.jdi.internal.jdwp.JdwpID;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
 
 import com.sun.jdi.DoubleValue;
 import com.sun.jdi.Type;
@@ -68,7 +68,7 @@ public class DoubleValueImpl extends PrimitiveValueImpl implements DoubleValue,
 	/**
 	 * @return Reads and returns new instance.
 	 */
-	public static DoubleValueImpl read(MirrorImpl target, DataInputStream in)
+	public static DoubleValueImpl read(MirrorImpl target, JdwpReplyDecoder in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		double value = target.readDouble("doubleValue", in); //$NON-NLS-1$
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,11 +10,11 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal;
 
-import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 
 import org.eclipse.jdi.internal.jdwp.JdwpFieldID;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
 
 import com.sun.jdi.ClassNotLoadedException;
 import com.sun.jdi.Field;
@@ -161,7 +161,7 @@ public class FieldImpl extends TypeComponentImpl implements Field {
 	 * @return Reads JDWP representation and returns new instance.
 	 */
 	public static FieldImpl readWithReferenceTypeWithTag(MirrorImpl target,
-			DataInputStream in) throws IOException {
+			JdwpReplyDecoder in) throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		// See Events FIELD_ACCESS and FIELD_MODIFICATION (refTypeTag + typeID +
 		// fieldID).
@@ -171,7 +171,7 @@ public class FieldImpl extends TypeComponentImpl implements Field {
 			return null;
 
 		JdwpFieldID ID = new JdwpFieldID(vmImpl);
-		ID.read(in);
+		ID.setValue(in.readID(vmImpl.fieldIDSize()));
 		if (target.fVerboseWriter != null)
 			target.fVerboseWriter.println("field", ID.value()); //$NON-NLS-1$
 
@@ -189,11 +189,11 @@ public class FieldImpl extends TypeComponentImpl implements Field {
 	 */
 	public static FieldImpl readWithNameSignatureModifiers(
 			ReferenceTypeImpl target, ReferenceTypeImpl referenceType,
-			boolean withGenericSignature, DataInputStream in)
+			boolean withGenericSignature, JdwpReplyDecoder in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		JdwpFieldID ID = new JdwpFieldID(vmImpl);
-		ID.read(in);
+		ID.setValue(in.readID(vmImpl.fieldIDSize()));
 		if (target.fVerboseWriter != null)
 			target.fVerboseWriter.println("field", ID.value()); //$NON-NLS-1$
 
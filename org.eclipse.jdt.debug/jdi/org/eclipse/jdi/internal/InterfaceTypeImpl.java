@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,7 +10,6 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -19,6 +18,7 @@ import java.util.List;
 import org.eclipse.jdi.internal.jdwp.JdwpClassObjectID;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
 import org.eclipse.jdi.internal.jdwp.JdwpInterfaceID;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
 
 import com.sun.jdi.ClassNotPreparedException;
 import com.sun.jdi.ClassType;
@@ -154,25 +154,31 @@ public class InterfaceTypeImpl extends ReferenceTypeImpl implements
 	}
 
 	/**
-	 * @return Reads ID and returns known ReferenceTypeImpl with that ID, or if
-	 *         ID is unknown a newly created ReferenceTypeImpl.
+	 * @return Reads JDWP representation and returns new instance.
 	 */
-	public static InterfaceTypeImpl read(MirrorImpl target, DataInputStream in)
+	public static InterfaceTypeImpl read(MirrorImpl target, JdwpReplyDecoder in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
-		JdwpInterfaceID ID = new JdwpInterfaceID(vmImpl);
-		ID.read(in);
+		long id = in.readID(vmImpl.referenceTypeIDSize());
 		if (target.fVerboseWriter != null) {
-			target.fVerboseWriter.println("interfaceType", ID.value()); //$NON-NLS-1$
+			target.fVerboseWriter.println("interfaceType", id); //$NON-NLS-1$
 		}
-
-		if (ID.isNull()) {
+		if (id == JdwpID.VALUE_NULL) {
 			return null;
 		}
+		return forID(vmImpl, id);
+	}
 
+	/**
+	 * @return Returns the cached instance with the given non-null id, or a
+	 *         new instance if there is none.
+	 */
+	private static InterfaceTypeImpl forID(VirtualMachineImpl vmImpl, long id) {
 		InterfaceTypeImpl mirror = (InterfaceTypeImpl) vmImpl
-				.getCachedMirror(ID);
+				.getCachedRefType(id);
 		if (mirror == null) {
+			JdwpInterfaceID ID = new JdwpInterfaceID(vmImpl);
+			ID.setValue(id);
 			mirror = new InterfaceTypeImpl(vmImpl, ID);
 			vmImpl.addCachedMirror(mirror);
 		}
@@ -184,13 +190,12 @@ public class InterfaceTypeImpl extends ReferenceTypeImpl implements
 	 *         ID is unknown a newly created ReferenceTypeImpl.
 	 */
 	public static InterfaceTypeImpl readWithSignature(MirrorImpl target,
-			boolean withGenericSignature, DataInputStream in)
+			boolean withGenericSignature, JdwpReplyDecoder in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
-		JdwpInterfaceID ID = new JdwpInterfaceID(vmImpl);
-		ID.read(in);
+		long id = in.readID(vmImpl.referenceTypeIDSize());
 		if (target.fVerboseWriter != null) {
-			target.fVerboseWriter.println("interfaceType", ID.value()); //$NON-NLS-1$
+			target.fVerboseWriter.println("interfaceType", id); //$NON-NLS-1$
 		}
 
 		String signature = target.readString("signature", in); //$NON-NLS-1$
@@ -198,16 +203,11 @@ public class InterfaceTypeImpl extends ReferenceTypeImpl implements
 		if (withGenericSignature) {
 			genericSignature = target.readString("generic signature", in); //$NON-NLS-1$
 		}
-		if (ID.isNull()) {
+		if (id == JdwpID.VALUE_NULL) {
 			return null;
 		}
 
-		InterfaceTypeImpl mirror = (InterfaceTypeImpl) vmImpl
-				.getCachedMirror(ID);
-		if (mirror == null) {
-			mirror = new InterfaceTypeImpl(vmImpl, ID);
-			vmImpl.addCachedMirror(mirror);
-		}
+		InterfaceTypeImpl mirror = forID(vmImpl, id);
 		mirror.setSignature(signature);
 		mirror.setGenericSignature(genericSignature);
 		return mirror;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -116,8 +116,11 @@ public class JDIMessages extends NLS {
 	public static String VirtualMachineImpl__4;
 	public static String VirtualMachineImpl_0;
 	public static String VirtualMachineImpl_1;
+	public static String VirtualMachineImpl_shared_io_unsupported_connection;
+	public static String VirtualMachineImpl_shared_io_unavailable;
 	public static String VirtualMachineManagerImpl_Could_not_open_verbose_file___1;
 	public static String VirtualMachineManagerImpl_____2;
+	public static String VirtualMachineManagerImpl_Could_not_open_capture_file_3;
 
 	public static String vm_dead;
 	public static String VoidTypeImpl_A_VoidType_does_not_have_modifiers_1;
@@ -0,0 +1,314 @@
+/*******************************************************************************
+ * Copyright (c) 2015 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * The line table of a method in the Java stratum, as read from a 'Method -
+ * Line Table' reply, held in sorted arrays of primitive values. Code indexes
+ * are looked up by line and lines by code index with a binary search, without
+ * creating any object. A line table does not change once created.
+ */
+public class LineTable {
+
+	/**
+	 * Line table of the methods with no line number information.
+	 */
+	static final LineTable EMPTY = new LineTable(-1, -1, new long[0],
+			new int[0]);
+
+	private final long fLowestValidCodeIndex;
+	private final long fHighestValidCodeIndex;
+
+	/**
+	 * The code indexes of the entries, in increasing order.
+	 */
+	private final long[] fCodeIndexes;
+
+	/**
+	 * The line of each entry of {@link #fCodeIndexes}.
+	 */
+	private final int[] fLines;
+
+	/**
+	 * The lines of the entries in increasing order, and the position in
+	 * {@link #fCodeIndexes} of each. Entries of the same line are in the
+	 * order of their code indexes.
+	 */
+	private final int[] fSortedLines;
+	private final int[] fSortedLinePositions;
+
+	/**
+	 * Creates the line table with the given entries.
+	 *
+	 * @param lowestValidCodeIndex
+	 *            lowest code index of the method
+	 * @param highestValidCodeIndex
+	 *            highest code index of the method
+	 * @param codeIndexes
+	 *            the code indexes of the entries, in any order, which this
+	 *            line table may keep and reorder
+	 * @param lines
+	 *            the line of each entry, which this line table may keep and
+	 *            reorder
+	 */
+	LineTable(long lowestValidCodeIndex, long highestValidCodeIndex,
+			long[] codeIndexes, int[] lines) {
+		fLowestValidCodeIndex = lowestValidCodeIndex;
+		fHighestValidCodeIndex = highestValidCodeIndex;
+		sortByCodeIndex(codeIndexes, lines);
+		fCodeIndexes = codeIndexes;
+		fLines = lines;
+		int length = lines.length;
+		// the sort is stable: entries of the same line stay in code index order
+		long[] keys = new long[length];
+		for (int i = 0; i < length; i++) {
+			keys[i] = ((long) lines[i] << 32) | i;
+		}
+		Arrays.sort(keys);
+		fSortedLines = new int[length];
+		fSortedLinePositions = new int[length];
+		for (int i = 0; i < length; i++) {
+			fSortedLines[i] = (int) (keys[i] >> 32);
+			fSortedLinePositions[i] = (int) keys[i];
+		}
+	}
+
+	/**
+	 * Sorts the given entries by code index, keeping entries with the same
+	 * code index in their order. Line tables are usually sorted already.
+	 */
+	private static void sortByCodeIndex(final long[] codeIndexes, int[] lines) {
+		int length = codeIndexes.length;
+		boolean sorted = true;
+		for (int i = 1; i < length && sorted; i++) {
+			sorted = codeIndexes[i - 1] <= codeIndexes[i];
+		}
+		if (sorted) {
+			return;
+		}
+		Integer[] positions = new Integer[length];
+		for (int i = 0; i < length; i++) {
+			positions[i] = new Integer(i);
+		}
+		Arrays.sort(positions, new Comparator<Integer>() {
+			public int compare(Integer p1, Integer p2) {
+				long i1 = codeIndexes[p1.intValue()];
+				long i2 = codeIndexes[p2.intValue()];
+				return i1 < i2 ? -1 : (i1 == i2 ? 0 : 1);
+			}
+		});
+		long[] sortedCodeIndexes = new long[length];
+		int[] sortedLines = new int[length];
+		for (int i = 0; i < length; i++) {
+			int position = positions[i].intValue();
+			sortedCodeIndexes[i] = codeIndexes[position];
+			sortedLines[i] = lines[position];
+		}
+		System.arraycopy(sortedCodeIndexes, 0, codeIndexes, 0, length);
+		System.arraycopy(sortedLines, 0, lines, 0, length);
+	}
+
+	/**
+	 * @return Returns whether this line table has no entry.
+	 */
+	public boolean isEmpty() {
+		return fCodeIndexes.length == 0;
+	}
+
+	/**
+	 * @return Returns the number of entries.
+	 */
+	public int size() {
+		return fCodeIndexes.length;
+	}
+
+	/**
+	 * @return Returns the lowest code index of the method.
+	 */
+	public long lowestValidCodeIndex() {
+		return fLowestValidCodeIndex;
+	}
+
+	/**
+	 * @return Returns the highest code index of the method.
+	 */
+	public long highestValidCodeIndex() {
+		return fHighestValidCodeIndex;
+	}
+
+	/**
+	 * @return Returns the code index of the entry at the given position, in
+	 *         increasing code index order.
+	 */
+	public long codeIndexAt(int position) {
+		return fCodeIndexes[position];
+	}
+
+	/**
+	 * @return Returns the line of the entry at the given position, in
+	 *         increasing code index order.
+	 */
+	public int lineAt(int position) {
+		return fLines[position];
+	}
+
+	/**
+	 * @return Returns the lowest line of the entries, or -1 if none.
+	 */
+	public int lowestLine() {
+		return fSortedLines.length == 0 ? -1 : fSortedLines[0];
+	}
+
+	/**
+	 * @return Returns the highest line of the entries, or -1 if none.
+	 */
+	public int highestLine() {
+		return fSortedLines.length == 0 ? -1
+				: fSortedLines[fSortedLines.length - 1];
+	}
+
+	/**
+	 * @return Returns the code indexes of the entries, in increasing order.
+	 *         The array must not be modified.
+	 */
+	long[] codeIndexes() {
+		return fCodeIndexes;
+	}
+
+	/**
+	 * @return Returns the line of each entry of {@link #codeIndexes()}. The
+	 *         array must not be modified.
+	 */
+	int[] lines() {
+		return fLines;
+	}
+
+	/**
+	 * Returns the line of the entry with the given code index.
+	 *
+	 * @param codeIndex
+	 *            the code index
+	 * @return Returns the line, or -1 if no entry has the code index.
+	 */
+	public int lineOfEntry(long codeIndex) {
+		int position = Arrays.binarySearch(fCodeIndexes, codeIndex);
+		return position < 0 ? -1 : fLines[position];
+	}
+
+	/**
+	 * Returns the line of the given code index: the line of the closest entry
+	 * at or before the code index or, if there is none from the lowest valid
+	 * code index, the line of the closest entry after it.
+	 *
+	 * @param codeIndex
+	 *            a code index, at most the highest valid code index
+	 * @return Returns the line, or -1 if there is none.
+	 */
+	public int lineOf(long codeIndex) {
+		int position = Arrays.binarySearch(fCodeIndexes, codeIndex);
+		if (position >= 0) {
+			return fLines[position];
+		}
+		int insertion = -position - 1;
+		if (insertion > 0
+				&& fCodeIndexes[insertion - 1] >= fLowestValidCodeIndex) {
+			return fLines[insertion - 1];
+		}
+		if (codeIndex >= fLowestValidCodeIndex
+				&& insertion < fCodeIndexes.length
+				&& fCodeIndexes[insertion] <= fHighestValidCodeIndex) {
+			return fLines[insertion];
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the first position in {@link #fSortedLines} whose line is at
+	 * least the given line.
+	 */
+	private int firstPositionOfLine(int line) {
+		int low = 0;
+		int high = fSortedLines.length;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (fSortedLines[middle] < line) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * @return Returns whether some entry has the given line.
+	 */
+	public boolean hasLine(int line) {
+		int position = firstPositionOfLine(line);
+		return position < fSortedLines.length && fSortedLines[position] == line;
+	}
+
+	/**
+	 * Marks the positions, in increasing code index order, of the entries of
+	 * the given line.
+	 *
+	 * @param line
+	 *            the line
+	 * @param marks
+	 *            a mark for each entry
+	 * @return Returns whether some entry has the line.
+	 */
+	public boolean markEntriesOfLine(int line, boolean[] marks) {
+		boolean found = false;
+		for (int i = firstPositionOfLine(line); i < fSortedLines.length
+				&& fSortedLines[i] == line; i++) {
+			marks[fSortedLinePositions[i]] = true;
+			found = true;
+		}
+		return found;
+	}
+
+	/**
+	 * Returns the code indexes that start a range of the marked entries: the
+	 * code indexes of the marked entries that do not follow a marked entry.
+	 *
+	 * @param marks
+	 *            a mark for each entry, as set by
+	 *            {@link #markEntriesOfLine(int, boolean[])}
+	 * @return Returns the code indexes, in increasing order.
+	 */
+	public long[] startsOfMarkedRanges(boolean[] marks) {
+		int length = fCodeIndexes.length;
+		long[] starts = new long[length];
+		int count = 0;
+		boolean previous = false;
+		int position = 0;
+		while (position < length) {
+			// entries with the same code index are one entry
+			long codeIndex = fCodeIndexes[position];
+			boolean marked = false;
+			while (position < length && fCodeIndexes[position] == codeIndex) {
+				marked |= marks[position];
+				position++;
+			}
+			if (marked && !previous) {
+				starts[count++] = codeIndex;
+			}
+			previous = marked;
+		}
+		long[] result = new long[count];
+		System.arraycopy(starts, 0, result, 0, count);
+		return result;
+	}
+}
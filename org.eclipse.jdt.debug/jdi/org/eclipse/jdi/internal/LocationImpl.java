@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,10 +10,10 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal;
 
-import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
 import org.eclipse.osgi.util.NLS;
 
 import com.sun.jdi.AbsentInformationException;
@@ -161,7 +161,7 @@ public class LocationImpl extends MirrorImpl implements Location {
 	/**
 	 * @return Reads JDWP representation and returns new instance.
 	 */
-	public static LocationImpl read(MirrorImpl target, DataInputStream in)
+	public static LocationImpl read(MirrorImpl target, JdwpReplyDecoder in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		// Notice that Locations are not stored or cached because they don't
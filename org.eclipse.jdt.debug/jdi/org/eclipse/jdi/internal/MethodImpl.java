@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,23 +12,20 @@
 package org.eclipse.jdi.internal;
 
 import java.io.ByteArrayOutputStream;
-import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
-import java.util.TreeSet;
 
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpMethodID;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 
 import com.ibm.icu.text.MessageFormat;
@@ -57,10 +54,7 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 
 	/** The following are the stored results of JDWP calls. */
 	private List<LocalVariable> fVariables = null;
-	private long fLowestValidCodeIndex = -1;
-	private long fHighestValidCodeIndex = -1;
-	private Map<Long, Integer> fCodeIndexToLine = null;
-	private Map<Integer, List<Long>> fLineToCodeIndexes = null;
+	private LineTable fLineTable = null;
 	private Map<String, Map<String, List<Location>>> fStratumAllLineLocations = null;
 	private int fArgumentSlotsCount = -1;
 	private List<LocalVariable> fArguments = null;
@@ -68,8 +62,6 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 	private List<String> fArgumentTypeNames = null;
 	private List<String> fArgumentTypeSignatures = null;
 	private byte[] fByteCodes = null;
-	private long[] fCodeIndexTable;
-	private int[] fJavaStratumLineNumberTable;
 
 	private String fReturnTypeName = null;
 
@@ -90,13 +82,8 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 	 */
 	protected void flushStoredJdwpResults() {
 		fVariables = null;
-		fLowestValidCodeIndex = -1;
-		fHighestValidCodeIndex = -1;
-		fCodeIndexToLine = null;
-		fLineToCodeIndexes = null;
+		fLineTable = null;
 		fStratumAllLineLocations = null;
-		fCodeIndexTable = null;
-		fJavaStratumLineNumberTable = null;
 		fArgumentSlotsCount = -1;
 		fArguments = null;
 		fArgumentTypes = null;
@@ -113,42 +100,31 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 	}
 
 	/**
-	 * @return Returns map of location to line number.
+	 * @return Returns the line table of this method in the Java stratum.
 	 */
-	protected Map<Long, Integer> javaStratumCodeIndexToLine()
-			throws AbsentInformationException {
-		if (isAbstract()) {
-			return Collections.EMPTY_MAP;
-		}
-		getLineTable();
-		return fCodeIndexToLine;
-	}
-
-	/**
-	 * @return Returns map of line number to locations.
-	 */
-	protected List<Long> javaStratumLineToCodeIndexes(int line) throws AbsentInformationException {
+	protected LineTable javaStratumLineTable() throws AbsentInformationException {
 		if (isAbstract() || isNative()) {
-			return null;
+			return LineTable.EMPTY;
 		}
-		getLineTable();
-
-		return fLineToCodeIndexes.get(new Integer(line));
+		return getLineTable();
 	}
 
 	/**
 	 * Gets line table from VM.
+	 * 
+	 * @return Returns the line table, empty if this method is obsolete.
 	 */
-	private void getLineTable() throws AbsentInformationException {
+	private LineTable getLineTable() throws AbsentInformationException {
 		if (isObsolete()) {
-			return;
+			return LineTable.EMPTY;
 		}
-		if (fCodeIndexToLine != null) {
-			if (fCodeIndexToLine.isEmpty()) {
+		LineTable lineTable = fLineTable;
+		if (lineTable != null) {
+			if (lineTable.isEmpty()) {
 				throw new AbsentInformationException(
 						JDIMessages.MethodImpl_Got_empty_line_number_table_for_this_method_1);
 			}
-			return;
+			return lineTable;
 		}
 
 		initJdwpRequest();
@@ -159,54 +135,91 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.M_LINE_TABLE, outBytes);
-			switch (replyPacket.errorCode()) {
-			case JdwpReplyPacket.ABSENT_INFORMATION:
-				throw new AbsentInformationException(
-						JDIMessages.MethodImpl_No_line_number_information_available_2);
-			case JdwpReplyPacket.NATIVE_METHOD:
-				throw new AbsentInformationException(
-						JDIMessages.MethodImpl_No_line_number_information_available_2);
-			}
-			defaultReplyErrorHandler(replyPacket.errorCode());
+			return readLineTable(replyPacket);
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+			return LineTable.EMPTY;
+		} finally {
+			handledJdwpRequest();
+		}
+	}
+
+	/**
+	 * Stores the line table of this method from a 'Method - Line Table' reply.
+	 * The table is only stored once it is complete, so that it can be read by
+	 * other threads meanwhile.
+	 * 
+	 * @param replyPacket
+	 *            the reply
+	 * @return Returns the line table.
+	 * @throws AbsentInformationException
+	 *             if the method has no line number information
+	 */
+	private LineTable readLineTable(JdwpReplyPacket replyPacket)
+			throws AbsentInformationException {
+		switch (replyPacket.errorCode()) {
+		case JdwpReplyPacket.ABSENT_INFORMATION:
+			throw new AbsentInformationException(
+					JDIMessages.MethodImpl_No_line_number_information_available_2);
+		case JdwpReplyPacket.NATIVE_METHOD:
+			throw new AbsentInformationException(
+					JDIMessages.MethodImpl_No_line_number_information_available_2);
+		}
+		defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
-			fLowestValidCodeIndex = readLong("lowest index", replyData); //$NON-NLS-1$
-			fHighestValidCodeIndex = readLong("highest index", replyData); //$NON-NLS-1$
+		try {
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
+			long lowestValidCodeIndex = readLong("lowest index", replyData); //$NON-NLS-1$
+			long highestValidCodeIndex = readLong("highest index", replyData); //$NON-NLS-1$
 			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
-			fCodeIndexToLine = new HashMap<Long, Integer>();
-			fLineToCodeIndexes = new HashMap<Integer, List<Long>>();
+			long[] codeIndexTable = new long[nrOfElements];
+			int[] javaStratumLineNumberTable = new int[nrOfElements];
+			for (int i = 0; i < nrOfElements; i++) {
+				codeIndexTable[i] = readLong("code index", replyData); //$NON-NLS-1$
+				javaStratumLineNumberTable[i] = readInt("line nr", replyData); //$NON-NLS-1$
+			}
+			LineTable lineTable = new LineTable(lowestValidCodeIndex,
+					highestValidCodeIndex, codeIndexTable,
+					javaStratumLineNumberTable);
+			fLineTable = lineTable;
 			if (nrOfElements == 0) {
 				throw new AbsentInformationException(
 						JDIMessages.MethodImpl_Got_empty_line_number_table_for_this_method_3);
 			}
-			fCodeIndexTable = new long[nrOfElements];
-			fJavaStratumLineNumberTable = new int[nrOfElements];
-			for (int i = 0; i < nrOfElements; i++) {
-				long lineCodeIndex = readLong("code index", replyData); //$NON-NLS-1$
-				Long lineCodeIndexLong = new Long(lineCodeIndex);
-				int lineNr = readInt("line nr", replyData); //$NON-NLS-1$
-				Integer lineNrInt = new Integer(lineNr);
-
-				// Add entry to code-index to line mapping.
-				fCodeIndexToLine.put(lineCodeIndexLong, lineNrInt);
-
-				fCodeIndexTable[i] = lineCodeIndex;
-				fJavaStratumLineNumberTable[i] = lineNr;
-
-				List<Long> lineNrEntry = fLineToCodeIndexes.get(lineNrInt);
-				if (lineNrEntry == null) {
-					lineNrEntry = new ArrayList<Long>();
-					fLineToCodeIndexes.put(lineNrInt, lineNrEntry);
-				}
-				lineNrEntry.add(lineCodeIndexLong);
-			}
+			return lineTable;
 		} catch (IOException e) {
-			fCodeIndexToLine = null;
-			fLineToCodeIndexes = null;
 			defaultIOExceptionHandler(e);
-		} finally {
-			handledJdwpRequest();
+			return LineTable.EMPTY;
+		}
+	}
+
+	/**
+	 * Stores the line table of this method from the reply to a request that
+	 * has been sent ahead of time, unless it is known already or the request
+	 * failed.
+	 * 
+	 * @param replyPacket
+	 *            the reply
+	 * @see ReferenceTypePrefetcher
+	 */
+	void prefetchedLineTable(JdwpReplyPacket replyPacket) {
+		if (fLineTable != null
+				|| replyPacket.errorCode() != JdwpReplyPacket.NONE) {
+			return;
 		}
+		try {
+			readLineTable(replyPacket);
+		} catch (AbsentInformationException e) {
+			// the empty table is stored, as when it is requested
+		}
+	}
+
+	/**
+	 * @return Returns whether the line table of this method is known without
+	 *         requesting it from the VM.
+	 */
+	boolean hasLineTable() {
+		return fLineTable != null;
 	}
 
 	/**
@@ -218,33 +231,16 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 		if (isAbstract() || isNative() || isObsolete()) {
 			return -1;
 		}
-		getLineTable();
-		if (lineCodeIndex > fHighestValidCodeIndex) {
+		LineTable lineTable = getLineTable();
+		if (lineCodeIndex > lineTable.highestValidCodeIndex()) {
 			throw new AbsentInformationException(JDIMessages.MethodImpl_Invalid_code_index_of_a_location_given_4);
 		}
-
-		Long lineCodeIndexObj;
-		Integer lineNrObj;
-		long index = lineCodeIndex;
 		// Search for the line where this code index is located.
-		do {
-			lineCodeIndexObj = new Long(index);
-			lineNrObj = javaStratumCodeIndexToLine().get(lineCodeIndexObj);
-		} while (lineNrObj == null && --index >= fLowestValidCodeIndex);
-		if (lineNrObj == null) {
-			if (lineCodeIndex >= fLowestValidCodeIndex) {
-				index = lineCodeIndex;
-				do {
-					lineCodeIndexObj = new Long(index);
-					lineNrObj = javaStratumCodeIndexToLine().get(lineCodeIndexObj);
-				} while (lineNrObj == null && ++index <= fHighestValidCodeIndex);
-				if (lineNrObj != null) {
-					return lineNrObj.intValue();
-				}
-			}
+		int lineNr = lineTable.lineOf(lineCodeIndex);
+		if (lineNr == -1) {
 			throw new AbsentInformationException(JDIMessages.MethodImpl_Invalid_code_index_of_a_location_given_4);
 		}
-		return lineNrObj.intValue();
+		return lineNr;
 	}
 
 	/* (non-Javadoc)
@@ -344,7 +340,7 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 					JdwpCommandPacket.M_BYTECODES, outBytes);
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			int length = readInt("length", replyData); //$NON-NLS-1$
 			fByteCodes = readByteArray(length, "bytecodes", replyData); //$NON-NLS-1$
 			return fByteCodes;
@@ -450,8 +446,7 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 			return null;
 		}
 		try {
-			Integer lineNrInt = javaStratumCodeIndexToLine().get(new Long(index));
-			if (lineNrInt == null) {
+			if (javaStratumLineTable().lineOfEntry(index) == -1) {
 				throw new AbsentInformationException(MessageFormat.format(JDIMessages.MethodImpl_No_valid_location_at_the_specified_code_index__0__2, new Object[] { Long.toString(index) }));
 			}
 		} catch (AbsentInformationException e) {
@@ -521,7 +516,7 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			fArgumentSlotsCount = readInt("arg count", replyData); //$NON-NLS-1$
 			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
 			List<LocalVariable> variables = new ArrayList<LocalVariable>(nrOfElements);
@@ -629,15 +624,16 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 			return new LocationImpl(virtualMachineImpl(), this, -1);
 		}
 		// First retrieve line code table.
+		LineTable lineTable;
 		try {
-			getLineTable();
+			lineTable = getLineTable();
 		} catch (AbsentInformationException e) {
 			return new LocationImpl(virtualMachineImpl(), this, -1);
 		}
 
 		// Return location with Lowest Valid Code Index.
 		return new LocationImpl(virtualMachineImpl(), this,
-				fLowestValidCodeIndex);
+				lineTable.lowestValidCodeIndex());
 	}
 
 	/**
@@ -673,7 +669,7 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 	 * @return Reads JDWP representation and returns new instance.
 	 */
 	protected static MethodImpl readWithReferenceTypeWithTag(MirrorImpl target,
-			DataInputStream in) throws IOException {
+			JdwpReplyDecoder in) throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		// See Location.
 		ReferenceTypeImpl referenceType = ReferenceTypeImpl.readWithTypeTag(
@@ -682,11 +678,10 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 			return null;
 
 		JdwpMethodID ID = new JdwpMethodID(vmImpl);
+		ID.setValue(in.readID(vmImpl.methodIDSize()));
 		if (target.fVerboseWriter != null) {
 			target.fVerboseWriter.println("method", ID.value()); //$NON-NLS-1$
 		}
-
-		ID.read(in);
 		if (ID.isNull()) {
 			return null;
 		}
@@ -705,11 +700,11 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 	 */
 	protected static MethodImpl readWithNameSignatureModifiers(
 			ReferenceTypeImpl target, ReferenceTypeImpl referenceType,
-			boolean withGenericSignature, DataInputStream in)
+			boolean withGenericSignature, JdwpReplyDecoder in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		JdwpMethodID ID = new JdwpMethodID(vmImpl);
-		ID.read(in);
+		ID.setValue(in.readID(vmImpl.methodIDSize()));
 		if (target.fVerboseWriter != null) {
 			target.fVerboseWriter.println("method", ID.value()); //$NON-NLS-1$
 		}
@@ -827,8 +822,8 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 		}
 		if (allLineLocations == null) { // the line locations are not know,
 										// compute and store them
-			getLineTable();
-			allLineLocations = referenceTypeImpl().allLineLocations(stratum, sourceName, this, fCodeIndexTable, fJavaStratumLineNumberTable);
+			LineTable lineTable = getLineTable();
+			allLineLocations = referenceTypeImpl().allLineLocations(stratum, sourceName, this, lineTable.codeIndexes(), lineTable.lines());
 			sourceNameAllLineLocations.put(sourceName, allLineLocations);
 		}
 		return allLineLocations;
@@ -852,28 +847,24 @@ public class MethodImpl extends TypeComponentImpl implements Method, Locatable {
 	 * the specified lines.
 	 */
 	protected List<Location> javaStratumLocationsOfLines(List<Integer> javaLines)	throws AbsentInformationException {
-		Set<Long> tmpLocations = new TreeSet<Long>();
+		LineTable lineTable = javaStratumLineTable();
+		boolean[] marks = null;
 		for (Iterator<Integer> iter = javaLines.iterator(); iter.hasNext();) {
-			Integer key = iter.next();
-			List<Long> indexes = javaStratumLineToCodeIndexes(key.intValue());
-			if (indexes != null) {
-				tmpLocations.addAll(indexes);
+			int line = iter.next().intValue();
+			if (lineTable.hasLine(line)) {
+				if (marks == null) {
+					marks = new boolean[lineTable.size()];
+				}
+				lineTable.markEntriesOfLine(line, marks);
 			}
 		}
-		List<Location> locations = new ArrayList<Location>();
-		for (Iterator<Long> iter = tmpLocations.iterator(); iter.hasNext();) {
-			long index = iter.next().longValue();
-			int position = Arrays.binarySearch(fCodeIndexTable, index);
-			if(position < 0) {
-				//https://bugs.eclipse.org/bugs/show_bug.cgi?id=388172
-				//the key is not in the code index, we should not insert it as the line table is supposed to be 
-				//constant unless the parent class is redefined. 
-				//See http://docs.oracle.com/javase/6/docs/platform/jpda/jdwp/jdwp-protocol.html#JDWP_Method_LineTable for more information
-				continue;
-			}
-			if (position == 0 || !tmpLocations.contains(new Long(fCodeIndexTable[position - 1]))) {
-				locations.add(new LocationImpl(virtualMachineImpl(), this, index));
-			}
+		if (marks == null) {
+			return new ArrayList<Location>(0);
+		}
+		long[] starts = lineTable.startsOfMarkedRanges(marks);
+		List<Location> locations = new ArrayList<Location>(starts.length);
+		for (long start : starts) {
+			locations.add(new LocationImpl(virtualMachineImpl(), this, start));
 		}
 		return locations;
 	}
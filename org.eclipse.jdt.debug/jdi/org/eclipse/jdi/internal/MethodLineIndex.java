@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (c) 2015 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import com.sun.jdi.AbsentInformationException;
+import com.sun.jdi.Method;
+
+/**
+ * An index of the methods of a type by the lines of their line tables in the
+ * Java stratum, so that the methods that have code at a line are found without
+ * going through all the methods of the type. The index does not change once
+ * created.
+ */
+public class MethodLineIndex {
+
+	/**
+	 * The methods that are neither abstract nor native, in the order of the
+	 * methods of the type.
+	 */
+	private final MethodImpl[] fMethods;
+
+	/**
+	 * One entry per line of each method, made of the line in the high 32 bits
+	 * and the position of the method in {@link #fMethods} in the low 32 bits,
+	 * in increasing order.
+	 */
+	private final long[] fEntries;
+
+	/**
+	 * Whether a method has line number information.
+	 */
+	private final boolean fHasLineInformation;
+
+	/**
+	 * The last exception thrown when getting the line table of a method, or
+	 * <code>null</code> if none.
+	 */
+	private final AbsentInformationException fException;
+
+	/**
+	 * Creates the index of the given methods, requesting their line tables
+	 * from the VM if they are not known.
+	 *
+	 * @param methods
+	 *            the methods of a type
+	 */
+	MethodLineIndex(List<Method> methods) {
+		List<MethodImpl> concrete = new ArrayList<MethodImpl>(methods.size());
+		List<LineTable> lineTables = new ArrayList<LineTable>(methods.size());
+		boolean hasLineInformation = false;
+		AbsentInformationException exception = null;
+		int count = 0;
+		for (Iterator<Method> iter = methods.iterator(); iter.hasNext();) {
+			MethodImpl method = (MethodImpl) iter.next();
+			if (method.isAbstract() || method.isNative()) {
+				continue;
+			}
+			concrete.add(method);
+			LineTable lineTable = LineTable.EMPTY;
+			try {
+				lineTable = method.javaStratumLineTable();
+				hasLineInformation = true;
+			} catch (AbsentInformationException e) {
+				exception = e;
+			}
+			lineTables.add(lineTable);
+			count += lineTable.size();
+		}
+		long[] entries = new long[count];
+		count = 0;
+		for (int i = 0; i < lineTables.size(); i++) {
+			LineTable lineTable = lineTables.get(i);
+			for (int j = 0; j < lineTable.size(); j++) {
+				entries[count++] = ((long) lineTable.lineAt(j) << 32) | i;
+			}
+		}
+		Arrays.sort(entries);
+		// keep one entry per line and method
+		int distinct = 0;
+		for (int i = 0; i < count; i++) {
+			if (distinct == 0 || entries[distinct - 1] != entries[i]) {
+				entries[distinct++] = entries[i];
+			}
+		}
+		fMethods = concrete.toArray(new MethodImpl[concrete.size()]);
+		fEntries = new long[distinct];
+		System.arraycopy(entries, 0, fEntries, 0, distinct);
+		fHasLineInformation = hasLineInformation;
+		fException = exception;
+	}
+
+	/**
+	 * @return Returns whether the type has no method that is neither abstract
+	 *         nor native.
+	 */
+	public boolean isEmpty() {
+		return fMethods.length == 0;
+	}
+
+	/**
+	 * @return Returns whether a method has line number information.
+	 */
+	public boolean hasLineInformation() {
+		return fHasLineInformation;
+	}
+
+	/**
+	 * @return Returns the last exception thrown when getting the line table of
+	 *         a method, or <code>null</code> if none.
+	 */
+	public AbsentInformationException getAbsentInformation() {
+		return fException;
+	}
+
+	/**
+	 * Returns the methods that have code at one of the given lines.
+	 *
+	 * @param lines
+	 *            lines in the Java stratum
+	 * @return Returns the methods, in the order of the methods of the type.
+	 */
+	public List<MethodImpl> methodsOfLines(List<Integer> lines) {
+		boolean[] found = null;
+		for (Iterator<Integer> iter = lines.iterator(); iter.hasNext();) {
+			long line = iter.next().intValue();
+			int position = Arrays.binarySearch(fEntries, line << 32);
+			if (position < 0) {
+				position = -position - 1;
+			}
+			while (position < fEntries.length
+					&& (fEntries[position] >> 32) == line) {
+				if (found == null) {
+					found = new boolean[fMethods.length];
+				}
+				found[(int) fEntries[position]] = true;
+				position++;
+			}
+		}
+		if (found == null) {
+			return new ArrayList<MethodImpl>(0);
+		}
+		List<MethodImpl> methods = new ArrayList<MethodImpl>();
+		for (int i = 0; i < found.length; i++) {
+			if (found[i]) {
+				methods.add(fMethods[i]);
+			}
+		}
+		return methods;
+	}
+}
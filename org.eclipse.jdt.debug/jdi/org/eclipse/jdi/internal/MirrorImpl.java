@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -15,12 +15,21 @@ import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdi.Bootstrap;
+import org.eclipse.jdi.TimeoutException;
+import org.eclipse.jdi.internal.connect.PacketReceiveManager;
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpString;
 import org.eclipse.jdt.internal.debug.core.JDIDebugOptions;
@@ -182,21 +191,132 @@ public class MirrorImpl implements Mirror {
 	public JdwpReplyPacket requestVM(int command, byte[] outData) {
 		JdwpCommandPacket commandPacket = new JdwpCommandPacket(command);
 		commandPacket.setData(outData);
-		long sent = System.currentTimeMillis();
+		long sent = System.nanoTime();
 		fVirtualMachineImpl.packetSendManager().sendPacket(commandPacket);
 		fPendingJdwpRequest = true;
 		writeVerboseCommandPacketHeader(commandPacket);
 
 		JdwpReplyPacket reply = fVirtualMachineImpl.packetReceiveManager()
 				.getReply(commandPacket);
-		long recieved = System.currentTimeMillis();
+		handledJdwpReply(commandPacket, sent, reply);
+		return reply;
+	}
+
+	/**
+	 * Performs a VM request without waiting for the reply. The command is
+	 * queued for sending immediately; the reply is collected (and verbose
+	 * info written) when the returned future is queried.
+	 * 
+	 * @return Returns a future for the reply data.
+	 */
+	public Future<JdwpReplyPacket> requestVMAsync(int command, byte[] outData) {
+		JdwpCommandPacket commandPacket = new JdwpCommandPacket(command);
+		commandPacket.setData(outData);
+		long sent = System.nanoTime();
+		fVirtualMachineImpl.packetSendManager().sendPacket(commandPacket);
+		fPendingJdwpRequest = true;
+		writeVerboseCommandPacketHeader(commandPacket);
+		return new ReplyFuture(commandPacket, sent);
+	}
+
+	/**
+	 * Performs a VM request without waiting for the reply.
+	 * 
+	 * @return Returns a future for the reply data.
+	 */
+	public Future<JdwpReplyPacket> requestVMAsync(int command,
+			ByteArrayOutputStream outData) {
+		return requestVMAsync(command, outData.toByteArray());
+	}
+
+	/**
+	 * Waits for the reply to a request sent with
+	 * {@link #requestVMAsync(int, byte[])}.
+	 * 
+	 * @return Returns reply data.
+	 */
+	public JdwpReplyPacket getReplyVM(Future<JdwpReplyPacket> reply) {
+		try {
+			return reply.get();
+		} catch (InterruptedException e) {
+			throw new TimeoutException(e.getMessage());
+		} catch (ExecutionException e) {
+			throw new InternalException(e.getMessage());
+		}
+	}
+
+	/**
+	 * Performs a batch of VM requests. All commands are sent back-to-back
+	 * before the first reply is awaited, so the batch costs a single round
+	 * trip instead of one per command.
+	 * 
+	 * @param commands
+	 *            the commands to send
+	 * @param outData
+	 *            the data for each command, in the same order; entries may be
+	 *            <code>null</code>
+	 * @return Returns the replies, in the order of the given commands.
+	 */
+	public JdwpReplyPacket[] requestVM(int[] commands, byte[][] outData) {
+		int size = commands.length;
+		JdwpCommandPacket[] commandPackets = new JdwpCommandPacket[size];
+		List<JdwpPacket> packets = new ArrayList<JdwpPacket>(size);
+		for (int i = 0; i < size; i++) {
+			commandPackets[i] = new JdwpCommandPacket(commands[i]);
+			commandPackets[i].setData(outData[i]);
+			packets.add(commandPackets[i]);
+		}
+		long sent = System.nanoTime();
+		fVirtualMachineImpl.packetSendManager().sendPackets(packets);
+		fPendingJdwpRequest = true;
+		for (JdwpCommandPacket commandPacket : commandPackets) {
+			writeVerboseCommandPacketHeader(commandPacket);
+		}
+
+		JdwpReplyPacket[] replies = new JdwpReplyPacket[size];
+		PacketReceiveManager receiveManager = fVirtualMachineImpl
+				.packetReceiveManager();
+		int received = 0;
+		try {
+			for (; received < size; received++) {
+				replies[received] = receiveManager
+						.getReply(commandPackets[received]);
+				handledJdwpReply(commandPackets[received], sent,
+						replies[received]);
+			}
+		} finally {
+			// the replies that are not waited for anymore are dropped
+			for (int i = received; i < size; i++) {
+				receiveManager.discardReply(commandPackets[i].getId());
+			}
+		}
+		return replies;
+	}
+
+	/**
+	 * Processing after the reply to a Jdwp request has been received: records
+	 * the request in the metrics of the VM, traces the request time and writes
+	 * the reply header if verbose is on.
+	 * 
+	 * @param sent
+	 *            the value of {@link System#nanoTime()} when the request was
+	 *            sent
+	 */
+	private void handledJdwpReply(JdwpCommandPacket commandPacket, long sent,
+			JdwpReplyPacket reply) {
+		long elapsed = System.nanoTime() - sent;
+		fVirtualMachineImpl.metrics().record(commandPacket.getCommand(),
+				commandPacket.getLength(), reply.getLength(), elapsed,
+				reply.errorCode() != JdwpReplyPacket.NONE);
 		if (JDIDebugOptions.DEBUG_JDI_REQUEST_TIMES) {
+			long elapsedMillis = elapsed / 1000000;
 			StringBuffer buf = new StringBuffer();
-			buf.append(JDIDebugOptions.FORMAT.format(new Date(sent)));
+			buf.append(JDIDebugOptions.FORMAT.format(new Date(System
+					.currentTimeMillis() - elapsedMillis)));
 			buf.append(" JDI Request: "); //$NON-NLS-1$
 			buf.append(commandPacket.toString());
 			buf.append("\n\tResponse Time: "); //$NON-NLS-1$
-			buf.append(recieved - sent);
+			buf.append(elapsedMillis);
 			buf.append("ms"); //$NON-NLS-1$
 			buf.append(" length: "); //$NON-NLS-1$
 			buf.append(reply.getLength());
@@ -213,8 +333,89 @@ public class MirrorImpl implements Mirror {
 					.println(
 							"error code", reply.errorCode(), JdwpReplyPacket.errorMap()); //$NON-NLS-1$
 		}
+	}
 
-		return reply;
+	/**
+	 * Future for the reply to a command that has been sent with
+	 * {@link MirrorImpl#requestVMAsync(int, byte[])}.
+	 */
+	private class ReplyFuture implements Future<JdwpReplyPacket> {
+		private final JdwpCommandPacket fCommandPacket;
+		private final long fSent;
+		private JdwpReplyPacket fReply;
+		private boolean fCancelled = false;
+		/**
+		 * Lock held while waiting for the reply, so that the monitor of this
+		 * future is not held while blocked
+		 */
+		private final Object fWaitLock = new Object();
+
+		ReplyFuture(JdwpCommandPacket commandPacket, long sent) {
+			fCommandPacket = commandPacket;
+			fSent = sent;
+		}
+
+		public synchronized boolean cancel(boolean mayInterruptIfRunning) {
+			if (fReply != null || fCancelled) {
+				return false;
+			}
+			fCancelled = true;
+			fVirtualMachineImpl.packetReceiveManager().discardReply(
+					fCommandPacket.getId());
+			return true;
+		}
+
+		public synchronized boolean isCancelled() {
+			return fCancelled;
+		}
+
+		public synchronized boolean isDone() {
+			return fReply != null || fCancelled;
+		}
+
+		public JdwpReplyPacket get() {
+			return waitForReply(fVirtualMachineImpl.getRequestTimeout());
+		}
+
+		public JdwpReplyPacket get(long timeout, TimeUnit unit)
+				throws java.util.concurrent.TimeoutException {
+			try {
+				return waitForReply(unit.toMillis(timeout));
+			} catch (TimeoutException e) {
+				java.util.concurrent.TimeoutException timeoutException = new java.util.concurrent.TimeoutException(
+						e.getMessage());
+				timeoutException.initCause(e);
+				throw timeoutException;
+			}
+		}
+
+		private JdwpReplyPacket waitForReply(long timeout) {
+			synchronized (fWaitLock) {
+				synchronized (this) {
+					if (fCancelled) {
+						throw new CancellationException();
+					}
+					if (fReply != null) {
+						return fReply;
+					}
+				}
+				JdwpReplyPacket reply;
+				try {
+					reply = fVirtualMachineImpl.packetReceiveManager()
+							.getReply(fCommandPacket.getId(), timeout);
+				} catch (TimeoutException e) {
+					if (isCancelled()) {
+						throw new CancellationException();
+					}
+					throw e;
+				}
+				synchronized (this) {
+					fReply = reply;
+				}
+				handledJdwpReply(fCommandPacket, fSent, reply);
+				return reply;
+			}
+		}
 	}
 
 	/**
@@ -526,6 +727,204 @@ public class MirrorImpl implements Mirror {
 		return result;
 	}
 
+	/**
+	 * Reads Jdwp data from a decoder and, if verbose is on, outputs verbose
+	 * info.
+	 * 
+	 * @return Returns value that has been read.
+	 */
+	public byte readByte(String description, JdwpReplyDecoder in)
+			throws IOException {
+		byte result = in.readByte();
+		if (fVerboseWriter != null) {
+			fVerboseWriter.println(description, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Reads Jdwp data from a decoder and, if verbose is on, outputs verbose
+	 * info.
+	 * 
+	 * @return Returns value that has been read.
+	 */
+	public short readShort(String description, JdwpReplyDecoder in)
+			throws IOException {
+		short result = in.readShort();
+		if (fVerboseWriter != null) {
+			fVerboseWriter.println(description, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Reads Jdwp data from a decoder and, if verbose is on, outputs verbose
+	 * info.
+	 * 
+	 * @return Returns value that has been read.
+	 */
+	public int readInt(String description, JdwpReplyDecoder in)
+			throws IOException {
+		int result = in.readInt();
+		if (fVerboseWriter != null) {
+			fVerboseWriter.println(description, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Reads Jdwp data from a decoder and, if verbose is on, outputs verbose
+	 * info.
+	 * 
+	 * @return Returns value that has been read.
+	 */
+	public long readLong(String description, JdwpReplyDecoder in)
+			throws IOException {
+		long result = in.readLong();
+		if (fVerboseWriter != null) {
+			fVerboseWriter.println(description, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Reads Jdwp data from a decoder and, if verbose is on, outputs verbose
+	 * info.
+	 * 
+	 * @return Returns value that has been read.
+	 */
+	public byte readByte(String description, Map<Integer, String> valueToString,
+			JdwpReplyDecoder in)
+			throws IOException {
+		byte result = in.readByte();
+		if (fVerboseWriter != null) {
+			fVerboseWriter.println(description, result, valueToString);
+		}
+		return result;
+	}
+
+	/**
+	 * Reads Jdwp data from a decoder and, if verbose is on, outputs verbose
+	 * info.
+	 * 
+	 * @return Returns value that has been read.
+	 */
+	public int readInt(String description, String[] bitNames,
+			JdwpReplyDecoder in)
+			throws IOException {
+		int result = in.readInt();
+		if (fVerboseWriter != null) {
+			fVerboseWriter.println(description, result, bitNames);
+		}
+		return result;
+	}
+
+	/**
+	 * Reads Jdwp data from a decoder and, if verbose is on, outputs verbose
+	 * info.
+	 * 
+	 * @return Returns value that has been read.
+	 */
+	public String readString(String description, JdwpReplyDecoder in)
+			throws IOException {
+		String result = in.readString();
+		if (fVerboseWriter != null) {
+			fVerboseWriter.println(description, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Reads Jdwp data from a decoder and, if verbose is on, outputs verbose
+	 * info.
+	 * 
+	 * @return Returns value that has been read.
+	 */
+	public boolean readBoolean(String description, JdwpReplyDecoder in)
+			throws IOException {
+		boolean result = in.readBoolean();
+		if (fVerboseWriter != null) {
+			fVerboseWriter.println(description, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Reads Jdwp data from a decoder and, if verbose is on, outputs verbose
+	 * info.
+	 * 
+	 * @return Returns value that has been read.
+	 */
+	public char readChar(String description, JdwpReplyDecoder in)
+			throws IOException {
+		char result = in.readChar();
+		if (fVerboseWriter != null) {
+			fVerboseWriter.println(description, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Reads Jdwp data from a decoder and, if verbose is on, outputs verbose
+	 * info.
+	 * 
+	 * @return Returns value that has been read.
+	 */
+	public double readDouble(String description, JdwpReplyDecoder in)
+			throws IOException {
+		double result = in.readDouble();
+		if (fVerboseWriter != null) {
+			fVerboseWriter.println(description, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Reads Jdwp data from a decoder and, if verbose is on, outputs verbose
+	 * info.
+	 * 
+	 * @return Returns value that has been read.
+	 */
+	public float readFloat(String description, JdwpReplyDecoder in)
+			throws IOException {
+		float result = in.readFloat();
+		if (fVerboseWriter != null) {
+			fVerboseWriter.println(description, result);
+		}
+		return result;
+	}
+
+	/**
+	 * Reads Jdwp data from a decoder and, if verbose is on, outputs verbose
+	 * info.
+	 * 
+	 * @return Returns value that has been read.
+	 */
+	public int readInt(String description, Map<Integer, String> valueToString,
+			JdwpReplyDecoder in)
+			throws IOException {
+		int result = in.readInt();
+		if (fVerboseWriter != null) {
+			fVerboseWriter.println(description, result, valueToString);
+		}
+		return result;
+	}
+
+	/**
+	 * Reads Jdwp data from a decoder and, if verbose is on, outputs verbose
+	 * info.
+	 * 
+	 * @return Returns value that has been read.
+	 */
+	public byte[] readByteArray(int length, String description,
+			JdwpReplyDecoder in) throws IOException {
+		byte[] result = in.readBytes(length);
+		if (fVerboseWriter != null) {
+			fVerboseWriter.println(description, result);
+		}
+		return result;
+	}
+
 	/**
 	 * Writes Jdwp data and, if verbose is on, outputs verbose info.
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,7 +11,6 @@
 package org.eclipse.jdi.internal;
 
 import java.io.ByteArrayOutputStream;
-import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -19,10 +18,12 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Future;
 
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
 import org.eclipse.jdi.internal.jdwp.JdwpObjectID;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 
 import com.sun.jdi.ArrayType;
@@ -117,6 +118,49 @@ public class ObjectReferenceImpl extends ValueImpl implements ObjectReference {
 		}
 	}
 
+	/**
+	 * Permits garbage collection for the given objects, which must belong to
+	 * the same VM. The requests are sent back-to-back, so that the batch costs
+	 * a single round trip. Objects that have been collected already are
+	 * ignored.
+	 *
+	 * @param objects
+	 *            the objects to permit garbage collection for
+	 */
+	public static void enableCollection(List<? extends ObjectReference> objects) {
+		int size = objects.size();
+		if (size == 0) {
+			return;
+		}
+		ObjectReferenceImpl first = (ObjectReferenceImpl) objects.get(0);
+		int[] commands = new int[size];
+		byte[][] objectIds = new byte[size][];
+		try {
+			for (int i = 0; i < size; i++) {
+				ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+				DataOutputStream outData = new DataOutputStream(outBytes);
+				((ObjectReferenceImpl) objects.get(i)).write(first, outData);
+				commands[i] = JdwpCommandPacket.OR_ENABLE_COLLECTION;
+				objectIds[i] = outBytes.toByteArray();
+			}
+		} catch (IOException e) {
+			first.defaultIOExceptionHandler(e);
+			return;
+		}
+		first.initJdwpRequest();
+		try {
+			JdwpReplyPacket[] replies = first.requestVM(commands, objectIds);
+			for (JdwpReplyPacket reply : replies) {
+				int error = reply.errorCode();
+				if (error != JdwpReplyPacket.INVALID_OBJECT) {
+					first.defaultReplyErrorHandler(error);
+				}
+			}
+		} finally {
+			first.handledJdwpRequest();
+		}
+	}
+
 	/**
 	 * Inner class used to return monitor info.
 	 */
@@ -147,7 +191,7 @@ public class ObjectReferenceImpl extends ValueImpl implements ObjectReference {
 
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			MonitorInfo result = new MonitorInfo();
 			result.owner = ThreadReferenceImpl.read(this, replyData);
 			result.entryCount = readInt("entry count", replyData); //$NON-NLS-1$
@@ -238,7 +282,7 @@ public class ObjectReferenceImpl extends ValueImpl implements ObjectReference {
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			int elements = readInt("elements", replyData); //$NON-NLS-1$
 			if (max > 0 && elements > max) {
 				elements = max;
@@ -289,33 +333,47 @@ public class ObjectReferenceImpl extends ValueImpl implements ObjectReference {
 					nonStaticFields.add(field);
 			}
 
-			// First get values for the static fields.
+			// Send the request for the non-static fields first, so that it
+			// is in flight while the values of the static fields are
+			// retrieved.
+			int nonStaticFieldsSize = nonStaticFields.size();
+			Future<JdwpReplyPacket> pendingReply = null;
+			if (nonStaticFieldsSize > 0) {
+				write(this, outData);
+				writeInt(nonStaticFieldsSize, "size", outData); //$NON-NLS-1$
+				for (int i = 0; i < nonStaticFieldsSize; i++) {
+					FieldImpl field = nonStaticFields.get(i);
+					field.write(this, outData);
+				}
+				pendingReply = requestVMAsync(JdwpCommandPacket.OR_GET_VALUES,
+						outBytes);
+			}
+
+			// Then get values for the static fields.
 			Map<Field, Value> resultMap;
-			if (staticFields.isEmpty()) {
-				resultMap = new HashMap<Field, Value>();
-			} else {
-				resultMap = referenceType().getValues(staticFields);
+			try {
+				if (staticFields.isEmpty()) {
+					resultMap = new HashMap<Field, Value>();
+				} else {
+					resultMap = referenceType().getValues(staticFields);
+				}
+			} catch (RuntimeException e) {
+				if (pendingReply != null) {
+					pendingReply.cancel(false);
+				}
+				throw e;
 			}
 
 			// if no non-static fields are requested, return directly the
 			// result.
-			if (nonStaticFields.isEmpty()) {
+			if (pendingReply == null) {
 				return resultMap;
 			}
-			// Then get the values for the non-static fields.
-			int nonStaticFieldsSize = nonStaticFields.size();
-			write(this, outData);
-			writeInt(nonStaticFieldsSize, "size", outData); //$NON-NLS-1$
-			for (int i = 0; i < nonStaticFieldsSize; i++) {
-				FieldImpl field = nonStaticFields.get(i);
-				field.write(this, outData);
-			}
 
-			JdwpReplyPacket replyPacket = requestVM(
-					JdwpCommandPacket.OR_GET_VALUES, outBytes);
+			JdwpReplyPacket replyPacket = getReplyVM(pendingReply);
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
 			if (nrOfElements != nonStaticFieldsSize)
 				throw new InternalError(
@@ -427,6 +485,7 @@ public class ObjectReferenceImpl extends ValueImpl implements ObjectReference {
 
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.OR_INVOKE_METHOD, outBytes);
+			virtualMachineImpl().changed();
 			switch (replyPacket.errorCode()) {
 			case JdwpReplyPacket.TYPE_MISMATCH:
 				throw new InvalidTypeException();
@@ -441,7 +500,7 @@ public class ObjectReferenceImpl extends ValueImpl implements ObjectReference {
 				throw new IncompatibleThreadStateException();
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			ValueImpl value = ValueImpl.readWithTag(this, replyData);
 			ObjectReferenceImpl exception = ObjectReferenceImpl
 					.readObjectRefWithTag(this, replyData);
@@ -492,7 +551,7 @@ public class ObjectReferenceImpl extends ValueImpl implements ObjectReference {
 				defaultReplyErrorHandler(replyPacket.errorCode());
 				break;
 			}
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			boolean result = readBoolean("is collected", replyData); //$NON-NLS-1$
 			return result;
 		} catch (IOException e) {
@@ -515,7 +574,7 @@ public class ObjectReferenceImpl extends ValueImpl implements ObjectReference {
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.OR_REFERENCE_TYPE, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			fReferenceType = ReferenceTypeImpl.readWithTypeTag(this, replyData);
 			return fReferenceType;
 		} catch (IOException e) {
@@ -562,6 +621,7 @@ public class ObjectReferenceImpl extends ValueImpl implements ObjectReference {
 
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.OR_SET_VALUES, outBytes);
+			virtualMachineImpl().changed();
 			switch (replyPacket.errorCode()) {
 			case JdwpReplyPacket.TYPE_MISMATCH:
 				throw new InvalidTypeException();
@@ -608,26 +668,34 @@ public class ObjectReferenceImpl extends ValueImpl implements ObjectReference {
 	/**
 	 * @return Reads JDWP representation and returns new instance.
 	 */
-	public static ObjectReferenceImpl readObjectRefWithoutTag(
-			MirrorImpl target, DataInputStream in) throws IOException {
+	public static ObjectReferenceImpl readObjectRefWithoutTag(MirrorImpl target,
+			JdwpReplyDecoder in) throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
-		JdwpObjectID ID = new JdwpObjectID(vmImpl);
-		ID.read(in);
-		if (target.fVerboseWriter != null)
-			target.fVerboseWriter.println("objectReference", ID.value()); //$NON-NLS-1$
-
-		if (ID.isNull())
+		long id = in.readID(vmImpl.objectIDSize());
+		if (target.fVerboseWriter != null) {
+			target.fVerboseWriter.println("objectReference", id); //$NON-NLS-1$
+		}
+		if (id == JdwpID.VALUE_NULL) {
 			return null;
+		}
+		return forID(vmImpl, id);
+	}
 
-		ObjectReferenceImpl mirror = new ObjectReferenceImpl(vmImpl, ID);
-		return mirror;
+	/**
+	 * @return Returns a new instance with the given non-null id.
+	 */
+	private static ObjectReferenceImpl forID(VirtualMachineImpl vmImpl,
+			long id) {
+		JdwpObjectID ID = new JdwpObjectID(vmImpl);
+		ID.setValue(id);
+		return new ObjectReferenceImpl(vmImpl, ID);
 	}
 
 	/**
 	 * @return Reads JDWP representation and returns new instance.
 	 */
 	public static ObjectReferenceImpl readObjectRefWithTag(MirrorImpl target,
-			DataInputStream in) throws IOException {
+			JdwpReplyDecoder in) throws IOException {
 		byte objectTag = target.readByte("object tag", JdwpID.tagMap(), in); //$NON-NLS-1$
 		switch (objectTag) {
 		case 0:
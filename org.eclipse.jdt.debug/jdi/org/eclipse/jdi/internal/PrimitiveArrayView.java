@@ -0,0 +1,311 @@
+/*******************************************************************************
+ * Copyright (c) 2015 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal;
+
+import java.io.IOException;
+
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
+
+import com.sun.jdi.InternalException;
+import com.sun.jdi.Value;
+
+/**
+ * A view of the components of an array of primitive type. The components are
+ * read from the VM on demand, in pages of {@link #PAGE_SIZE} components, and
+ * each page is kept in an array of the primitive type, like
+ * <code>int[]</code>. A {@link Value} is only created for a component when it
+ * is asked for with {@link #getValue(int)}.
+ * <p>
+ * A view keeps the pages it has read for as long as it is referenced, and does
+ * not see the components changed since, whether by running threads or through
+ * other mirrors of the array. A view must therefore only be used for a single
+ * request of its client, like reading the entries of one partition of the
+ * array, and then dropped. {@link ArrayReferenceImpl#primitiveView()} returns a
+ * new view each time.
+ * </p>
+ */
+public class PrimitiveArrayView {
+	/**
+	 * Number of components read from the VM at once.
+	 */
+	public static final int PAGE_SIZE = 256;
+
+	/**
+	 * The array whose components are viewed.
+	 */
+	private final ArrayReferenceImpl fArray;
+
+	/**
+	 * JDWP tag of the component type.
+	 */
+	private final byte fTag;
+
+	/**
+	 * The pages read so far, <code>null</code> if none has been read yet.
+	 */
+	private Object[] fPages;
+
+	/**
+	 * Creates a new view.
+	 *
+	 * @param array
+	 *            the array
+	 * @param tag
+	 *            the JDWP tag of the primitive component type of the array
+	 */
+	PrimitiveArrayView(ArrayReferenceImpl array, byte tag) {
+		fArray = array;
+		fTag = tag;
+	}
+
+	/**
+	 * @return Returns the JDWP tag of the component type of the array, which
+	 *         is the same as the signature of the component type.
+	 */
+	public byte componentTag() {
+		return fTag;
+	}
+
+	/**
+	 * @return Returns the number of components of the array.
+	 */
+	public int length() {
+		return fArray.length();
+	}
+
+	/**
+	 * @return Returns the component at the given index of a
+	 *         <code>boolean</code> array.
+	 * @throws IndexOutOfBoundsException
+	 *             if the index is outside the bounds of the array
+	 * @throws ClassCastException
+	 *             if the components are not of type <code>boolean</code>
+	 */
+	public boolean getBoolean(int index) {
+		return ((boolean[]) page(index))[index % PAGE_SIZE];
+	}
+
+	/**
+	 * @return Returns the component at the given index of a <code>byte</code>
+	 *         array.
+	 * @see #getBoolean(int)
+	 */
+	public byte getByte(int index) {
+		return ((byte[]) page(index))[index % PAGE_SIZE];
+	}
+
+	/**
+	 * @return Returns the component at the given index of a <code>char</code>
+	 *         array.
+	 * @see #getBoolean(int)
+	 */
+	public char getChar(int index) {
+		return ((char[]) page(index))[index % PAGE_SIZE];
+	}
+
+	/**
+	 * @return Returns the component at the given index of a <code>short</code>
+	 *         array.
+	 * @see #getBoolean(int)
+	 */
+	public short getShort(int index) {
+		return ((short[]) page(index))[index % PAGE_SIZE];
+	}
+
+	/**
+	 * @return Returns the component at the given index of an <code>int</code>
+	 *         array.
+	 * @see #getBoolean(int)
+	 */
+	public int getInt(int index) {
+		return ((int[]) page(index))[index % PAGE_SIZE];
+	}
+
+	/**
+	 * @return Returns the component at the given index of a <code>long</code>
+	 *         array.
+	 * @see #getBoolean(int)
+	 */
+	public long getLong(int index) {
+		return ((long[]) page(index))[index % PAGE_SIZE];
+	}
+
+	/**
+	 * @return Returns the component at the given index of a <code>float</code>
+	 *         array.
+	 * @see #getBoolean(int)
+	 */
+	public float getFloat(int index) {
+		return ((float[]) page(index))[index % PAGE_SIZE];
+	}
+
+	/**
+	 * @return Returns the component at the given index of a
+	 *         <code>double</code> array.
+	 * @see #getBoolean(int)
+	 */
+	public double getDouble(int index) {
+		return ((double[]) page(index))[index % PAGE_SIZE];
+	}
+
+	/**
+	 * Creates a mirror for the component at the given index.
+	 *
+	 * @param index
+	 *            the index
+	 * @return Returns the {@link Value} of the component at the given index.
+	 * @throws IndexOutOfBoundsException
+	 *             if the index is outside the bounds of the array
+	 */
+	public Value getValue(int index) {
+		Object page = page(index);
+		int i = index % PAGE_SIZE;
+		VirtualMachineImpl vmImpl = fArray.virtualMachineImpl();
+		switch (fTag) {
+		case BooleanValueImpl.tag:
+			return new BooleanValueImpl(vmImpl,
+					Boolean.valueOf(((boolean[]) page)[i]));
+		case ByteValueImpl.tag:
+			return new ByteValueImpl(vmImpl, Byte.valueOf(((byte[]) page)[i]));
+		case CharValueImpl.tag:
+			return new CharValueImpl(vmImpl,
+					Character.valueOf(((char[]) page)[i]));
+		case ShortValueImpl.tag:
+			return new ShortValueImpl(vmImpl,
+					Short.valueOf(((short[]) page)[i]));
+		case IntegerValueImpl.tag:
+			return new IntegerValueImpl(vmImpl,
+					Integer.valueOf(((int[]) page)[i]));
+		case LongValueImpl.tag:
+			return new LongValueImpl(vmImpl, Long.valueOf(((long[]) page)[i]));
+		case FloatValueImpl.tag:
+			return new FloatValueImpl(vmImpl, Float.valueOf(((float[]) page)[i]));
+		case DoubleValueImpl.tag:
+			return new DoubleValueImpl(vmImpl,
+					Double.valueOf(((double[]) page)[i]));
+		default:
+			throw new InternalException(
+					JDIMessages.ArrayReferenceImpl_Invalid_ArrayReference_Value_tag_encountered___2
+							+ fTag);
+		}
+	}
+
+	/**
+	 * Returns the page that contains the component at the given index, and
+	 * reads it from the VM if it has not been read yet.
+	 *
+	 * @param index
+	 *            index of a component
+	 * @return Returns the page, which is an array of the primitive component
+	 *         type.
+	 */
+	private synchronized Object page(int index) {
+		int length = fArray.length();
+		if (index < 0 || index >= length) {
+			throw new IndexOutOfBoundsException(
+					JDIMessages.ArrayReferenceImpl_Invalid_index_1);
+		}
+		if (fPages == null) {
+			fPages = new Object[(length + PAGE_SIZE - 1) / PAGE_SIZE];
+		}
+		int pageIndex = index / PAGE_SIZE;
+		Object page = fPages[pageIndex];
+		if (page == null) {
+			int firstIndex = pageIndex * PAGE_SIZE;
+			page = fArray.getPrimitiveValues(fTag, firstIndex,
+					Math.min(PAGE_SIZE, length - firstIndex));
+			fPages[pageIndex] = page;
+		}
+		return page;
+	}
+
+	/**
+	 * Reads components of the given primitive type into a new array.
+	 *
+	 * @param target
+	 *            the mirror that outputs verbose info
+	 * @param type
+	 *            the JDWP tag of the primitive type
+	 * @param length
+	 *            the number of components to read
+	 * @param in
+	 *            the decoder over the untagged values
+	 * @return Returns an array of the primitive type.
+	 * @throws IOException
+	 *             if there are fewer values than the given length
+	 */
+	static Object readPage(MirrorImpl target, int type, int length,
+			JdwpReplyDecoder in)
+			throws IOException {
+		switch (type) {
+		case BooleanValueImpl.tag: {
+			boolean[] page = new boolean[length];
+			for (int i = 0; i < length; i++) {
+				page[i] = target.readBoolean("booleanValue", in); //$NON-NLS-1$
+			}
+			return page;
+		}
+		case ByteValueImpl.tag: {
+			byte[] page = new byte[length];
+			for (int i = 0; i < length; i++) {
+				page[i] = target.readByte("byteValue", in); //$NON-NLS-1$
+			}
+			return page;
+		}
+		case CharValueImpl.tag: {
+			char[] page = new char[length];
+			for (int i = 0; i < length; i++) {
+				page[i] = target.readChar("charValue", in); //$NON-NLS-1$
+			}
+			return page;
+		}
+		case ShortValueImpl.tag: {
+			short[] page = new short[length];
+			for (int i = 0; i < length; i++) {
+				page[i] = target.readShort("shortValue", in); //$NON-NLS-1$
+			}
+			return page;
+		}
+		case IntegerValueImpl.tag: {
+			int[] page = new int[length];
+			for (int i = 0; i < length; i++) {
+				page[i] = target.readInt("integerValue", in); //$NON-NLS-1$
+			}
+			return page;
+		}
+		case LongValueImpl.tag: {
+			long[] page = new long[length];
+			for (int i = 0; i < length; i++) {
+				page[i] = target.readLong("longValue", in); //$NON-NLS-1$
+			}
+			return page;
+		}
+		case FloatValueImpl.tag: {
+			float[] page = new float[length];
+			for (int i = 0; i < length; i++) {
+				page[i] = target.readFloat("floatValue", in); //$NON-NLS-1$
+			}
+			return page;
+		}
+		case DoubleValueImpl.tag: {
+			double[] page = new double[length];
+			for (int i = 0; i < length; i++) {
+				page[i] = target.readDouble("doubleValue", in); //$NON-NLS-1$
+			}
+			return page;
+		}
+		default:
+			throw new InternalException(
+					JDIMessages.ArrayReferenceImpl_Invalid_ArrayReference_Value_tag_encountered___2
+							+ type);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,9 +10,9 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal;
 
-import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
 
 import com.sun.jdi.InternalException;
 import com.sun.jdi.PrimitiveType;
@@ -166,33 +166,4 @@ public abstract class PrimitiveValueImpl extends ValueImpl implements PrimitiveV
 	public abstract void write(MirrorImpl target, DataOutputStream out)
 			throws IOException;
 
-	/**
-	 * @return Reads JDWP representation and returns new instance.
-	 */
-	public static PrimitiveValueImpl readWithoutTag(MirrorImpl target,
-			PrimitiveType type, DataInputStream in) throws IOException {
-		switch (((PrimitiveTypeImpl) type).tag()) {
-		case 0:
-			return null;
-		case BooleanValueImpl.tag:
-			return BooleanValueImpl.read(target, in);
-		case ByteValueImpl.tag:
-			return ByteValueImpl.read(target, in);
-		case CharValueImpl.tag:
-			return CharValueImpl.read(target, in);
-		case DoubleValueImpl.tag:
-			return DoubleValueImpl.read(target, in);
-		case FloatValueImpl.tag:
-			return FloatValueImpl.read(target, in);
-		case IntegerValueImpl.tag:
-			return IntegerValueImpl.read(target, in);
-		case LongValueImpl.tag:
-			return LongValueImpl.read(target, in);
-		case ShortValueImpl.tag:
-			return ShortValueImpl.read(target, in);
-		}
-		throw new InternalException(
-				JDIMessages.PrimitiveValueImpl_Invalid_Primitive_Value_tag_encountered___2
-						+ type);
-	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,7 +12,6 @@
 package org.eclipse.jdi.internal;
 
 import java.io.ByteArrayOutputStream;
-import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.lang.reflect.Modifier;
@@ -31,6 +30,7 @@ import org.eclipse.jdi.internal.jdwp.JdwpFieldID;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
 import org.eclipse.jdi.internal.jdwp.JdwpMethodID;
 import org.eclipse.jdi.internal.jdwp.JdwpReferenceTypeID;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 import org.eclipse.osgi.util.NLS;
 
@@ -91,11 +91,10 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		protected String fAbsoluteFileName;
 
 		/**
-		 * Map line number in the input source file -> list of [start line in
-		 * the output source file, range in the output source file]. (Integer ->
-		 * List of int[2]).
+		 * Map line number in the input source file -> start line in the output
+		 * source file, range in the output source file.
 		 */
-		private HashMap<Integer, List<int[]>> fLineInfo;
+		private StratumLineIndex fLineInfo;
 
 		/**
 		 * FileInfo constructor.
@@ -111,7 +110,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 			fFileId = fileId;
 			fFileName = fileName;
 			fAbsoluteFileName = absoluteFileName;
-			fLineInfo = new HashMap<Integer, List<int[]>>();
+			fLineInfo = new StratumLineIndex();
 		}
 
 		/**
@@ -129,13 +128,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		 */
 		public void addLineInfo(int inputLine, int outputStartLine,
 				int outputLineRange) {
-			Integer key = new Integer(inputLine);
-			List<int[]> outputLines = fLineInfo.get(key);
-			if (outputLines == null) {
-				outputLines = new ArrayList<int[]>();
-				fLineInfo.put(key, outputLines);
-			}
-			outputLines.add(new int[] { outputStartLine, outputLineRange });
+			fLineInfo.add(inputLine, outputStartLine, outputLineRange);
 		}
 
 		/**
@@ -144,16 +137,16 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		 * 
 		 * @param lineNumber
 		 *            the line number in the input source file.
-		 * @return a List of int[2].
+		 * @return a List of Integer.
 		 */
 		public List<Integer> getOutputLinesForLine(int lineNumber) {
 			List<Integer> list = new ArrayList<Integer>();
-			List<int[]> outputLines = fLineInfo.get(new Integer(lineNumber));
-			if (outputLines != null) {
-				for (Iterator<int[]> iter = outputLines.iterator(); iter.hasNext();) {
-					int[] info = iter.next();
-					int outputLineNumber = info[0];
-					int length = info[1];
+			int position = fLineInfo.indexOf(lineNumber);
+			if (position != -1) {
+				for (; position < fLineInfo.size()
+						&& fLineInfo.lineAt(position) == lineNumber; position++) {
+					int outputLineNumber = fLineInfo.firstAt(position);
+					int length = fLineInfo.secondAt(position);
 					if (length == 0) {
 						length = length + 1;
 					}
@@ -199,10 +192,10 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		private int fPrimaryFileId;
 
 		/**
-		 * Map line number in the output source file -> list of line numbers in
-		 * the input source file. (Integer -> List of Integer)
+		 * Map line number in the output source file -> id of the input source
+		 * file, line number in the input source file.
 		 */
-		private HashMap<Integer, List<int[]>> fOutputLineToInputLine;
+		private StratumLineIndex fOutputLineToInputLine;
 
 		/**
 		 * Stratum constructor.
@@ -213,7 +206,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		public Stratum(String id) {
 			fId = id;
 			fFileInfos = new ArrayList<FileInfo>();
-			fOutputLineToInputLine = new HashMap<Integer, List<int[]>>();
+			fOutputLineToInputLine = new StratumLineIndex();
 			fPrimaryFileId = -1;
 		}
 
@@ -285,7 +278,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 						JDIMessages.ReferenceTypeImpl_29,
 						new String[] { Integer.toString(lineFileId) }));
 			}
-			// add the data to the different hash maps.
+			// add the data to the different indexes.
 			for (int i = 0; i < repeatCount; i++, inputStartLine++) {
 				fileInfo.addLineInfo(inputStartLine, outputStartLine,
 						outputLineIncrement);
@@ -307,13 +300,19 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		 */
 		private void addLineInfoToMap(int inputStartLine, int lineFileId,
 				int outputStartLine) {
-			Integer key = new Integer(outputStartLine);
-			List<int[]> inputLines = fOutputLineToInputLine.get(key);
-			if (inputLines == null) {
-				inputLines = new ArrayList<int[]>();
-				fOutputLineToInputLine.put(key, inputLines);
+			fOutputLineToInputLine.add(outputStartLine, lineFileId,
+					inputStartLine);
+		}
+
+		/**
+		 * Sorts the line mappings of this stratum, once all are added, so that
+		 * they can be looked up.
+		 */
+		void sortLineInfos() {
+			fOutputLineToInputLine.sort();
+			for (Iterator<FileInfo> iter = fFileInfos.iterator(); iter.hasNext();) {
+				iter.next().fLineInfo.sort();
 			}
-			inputLines.add(new int[] { lineFileId, inputStartLine });
 		}
 
 		/**
@@ -335,12 +334,54 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		}
 
 		/**
+		 * Return the position in {@link #fOutputLineToInputLine} of the first
+		 * input line of the given output line, or -1 if none.
+		 * 
+		 * @param outputLineNumber
+		 *            the line number in the output source file.
+		 * @param fileId
+		 *            the id of the input source file, or -1 for any file.
+		 */
+		private int inputLineInfo(int outputLineNumber, int fileId) {
+			StratumLineIndex index = fOutputLineToInputLine;
+			int position = index.indexOf(outputLineNumber);
+			if (position == -1 || fileId == -1) {
+				return position;
+			}
+			for (; position < index.size()
+					&& index.lineAt(position) == outputLineNumber; position++) {
+				if (index.firstAt(position) == fileId) {
+					return position;
+				}
+			}
+			return -1;
+		}
+
+		/**
+		 * Return the id of the input source file of the first input line
+		 * associated to the given line in the output source file, or -1 if
+		 * none.
+		 * 
+		 * @param outputLineNumber
+		 *            the line number in the output source file.
+		 */
+		public int getInputFileId(int outputLineNumber) {
+			int position = inputLineInfo(outputLineNumber, -1);
+			return position == -1 ? -1 : fOutputLineToInputLine.firstAt(position);
+		}
+
+		/**
+		 * Return the first line in the given input source file associated to
+		 * the given line in the output source file, or -1 if none.
+		 * 
 		 * @param outputLineNumber
-		 * @return
+		 *            the line number in the output source file.
+		 * @param fileId
+		 *            the id of the input source file, or -1 for any file.
 		 */
-		public List<int[]> getInputLineInfos(int outputLineNumber) {
-			return fOutputLineToInputLine.get(new Integer(
-					outputLineNumber));
+		public int getInputLine(int outputLineNumber, int fileId) {
+			int position = inputLineInfo(outputLineNumber, fileId);
+			return position == -1 ? -1 : fOutputLineToInputLine.secondAt(position);
 		}
 
 	}
@@ -350,15 +391,22 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 
 	/** The following are the stored results of JDWP calls. */
 	protected List<InterfaceType> fInterfaces = null;
-	private List<Method> fMethods = null;
+	/**
+	 * The methods and fields of this type. They may be stored by the thread
+	 * that prefetches type information as well as by the clients, so they are
+	 * only set while they are <code>null</code>, see
+	 * {@link #storeMethods(List)} and {@link #storeFields(List)}.
+	 */
+	private volatile List<Method> fMethods = null;
 	private Hashtable<JdwpMethodID, Method> fMethodTable = null;
-	private List<Field> fFields = null;
+	private volatile List<Field> fFields = null;
 	private List<Method> fAllMethods = null;
 	private List<Method> fVisibleMethods = null;
 	private List<Field> fAllFields = null;
 	private List<Field> fVisibleFields = null;
 	private List<InterfaceType> fAllInterfaces = null;
 	private Map<String, Map<String, List<Location>>> fStratumAllLineLocations = null;
+	private MethodLineIndex fMethodLineIndex = null;
 	private String fSourceName = null;
 	private int fModifierBits = -1;
 	private ClassLoaderReferenceImpl fClassLoader = null;
@@ -421,8 +469,9 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 	 */
 	public void flushStoredJdwpResults() {
 		// Flush Methods.
-		if (fMethods != null) {
-			for (Method method : fMethods) {
+		List<Method> methods = fMethods;
+		if (methods != null) {
+			for (Method method : methods) {
 				((MethodImpl)method).flushStoredJdwpResults();
 			}
 			fMethods = null;
@@ -430,8 +479,9 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		}
 
 		// Flush Fields.
-		if (fFields != null) {
-			for (Field field : fFields) {
+		List<Field> fields = fFields;
+		if (fields != null) {
+			for (Field field : fields) {
 				((FieldImpl)field).flushStoredJdwpResults();
 			}
 			fFields = null;
@@ -444,6 +494,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		fVisibleFields = null;
 		fAllInterfaces = null;
 		fStratumAllLineLocations = null;
+		fMethodLineIndex = null;
 		fSourceName = null;
 		fModifierBits = -1;
 		fClassLoader = null;
@@ -525,7 +576,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.RT_MODIFIERS, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			fModifierBits = readInt(
 					"modifiers", AccessibleImpl.getModifierStrings(), replyData); //$NON-NLS-1$
 			return fModifierBits;
@@ -660,7 +711,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 			default:
 				defaultReplyErrorHandler(replyPacket.errorCode());
 			}
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			List<InterfaceType> elements = new ArrayList<InterfaceType>();
 			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
 			for (int i = 0; i < nrOfElements; i++) {
@@ -791,7 +842,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.RT_CLASS_LOADER, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			fClassLoader = ClassLoaderReferenceImpl.read(this, replyData);
 			return fClassLoader;
 		} catch (IOException e) {
@@ -815,7 +866,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.RT_CLASS_OBJECT, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			fClassObject = ClassObjectReferenceImpl.read(this, replyData);
 			return fClassObject;
 		} catch (IOException e) {
@@ -836,7 +887,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.RT_STATUS, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			int status = readInt("status", classStatusStrings(), replyData); //$NON-NLS-1$
 			return status;
 		} catch (IOException e) {
@@ -892,8 +943,9 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 	 * @return Returns a list containing each Field declared in this type.
 	 */
 	public List<Field> fields() {
-		if (fFields != null) {
-			return fFields;
+		List<Field> fields = fFields;
+		if (fields != null) {
+			return fields;
 		}
 
 		// Note: Fields are returned in the order they occur in the class file,
@@ -907,19 +959,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 					: JdwpCommandPacket.RT_FIELDS;
 			JdwpReplyPacket replyPacket = requestVM(jdwpCommand, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
-			List<Field> elements = new ArrayList<Field>();
-			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
-			for (int i = 0; i < nrOfElements; i++) {
-				FieldImpl elt = FieldImpl.readWithNameSignatureModifiers(this,
-						this, withGenericSignature, replyData);
-				if (elt == null) {
-					continue;
-				}
-				elements.add(elt);
-			}
-			fFields = elements;
-			return fFields;
+			return storeFields(readFields(replyPacket, withGenericSignature));
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
 			return null;
@@ -928,6 +968,73 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		}
 	}
 
+	/**
+	 * Reads the fields of this type from a successful 'ReferenceType - Fields'
+	 * reply.
+	 * 
+	 * @param replyPacket
+	 *            the reply
+	 * @param withGenericSignature
+	 *            whether the reply is to the 'With Generic' variant of the
+	 *            command
+	 * @return Returns the list of fields.
+	 * @throws IOException
+	 *             if the reply is shorter than its content requires
+	 */
+	private List<Field> readFields(JdwpReplyPacket replyPacket,
+			boolean withGenericSignature) throws IOException {
+		List<Field> elements = new ArrayList<Field>();
+		JdwpReplyDecoder replyData = replyPacket.dataDecoder();
+		int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
+		for (int i = 0; i < nrOfElements; i++) {
+			FieldImpl elt = FieldImpl.readWithNameSignatureModifiers(this,
+					this, withGenericSignature, replyData);
+			if (elt == null) {
+				continue;
+			}
+			elements.add(elt);
+		}
+		return elements;
+	}
+
+	/**
+	 * Stores the fields of this type from the reply to a request that has been
+	 * sent ahead of time, unless they are known already or the request failed.
+	 * 
+	 * @param replyPacket
+	 *            the reply
+	 * @param withGenericSignature
+	 *            whether the reply is to the 'With Generic' variant of the
+	 *            command
+	 * @see ReferenceTypePrefetcher
+	 */
+	void prefetchedFields(JdwpReplyPacket replyPacket,
+			boolean withGenericSignature) {
+		if (fFields != null || replyPacket.errorCode() != JdwpReplyPacket.NONE) {
+			return;
+		}
+		try {
+			storeFields(readFields(replyPacket, withGenericSignature));
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+		}
+	}
+
+	/**
+	 * Stores the given fields as the fields of this type, unless fields have
+	 * been stored meanwhile.
+	 * 
+	 * @param fields
+	 *            the fields read from the VM
+	 * @return Returns the fields of this type, which are the ones stored first.
+	 */
+	private synchronized List<Field> storeFields(List<Field> fields) {
+		if (fFields == null) {
+			fFields = fields;
+		}
+		return fFields;
+	}
+
 	/**
 	 * @return Returns FieldImpl of a field in the reference specified by a
 	 *         given fieldID, or null if not found.
@@ -998,7 +1105,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 					JdwpCommandPacket.RT_GET_VALUES, outBytes);
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			HashMap<Field, Value> map = new HashMap<Field, Value>();
 			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
 			if (nrOfElements != fieldsSize)
@@ -1086,8 +1193,9 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 	public List<Method> methods() {
 		// Note that ArrayReference overwrites this method by returning an empty
 		// list.
-		if (fMethods != null)
-			return fMethods;
+		List<Method> methods = fMethods;
+		if (methods != null)
+			return methods;
 
 		// Note: Methods are returned in the order they occur in the class file,
 		// therefore their
@@ -1100,19 +1208,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 					: JdwpCommandPacket.RT_METHODS;
 			JdwpReplyPacket replyPacket = requestVM(jdwpCommand, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
-			List<Method> elements = new ArrayList<Method>();
-			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
-			for (int i = 0; i < nrOfElements; i++) {
-				MethodImpl elt = MethodImpl.readWithNameSignatureModifiers(
-						this, this, withGenericSignature, replyData);
-				if (elt == null) {
-					continue;
-				}
-				elements.add(elt);
-			}
-			fMethods = elements;
-			return fMethods;
+			return storeMethods(readMethods(replyPacket, withGenericSignature));
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
 			return null;
@@ -1121,6 +1217,75 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		}
 	}
 
+	/**
+	 * Reads the methods of this type from a successful 'ReferenceType - Methods'
+	 * reply.
+	 * 
+	 * @param replyPacket
+	 *            the reply
+	 * @param withGenericSignature
+	 *            whether the reply is to the 'With Generic' variant of the
+	 *            command
+	 * @return Returns the list of methods.
+	 * @throws IOException
+	 *             if the reply is shorter than its content requires
+	 */
+	private List<Method> readMethods(JdwpReplyPacket replyPacket,
+			boolean withGenericSignature) throws IOException {
+		List<Method> elements = new ArrayList<Method>();
+		JdwpReplyDecoder replyData = replyPacket.dataDecoder();
+		int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
+		for (int i = 0; i < nrOfElements; i++) {
+			MethodImpl elt = MethodImpl.readWithNameSignatureModifiers(this,
+					this, withGenericSignature, replyData);
+			if (elt == null) {
+				continue;
+			}
+			elements.add(elt);
+		}
+		return elements;
+	}
+
+	/**
+	 * Stores the methods of this type from the reply to a request that has been
+	 * sent ahead of time, unless they are known already or the request failed.
+	 * 
+	 * @param replyPacket
+	 *            the reply
+	 * @param withGenericSignature
+	 *            whether the reply is to the 'With Generic' variant of the
+	 *            command
+	 * @see ReferenceTypePrefetcher
+	 */
+	void prefetchedMethods(JdwpReplyPacket replyPacket,
+			boolean withGenericSignature) {
+		if (fMethods != null || replyPacket.errorCode() != JdwpReplyPacket.NONE) {
+			return;
+		}
+		try {
+			storeMethods(readMethods(replyPacket, withGenericSignature));
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+		}
+	}
+
+	/**
+	 * Stores the given methods as the methods of this type, unless methods
+	 * have been stored meanwhile, such as methods whose line tables have been
+	 * prefetched.
+	 * 
+	 * @param methods
+	 *            the methods read from the VM
+	 * @return Returns the methods of this type, which are the ones stored
+	 *         first.
+	 */
+	private synchronized List<Method> storeMethods(List<Method> methods) {
+		if (fMethods == null) {
+			fMethods = methods;
+		}
+		return fMethods;
+	}
+
 	/**
 	 * @return Returns a List containing each visible Method that has the given
 	 *         name.
@@ -1178,7 +1343,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.RT_SIGNATURE, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			setSignature(readString("signature", replyData)); //$NON-NLS-1$
 			return fSignature;
 		} catch (IOException e) {
@@ -1241,7 +1406,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.HCR_GET_CLASS_VERSION, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			fIsHCREligible = readBoolean("HCR eligible", replyData); //$NON-NLS-1$
 			fIsVersionKnown = readBoolean("version known", replyData); //$NON-NLS-1$
 			fClassFileVersion = readInt("class file version", replyData); //$NON-NLS-1$
@@ -1308,7 +1473,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 	 * @return Reads JDWP representation and returns new or cached instance.
 	 */
 	public static ReferenceTypeImpl readWithTypeTag(MirrorImpl target,
-			DataInputStream in) throws IOException {
+			JdwpReplyDecoder in) throws IOException {
 		byte typeTag = target.readByte("type tag", JdwpID.typeTagMap(), in); //$NON-NLS-1$
 		switch (typeTag) {
 		case 0:
@@ -1336,7 +1501,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 	 * @return Reads JDWP representation and returns new or cached instance.
 	 */
 	public static ReferenceTypeImpl readWithTypeTagAndSignature(
-			MirrorImpl target, boolean withGenericSignature, DataInputStream in)
+			MirrorImpl target, boolean withGenericSignature, JdwpReplyDecoder in)
 			throws IOException {
 		byte typeTag = target.readByte("type tag", JdwpID.typeTagMap(), in); //$NON-NLS-1$
 		switch (typeTag) {
@@ -1578,31 +1743,42 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 	 * @see com.sun.jdi.ReferenceType#locationsOfLine(java.lang.String, java.lang.String, int)
 	 */
 	public List<Location> locationsOfLine(String stratum, String sourceName, int lineNumber) throws AbsentInformationException {
-		Iterator<Method> allMethods = methods().iterator();
-		List<Location> locations = new ArrayList<Location>();
-		boolean hasLineInformation = false;
-		AbsentInformationException exception = null;
-		while (allMethods.hasNext()) {
-			MethodImpl method = (MethodImpl) allMethods.next();
-			if (method.isAbstract() || method.isNative()) {
-				continue;
-			}
-			// one line in the input source can be translate in multiple lines
-			// in different
-			// methods in the output source. We need all these locations.
-			try {
-				locations.addAll(locationsOfLine(stratum, sourceName, lineNumber, method));
-				hasLineInformation = true;
-			} catch (AbsentInformationException e) {
-				exception = e;
+		MethodLineIndex index = methodLineIndex();
+		if (!index.hasLineInformation() && index.getAbsentInformation() != null) {
+			throw index.getAbsentInformation();
+		}
+		List<Integer> javaLines;
+		try {
+			javaLines = javaStratumLinesOfLine(stratum, sourceName, lineNumber);
+		} catch (AbsentInformationException e) {
+			if (index.isEmpty()) {
+				return new ArrayList<Location>(0);
 			}
+			throw e;
 		}
-		if (!hasLineInformation && exception != null) {
-			throw exception;
+		// one line in the input source can be translate in multiple lines
+		// in different
+		// methods in the output source. We need all these locations.
+		List<Location> locations = new ArrayList<Location>();
+		for (MethodImpl method : index.methodsOfLines(javaLines)) {
+			locations.addAll(method.javaStratumLocationsOfLines(javaLines));
 		}
 		return locations;
 	}
 
+	/**
+	 * @return Returns the index of the methods of this type by the lines of
+	 *         their line tables in the Java stratum.
+	 */
+	private MethodLineIndex methodLineIndex() {
+		MethodLineIndex index = fMethodLineIndex;
+		if (index == null) {
+			index = new MethodLineIndex(methods());
+			fMethodLineIndex = index;
+		}
+		return index;
+	}
+
 	/* (non-Javadoc)
 	 * @see com.sun.jdi.ReferenceType#availableStrata()
 	 */
@@ -1681,7 +1857,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 						JDIMessages.ReferenceTypeImpl_31);
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			fSmap = readString(JDIMessages.ReferenceTypeImpl_32, replyData);
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
@@ -1722,7 +1898,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			fSourceName = readString("source name", replyData); //$NON-NLS-1$
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
@@ -1731,6 +1907,51 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		}
 	}
 
+	/**
+	 * Stores the name of the Java source file of this type from the reply to a
+	 * 'ReferenceType - Source File' request that has been sent ahead of time,
+	 * unless it is known already or the request failed.
+	 * 
+	 * @param replyPacket
+	 *            the reply
+	 * @see ReferenceTypePrefetcher
+	 */
+	void prefetchedSourceName(JdwpReplyPacket replyPacket) {
+		if (fSourceName != null || replyPacket.errorCode() != JdwpReplyPacket.NONE) {
+			return;
+		}
+		try {
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
+			fSourceName = readString("source name", replyData); //$NON-NLS-1$
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+		}
+	}
+
+	/**
+	 * @return Returns whether the fields of this type are known without
+	 *         requesting them from the VM.
+	 */
+	boolean hasFields() {
+		return fFields != null;
+	}
+
+	/**
+	 * @return Returns whether the methods of this type are known without
+	 *         requesting them from the VM.
+	 */
+	boolean hasMethods() {
+		return fMethods != null;
+	}
+
+	/**
+	 * @return Returns whether the name of the Java source file of this type is
+	 *         known without requesting it from the VM.
+	 */
+	boolean hasSourceName() {
+		return fSourceName != null;
+	}
+
 	/**
 	 * Check in the source debug extension is available. To call before doing
 	 * operations which need data from the SMAP. Return <code>false</code> if
@@ -1777,6 +1998,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 	 * Add a new stratum to this type.
 	 */
 	protected void addStratum(Stratum stratum) {
+		stratum.sortLineInfos();
 		fStrata.put(stratum.fId, stratum);
 	}
 
@@ -1823,14 +2045,14 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 	private FileInfo fileInfo(long codeIndex, MethodImpl method, Stratum stratum) {
 		int fileId = stratum.fPrimaryFileId;
 		if (stratum.fFileInfos.size() > 1) {
-			List<int[]> lineInfos = null;
+			int inputFileId = -1;
 			try {
-				lineInfos = lineInfos(codeIndex, method, stratum);
+				inputFileId = stratum.getInputFileId(outputLineNumber(codeIndex, method));
 			} catch (AbsentInformationException e) {
 				// nothing to do, use the primary file id.
 			}
-			if (lineInfos != null) {
-				fileId = lineInfos.get(0)[0];
+			if (inputFileId != -1) {
+				fileId = inputFileId;
 			}
 		}
 		for (Iterator<FileInfo> iter = stratum.fFileInfos.iterator(); iter.hasNext();) {
@@ -1844,27 +2066,21 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 	}
 
 	/**
-	 * Return the list of line number in the input files of the stratum
-	 * associated with the code at the given address.
+	 * Return the line number in the output source file, that is in the Java
+	 * stratum, of the code at the given address.
 	 * 
 	 * @param codeIndex
 	 *            the index of the code.
 	 * @param method
 	 *            the method where is the code.
-	 * @param stratum
-	 * @return List of int[2]: [fileId, inputLineNumber]
+	 * @return the line number, or -1 if not available
 	 */
-	private List<int[]> lineInfos(long codeIndex, MethodImpl method, Stratum stratum) throws AbsentInformationException {
-		int outputLineNumber = -1;
+	private int outputLineNumber(long codeIndex, MethodImpl method) throws AbsentInformationException {
 		try {
-			outputLineNumber = method.javaStratumLineNumber(codeIndex);
+			return method.javaStratumLineNumber(codeIndex);
 		} catch (NativeMethodException e) { // Occurs in SUN VM.
-			return null;
-		}
-		if (outputLineNumber != -1) {
-			return stratum.getInputLineInfos(outputLineNumber);
+			return -1;
 		}
-		return null;
 	}
 
 	/**
@@ -1913,9 +2129,9 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		Stratum stratum = getStratum(stratumId);
 		try {
 			if (stratum != null) {
-				List<int[]> lineInfos = lineInfos(codeIndex, method, stratum);
-				if (lineInfos != null) {
-					return lineInfos.get(0)[1];
+				int inputLine = stratum.getInputLine(outputLineNumber(codeIndex, method), -1);
+				if (inputLine != -1) {
+					return inputLine;
 				}
 				return LocationImpl.LINE_NR_NOT_AVAILABLE;
 			}
@@ -1947,6 +2163,19 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 	 *             if the specified sourceName is not valid.
 	 */
 	public List<Location> locationsOfLine(String stratumId, String sourceName, int lineNumber, MethodImpl method)	throws AbsentInformationException {
+		return method.javaStratumLocationsOfLines(javaStratumLinesOfLine(stratumId, sourceName, lineNumber));
+	}
+
+	/**
+	 * Return the lines in the Java stratum which are part of the translation
+	 * of the given line, in the given stratum in the source file with the
+	 * given source name. If sourceName is <code>null</code>, return the lines
+	 * for all source file in the given stratum.
+	 * 
+	 * @throws AbsentInformationException
+	 *             if the specified sourceName is not valid.
+	 */
+	private List<Integer> javaStratumLinesOfLine(String stratumId, String sourceName, int lineNumber) throws AbsentInformationException {
 		Stratum stratum = getStratum(stratumId);
 		List<Integer> javaLines = new ArrayList<Integer>();
 		if (stratum != null) {
@@ -1963,7 +2192,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 		} else { // Java stratum
 			javaLines.add(new Integer(lineNumber));
 		}
-		return method.javaStratumLocationsOfLines(javaLines);
+		return javaLines;
 	}
 
 	/**
@@ -1990,48 +2219,29 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 			int[] javaStratumLineNumberTable) throws AbsentInformationException {
 		Stratum stratum = getStratum(stratumId);
 		if (stratum != null) {
-			int[][] lineInfoTable = new int[codeIndexTable.length][];
-			if (sourceName == null) {
-				int lastIndex = 0;
-				for (int i = 0, length = javaStratumLineNumberTable.length; i < length; i++) {
-					// for each executable line in the java source, get the
-					// associated lines in the stratum source
-					List<int[]> lineInfos = stratum.getInputLineInfos(javaStratumLineNumberTable[i]);
-					if (lineInfos != null) {
-						int[] lineInfo = lineInfos.get(0);
-						if (!lineInfo.equals(lineInfoTable[lastIndex])) {
-							lineInfoTable[i] = lineInfo;
-							lastIndex = i;
-						}
-					}
-				}
-			} else { // sourceName != null
+			int fileId = -1;
+			if (sourceName != null) {
 				FileInfo fileInfo = stratum.getFileInfo(sourceName);
 				if (fileInfo == null) {
 					throw new AbsentInformationException(JDIMessages.ReferenceTypeImpl_34);
 				}
-				int fileId = fileInfo.fFileId;
-				int lastIndex = 0;
-				for (int i = 0, length = javaStratumLineNumberTable.length; i < length; i++) {
-					List<int[]> lineInfos = stratum.getInputLineInfos(javaStratumLineNumberTable[i]);
-					if (lineInfos != null) {
-						for (Iterator<int[]> iter = lineInfos.iterator(); iter.hasNext();) {
-							int[] lineInfo = iter.next();
-							if (lineInfo[0] == fileId) {
-								if (!lineInfo.equals(lineInfoTable[lastIndex])) {
-									lineInfoTable[i] = lineInfo;
-									lastIndex = i;
-								}
-								break;
-							}
-						}
-					}
-				}
+				fileId = fileInfo.fFileId;
 			}
 			List<Location> locations = new ArrayList<Location>();
-			for (int i = 0, length = lineInfoTable.length; i < length; i++) {
-				if (lineInfoTable[i] != null) {
+			boolean found = false;
+			int lastLine = 0;
+			for (int i = 0, length = javaStratumLineNumberTable.length; i < length; i++) {
+				// for each executable line in the java source, get the
+				// associated lines in the stratum source. Consecutive code
+				// indexes of the same line are one location.
+				int javaLine = javaStratumLineNumberTable[i];
+				if (found && javaLine == lastLine) {
+					continue;
+				}
+				if (stratum.getInputLine(javaLine, fileId) != -1) {
 					locations.add(new LocationImpl(virtualMachineImpl(), method, codeIndexTable[i]));
+					found = true;
+					lastLine = javaLine;
 				}
 			}
 			return locations;
@@ -2059,7 +2269,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 				JdwpReplyPacket replyPacket = requestVM(
 						JdwpCommandPacket.RT_SIGNATURE_WITH_GENERIC, this);
 				defaultReplyErrorHandler(replyPacket.errorCode());
-				DataInputStream replyData = replyPacket.dataInStream();
+				JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 				setSignature(readString("signature", replyData)); //$NON-NLS-1$
 				fGenericSignature = readString("generic signature", replyData); //$NON-NLS-1$
 				if (fGenericSignature.length() == 0) {
@@ -2134,7 +2344,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			int elements = readInt("element count", replyData); //$NON-NLS-1$
 			if (max > 0 && elements > max) {
 				elements = max;
@@ -2179,7 +2389,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			return readInt("major version", replyData); //$NON-NLS-1$
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
@@ -2216,7 +2426,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			readInt("major version", replyData); //$NON-NLS-1$
 			return readInt("minor version", replyData); //$NON-NLS-1$
 		} catch (IOException e) {
@@ -2254,7 +2464,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			return readInt("pool count", replyData); //$NON-NLS-1$
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
@@ -2291,7 +2501,7 @@ public abstract class ReferenceTypeImpl extends TypeImpl implements
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			readInt("pool count", replyData); //$NON-NLS-1$
 			int bytes = readInt("byte count", replyData); //$NON-NLS-1$
 			byte[] array = new byte[bytes];
@@ -0,0 +1,220 @@
+/*******************************************************************************
+ * Copyright (c) 2015 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
+
+import com.sun.jdi.Method;
+import com.sun.jdi.ReferenceType;
+
+/**
+ * Fills the caches of reference types with their fields, methods, source
+ * names and the line tables of their methods, which are otherwise requested
+ * one type and one method at a time the first time they are needed.
+ * <p>
+ * The requests for a list of types are sent back-to-back in two batches, one
+ * for the fields, methods and source names of the types and one for the line
+ * tables of their methods, so that each batch costs a single round trip.
+ * Information that is already known is not requested again.
+ * </p>
+ */
+public class ReferenceTypePrefetcher extends MirrorImpl {
+
+	/**
+	 * Whether the 'With Generic' variants of the commands are used.
+	 */
+	private final boolean fWithGenericSignature;
+
+	/**
+	 * Number of requests sent so far.
+	 */
+	private int fRequestCount = 0;
+
+	/**
+	 * The commands, their data and the mirrors their replies are for, of the
+	 * batch being built.
+	 */
+	private List<Integer> fCommands = new ArrayList<Integer>();
+	private List<byte[]> fData = new ArrayList<byte[]>();
+	private List<MirrorImpl> fTargets = new ArrayList<MirrorImpl>();
+
+	/**
+	 * Creates a new prefetcher.
+	 *
+	 * @param vmImpl
+	 *            the VM whose types are prefetched
+	 */
+	public ReferenceTypePrefetcher(VirtualMachineImpl vmImpl) {
+		super("ReferenceTypePrefetcher", vmImpl); //$NON-NLS-1$
+		fWithGenericSignature = vmImpl.isJdwpVersionGreaterOrEqual(1, 5);
+	}
+
+	/**
+	 * Returns the loaded types whose name starts with one of the given
+	 * prefixes. Array types are left out, as the VM is never asked for their
+	 * information.
+	 *
+	 * @param prefixes
+	 *            prefixes of type names, like package names
+	 * @return Returns the list of {@link ReferenceType}s.
+	 */
+	public List<ReferenceType> selectTypes(String[] prefixes) {
+		List<ReferenceType> types = new ArrayList<ReferenceType>();
+		Iterator<ReferenceType> iter = virtualMachineImpl().allClasses()
+				.iterator();
+		while (iter.hasNext()) {
+			ReferenceType type = iter.next();
+			if (type instanceof ArrayTypeImpl) {
+				continue;
+			}
+			String name = type.name();
+			for (String prefix : prefixes) {
+				if (name.startsWith(prefix)) {
+					types.add(type);
+					break;
+				}
+			}
+		}
+		return types;
+	}
+
+	/**
+	 * Requests the information of the given types that is not known yet, and
+	 * stores it in the caches of the types and of their methods. Types whose
+	 * information cannot be retrieved, for instance because they have been
+	 * unloaded, are skipped.
+	 *
+	 * @param types
+	 *            the types
+	 */
+	public void prefetch(List<? extends ReferenceType> types) {
+		Iterator<? extends ReferenceType> iter = types.iterator();
+		while (iter.hasNext()) {
+			ReferenceTypeImpl type = (ReferenceTypeImpl) iter.next();
+			if (!type.hasFields()) {
+				add(fWithGenericSignature ? JdwpCommandPacket.RT_FIELDS_WITH_GENERIC
+						: JdwpCommandPacket.RT_FIELDS, type);
+			}
+			if (!type.hasMethods()) {
+				add(fWithGenericSignature ? JdwpCommandPacket.RT_METHODS_WITH_GENERIC
+						: JdwpCommandPacket.RT_METHODS, type);
+			}
+			if (!type.hasSourceName()) {
+				add(JdwpCommandPacket.RT_SOURCE_FILE, type);
+			}
+		}
+		sendBatch();
+
+		iter = types.iterator();
+		while (iter.hasNext()) {
+			ReferenceTypeImpl type = (ReferenceTypeImpl) iter.next();
+			if (!type.hasMethods()) {
+				// the type could not be prefetched
+				continue;
+			}
+			Iterator<Method> methods = type.methods().iterator();
+			while (methods.hasNext()) {
+				MethodImpl method = (MethodImpl) methods.next();
+				if (!method.isAbstract() && !method.isNative()
+						&& !method.hasLineTable()) {
+					add(JdwpCommandPacket.M_LINE_TABLE, method);
+				}
+			}
+		}
+		sendBatch();
+	}
+
+	/**
+	 * @return Returns the number of requests sent so far.
+	 */
+	public int getRequestCount() {
+		return fRequestCount;
+	}
+
+	/**
+	 * Adds a request for the given type or method to the batch.
+	 */
+	private void add(int command, MirrorImpl target) {
+		ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+		DataOutputStream outData = new DataOutputStream(outBytes);
+		try {
+			if (target instanceof MethodImpl) {
+				((MethodImpl) target).writeWithReferenceType(this, outData);
+			} else {
+				((ReferenceTypeImpl) target).write(this, outData);
+			}
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+			return;
+		}
+		fCommands.add(new Integer(command));
+		fData.add(outBytes.toByteArray());
+		fTargets.add(target);
+	}
+
+	/**
+	 * Sends the requests of the batch and stores the information of the
+	 * replies.
+	 */
+	private void sendBatch() {
+		int size = fCommands.size();
+		if (size == 0) {
+			return;
+		}
+		int[] commands = new int[size];
+		for (int i = 0; i < size; i++) {
+			commands[i] = fCommands.get(i).intValue();
+		}
+		byte[][] data = fData.toArray(new byte[size][]);
+		List<MirrorImpl> targets = fTargets;
+		fCommands = new ArrayList<Integer>();
+		fData = new ArrayList<byte[]>();
+		fTargets = new ArrayList<MirrorImpl>();
+
+		initJdwpRequest();
+		try {
+			JdwpReplyPacket[] replies = requestVM(commands, data);
+			fRequestCount += size;
+			for (int i = 0; i < size; i++) {
+				MirrorImpl target = targets.get(i);
+				switch (commands[i]) {
+				case JdwpCommandPacket.RT_FIELDS:
+				case JdwpCommandPacket.RT_FIELDS_WITH_GENERIC:
+					((ReferenceTypeImpl) target).prefetchedFields(replies[i],
+							fWithGenericSignature);
+					break;
+				case JdwpCommandPacket.RT_METHODS:
+				case JdwpCommandPacket.RT_METHODS_WITH_GENERIC:
+					((ReferenceTypeImpl) target).prefetchedMethods(
+							replies[i], fWithGenericSignature);
+					break;
+				case JdwpCommandPacket.RT_SOURCE_FILE:
+					((ReferenceTypeImpl) target)
+							.prefetchedSourceName(replies[i]);
+					break;
+				case JdwpCommandPacket.M_LINE_TABLE:
+					((MethodImpl) target).prefetchedLineTable(replies[i]);
+					break;
+				}
+			}
+		} finally {
+			handledJdwpRequest();
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,7 +11,6 @@
 package org.eclipse.jdi.internal;
 
 import java.io.ByteArrayOutputStream;
-import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -23,6 +22,7 @@ import java.util.Map;
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpFrameID;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 
@@ -136,7 +136,7 @@ public class StackFrameImpl extends MirrorImpl implements StackFrame, Locatable
 					JdwpCommandPacket.SF_GET_VALUES, outBytes);
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
 			if (nrOfElements != sizeNotThis)
 				throw new InternalError(
@@ -217,6 +217,7 @@ public class StackFrameImpl extends MirrorImpl implements StackFrame, Locatable
 
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.SF_SET_VALUES, outBytes);
+			virtualMachineImpl().changed();
 			switch (replyPacket.errorCode()) {
 			case JdwpReplyPacket.INVALID_CLASS:
 				throw new ClassNotLoadedException(var.typeName());
@@ -244,7 +245,7 @@ public class StackFrameImpl extends MirrorImpl implements StackFrame, Locatable
 					JdwpCommandPacket.SF_THIS_OBJECT, outBytes);
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			ObjectReference result = ObjectReferenceImpl.readObjectRefWithTag(
 					this, replyData);
 			return result;
@@ -340,10 +341,10 @@ public class StackFrameImpl extends MirrorImpl implements StackFrame, Locatable
 	 * @return Reads JDWP representation and returns new instance.
 	 */
 	public static StackFrameImpl readWithLocation(MirrorImpl target,
-			ThreadReferenceImpl thread, DataInputStream in) throws IOException {
+			ThreadReferenceImpl thread, JdwpReplyDecoder in) throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		JdwpFrameID ID = new JdwpFrameID(vmImpl);
-		ID.read(in);
+		ID.setValue(in.readID(vmImpl.frameIDSize()));
 		if (target.fVerboseWriter != null) {
 			target.fVerboseWriter.println("stackFrame", ID.value()); //$NON-NLS-1$
 		}
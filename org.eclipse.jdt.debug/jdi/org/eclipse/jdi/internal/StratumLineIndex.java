@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2015 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal;
+
+import java.util.Arrays;
+
+/**
+ * A mapping of lines to pairs of numbers, held in arrays of primitive values,
+ * such as the mapping of the lines of an input source file of a stratum to
+ * ranges of lines in the output source file.
+ * <p>
+ * Entries are added while the SMAP of a type is parsed. The index is then
+ * sorted by line once, keeping the entries of a line in the order they were
+ * added, and the entries of a line are found with a binary search.
+ * </p>
+ */
+public class StratumLineIndex {
+
+	private int[] fLines = new int[16];
+	private int[] fFirsts = new int[16];
+	private int[] fSeconds = new int[16];
+	private int fSize = 0;
+	private boolean fSorted = true;
+
+	/**
+	 * Adds an entry.
+	 *
+	 * @param line
+	 *            the line
+	 * @param first
+	 *            the first number of the pair mapped to the line
+	 * @param second
+	 *            the second number of the pair mapped to the line
+	 */
+	public void add(int line, int first, int second) {
+		if (fSize == fLines.length) {
+			int capacity = fSize * 2;
+			fLines = copyOf(fLines, capacity);
+			fFirsts = copyOf(fFirsts, capacity);
+			fSeconds = copyOf(fSeconds, capacity);
+		}
+		if (fSize > 0 && fLines[fSize - 1] > line) {
+			fSorted = false;
+		}
+		fLines[fSize] = line;
+		fFirsts[fSize] = first;
+		fSeconds[fSize] = second;
+		fSize++;
+	}
+
+	private static int[] copyOf(int[] array, int length) {
+		int[] copy = new int[length];
+		System.arraycopy(array, 0, copy, 0, Math.min(array.length, length));
+		return copy;
+	}
+
+	/**
+	 * Sorts the entries by line, keeping the entries of a line in the order
+	 * they were added, and releases the unused capacity. Must be called once
+	 * all the entries are added and before looking them up.
+	 */
+	public void sort() {
+		if (!fSorted) {
+			// the position in the low bits keeps the sort stable
+			long[] keys = new long[fSize];
+			for (int i = 0; i < fSize; i++) {
+				keys[i] = ((long) fLines[i] << 32) | i;
+			}
+			Arrays.sort(keys);
+			int[] lines = new int[fSize];
+			int[] firsts = new int[fSize];
+			int[] seconds = new int[fSize];
+			for (int i = 0; i < fSize; i++) {
+				int position = (int) keys[i];
+				lines[i] = fLines[position];
+				firsts[i] = fFirsts[position];
+				seconds[i] = fSeconds[position];
+			}
+			fLines = lines;
+			fFirsts = firsts;
+			fSeconds = seconds;
+			fSorted = true;
+		} else if (fLines.length != fSize) {
+			fLines = copyOf(fLines, fSize);
+			fFirsts = copyOf(fFirsts, fSize);
+			fSeconds = copyOf(fSeconds, fSize);
+		}
+	}
+
+	/**
+	 * @return Returns the number of entries.
+	 */
+	public int size() {
+		return fSize;
+	}
+
+	/**
+	 * Returns the position of the first entry of the given line. The entries
+	 * of the line follow it.
+	 *
+	 * @param line
+	 *            the line
+	 * @return Returns the position, or -1 if no entry has the line.
+	 */
+	public int indexOf(int line) {
+		int low = 0;
+		int high = fSize;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (fLines[middle] < line) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low < fSize && fLines[low] == line ? low : -1;
+	}
+
+	/**
+	 * @return Returns the line of the entry at the given position.
+	 */
+	public int lineAt(int position) {
+		return fLines[position];
+	}
+
+	/**
+	 * @return Returns the first number of the entry at the given position.
+	 */
+	public int firstAt(int position) {
+		return fFirsts[position];
+	}
+
+	/**
+	 * @return Returns the second number of the entry at the given position.
+	 */
+	public int secondAt(int position) {
+		return fSeconds[position];
+	}
+}
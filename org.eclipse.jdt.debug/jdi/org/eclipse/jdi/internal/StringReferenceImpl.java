@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,11 +10,11 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpStringID;
 
@@ -57,7 +57,7 @@ public class StringReferenceImpl extends ObjectReferenceImpl implements
 					this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			String result = readString("value", replyData); //$NON-NLS-1$
 			return result;
 		} catch (IOException e) {
@@ -71,19 +71,27 @@ public class StringReferenceImpl extends ObjectReferenceImpl implements
 	/**
 	 * @return Reads JDWP representation and returns new instance.
 	 */
-	public static StringReferenceImpl read(MirrorImpl target, DataInputStream in)
-			throws IOException {
+	public static StringReferenceImpl read(MirrorImpl target,
+			JdwpReplyDecoder in) throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
-		JdwpStringID ID = new JdwpStringID(vmImpl);
-		ID.read(in);
-		if (target.fVerboseWriter != null)
-			target.fVerboseWriter.println("stringReference", ID.value()); //$NON-NLS-1$
-
-		if (ID.isNull())
+		long id = in.readID(vmImpl.objectIDSize());
+		if (target.fVerboseWriter != null) {
+			target.fVerboseWriter.println("stringReference", id); //$NON-NLS-1$
+		}
+		if (id == JdwpID.VALUE_NULL) {
 			return null;
+		}
+		return forID(vmImpl, id);
+	}
 
-		StringReferenceImpl mirror = new StringReferenceImpl(vmImpl, ID);
-		return mirror;
+	/**
+	 * @return Returns a new instance with the given non-null id.
+	 */
+	private static StringReferenceImpl forID(VirtualMachineImpl vmImpl,
+			long id) {
+		JdwpStringID ID = new JdwpStringID(vmImpl);
+		ID.setValue(id);
+		return new StringReferenceImpl(vmImpl, ID);
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,7 +10,6 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -18,6 +17,7 @@ import java.util.List;
 
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpThreadGroupID;
 
@@ -74,7 +74,7 @@ public class ThreadGroupReferenceImpl extends ObjectReferenceImpl implements
 			JdwpReplyPacket replyPacket = requestVM(JdwpCommandPacket.TGR_NAME,
 					this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			fName = readString("name", replyData); //$NON-NLS-1$
 			return fName;
 		} catch (IOException e) {
@@ -97,7 +97,7 @@ public class ThreadGroupReferenceImpl extends ObjectReferenceImpl implements
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.TGR_PARENT, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			fParent = ThreadGroupReferenceImpl.read(this, replyData);
 			return fParent;
 		} catch (IOException e) {
@@ -149,7 +149,7 @@ public class ThreadGroupReferenceImpl extends ObjectReferenceImpl implements
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.TGR_CHILDREN, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			ChildrenInfo result = new ChildrenInfo();
 			int nrThreads = readInt("nr threads", replyData); //$NON-NLS-1$
 			result.childThreads = new ArrayList<ThreadReference>(nrThreads);
@@ -215,19 +215,29 @@ public class ThreadGroupReferenceImpl extends ObjectReferenceImpl implements
 	 * @return Reads JDWP representation and returns new instance.
 	 */
 	public static ThreadGroupReferenceImpl read(MirrorImpl target,
-			DataInputStream in) throws IOException {
+			JdwpReplyDecoder in) throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
-		JdwpThreadGroupID ID = new JdwpThreadGroupID(vmImpl);
-		ID.read(in);
-		if (target.fVerboseWriter != null)
-			target.fVerboseWriter.println("threadGroupReference", ID.value()); //$NON-NLS-1$
-
-		if (ID.isNull())
+		long id = in.readID(vmImpl.objectIDSize());
+		if (target.fVerboseWriter != null) {
+			target.fVerboseWriter.println("threadGroupReference", id); //$NON-NLS-1$
+		}
+		if (id == JdwpID.VALUE_NULL) {
 			return null;
+		}
+		return forID(vmImpl, id);
+	}
 
+	/**
+	 * @return Returns the cached instance with the given non-null id, or a
+	 *         new instance if there is none.
+	 */
+	private static ThreadGroupReferenceImpl forID(VirtualMachineImpl vmImpl,
+			long id) {
 		ThreadGroupReferenceImpl mirror = (ThreadGroupReferenceImpl) vmImpl
-				.getCachedMirror(ID);
+				.getCachedObject(id);
 		if (mirror == null) {
+			JdwpThreadGroupID ID = new JdwpThreadGroupID(vmImpl);
+			ID.setValue(id);
 			mirror = new ThreadGroupReferenceImpl(vmImpl, ID);
 			vmImpl.addCachedMirror(mirror);
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,7 +11,6 @@
 package org.eclipse.jdi.internal;
 
 import java.io.ByteArrayOutputStream;
-import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.lang.reflect.Field;
@@ -23,6 +22,7 @@ import java.util.Map;
 
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpID;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 import org.eclipse.jdi.internal.jdwp.JdwpThreadID;
 import org.eclipse.osgi.util.NLS;
@@ -127,7 +127,7 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			ObjectReference result = ObjectReferenceImpl.readObjectRefWithTag(
 					this, replyData);
 			return result;
@@ -162,6 +162,7 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 			}
 			JdwpReplyPacket reply = requestVM(
 					JdwpCommandPacket.TR_FORCE_EARLY_RETURN, byteOutStream);
+			virtualMachineImpl().changed();
 			switch (reply.errorCode()) {
 			case JdwpReplyPacket.INVALID_THREAD:
 				throw new ObjectCollectedException(
@@ -222,7 +223,7 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			int result = readInt("frame count", replyData); //$NON-NLS-1$
 			return result;
 		} catch (IOException e) {
@@ -268,7 +269,7 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
 			List<StackFrame> frames = new ArrayList<StackFrame>(nrOfElements);
 			for (int i = 0; i < nrOfElements; i++) {
@@ -322,7 +323,7 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 				throw new ObjectCollectedException();
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			// remove the thread status reply
 			readInt("thread status", threadStatusMap(), replyData); //$NON-NLS-1$
 			int suspendStatus = readInt(
@@ -350,7 +351,7 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 				throw new ObjectCollectedException();
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			return readString("name", replyData); //$NON-NLS-1$
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
@@ -380,7 +381,7 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 						JDIMessages.ThreadReferenceImpl_Thread_was_not_suspended_5);
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 
 			int nrOfMonitors = readInt("nr of monitors", replyData); //$NON-NLS-1$
 			List<ObjectReference> result = new ArrayList<ObjectReference>(nrOfMonitors);
@@ -421,7 +422,7 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 				throw new VMDisconnectedException(JDIMessages.vm_dead);
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 
 			int owned = readInt("owned monitors", replyData); //$NON-NLS-1$
 			List<com.sun.jdi.MonitorInfo> result = new ArrayList<com.sun.jdi.MonitorInfo>(owned);
@@ -452,6 +453,7 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 		try {
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.TR_RESUME, this);
+			virtualMachineImpl().changed();
 			switch (replyPacket.errorCode()) {
 			case JdwpReplyPacket.INVALID_THREAD:
 				throw new ObjectCollectedException();
@@ -479,7 +481,7 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 				return THREAD_STATUS_NOT_STARTED;
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			int threadStatus = readInt(
 					"thread status", threadStatusMap(), replyData); //$NON-NLS-1$
 			readInt("suspend status", suspendStatusStrings(), replyData); //$NON-NLS-1$
@@ -571,7 +573,7 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.TR_SUSPEND_COUNT, this);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			int result = readInt("suspend count", replyData); //$NON-NLS-1$
 			return result;
 		} catch (IOException e) {
@@ -598,7 +600,7 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 				throw new ObjectCollectedException();
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			fThreadGroup = ThreadGroupReferenceImpl.read(this, replyData);
 			return fThreadGroup;
 		} catch (IOException e) {
@@ -656,7 +658,7 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			boolean result = readBoolean("is enclosed", replyData); //$NON-NLS-1$
 			return result;
 		} catch (IOException e) {
@@ -687,20 +689,30 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 	/**
 	 * @return Reads JDWP representation and returns new instance.
 	 */
-	public static ThreadReferenceImpl read(MirrorImpl target, DataInputStream in)
-			throws IOException {
+	public static ThreadReferenceImpl read(MirrorImpl target,
+			JdwpReplyDecoder in) throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
-		JdwpThreadID ID = new JdwpThreadID(vmImpl);
-		ID.read(in);
-		if (target.fVerboseWriter != null)
-			target.fVerboseWriter.println("threadReference", ID.value()); //$NON-NLS-1$
-
-		if (ID.isNull())
+		long id = in.readID(vmImpl.objectIDSize());
+		if (target.fVerboseWriter != null) {
+			target.fVerboseWriter.println("threadReference", id); //$NON-NLS-1$
+		}
+		if (id == JdwpID.VALUE_NULL) {
 			return null;
+		}
+		return forID(vmImpl, id);
+	}
 
+	/**
+	 * @return Returns the cached instance with the given non-null id, or a
+	 *         new instance if there is none.
+	 */
+	private static ThreadReferenceImpl forID(VirtualMachineImpl vmImpl,
+			long id) {
 		ThreadReferenceImpl mirror = (ThreadReferenceImpl) vmImpl
-				.getCachedMirror(ID);
+				.getCachedObject(id);
 		if (mirror == null) {
+			JdwpThreadID ID = new JdwpThreadID(vmImpl);
+			ID.setValue(id);
 			mirror = new ThreadReferenceImpl(vmImpl, ID);
 			vmImpl.addCachedMirror(mirror);
 		}
@@ -790,6 +802,7 @@ public class ThreadReferenceImpl extends ObjectReferenceImpl implements	ThreadRe
 
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.SF_POP_FRAME, outBytes);
+			virtualMachineImpl().changed();
 			switch (replyPacket.errorCode()) {
 			case JdwpReplyPacket.INVALID_THREAD:
 				throw new InvalidStackFrameException();
@@ -1,153 +1,443 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
  * http://www.eclipse.org/legal/epl-v10.html
- * 
+ *
  * Contributors:
  *     IBM Corporation - initial API and implementation
  *******************************************************************************/
 package org.eclipse.jdi.internal;
 
-import java.lang.ref.Reference;
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.SoftReference;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Hashtable;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
 
 /**
- * This class is used to cache values. It uses soft references to store cached
- * values. Once a value is garbage collected by the VM, the corresponding entry
- * is removed from the cache on the next invocation of put() or get().
- * 
- * Note that WeakHashMap can't be used for this purpose because in WeakHashMap
- * soft references are only used for the keys, and values may not have 'strong'
- * references to keys otherwise they will never be garbage collected.
- * 
+ * This class is used to cache mirrors under their JDWP id. The cache is split
+ * in segments that are locked independently, so that threads looking up
+ * mirrors with different ids rarely contend.
+ * <p>
+ * Each segment holds at most its share of the maximum size of the cache in
+ * strongly referenced values, and keeps them in least recently used order.
+ * When a segment is full, its least recently used value is evicted: it is no
+ * longer strongly referenced by the cache, but it stays reachable through a
+ * soft reference. This way a mirror that is still in use is never replaced by
+ * a second mirror for the same id, and the mirrors of reference types keep the
+ * fields, methods and line tables fetched for them until the heap runs low.
+ * </p>
  */
 public class ValueCache {
 	/**
-	 * Map to store <key, Reference> pairs, where Reference is a soft reference
-	 * to an Object.
+	 * Number of segments, must be a power of two.
 	 */
-	private Map<Object, SoftReference<Object>> cacheTable = new Hashtable<Object, SoftReference<Object>>();
+	private static final int SEGMENT_COUNT = 16;
+
 	/**
-	 * Map to store <Reference, key> pairs, to find the cacheTable-key of a
-	 * garbage collected Reference.
+	 * The segments of this cache.
 	 */
-	private Map<SoftReference<Object>, Object> refTable = new Hashtable<SoftReference<Object>, Object>();
+	private final Segment[] fSegments = new Segment[SEGMENT_COUNT];
 
 	/**
-	 * The reference-queue that is registered with the soft references. The
-	 * garbage collector will enqueue soft references that are garbage
-	 * collected.
+	 * Creates a new cache holding an unbounded number of values.
 	 */
-	private ReferenceQueue<Object> refQueue = new ReferenceQueue<Object>();
+	public ValueCache() {
+		this(0);
+	}
 
 	/**
-	 * Clean up all entries from the table for which the values were garbage
-	 * collected.
+	 * Creates a new cache.
+	 *
+	 * @param maxSize
+	 *            maximum number of values the cache keeps strongly
+	 *            referenced, or zero or less to keep all values
 	 */
-	private void cleanup() {
-		Reference<?> ref;
-		while ((ref = refQueue.poll()) != null) {
-			Object key = refTable.get(ref);
-			if (key != null)
-				cacheTable.remove(key);
-			refTable.remove(ref);
+	public ValueCache(int maxSize) {
+		int segmentSize = Integer.MAX_VALUE;
+		if (maxSize > 0) {
+			segmentSize = (maxSize + SEGMENT_COUNT - 1) / SEGMENT_COUNT;
 		}
+		for (int i = 0; i < SEGMENT_COUNT; i++) {
+			fSegments[i] = new Segment(segmentSize);
+		}
+	}
+
+	/**
+	 * @return Returns a hash for the given id in which all bits of the id are
+	 *         mixed, as ids handed out by a VM are often sequential.
+	 */
+	private static int hash(long id) {
+		int h = (int) (id ^ (id >>> 32));
+		h *= 0x9E3779B9;
+		return h ^ (h >>> 16);
 	}
 
 	/**
-	 * Put a new entry in the cache under the given key.
+	 * @return Returns the segment for the given hash.
 	 */
-	public void put(Object key, Object value) {
-		cleanup();
-		SoftReference<Object> ref = new SoftReference<Object>(value, refQueue);
-		cacheTable.put(key, ref);
-		refTable.put(ref, key);
+	private Segment segmentFor(int hash) {
+		return fSegments[hash >>> 28 & (SEGMENT_COUNT - 1)];
+	}
+
+	/**
+	 * Put a new entry in the cache under the given id.
+	 */
+	public void put(long id, Object value) {
+		int hash = hash(id);
+		Segment segment = segmentFor(hash);
+		synchronized (segment) {
+			segment.put(id, hash, value);
+		}
 	}
 
 	/**
 	 * Get entry from the cache.
-	 * 
-	 * @return Returns value that is cached under the given key, or null of one
+	 *
+	 * @return Returns value that is cached under the given id, or null of one
 	 *         of the following is true: - The value has not been cached. - The
 	 *         value had been cached but is garbage collected.
 	 */
-	public Object get(Object key) {
-		cleanup();
-		Object value = null;
-		SoftReference<?> ref = cacheTable.get(key);
-		if (ref != null) {
-			value = ref.get();
+	public Object get(long id) {
+		int hash = hash(id);
+		Segment segment = segmentFor(hash);
+		synchronized (segment) {
+			return segment.get(id, hash);
 		}
-		return value;
 	}
 
 	/**
-	 * Returns a Collection view of the values contained in this cache.
+	 * Returns a Collection of the values contained in this cache. The
+	 * collection is a copy that is not affected by later changes to the cache.
 	 */
 	public Collection<Object> values() {
-		cleanup();
+		return valuesWithType(null);
+	}
+
+	/**
+	 * Returns a Collection of the values contained in this cache that have the
+	 * same runtime class as the given Class, or of all values if the given
+	 * Class is <code>null</code>.
+	 */
+	public Collection<Object> valuesWithType(Class<?> type) {
 		List<Object> returnValues = new ArrayList<Object>();
-		synchronized (cacheTable) {
-			Iterator<SoftReference<Object>> iter = cacheTable.values().iterator();
-			SoftReference<Object> ref;
-			Object value;
-			while (iter.hasNext()) {
-				ref = iter.next();
-				value = ref.get();
-				if (value != null) {
-					returnValues.add(value);
-				}
+		for (Segment segment : fSegments) {
+			synchronized (segment) {
+				segment.collectValues(type, returnValues);
 			}
 		}
 		return returnValues;
 	}
 
 	/**
-	 * Returns a Collection view of the values contained in this cache that have
-	 * the same runtime class as the given Class.
+	 * Removes the id and its corresponding value from this cache.
+	 *
+	 * @return Returns The value to which the id had been mapped in this cache,
+	 *         or null if the id did not have a mapping.
 	 */
-	public Collection<Object> valuesWithType(Class<?> type) {
-		cleanup();
-		List<Object> returnValues = new ArrayList<Object>();
-		synchronized (cacheTable) {
-			Iterator<SoftReference<Object>> iter = cacheTable.values().iterator();
-			SoftReference<Object> ref;
-			Object value;
-			while (iter.hasNext()) {
-				ref = iter.next();
-				value = ref.get();
-				if (value != null && value.getClass().equals(type)) {
-					returnValues.add(value);
-				}
+	public Object remove(long id) {
+		int hash = hash(id);
+		Segment segment = segmentFor(hash);
+		synchronized (segment) {
+			return segment.remove(id, hash);
+		}
+	}
+
+	/**
+	 * @return Returns the number of ids that currently have an entry in this
+	 *         cache, including entries whose value may have been garbage
+	 *         collected already.
+	 */
+	public int size() {
+		int size = 0;
+		for (Segment segment : fSegments) {
+			synchronized (segment) {
+				size += segment.fCount;
 			}
 		}
-		return returnValues;
+		return size;
+	}
+
+	/**
+	 * @return Returns the number of lookups that found a value.
+	 */
+	public long getHitCount() {
+		long count = 0;
+		for (Segment segment : fSegments) {
+			synchronized (segment) {
+				count += segment.fHits;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * @return Returns the number of lookups that did not find a value.
+	 */
+	public long getMissCount() {
+		long count = 0;
+		for (Segment segment : fSegments) {
+			synchronized (segment) {
+				count += segment.fMisses;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * @return Returns the number of values that were evicted because the cache
+	 *         was full.
+	 */
+	public long getEvictionCount() {
+		long count = 0;
+		for (Segment segment : fSegments) {
+			synchronized (segment) {
+				count += segment.fEvictions;
+			}
+		}
+		return count;
 	}
 
 	/**
-	 * Removes the key and its corresponding value from this cache.
-	 * 
-	 * @return Returns The value to which the key had been mapped in this
-	 *         hashtable, or null if the key did not have a mapping.
+	 * A cache entry. An entry is both in the hash chain of its bucket and, as
+	 * long as its value is strongly referenced, in the least recently used
+	 * list of its segment.
 	 */
-	public Object remove(Object key) {
-		cleanup();
-		Object value = null;
-		SoftReference<?> ref = cacheTable.get(key);
-		if (ref != null) {
-			value = ref.get();
-			refTable.remove(ref);
+	private static final class Entry {
+		final long fId;
+		final int fHash;
+		/** The value, or null if the value has been evicted. */
+		Object fValue;
+		/** The reference to the value once it has been evicted. */
+		EntryReference fReference;
+		/** Next entry in the same bucket. */
+		Entry fNext;
+		/** Neighbours in the least recently used list. */
+		Entry fBefore;
+		Entry fAfter;
+
+		Entry(long id, int hash, Object value, Entry next) {
+			fId = id;
+			fHash = hash;
+			fValue = value;
+			fNext = next;
+		}
+
+		Object value() {
+			if (fValue != null) {
+				return fValue;
+			}
+			return fReference == null ? null : fReference.get();
+		}
+	}
+
+	/**
+	 * The soft reference to an evicted value, which knows the entry it
+	 * belongs to.
+	 */
+	private static final class EntryReference extends SoftReference<Object> {
+		final Entry fEntry;
+
+		EntryReference(Object value, Entry entry, ReferenceQueue<Object> queue) {
+			super(value, queue);
+			fEntry = entry;
+		}
+	}
+
+	/**
+	 * A part of the cache. All methods must be called while holding the lock of
+	 * the segment.
+	 */
+	private static final class Segment {
+		/** Maximum number of strongly referenced values. */
+		final int fMaxSize;
+		Entry[] fTable = new Entry[16];
+		/** Number of entries in the table. */
+		int fCount;
+		/** Number of entries in the least recently used list. */
+		int fStrongCount;
+		/**
+		 * Head of the least recently used list. The entry after the head is
+		 * the least recently used one.
+		 */
+		final Entry fHead = new Entry(0, 0, null, null);
+		/** The queue that gets the references of collected evicted values. */
+		final ReferenceQueue<Object> fQueue = new ReferenceQueue<Object>();
+		long fHits;
+		long fMisses;
+		long fEvictions;
+
+		Segment(int maxSize) {
+			fMaxSize = maxSize;
+			fHead.fBefore = fHead;
+			fHead.fAfter = fHead;
+		}
+
+		Entry find(long id, int hash) {
+			Entry entry = fTable[hash & (fTable.length - 1)];
+			while (entry != null && entry.fId != id) {
+				entry = entry.fNext;
+			}
+			return entry;
+		}
+
+		Object get(long id, int hash) {
+			Entry entry = find(id, hash);
+			if (entry != null) {
+				if (entry.fValue != null) {
+					unlink(entry);
+					link(entry);
+					fHits++;
+					return entry.fValue;
+				}
+				Object value = entry.value();
+				if (value != null) {
+					// still in use elsewhere, make it strongly cached again
+					entry.fValue = value;
+					entry.fReference = null;
+					link(entry);
+					evict();
+					fHits++;
+					return value;
+				}
+				removeEntry(entry);
+			}
+			fMisses++;
+			return null;
+		}
+
+		void put(long id, int hash, Object value) {
+			expunge();
+			Entry entry = find(id, hash);
+			if (entry == null) {
+				if (fCount >= fTable.length * 3 / 4) {
+					resize();
+				}
+				int index = hash & (fTable.length - 1);
+				entry = new Entry(id, hash, value, fTable[index]);
+				fTable[index] = entry;
+				fCount++;
+			} else {
+				if (entry.fValue != null) {
+					unlink(entry);
+				}
+				entry.fValue = value;
+				entry.fReference = null;
+			}
+			link(entry);
+			evict();
+		}
+
+		Object remove(long id, int hash) {
+			expunge();
+			Entry entry = find(id, hash);
+			if (entry == null) {
+				return null;
+			}
+			Object value = entry.value();
+			removeEntry(entry);
+			return value;
+		}
+
+		void collectValues(Class<?> type, List<Object> values) {
+			for (Entry element : fTable) {
+				for (Entry entry = element; entry != null; entry = entry.fNext) {
+					Object value = entry.value();
+					if (value != null
+							&& (type == null || value.getClass().equals(type))) {
+						values.add(value);
+					}
+				}
+			}
+		}
+
+		/**
+		 * Makes the given entry the most recently used one.
+		 */
+		void link(Entry entry) {
+			entry.fAfter = fHead;
+			entry.fBefore = fHead.fBefore;
+			entry.fBefore.fAfter = entry;
+			fHead.fBefore = entry;
+			fStrongCount++;
+		}
+
+		void unlink(Entry entry) {
+			entry.fBefore.fAfter = entry.fAfter;
+			entry.fAfter.fBefore = entry.fBefore;
+			entry.fBefore = null;
+			entry.fAfter = null;
+			fStrongCount--;
+		}
+
+		/**
+		 * Evicts the least recently used values until the segment is no longer
+		 * over its maximum size.
+		 */
+		void evict() {
+			while (fStrongCount > fMaxSize) {
+				Entry entry = fHead.fAfter;
+				unlink(entry);
+				entry.fReference = new EntryReference(entry.fValue, entry, fQueue);
+				entry.fValue = null;
+				fEvictions++;
+			}
+		}
+
+		void removeEntry(Entry entry) {
+			if (entry.fValue != null) {
+				unlink(entry);
+			}
+			int index = entry.fHash & (fTable.length - 1);
+			Entry previous = null;
+			for (Entry current = fTable[index]; current != null; current = current.fNext) {
+				if (current == entry) {
+					if (previous == null) {
+						fTable[index] = entry.fNext;
+					} else {
+						previous.fNext = entry.fNext;
+					}
+					fCount--;
+					break;
+				}
+				previous = current;
+			}
+			entry.fValue = null;
+			entry.fReference = null;
+		}
+
+		/**
+		 * Removes the entries whose evicted values have been garbage
+		 * collected.
+		 */
+		void expunge() {
+			EntryReference reference;
+			while ((reference = (EntryReference) fQueue.poll()) != null) {
+				Entry entry = reference.fEntry;
+				// the entry may have been removed or re-used in the meantime
+				if (entry.fReference == reference) {
+					removeEntry(entry);
+				}
+			}
+		}
+
+		void resize() {
+			Entry[] oldTable = fTable;
+			Entry[] newTable = new Entry[oldTable.length * 2];
+			int mask = newTable.length - 1;
+			for (Entry element : oldTable) {
+				Entry entry = element;
+				while (entry != null) {
+					Entry next = entry.fNext;
+					int index = entry.fHash & mask;
+					entry.fNext = newTable[index];
+					newTable[index] = entry;
+					entry = next;
+				}
+			}
+			fTable = newTable;
 		}
-		cacheTable.remove(key);
-		return value;
 	}
 }
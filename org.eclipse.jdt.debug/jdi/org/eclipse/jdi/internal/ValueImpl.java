@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,7 +10,6 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal;
 
-import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -19,6 +18,7 @@ import java.util.List;
 
 import org.eclipse.jdi.internal.jdwp.JdwpID;
 import org.eclipse.jdi.internal.jdwp.JdwpObjectID;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
 
 import com.ibm.icu.text.MessageFormat;
 import com.sun.jdi.ArrayType;
@@ -59,7 +59,7 @@ public abstract class ValueImpl extends MirrorImpl implements Value {
 	/**
 	 * @return Reads JDWP representation and returns new instance.
 	 */
-	public static ValueImpl readWithTag(MirrorImpl target, DataInputStream in)
+	public static ValueImpl readWithTag(MirrorImpl target, JdwpReplyDecoder in)
 			throws IOException {
 		byte tag = target.readByte("object tag", JdwpID.tagMap(), in); //$NON-NLS-1$
 		return readWithoutTag(target, tag, in);
@@ -69,7 +69,7 @@ public abstract class ValueImpl extends MirrorImpl implements Value {
 	 * @return Reads JDWP representation and returns new instance.
 	 */
 	public static ValueImpl readWithoutTag(MirrorImpl target, int type,
-			DataInputStream in) throws IOException {
+			JdwpReplyDecoder in) throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		// See also ArrayReference Impl.
 		switch (type) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,27 +11,36 @@
 package org.eclipse.jdi.internal;
 
 import java.io.ByteArrayOutputStream;
-import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-import org.eclipse.jdi.Bootstrap;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.jdi.internal.connect.PacketReceiveManager;
 import org.eclipse.jdi.internal.connect.PacketSendManager;
+import org.eclipse.jdi.internal.connect.SharedPacketSelector;
+import org.eclipse.jdi.internal.connect.SocketChannelConnection;
 import org.eclipse.jdi.internal.event.EventQueueImpl;
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpMetrics;
 import org.eclipse.jdi.internal.jdwp.JdwpObjectID;
 import org.eclipse.jdi.internal.jdwp.JdwpReferenceTypeID;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 import org.eclipse.jdi.internal.request.EventRequestManagerImpl;
+import org.eclipse.jdt.internal.debug.core.JDIDebugOptions;
+import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.osgi.util.NLS;
 
 import com.sun.jdi.BooleanValue;
@@ -93,8 +102,8 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	 * optional: their only purpose is to speed up the debugger by being able to
 	 * use the stored results of JDWP calls.
 	 */
-	private ValueCache fCachedReftypes = new ValueCache();
-	private ValueCache fCachedObjects = new ValueCache();
+	private ValueCache fCachedReftypes;
+	private ValueCache fCachedObjects;
 
 	/** The following are the stored results of JDWP calls. */
 	private String fVersionDescription = null; // Text information on the VM
@@ -152,36 +161,94 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	 */
 	private boolean fIsDisconnected = false;
 
+	/**
+	 * Number of times that code has run or values have been set in the VM
+	 * since it was created: each resume of the VM or of one of its threads,
+	 * each method invocation, and each change of a field, local, array
+	 * component or stack, increments it. Values read from the VM before the
+	 * count last changed may be out of date.
+	 */
+	private volatile int fChangeCount = 0;
+
+	/**
+	 * Counts, sizes and latencies of the requests sent to this VM.
+	 */
+	private final JdwpMetrics fMetrics = new JdwpMetrics();
+
 	/**
 	 * The name of the current default stratum.
 	 */
 	private String fDefaultStratum;
 	private PacketReceiveManager fPacketReceiveManager;
 	private PacketSendManager fPacketSendManager;
+	/**
+	 * The Virtual Machine Manager that created this Virtual Machine.
+	 */
+	private VirtualMachineManagerImpl fVirtualMachineManager;
 
 	/**
-	 * Creates a new Virtual Machine.
+	 * Creates a new Virtual Machine, configured by the given Virtual Machine
+	 * Manager.
 	 */
-	public VirtualMachineImpl(Connection connection) {
+	public VirtualMachineImpl(VirtualMachineManagerImpl manager, Connection connection) {
 		super("VirtualMachine"); //$NON-NLS-1$
+		fVirtualMachineManager = manager;
 		fEventReqMgr = new EventRequestManagerImpl(this);
 		fEventQueue = new EventQueueImpl(this);
-		fRequestTimeout = ((VirtualMachineManagerImpl) Bootstrap
-				.virtualMachineManager()).getGlobalRequestTimeout();
+		fRequestTimeout = manager.getGlobalRequestTimeout();
+		fCachedReftypes = new ValueCache(manager.getMaxCachedReferenceTypes());
+		fCachedObjects = new ValueCache(manager.getMaxCachedObjects());
 
 		fPacketReceiveManager = new PacketReceiveManager(connection, this);
-		Thread receiveThread = new Thread(fPacketReceiveManager,
-				JDIMessages.VirtualMachineImpl_0);
-		receiveThread.setDaemon(true);
-		fPacketReceiveManager.setPartnerThread(receiveThread);
-		receiveThread.start();
-
 		fPacketSendManager = new PacketSendManager(connection);
-		Thread sendThread = new Thread(fPacketSendManager,
-				JDIMessages.VirtualMachineImpl_1);
-		sendThread.setDaemon(true);
-		fPacketReceiveManager.setPartnerThread(sendThread);
-		sendThread.start();
+		fPacketSendManager.setFlushThreshold(manager.getFlushThreshold());
+		fPacketSendManager.setMaxFlushLatency(manager.getMaxFlushLatency());
+		if (!manager.useSharedSelector() || !startSharedIO(connection)) {
+			Thread receiveThread = new Thread(fPacketReceiveManager,
+					JDIMessages.VirtualMachineImpl_0);
+			receiveThread.setDaemon(true);
+			fPacketReceiveManager.setPartnerThread(receiveThread);
+			receiveThread.start();
+
+			Thread sendThread = new Thread(fPacketSendManager,
+					JDIMessages.VirtualMachineImpl_1);
+			sendThread.setDaemon(true);
+			fPacketReceiveManager.setPartnerThread(sendThread);
+			sendThread.start();
+		}
+	}
+
+	/**
+	 * Hands the IO of the given connection to the selector shared by the
+	 * Virtual Machines, so that this VM needs no thread of its own to send
+	 * and receive packets.
+	 *
+	 * @return Returns whether the selector performs the IO of the connection,
+	 *         which requires a connection through a socket channel.
+	 */
+	private boolean startSharedIO(Connection connection) {
+		if (!(connection instanceof SocketChannelConnection)) {
+			// a capturing connection cannot be unwrapped without losing the
+			// packets it records
+			JDIDebugPlugin.log(new Status(IStatus.WARNING, JDIDebugPlugin
+					.getUniqueIdentifier(), NLS.bind(
+					JDIMessages.VirtualMachineImpl_shared_io_unsupported_connection,
+					connection.getClass().getName())));
+			return false;
+		}
+		SharedPacketSelector selector;
+		try {
+			selector = SharedPacketSelector.getDefault();
+		} catch (IOException e) {
+			JDIDebugPlugin.log(new Status(IStatus.WARNING, JDIDebugPlugin
+					.getUniqueIdentifier(),
+					JDIMessages.VirtualMachineImpl_shared_io_unavailable, e));
+			return false;
+		}
+		fPacketSendManager.setSynchronous(true);
+		selector.register((SocketChannelConnection) connection,
+				fPacketReceiveManager);
+		return true;
 	}
 
 	/**
@@ -223,21 +290,37 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	 * @return Returns cached mirror object, or null if method is not in cache.
 	 */
 	public ReferenceTypeImpl getCachedMirror(JdwpReferenceTypeID ID) {
-		return (ReferenceTypeImpl) fCachedReftypes.get(ID);
+		return getCachedRefType(ID.value());
 	}
 
 	/**
 	 * @return Returns cached mirror object, or null if method is not in cache.
 	 */
 	public ObjectReferenceImpl getCachedMirror(JdwpObjectID ID) {
-		return (ObjectReferenceImpl) fCachedObjects.get(ID);
+		return getCachedObject(ID.value());
+	}
+
+	/**
+	 * @return Returns cached reference type with the given JDWP id value, or
+	 *         null if it is not in cache.
+	 */
+	public ReferenceTypeImpl getCachedRefType(long id) {
+		return (ReferenceTypeImpl) fCachedReftypes.get(id);
+	}
+
+	/**
+	 * @return Returns cached object with the given JDWP id value, or null if
+	 *         it is not in cache.
+	 */
+	public ObjectReferenceImpl getCachedObject(long id) {
+		return (ObjectReferenceImpl) fCachedObjects.get(id);
 	}
 
 	/**
 	 * Adds mirror object to cache.
 	 */
 	public void addCachedMirror(ReferenceTypeImpl mirror) {
-		fCachedReftypes.put(mirror.getRefTypeID(), mirror);
+		fCachedReftypes.put(mirror.getRefTypeID().value(), mirror);
 		// TBD: It is now yet possible to only ask for unload events for
 		// classes that we know of due to a limitation in the J9 VM.
 		// eventRequestManagerImpl().enableInternalClasUnloadEvent(mirror);
@@ -247,7 +330,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	 * Adds mirror object to cache.
 	 */
 	public void addCachedMirror(ObjectReferenceImpl mirror) {
-		fCachedObjects.put(mirror.getObjectID(), mirror);
+		fCachedObjects.put(mirror.getObjectID().value(), mirror);
 	}
 
 	/**
@@ -282,7 +365,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 		if (refTypeList.size() == 1) {
 			ReferenceTypeImpl refType = (ReferenceTypeImpl) refTypeList.get(0);
 			refType.flushStoredJdwpResults();
-			fCachedReftypes.remove(refType.getRefTypeID());
+			fCachedReftypes.remove(refType.getRefTypeID().value());
 			return;
 		}
 
@@ -300,7 +383,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 			if (!prepared) {
 				refType.flushStoredJdwpResults();
 				iter.remove();
-				fCachedReftypes.remove(refType.getRefTypeID());
+				fCachedReftypes.remove(refType.getRefTypeID().value());
 			}
 		}
 	}
@@ -371,7 +454,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 					: JdwpCommandPacket.VM_ALL_CLASSES;
 			JdwpReplyPacket replyPacket = requestVM(jdwpCommand);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
 			List<ReferenceType> elements = new ArrayList<ReferenceType>(nrOfElements);
 			for (int i = 0; i < nrOfElements; i++) {
@@ -419,7 +502,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 		try {
 			JdwpReplyPacket replyPacket = requestVM(JdwpCommandPacket.VM_ALL_THREADS);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
 			List<ThreadReference> elements = new ArrayList<ThreadReference>(nrOfElements);
 			for (int i = 0; i < nrOfElements; i++) {
@@ -455,7 +538,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 		try {
 			JdwpReplyPacket replyPacket = requestVM(command);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 
 			fCanWatchFieldModification = readBoolean(
 					"watch field modification", replyData); //$NON-NLS-1$
@@ -638,7 +721,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.VM_CLASSES_BY_SIGNATURE, outBytes);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			int nrOfElements = readInt("elements", replyData); //$NON-NLS-1$
 			List<ReferenceType> elements = new ArrayList<ReferenceType>(nrOfElements);
 			for (int i = 0; i < nrOfElements; i++) {
@@ -696,6 +779,14 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 		return fEventReqMgr;
 	}
 
+	/**
+	 * @return Returns the Virtual Machine Manager that created this Virtual
+	 *         Machine.
+	 */
+	public VirtualMachineManagerImpl virtualMachineManagerImpl() {
+		return fVirtualMachineManager;
+	}
+
 	/**
 	 * @return Returns EventRequestManagerImpl that creates all event objects on
 	 *         request.
@@ -795,7 +886,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 					JdwpCommandPacket.VM_CREATE_STRING, outBytes);
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			StringReference result = StringReferenceImpl.read(this, replyData);
 			return result;
 		} catch (IOException e) {
@@ -836,6 +927,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 		try {
 			resetThreadEventFlags();
 			JdwpReplyPacket replyPacket = requestVM(JdwpCommandPacket.VM_RESUME);
+			changed();
 			defaultReplyErrorHandler(replyPacket.errorCode());
 		} finally {
 			handledJdwpRequest();
@@ -872,7 +964,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 			JdwpReplyPacket replyPacket = requestVM(JdwpCommandPacket.VM_TOP_LEVEL_THREAD_GROUPS);
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			int nrGroups = readInt("nr of groups", replyData); //$NON-NLS-1$
 			ArrayList<ThreadGroupReference> result = new ArrayList<ThreadGroupReference>(nrGroups);
 			for (int i = 0; i < nrGroups; i++) {
@@ -912,6 +1004,24 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 		return fVersionDescription;
 	}
 
+	/**
+	 * @return Returns the number of times that code has run or values have
+	 *         been set in this VM, so that values read from the VM can be
+	 *         checked for being up to date.
+	 */
+	public int changeCount() {
+		return fChangeCount;
+	}
+
+	/**
+	 * Notes that values in this VM may have changed, because the VM or one of
+	 * its threads has been resumed, a method has been invoked, or a value or
+	 * stack has been changed by the debugger.
+	 */
+	synchronized void changed() {
+		fChangeCount++;
+	}
+
 	/**
 	 * Reset event flags of all threads.
 	 */
@@ -946,7 +1056,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 			JdwpReplyPacket replyPacket = mirror
 					.requestVM(JdwpCommandPacket.VM_ID_SIZES);
 			mirror.defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 
 			fFieldIDSize = mirror.readInt("field ID size", replyData); //$NON-NLS-1$
 			fMethodIDSize = mirror.readInt("method ID size", replyData); //$NON-NLS-1$
@@ -972,7 +1082,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 		try {
 			JdwpReplyPacket replyPacket = requestVM(JdwpCommandPacket.VM_VERSION);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 
 			fVersionDescription = readString("version descr.", replyData); //$NON-NLS-1$
 			fJdwpMajorVersion = readInt("major version", replyData); //$NON-NLS-1$
@@ -1007,7 +1117,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 			try {
 				JdwpReplyPacket replyPacket = requestVM(JdwpCommandPacket.HCR_CAPABILITIES);
 				defaultReplyErrorHandler(replyPacket.errorCode());
-				DataInputStream replyData = replyPacket.dataInStream();
+				JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 
 				fHcrCapabilities[HCR_CAN_RELOAD_CLASSES] = readBoolean(
 						"reload classes", replyData); //$NON-NLS-1$
@@ -1098,7 +1208,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.HCR_CLASSES_HAVE_CHANGED, outBytes);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 
 			byte resultFlag = readByte("result", resultHCRMap(), replyData); //$NON-NLS-1$
 			switch (resultFlag) {
@@ -1222,7 +1332,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 				for (byte b : bytes) {
 					writeByte(b, "classByte", outData); //$NON-NLS-1$
 				}
-				fCachedReftypes.remove(type.getRefTypeID()); // flush local
+				fCachedReftypes.remove(type.getRefTypeID().value()); // flush local
 																// cache of
 																// redefined
 																// types
@@ -1417,7 +1527,7 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
 
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			int counts = readInt("counts", replyData); //$NON-NLS-1$
 			if (counts != size) {
 				throw new InternalError(JDIMessages.VirtualMachineImpl_3);
@@ -1451,9 +1561,77 @@ public class VirtualMachineImpl extends MirrorImpl implements VirtualMachine,
 	 *            whether this VM is disconnected
 	 */
 	public synchronized void setDisconnected(boolean disconnected) {
+		if (disconnected && !fIsDisconnected
+				&& JDIDebugOptions.DEBUG_JDI_MIRROR_CACHE) {
+			traceCacheStatistics("reference types", fCachedReftypes); //$NON-NLS-1$
+			traceCacheStatistics("objects", fCachedObjects); //$NON-NLS-1$
+		}
+		if (disconnected && !fIsDisconnected
+				&& JDIDebugOptions.DEBUG_JDI_METRICS) {
+			StringWriter metrics = new StringWriter();
+			metrics.write(JDIDebugOptions.FORMAT.format(new Date()));
+			metrics.write(" JDWP metrics of "); //$NON-NLS-1$
+			metrics.write(fVMName == null ? "VM" : fVMName); //$NON-NLS-1$
+			metrics.write('\n');
+			PrintWriter writer = new PrintWriter(metrics);
+			fMetrics.dump(writer);
+			writeFlushStatistics(writer);
+			JDIDebugOptions.trace(metrics.toString());
+		}
 		fIsDisconnected = disconnected;
 	}
 
+	/**
+	 * @return Returns the counts, sizes and latencies of the requests that
+	 *         have been sent to this VM, per JDWP command.
+	 */
+	public JdwpMetrics metrics() {
+		return fMetrics;
+	}
+
+	/**
+	 * Writes the number of writes (flushes) of outgoing packets performed for
+	 * this VM, with the packets and bytes they wrote.
+	 */
+	private void writeFlushStatistics(PrintWriter writer) {
+		long flushes = fPacketSendManager.getFlushCount();
+		long packets = fPacketSendManager.getFlushedPacketCount();
+		long bytes = fPacketSendManager.getFlushedByteCount();
+		writer.print("flushes "); //$NON-NLS-1$
+		writer.print(flushes);
+		writer.print(" packets "); //$NON-NLS-1$
+		writer.print(packets);
+		writer.print(" bytes "); //$NON-NLS-1$
+		writer.print(bytes);
+		if (flushes > 0) {
+			writer.print(" packets per flush "); //$NON-NLS-1$
+			writer.print((double) packets / flushes);
+			writer.print(" bytes per flush "); //$NON-NLS-1$
+			writer.print(bytes / flushes);
+		}
+		writer.println();
+		writer.flush();
+	}
+
+	/**
+	 * Traces the hit, miss and eviction counts of the given mirror cache.
+	 */
+	private void traceCacheStatistics(String name, ValueCache cache) {
+		StringBuffer buf = new StringBuffer();
+		buf.append(JDIDebugOptions.FORMAT.format(new Date()));
+		buf.append(" JDI mirror cache ("); //$NON-NLS-1$
+		buf.append(name);
+		buf.append("): size "); //$NON-NLS-1$
+		buf.append(cache.size());
+		buf.append(" hits "); //$NON-NLS-1$
+		buf.append(cache.getHitCount());
+		buf.append(" misses "); //$NON-NLS-1$
+		buf.append(cache.getMissCount());
+		buf.append(" evictions "); //$NON-NLS-1$
+		buf.append(cache.getEvictionCount());
+		JDIDebugOptions.trace(buf.toString());
+	}
+
 	/**
 	 * Return the boolean type for this VM.
 	 */
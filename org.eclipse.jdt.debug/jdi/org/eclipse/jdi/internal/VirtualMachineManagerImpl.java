@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,6 +10,7 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal;
 
+import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -20,9 +21,14 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.MissingResourceException;
 import java.util.PropertyResourceBundle;
+import java.util.StringTokenizer;
 
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.preferences.IPreferencesService;
+import org.eclipse.jdi.internal.connect.CapturingConnection;
+import org.eclipse.jdi.internal.connect.PacketCapture;
+import org.eclipse.jdi.internal.connect.PacketSendManager;
+import org.eclipse.jdi.internal.connect.SharedPacketSelector;
 import org.eclipse.jdi.internal.connect.SocketAttachingConnectorImpl;
 import org.eclipse.jdi.internal.connect.SocketLaunchingConnectorImpl;
 import org.eclipse.jdi.internal.connect.SocketListeningConnectorImpl;
@@ -57,6 +63,28 @@ public class VirtualMachineManagerImpl implements VirtualMachineManager {
 	private boolean fVerbose = false;
 	/** Name of verbose file. */
 	private String fVerboseFile = null;
+	/** True if socket connections perform their IO through NIO channels. */
+	private boolean fUseSocketChannels = false;
+	/** True if the IO of all VMs is performed by a single selector thread. */
+	private boolean fUseSharedSelector = false;
+	/** Number of bytes after which gathered outgoing packets are written. */
+	private int fFlushThreshold = PacketSendManager.DEFAULT_FLUSH_THRESHOLD;
+	/** Time in ms an outgoing packet may wait for others to join its write. */
+	private long fMaxFlushLatency = 0;
+	/** Number of reference type mirrors a VM keeps strongly cached. */
+	private int fMaxCachedReferenceTypes = 20000;
+	/** Number of object mirrors a VM keeps strongly cached. */
+	private int fMaxCachedObjects = 10000;
+	/** Prefixes of the names of the types whose information is prefetched. */
+	private String[] fPrefetchPackages = new String[0];
+	/** Number of types whose information is requested in one batch. */
+	private int fPrefetchBatchSize = 64;
+	/** File the JDWP packets are captured to, or null if none. */
+	private String fCaptureFile = null;
+	/** Size of the file the JDWP packets are captured to, in bytes. */
+	private int fCaptureSize = PacketCapture.DEFAULT_SIZE;
+	/** Number of VMs whose JDWP packets have been captured. */
+	private int fCaptureCount = 0;
 
 	/**
 	 * Creates new VirtualMachineManagerImpl.
@@ -125,6 +153,79 @@ public class VirtualMachineManagerImpl implements VirtualMachineManager {
 			} catch (MissingResourceException e) {
 			}
 
+			try {
+				fUseSocketChannels = Boolean
+						.valueOf(prefs.getString("Transport.socketChannels")).booleanValue(); //$NON-NLS-1$
+			} catch (MissingResourceException e) {
+			}
+
+			try {
+				fUseSharedSelector = Boolean
+						.valueOf(prefs.getString("Transport.sharedSelector")).booleanValue(); //$NON-NLS-1$
+			} catch (MissingResourceException e) {
+			}
+
+			try {
+				fFlushThreshold = Integer.parseInt(prefs
+						.getString("Send.flushThreshold")); //$NON-NLS-1$
+			} catch (MissingResourceException e) {
+			} catch (NumberFormatException e) {
+			}
+
+			try {
+				fMaxFlushLatency = Long.parseLong(prefs
+						.getString("Send.maxFlushLatency")); //$NON-NLS-1$
+			} catch (MissingResourceException e) {
+			} catch (NumberFormatException e) {
+			}
+
+			try {
+				fMaxCachedReferenceTypes = Integer.parseInt(prefs
+						.getString("Cache.maxReferenceTypes")); //$NON-NLS-1$
+			} catch (MissingResourceException e) {
+			} catch (NumberFormatException e) {
+			}
+
+			try {
+				fMaxCachedObjects = Integer.parseInt(prefs
+						.getString("Cache.maxObjects")); //$NON-NLS-1$
+			} catch (MissingResourceException e) {
+			} catch (NumberFormatException e) {
+			}
+
+			try {
+				List<String> packages = new ArrayList<String>();
+				StringTokenizer tokenizer = new StringTokenizer(
+						prefs.getString("Prefetch.packages"), ","); //$NON-NLS-1$ //$NON-NLS-2$
+				while (tokenizer.hasMoreTokens()) {
+					String prefix = tokenizer.nextToken().trim();
+					if (prefix.length() > 0) {
+						packages.add(prefix);
+					}
+				}
+				fPrefetchPackages = packages.toArray(new String[packages.size()]);
+			} catch (MissingResourceException e) {
+			}
+
+			try {
+				fPrefetchBatchSize = Integer.parseInt(prefs
+						.getString("Prefetch.batchSize")); //$NON-NLS-1$
+			} catch (MissingResourceException e) {
+			} catch (NumberFormatException e) {
+			}
+
+			try {
+				fCaptureFile = prefs.getString("Capture.file"); //$NON-NLS-1$
+			} catch (MissingResourceException e) {
+			}
+
+			try {
+				fCaptureSize = Integer.parseInt(prefs
+						.getString("Capture.size")); //$NON-NLS-1$
+			} catch (MissingResourceException e) {
+			} catch (NumberFormatException e) {
+			}
+
 		} catch (IOException e) {
 		}
 
@@ -153,6 +254,146 @@ public class VirtualMachineManagerImpl implements VirtualMachineManager {
 		return JDIDebugModel.DEF_REQUEST_TIMEOUT;
 	}
 
+	/**
+	 * @return Returns whether socket connections to new VMs perform their IO
+	 *         through NIO channels (<code>Transport.socketChannels</code> in
+	 *         the jdi.ini file).
+	 */
+	public boolean useSocketChannels() {
+		return fUseSocketChannels || fUseSharedSelector;
+	}
+
+	/**
+	 * @return Returns whether the IO of the connections to new VMs is
+	 *         performed by a single thread shared by all the VMs rather than
+	 *         by two threads per VM (<code>Transport.sharedSelector</code> in
+	 *         the jdi.ini file). Implies that socket connections perform their
+	 *         IO through NIO channels.
+	 * @see SharedPacketSelector
+	 */
+	public boolean useSharedSelector() {
+		return fUseSharedSelector;
+	}
+
+	/**
+	 * Sets whether the IO of the connections to VMs created from now on is
+	 * performed by a single thread shared by all the VMs.
+	 *
+	 * @param useSharedSelector
+	 *            whether to use the shared selector
+	 * @see #useSharedSelector()
+	 */
+	public void setUseSharedSelector(boolean useSharedSelector) {
+		fUseSharedSelector = useSharedSelector;
+	}
+
+	/**
+	 * @return Returns the number of bytes after which gathered outgoing
+	 *         packets are written (<code>Send.flushThreshold</code> in the
+	 *         jdi.ini file).
+	 */
+	public int getFlushThreshold() {
+		return fFlushThreshold;
+	}
+
+	/**
+	 * @return Returns the time in milliseconds an outgoing packet may wait for
+	 *         others to join its write (<code>Send.maxFlushLatency</code> in
+	 *         the jdi.ini file).
+	 */
+	public long getMaxFlushLatency() {
+		return fMaxFlushLatency;
+	}
+
+	/**
+	 * @return Returns the number of reference type mirrors a VM keeps strongly
+	 *         cached, zero or less meaning all of them
+	 *         (<code>Cache.maxReferenceTypes</code> in the jdi.ini file).
+	 */
+	public int getMaxCachedReferenceTypes() {
+		return fMaxCachedReferenceTypes;
+	}
+
+	/**
+	 * @return Returns the number of object mirrors a VM keeps strongly cached,
+	 *         zero or less meaning all of them (<code>Cache.maxObjects</code>
+	 *         in the jdi.ini file).
+	 */
+	public int getMaxCachedObjects() {
+		return fMaxCachedObjects;
+	}
+
+	/**
+	 * @return Returns the prefixes of the names of the types whose fields,
+	 *         methods, source names and line tables are prefetched once a VM
+	 *         has started, empty if nothing is prefetched
+	 *         (<code>Prefetch.packages</code> in the jdi.ini file, a comma
+	 *         separated list).
+	 * @see ReferenceTypePrefetcher
+	 */
+	public String[] getPrefetchPackages() {
+		return fPrefetchPackages;
+	}
+
+	/**
+	 * @return Returns the number of types whose information is requested in
+	 *         one batch when prefetching (<code>Prefetch.batchSize</code> in
+	 *         the jdi.ini file).
+	 */
+	public int getPrefetchBatchSize() {
+		return fPrefetchBatchSize;
+	}
+
+	/**
+	 * @return Returns the file the JDWP packets exchanged with new VMs are
+	 *         captured to, or <code>null</code> if they are not captured
+	 *         (<code>Capture.file</code> in the jdi.ini file). The packets of
+	 *         the n-th VM after the first go to the file with the
+	 *         <code>.n</code> suffix.
+	 * @see PacketCapture
+	 */
+	public String getCaptureFile() {
+		return fCaptureFile;
+	}
+
+	/**
+	 * @return Returns the size in bytes of the files the JDWP packets are
+	 *         captured to, beyond which the oldest packets are overwritten
+	 *         (<code>Capture.size</code> in the jdi.ini file).
+	 */
+	public int getCaptureSize() {
+		return fCaptureSize;
+	}
+
+	/**
+	 * Returns a connection that captures the packets of the given connection
+	 * if a capture file is set, or the given connection.
+	 */
+	private Connection captureConnection(Connection connection) {
+		if (fCaptureFile == null || fCaptureFile.length() == 0) {
+			return connection;
+		}
+		String name;
+		synchronized (this) {
+			name = fCaptureCount == 0 ? fCaptureFile : fCaptureFile + '.'
+					+ fCaptureCount;
+			fCaptureCount++;
+		}
+		try {
+			return new CapturingConnection(connection, new PacketCapture(
+					new File(name), fCaptureSize));
+		} catch (IOException e) {
+			System.out
+					.println(JDIMessages.VirtualMachineManagerImpl_Could_not_open_capture_file_3
+							+ name + JDIMessages.VirtualMachineManagerImpl_____2 + e);
+		} catch (IllegalArgumentException e) {
+			System.out
+					.println(JDIMessages.VirtualMachineManagerImpl_Could_not_open_capture_file_3
+							+ name + JDIMessages.VirtualMachineManagerImpl_____2 + e);
+		}
+		return connection;
+	}
+
 	/**
 	 * Adds a VM to the connected VM list.
 	 */
@@ -231,7 +472,7 @@ public class VirtualMachineManagerImpl implements VirtualMachineManager {
 	 * @see com.sun.jdi.VirtualMachineManager#createVirtualMachine(com.sun.jdi.connect.spi.Connection)
 	 */
 	public VirtualMachine createVirtualMachine(Connection connection) throws IOException {
-		VirtualMachineImpl vmImpl = new VirtualMachineImpl(connection);
+		VirtualMachineImpl vmImpl = new VirtualMachineImpl(this, captureConnection(connection));
 		return vmImpl;
 	}
 
@@ -239,7 +480,7 @@ public class VirtualMachineManagerImpl implements VirtualMachineManager {
 	 * @see com.sun.jdi.VirtualMachineManager#createVirtualMachine(com.sun.jdi.connect.spi.Connection, java.lang.Process)
 	 */
 	public VirtualMachine createVirtualMachine(Connection connection, Process process) throws IOException {
-		VirtualMachineImpl vmImpl = new VirtualMachineImpl(connection);
+		VirtualMachineImpl vmImpl = new VirtualMachineImpl(this, captureConnection(connection));
 		vmImpl.setLaunchedProcess(process);
 		return vmImpl;
 	}
@@ -0,0 +1,149 @@
+/*******************************************************************************
+ * Copyright (c) 2015 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.connect;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.eclipse.jdi.internal.jdwp.JdwpPacket;
+
+import com.sun.jdi.connect.spi.Connection;
+
+/**
+ * A connection that records the packets read and written through another
+ * connection into a {@link PacketCapture}.
+ * <p>
+ * When the other connection is a {@link PacketConnection}, packets are passed
+ * on as {@link JdwpPacket}s and recorded without creating their
+ * <code>byte[]</code> form.
+ * </p>
+ */
+public class CapturingConnection extends PacketConnection {
+
+	private Connection fConnection;
+
+	private PacketCapture fCapture;
+
+	/**
+	 * Creates a connection that records the packets of the given connection.
+	 *
+	 * @param connection
+	 *            the connection to the VM
+	 * @param capture
+	 *            the capture the packets are recorded into, closed with this
+	 *            connection
+	 */
+	public CapturingConnection(Connection connection, PacketCapture capture) {
+		fConnection = connection;
+		fCapture = capture;
+	}
+
+	/**
+	 * @return Returns the capture the packets are recorded into.
+	 */
+	public PacketCapture getCapture() {
+		return fCapture;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see com.sun.jdi.connect.spi.Connection#readPacket()
+	 */
+	@Override
+	public byte[] readPacket() throws IOException {
+		byte[] packet = fConnection.readPacket();
+		fCapture.record(PacketCapture.FROM_VM, packet);
+		return packet;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see org.eclipse.jdi.internal.connect.PacketConnection#readJdwpPacket()
+	 */
+	@Override
+	public JdwpPacket readJdwpPacket() throws IOException {
+		if (!(fConnection instanceof PacketConnection)) {
+			return super.readJdwpPacket();
+		}
+		JdwpPacket packet = ((PacketConnection) fConnection).readJdwpPacket();
+		fCapture.record(PacketCapture.FROM_VM, packet);
+		return packet;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see com.sun.jdi.connect.spi.Connection#writePacket(byte[])
+	 */
+	@Override
+	public void writePacket(byte[] packet) throws IOException {
+		fCapture.record(PacketCapture.TO_VM, packet);
+		fConnection.writePacket(packet);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see org.eclipse.jdi.internal.connect.PacketConnection#writeJdwpPacket(org.eclipse.jdi.internal.jdwp.JdwpPacket)
+	 */
+	@Override
+	public void writeJdwpPacket(JdwpPacket packet) throws IOException {
+		if (!(fConnection instanceof PacketConnection)) {
+			super.writeJdwpPacket(packet);
+			return;
+		}
+		fCapture.record(PacketCapture.TO_VM, packet);
+		((PacketConnection) fConnection).writeJdwpPacket(packet);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see org.eclipse.jdi.internal.connect.PacketConnection#writeJdwpPackets(java.util.List)
+	 */
+	@Override
+	public void writeJdwpPackets(List<JdwpPacket> packets) throws IOException {
+		if (!(fConnection instanceof PacketConnection)) {
+			super.writeJdwpPackets(packets);
+			return;
+		}
+		for (JdwpPacket packet : packets) {
+			fCapture.record(PacketCapture.TO_VM, packet);
+		}
+		((PacketConnection) fConnection).writeJdwpPackets(packets);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see com.sun.jdi.connect.spi.Connection#isOpen()
+	 */
+	@Override
+	public boolean isOpen() {
+		return fConnection.isOpen();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see com.sun.jdi.connect.spi.Connection#close()
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			fConnection.close();
+		} finally {
+			fCapture.close();
+		}
+	}
+}
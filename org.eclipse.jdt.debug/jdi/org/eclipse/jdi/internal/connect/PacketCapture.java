@@ -0,0 +1,365 @@
+/*******************************************************************************
+ * Copyright (c) 2015 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.connect;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdi.internal.jdwp.JdwpPacket;
+
+/**
+ * A capture of the JDWP packets exchanged with a VM, written to a memory
+ * mapped file used as a ring: once the file is full, the oldest packets are
+ * overwritten by new ones.
+ * <p>
+ * Recording a packet copies its bytes into the mapped file, without any
+ * system call nor any allocation. The file starts with a header, which tells
+ * where the oldest and the next packets are, followed by the records of the
+ * packets. A record is made of the length of the packet (an int), the value
+ * of {@link System#nanoTime()} when the packet was read or written (a long),
+ * its direction (a byte) and the bytes of the packet, as sent on the wire. A
+ * record does not wrap around the end of the file: a length of -1 marks the
+ * end of the records before the start of the file is reused.
+ * </p>
+ * <p>
+ * Captures are read back with {@link #read(File)}, either to be rendered by
+ * the <code>CaptureDecoder</code> of the spy package or to be replayed
+ * through a {@link ReplayConnection}.
+ * </p>
+ */
+public class PacketCapture {
+
+	/** Direction of the packets written to the VM. */
+	public static final byte TO_VM = 0;
+
+	/** Direction of the packets read from the VM. */
+	public static final byte FROM_VM = 1;
+
+	/** Default size of a capture file, in bytes. */
+	public static final int DEFAULT_SIZE = 16 * 1024 * 1024;
+
+	/** First bytes of a capture file: 'JDWPCAP' and a version number. */
+	private static final long MAGIC = 0x4A44575043415001L;
+
+	/**
+	 * Size of the header: the magic number, the size of the area of the
+	 * records, the offset of the oldest record, the offset of the next
+	 * record, the number of records in the file and the number of packets
+	 * dropped because they did not fit in the file.
+	 */
+	private static final int HEADER_SIZE = 40;
+	private static final int DATA_SIZE_OFFSET = 8;
+	private static final int OLDEST_OFFSET = 12;
+	private static final int NEXT_OFFSET = 16;
+	private static final int COUNT_OFFSET = 24;
+	private static final int DROPPED_OFFSET = 32;
+
+	/**
+	 * Size of a record without the bytes of its packet: length, time and
+	 * direction.
+	 */
+	private static final int RECORD_HEADER_SIZE = 13;
+
+	/** Length written in place of a record to mark the end of the records. */
+	private static final int END_MARKER = -1;
+
+	/**
+	 * A packet read from a capture.
+	 */
+	public static class Record {
+		private final long fTime;
+		private final byte fDirection;
+		private final byte[] fBytes;
+
+		Record(long time, byte direction, byte[] bytes) {
+			fTime = time;
+			fDirection = direction;
+			fBytes = bytes;
+		}
+
+		/**
+		 * @return Returns the value of {@link System#nanoTime()} when the
+		 *         packet was read or written.
+		 */
+		public long getTime() {
+			return fTime;
+		}
+
+		/**
+		 * @return Returns whether the packet was read from the VM.
+		 */
+		public boolean isFromVM() {
+			return fDirection == FROM_VM;
+		}
+
+		/**
+		 * @return Returns the bytes of the packet, as sent on the wire.
+		 */
+		public byte[] getBytes() {
+			return fBytes;
+		}
+	}
+
+	private RandomAccessFile fFile;
+
+	/** The mapped file. Guarded by this capture. */
+	private MappedByteBuffer fBuffer;
+
+	/** Offset of the end of the area of the records. */
+	private final int fEnd;
+
+	/** Offset of the oldest record. Guarded by this capture. */
+	private int fOldest;
+
+	/** Offset of the next record. Guarded by this capture. */
+	private int fNext;
+
+	/** Number of records in the file. Guarded by this capture. */
+	private long fCount;
+
+	/** Number of packets too large for the file. Guarded by this capture. */
+	private long fDropped;
+
+	/** Header bytes of the packet being recorded. Guarded by this capture. */
+	private final byte[] fHeader = new byte[JdwpPacket.MIN_PACKET_LENGTH];
+
+	/**
+	 * Creates a capture that writes to the given file, replacing its
+	 * contents.
+	 *
+	 * @param file
+	 *            the capture file
+	 * @param size
+	 *            the size of the file, in bytes
+	 * @throws IOException
+	 *             if the file cannot be created or mapped
+	 */
+	public PacketCapture(File file, int size) throws IOException {
+		if (size < HEADER_SIZE + RECORD_HEADER_SIZE
+				+ JdwpPacket.MIN_PACKET_LENGTH) {
+			throw new IllegalArgumentException(
+					"Capture file too small: " + size); //$NON-NLS-1$
+		}
+		fFile = new RandomAccessFile(file, "rw"); //$NON-NLS-1$
+		try {
+			fFile.setLength(0);
+			fFile.setLength(size);
+			fBuffer = fFile.getChannel().map(FileChannel.MapMode.READ_WRITE,
+					0, size);
+		} catch (IOException e) {
+			fFile.close();
+			throw e;
+		}
+		fEnd = size;
+		fOldest = HEADER_SIZE;
+		fNext = HEADER_SIZE;
+		fBuffer.putLong(0, MAGIC);
+		fBuffer.putInt(DATA_SIZE_OFFSET, size - HEADER_SIZE);
+		writeHeader();
+	}
+
+	/**
+	 * Records the given packet.
+	 *
+	 * @param direction
+	 *            {@link #TO_VM} or {@link #FROM_VM}
+	 * @param bytes
+	 *            the bytes of the packet
+	 */
+	public synchronized void record(byte direction, byte[] bytes) {
+		if (reserve(direction, bytes.length)) {
+			fBuffer.put(bytes);
+			fNext = fBuffer.position();
+			writeHeader();
+		}
+	}
+
+	/**
+	 * Records the given packet, without creating the <code>byte[]</code>
+	 * form of the packet.
+	 *
+	 * @param direction
+	 *            {@link #TO_VM} or {@link #FROM_VM}
+	 * @param packet
+	 *            the packet
+	 */
+	public synchronized void record(byte direction, JdwpPacket packet)
+			throws IOException {
+		if (reserve(direction, packet.getLength())) {
+			packet.writeHeader(fHeader, 0);
+			fBuffer.put(fHeader);
+			byte[] data = packet.data();
+			if (data != null) {
+				fBuffer.put(data);
+			}
+			fNext = fBuffer.position();
+			writeHeader();
+		}
+	}
+
+	/**
+	 * Makes room for the record of a packet of the given length, overwriting
+	 * the oldest records if needed, and writes the header of the record.
+	 * Leaves the buffer positioned where the bytes of the packet go.
+	 *
+	 * @return Returns whether the packet fits in the file.
+	 */
+	private boolean reserve(byte direction, int length) {
+		if (fBuffer == null) {
+			return false;
+		}
+		int size = RECORD_HEADER_SIZE + length;
+		if (size > fEnd - HEADER_SIZE) {
+			fDropped++;
+			fBuffer.putLong(DROPPED_OFFSET, fDropped);
+			return false;
+		}
+		int offset = fNext;
+		if (offset + size > fEnd) {
+			// the records continue at the start of the file
+			freeUpTo(fEnd);
+			if (offset + 4 <= fEnd) {
+				fBuffer.putInt(offset, END_MARKER);
+			}
+			offset = HEADER_SIZE;
+			fNext = HEADER_SIZE;
+		}
+		freeUpTo(offset + size);
+		if (fCount == 0) {
+			fOldest = offset;
+		}
+		fBuffer.position(offset);
+		fBuffer.putInt(length);
+		fBuffer.putLong(System.nanoTime());
+		fBuffer.put(direction);
+		fCount++;
+		return true;
+	}
+
+	/**
+	 * Drops the oldest records that lie between the next record and the
+	 * given offset, so that they can be overwritten.
+	 */
+	private void freeUpTo(int limit) {
+		while (fCount > 0 && fOldest >= fNext && fOldest < limit) {
+			fOldest += RECORD_HEADER_SIZE + fBuffer.getInt(fOldest);
+			fCount--;
+			if (fCount > 0
+					&& (fOldest + 4 > fEnd || fBuffer.getInt(fOldest) == END_MARKER)) {
+				// the oldest records are at the start of the file
+				fOldest = HEADER_SIZE;
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Writes where the oldest and next records are, so that the file can be
+	 * read at any time, even if this capture is never closed.
+	 */
+	private void writeHeader() {
+		fBuffer.putInt(OLDEST_OFFSET, fOldest);
+		fBuffer.putInt(NEXT_OFFSET, fNext);
+		fBuffer.putLong(COUNT_OFFSET, fCount);
+	}
+
+	/**
+	 * @return Returns the number of packets in the file.
+	 */
+	public synchronized long getCount() {
+		return fCount;
+	}
+
+	/**
+	 * @return Returns the number of packets that were not recorded because
+	 *         they were larger than the file.
+	 */
+	public synchronized long getDropped() {
+		return fDropped;
+	}
+
+	/**
+	 * Writes the capture to the disk and closes the file. Packets recorded
+	 * afterwards are ignored.
+	 */
+	public synchronized void close() throws IOException {
+		if (fBuffer == null) {
+			return;
+		}
+		fBuffer.force();
+		fBuffer = null;
+		fFile.close();
+	}
+
+	/**
+	 * Reads the packets of the given capture file.
+	 *
+	 * @param file
+	 *            a capture file
+	 * @return Returns the packets, from the oldest to the newest.
+	 * @throws IOException
+	 *             if the file cannot be read, is not a capture file or is
+	 *             corrupted
+	 */
+	public static List<Record> read(File file) throws IOException {
+		RandomAccessFile input = new RandomAccessFile(file, "r"); //$NON-NLS-1$
+		ByteBuffer buffer;
+		try {
+			buffer = input.getChannel().map(FileChannel.MapMode.READ_ONLY, 0,
+					input.length());
+		} finally {
+			input.close();
+		}
+		if (buffer.limit() < HEADER_SIZE || buffer.getLong(0) != MAGIC) {
+			throw new IOException("Not a JDWP capture file: " + file); //$NON-NLS-1$
+		}
+		int end = HEADER_SIZE + buffer.getInt(DATA_SIZE_OFFSET);
+		int offset = buffer.getInt(OLDEST_OFFSET);
+		long count = buffer.getLong(COUNT_OFFSET);
+		if (end > buffer.limit() || offset < HEADER_SIZE
+				|| count > Integer.MAX_VALUE) {
+			throw new IOException("Corrupted JDWP capture file: " + file); //$NON-NLS-1$
+		}
+		List<Record> records = new ArrayList<Record>((int) count);
+		boolean wrapped = false;
+		while (records.size() < count) {
+			int length = offset + 4 <= end ? buffer.getInt(offset)
+					: END_MARKER;
+			if (length == END_MARKER) {
+				// the records wrap around the end of the file at most once
+				if (wrapped) {
+					throw new IOException("Corrupted JDWP capture file: " + file); //$NON-NLS-1$
+				}
+				wrapped = true;
+				offset = HEADER_SIZE;
+				continue;
+			}
+			if (length < JdwpPacket.MIN_PACKET_LENGTH
+					|| offset + RECORD_HEADER_SIZE + length > end) {
+				throw new IOException("Corrupted JDWP capture file: " + file); //$NON-NLS-1$
+			}
+			long time = buffer.getLong(offset + 4);
+			byte direction = buffer.get(offset + 12);
+			byte[] bytes = new byte[length];
+			buffer.position(offset + RECORD_HEADER_SIZE);
+			buffer.get(bytes);
+			records.add(new Record(time, direction, bytes));
+			offset += RECORD_HEADER_SIZE + length;
+		}
+		return records;
+	}
+}
@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2015 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.connect;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.eclipse.jdi.internal.jdwp.JdwpPacket;
+
+import com.sun.jdi.connect.spi.Connection;
+
+/**
+ * A connection that can read and write {@link JdwpPacket}s directly, so that
+ * the packet managers do not have to go through the <code>byte[]</code> form
+ * of each packet required by {@link Connection}.
+ */
+public abstract class PacketConnection extends Connection {
+
+	/**
+	 * Reads the next packet from the Virtual Machine.
+	 * 
+	 * @return Returns the packet that has been read.
+	 */
+	public JdwpPacket readJdwpPacket() throws IOException {
+		return JdwpPacket.build(readPacket());
+	}
+
+	/**
+	 * Writes a packet to the Virtual Machine.
+	 */
+	public void writeJdwpPacket(JdwpPacket packet) throws IOException {
+		writePacket(packet.getPacketAsBytes());
+	}
+
+	/**
+	 * Writes several packets to the Virtual Machine, in order. Connections
+	 * should write them with as few system calls as they can.
+	 */
+	public void writeJdwpPackets(List<JdwpPacket> packets) throws IOException {
+		for (JdwpPacket packet : packets) {
+			writeJdwpPacket(packet);
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,9 +12,10 @@ package org.eclipse.jdi.internal.connect;
 
 import java.io.IOException;
 import java.io.InterruptedIOException;
-import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
-import java.util.ListIterator;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdi.TimeoutException;
 import org.eclipse.jdi.internal.VirtualMachineImpl;
@@ -39,17 +40,19 @@ public class PacketReceiveManager extends PacketManager {
 	/** Generic timeout value for infinite timeout. */
 	public static final int TIMEOUT_INFINITE = -1;
 
-	/** List of Command packets received from Virtual Machine. */
-	private LinkedList<JdwpCommandPacket> fCommandPackets;
-
-	/** List of Reply packets received from Virtual Machine. */
-	private LinkedList<JdwpReplyPacket> fReplyPackets;
+	/**
+	 * Command packets received from Virtual Machine, queued per command.
+	 * Guarded by itself.
+	 */
+	private HashMap<Integer, LinkedList<JdwpCommandPacket>> fCommandPackets;
 
 	/**
-	 * List of Packets that have timed out already. Maintained so that responses
-	 * can be discarded if/when they are received.
+	 * Reply slots, keyed by the id of the command packet they answer. A slot
+	 * is created by whichever comes first: the thread waiting for the reply,
+	 * or the reply itself. Slots of requests that have timed out are kept
+	 * until their reply arrives, so that the late reply can be discarded.
 	 */
-	private ArrayList<Integer> fTimedOutPackets;
+	private ConcurrentHashMap<Integer, ReplySlot> fReplySlots;
 
 	private VirtualMachineImpl fVM;
 
@@ -59,9 +62,8 @@ public class PacketReceiveManager extends PacketManager {
 	public PacketReceiveManager(Connection connection, VirtualMachineImpl vmImpl) {
 		super(connection);
 		fVM = vmImpl;
-		fCommandPackets = new LinkedList<JdwpCommandPacket>();
-		fReplyPackets = new LinkedList<JdwpReplyPacket>();
-		fTimedOutPackets = new ArrayList<Integer>();
+		fCommandPackets = new HashMap<Integer, LinkedList<JdwpCommandPacket>>();
+		fReplySlots = new ConcurrentHashMap<Integer, ReplySlot>();
 	}
 
 	@Override
@@ -70,8 +72,9 @@ public class PacketReceiveManager extends PacketManager {
 		synchronized (fCommandPackets) {
 			fCommandPackets.notifyAll();
 		}
-		synchronized (fReplyPackets) {
-			fReplyPackets.notifyAll();
+		Iterator<ReplySlot> iter = fReplySlots.values().iterator();
+		while (iter.hasNext()) {
+			iter.next().wakeUp();
 		}
 	}
 
@@ -146,33 +149,19 @@ public class PacketReceiveManager extends PacketManager {
 	 * @return Returns a specified Reply Packet from the Virtual Machine.
 	 */
 	public JdwpReplyPacket getReply(int id, long timeToWait) {
+		ReplySlot slot = replySlot(id);
 		JdwpReplyPacket packet = null;
-		long remainingTime = timeToWait;
-		synchronized (fReplyPackets) {
-			final long timeBeforeWait = System.currentTimeMillis();
-			// Wait until reply is available.
-			while (!VMIsDisconnected() && remainingTime > 0) {
-				packet = removeReplyPacket(id);
-				if (packet != null) {
-					break;
-				}
-				try {
-					waitForPacketAvailable(remainingTime, fReplyPackets);
-				}
-				// if the remote VM is interrupted DO NOT drop the connection -
-				// see bug 171075
-				// just stop waiting for the reply and treat it as a timeout
-				catch (InterruptedException e) {
-					break;
-				}
-				long waitedTime = System.currentTimeMillis() - timeBeforeWait;
-				remainingTime = timeToWait - waitedTime;
-			}
+		try {
+			packet = slot.await(timeToWait);
 		}
-		if (packet == null) {
-			synchronized (fReplyPackets) {
-				packet = removeReplyPacket(id);
-			}
+		// if the remote VM is interrupted DO NOT drop the connection - see
+		// bug 171075
+		// just stop waiting for the reply and treat it as a timeout
+		catch (InterruptedException e) {
+			packet = slot.abandon();
+		}
+		if (packet != null) {
+			fReplySlots.remove(new Integer(id), slot);
 		}
 		// Check for an IO Exception.
 		if (VMIsDisconnected())
@@ -180,9 +169,6 @@ public class PacketReceiveManager extends PacketManager {
 					ConnectMessages.PacketReceiveManager_Got_IOException_from_Virtual_Machine_2);
 		// Check for a timeout.
 		if (packet == null) {
-			synchronized (fTimedOutPackets) {
-				fTimedOutPackets.add(new Integer(id));
-			}
 			throw new TimeoutException(NLS.bind(
 					ConnectMessages.PacketReceiveManager_0, new String[] { id
 							+ "" })); //$NON-NLS-1$
@@ -197,6 +183,36 @@ public class PacketReceiveManager extends PacketManager {
 		return getReply(commandPacket.getId(), fVM.getRequestTimeout());
 	}
 
+	/**
+	 * Discards the reply with the given id: if it has already been received
+	 * it is dropped, otherwise it will be dropped when it arrives.
+	 */
+	public void discardReply(int id) {
+		ReplySlot slot = replySlot(id);
+		if (slot.abandon() != null) {
+			fReplySlots.remove(new Integer(id), slot);
+		}
+		// a thread still waiting for the reply stops waiting
+		slot.wakeUp();
+	}
+
+	/**
+	 * @return Returns the reply slot for the given command packet id,
+	 *         creating it if necessary.
+	 */
+	private ReplySlot replySlot(int id) {
+		Integer key = new Integer(id);
+		ReplySlot slot = fReplySlots.get(key);
+		if (slot == null) {
+			ReplySlot newSlot = new ReplySlot();
+			slot = fReplySlots.putIfAbsent(key, newSlot);
+			if (slot == null) {
+				slot = newSlot;
+			}
+		}
+		return slot;
+	}
+
 	/**
 	 * Wait for an available packet from the Virtual Machine.
 	 */
@@ -212,75 +228,41 @@ public class PacketReceiveManager extends PacketManager {
 
 	/**
 	 * @return Returns and removes a specified command packet from the command
-	 *         packet list.
+	 *         packet queues.
 	 */
 	private JdwpCommandPacket removeCommandPacket(int command) {
-		ListIterator<JdwpCommandPacket> iter = fCommandPackets.listIterator();
-		while (iter.hasNext()) {
-			JdwpCommandPacket packet = iter.next();
-			if (packet.getCommand() == command) {
-				iter.remove();
-				return packet;
-			}
-		}
-		return null;
-	}
-
-	/**
-	 * @return Returns a specified reply packet from the reply packet list.
-	 */
-	private JdwpReplyPacket removeReplyPacket(int id) {
-		ListIterator<JdwpReplyPacket> iter = fReplyPackets.listIterator();
-		while (iter.hasNext()) {
-			JdwpReplyPacket packet = iter.next();
-			if (packet.getId() == id) {
-				iter.remove();
-				return packet;
-			}
+		LinkedList<JdwpCommandPacket> packets = fCommandPackets.get(new Integer(command));
+		if (packets == null || packets.isEmpty()) {
+			return null;
 		}
-		return null;
+		return packets.removeFirst();
 	}
 
 	/**
-	 * Add a command packet to the command packet list.
+	 * Add a command packet to the command packet queues.
 	 */
 	private void addCommandPacket(JdwpCommandPacket packet) {
-		if (isTimedOut(packet)) {
-			return; // already timed out. No need to keep this one
-		}
 		synchronized (fCommandPackets) {
-			fCommandPackets.add(packet);
-			fCommandPackets.notifyAll();
-		}
-	}
-
-	/**
-	 * Returns whether the request for the given packet has already timed out.
-	 * 
-	 * @param packet
-	 *            response packet
-	 * @return whether the request for the given packet has already timed out
-	 */
-	private boolean isTimedOut(JdwpPacket packet) {
-		synchronized (fTimedOutPackets) {
-			if (fTimedOutPackets.isEmpty()) {
-				return false;
+			Integer command = new Integer(packet.getCommand());
+			LinkedList<JdwpCommandPacket> packets = fCommandPackets.get(command);
+			if (packets == null) {
+				packets = new LinkedList<JdwpCommandPacket>();
+				fCommandPackets.put(command, packets);
 			}
-			Integer id = new Integer(packet.getId());
-			return fTimedOutPackets.remove(id);
+			packets.add(packet);
+			fCommandPackets.notifyAll();
 		}
 	}
 
 	/**
-	 * Add a reply packet to the reply packet list.
+	 * Hands a reply packet to the thread waiting for it.
 	 */
 	private void addReplyPacket(JdwpReplyPacket packet) {
-		if (isTimedOut(packet)) {
-			return; // already timed out. No need to keep this one
-		}
-		synchronized (fReplyPackets) {
-			fReplyPackets.add(packet);
-			fReplyPackets.notifyAll();
+		Integer id = new Integer(packet.getId());
+		ReplySlot slot = replySlot(packet.getId());
+		if (!slot.complete(packet)) {
+			// already timed out. No need to keep this one
+			fReplySlots.remove(id, slot);
 		}
 	}
 
@@ -290,12 +272,85 @@ public class PacketReceiveManager extends PacketManager {
 	 */
 	private void readAvailablePacket() throws IOException {
 		// Read a packet from the Input Stream.
-		byte[] bytes = getConnection().readPacket();
-		JdwpPacket packet = JdwpPacket.build(bytes);
-		// Add packet to command or reply queue.
+		Connection connection = getConnection();
+		JdwpPacket packet;
+		if (connection instanceof PacketConnection) {
+			packet = ((PacketConnection) connection).readJdwpPacket();
+		} else {
+			packet = JdwpPacket.build(connection.readPacket());
+		}
+		packetReceived(packet);
+	}
+
+	/**
+	 * Adds a packet read from the Virtual Machine to the command queues, or
+	 * hands it to the thread waiting for it if it is a reply. Called by the
+	 * thread of this manager, or by a {@link SharedPacketSelector} that reads
+	 * the packets in its place.
+	 */
+	void packetReceived(JdwpPacket packet) {
 		if (packet instanceof JdwpCommandPacket)
 			addCommandPacket((JdwpCommandPacket) packet);
 		else
 			addReplyPacket((JdwpReplyPacket) packet);
 	}
+
+	/**
+	 * The place where the reply to a single command packet is delivered. Each
+	 * slot has its own monitor, so that the arrival of a reply only wakes up
+	 * the thread that is waiting for it.
+	 */
+	private class ReplySlot {
+		private JdwpReplyPacket fPacket;
+		private boolean fAbandoned = false;
+
+		/**
+		 * Stores the reply and wakes up the waiting thread.
+		 * 
+		 * @return <code>false</code> if nobody is waiting for the reply anymore
+		 */
+		synchronized boolean complete(JdwpReplyPacket packet) {
+			if (fAbandoned) {
+				return false;
+			}
+			fPacket = packet;
+			notifyAll();
+			return true;
+		}
+
+		/**
+		 * Marks this slot as no longer waited for.
+		 * 
+		 * @return the reply if it had already arrived, or <code>null</code>
+		 */
+		synchronized JdwpReplyPacket abandon() {
+			if (fPacket == null) {
+				fAbandoned = true;
+			}
+			return fPacket;
+		}
+
+		/**
+		 * Waits for the reply. If it has not arrived once the given time has
+		 * elapsed or the VM has been disconnected, this slot is abandoned.
+		 * 
+		 * @return the reply or <code>null</code>
+		 */
+		synchronized JdwpReplyPacket await(long timeToWait)
+				throws InterruptedException {
+			final long timeBeforeWait = System.currentTimeMillis();
+			long remainingTime = timeToWait;
+			while (fPacket == null && !fAbandoned && !VMIsDisconnected()
+					&& remainingTime > 0) {
+				wait(remainingTime);
+				long waitedTime = System.currentTimeMillis() - timeBeforeWait;
+				remainingTime = timeToWait - waitedTime;
+			}
+			return abandon();
+		}
+
+		synchronized void wakeUp() {
+			notifyAll();
+		}
+	}
 }
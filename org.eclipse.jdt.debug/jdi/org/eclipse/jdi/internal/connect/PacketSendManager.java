@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,7 +12,9 @@ package org.eclipse.jdi.internal.connect;
 
 import java.io.IOException;
 import java.io.InterruptedIOException;
+import java.util.ArrayList;
 import java.util.LinkedList;
+import java.util.List;
 
 import org.eclipse.jdi.internal.jdwp.JdwpPacket;
 import org.eclipse.osgi.util.NLS;
@@ -26,9 +28,38 @@ import com.sun.jdi.connect.spi.Connection;
  * 
  */
 public class PacketSendManager extends PacketManager {
+	/** Default number of bytes that triggers a flush. */
+	public static final int DEFAULT_FLUSH_THRESHOLD = 64 * 1024;
+
 	/** List of packets to be sent to Virtual Machine */
 	private LinkedList<JdwpPacket> fOutgoingPackets;
 
+	/** Number of bytes in the outgoing packets. Guarded by fOutgoingPackets. */
+	private int fOutgoingBytes = 0;
+
+	/**
+	 * Number of bytes after which the packets gathered so far are written
+	 * out.
+	 */
+	private int fFlushThreshold = DEFAULT_FLUSH_THRESHOLD;
+
+	/**
+	 * Time in milliseconds a packet may wait for more packets to join its
+	 * write, 0 if packets are written as soon as they are available.
+	 */
+	private long fMaxFlushLatency = 0;
+
+	/**
+	 * Whether packets are handed to the connection by the threads that send
+	 * them, rather than by the thread of this manager.
+	 */
+	private boolean fSynchronous = false;
+
+	/** Statistics, only written by the thread writing the packets. */
+	private volatile long fFlushCount = 0;
+	private volatile long fFlushedPackets = 0;
+	private volatile long fFlushedBytes = 0;
+
 	/**
 	 * Create a new thread that send packets to the Virtual Machine.
 	 */
@@ -37,6 +68,74 @@ public class PacketSendManager extends PacketManager {
 		fOutgoingPackets = new LinkedList<JdwpPacket>();
 	}
 
+	/**
+	 * Sets the number of bytes after which gathered packets are written out.
+	 * Packets queued together are written with a single write up to this
+	 * size.
+	 */
+	public void setFlushThreshold(int flushThreshold) {
+		fFlushThreshold = Math.max(1, flushThreshold);
+	}
+
+	/**
+	 * @return Returns the number of bytes after which gathered packets are
+	 *         written out.
+	 */
+	public int getFlushThreshold() {
+		return fFlushThreshold;
+	}
+
+	/**
+	 * Sets the time in milliseconds a packet may wait for more packets to
+	 * join its write, as long as the flush threshold is not reached. 0 (the
+	 * default) only gathers the packets that are already queued.
+	 */
+	public void setMaxFlushLatency(long maxFlushLatency) {
+		fMaxFlushLatency = Math.max(0, maxFlushLatency);
+	}
+
+	/**
+	 * @return Returns the time in milliseconds a packet may wait for more
+	 *         packets to join its write.
+	 */
+	public long getMaxFlushLatency() {
+		return fMaxFlushLatency;
+	}
+
+	/**
+	 * Sets whether packets are handed to the connection by the threads that
+	 * send them, in which case the thread of this manager is not needed. This
+	 * suits connections that queue the packets written to them without
+	 * blocking, such as the connections whose IO is performed by a
+	 * {@link SharedPacketSelector}.
+	 */
+	public void setSynchronous(boolean synchronous) {
+		fSynchronous = synchronous;
+	}
+
+	/**
+	 * @return Returns the number of writes (flushes) performed so far.
+	 */
+	public long getFlushCount() {
+		return fFlushCount;
+	}
+
+	/**
+	 * @return Returns the number of packets written so far. Divided by
+	 *         {@link #getFlushCount()} this gives the packets per flush.
+	 */
+	public long getFlushedPacketCount() {
+		return fFlushedPackets;
+	}
+
+	/**
+	 * @return Returns the number of bytes written so far. Divided by
+	 *         {@link #getFlushCount()} this gives the bytes per flush.
+	 */
+	public long getFlushedByteCount() {
+		return fFlushedBytes;
+	}
+
 	@Override
 	public void disconnectVM() {
 		super.disconnectVM();
@@ -69,6 +168,61 @@ public class PacketSendManager extends PacketManager {
 	 * Add a packet to be sent to the Virtual Machine.
 	 */
 	public void sendPacket(JdwpPacket packet) {
+		checkConnected();
+		if (fSynchronous) {
+			LinkedList<JdwpPacket> packets = new LinkedList<JdwpPacket>();
+			packets.add(packet);
+			writeSynchronously(packets);
+			return;
+		}
+		synchronized (fOutgoingPackets) {
+			// Add packet to list of packets to send.
+			fOutgoingPackets.add(packet);
+			fOutgoingBytes += packet.getLength();
+			// Notify PacketSendThread that data is available.
+			fOutgoingPackets.notifyAll();
+		}
+	}
+
+	/**
+	 * Add several packets to be sent to the Virtual Machine. The packets are
+	 * queued together, in order, so that they are written back-to-back.
+	 */
+	public void sendPackets(List<? extends JdwpPacket> packets) {
+		checkConnected();
+		if (fSynchronous) {
+			writeSynchronously(new LinkedList<JdwpPacket>(packets));
+			return;
+		}
+		synchronized (fOutgoingPackets) {
+			for (JdwpPacket packet : packets) {
+				fOutgoingPackets.add(packet);
+				fOutgoingBytes += packet.getLength();
+			}
+			fOutgoingPackets.notifyAll();
+		}
+	}
+
+	/**
+	 * Writes the given packets from the calling thread, in order with the
+	 * packets written by other threads.
+	 */
+	private void writeSynchronously(LinkedList<JdwpPacket> packets) {
+		synchronized (fOutgoingPackets) {
+			try {
+				writePackets(packets);
+			} catch (IOException e) {
+				disconnectVM(e);
+			}
+		}
+		checkConnected();
+	}
+
+	/**
+	 * Throws a {@link VMDisconnectedException} if the connection to the
+	 * Virtual Machine has been lost.
+	 */
+	private void checkConnected() {
 		if (VMIsDisconnected()) {
 			String message;
 			if (getDisconnectException() == null) {
@@ -88,17 +242,11 @@ public class PacketSendManager extends PacketManager {
 			}
 			throw new VMDisconnectedException(message);
 		}
-
-		synchronized (fOutgoingPackets) {
-			// Add packet to list of packets to send.
-			fOutgoingPackets.add(packet);
-			// Notify PacketSendThread that data is available.
-			fOutgoingPackets.notifyAll();
-		}
 	}
 
 	/**
-	 * Send available packets to the Virtual Machine.
+	 * Send available packets to the Virtual Machine. The packets are gathered
+	 * and written with one write per flush threshold's worth of bytes.
 	 */
 	private void sendAvailablePackets() throws InterruptedException,
 			IOException {
@@ -107,17 +255,54 @@ public class PacketSendManager extends PacketManager {
 			while (fOutgoingPackets.size() == 0) {
 				fOutgoingPackets.wait();
 			}
+			// Give more packets the chance to join this write.
+			if (fMaxFlushLatency > 0) {
+				long remainingTime = fMaxFlushLatency;
+				final long timeBeforeWait = System.currentTimeMillis();
+				while (!VMIsDisconnected() && fOutgoingBytes < fFlushThreshold
+						&& remainingTime > 0) {
+					fOutgoingPackets.wait(remainingTime);
+					remainingTime = fMaxFlushLatency
+							- (System.currentTimeMillis() - timeBeforeWait);
+				}
+			}
 			packetsToSend.addAll(fOutgoingPackets);
 			fOutgoingPackets.clear();
+			fOutgoingBytes = 0;
 		}
+		writePackets(packetsToSend);
+	}
 
+	/**
+	 * Writes the given packets to the connection, with one write per flush
+	 * threshold's worth of bytes.
+	 */
+	private void writePackets(LinkedList<JdwpPacket> packetsToSend)
+			throws IOException {
 		// Put available packets on Output Stream.
+		Connection connection = getConnection();
+		List<JdwpPacket> flush = new ArrayList<JdwpPacket>(packetsToSend.size());
+		int flushBytes = 0;
 		while (packetsToSend.size() > 0) {
 			// Note that only JdwpPackets are added to the list, so a
 			// ClassCastException can't occur.
 			JdwpPacket packet = packetsToSend.removeFirst();
-			byte[] bytes = packet.getPacketAsBytes();
-			getConnection().writePacket(bytes);
+			flush.add(packet);
+			flushBytes += packet.getLength();
+			if (flushBytes >= fFlushThreshold || packetsToSend.isEmpty()) {
+				if (connection instanceof PacketConnection) {
+					((PacketConnection) connection).writeJdwpPackets(flush);
+				} else {
+					for (JdwpPacket flushPacket : flush) {
+						connection.writePacket(flushPacket.getPacketAsBytes());
+					}
+				}
+				fFlushCount++;
+				fFlushedPackets += flush.size();
+				fFlushedBytes += flushBytes;
+				flush.clear();
+				flushBytes = 0;
+			}
 		}
 	}
 }
@@ -0,0 +1,322 @@
+/*******************************************************************************
+ * Copyright (c) 2015 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.connect;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdi.internal.jdwp.JdwpPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
+
+import com.sun.jdi.connect.spi.ClosedConnectionException;
+
+/**
+ * A connection that plays the part of a VM by replaying a
+ * {@link PacketCapture}, so that the JDI implementation can be profiled and
+ * benchmarked without a live VM.
+ * <p>
+ * Each command written to this connection is matched with the first command
+ * of the capture that has not been matched yet and that has the same command
+ * set and command, preferably with the same data. The reply recorded for it is
+ * then read from this connection, with the id of the command written. Commands
+ * that match no recorded command get a reply with the
+ * {@link JdwpReplyPacket#NOT_IMPLEMENTED} error. The commands sent by the VM,
+ * i.e. events, are read in their recorded order, once as many commands have
+ * been matched as had been written before them in the capture.
+ * </p>
+ * <p>
+ * A replay is faithful when the debugger issues the commands of the capture,
+ * which requires the capture to hold the whole session.
+ * </p>
+ */
+public class ReplayConnection extends PacketConnection {
+
+	/** The packets the VM sent, in their recorded order. */
+	private final List<byte[]> fFromVM;
+
+	/**
+	 * For each packet of {@link #fFromVM}, the number of commands written to
+	 * the VM before it was read.
+	 */
+	private final int[] fCommandsBefore;
+
+	/**
+	 * The indexes in {@link #fFromVM} of the recorded replies, by id of the
+	 * recorded command they reply to.
+	 */
+	private final Map<Integer, Integer> fReplies;
+
+	/**
+	 * The recorded commands not matched yet, in their recorded order, by
+	 * command set and command. Guarded by this connection.
+	 */
+	private final Map<Integer, LinkedList<byte[]>> fCommands;
+
+	/** Number of packets of {@link #fFromVM} that can be replayed. */
+	private final int fReplayable;
+
+	/** Replies ready to be read. Guarded by this connection. */
+	private final LinkedList<byte[]> fReady = new LinkedList<byte[]>();
+
+	/**
+	 * Index in {@link #fFromVM} of the next event to read. Guarded by this
+	 * connection.
+	 */
+	private int fNextEvent = 0;
+
+	/** Number of commands matched. Guarded by this connection. */
+	private int fMatched = 0;
+
+	/** Number of commands that matched nothing. Guarded by this connection. */
+	private int fUnmatched = 0;
+
+	/**
+	 * Number of events read and of recorded replies made ready. Guarded by
+	 * this connection.
+	 */
+	private int fReplayed = 0;
+
+	private boolean fOpen = true;
+
+	/**
+	 * Creates a connection that replays the given packets.
+	 *
+	 * @param records
+	 *            the packets of a capture, in their recorded order
+	 * @see PacketCapture#read(java.io.File)
+	 */
+	public ReplayConnection(List<PacketCapture.Record> records) {
+		fFromVM = new ArrayList<byte[]>();
+		fReplies = new HashMap<Integer, Integer>();
+		fCommands = new HashMap<Integer, LinkedList<byte[]>>();
+		int[] commandsBefore = new int[records.size()];
+		Map<Integer, Boolean> recordedIds = new HashMap<Integer, Boolean>();
+		int commands = 0;
+		int replayable = 0;
+		for (Iterator<PacketCapture.Record> iter = records.iterator(); iter
+				.hasNext();) {
+			PacketCapture.Record record = iter.next();
+			byte[] bytes = record.getBytes();
+			if (record.isFromVM()) {
+				if (isReply(bytes)) {
+					Integer id = new Integer(idOf(bytes));
+					fReplies.put(id, new Integer(fFromVM.size()));
+					if (recordedIds.containsKey(id)) {
+						replayable++;
+					}
+				} else {
+					replayable++;
+				}
+				commandsBefore[fFromVM.size()] = commands;
+				fFromVM.add(bytes);
+			} else if (!isReply(bytes)) {
+				Integer key = new Integer(commandOf(bytes));
+				LinkedList<byte[]> list = fCommands.get(key);
+				if (list == null) {
+					list = new LinkedList<byte[]>();
+					fCommands.put(key, list);
+				}
+				list.add(bytes);
+				recordedIds.put(new Integer(idOf(bytes)), Boolean.TRUE);
+				commands++;
+			}
+		}
+		fCommandsBefore = commandsBefore;
+		fReplayable = replayable;
+	}
+
+	private static boolean isReply(byte[] packet) {
+		return (packet[8] & JdwpPacket.FLAG_REPLY_PACKET) != 0;
+	}
+
+	private static int idOf(byte[] packet) {
+		return ((packet[4] & 0xff) << 24) | ((packet[5] & 0xff) << 16)
+				| ((packet[6] & 0xff) << 8) | (packet[7] & 0xff);
+	}
+
+	private static void setId(byte[] packet, int id) {
+		packet[4] = (byte) (id >>> 24);
+		packet[5] = (byte) (id >>> 16);
+		packet[6] = (byte) (id >>> 8);
+		packet[7] = (byte) id;
+	}
+
+	/**
+	 * @return Returns the command set and command of the given command
+	 *         packet, as in <code>JdwpCommandPacket.getCommand()</code>.
+	 */
+	private static int commandOf(byte[] packet) {
+		return ((packet[9] & 0xff) << 8) | (packet[10] & 0xff);
+	}
+
+	private static boolean sameData(byte[] packet1, byte[] packet2) {
+		if (packet1.length != packet2.length) {
+			return false;
+		}
+		for (int i = JdwpPacket.MIN_PACKET_LENGTH; i < packet1.length; i++) {
+			if (packet1[i] != packet2[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see com.sun.jdi.connect.spi.Connection#readPacket()
+	 */
+	@Override
+	public synchronized byte[] readPacket() throws IOException {
+		while (true) {
+			if (!fOpen) {
+				throw new ClosedConnectionException();
+			}
+			if (!fReady.isEmpty()) {
+				notifyAll();
+				return fReady.removeFirst();
+			}
+			while (fNextEvent < fFromVM.size()
+					&& isReply(fFromVM.get(fNextEvent))) {
+				fNextEvent++;
+			}
+			if (fNextEvent < fFromVM.size()
+					&& fMatched >= fCommandsBefore[fNextEvent]) {
+				fReplayed++;
+				notifyAll();
+				return fFromVM.get(fNextEvent++);
+			}
+			try {
+				wait();
+			} catch (InterruptedException e) {
+				throw new ClosedConnectionException();
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see com.sun.jdi.connect.spi.Connection#writePacket(byte[])
+	 */
+	@Override
+	public synchronized void writePacket(byte[] packet) throws IOException {
+		if (!fOpen) {
+			throw new ClosedConnectionException();
+		}
+		if (isReply(packet)) {
+			return;
+		}
+		byte[] recorded = null;
+		LinkedList<byte[]> candidates = fCommands.get(new Integer(
+				commandOf(packet)));
+		if (candidates != null && !candidates.isEmpty()) {
+			for (Iterator<byte[]> iter = candidates.iterator(); iter.hasNext();) {
+				byte[] candidate = iter.next();
+				if (sameData(candidate, packet)) {
+					recorded = candidate;
+					iter.remove();
+					break;
+				}
+			}
+			if (recorded == null) {
+				recorded = candidates.removeFirst();
+			}
+		}
+		byte[] reply;
+		if (recorded == null) {
+			fUnmatched++;
+			reply = new byte[JdwpPacket.MIN_PACKET_LENGTH];
+			reply[3] = JdwpPacket.MIN_PACKET_LENGTH;
+			setId(reply, idOf(packet));
+			reply[8] = JdwpPacket.FLAG_REPLY_PACKET;
+			reply[9] = (byte) (JdwpReplyPacket.NOT_IMPLEMENTED >>> 8);
+			reply[10] = (byte) JdwpReplyPacket.NOT_IMPLEMENTED;
+		} else {
+			fMatched++;
+			Integer index = fReplies.get(new Integer(idOf(recorded)));
+			if (index == null) {
+				reply = null;
+			} else {
+				reply = fFromVM.get(index.intValue()).clone();
+				setId(reply, idOf(packet));
+				fReplayed++;
+			}
+		}
+		if (reply != null) {
+			fReady.add(reply);
+		}
+		notifyAll();
+	}
+
+	/**
+	 * @return Returns the number of commands written that matched no command
+	 *         of the capture.
+	 */
+	public synchronized int getUnmatchedCommands() {
+		return fUnmatched;
+	}
+
+	/**
+	 * @return Returns whether every event of the capture, and every reply to a
+	 *         command of the capture, has been read.
+	 */
+	public synchronized boolean isReplayed() {
+		return fReplayed >= fReplayable && fReady.isEmpty();
+	}
+
+	/**
+	 * Waits until every event of the capture, and every reply to a command of
+	 * the capture, has been read.
+	 *
+	 * @param timeout
+	 *            the maximum time to wait, in milliseconds
+	 * @return Returns whether the capture has been replayed.
+	 */
+	public synchronized boolean waitUntilReplayed(long timeout)
+			throws InterruptedException {
+		long end = System.currentTimeMillis() + timeout;
+		while (fOpen && !isReplayed()) {
+			long remaining = end - System.currentTimeMillis();
+			if (remaining <= 0) {
+				break;
+			}
+			wait(remaining);
+		}
+		return isReplayed();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see com.sun.jdi.connect.spi.Connection#isOpen()
+	 */
+	@Override
+	public synchronized boolean isOpen() {
+		return fOpen;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see com.sun.jdi.connect.spi.Connection#close()
+	 */
+	@Override
+	public synchronized void close() {
+		fOpen = false;
+		notifyAll();
+	}
+}
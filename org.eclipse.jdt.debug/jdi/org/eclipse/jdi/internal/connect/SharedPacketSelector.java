@@ -0,0 +1,341 @@
+/*******************************************************************************
+ * Copyright (c) 2015 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.connect;
+
+import java.io.IOException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.eclipse.jdi.internal.jdwp.JdwpPacket;
+import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
+
+/**
+ * A thread that performs the IO of many {@link SocketChannelConnection}s with
+ * a single {@link Selector}, in place of a receiving and a sending thread per
+ * Virtual Machine.
+ * <p>
+ * The packets read from a connection are handed to its
+ * {@link PacketReceiveManager} by the thread of the selector, in the order
+ * they were read. Packets written to a connection are queued by the
+ * connection and written out by the thread of the selector, in the order they
+ * were written, as the channel accepts them.
+ * </p>
+ */
+public class SharedPacketSelector implements Runnable {
+
+	/** The selector shared by the Virtual Machines, started on demand. */
+	private static SharedPacketSelector fgDefault;
+
+	/**
+	 * A connection and the manager its packets are handed to.
+	 */
+	private static class Registration {
+		final SocketChannelConnection fConnection;
+		final PacketReceiveManager fManager;
+
+		Registration(SocketChannelConnection connection,
+				PacketReceiveManager manager) {
+			fConnection = connection;
+			fManager = manager;
+		}
+	}
+
+	private final Selector fSelector;
+
+	/** Connections to register with the selector. Guarded by itself. */
+	private final LinkedList<Registration> fPendingRegistrations = new LinkedList<Registration>();
+
+	/**
+	 * Whether the selector failed and was closed. Guarded by
+	 * <code>fPendingRegistrations</code>.
+	 */
+	private boolean fClosed = false;
+
+	/** Connections that have output to write. Guarded by itself. */
+	private final LinkedHashSet<SocketChannelConnection> fPendingWrites = new LinkedHashSet<SocketChannelConnection>();
+
+	/** Number of connections registered and still open. */
+	private volatile int fConnectionCount = 0;
+
+	/** The thread of this selector, once it runs. */
+	private volatile Thread fThread;
+
+	/**
+	 * Creates a selector. Its thread must be started.
+	 */
+	public SharedPacketSelector() throws IOException {
+		fSelector = Selector.open();
+	}
+
+	/**
+	 * @return Returns the selector shared by the Virtual Machines, starting
+	 *         its thread the first time.
+	 * @throws IOException
+	 *             if the selector cannot be opened
+	 */
+	public static synchronized SharedPacketSelector getDefault()
+			throws IOException {
+		if (fgDefault == null) {
+			fgDefault = new SharedPacketSelector();
+			Thread thread = new Thread(fgDefault,
+					ConnectMessages.SharedPacketSelector_0);
+			thread.setDaemon(true);
+			thread.start();
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Makes the thread of this selector perform the IO of the given
+	 * connection, handing the packets read to the given manager.
+	 *
+	 * @param connection
+	 *            the connection
+	 * @param manager
+	 *            the manager of the packets received from the connection
+	 */
+	public void register(SocketChannelConnection connection,
+			PacketReceiveManager manager) {
+		synchronized (fPendingRegistrations) {
+			if (!fClosed) {
+				fPendingRegistrations.add(new Registration(connection, manager));
+				fSelector.wakeup();
+				return;
+			}
+		}
+		// the selector failed after the connection was given to it
+		manager.disconnectVM();
+	}
+
+	/**
+	 * Makes the thread of this selector write the output of the given
+	 * connection.
+	 */
+	void flush(SocketChannelConnection connection) {
+		boolean added;
+		synchronized (fPendingWrites) {
+			added = fPendingWrites.add(connection);
+		}
+		if (added) {
+			fSelector.wakeup();
+		}
+	}
+
+	/**
+	 * @return Returns whether the current thread is the thread of this
+	 *         selector, which must never wait for its own output to be
+	 *         written.
+	 */
+	boolean isSelectorThread() {
+		return Thread.currentThread() == fThread;
+	}
+
+	/**
+	 * @return Returns the number of connections whose IO is performed by this
+	 *         selector.
+	 */
+	public int getConnectionCount() {
+		return fConnectionCount;
+	}
+
+	/**
+	 * Thread's run method.
+	 */
+	public void run() {
+		fThread = Thread.currentThread();
+		while (true) {
+			try {
+				fSelector.select();
+			} catch (IOException e) {
+				// a selector that fails once fails again, it is given up
+				close(e);
+				return;
+			}
+			registerPending();
+			writePending();
+			Iterator<SelectionKey> keys = fSelector.selectedKeys().iterator();
+			while (keys.hasNext()) {
+				SelectionKey key = keys.next();
+				keys.remove();
+				Registration registration = (Registration) key.attachment();
+				try {
+					if (key.isWritable()) {
+						write(key, registration);
+					}
+					if (key.isReadable()) {
+						read(registration);
+					}
+				} catch (CancelledKeyException e) {
+					disconnect(key, registration, null);
+				} catch (IOException e) {
+					disconnect(key, registration, e);
+				} catch (RuntimeException e) {
+					// only the connection that failed is disconnected
+					JDIDebugPlugin.log(e);
+					disconnect(key, registration, null);
+				}
+			}
+			fConnectionCount = fSelector.keys().size();
+		}
+	}
+
+	/**
+	 * Gives up a selector that failed: disconnects all its connections, those
+	 * registered and those waiting for it, and closes it. The next Virtual
+	 * Machines use a new selector.
+	 */
+	private void close(IOException exception) {
+		JDIDebugPlugin.log(exception);
+		synchronized (SharedPacketSelector.class) {
+			if (fgDefault == this) {
+				fgDefault = null;
+			}
+		}
+		List<Registration> pending;
+		synchronized (fPendingRegistrations) {
+			fClosed = true;
+			pending = new LinkedList<Registration>(fPendingRegistrations);
+			fPendingRegistrations.clear();
+		}
+		try {
+			Iterator<SelectionKey> keys = fSelector.keys().iterator();
+			while (keys.hasNext()) {
+				SelectionKey key = keys.next();
+				disconnect(key, (Registration) key.attachment(), exception);
+			}
+		} catch (ClosedSelectorException e) {
+			// no connection left to disconnect
+		}
+		for (Registration registration : pending) {
+			try {
+				registration.fManager.disconnectVM(exception);
+			} catch (RuntimeException e) {
+				JDIDebugPlugin.log(e);
+			}
+		}
+		fConnectionCount = 0;
+		try {
+			fSelector.close();
+		} catch (IOException e) {
+			// the selector is given up anyway
+		}
+	}
+
+	/**
+	 * Registers the connections waiting for it with the selector.
+	 */
+	private void registerPending() {
+		while (true) {
+			Registration registration;
+			synchronized (fPendingRegistrations) {
+				if (fPendingRegistrations.isEmpty()) {
+					return;
+				}
+				registration = fPendingRegistrations.removeFirst();
+			}
+			try {
+				SocketChannel channel = registration.fConnection
+						.startSharedIO(this);
+				channel.register(fSelector, SelectionKey.OP_READ, registration);
+			} catch (IOException e) {
+				registration.fManager.disconnectVM(e);
+			} catch (RuntimeException e) {
+				JDIDebugPlugin.log(e);
+				registration.fManager.disconnectVM();
+			}
+		}
+	}
+
+	/**
+	 * Writes the output of the connections that have some, and selects the
+	 * channels that do not accept all of it for writing.
+	 */
+	private void writePending() {
+		while (true) {
+			SocketChannelConnection connection;
+			synchronized (fPendingWrites) {
+				Iterator<SocketChannelConnection> iter = fPendingWrites
+						.iterator();
+				if (!iter.hasNext()) {
+					return;
+				}
+				connection = iter.next();
+				iter.remove();
+			}
+			SelectionKey key = connection.channel().keyFor(fSelector);
+			if (key == null || !key.isValid()) {
+				// the connection has been closed
+				continue;
+			}
+			Registration registration = (Registration) key.attachment();
+			try {
+				write(key, registration);
+			} catch (CancelledKeyException e) {
+				disconnect(key, registration, null);
+			} catch (IOException e) {
+				disconnect(key, registration, e);
+			} catch (RuntimeException e) {
+				JDIDebugPlugin.log(e);
+				disconnect(key, registration, null);
+			}
+		}
+	}
+
+	/**
+	 * Writes the output of a connection, and selects its channel for writing
+	 * as long as some of it remains.
+	 */
+	private void write(SelectionKey key, Registration registration)
+			throws IOException {
+		if (registration.fConnection.writeOutput()) {
+			key.interestOps(SelectionKey.OP_READ);
+		} else {
+			key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+		}
+	}
+
+	/**
+	 * Reads the bytes available from a connection and hands the packets they
+	 * complete to its manager.
+	 */
+	private void read(Registration registration) throws IOException {
+		List<JdwpPacket> packets = registration.fConnection
+				.readAvailablePackets();
+		for (int i = 0; i < packets.size(); i++) {
+			registration.fManager.packetReceived(packets.get(i));
+		}
+	}
+
+	/**
+	 * Stops performing the IO of a connection and disconnects its manager.
+	 */
+	private void disconnect(SelectionKey key, Registration registration,
+			IOException exception) {
+		key.cancel();
+		try {
+			if (exception == null) {
+				registration.fManager.disconnectVM();
+			} else {
+				registration.fManager.disconnectVM(exception);
+			}
+		} catch (RuntimeException e) {
+			// do not let one connection stop the IO of the others
+			JDIDebugPlugin.log(e);
+		}
+	}
+}
@@ -0,0 +1,470 @@
+/*******************************************************************************
+ * Copyright (c) 2015 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.connect;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.jdi.internal.jdwp.JdwpPacket;
+
+import com.sun.jdi.connect.spi.ClosedConnectionException;
+
+/**
+ * A connection that performs its IO on the {@link SocketChannel} of the
+ * socket of a {@link SocketTransportService}.
+ * <p>
+ * Packets are read through a direct buffer that is kept for the lifetime of
+ * the connection: the header is parsed from it in place and only the data of
+ * the packet is copied into a new array. Packets are written through a
+ * direct buffer as well, so that a batch of small packets costs a single
+ * write; packets too large for the buffer are written with a gathering write
+ * of their header and data, without first copying both into one array.
+ * </p>
+ * <p>
+ * Once handed to a {@link SharedPacketSelector}, the channel is non-blocking
+ * and all the IO of the connection is performed by the thread of the
+ * selector: packets written are queued in an output buffer the selector
+ * writes out, and packets are read as their bytes become available.
+ * Threads writing packets wait while the output queued exceeds
+ * {@link #MAX_OUTPUT_SIZE}, so that a VM that does not read its input cannot
+ * make the output grow without bound.
+ * </p>
+ */
+public class SocketChannelConnection extends PacketConnection {
+
+	/** Size of the direct buffer packet data is read through. */
+	private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+	/** Size of the direct buffer packets are written through. */
+	private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * Number of bytes queued for the selector beyond which writing a packet
+	 * waits until the selector has sent some of them to the VM.
+	 */
+	private static final int MAX_OUTPUT_SIZE = 4 * 1024 * 1024;
+
+	private SocketTransportService fTransport;
+
+	private SocketChannel fChannel;
+
+	/** Buffer packets are read through. Only used by the reading thread. */
+	private ByteBuffer fReadBuffer;
+
+	/** Header of the packet being read. Only used by the reading thread. */
+	private byte[] fReadHeader;
+
+	/** Buffer packets are written through. Guarded by itself. */
+	private ByteBuffer fWriteBuffer;
+
+	/** Header bytes of the packet being written. Guarded by fWriteBuffer. */
+	private byte[] fWriteHeader;
+
+	/**
+	 * The selector that performs the IO of this connection, or
+	 * <code>null</code> if it is performed by the threads that read and write
+	 * packets.
+	 */
+	private volatile SharedPacketSelector fSelector;
+
+	/**
+	 * Bytes written but not yet sent to the VM, when the IO is performed by a
+	 * selector. Guarded by fWriteBuffer.
+	 */
+	private ByteBuffer fOutput;
+
+	/**
+	 * Number of header bytes of the packet being read, and its data, when the
+	 * IO is performed by a selector. Only used by the thread of the selector.
+	 */
+	private int fHeaderRead = 0;
+	private byte[] fData;
+	private int fDataRead = 0;
+
+	SocketChannelConnection(SocketTransportService transport,
+			SocketChannel channel) {
+		fTransport = transport;
+		fChannel = channel;
+		fReadBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+		fReadHeader = new byte[JdwpPacket.MIN_PACKET_LENGTH];
+		fWriteBuffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+		fWriteHeader = new byte[JdwpPacket.MIN_PACKET_LENGTH];
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.sun.jdi.connect.spi.Connection#close()
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (fTransport == null)
+			return;
+
+		fTransport.close();
+		fTransport = null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.sun.jdi.connect.spi.Connection#isOpen()
+	 */
+	@Override
+	public synchronized boolean isOpen() {
+		return fTransport != null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.sun.jdi.connect.spi.Connection#readPacket()
+	 */
+	@Override
+	public byte[] readPacket() throws IOException {
+		byte[] data = readPacketData();
+		byte[] packet = new byte[JdwpPacket.MIN_PACKET_LENGTH + data.length];
+		System.arraycopy(fReadHeader, 0, packet, 0, fReadHeader.length);
+		System.arraycopy(data, 0, packet, fReadHeader.length, data.length);
+		return packet;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.eclipse.jdi.internal.connect.PacketConnection#readJdwpPacket()
+	 */
+	@Override
+	public JdwpPacket readJdwpPacket() throws IOException {
+		byte[] data = readPacketData();
+		return JdwpPacket.build(fReadHeader, data);
+	}
+
+	/**
+	 * Reads the next packet: its header is left in <code>fReadHeader</code>
+	 * and its data is returned.
+	 */
+	private byte[] readPacketData() throws IOException {
+		if (!isOpen()) {
+			throw new ClosedConnectionException();
+		}
+		if (fSelector != null) {
+			throw new IOException("Packets are read by the shared selector"); //$NON-NLS-1$
+		}
+		fReadBuffer.clear();
+		fReadBuffer.limit(JdwpPacket.MIN_PACKET_LENGTH);
+		try {
+			fill(fReadBuffer);
+		} catch (IOException e) {
+			throw new ClosedConnectionException();
+		}
+		fReadBuffer.flip();
+		fReadBuffer.get(fReadHeader);
+
+		int packetLength = JdwpPacket.readLength(fReadHeader);
+		if (packetLength < JdwpPacket.MIN_PACKET_LENGTH) {
+			throw new IOException("JDWP Packet under 11 bytes"); //$NON-NLS-1$
+		}
+
+		byte[] data = new byte[packetLength - JdwpPacket.MIN_PACKET_LENGTH];
+		int offset = 0;
+		while (offset < data.length) {
+			fReadBuffer.clear();
+			fReadBuffer.limit(Math.min(fReadBuffer.capacity(), data.length
+					- offset));
+			fill(fReadBuffer);
+			fReadBuffer.flip();
+			int length = fReadBuffer.remaining();
+			fReadBuffer.get(data, offset, length);
+			offset += length;
+		}
+		return data;
+	}
+
+	/**
+	 * Reads from the channel until the given buffer has no space remaining.
+	 */
+	private void fill(ByteBuffer buffer) throws IOException {
+		while (buffer.hasRemaining()) {
+			if (fChannel.read(buffer) < 0) {
+				throw new EOFException();
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.sun.jdi.connect.spi.Connection#writePacket(byte[])
+	 */
+	@Override
+	public void writePacket(byte[] packet) throws IOException {
+		if (!isOpen()) {
+			throw new ClosedConnectionException();
+		}
+		if (packet == null) {
+			throw new IllegalArgumentException(
+					"Invalid JDWP Packet, packet cannot be null"); //$NON-NLS-1$
+		}
+		if (packet.length < JdwpPacket.MIN_PACKET_LENGTH) {
+			throw new IllegalArgumentException(
+					"Invalid JDWP Packet, must be at least 11 bytes. PacketSize:" + packet.length); //$NON-NLS-1$
+		}
+
+		int packetSize = JdwpPacket.readLength(packet);
+		if (packetSize < JdwpPacket.MIN_PACKET_LENGTH) {
+			throw new IllegalArgumentException(
+					"Invalid JDWP Packet, must be at least 11 bytes. PacketSize:" + packetSize); //$NON-NLS-1$
+		}
+
+		if (packetSize > packet.length) {
+			throw new IllegalArgumentException(
+					"Invalid JDWP packet: Specified length is greater than actual length"); //$NON-NLS-1$
+		}
+
+		// packet.length can be > packetSize. Sending too much will cause
+		// errors on the other side
+		ByteBuffer buffer = ByteBuffer.wrap(packet, 0, packetSize);
+		SharedPacketSelector selector;
+		synchronized (fWriteBuffer) {
+			selector = fSelector;
+			if (selector != null) {
+				ensureOutput(packetSize).put(buffer);
+			} else {
+				while (buffer.hasRemaining()) {
+					fChannel.write(buffer);
+				}
+			}
+		}
+		if (selector != null) {
+			selector.flush(this);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.eclipse.jdi.internal.connect.PacketConnection#writeJdwpPacket(org
+	 * .eclipse.jdi.internal.jdwp.JdwpPacket)
+	 */
+	@Override
+	public void writeJdwpPacket(JdwpPacket packet) throws IOException {
+		writeJdwpPackets(Collections.singletonList(packet));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.eclipse.jdi.internal.connect.PacketConnection#writeJdwpPackets(java
+	 * .util.List)
+	 */
+	@Override
+	public void writeJdwpPackets(List<JdwpPacket> packets) throws IOException {
+		if (!isOpen()) {
+			throw new ClosedConnectionException();
+		}
+		SharedPacketSelector selector;
+		synchronized (fWriteBuffer) {
+			selector = fSelector;
+			if (selector != null) {
+				for (JdwpPacket packet : packets) {
+					ByteBuffer output = ensureOutput(packet.getLength());
+					packet.writeHeader(fWriteHeader, 0);
+					output.put(fWriteHeader);
+					byte[] data = packet.data();
+					if (data != null) {
+						output.put(data);
+					}
+				}
+			}
+		}
+		if (selector != null) {
+			selector.flush(this);
+			return;
+		}
+		synchronized (fWriteBuffer) {
+			fWriteBuffer.clear();
+			for (JdwpPacket packet : packets) {
+				int length = packet.getLength();
+				if (fWriteBuffer.remaining() < length) {
+					flushWriteBuffer();
+				}
+				packet.writeHeader(fWriteHeader, 0);
+				fWriteBuffer.put(fWriteHeader);
+				byte[] data = packet.data();
+				if (data == null || data.length == 0) {
+					continue;
+				}
+				if (fWriteBuffer.remaining() >= data.length) {
+					fWriteBuffer.put(data);
+				} else {
+					// too large for the buffer, which only holds the header
+					fWriteBuffer.flip();
+					ByteBuffer[] buffers = new ByteBuffer[] { fWriteBuffer,
+							ByteBuffer.wrap(data) };
+					while (buffers[1].hasRemaining()) {
+						fChannel.write(buffers);
+					}
+					fWriteBuffer.clear();
+				}
+			}
+			flushWriteBuffer();
+		}
+	}
+
+	/**
+	 * Writes the contents of the write buffer to the channel and clears it.
+	 */
+	private void flushWriteBuffer() throws IOException {
+		fWriteBuffer.flip();
+		while (fWriteBuffer.hasRemaining()) {
+			fChannel.write(fWriteBuffer);
+		}
+		fWriteBuffer.clear();
+	}
+
+	/**
+	 * Hands the IO of this connection to the given selector: the channel is
+	 * made non-blocking, and packets are no longer read with
+	 * {@link #readPacket()} but with {@link #readAvailablePackets()}.
+	 *
+	 * @return Returns the channel, to be registered with the selector.
+	 */
+	SocketChannel startSharedIO(SharedPacketSelector selector)
+			throws IOException {
+		synchronized (fWriteBuffer) {
+			fChannel.configureBlocking(false);
+			fOutput = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+			fSelector = selector;
+		}
+		return fChannel;
+	}
+
+	/**
+	 * @return Returns the channel of this connection.
+	 */
+	SocketChannel channel() {
+		return fChannel;
+	}
+
+	/**
+	 * Returns the output buffer with room for the given number of bytes,
+	 * growing it if needed. If the output would exceed
+	 * {@link #MAX_OUTPUT_SIZE}, first waits until the selector has written
+	 * some of it. Must be called holding fWriteBuffer.
+	 */
+	private ByteBuffer ensureOutput(int length) throws IOException {
+		SharedPacketSelector selector = fSelector;
+		while (fOutput.position() > 0
+				&& fOutput.position() + length > MAX_OUTPUT_SIZE
+				&& !selector.isSelectorThread()) {
+			if (!isOpen() || !fChannel.isOpen()) {
+				throw new ClosedConnectionException();
+			}
+			selector.flush(this);
+			try {
+				fWriteBuffer.wait(100);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException();
+			}
+		}
+		if (fOutput.remaining() < length) {
+			ByteBuffer output = ByteBuffer.allocate(Math.max(
+					fOutput.capacity() * 2, fOutput.position() + length));
+			fOutput.flip();
+			output.put(fOutput);
+			fOutput = output;
+		}
+		return fOutput;
+	}
+
+	/**
+	 * Writes as much of the output as the channel accepts without blocking.
+	 * Only called by the thread of the selector.
+	 *
+	 * @return Returns whether all the output has been written.
+	 */
+	boolean writeOutput() throws IOException {
+		synchronized (fWriteBuffer) {
+			fOutput.flip();
+			try {
+				if (fChannel.write(fOutput) > 0) {
+					// wake up the threads waiting for room in the output
+					fWriteBuffer.notifyAll();
+				}
+			} finally {
+				fOutput.compact();
+			}
+			return fOutput.position() == 0;
+		}
+	}
+
+	/**
+	 * Reads the bytes available from the channel without blocking, and
+	 * returns the packets they complete. Only called by the thread of the
+	 * selector.
+	 *
+	 * @return Returns the packets completed, in order, possibly none.
+	 * @throws EOFException
+	 *             if the VM has closed the connection
+	 */
+	List<JdwpPacket> readAvailablePackets() throws IOException {
+		fReadBuffer.clear();
+		if (fChannel.read(fReadBuffer) < 0) {
+			throw new EOFException();
+		}
+		fReadBuffer.flip();
+		List<JdwpPacket> packets = null;
+		while (fReadBuffer.hasRemaining()) {
+			if (fHeaderRead < JdwpPacket.MIN_PACKET_LENGTH) {
+				int length = Math.min(fReadBuffer.remaining(),
+						JdwpPacket.MIN_PACKET_LENGTH - fHeaderRead);
+				fReadBuffer.get(fReadHeader, fHeaderRead, length);
+				fHeaderRead += length;
+				if (fHeaderRead < JdwpPacket.MIN_PACKET_LENGTH) {
+					break;
+				}
+				int packetLength = JdwpPacket.readLength(fReadHeader);
+				if (packetLength < JdwpPacket.MIN_PACKET_LENGTH) {
+					throw new IOException("JDWP Packet under 11 bytes"); //$NON-NLS-1$
+				}
+				fData = new byte[packetLength - JdwpPacket.MIN_PACKET_LENGTH];
+				fDataRead = 0;
+			} else {
+				int length = Math.min(fReadBuffer.remaining(), fData.length
+						- fDataRead);
+				fReadBuffer.get(fData, fDataRead, length);
+				fDataRead += length;
+			}
+			if (fDataRead == fData.length) {
+				if (packets == null) {
+					packets = new ArrayList<JdwpPacket>();
+				}
+				packets.add(JdwpPacket.build(fReadHeader, fData));
+				fHeaderRead = 0;
+				fData = null;
+			}
+		}
+		if (packets == null) {
+			return Collections.emptyList();
+		}
+		return packets;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -13,11 +13,13 @@ package org.eclipse.jdi.internal.connect;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.List;
+
+import org.eclipse.jdi.internal.jdwp.JdwpPacket;
 
 import com.sun.jdi.connect.spi.ClosedConnectionException;
-import com.sun.jdi.connect.spi.Connection;
 
-public class SocketConnection extends Connection {
+public class SocketConnection extends PacketConnection {
 
 	private SocketTransportService fTransport;
 
@@ -116,14 +118,7 @@ public class SocketConnection extends Connection {
 					"Invalid JDWP packet: Specified length is greater than actual length"); //$NON-NLS-1$
 		}
 
-		OutputStream stream = null;
-		synchronized (this) {
-			if (!isOpen()) {
-				throw new ClosedConnectionException();
-			}
-			stream = fTransport.getOutputStream();
-		}
-
+		OutputStream stream = getOutputStream();
 		synchronized (stream) {
 			// packet.length can be > packetSize. Sending too much will cause
 			// errors on the other side
@@ -131,6 +126,52 @@ public class SocketConnection extends Connection {
 		}
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.eclipse.jdi.internal.connect.PacketConnection#writeJdwpPackets(java
+	 * .util.List)
+	 */
+	@Override
+	public void writeJdwpPackets(List<JdwpPacket> packets) throws IOException {
+		if (packets.size() == 1) {
+			writeJdwpPacket(packets.get(0));
+			return;
+		}
+		// assemble the packets, so that they are written with a single call
+		int length = 0;
+		for (JdwpPacket packet : packets) {
+			length += packet.getLength();
+		}
+		byte[] bytes = new byte[length];
+		int offset = 0;
+		for (JdwpPacket packet : packets) {
+			offset = packet.writeHeader(bytes, offset);
+			byte[] data = packet.data();
+			if (data != null) {
+				System.arraycopy(data, 0, bytes, offset, data.length);
+				offset += data.length;
+			}
+		}
+		OutputStream stream = getOutputStream();
+		synchronized (stream) {
+			stream.write(bytes);
+		}
+	}
+
+	/**
+	 * @return Returns the output stream of the transport.
+	 */
+	private OutputStream getOutputStream() throws IOException {
+		synchronized (this) {
+			if (!isOpen()) {
+				throw new ClosedConnectionException();
+			}
+			return fTransport.getOutputStream();
+		}
+	}
+
 	private int getPacketLength(byte[] packet) {
 		int len = 0;
 		if (packet.length >= 4) {
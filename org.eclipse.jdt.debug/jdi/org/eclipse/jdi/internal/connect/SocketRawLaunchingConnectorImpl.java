@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2013 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -47,7 +47,7 @@ public class SocketRawLaunchingConnectorImpl extends ConnectorImpl implements
 		super(virtualMachineManager);
 
 		// Create communication protocol specific transport.
-		SocketTransportImpl transport = new SocketTransportImpl();
+		SocketTransportImpl transport = new SocketTransportImpl(virtualMachineManager);
 		setTransport(transport);
 	}
 
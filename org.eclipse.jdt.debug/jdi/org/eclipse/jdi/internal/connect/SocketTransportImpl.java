@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,8 @@ package org.eclipse.jdi.internal.connect;
 
 import java.io.IOException;
 
+import org.eclipse.jdi.internal.VirtualMachineManagerImpl;
+
 import com.sun.jdi.connect.Transport;
 import com.sun.jdi.connect.spi.Connection;
 import com.sun.jdi.connect.spi.TransportService.ListenKey;
@@ -26,9 +28,12 @@ public class SocketTransportImpl implements Transport {
 
 	/**
 	 * Constructs new SocketTransportImpl.
+	 * 
+	 * @param manager
+	 *            the virtual machine manager the connections are made for
 	 */
-	public SocketTransportImpl() {
-		service = new SocketTransportService();
+	public SocketTransportImpl(VirtualMachineManagerImpl manager) {
+		service = new SocketTransportService(manager);
 	}
 
 	/*
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,12 +17,16 @@ import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.net.InetSocketAddress;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketTimeoutException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
 import java.util.Arrays;
 
 import org.eclipse.jdi.TimeoutException;
+import org.eclipse.jdi.internal.VirtualMachineManagerImpl;
 
 import com.sun.jdi.connect.TransportTimeoutException;
 import com.sun.jdi.connect.spi.ClosedConnectionException;
@@ -83,6 +87,41 @@ public class SocketTransportService extends TransportService {
 	// for listening or accepting connectors
 	private ServerSocket fServerSocket;
 
+	/**
+	 * Whether sockets are opened through NIO channels, so that connections
+	 * perform their IO with a {@link SocketChannelConnection}.
+	 */
+	private boolean fUseSocketChannels;
+
+	/**
+	 * Creates a new transport service that uses socket channels if so
+	 * configured for the given virtual machine manager.
+	 * 
+	 * @param manager
+	 *            the virtual machine manager the connections are made for
+	 */
+	public SocketTransportService(VirtualMachineManagerImpl manager) {
+		fUseSocketChannels = manager.useSocketChannels();
+	}
+
+	/**
+	 * Sets whether sockets opened from now on perform their IO through NIO
+	 * channels rather than streams.
+	 * 
+	 * @param useSocketChannels
+	 *            whether to use socket channels
+	 */
+	public void setUseSocketChannels(boolean useSocketChannels) {
+		fUseSocketChannels = useSocketChannels;
+	}
+
+	/**
+	 * @return whether sockets are opened through NIO channels
+	 */
+	public boolean isUseSocketChannels() {
+		return fUseSocketChannels;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -107,7 +146,7 @@ public class SocketTransportService extends TransportService {
 		fInput = fSocket.getInputStream();
 		fOutput = fSocket.getOutputStream();
 		performHandshake(fInput, fOutput, handshakeTimeout);
-		return new SocketConnection(this);
+		return createConnection();
 	}
 
 	/*
@@ -144,7 +183,12 @@ public class SocketTransportService extends TransportService {
 		Thread attachThread = new Thread(new Runnable() {
 			public void run() {
 				try {
-					fSocket = new Socket(host, port);
+					if (fUseSocketChannels) {
+						fSocket = SocketChannel.open(
+								new InetSocketAddress(host, port)).socket();
+					} else {
+						fSocket = new Socket(host, port);
+					}
 					fInput = fSocket.getInputStream();
 					fOutput = fSocket.getOutputStream();
 					performHandshake(fInput, fOutput, handshakeTimeout);
@@ -168,6 +212,18 @@ public class SocketTransportService extends TransportService {
 			throw ex[0];
 		}
 
+		return createConnection();
+	}
+
+	/**
+	 * @return Returns a connection that performs its IO on the current
+	 *         socket.
+	 */
+	private Connection createConnection() {
+		SocketChannel channel = fSocket.getChannel();
+		if (channel != null) {
+			return new SocketChannelConnection(this, channel);
+		}
 		return new SocketConnection(this);
 	}
 
@@ -291,7 +347,12 @@ public class SocketTransportService extends TransportService {
 			host = "localhost"; //$NON-NLS-1$
 		}
 
-		fServerSocket = new ServerSocket(port);
+		if (fUseSocketChannels) {
+			fServerSocket = ServerSocketChannel.open().socket();
+			fServerSocket.bind(new InetSocketAddress(port));
+		} else {
+			fServerSocket = new ServerSocket(port);
+		}
 		port = fServerSocket.getLocalPort();
 		ListenKey listenKey = new SocketListenKey(host + ":" + port); //$NON-NLS-1$
 		return listenKey;
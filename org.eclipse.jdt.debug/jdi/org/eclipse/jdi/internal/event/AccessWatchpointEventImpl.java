@@ -10,11 +10,11 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal.event;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 
 import org.eclipse.jdi.internal.MirrorImpl;
 import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
 import org.eclipse.jdi.internal.request.RequestID;
 
 import com.sun.jdi.event.AccessWatchpointEvent;
@@ -48,7 +48,7 @@ public class AccessWatchpointEventImpl extends WatchpointEventImpl implements
 	 * @throws IOException if the read fails
 	 */
 	public static WatchpointEventImpl read(MirrorImpl target,
-			RequestID requestID, DataInputStream dataInStream)
+			RequestID requestID, JdwpReplyDecoder dataInStream)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		AccessWatchpointEventImpl event = new AccessWatchpointEventImpl(vmImpl,
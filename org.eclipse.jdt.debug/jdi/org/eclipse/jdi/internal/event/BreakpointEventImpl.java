@@ -10,12 +10,12 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal.event;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 
 import org.eclipse.jdi.internal.MirrorImpl;
 import org.eclipse.jdi.internal.ThreadReferenceImpl;
 import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
 import org.eclipse.jdi.internal.request.RequestID;
 
 import com.sun.jdi.event.BreakpointEvent;
@@ -48,7 +48,7 @@ public class BreakpointEventImpl extends LocatableEventImpl implements
 	 * @throws IOException if the read fails
 	 */
 	public static BreakpointEventImpl read(MirrorImpl target,
-			RequestID requestID, DataInputStream dataInStream)
+			RequestID requestID, JdwpReplyDecoder dataInStream)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		BreakpointEventImpl event = new BreakpointEventImpl(vmImpl, requestID);
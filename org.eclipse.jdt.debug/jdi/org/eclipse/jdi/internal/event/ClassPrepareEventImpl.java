@@ -10,13 +10,13 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal.event;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 
 import org.eclipse.jdi.internal.MirrorImpl;
 import org.eclipse.jdi.internal.ReferenceTypeImpl;
 import org.eclipse.jdi.internal.ThreadReferenceImpl;
 import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
 import org.eclipse.jdi.internal.request.RequestID;
 
 import com.sun.jdi.ReferenceType;
@@ -47,7 +47,7 @@ public class ClassPrepareEventImpl extends EventImpl implements
 	 *         already been read.
 	 */
 	public static ClassPrepareEventImpl read(MirrorImpl target,
-			RequestID requestID, DataInputStream dataInStream)
+			RequestID requestID, JdwpReplyDecoder dataInStream)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		ClassPrepareEventImpl event = new ClassPrepareEventImpl(vmImpl,
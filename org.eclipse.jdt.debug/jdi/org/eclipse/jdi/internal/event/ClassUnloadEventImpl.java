@@ -10,12 +10,12 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal.event;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 
 import org.eclipse.jdi.internal.MirrorImpl;
 import org.eclipse.jdi.internal.TypeImpl;
 import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
 import org.eclipse.jdi.internal.request.RequestID;
 
 import com.sun.jdi.event.ClassUnloadEvent;
@@ -44,7 +44,7 @@ public class ClassUnloadEventImpl extends EventImpl implements ClassUnloadEvent
 	 *         already been read.
 	 */
 	public static ClassUnloadEventImpl read(MirrorImpl target,
-			RequestID requestID, DataInputStream dataInStream)
+			RequestID requestID, JdwpReplyDecoder dataInStream)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		ClassUnloadEventImpl event = new ClassUnloadEventImpl(vmImpl, requestID);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,7 +10,6 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal.event;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.util.HashMap;
@@ -19,6 +18,7 @@ import java.util.Map;
 import org.eclipse.jdi.internal.MirrorImpl;
 import org.eclipse.jdi.internal.ThreadReferenceImpl;
 import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
 import org.eclipse.jdi.internal.request.RequestID;
 
 import com.sun.jdi.ThreadReference;
@@ -105,7 +105,7 @@ public abstract class EventImpl extends MirrorImpl implements Event {
 	/**
 	 * @return Creates, reads and returns new EventImpl.
 	 */
-	public static EventImpl read(MirrorImpl target, DataInputStream dataInStream)
+	public static EventImpl read(MirrorImpl target, JdwpReplyDecoder dataInStream)
 			throws IOException {
 		byte eventKind = target.readByte(
 				"event kind", eventKindMap(), dataInStream); //$NON-NLS-1$
@@ -189,7 +189,7 @@ public abstract class EventImpl extends MirrorImpl implements Event {
 
 		// Find and store original request.
 		if (!requestID.isNull())
-			result.fRequest = target.virtualMachineImpl().eventRequestManagerImpl().findRequest(result);
+			result.fRequest = target.virtualMachineImpl().eventRequestManagerImpl().findRequest(eventKind, requestID);
 
 		return result;
 	}
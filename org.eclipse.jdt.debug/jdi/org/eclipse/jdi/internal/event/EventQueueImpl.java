@@ -66,7 +66,7 @@ public class EventQueueImpl extends MirrorImpl implements EventQueue {
 				JdwpCommandPacket packet = getCommandVM(
 						JdwpCommandPacket.E_COMPOSITE, timeout);
 				initJdwpEventSet(packet);
-				set = EventSetImpl.read(this, packet.dataInStream());
+				set = EventSetImpl.read(this, packet.dataDecoder());
 				handledJdwpEventSet();
 			} while (set.isEmpty());
 			return set;
@@ -10,7 +10,6 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal.event;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -19,6 +18,7 @@ import java.util.List;
 
 import org.eclipse.jdi.internal.MirrorImpl;
 import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
 import org.eclipse.jdi.internal.request.EventRequestImpl;
 
 import com.sun.jdi.InternalException;
@@ -147,7 +147,7 @@ public class EventSetImpl extends MirrorImpl implements EventSet {
 	/**
 	 * @return Returns EventSetImpl that was read from InputStream.
 	 */
-	public static EventSetImpl read(MirrorImpl target, DataInputStream in)
+	public static EventSetImpl read(MirrorImpl target, JdwpReplyDecoder in)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		EventSetImpl eventSet = new EventSetImpl(vmImpl);
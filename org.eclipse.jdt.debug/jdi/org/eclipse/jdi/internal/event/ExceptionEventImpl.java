@@ -10,13 +10,13 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal.event;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 
 import org.eclipse.jdi.internal.LocationImpl;
 import org.eclipse.jdi.internal.MirrorImpl;
 import org.eclipse.jdi.internal.ObjectReferenceImpl;
 import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
 import org.eclipse.jdi.internal.request.RequestID;
 
 import com.sun.jdi.Location;
@@ -50,7 +50,7 @@ public class ExceptionEventImpl extends LocatableEventImpl implements
 	 *         already been read.
 	 */
 	public static ExceptionEventImpl read(MirrorImpl target,
-			RequestID requestID, DataInputStream dataInStream)
+			RequestID requestID, JdwpReplyDecoder dataInStream)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		ExceptionEventImpl event = new ExceptionEventImpl(vmImpl, requestID);
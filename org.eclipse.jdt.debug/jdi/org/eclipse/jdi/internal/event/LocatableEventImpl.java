@@ -10,13 +10,13 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal.event;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 
 import org.eclipse.jdi.internal.LocationImpl;
 import org.eclipse.jdi.internal.MirrorImpl;
 import org.eclipse.jdi.internal.ThreadReferenceImpl;
 import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
 import org.eclipse.jdi.internal.request.RequestID;
 
 import com.sun.jdi.Locatable;
@@ -43,7 +43,7 @@ public abstract class LocatableEventImpl extends EventImpl implements Locatable
 	 * Reads Thread and Location.
 	 */
 	public void readThreadAndLocation(MirrorImpl target,
-			DataInputStream dataInStream) throws IOException {
+			JdwpReplyDecoder dataInStream) throws IOException {
 		fThreadRef = ThreadReferenceImpl.read(target, dataInStream);
 		fLocation = LocationImpl.read(target, dataInStream);
 	}
@@ -10,12 +10,12 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal.event;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 
 import org.eclipse.jdi.internal.MirrorImpl;
 import org.eclipse.jdi.internal.ValueImpl;
 import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
 import org.eclipse.jdi.internal.request.RequestID;
 
 import com.sun.jdi.Method;
@@ -47,7 +47,7 @@ public class MethodExitEventImpl extends LocatableEventImpl implements
 	 *         already been read.
 	 */
 	public static MethodExitEventImpl read(MirrorImpl target,
-			RequestID requestID, DataInputStream dataInStream)
+			RequestID requestID, JdwpReplyDecoder dataInStream)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		MethodExitEventImpl event = new MethodExitEventImpl(vmImpl, requestID);
@@ -60,7 +60,7 @@ public class MethodExitEventImpl extends LocatableEventImpl implements
 	 *         already been read.
 	 */
 	public static MethodExitEventImpl readWithReturnValue(MirrorImpl target,
-			RequestID requestID, DataInputStream dataInStream)
+			RequestID requestID, JdwpReplyDecoder dataInStream)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		MethodExitEventImpl event = new MethodExitEventImpl(vmImpl, requestID);
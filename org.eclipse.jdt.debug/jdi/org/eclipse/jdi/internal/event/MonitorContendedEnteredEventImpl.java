@@ -10,7 +10,6 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal.event;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 
 import org.eclipse.jdi.internal.LocationImpl;
@@ -18,6 +17,7 @@ import org.eclipse.jdi.internal.MirrorImpl;
 import org.eclipse.jdi.internal.ObjectReferenceImpl;
 import org.eclipse.jdi.internal.ThreadReferenceImpl;
 import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
 import org.eclipse.jdi.internal.request.RequestID;
 
 import com.sun.jdi.ObjectReference;
@@ -49,7 +49,7 @@ public class MonitorContendedEnteredEventImpl extends LocatableEventImpl
 	 *         already been read.
 	 */
 	public static MonitorContendedEnteredEventImpl read(MirrorImpl target,
-			RequestID requestID, DataInputStream dataInStream)
+			RequestID requestID, JdwpReplyDecoder dataInStream)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		MonitorContendedEnteredEventImpl event = new MonitorContendedEnteredEventImpl(
@@ -10,7 +10,6 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal.event;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 
 import org.eclipse.jdi.internal.LocationImpl;
@@ -19,6 +18,7 @@ import org.eclipse.jdi.internal.ObjectReferenceImpl;
 import org.eclipse.jdi.internal.ThreadReferenceImpl;
 import org.eclipse.jdi.internal.ValueImpl;
 import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
 import org.eclipse.jdi.internal.request.RequestID;
 
 import com.sun.jdi.LongValue;
@@ -47,7 +47,7 @@ public class MonitorWaitEventImpl extends LocatableEventImpl implements
 	 *         already been read.
 	 */
 	public static MonitorWaitEventImpl read(MirrorImpl target,
-			RequestID requestID, DataInputStream dataInStream)
+			RequestID requestID, JdwpReplyDecoder dataInStream)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		MonitorWaitEventImpl event = new MonitorWaitEventImpl(vmImpl, requestID);
@@ -10,11 +10,11 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal.event;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 
 import org.eclipse.jdi.internal.MirrorImpl;
 import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
 import org.eclipse.jdi.internal.request.RequestID;
 
 import com.sun.jdi.event.StepEvent;
@@ -40,7 +40,7 @@ public class StepEventImpl extends LocatableEventImpl implements StepEvent {
 	 *         already been read.
 	 */
 	public static StepEventImpl read(MirrorImpl target, RequestID requestID,
-			DataInputStream dataInStream) throws IOException {
+			JdwpReplyDecoder dataInStream) throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		StepEventImpl event = new StepEventImpl(vmImpl, requestID);
 		event.readThreadAndLocation(target, dataInStream);
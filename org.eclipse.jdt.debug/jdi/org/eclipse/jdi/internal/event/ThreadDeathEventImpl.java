@@ -10,12 +10,12 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal.event;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 
 import org.eclipse.jdi.internal.MirrorImpl;
 import org.eclipse.jdi.internal.ThreadReferenceImpl;
 import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
 import org.eclipse.jdi.internal.request.RequestID;
 
 import com.sun.jdi.event.ThreadDeathEvent;
@@ -41,7 +41,7 @@ public class ThreadDeathEventImpl extends EventImpl implements ThreadDeathEvent
 	 *         already been read.
 	 */
 	public static ThreadDeathEventImpl read(MirrorImpl target,
-			RequestID requestID, DataInputStream dataInStream)
+			RequestID requestID, JdwpReplyDecoder dataInStream)
 			throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		ThreadDeathEventImpl event = new ThreadDeathEventImpl(vmImpl, requestID);
@@ -10,10 +10,9 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal.event;
 
-import java.io.DataInputStream;
-
 import org.eclipse.jdi.internal.MirrorImpl;
 import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
 import org.eclipse.jdi.internal.request.RequestID;
 
 import com.sun.jdi.event.VMDeathEvent;
@@ -43,7 +42,7 @@ public class VMDeathEventImpl extends EventImpl implements VMDeathEvent {
 	 * @return
 	 */
 	public static VMDeathEventImpl read(MirrorImpl target, RequestID requestID,
-			DataInputStream dataInStream) {
+			JdwpReplyDecoder dataInStream) {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		VMDeathEventImpl event = new VMDeathEventImpl(vmImpl, requestID);
 		return event;
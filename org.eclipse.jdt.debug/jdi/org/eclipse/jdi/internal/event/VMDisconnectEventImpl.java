@@ -10,10 +10,9 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal.event;
 
-import java.io.DataInputStream;
-
 import org.eclipse.jdi.internal.MirrorImpl;
 import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
 import org.eclipse.jdi.internal.request.RequestID;
 
 import com.sun.jdi.event.VMDisconnectEvent;
@@ -44,7 +43,7 @@ public class VMDisconnectEventImpl extends EventImpl implements
 	 * @return the new event
 	 */
 	public static VMDisconnectEventImpl read(MirrorImpl target,
-			RequestID requestID, DataInputStream dataInStream) {
+			RequestID requestID, JdwpReplyDecoder dataInStream) {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		VMDisconnectEventImpl event = new VMDisconnectEventImpl(vmImpl,
 				requestID);
@@ -10,12 +10,12 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal.event;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 
 import org.eclipse.jdi.internal.MirrorImpl;
 import org.eclipse.jdi.internal.ThreadReferenceImpl;
 import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
 import org.eclipse.jdi.internal.request.RequestID;
 
 import com.sun.jdi.event.VMStartEvent;
@@ -41,7 +41,7 @@ public class VMStartEventImpl extends EventImpl implements VMStartEvent {
 	 *         already been read.
 	 */
 	public static VMStartEventImpl read(MirrorImpl target, RequestID requestID,
-			DataInputStream dataInStream) throws IOException {
+			JdwpReplyDecoder dataInStream) throws IOException {
 		VirtualMachineImpl vmImpl = target.virtualMachineImpl();
 		VMStartEventImpl event = new VMStartEventImpl(vmImpl, requestID);
 		event.fThreadRef = ThreadReferenceImpl.read(target, dataInStream);
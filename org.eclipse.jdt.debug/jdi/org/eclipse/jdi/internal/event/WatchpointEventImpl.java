@@ -10,13 +10,13 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal.event;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 
 import org.eclipse.jdi.internal.FieldImpl;
 import org.eclipse.jdi.internal.MirrorImpl;
 import org.eclipse.jdi.internal.ObjectReferenceImpl;
 import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
 import org.eclipse.jdi.internal.request.RequestID;
 
 import com.sun.jdi.Field;
@@ -49,7 +49,7 @@ public abstract class WatchpointEventImpl extends LocatableEventImpl implements
 	 *         already been read.
 	 */
 	public void readWatchpointEventFields(MirrorImpl target,
-			DataInputStream dataInStream) throws IOException {
+			JdwpReplyDecoder dataInStream) throws IOException {
 		readThreadAndLocation(target, dataInStream);
 		fField = FieldImpl.readWithReferenceTypeWithTag(target, dataInStream);
 		fObjectReference = ObjectReferenceImpl.readObjectRefWithTag(target,
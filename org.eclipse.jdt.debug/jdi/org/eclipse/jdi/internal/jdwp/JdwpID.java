@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -66,7 +66,7 @@ public abstract class JdwpID {
 	private static HashMap<Integer, String> fTypeTagMap = null;
 
 	/** Jdwp representation of null ID. */
-	protected static final int VALUE_NULL = 0;
+	public static final int VALUE_NULL = 0;
 
 	/** The value of the ID */
 	protected long fValue = VALUE_NULL;
@@ -109,6 +109,13 @@ public abstract class JdwpID {
 		return fValue;
 	}
 
+	/**
+	 * Sets value of ID.
+	 */
+	public final void setValue(long value) {
+		fValue = value;
+	}
+
 	/**
 	 * @return Returns string representation.
 	 */
@@ -131,13 +138,25 @@ public abstract class JdwpID {
 	 * Reads ID.
 	 */
 	public void read(DataInputStream inStream) throws IOException {
-		fValue = 0;
-		int size = getSize();
+		fValue = readValue(getSize(), inStream);
+	}
+
+	/**
+	 * Reads the value of an ID of the given size, without creating an ID. This
+	 * allows looking up cached mirrors by value before deciding whether an ID
+	 * is needed at all.
+	 *
+	 * @return Returns value that has been read.
+	 */
+	public static long readValue(int size, DataInputStream inStream)
+			throws IOException {
+		long value = 0;
 		for (int i = 0; i < size; i++) {
 			int b = inStream.readUnsignedByte(); // Note that the byte must be
 													// treated as unsigned.
-			fValue = fValue << 8 | b;
+			value = value << 8 | b;
 		}
+		return value;
 	}
 
 	/**
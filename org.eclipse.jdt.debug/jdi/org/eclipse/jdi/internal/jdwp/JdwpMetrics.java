@@ -0,0 +1,252 @@
+/*******************************************************************************
+ * Copyright (c) 2015 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.jdwp;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Counts the requests sent to a VM per JDWP command: how many were sent, how
+ * many failed, how many bytes were sent and received, and how long the VM took
+ * to reply. Recording does not lock, so it is always done.
+ */
+public class JdwpMetrics {
+	/**
+	 * The metrics of one command.
+	 */
+	public static class CommandMetrics {
+		private final int fCommand;
+		private final AtomicLong fErrorCount = new AtomicLong();
+		private final AtomicLong fBytesOut = new AtomicLong();
+		private final AtomicLong fBytesIn = new AtomicLong();
+		private final LatencyHistogram fLatency = new LatencyHistogram();
+
+		CommandMetrics(int command) {
+			fCommand = command;
+		}
+
+		void record(int bytesOut, int bytesIn, long nanos, boolean error) {
+			fBytesOut.addAndGet(bytesOut);
+			fBytesIn.addAndGet(bytesIn);
+			if (error) {
+				fErrorCount.incrementAndGet();
+			}
+			fLatency.record(nanos);
+		}
+
+		/**
+		 * @return Returns the command, made of the command set and the
+		 *         command as in {@link JdwpCommandPacket}.
+		 */
+		public int getCommand() {
+			return fCommand;
+		}
+
+		/**
+		 * @return Returns the number of replies received.
+		 */
+		public long getCount() {
+			return fLatency.getCount();
+		}
+
+		/**
+		 * @return Returns the number of replies that had an error code.
+		 */
+		public long getErrorCount() {
+			return fErrorCount.get();
+		}
+
+		/**
+		 * @return Returns the number of bytes of the command packets.
+		 */
+		public long getBytesOut() {
+			return fBytesOut.get();
+		}
+
+		/**
+		 * @return Returns the number of bytes of the reply packets.
+		 */
+		public long getBytesIn() {
+			return fBytesIn.get();
+		}
+
+		/**
+		 * @return Returns the histogram of the times between sending a
+		 *         command and receiving its reply.
+		 */
+		public LatencyHistogram getLatency() {
+			return fLatency;
+		}
+
+		void reset() {
+			fErrorCount.set(0);
+			fBytesOut.set(0);
+			fBytesIn.set(0);
+			fLatency.reset();
+		}
+	}
+
+	/**
+	 * The metrics per command, indexed by command set then by command, created
+	 * when a command is first recorded.
+	 */
+	private final AtomicReferenceArray<AtomicReferenceArray<CommandMetrics>> fCommandSets = new AtomicReferenceArray<AtomicReferenceArray<CommandMetrics>>(
+			256);
+
+	/**
+	 * Records a request and its reply.
+	 *
+	 * @param command
+	 *            the command, made of the command set and the command
+	 * @param bytesOut
+	 *            length of the command packet
+	 * @param bytesIn
+	 *            length of the reply packet
+	 * @param nanos
+	 *            time between sending the command and receiving the reply
+	 * @param error
+	 *            whether the reply has an error code
+	 */
+	public void record(int command, int bytesOut, int bytesIn, long nanos,
+			boolean error) {
+		int commandSet = (command >>> 8) & 0xFF;
+		AtomicReferenceArray<CommandMetrics> commands = fCommandSets
+				.get(commandSet);
+		if (commands == null) {
+			fCommandSets.compareAndSet(commandSet, null,
+					new AtomicReferenceArray<CommandMetrics>(256));
+			commands = fCommandSets.get(commandSet);
+		}
+		CommandMetrics metrics = commands.get(command & 0xFF);
+		if (metrics == null) {
+			commands.compareAndSet(command & 0xFF, null, new CommandMetrics(
+					command & 0xFFFF));
+			metrics = commands.get(command & 0xFF);
+		}
+		metrics.record(bytesOut, bytesIn, nanos, error);
+	}
+
+	/**
+	 * @return Returns the metrics of the given command, or <code>null</code>
+	 *         if it has not been sent.
+	 */
+	public CommandMetrics getCommandMetrics(int command) {
+		AtomicReferenceArray<CommandMetrics> commands = fCommandSets
+				.get((command >>> 8) & 0xFF);
+		if (commands == null) {
+			return null;
+		}
+		return commands.get(command & 0xFF);
+	}
+
+	/**
+	 * @return Returns the metrics of all the commands that have been sent, in
+	 *         the order of the commands.
+	 */
+	public CommandMetrics[] getCommandMetrics() {
+		List<CommandMetrics> result = new ArrayList<CommandMetrics>();
+		for (int i = 0; i < fCommandSets.length(); i++) {
+			AtomicReferenceArray<CommandMetrics> commands = fCommandSets.get(i);
+			if (commands == null) {
+				continue;
+			}
+			for (int j = 0; j < commands.length(); j++) {
+				CommandMetrics metrics = commands.get(j);
+				if (metrics != null && metrics.getCount() > 0) {
+					result.add(metrics);
+				}
+			}
+		}
+		return result.toArray(new CommandMetrics[result.size()]);
+	}
+
+	/**
+	 * Clears the metrics of all commands.
+	 */
+	public void reset() {
+		CommandMetrics[] all = getCommandMetrics();
+		for (CommandMetrics element : all) {
+			element.reset();
+		}
+	}
+
+	/**
+	 * Column headers of {@link #dump(PrintWriter)}, after the command name.
+	 */
+	private static final String[] COLUMNS = { "count", "errors", "bytes out", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			"bytes in", "mean us", "p50 us", "p90 us", "p99 us", "max us" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$ //$NON-NLS-6$
+
+	/**
+	 * Width of the columns of {@link #dump(PrintWriter)}.
+	 */
+	private static final int NAME_WIDTH = 40;
+	private static final int COLUMN_WIDTH = 12;
+
+	/**
+	 * Writes a table of the metrics of the commands that have been sent, one
+	 * line per command.
+	 *
+	 * @param out
+	 *            the writer
+	 */
+	public void dump(PrintWriter out) {
+		StringBuffer buf = new StringBuffer();
+		append(buf, "command", NAME_WIDTH, false); //$NON-NLS-1$
+		for (String column : COLUMNS) {
+			append(buf, column, COLUMN_WIDTH, true);
+		}
+		out.println(buf.toString());
+		CommandMetrics[] all = getCommandMetrics();
+		for (CommandMetrics metrics : all) {
+			LatencyHistogram latency = metrics.getLatency();
+			String name = JdwpCommandPacket.commandMap().get(
+					new Integer(metrics.getCommand()));
+			if (name == null) {
+				name = Integer.toHexString(metrics.getCommand());
+			}
+			long[] values = { metrics.getCount(), metrics.getErrorCount(),
+					metrics.getBytesOut(), metrics.getBytesIn(),
+					latency.getMean() / 1000,
+					latency.getValueAtPercentile(50) / 1000,
+					latency.getValueAtPercentile(90) / 1000,
+					latency.getValueAtPercentile(99) / 1000,
+					latency.getMax() / 1000 };
+			buf.setLength(0);
+			append(buf, name, NAME_WIDTH, false);
+			for (long value : values) {
+				append(buf, Long.toString(value), COLUMN_WIDTH, true);
+			}
+			out.println(buf.toString());
+		}
+		out.flush();
+	}
+
+	/**
+	 * Appends the given text in a column of the given width.
+	 */
+	private static void append(StringBuffer buf, String text, int width,
+			boolean alignRight) {
+		if (alignRight) {
+			for (int i = text.length(); i < width; i++) {
+				buf.append(' ');
+			}
+			buf.append(text);
+		} else {
+			buf.append(text);
+			for (int i = text.length(); i < width; i++) {
+				buf.append(' ');
+			}
+		}
+	}
+}
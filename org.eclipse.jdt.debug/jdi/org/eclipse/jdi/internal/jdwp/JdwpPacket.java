@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -24,7 +24,7 @@ import java.lang.reflect.Modifier;
 public abstract class JdwpPacket {
 	/** General JDWP constants. */
 	public static final byte FLAG_REPLY_PACKET = (byte) 0x80;
-	protected static final int MIN_PACKET_LENGTH = 11;
+	public static final int MIN_PACKET_LENGTH = 11;
 
 	/** Map with Strings for flag bits. */
 	private static String[] fgFlagStrings = null;
@@ -95,6 +95,18 @@ public abstract class JdwpPacket {
 		return new DataInputStream(new ByteArrayInputStream(new byte[0]));
 	}
 
+	/**
+	 * @return Returns a decoder over the reply data, or over no bytes if there
+	 *         is none.
+	 */
+	public JdwpReplyDecoder dataDecoder() {
+		if (fDataBuf != null) {
+			return new JdwpReplyDecoder(fDataBuf);
+		}
+
+		return new JdwpReplyDecoder(new byte[0]);
+	}
+
 	/**
 	 * Assigns data to packet.
 	 */
@@ -118,18 +130,58 @@ public abstract class JdwpPacket {
 	 * Constructs a JdwpPacket from a byte[].
 	 */
 	public static JdwpPacket build(byte[] bytes) throws IOException {
-		// length (int)
-		int a = (bytes[0] & 0xff) << 24;
-		int b = (bytes[1] & 0xff) << 16;
-		int c = (bytes[2] & 0xff) << 8;
-		int d = (bytes[3] & 0xff) << 0;
-		int packetLength = a + b + c + d;
+		JdwpPacket packet = buildFromHeader(bytes);
+		int dataLength = readLength(bytes) - MIN_PACKET_LENGTH;
+		if (dataLength > 0) {
+			packet.fDataBuf = new byte[dataLength];
+			System.arraycopy(bytes, MIN_PACKET_LENGTH, packet.fDataBuf, 0,
+					dataLength);
+		}
+
+		return packet;
+	}
+
+	/**
+	 * Constructs a JdwpPacket from its header and its data, which have been
+	 * read separately. The data array is used as is, without being copied.
+	 * 
+	 * @param header
+	 *            the first {@link #MIN_PACKET_LENGTH} bytes of the packet
+	 * @param data
+	 *            the data of the packet, or <code>null</code> if there is
+	 *            none
+	 */
+	public static JdwpPacket build(byte[] header, byte[] data)
+			throws IOException {
+		JdwpPacket packet = buildFromHeader(header);
+		if (data != null && data.length > 0) {
+			packet.fDataBuf = data;
+		}
+		return packet;
+	}
+
+	/**
+	 * @return Returns the total packet length stored in the first four bytes
+	 *         of the given packet header.
+	 */
+	public static int readLength(byte[] header) {
+		int a = (header[0] & 0xff) << 24;
+		int b = (header[1] & 0xff) << 16;
+		int c = (header[2] & 0xff) << 8;
+		int d = (header[3] & 0xff) << 0;
+		return a + b + c + d;
+	}
 
+	/**
+	 * Constructs a JdwpPacket without data from the header fields in the
+	 * given bytes.
+	 */
+	private static JdwpPacket buildFromHeader(byte[] bytes) throws IOException {
 		// id (int)
-		a = (bytes[4] & 0xff) << 24;
-		b = (bytes[5] & 0xff) << 16;
-		c = (bytes[6] & 0xff) << 8;
-		d = (bytes[7] & 0xff) << 0;
+		int a = (bytes[4] & 0xff) << 24;
+		int b = (bytes[5] & 0xff) << 16;
+		int c = (bytes[6] & 0xff) << 8;
+		int d = (bytes[7] & 0xff) << 0;
 		int id = a + b + c + d;
 
 		// flags (byte)
@@ -146,47 +198,52 @@ public abstract class JdwpPacket {
 		packet.setId(id);
 		packet.setFlags(flags);
 
-		// Read specific header fields and data.
-		int index = 9;
-		index += packet.readSpecificHeaderFields(bytes, 9);
-		if (packetLength - MIN_PACKET_LENGTH > 0) {
-			packet.fDataBuf = new byte[packetLength - MIN_PACKET_LENGTH];
-			System.arraycopy(bytes, index, packet.fDataBuf, 0,
-					packet.fDataBuf.length);
-		}
-
+		// Read specific header fields.
+		packet.readSpecificHeaderFields(bytes, 9);
 		return packet;
 	}
 
 	public byte[] getPacketAsBytes() throws IOException {
 		int len = getLength();
 		byte[] bytes = new byte[len];
+		int index = writeHeader(bytes, 0);
+
+		if (index < len && fDataBuf != null) {
+			// copy data
+			System.arraycopy(fDataBuf, 0, bytes, index, fDataBuf.length);
+		}
+		return bytes;
+	}
+
+	/**
+	 * Writes the header of this packet into {@link #MIN_PACKET_LENGTH} bytes
+	 * of the given array, starting at the given offset.
+	 * 
+	 * @return Returns the offset following the header.
+	 */
+	public int writeHeader(byte[] bytes, int offset) throws IOException {
+		int len = getLength();
 
 		// convert len to bytes
-		bytes[0] = (byte) (len >>> 24);
-		bytes[1] = (byte) (len >>> 16);
-		bytes[2] = (byte) (len >>> 8);
-		bytes[3] = (byte) (len >>> 0);
+		bytes[offset] = (byte) (len >>> 24);
+		bytes[offset + 1] = (byte) (len >>> 16);
+		bytes[offset + 2] = (byte) (len >>> 8);
+		bytes[offset + 3] = (byte) (len >>> 0);
 
 		// convert id to bytes
 		int id = getId();
-		bytes[4] = (byte) (id >>> 24);
-		bytes[5] = (byte) (id >>> 16);
-		bytes[6] = (byte) (id >>> 8);
-		bytes[7] = (byte) (id >>> 0);
+		bytes[offset + 4] = (byte) (id >>> 24);
+		bytes[offset + 5] = (byte) (id >>> 16);
+		bytes[offset + 6] = (byte) (id >>> 8);
+		bytes[offset + 7] = (byte) (id >>> 0);
 
 		// flags
-		bytes[8] = getFlags();
+		bytes[offset + 8] = getFlags();
 
 		// convert specific header fields
-		int index = 9;
+		int index = offset + 9;
 		index += writeSpecificHeaderFields(bytes, index);
-
-		if (index < len && fDataBuf != null) {
-			// copy data
-			System.arraycopy(fDataBuf, 0, bytes, index, fDataBuf.length);
-		}
-		return bytes;
+		return index;
 	}
 
 	/**
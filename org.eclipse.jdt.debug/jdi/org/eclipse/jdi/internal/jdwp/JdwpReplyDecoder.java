@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2015 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.jdwp;
+
+import java.io.EOFException;
+import java.io.IOException;
+
+/**
+ * A cursor over the data of a JDWP packet, which reads the big-endian values
+ * declared by the JDWP specification directly from the packet bytes.
+ * <p>
+ * Unlike the stream returned by {@link JdwpPacket#dataInStream()}, a decoder
+ * over the packet bytes does not synchronize on each byte, and it is not
+ * allocated again for each value read. The mirrors read their JDWP
+ * representation from the decoder of the packet only.
+ * </p>
+ */
+public class JdwpReplyDecoder {
+	/** The bytes being decoded. */
+	private final byte[] fData;
+	/** Index of the next byte to decode. */
+	private int fPosition;
+
+	/**
+	 * Creates a new decoder that starts at the beginning of the given bytes.
+	 */
+	public JdwpReplyDecoder(byte[] data) {
+		fData = data;
+	}
+
+	/**
+	 * Advances over the given number of bytes.
+	 *
+	 * @return Returns the index of the first byte that was advanced over.
+	 */
+	private int advance(int count) throws IOException {
+		int position = fPosition;
+		if (count < 0) {
+			throw new IOException("Negative length: " + count); //$NON-NLS-1$
+		}
+		if (count > fData.length - position) {
+			throw new EOFException();
+		}
+		fPosition = position + count;
+		return position;
+	}
+
+	public byte readByte() throws IOException {
+		return fData[advance(1)];
+	}
+
+	public boolean readBoolean() throws IOException {
+		return fData[advance(1)] != 0;
+	}
+
+	public short readShort() throws IOException {
+		int i = advance(2);
+		return (short) ((fData[i] << 8) | (fData[i + 1] & 0xFF));
+	}
+
+	public char readChar() throws IOException {
+		return (char) readShort();
+	}
+
+	public int readInt() throws IOException {
+		int i = advance(4);
+		byte[] data = fData;
+		return (data[i] << 24) | ((data[i + 1] & 0xFF) << 16)
+				| ((data[i + 2] & 0xFF) << 8) | (data[i + 3] & 0xFF);
+	}
+
+	public long readLong() throws IOException {
+		int high = readInt();
+		int low = readInt();
+		return ((long) high << 32) | (low & 0xFFFFFFFFL);
+	}
+
+	public float readFloat() throws IOException {
+		return Float.intBitsToFloat(readInt());
+	}
+
+	public double readDouble() throws IOException {
+		return Double.longBitsToDouble(readLong());
+	}
+
+	/**
+	 * Reads the value of an ID of the given size.
+	 *
+	 * @see JdwpID#readValue(int, java.io.DataInputStream)
+	 */
+	public long readID(int size) throws IOException {
+		int i = advance(size);
+		long value = 0;
+		for (int end = i + size; i < end; i++) {
+			value = value << 8 | (fData[i] & 0xFF);
+		}
+		return value;
+	}
+
+	/**
+	 * Reads the given number of bytes.
+	 */
+	public byte[] readBytes(int length) throws IOException {
+		int offset = advance(length);
+		byte[] bytes = new byte[length];
+		System.arraycopy(fData, offset, bytes, 0, length);
+		return bytes;
+	}
+
+	/**
+	 * Reads a String whose length has 4 bytes, as written by
+	 * {@link JdwpString#write(String, java.io.DataOutputStream)}. Only strings
+	 * that contain other than ASCII characters are decoded as modified UTF-8.
+	 */
+	public String readString() throws IOException {
+		int utfSize = readInt();
+		if (utfSize == 0) {
+			return ""; //$NON-NLS-1$
+		}
+		int offset = advance(utfSize);
+		byte[] data = fData;
+		char[] chars = new char[utfSize];
+		for (int i = 0; i < utfSize; i++) {
+			byte b = data[offset + i];
+			if (b <= 0) {
+				return JdwpString.decode(data, offset, utfSize);
+			}
+			chars[i] = (char) b;
+		}
+		return new String(chars);
+	}
+}
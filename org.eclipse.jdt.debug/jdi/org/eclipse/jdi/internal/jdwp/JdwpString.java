@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -27,11 +27,24 @@ public class JdwpString {
 	 */
 	public static String read(DataInputStream in) throws IOException {
 		int utfSize = in.readInt();
+		if (utfSize < 0) {
+			throw new IOException("Negative length: " + utfSize); //$NON-NLS-1$
+		}
 		byte utfBytes[] = new byte[utfSize];
 		in.readFully(utfBytes);
+		return decode(utfBytes, 0, utfSize);
+	}
+
+	/**
+	 * Decodes the given number of bytes of modified UTF-8 starting at the
+	 * given offset.
+	 */
+	public static String decode(byte[] utfBytes, int offset, int utfSize)
+			throws UTFDataFormatException {
 		/* Guess at buffer size */
 		StringBuffer strBuffer = new StringBuffer(utfSize / 3 * 2);
-		for (int i = 0; i < utfSize;) {
+		int end = offset + utfSize;
+		for (int i = offset; i < end;) {
 			int a = utfBytes[i] & 0xFF;
 			if ((a >> 4) < 12) {
 				strBuffer.append((char) a);
@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * Copyright (c) 2015 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.jdwp;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram of durations in nanoseconds, which can be recorded into by
+ * several threads at once without locking.
+ * <p>
+ * Durations are counted in buckets whose width grows with the duration: each
+ * power of two is split in {@link #SUB_BUCKET_COUNT} buckets of equal width, so
+ * the value reported for a duration is within about 6% of the duration. Up to
+ * {@link #SUB_BUCKET_COUNT} * 2 nanoseconds every duration has a bucket of its
+ * own. Durations longer than {@link #MAX_VALUE} are counted in the last bucket.
+ * </p>
+ */
+public class LatencyHistogram {
+	/**
+	 * Number of buckets each power of two is split in, must be a power of two.
+	 */
+	public static final int SUB_BUCKET_COUNT = 16;
+
+	/**
+	 * Number of bits of a duration that select its bucket within its power of
+	 * two.
+	 */
+	private static final int SUB_BUCKET_BITS = 4;
+
+	/**
+	 * Longest duration that has a bucket of its own, about 36 minutes.
+	 */
+	public static final long MAX_VALUE = (1L << 41) - 1;
+
+	/**
+	 * The counts of the buckets.
+	 */
+	private final AtomicLongArray fCounts = new AtomicLongArray(
+			bucketIndex(MAX_VALUE) + 1);
+
+	private final AtomicLong fTotalCount = new AtomicLong();
+	private final AtomicLong fTotalValue = new AtomicLong();
+	private final AtomicLong fMaxValue = new AtomicLong();
+
+	/**
+	 * @return Returns the index of the bucket of the given duration.
+	 */
+	static int bucketIndex(long value) {
+		if (value < 2 * SUB_BUCKET_COUNT) {
+			return (int) Math.max(value, 0);
+		}
+		if (value > MAX_VALUE) {
+			value = MAX_VALUE;
+		}
+		int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+		return shift * SUB_BUCKET_COUNT + (int) (value >>> shift);
+	}
+
+	/**
+	 * @return Returns the shortest duration counted in the bucket with the
+	 *         given index.
+	 */
+	static long lowestValue(int index) {
+		if (index < 2 * SUB_BUCKET_COUNT) {
+			return index;
+		}
+		int shift = index / SUB_BUCKET_COUNT - 1;
+		long subBucket = index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+		return subBucket << shift;
+	}
+
+	/**
+	 * @return Returns the longest duration counted in the bucket with the
+	 *         given index.
+	 */
+	static long highestValue(int index) {
+		return lowestValue(index + 1) - 1;
+	}
+
+	/**
+	 * Counts the given duration.
+	 *
+	 * @param nanos
+	 *            the duration in nanoseconds
+	 */
+	public void record(long nanos) {
+		fCounts.incrementAndGet(bucketIndex(nanos));
+		fTotalCount.incrementAndGet();
+		fTotalValue.addAndGet(nanos);
+		long max = fMaxValue.get();
+		while (nanos > max && !fMaxValue.compareAndSet(max, nanos)) {
+			max = fMaxValue.get();
+		}
+	}
+
+	/**
+	 * @return Returns the number of durations counted.
+	 */
+	public long getCount() {
+		return fTotalCount.get();
+	}
+
+	/**
+	 * @return Returns the sum of the durations counted, in nanoseconds.
+	 */
+	public long getTotal() {
+		return fTotalValue.get();
+	}
+
+	/**
+	 * @return Returns the longest duration counted, in nanoseconds.
+	 */
+	public long getMax() {
+		return fMaxValue.get();
+	}
+
+	/**
+	 * @return Returns the mean of the durations counted, in nanoseconds.
+	 */
+	public long getMean() {
+		long count = fTotalCount.get();
+		return count == 0 ? 0 : fTotalValue.get() / count;
+	}
+
+	/**
+	 * Returns the duration that the given percentage of the durations counted
+	 * do not exceed, as the highest duration of its bucket.
+	 *
+	 * @param percentile
+	 *            the percentage, between 0 and 100
+	 * @return Returns the duration in nanoseconds, or 0 if nothing has been
+	 *         counted.
+	 */
+	public long getValueAtPercentile(double percentile) {
+		long count = 0;
+		int length = fCounts.length();
+		long[] counts = new long[length];
+		for (int i = 0; i < length; i++) {
+			counts[i] = fCounts.get(i);
+			count += counts[i];
+		}
+		if (count == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+		long seen = 0;
+		for (int i = 0; i < length; i++) {
+			seen += counts[i];
+			if (seen >= rank) {
+				return Math.min(highestValue(i), getMax());
+			}
+		}
+		return getMax();
+	}
+
+	/**
+	 * Clears the counts.
+	 */
+	public void reset() {
+		for (int i = 0; i < fCounts.length(); i++) {
+			fCounts.set(i, 0);
+		}
+		fTotalCount.set(0);
+		fTotalValue.set(0);
+		fMaxValue.set(0);
+	}
+}
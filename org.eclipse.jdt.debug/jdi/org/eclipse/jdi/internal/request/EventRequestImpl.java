@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,7 +11,6 @@
 package org.eclipse.jdi.internal.request;
 
 import java.io.ByteArrayOutputStream;
-import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.lang.reflect.Field;
@@ -28,6 +27,7 @@ import org.eclipse.jdi.internal.ThreadReferenceImpl;
 import org.eclipse.jdi.internal.VirtualMachineImpl;
 import org.eclipse.jdi.internal.event.EventImpl;
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 
 import com.sun.jdi.InternalException;
@@ -208,23 +208,14 @@ public abstract class EventRequestImpl extends MirrorImpl implements
 
 		initJdwpRequest();
 		try {
-			ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
-			DataOutputStream outData = new DataOutputStream(outBytes);
-			writeByte(eventKind(),
-					"event kind", EventImpl.eventKindMap(), outData); //$NON-NLS-1$
-			fRequestID.write(this, outData);
-
 			JdwpReplyPacket replyPacket = requestVM(JdwpCommandPacket.ER_CLEAR,
-					outBytes);
+					clearCommandData());
 			switch (replyPacket.errorCode()) {
 			case JdwpReplyPacket.NOT_FOUND:
 				throw new InvalidRequestStateException();
 			}
 			defaultReplyErrorHandler(replyPacket.errorCode());
-
-			virtualMachineImpl().eventRequestManagerImpl()
-					.removeRequestIDMapping(this);
-			fRequestID = null;
+			cleared();
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
 		} finally {
@@ -241,22 +232,9 @@ public abstract class EventRequestImpl extends MirrorImpl implements
 
 		initJdwpRequest();
 		try {
-			ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
-			DataOutputStream outData = new DataOutputStream(outBytes);
-			writeByte(eventKind(),
-					"event kind", EventImpl.eventKindMap(), outData); //$NON-NLS-1$
-			writeByte(
-					suspendPolicyJDWP(),
-					"suspend policy", EventRequestImpl.suspendPolicyMap(), outData); //$NON-NLS-1$
-			writeInt(modifierCount(), "modifiers", outData); //$NON-NLS-1$
-			writeModifiers(outData);
-
 			JdwpReplyPacket replyPacket = requestVM(JdwpCommandPacket.ER_SET,
-					outBytes);
-			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
-			fRequestID = RequestID.read(this, replyData);
-			virtualMachineImpl().eventRequestManagerImpl().addRequestIDMapping(this);
+					setCommandData());
+			set(replyPacket);
 		} catch (IOException e) {
 			defaultIOExceptionHandler(e);
 		} finally {
@@ -264,6 +242,56 @@ public abstract class EventRequestImpl extends MirrorImpl implements
 		}
 	}
 
+	/**
+	 * @return Returns the data of the JDWP Event Request Clear command that
+	 *         disables this request.
+	 */
+	synchronized byte[] clearCommandData() throws IOException {
+		ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+		DataOutputStream outData = new DataOutputStream(outBytes);
+		writeByte(eventKind(),
+				"event kind", EventImpl.eventKindMap(), outData); //$NON-NLS-1$
+		fRequestID.write(this, outData);
+		return outBytes.toByteArray();
+	}
+
+	/**
+	 * Forgets the request ID, once the request has been cleared in the VM.
+	 */
+	synchronized void cleared() {
+		virtualMachineImpl().eventRequestManagerImpl()
+				.removeRequestIDMapping(this);
+		fRequestID = null;
+	}
+
+	/**
+	 * @return Returns the data of the JDWP Event Request Set command that
+	 *         enables this request.
+	 */
+	synchronized byte[] setCommandData() throws IOException {
+		ByteArrayOutputStream outBytes = new ByteArrayOutputStream();
+		DataOutputStream outData = new DataOutputStream(outBytes);
+		writeByte(eventKind(),
+				"event kind", EventImpl.eventKindMap(), outData); //$NON-NLS-1$
+		writeByte(
+				suspendPolicyJDWP(),
+				"suspend policy", EventRequestImpl.suspendPolicyMap(), outData); //$NON-NLS-1$
+		writeInt(modifierCount(), "modifiers", outData); //$NON-NLS-1$
+		writeModifiers(outData);
+		return outBytes.toByteArray();
+	}
+
+	/**
+	 * Reads the request ID from the reply to the JDWP Event Request Set
+	 * command.
+	 */
+	synchronized void set(JdwpReplyPacket replyPacket) throws IOException {
+		defaultReplyErrorHandler(replyPacket.errorCode());
+		JdwpReplyDecoder replyData = replyPacket.dataDecoder();
+		fRequestID = RequestID.read(this, replyData);
+		virtualMachineImpl().eventRequestManagerImpl().addRequestIDMapping(this);
+	}
+
 	/**
 	 * Clear all breakpoints (used by EventRequestManager).
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,36 +11,28 @@
 package org.eclipse.jdi.internal.request;
 
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Enumeration;
-import java.util.Hashtable;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.jdi.internal.FieldImpl;
 import org.eclipse.jdi.internal.LocationImpl;
 import org.eclipse.jdi.internal.MirrorImpl;
 import org.eclipse.jdi.internal.ReferenceTypeImpl;
 import org.eclipse.jdi.internal.ThreadReferenceImpl;
 import org.eclipse.jdi.internal.VirtualMachineImpl;
-import org.eclipse.jdi.internal.event.AccessWatchpointEventImpl;
-import org.eclipse.jdi.internal.event.BreakpointEventImpl;
-import org.eclipse.jdi.internal.event.ClassPrepareEventImpl;
-import org.eclipse.jdi.internal.event.ClassUnloadEventImpl;
 import org.eclipse.jdi.internal.event.EventImpl;
-import org.eclipse.jdi.internal.event.ExceptionEventImpl;
-import org.eclipse.jdi.internal.event.MethodEntryEventImpl;
-import org.eclipse.jdi.internal.event.MethodExitEventImpl;
-import org.eclipse.jdi.internal.event.ModificationWatchpointEventImpl;
-import org.eclipse.jdi.internal.event.MonitorContendedEnterEventImpl;
-import org.eclipse.jdi.internal.event.MonitorContendedEnteredEventImpl;
-import org.eclipse.jdi.internal.event.MonitorWaitEventImpl;
-import org.eclipse.jdi.internal.event.MonitorWaitedEventImpl;
-import org.eclipse.jdi.internal.event.StepEventImpl;
-import org.eclipse.jdi.internal.event.ThreadDeathEventImpl;
-import org.eclipse.jdi.internal.event.ThreadStartEventImpl;
-import org.eclipse.jdi.internal.event.VMDeathEventImpl;
+import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
+import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.osgi.util.NLS;
 
 import com.sun.jdi.Field;
@@ -79,21 +71,35 @@ public class EventRequestManagerImpl extends MirrorImpl implements EventRequestM
 
 	private static class EventRequestType<RT extends EventRequest> {
 
-		private ArrayList<RT> requests;
-		private Hashtable<RequestID, RT> enabledrequests;
+		private LinkedHashSet<RT> requests;
+		/** Copy of the requests, <code>null</code> when it has to be made again. */
+		private List<RT> requestList;
 
 		private EventRequestType() {
-			requests= new ArrayList<RT>();
-			enabledrequests= new Hashtable<RequestID, RT>();
+			requests= new LinkedHashSet<RT>();
 		}
 		
-		public List<RT> getUnmodifiableList() {
-			return Collections.unmodifiableList(requests);
+		public synchronized void add(RT request) {
+			requests.add(request);
+			requestList= null;
 		}
 		
-		public void clear() {
+		public synchronized void remove(EventRequest request) {
+			if (requests.remove(request)) {
+				requestList= null;
+			}
+		}
+		
+		public synchronized List<RT> getUnmodifiableList() {
+			if (requestList == null) {
+				requestList= Collections.unmodifiableList(new ArrayList<RT>(requests));
+			}
+			return requestList;
+		}
+		
+		public synchronized void clear() {
 			requests.clear();
-			enabledrequests.clear();
+			requestList= null;
 		}
 	}
 	
@@ -114,6 +120,17 @@ public class EventRequestManagerImpl extends MirrorImpl implements EventRequestM
 	private EventRequestType<MonitorWaitedRequest> MONITOR_WAITED_TYPE= new EventRequestType<MonitorWaitedRequest>();
 	private EventRequestType<MonitorWaitRequest> MONITOR_WAIT_TYPE= new EventRequestType<MonitorWaitRequest>();
 
+	/**
+	 * The enabled requests of all kinds, by event kind and request ID, as the
+	 * VM scopes request IDs by event kind.
+	 */
+	private Map<EnabledRequestKey, EventRequestImpl> fEnabledRequests= new ConcurrentHashMap<EnabledRequestKey, EventRequestImpl>();
+
+	/**
+	 * The breakpoint requests by the declaring type of their location.
+	 */
+	private Map<ReferenceType, List<BreakpointRequest>> fBreakpointRequestsByType= new HashMap<ReferenceType, List<BreakpointRequest>>();
+
 	/**
 	 * Creates new EventRequestManager.
 	 */
@@ -128,7 +145,7 @@ public class EventRequestManagerImpl extends MirrorImpl implements EventRequestM
 		FieldImpl fieldImpl = (FieldImpl)field;
 		AccessWatchpointRequestImpl req = new AccessWatchpointRequestImpl(virtualMachineImpl());
 		req.addFieldFilter(fieldImpl);
-		ACCESS_WATCHPOINT_TYPE.requests.add(req);
+		ACCESS_WATCHPOINT_TYPE.add(req);
 		return req;
 	}
  
@@ -139,7 +156,16 @@ public class EventRequestManagerImpl extends MirrorImpl implements EventRequestM
 		LocationImpl locImpl = (LocationImpl)location;
 		BreakpointRequestImpl req = new BreakpointRequestImpl(virtualMachineImpl());
 		req.addLocationFilter(locImpl);
-		BREAKPOINT_TYPE.requests.add(req);
+		BREAKPOINT_TYPE.add(req);
+		synchronized (fBreakpointRequestsByType) {
+			ReferenceType type= locImpl.declaringType();
+			List<BreakpointRequest> requests= fBreakpointRequestsByType.get(type);
+			if (requests == null) {
+				requests= new ArrayList<BreakpointRequest>(2);
+				fBreakpointRequestsByType.put(type, requests);
+			}
+			requests.add(req);
+		}
 		return req;
 	}
  
@@ -148,7 +174,7 @@ public class EventRequestManagerImpl extends MirrorImpl implements EventRequestM
 	 */
 	public ClassPrepareRequest createClassPrepareRequest() {
 		ClassPrepareRequestImpl req = new ClassPrepareRequestImpl(virtualMachineImpl());
-		CLASS_PREPARE_TYPE.requests.add(req);
+		CLASS_PREPARE_TYPE.add(req);
 		return req;
 	} 
 	
@@ -157,7 +183,7 @@ public class EventRequestManagerImpl extends MirrorImpl implements EventRequestM
 	 */
 	public ClassUnloadRequest createClassUnloadRequest() {
 		ClassUnloadRequestImpl req = new ClassUnloadRequestImpl(virtualMachineImpl());
-		CLASS_UNLOAD_TYPE.requests.add(req);
+		CLASS_UNLOAD_TYPE.add(req);
 		return req;
 	} 
  	 
@@ -168,7 +194,7 @@ public class EventRequestManagerImpl extends MirrorImpl implements EventRequestM
 		ReferenceTypeImpl refTypeImpl = (ReferenceTypeImpl)refType;
 		ExceptionRequestImpl req = new ExceptionRequestImpl(virtualMachineImpl());
 		req.addExceptionFilter(refTypeImpl, notifyCaught, notifyUncaught);
-		EXCEPTION_TYPE.requests.add(req);
+		EXCEPTION_TYPE.add(req);
 		return req;
 	} 
 
@@ -177,7 +203,7 @@ public class EventRequestManagerImpl extends MirrorImpl implements EventRequestM
 	 */
 	public MethodEntryRequest createMethodEntryRequest() {
 		MethodEntryRequestImpl req = new MethodEntryRequestImpl(virtualMachineImpl());
-		METHOD_ENTRY_TYPE.requests.add(req);
+		METHOD_ENTRY_TYPE.add(req);
 		return req;
 	} 
 
@@ -186,7 +212,7 @@ public class EventRequestManagerImpl extends MirrorImpl implements EventRequestM
 	 */
 	public MethodExitRequest createMethodExitRequest() {
 		MethodExitRequestImpl req = new MethodExitRequestImpl(virtualMachineImpl());
-		METHOD_EXIT_TYPE.requests.add(req);
+		METHOD_EXIT_TYPE.add(req);
 		return req;
 	} 
 	
@@ -195,7 +221,7 @@ public class EventRequestManagerImpl extends MirrorImpl implements EventRequestM
 	 */
 	public MonitorContendedEnteredRequest createMonitorContendedEnteredRequest() {
 		MonitorContendedEnteredRequestImpl req = new MonitorContendedEnteredRequestImpl(virtualMachineImpl());
-		MONITOR_CONTENDED_ENTERED_TYPE.requests.add(req);
+		MONITOR_CONTENDED_ENTERED_TYPE.add(req);
 		return req;
 	}
 	
@@ -204,7 +230,7 @@ public class EventRequestManagerImpl extends MirrorImpl implements EventRequestM
 	 */
 	public MonitorContendedEnterRequest createMonitorContendedEnterRequest() {
 		MonitorContendedEnterRequestImpl req = new MonitorContendedEnterRequestImpl(virtualMachineImpl());
-		MONITOR_CONTENDED_ENTER_TYPE.requests.add(req);
+		MONITOR_CONTENDED_ENTER_TYPE.add(req);
 		return req;
 	}
 	
@@ -213,7 +239,7 @@ public class EventRequestManagerImpl extends MirrorImpl implements EventRequestM
 	 */
 	public MonitorWaitedRequest createMonitorWaitedRequest() {
 		MonitorWaitedRequestImpl req = new MonitorWaitedRequestImpl(virtualMachineImpl());
-		MONITOR_WAITED_TYPE.requests.add(req);
+		MONITOR_WAITED_TYPE.add(req);
 		return req;
 	}
 	
@@ -222,7 +248,7 @@ public class EventRequestManagerImpl extends MirrorImpl implements EventRequestM
 	 */
 	public MonitorWaitRequest createMonitorWaitRequest() {
 		MonitorWaitRequestImpl req = new MonitorWaitRequestImpl(virtualMachineImpl());
-		MONITOR_WAIT_TYPE.requests.add(req);
+		MONITOR_WAIT_TYPE.add(req);
 		return req;
 	}
 	
@@ -233,7 +259,7 @@ public class EventRequestManagerImpl extends MirrorImpl implements EventRequestM
 		FieldImpl fieldImpl = (FieldImpl)field;
 		ModificationWatchpointRequestImpl req = new ModificationWatchpointRequestImpl(virtualMachineImpl());
 		req.addFieldFilter(fieldImpl);
-		MODIFICATION_WATCHPOINT_TYPE.requests.add(req);
+		MODIFICATION_WATCHPOINT_TYPE.add(req);
 		return req;
 	} 
 	 
@@ -244,7 +270,7 @@ public class EventRequestManagerImpl extends MirrorImpl implements EventRequestM
 	   	ThreadReferenceImpl threadImpl = (ThreadReferenceImpl)thread;
 		StepRequestImpl req = new StepRequestImpl(virtualMachineImpl());		
 		req.addStepFilter(threadImpl, size, depth);
-		STEP_TYPE.requests.add(req);
+		STEP_TYPE.add(req);
 		return req;
 	} 
 
@@ -253,7 +279,7 @@ public class EventRequestManagerImpl extends MirrorImpl implements EventRequestM
 	 */
 	public ThreadDeathRequest createThreadDeathRequest() {
 		ThreadDeathRequestImpl req = new ThreadDeathRequestImpl(virtualMachineImpl());
-		THREAD_DEATH_TYPE.requests.add(req);
+		THREAD_DEATH_TYPE.add(req);
 		return req;
 	} 
 
@@ -262,7 +288,7 @@ public class EventRequestManagerImpl extends MirrorImpl implements EventRequestM
 	 */
 	public ThreadStartRequest createThreadStartRequest() {
 		ThreadStartRequestImpl req = new ThreadStartRequestImpl(virtualMachineImpl());
-		THREAD_START_TYPE.requests.add(req);
+		THREAD_START_TYPE.add(req);
 		return req;
 	}
 	
@@ -271,7 +297,7 @@ public class EventRequestManagerImpl extends MirrorImpl implements EventRequestM
 	 */
 	public VMDeathRequest createVMDeathRequest() {
 		VMDeathRequestImpl req = new VMDeathRequestImpl(virtualMachineImpl());
-		VM_DEATH_TYPE.requests.add(req);
+		VM_DEATH_TYPE.add(req);
 		return req;
 	}	
 
@@ -286,7 +312,7 @@ public class EventRequestManagerImpl extends MirrorImpl implements EventRequestM
 		// The size is ignored and the depth will always be written as HCR_STEP_DEPTH_REENTER_JDWP.
 		req.addStepFilter(threadImpl, StepRequest.STEP_MIN, 0);
 		// Since this is a special case of a step request, we use the same request list.
-		STEP_TYPE.requests.add(req);
+		STEP_TYPE.add(req);
 		return req;
 	}
 	
@@ -327,11 +353,11 @@ public class EventRequestManagerImpl extends MirrorImpl implements EventRequestM
 	 * Checks if a steprequest is for the given thread is already enabled.
 	 */ 
 	boolean existsEnabledStepRequest(ThreadReferenceImpl threadImpl) {
-		Enumeration<StepRequest> enumeration = STEP_TYPE.enabledrequests.elements();
+		Iterator<StepRequest> iter = STEP_TYPE.getUnmodifiableList().iterator();
 		StepRequestImpl step;
-		while (enumeration.hasMoreElements()) {
-			step = (StepRequestImpl)enumeration.nextElement();
-			if (step.thread() == threadImpl)
+		while (iter.hasNext()) {
+			step = (StepRequestImpl)iter.next();
+			if (step.isEnabled() && step.thread() == threadImpl)
 				return true;
 		}
 		return false;
@@ -342,7 +368,14 @@ public class EventRequestManagerImpl extends MirrorImpl implements EventRequestM
 	 */
 	public void deleteAllBreakpoints() {
 		EventRequestImpl.clearAllBreakpoints(this);
+		Iterator<BreakpointRequest> iter = BREAKPOINT_TYPE.getUnmodifiableList().iterator();
+		while (iter.hasNext()) {
+			removeRequestIDMapping((EventRequestImpl)iter.next());
+		}
 		BREAKPOINT_TYPE.clear();
+		synchronized (fBreakpointRequestsByType) {
+			fBreakpointRequestsByType.clear();
+		}
 	}
  
 	/**
@@ -351,10 +384,16 @@ public class EventRequestManagerImpl extends MirrorImpl implements EventRequestM
 	private void deleteEventRequest(EventRequestType<? extends EventRequest> type, EventRequestImpl req) throws VMMismatchException {
 		// Remove request from list of requests and from the mapping of requestIDs to requests.
 		checkVM(req);
-		type.requests.remove(req);
-		RequestID id = req.requestID();
-		if(id != null) {
-			type.enabledrequests.remove(id);
+		type.remove(req);
+		removeRequestIDMapping(req);
+		if (req instanceof BreakpointRequestImpl) {
+			synchronized (fBreakpointRequestsByType) {
+				ReferenceType declaringType= ((BreakpointRequestImpl)req).location().declaringType();
+				List<BreakpointRequest> requests= fBreakpointRequestsByType.get(declaringType);
+				if (requests != null && requests.remove(req) && requests.isEmpty()) {
+					fBreakpointRequestsByType.remove(declaringType);
+				}
+			}
 		}
 	}
 	
@@ -368,6 +407,14 @@ public class EventRequestManagerImpl extends MirrorImpl implements EventRequestM
 		} catch (InvalidRequestStateException exception) {
 			// The event has already been removed from the VM.
 		}
+		removeEventRequest(req);
+	}
+
+	/**
+	 * Removes an EventRequest from the requests of its kind, without clearing
+	 * it in the VM.
+	 */
+	private void removeEventRequest(EventRequest req) {
 		if (req instanceof AccessWatchpointRequestImpl) {
 			deleteEventRequest(ACCESS_WATCHPOINT_TYPE, (AccessWatchpointRequestImpl) req);
 		} else if (req instanceof BreakpointRequestImpl) {
@@ -407,10 +454,121 @@ public class EventRequestManagerImpl extends MirrorImpl implements EventRequestM
 	 * @see com.sun.jdi.request.EventRequestManager#deleteEventRequests(java.util.List)
 	 */
 	public void deleteEventRequests(List<? extends EventRequest> requests) throws VMMismatchException {
+		// clear the enabled requests in the VM in one batch
+		RuntimeException failure = null;
+		try {
+			disableEventRequests(requests);
+		} catch (RuntimeException e) {
+			failure = e;
+		}
+		// remove all the requests, even if some could not be cleared
 		Iterator<? extends EventRequest> iter = requests.iterator();
 		while(iter.hasNext()) {
-			Object obj = iter.next();
-			deleteEventRequest((EventRequest)obj);
+			try {
+				removeEventRequest(iter.next());
+			} catch (RuntimeException e) {
+				if (failure == null) {
+					failure = e;
+				}
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	/**
+	 * Enables the given requests. The requests that are not enabled yet are
+	 * set in the VM in one batch of JDWP commands, which costs a single round
+	 * trip. If some of the requests cannot be enabled, the others still are
+	 * and the first failure is thrown.
+	 * 
+	 * @param requests the requests to enable
+	 * @throws VMMismatchException if a request belongs to another VM
+	 */
+	public void enableEventRequests(List<? extends EventRequest> requests) throws VMMismatchException {
+		List<EventRequestImpl> batch = new ArrayList<EventRequestImpl>(requests.size());
+		Iterator<? extends EventRequest> iter = requests.iterator();
+		while(iter.hasNext()) {
+			EventRequestImpl req = (EventRequestImpl)iter.next();
+			checkVM(req);
+			if (req instanceof ReenterStepRequestImpl) {
+				// not set with the Event Request Set command
+				req.enable();
+			} else if (!req.isEnabled()) {
+				batch.add(req);
+			}
+		}
+		requestBatch(JdwpCommandPacket.ER_SET, batch);
+	}
+
+	/**
+	 * Disables the given requests. The requests that are enabled are cleared
+	 * in the VM in one batch of JDWP commands, which costs a single round
+	 * trip. Requests that the VM no longer knows are considered disabled. If
+	 * some of the requests cannot be disabled, the others still are and the
+	 * first failure is thrown.
+	 * 
+	 * @param requests the requests to disable
+	 * @throws VMMismatchException if a request belongs to another VM
+	 */
+	public void disableEventRequests(List<? extends EventRequest> requests) throws VMMismatchException {
+		List<EventRequestImpl> batch = new ArrayList<EventRequestImpl>(requests.size());
+		Iterator<? extends EventRequest> iter = requests.iterator();
+		while(iter.hasNext()) {
+			EventRequestImpl req = (EventRequestImpl)iter.next();
+			checkVM(req);
+			if (req.isEnabled()) {
+				batch.add(req);
+			}
+		}
+		requestBatch(JdwpCommandPacket.ER_CLEAR, batch);
+	}
+
+	/**
+	 * Sends the Event Request Set or Clear command for each of the given
+	 * requests in one batch, and updates the requests from the replies.
+	 */
+	private void requestBatch(int command, List<EventRequestImpl> requests) {
+		int size = requests.size();
+		if (size == 0) {
+			return;
+		}
+		initJdwpRequest();
+		try {
+			int[] commands = new int[size];
+			byte[][] data = new byte[size][];
+			for (int i = 0; i < size; i++) {
+				EventRequestImpl req = requests.get(i);
+				commands[i] = command;
+				data[i] = command == JdwpCommandPacket.ER_SET ? req.setCommandData() : req.clearCommandData();
+			}
+			JdwpReplyPacket[] replies = requestVM(commands, data);
+			RuntimeException failure = null;
+			for (int i = 0; i < size; i++) {
+				EventRequestImpl req = requests.get(i);
+				try {
+					if (command == JdwpCommandPacket.ER_SET) {
+						req.set(replies[i]);
+					} else {
+						if (replies[i].errorCode() != JdwpReplyPacket.NOT_FOUND) {
+							defaultReplyErrorHandler(replies[i].errorCode());
+						}
+						req.cleared();
+					}
+				} catch (RuntimeException e) {
+					if (failure == null) {
+						failure = e;
+					}
+				}
+			}
+			if (failure != null) {
+				throw failure;
+			}
+		} catch (IOException e) {
+			defaultIOExceptionHandler(e);
+		} finally {
+			handledJdwpRequest();
 		}
 	}
 
@@ -428,6 +586,35 @@ public class EventRequestManagerImpl extends MirrorImpl implements EventRequestM
 		return BREAKPOINT_TYPE.getUnmodifiableList();
 	}
 
+	/**
+	 * @return Returns the breakpoint requests whose location is in a method
+	 *         declared by the given type.
+	 */
+	public List<BreakpointRequest> breakpointRequests(ReferenceType type) {
+		synchronized (fBreakpointRequestsByType) {
+			List<BreakpointRequest> requests= fBreakpointRequestsByType.get(type);
+			if (requests == null) {
+				return Collections.emptyList();
+			}
+			return new ArrayList<BreakpointRequest>(requests);
+		}
+	}
+
+	/**
+	 * @return Returns the breakpoint requests at the given location.
+	 */
+	public List<BreakpointRequest> breakpointRequests(Location location) {
+		List<BreakpointRequest> result= new ArrayList<BreakpointRequest>(1);
+		Iterator<BreakpointRequest> iter= breakpointRequests(location.declaringType()).iterator();
+		while (iter.hasNext()) {
+			BreakpointRequest req= iter.next();
+			if (req.location().equals(location)) {
+				result.add(req);
+			}
+		}
+		return result;
+	}
+
 	/* (non-Javadoc)
 	 * @see com.sun.jdi.request.EventRequestManager#classPrepareRequests()
 	 */
@@ -526,39 +713,13 @@ public class EventRequestManagerImpl extends MirrorImpl implements EventRequestM
     	return MONITOR_WAITED_TYPE.getUnmodifiableList();
     }
 	
+	/**
+	 * Removes the mapping of the request ID of a request that is disabled.
+	 */
 	public void removeRequestIDMapping(EventRequestImpl req) {
-		if (req instanceof AccessWatchpointRequestImpl) {
-			ACCESS_WATCHPOINT_TYPE.enabledrequests.remove(req.requestID());
-		} else if (req instanceof BreakpointRequestImpl) {
-			BREAKPOINT_TYPE.enabledrequests.remove(req.requestID());
-		} else if (req instanceof ClassPrepareRequestImpl) {
-			CLASS_PREPARE_TYPE.enabledrequests.remove(req.requestID());
-		} else if (req instanceof ClassUnloadRequestImpl) {
-			CLASS_UNLOAD_TYPE.enabledrequests.remove(req.requestID());
-		} else if (req instanceof ExceptionRequestImpl) {
-			EXCEPTION_TYPE.enabledrequests.remove(req.requestID());
-		} else if (req instanceof MethodEntryRequestImpl) {
-			METHOD_ENTRY_TYPE.enabledrequests.remove(req.requestID());
-		} else if (req instanceof MethodExitRequestImpl) {
-			METHOD_EXIT_TYPE.enabledrequests.remove(req.requestID());
-		} else if (req instanceof ModificationWatchpointRequestImpl) {
-			MODIFICATION_WATCHPOINT_TYPE.enabledrequests.remove(req.requestID());
-		} else if (req instanceof StepRequestImpl) {
-			STEP_TYPE.enabledrequests.remove(req.requestID());
-		} else if (req instanceof ThreadDeathRequestImpl) {
-			THREAD_DEATH_TYPE.enabledrequests.remove(req.requestID());
-		} else if (req instanceof ThreadStartRequestImpl) {
-			THREAD_START_TYPE.enabledrequests.remove(req.requestID());
-		} else if(req instanceof MonitorContendedEnterRequestImpl) {
-			MONITOR_CONTENDED_ENTER_TYPE.enabledrequests.remove(req.requestID());
-		} else if(req instanceof MonitorContendedEnteredRequestImpl) {
-			MONITOR_CONTENDED_ENTERED_TYPE.enabledrequests.remove(req.requestID());
-		} else if(req instanceof MonitorWaitRequestImpl) {
-			MONITOR_WAIT_TYPE.enabledrequests.remove(req.requestID());
-		} else if(req instanceof MonitorWaitedRequestImpl) {
-			MONITOR_WAITED_TYPE.enabledrequests.remove(req.requestID());
-		} else if(req instanceof VMDeathRequestImpl) {
-			VM_DEATH_TYPE.enabledrequests.remove(req.requestID());
+		RequestID id = req.requestID();
+		if (id != null) {
+			fEnabledRequests.remove(new EnabledRequestKey(req.eventKind(), id));
 		}
 	}
 	
@@ -566,78 +727,74 @@ public class EventRequestManagerImpl extends MirrorImpl implements EventRequestM
 	 * Maps a request ID to requests.
 	 */ 
 	public void addRequestIDMapping(EventRequestImpl req) {
-		if (req instanceof AccessWatchpointRequestImpl) {
-			ACCESS_WATCHPOINT_TYPE.enabledrequests.put(req.requestID(), (AccessWatchpointRequestImpl) req);
-		} else if (req instanceof BreakpointRequestImpl) {
-			BREAKPOINT_TYPE.enabledrequests.put(req.requestID(), (BreakpointRequestImpl)req);
-		} else if (req instanceof ClassPrepareRequestImpl) {
-			CLASS_PREPARE_TYPE.enabledrequests.put(req.requestID(), (ClassPrepareRequestImpl)req);
-		} else if (req instanceof ClassUnloadRequestImpl) {
-			CLASS_UNLOAD_TYPE.enabledrequests.put(req.requestID(), (ClassUnloadRequestImpl)req);
-		} else if (req instanceof ExceptionRequestImpl) {
-			EXCEPTION_TYPE.enabledrequests.put(req.requestID(), (ExceptionRequestImpl)req);
-		} else if (req instanceof MethodEntryRequestImpl) {
-			METHOD_ENTRY_TYPE.enabledrequests.put(req.requestID(), (MethodEntryRequestImpl)req);
-		} else if (req instanceof MethodExitRequestImpl) {
-			METHOD_EXIT_TYPE.enabledrequests.put(req.requestID(), (MethodExitRequestImpl)req);
-		} else if (req instanceof ModificationWatchpointRequestImpl) {
-			MODIFICATION_WATCHPOINT_TYPE.enabledrequests.put(req.requestID(), (ModificationWatchpointRequestImpl)req);
-		} else if (req instanceof StepRequestImpl) {
-			STEP_TYPE.enabledrequests.put(req.requestID(), (StepRequestImpl)req);
-		} else if (req instanceof ThreadDeathRequestImpl) {
-			THREAD_DEATH_TYPE.enabledrequests.put(req.requestID(), (ThreadDeathRequestImpl)req);
-		} else if (req instanceof ThreadStartRequestImpl) {
-			THREAD_START_TYPE.enabledrequests.put(req.requestID(), (ThreadStartRequestImpl)req);
-		} else if(req instanceof MonitorWaitRequestImpl) {
-			MONITOR_WAIT_TYPE.enabledrequests.put(req.requestID(), (MonitorWaitRequestImpl)req);
-		} else if(req instanceof MonitorWaitedRequestImpl) {
-			MONITOR_WAITED_TYPE.enabledrequests.put(req.requestID(), (MonitorWaitedRequestImpl)req);
-		} else if(req instanceof MonitorContendedEnterRequestImpl) {
-			MONITOR_CONTENDED_ENTER_TYPE.enabledrequests.put(req.requestID(), (MonitorContendedEnterRequestImpl)req);
-		} else if(req instanceof MonitorContendedEnteredRequestImpl) {
-			MONITOR_CONTENDED_ENTERED_TYPE.enabledrequests.put(req.requestID(), (MonitorContendedEnteredRequestImpl)req);
-		} else if(req instanceof VMDeathRequestImpl) {
-			VM_DEATH_TYPE.enabledrequests.put(req.requestID(), (VMDeathRequest) req);
-		}
+		fEnabledRequests.put(new EnabledRequestKey(req.eventKind(), req.requestID()), req);
 	}
 
 	/**
-	 * Find Request that matches event.
+	 * Find Request that matches an event of the given kind with the given
+	 * request ID.
 	 */ 
-	public EventRequest findRequest(EventImpl event) {
-		if (event instanceof AccessWatchpointEventImpl) {
-			return ACCESS_WATCHPOINT_TYPE.enabledrequests.get(event.requestID());
-		} else if (event instanceof BreakpointEventImpl) {
-			return BREAKPOINT_TYPE.enabledrequests.get(event.requestID());
-		} else if (event instanceof ClassPrepareEventImpl) {
-			return CLASS_PREPARE_TYPE.enabledrequests.get(event.requestID());
-		} else if (event instanceof ClassUnloadEventImpl) {
-			return CLASS_UNLOAD_TYPE.enabledrequests.get(event.requestID());
-		} else if (event instanceof ExceptionEventImpl) {
-			return EXCEPTION_TYPE.enabledrequests.get(event.requestID());
-		} else if (event instanceof MethodEntryEventImpl) {
-			return METHOD_ENTRY_TYPE.enabledrequests.get(event.requestID());
-		} else if (event instanceof MethodExitEventImpl) {
-			return METHOD_EXIT_TYPE.enabledrequests.get(event.requestID());
-		} else if (event instanceof ModificationWatchpointEventImpl) {
-			return MODIFICATION_WATCHPOINT_TYPE.enabledrequests.get(event.requestID());
-		} else if (event instanceof StepEventImpl) {
-			return STEP_TYPE.enabledrequests.get(event.requestID());
-		} else if (event instanceof ThreadDeathEventImpl) {
-			return THREAD_DEATH_TYPE.enabledrequests.get(event.requestID());
-		} else if (event instanceof ThreadStartEventImpl) {
-			return THREAD_START_TYPE.enabledrequests.get(event.requestID());
-		} else if (event instanceof VMDeathEventImpl) {
-			return VM_DEATH_TYPE.enabledrequests.get(event.requestID());
-		} else if(event instanceof MonitorWaitEventImpl) {
-			return MONITOR_WAIT_TYPE.enabledrequests.get(event.requestID());
-		} else if(event instanceof MonitorWaitedEventImpl) {
-			return MONITOR_WAITED_TYPE.enabledrequests.get(event.requestID());
-		} else if(event instanceof MonitorContendedEnterEventImpl) {
-			return MONITOR_CONTENDED_ENTER_TYPE.enabledrequests.get(event.requestID());
-		} else if(event instanceof MonitorContendedEnteredEventImpl) {
-			return MONITOR_CONTENDED_ENTERED_TYPE.enabledrequests.get(event.requestID());
+	public EventRequest findRequest(byte eventKind, RequestID requestID) {
+		if (!isRequestKind(eventKind)) {
+			JDIDebugPlugin.log(new Status(IStatus.WARNING, JDIDebugPlugin.getUniqueIdentifier(), NLS.bind(RequestMessages.EventRequestManagerImpl_Got_event_of_unknown_type_2, new String[]{Byte.toString(eventKind), requestID.toString()})));
+			return null;
+		}
+		return fEnabledRequests.get(new EnabledRequestKey(eventKind, requestID));
+	}
+
+	/**
+	 * Returns whether events of the given kind are requested with event
+	 * requests.
+	 */
+	private static boolean isRequestKind(byte eventKind) {
+		switch (eventKind) {
+			case EventImpl.EVENT_SINGLE_STEP:
+			case EventImpl.EVENT_BREAKPOINT:
+			case EventImpl.EVENT_EXCEPTION:
+			case EventImpl.EVENT_THREAD_START:
+			case EventImpl.EVENT_THREAD_END:
+			case EventImpl.EVENT_CLASS_PREPARE:
+			case EventImpl.EVENT_CLASS_UNLOAD:
+			case EventImpl.EVENT_FIELD_ACCESS:
+			case EventImpl.EVENT_FIELD_MODIFICATION:
+			case EventImpl.EVENT_METHOD_ENTRY:
+			case EventImpl.EVENT_METHOD_EXIT:
+			case EventImpl.EVENT_METHOD_EXIT_WITH_RETURN_VALUE:
+			case EventImpl.EVENT_MONITOR_CONTENDED_ENTER:
+			case EventImpl.EVENT_MONITOR_CONTENDED_ENTERED:
+			case EventImpl.EVENT_MONITOR_WAIT:
+			case EventImpl.EVENT_MONITOR_WAITED:
+			case EventImpl.EVENT_VM_DEATH:
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Key of an enabled request: its event kind and its request ID.
+	 */
+	private static class EnabledRequestKey {
+		private final byte fEventKind;
+		private final RequestID fRequestID;
+
+		EnabledRequestKey(byte eventKind, RequestID requestID) {
+			fEventKind = eventKind;
+			fRequestID = requestID;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if (!(object instanceof EnabledRequestKey)) {
+				return false;
+			}
+			EnabledRequestKey key = (EnabledRequestKey) object;
+			return fEventKind == key.fEventKind && fRequestID.equals(key.fRequestID);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * fEventKind + fRequestID.hashCode();
 		}
-		throw new InternalError(RequestMessages.EventRequestManagerImpl_Got_event_of_unknown_type_2); 
 	}
 }
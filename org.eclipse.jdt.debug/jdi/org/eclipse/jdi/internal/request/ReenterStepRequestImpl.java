@@ -11,13 +11,13 @@
 package org.eclipse.jdi.internal.request;
 
 import java.io.ByteArrayOutputStream;
-import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 
 import org.eclipse.jdi.internal.VirtualMachineImpl;
 import org.eclipse.jdi.internal.event.EventImpl;
 import org.eclipse.jdi.internal.jdwp.JdwpCommandPacket;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
 
 /**
@@ -63,7 +63,7 @@ public class ReenterStepRequestImpl extends StepRequestImpl implements
 			JdwpReplyPacket replyPacket = requestVM(
 					JdwpCommandPacket.HCR_REENTER_ON_EXIT, outBytes);
 			defaultReplyErrorHandler(replyPacket.errorCode());
-			DataInputStream replyData = replyPacket.dataInStream();
+			JdwpReplyDecoder replyData = replyPacket.dataDecoder();
 			fRequestID = RequestID.read(this, replyData);
 			virtualMachineImpl().eventRequestManagerImpl().addRequestIDMapping(
 					this);
@@ -10,11 +10,11 @@
  *******************************************************************************/
 package org.eclipse.jdi.internal.request;
 
-import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 
 import org.eclipse.jdi.internal.MirrorImpl;
+import org.eclipse.jdi.internal.jdwp.JdwpReplyDecoder;
 
 public class RequestID {
 	/**
@@ -80,7 +80,7 @@ public class RequestID {
 	/**
 	 * @return Returns a new request ID read from stream.
 	 */
-	public static RequestID read(MirrorImpl target, DataInputStream in)
+	public static RequestID read(MirrorImpl target, JdwpReplyDecoder in)
 			throws IOException {
 		int result = target.readInt("request ID", in); //$NON-NLS-1$
 		return new RequestID(result);
@@ -0,0 +1,232 @@
+/*******************************************************************************
+ * Copyright (c) 2015 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdi.internal.spy;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdi.internal.connect.PacketCapture;
+
+import com.ibm.icu.text.MessageFormat;
+
+/**
+ * This class renders the JDWP packets of a capture file written by a
+ * {@link PacketCapture}, as {@link TcpipSpy} renders the packets it spies.
+ * Its parameters are: 1) The capture file; 2) Optionally, '-summary' to print
+ * the number of packets, the number of bytes and the reply times of each
+ * command instead of each packet; 3) Optionally, the file where the output is
+ * written to.
+ */
+public class CaptureDecoder {
+
+	/**
+	 * The packets and reply times of a command.
+	 */
+	static class CommandStatistics {
+		String fName;
+		int fCommands;
+		int fReplies;
+		long fBytes;
+		long fTotalReplyTime;
+		long fMaxReplyTime;
+	}
+
+	private VerbosePacketStream fOut;
+
+	public CaptureDecoder(VerbosePacketStream out) {
+		fOut = out;
+	}
+
+	public static void main(String[] args) {
+		VerbosePacketStream out = new VerbosePacketStream(System.out);
+		String captureFile = null;
+		boolean summary = false;
+		String outputFile = null;
+		for (int i = 0; i < args.length; i++) {
+			if ("-summary".equals(args[i])) { //$NON-NLS-1$
+				summary = true;
+			} else if (captureFile == null) {
+				captureFile = args[i];
+			} else {
+				outputFile = args[i];
+			}
+		}
+		if (captureFile == null) {
+			out.println("usage: CaptureDecoder <capture file> [-summary] [<output file>]"); //$NON-NLS-1$
+			System.exit(-1);
+		}
+
+		if (outputFile != null) {
+			File file = new File(outputFile);
+			try {
+				out = new VerbosePacketStream(new BufferedOutputStream(
+						new FileOutputStream(file)));
+			} catch (FileNotFoundException e) {
+				out.println(MessageFormat
+						.format("Could not open {0}.  Using stdout instead", new Object[] { file.getAbsolutePath() })); //$NON-NLS-1$
+			}
+		}
+		try {
+			List<PacketCapture.Record> records = PacketCapture
+					.read(new File(captureFile));
+			CaptureDecoder decoder = new CaptureDecoder(out);
+			if (summary) {
+				decoder.printSummary(records);
+			} else {
+				decoder.print(records);
+			}
+		} catch (IOException e) {
+			out.println(MessageFormat.format(
+					"Caught exception: {0}", new Object[] { e.toString() })); //$NON-NLS-1$
+		} finally {
+			out.flush();
+		}
+	}
+
+	/**
+	 * Reads the given captured packet.
+	 */
+	private static JdwpPacket packetOf(PacketCapture.Record record)
+			throws IOException {
+		return JdwpPacket.read(new ByteArrayInputStream(record.getBytes()));
+	}
+
+	/**
+	 * Prints each of the given packets, with the time elapsed since the first
+	 * one.
+	 *
+	 * @param records
+	 *            the packets of a capture
+	 */
+	public void print(List<PacketCapture.Record> records) throws IOException {
+		long start = records.isEmpty() ? 0 : records.get(0).getTime();
+		for (Iterator<PacketCapture.Record> iter = records.iterator(); iter
+				.hasNext();) {
+			PacketCapture.Record record = iter.next();
+			JdwpPacket p = packetOf(record);
+			// as in TcpipSpy, only the conversations started by the debugger
+			// are stored
+			if (!(record.isFromVM() && (p.getFlags() & JdwpPacket.FLAG_REPLY_PACKET) == 0)) {
+				TcpipSpy.store(p);
+			}
+			fOut.println(MessageFormat.format(
+					"Time: +{0} us", new Object[] { new Long((record.getTime() - start) / 1000) })); //$NON-NLS-1$
+			fOut.print(p, record.isFromVM());
+		}
+		fOut.flush();
+	}
+
+	/**
+	 * Prints, for each command, the number of packets and bytes exchanged and
+	 * the reply times, the commands with the largest total reply time first.
+	 *
+	 * @param records
+	 *            the packets of a capture
+	 */
+	public void printSummary(List<PacketCapture.Record> records)
+			throws IOException {
+		Map<Integer, CommandStatistics> statistics = new HashMap<Integer, CommandStatistics>();
+		// the commands written by the debugger, by id
+		Map<Integer, PacketCapture.Record> pending = new HashMap<Integer, PacketCapture.Record>();
+		Map<Integer, Integer> pendingCommands = new HashMap<Integer, Integer>();
+		long bytes = 0;
+		for (Iterator<PacketCapture.Record> iter = records.iterator(); iter
+				.hasNext();) {
+			PacketCapture.Record record = iter.next();
+			bytes += record.getBytes().length;
+			JdwpPacket p = packetOf(record);
+			Integer command;
+			if (p instanceof JdwpCommandPacket) {
+				command = new Integer(((JdwpCommandPacket) p).getCommand());
+				if (!record.isFromVM()) {
+					Integer id = new Integer(p.getId());
+					pending.put(id, record);
+					pendingCommands.put(id, command);
+				}
+			} else {
+				Integer id = new Integer(p.getId());
+				command = pendingCommands.remove(id);
+				if (command == null) {
+					// the command is not in the capture
+					continue;
+				}
+			}
+			CommandStatistics commandStatistics = statistics.get(command);
+			if (commandStatistics == null) {
+				commandStatistics = new CommandStatistics();
+				commandStatistics.fName = JdwpCommandPacket.commandMap().get(
+						command);
+				if (commandStatistics.fName == null) {
+					commandStatistics.fName = Integer.toHexString(command
+							.intValue());
+				}
+				statistics.put(command, commandStatistics);
+			}
+			commandStatistics.fBytes += record.getBytes().length;
+			if (p instanceof JdwpCommandPacket) {
+				commandStatistics.fCommands++;
+			} else {
+				PacketCapture.Record sent = pending.remove(new Integer(p
+						.getId()));
+				long replyTime = record.getTime() - sent.getTime();
+				commandStatistics.fReplies++;
+				commandStatistics.fTotalReplyTime += replyTime;
+				commandStatistics.fMaxReplyTime = Math.max(
+						commandStatistics.fMaxReplyTime, replyTime);
+			}
+		}
+
+		List<CommandStatistics> sorted = new ArrayList<CommandStatistics>(
+				statistics.values());
+		Collections.sort(sorted, new Comparator<CommandStatistics>() {
+			public int compare(CommandStatistics s1, CommandStatistics s2) {
+				if (s1.fTotalReplyTime != s2.fTotalReplyTime) {
+					return s1.fTotalReplyTime > s2.fTotalReplyTime ? -1 : 1;
+				}
+				return s2.fCommands - s1.fCommands;
+			}
+		});
+		long duration = records.isEmpty() ? 0 : records.get(
+				records.size() - 1).getTime()
+				- records.get(0).getTime();
+		fOut.println(MessageFormat.format(
+				"{0} packets, {1} bytes in {2} us", new Object[] { new Integer(records.size()), new Long(bytes), new Long(duration / 1000) })); //$NON-NLS-1$
+		fOut.println();
+		fOut.println("Command\tPackets\tBytes\tReplies\tTotal reply time (us)\tMax reply time (us)"); //$NON-NLS-1$
+		for (Iterator<CommandStatistics> iter = sorted.iterator(); iter
+				.hasNext();) {
+			CommandStatistics s = iter.next();
+			fOut.print(s.fName);
+			fOut.print('\t');
+			fOut.print(s.fCommands);
+			fOut.print('\t');
+			fOut.print(s.fBytes);
+			fOut.print('\t');
+			fOut.print(s.fReplies);
+			fOut.print('\t');
+			fOut.print(s.fTotalReplyTime / 1000);
+			fOut.print('\t');
+			fOut.println(s.fMaxReplyTime / 1000);
+		}
+		fOut.flush();
+	}
+}
@@ -0,0 +1,386 @@
+/*******************************************************************************
+ * Copyright (c) 2015 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core;
+
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdi.internal.jdwp.LatencyHistogram;
+
+/**
+ * Runs the dispatch of event sets on a fixed number of worker threads, in
+ * lanes. The tasks of a lane, typically the event sets of one thread of the
+ * target VM, run one after the other in the order they were submitted, while
+ * the tasks of different lanes run in parallel.
+ * <p>
+ * A task submitted to a lane whose running task is <em>blocking</em>, that is
+ * keeps the thread of the lane suspended, can only have been caused by the
+ * running task letting the thread run, for instance to evaluate a condition.
+ * Such a task is run at once in a job of its own, since the running task may
+ * be waiting for it.
+ * </p>
+ * <p>
+ * At most {@link #getCapacity()} tasks are pending at once. Submitting a task
+ * waits for capacity to be available, which holds back the reading of events
+ * from the VM, but for no more than {@link #BACKPRESSURE_TIMEOUT} ms at a time
+ * as the pending tasks may themselves wait for events that are yet to be read.
+ * </p>
+ * <p>
+ * A task that waits for code to run in the target VM, like the evaluation of a
+ * condition or a method invocation, calls {@link #beginBlocking()} and
+ * {@link #endBlocking()} around the wait. A worker is added for as long as it
+ * waits, since the code may itself wait for a thread whose event set is
+ * pending, and the other lanes would otherwise starve.
+ * </p>
+ */
+public class EventDispatchExecutor {
+
+	/**
+	 * Longest time in milliseconds that {@link #execute(Object, boolean, Runnable)}
+	 * waits for capacity.
+	 */
+	public static final long BACKPRESSURE_TIMEOUT = 1000;
+
+	/**
+	 * Lane of the tasks submitted without a lane.
+	 */
+	private static final Object NO_LANE = new Object();
+
+	/**
+	 * The executor of the task running on the current worker thread, if any.
+	 */
+	private static final ThreadLocal<EventDispatchExecutor> fgCurrent = new ThreadLocal<EventDispatchExecutor>();
+
+	/**
+	 * A task and when it was submitted.
+	 */
+	private static class Task {
+		final Runnable fRunnable;
+		final boolean fBlocking;
+		final boolean fHasPermit;
+		final long fSubmitted = System.nanoTime();
+
+		Task(Runnable runnable, boolean blocking, boolean hasPermit) {
+			fRunnable = runnable;
+			fBlocking = blocking;
+			fHasPermit = hasPermit;
+		}
+	}
+
+	/**
+	 * The pending tasks of a lane. A lane is scheduled on the workers while it
+	 * has pending or running tasks, and runs one task each time it is
+	 * scheduled so that the lanes share the workers.
+	 */
+	private class Lane implements Runnable {
+		final Object fKey;
+		final LinkedList<Task> fPending = new LinkedList<Task>();
+		Task fRunning;
+
+		Lane(Object key) {
+			fKey = key;
+		}
+
+		public void run() {
+			Task task;
+			synchronized (fLanes) {
+				task = fPending.removeFirst();
+				fRunning = task;
+			}
+			fgCurrent.set(EventDispatchExecutor.this);
+			try {
+				runTask(task);
+			} finally {
+				fgCurrent.remove();
+				synchronized (fLanes) {
+					fRunning = null;
+					if (fPending.isEmpty()) {
+						fLanes.remove(fKey);
+					} else {
+						schedule(this);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * The lanes that have pending or running tasks, by key.
+	 */
+	private final Map<Object, Lane> fLanes = new HashMap<Object, Lane>();
+
+	private final ThreadPoolExecutor fWorkers;
+	private final int fThreads;
+	private final String fName;
+	private final int fCapacity;
+	private final Semaphore fPermits;
+
+	/**
+	 * Number of workers waiting for code to run in the target VM. Guarded by
+	 * the workers.
+	 */
+	private int fBlocked = 0;
+
+	private final AtomicInteger fQueueDepth = new AtomicInteger();
+	private final AtomicInteger fMaxQueueDepth = new AtomicInteger();
+	private final AtomicLong fOverflowCount = new AtomicLong();
+	private final LatencyHistogram fLatency = new LatencyHistogram();
+
+	/**
+	 * Creates a new executor.
+	 *
+	 * @param name
+	 *            name of the worker threads and of the jobs of nested tasks
+	 * @param threads
+	 *            number of worker threads
+	 * @param capacity
+	 *            number of tasks that can be pending before submitting waits
+	 */
+	public EventDispatchExecutor(final String name, int threads, int capacity) {
+		fName = name;
+		fThreads = threads;
+		fCapacity = capacity;
+		fPermits = new Semaphore(capacity);
+		fWorkers = new ThreadPoolExecutor(threads, threads, 0,
+				TimeUnit.MILLISECONDS, new LinkedBlockingQueue<Runnable>(),
+				new ThreadFactory() {
+					private int fCount = 0;
+
+					public synchronized Thread newThread(Runnable r) {
+						Thread thread = new Thread(r, name + " " + (++fCount)); //$NON-NLS-1$
+						thread.setDaemon(true);
+						return thread;
+					}
+				});
+	}
+
+	/**
+	 * Submits a task to the given lane.
+	 *
+	 * @param lane
+	 *            key of the lane, or <code>null</code> for the lane of tasks
+	 *            that are not bound to a thread
+	 * @param blocking
+	 *            whether the thread of the lane stays suspended while the task
+	 *            runs
+	 * @param runnable
+	 *            the task
+	 * @throws InterruptedException
+	 *             if interrupted while waiting for capacity
+	 */
+	public void execute(Object lane, boolean blocking, Runnable runnable)
+			throws InterruptedException {
+		if (fWorkers.isShutdown()) {
+			return;
+		}
+		Object key = lane == null ? NO_LANE : lane;
+		if (!isNested(key)) {
+			boolean permit = fPermits.tryAcquire(BACKPRESSURE_TIMEOUT,
+					TimeUnit.MILLISECONDS);
+			if (!permit) {
+				fOverflowCount.incrementAndGet();
+			}
+			Task task = new Task(runnable, blocking, permit);
+			synchronized (fLanes) {
+				// the running task may have become blocking while waiting
+				if (!isNested(key)) {
+					queued();
+					Lane l = fLanes.get(key);
+					if (l == null) {
+						l = new Lane(key);
+						fLanes.put(key, l);
+						l.fPending.add(task);
+						schedule(l);
+					} else {
+						l.fPending.add(task);
+					}
+					return;
+				}
+			}
+			if (permit) {
+				fPermits.release();
+			}
+		}
+		queued();
+		runNested(new Task(runnable, blocking, false));
+	}
+
+	/**
+	 * Returns whether the running task of the lane with the given key is
+	 * blocking.
+	 */
+	private boolean isNested(Object key) {
+		synchronized (fLanes) {
+			Lane lane = fLanes.get(key);
+			return lane != null && lane.fRunning != null
+					&& lane.fRunning.fBlocking;
+		}
+	}
+
+	/**
+	 * Schedules the given lane on the workers, or drops its pending tasks if
+	 * this executor is shut down. Called while holding the lock on the lanes.
+	 */
+	private void schedule(Lane lane) {
+		try {
+			fWorkers.execute(lane);
+		} catch (RejectedExecutionException e) {
+			while (!lane.fPending.isEmpty()) {
+				done(lane.fPending.removeFirst());
+			}
+			fLanes.remove(lane.fKey);
+		}
+	}
+
+	/**
+	 * Runs the given task in a job of its own.
+	 */
+	private void runNested(final Task task) {
+		Job job = new Job(fName) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				runTask(task);
+				return Status.OK_STATUS;
+			}
+		};
+		job.setSystem(true);
+		job.schedule();
+	}
+
+	private void runTask(Task task) {
+		try {
+			task.fRunnable.run();
+		} catch (RuntimeException e) {
+			JDIDebugPlugin.log(e);
+		} finally {
+			fLatency.record(System.nanoTime() - task.fSubmitted);
+			done(task);
+		}
+	}
+
+	private void queued() {
+		int depth = fQueueDepth.incrementAndGet();
+		int max = fMaxQueueDepth.get();
+		while (depth > max && !fMaxQueueDepth.compareAndSet(max, depth)) {
+			max = fMaxQueueDepth.get();
+		}
+	}
+
+	private void done(Task task) {
+		fQueueDepth.decrementAndGet();
+		if (task.fHasPermit) {
+			fPermits.release();
+		}
+	}
+
+	/**
+	 * Notes that the current thread is about to wait for code to run in the
+	 * target VM. If it is a worker, another worker is added until
+	 * {@link #endBlocking()} is called, so that the event sets of other
+	 * threads keep being dispatched.
+	 */
+	public static void beginBlocking() {
+		EventDispatchExecutor executor = fgCurrent.get();
+		if (executor != null) {
+			executor.setBlocked(1);
+		}
+	}
+
+	/**
+	 * Notes that the current thread no longer waits for code to run in the
+	 * target VM, after a call to {@link #beginBlocking()}.
+	 */
+	public static void endBlocking() {
+		EventDispatchExecutor executor = fgCurrent.get();
+		if (executor != null) {
+			executor.setBlocked(-1);
+		}
+	}
+
+	/**
+	 * Changes the number of blocked workers by the given amount, and resizes
+	 * the pool to have that many workers besides the initial ones.
+	 */
+	private void setBlocked(int delta) {
+		synchronized (fWorkers) {
+			fBlocked += delta;
+			int size = fThreads + fBlocked;
+			if (delta > 0) {
+				fWorkers.setMaximumPoolSize(size);
+				fWorkers.setCorePoolSize(size);
+			} else {
+				fWorkers.setCorePoolSize(size);
+				fWorkers.setMaximumPoolSize(size);
+			}
+		}
+	}
+
+	/**
+	 * Stops the worker threads once the tasks already scheduled on them have
+	 * run. Tasks submitted from now on are dropped.
+	 */
+	public void shutdown() {
+		fWorkers.shutdown();
+	}
+
+	/**
+	 * @return Returns the number of tasks that can be pending before
+	 *         submitting waits.
+	 */
+	public int getCapacity() {
+		return fCapacity;
+	}
+
+	/**
+	 * @return Returns the number of tasks submitted that have not completed.
+	 */
+	public int getQueueDepth() {
+		return fQueueDepth.get();
+	}
+
+	/**
+	 * @return Returns the highest number of tasks that have been pending at
+	 *         once.
+	 */
+	public int getMaxQueueDepth() {
+		return fMaxQueueDepth.get();
+	}
+
+	/**
+	 * @return Returns the number of tasks submitted while there was no
+	 *         capacity left after waiting for {@link #BACKPRESSURE_TIMEOUT}
+	 *         ms.
+	 */
+	public long getOverflowCount() {
+		return fOverflowCount.get();
+	}
+
+	/**
+	 * @return Returns the histogram of the times between submitting a task
+	 *         and its completion. Its count is the number of tasks completed.
+	 */
+	public LatencyHistogram getLatency() {
+		return fLatency;
+	}
+}
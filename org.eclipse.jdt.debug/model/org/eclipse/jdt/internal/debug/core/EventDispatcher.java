@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,28 +11,30 @@
 package org.eclipse.jdt.internal.debug.core;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import org.eclipse.core.runtime.CoreException;
-import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.core.runtime.IStatus;
-import org.eclipse.core.runtime.Status;
-import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.jdt.debug.core.IJavaLineBreakpoint;
 import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 
+import com.sun.jdi.ThreadReference;
 import com.sun.jdi.VMDisconnectedException;
 import com.sun.jdi.VirtualMachine;
+import com.sun.jdi.event.ClassPrepareEvent;
 import com.sun.jdi.event.Event;
 import com.sun.jdi.event.EventIterator;
 import com.sun.jdi.event.EventQueue;
 import com.sun.jdi.event.EventSet;
+import com.sun.jdi.event.LocatableEvent;
+import com.sun.jdi.event.ThreadDeathEvent;
+import com.sun.jdi.event.ThreadStartEvent;
 import com.sun.jdi.event.VMDeathEvent;
 import com.sun.jdi.event.VMDisconnectEvent;
 import com.sun.jdi.event.VMStartEvent;
@@ -55,9 +57,19 @@ import com.sun.jdi.request.EventRequest;
  * only resumed in if all event handlers agree that the thread should be
  * resumed.
  * </p>
+ * <p>
+ * Event sets are dispatched by an {@link EventDispatchExecutor}: the event
+ * sets of a thread are dispatched in the order they were received, and the
+ * event sets of different threads are dispatched in parallel.
+ * </p>
  */
 
 public class EventDispatcher implements Runnable {
+	/**
+	 * Number of event sets that can be pending before the dispatcher waits
+	 * for some to be dispatched before reading more.
+	 */
+	private static final int DISPATCH_CAPACITY = 1024;
 	/**
 	 * The debug target this event dispatcher belongs to.
 	 */
@@ -68,15 +80,20 @@ public class EventDispatcher implements Runnable {
 	private boolean fShutdown;
 	/**
 	 * Table of event listeners. Table is a mapping of <code>EventRequest</code>
-	 * to <code>IJDIEventListener</code>.
+	 * to <code>IJDIEventListener</code>, read without locking.
 	 */
-	private HashMap<EventRequest, IJDIEventListener> fEventHandlers;
+	private final ConcurrentHashMap<EventRequest, IJDIEventListener> fEventHandlers = new ConcurrentHashMap<EventRequest, IJDIEventListener>();
 
 	/**
 	 * Queue of debug model events to fire, created when processing events on
 	 * the target VM. Keyed by event sets, processed independently.
 	 */
-	private Map<EventSet, List<DebugEvent>> fSetToQueue = new HashMap<EventSet, List<DebugEvent>>();
+	private final ConcurrentHashMap<EventSet, Queue<DebugEvent>> fSetToQueue = new ConcurrentHashMap<EventSet, Queue<DebugEvent>>();
+
+	/**
+	 * Runs the dispatch of event sets.
+	 */
+	private final EventDispatchExecutor fExecutor;
 
 	/**
 	 * Constructs a new event dispatcher listening for events originating from
@@ -86,9 +103,11 @@ public class EventDispatcher implements Runnable {
 	 *            the target this event dispatcher belongs to
 	 */
 	public EventDispatcher(JDIDebugTarget target) {
-		fEventHandlers = new HashMap<EventRequest, IJDIEventListener>(10);
 		fTarget = target;
 		fShutdown = false;
+		fExecutor = new EventDispatchExecutor("JDI Event Dispatch", //$NON-NLS-1$
+				Math.max(2, Math.min(4, Runtime.getRuntime()
+						.availableProcessors())), DISPATCH_CAPACITY);
 	}
 
 	/**
@@ -119,73 +138,83 @@ public class EventDispatcher implements Runnable {
 		boolean resume = true;
 		int index = -1;
 		List<Event> deferredEvents = null;
-		while (iter.hasNext()) {
-			index++;
-			if (isShutdown()) {
-				return;
-			}
-			Event event = iter.nextEvent();
-			if (event == null) {
-				continue;
-			}
-			// Dispatch events to registered listeners, if any
-			IJDIEventListener listener = fEventHandlers.get(event.request());
-			listeners[index] = listener;
-			if (listener != null) {
-				if (listener instanceof IJavaLineBreakpoint) {
-					// Event dispatch to conditional breakpoints is deferred
-					// until after
-					// other listeners vote.
-					try {
-						if (((IJavaLineBreakpoint) listener).isConditionEnabled()) {
-							if (deferredEvents == null) {
-								deferredEvents = new ArrayList<Event>(5);
-							}
-							deferredEvents.add(event);
-							continue;
-						}
-					} catch (CoreException exception) {
-						JDIDebugPlugin.log(exception);
-					}
-				}
-				vote = true;
-				resume = listener.handleEvent(event, fTarget, !resume, eventSet) && resume;
-				continue;
-			}
-
-			// Dispatch VM start/end events
-			if (event instanceof VMDeathEvent) {
-				fTarget.handleVMDeath((VMDeathEvent) event);
-				shutdown(); // stop listening for events
-			} else if (event instanceof VMDisconnectEvent) {
-				fTarget.handleVMDisconnect((VMDisconnectEvent) event);
-				shutdown(); // stop listening for events
-			} else if (event instanceof VMStartEvent) {
-				fTarget.handleVMStart((VMStartEvent) event);
-			} else {
-				// not handled
-			}
-		}
-
-		// process deferred conditional breakpoint events
-		if (deferredEvents != null) {
-			Iterator<Event> deferredIter = deferredEvents.iterator();
-			while (deferredIter.hasNext()) {
+		// the requests created when types are prepared, such as the requests
+		// of breakpoints in the prepared types, are enabled in one batch once
+		// the listeners have handled the set
+		boolean deferRequests = isClassPrepareSet(eventSet)
+				&& fTarget.beginDeferredRequests();
+		try {
+			while (iter.hasNext()) {
+				index++;
 				if (isShutdown()) {
 					return;
 				}
-				Event event = deferredIter.next();
+				Event event = iter.nextEvent();
 				if (event == null) {
 					continue;
 				}
 				// Dispatch events to registered listeners, if any
-				IJDIEventListener listener = fEventHandlers
-						.get(event.request());
+				IJDIEventListener listener = getListener(event);
+				listeners[index] = listener;
 				if (listener != null) {
+					if (listener instanceof IJavaLineBreakpoint) {
+						// Event dispatch to conditional breakpoints is deferred
+						// until after
+						// other listeners vote.
+						try {
+							if (((IJavaLineBreakpoint) listener).isConditionEnabled()) {
+								if (deferredEvents == null) {
+									deferredEvents = new ArrayList<Event>(5);
+								}
+								deferredEvents.add(event);
+								continue;
+							}
+						} catch (CoreException exception) {
+							JDIDebugPlugin.log(exception);
+						}
+					}
 					vote = true;
 					resume = listener.handleEvent(event, fTarget, !resume, eventSet) && resume;
 					continue;
 				}
+
+				// Dispatch VM start/end events
+				if (event instanceof VMDeathEvent) {
+					fTarget.handleVMDeath((VMDeathEvent) event);
+					shutdown(); // stop listening for events
+				} else if (event instanceof VMDisconnectEvent) {
+					fTarget.handleVMDisconnect((VMDisconnectEvent) event);
+					shutdown(); // stop listening for events
+				} else if (event instanceof VMStartEvent) {
+					fTarget.handleVMStart((VMStartEvent) event);
+				} else {
+					// not handled
+				}
+			}
+
+			// process deferred conditional breakpoint events
+			if (deferredEvents != null) {
+				Iterator<Event> deferredIter = deferredEvents.iterator();
+				while (deferredIter.hasNext()) {
+					if (isShutdown()) {
+						return;
+					}
+					Event event = deferredIter.next();
+					if (event == null) {
+						continue;
+					}
+					// Dispatch events to registered listeners, if any
+					IJDIEventListener listener = getListener(event);
+					if (listener != null) {
+						vote = true;
+						resume = listener.handleEvent(event, fTarget, !resume, eventSet) && resume;
+						continue;
+					}
+				}
+			}
+		} finally {
+			if (deferRequests) {
+				fTarget.endDeferredRequests();
 			}
 		}
 
@@ -220,6 +249,18 @@ public class EventDispatcher implements Runnable {
 		}
 	}
 
+	/**
+	 * Returns whether the given event set reports the preparation of types.
+	 * 
+	 * @param eventSet
+	 *            an event set
+	 * @return whether the events of the set are class prepare events
+	 */
+	private boolean isClassPrepareSet(EventSet eventSet) {
+		EventIterator iter = eventSet.eventIterator();
+		return iter.hasNext() && iter.nextEvent() instanceof ClassPrepareEvent;
+	}
+
 	/**
 	 * Continuously reads events that are coming from the event queue, until
 	 * this event dispatcher is shutdown. A debug target starts a thread on this
@@ -243,30 +284,13 @@ public class EventDispatcher implements Runnable {
 
 					if (!isShutdown() && eventSet != null) {
 						final EventSet set = eventSet;
-						Job job = new Job("JDI Event Dispatch") { //$NON-NLS-1$
-							@Override
-							protected IStatus run(IProgressMonitor monitor) {
-								dispatch(set);
-								return Status.OK_STATUS;
-							}
-
-							@Override
-							public boolean belongsTo(Object family) {
-								if (family instanceof Class) {
-									Class<?> clazz = (Class<?>) family;
-									EventIterator iterator = set.eventIterator();
-									while (iterator.hasNext()) {
-										Event event = iterator.nextEvent();
-										if (clazz.isInstance(event)) {
-											return true;
-										}
+						fExecutor.execute(getThread(set),
+								set.suspendPolicy() != EventRequest.SUSPEND_NONE,
+								new Runnable() {
+									public void run() {
+										dispatch(set);
 									}
-								}
-								return false;
-							}
-						};
-						job.setSystem(true);
-						job.schedule();
+								});
 					}
 				} catch (InterruptedException e) {
 					break;
@@ -281,7 +305,55 @@ public class EventDispatcher implements Runnable {
 	 * associated with this runnable will exit.
 	 */
 	public void shutdown() {
+		boolean wasShutdown = fShutdown;
 		fShutdown = true;
+		fExecutor.shutdown();
+		if (JDIDebugOptions.DEBUG_JDI_EVENTS && !wasShutdown) {
+			StringBuffer buf = new StringBuffer("JDI Event Dispatch: "); //$NON-NLS-1$
+			buf.append(fExecutor.getLatency().getCount());
+			buf.append(" event sets, max queue depth: "); //$NON-NLS-1$
+			buf.append(fExecutor.getMaxQueueDepth());
+			buf.append(", mean latency: "); //$NON-NLS-1$
+			buf.append(fExecutor.getLatency().getMean() / 1000);
+			buf.append("us\n"); //$NON-NLS-1$
+			JDIDebugOptions.trace(buf.toString());
+		}
+	}
+
+	/**
+	 * Returns the executor that dispatches event sets, which holds the
+	 * statistics of the dispatch.
+	 * 
+	 * @return the executor that dispatches event sets
+	 */
+	public EventDispatchExecutor getExecutor() {
+		return fExecutor;
+	}
+
+	/**
+	 * Returns the thread the events of the given event set occurred in, which
+	 * is the lane the event set is dispatched in.
+	 * 
+	 * @param set
+	 *            an event set
+	 * @return the thread, or <code>null</code> if the events are not bound to
+	 *         a thread
+	 */
+	private static ThreadReference getThread(EventSet set) {
+		EventIterator iter = set.eventIterator();
+		while (iter.hasNext()) {
+			Event event = iter.nextEvent();
+			if (event instanceof LocatableEvent) {
+				return ((LocatableEvent) event).thread();
+			} else if (event instanceof ThreadStartEvent) {
+				return ((ThreadStartEvent) event).thread();
+			} else if (event instanceof ThreadDeathEvent) {
+				return ((ThreadDeathEvent) event).thread();
+			} else if (event instanceof ClassPrepareEvent) {
+				return ((ClassPrepareEvent) event).thread();
+			}
+		}
+		return null;
 	}
 
 	/**
@@ -323,6 +395,18 @@ public class EventDispatcher implements Runnable {
 		fEventHandlers.remove(request);
 	}
 
+	/**
+	 * Returns the listener registered for the request of the given event, or
+	 * <code>null</code> if none.
+	 */
+	private IJDIEventListener getListener(Event event) {
+		EventRequest request = event.request();
+		if (request == null) {
+			return null;
+		}
+		return fEventHandlers.get(request);
+	}
+
 	/**
 	 * Adds the given event to the queue of debug events to fire when done
 	 * dispatching events from the given event set.
@@ -333,14 +417,15 @@ public class EventDispatcher implements Runnable {
 	 *            event set the event is associated with
 	 */
 	public void queue(DebugEvent event, EventSet set) {
-		synchronized (fSetToQueue) {
-			List<DebugEvent> list = fSetToQueue.get(set);
-			if (list == null) {
-				list = new ArrayList<DebugEvent>(5);
-				fSetToQueue.put(set, list);
+		Queue<DebugEvent> queue = fSetToQueue.get(set);
+		if (queue == null) {
+			queue = new ConcurrentLinkedQueue<DebugEvent>();
+			Queue<DebugEvent> existing = fSetToQueue.putIfAbsent(set, queue);
+			if (existing != null) {
+				queue = existing;
 			}
-			list.add(event);
 		}
+		queue.add(event);
 	}
 
 	/**
@@ -351,12 +436,9 @@ public class EventDispatcher implements Runnable {
 	private void fireEvents(EventSet set) {
 		DebugPlugin plugin = DebugPlugin.getDefault();
 		if (plugin != null) { // check that not in the process of shutting down
-			List<DebugEvent> list = null;
-			synchronized (fSetToQueue) {
-				list = fSetToQueue.remove(set);
-			}
-			if (list != null) {
-				DebugEvent[] events = list.toArray(new DebugEvent[list.size()]);
+			Queue<DebugEvent> queue = fSetToQueue.remove(set);
+			if (queue != null) {
+				DebugEvent[] events = queue.toArray(new DebugEvent[queue.size()]);
 				plugin.fireDebugEventSet(events);
 			}
 		}
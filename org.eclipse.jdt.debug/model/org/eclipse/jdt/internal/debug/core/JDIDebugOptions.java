@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2012 IBM Corporation and others.
+ * Copyright (c) 2009, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -30,12 +30,22 @@ public class JDIDebugOptions implements DebugOptionsListener {
 	public static final String DEBUG_AST_EVALUATIONS_CALLING_THREADS_FLAG = "org.eclipse.jdt.debug/debug/astEvaluations/callingThreads"; //$NON-NLS-1$
 	public static final String DEBUG_AST_EVALUATIONS_FLAG = "org.eclipse.jdt.debug/debug/astEvaluations"; //$NON-NLS-1$
 	public static final String DEBUG_JDI_REQUEST_TIMES_FLAG = "org.eclipse.jdt.debug/debug/jdiRequestTimes"; //$NON-NLS-1$
+	public static final String DEBUG_JDI_MIRROR_CACHE_FLAG = "org.eclipse.jdt.debug/debug/jdiMirrorCache"; //$NON-NLS-1$
+	public static final String DEBUG_JDI_PREFETCH_FLAG = "org.eclipse.jdt.debug/debug/jdiPrefetch"; //$NON-NLS-1$
+	public static final String DEBUG_JDI_METRICS_FLAG = "org.eclipse.jdt.debug/debug/jdiMetrics"; //$NON-NLS-1$
+	public static final String DEBUG_JDI_BREAKPOINT_INSTALL_FLAG = "org.eclipse.jdt.debug/debug/jdiBreakpointInstall"; //$NON-NLS-1$
+	public static final String DEBUG_HCR_TIMINGS_FLAG = "org.eclipse.jdt.debug/debug/hcrTimings"; //$NON-NLS-1$
 	public static final String DEBUG_JDI_EVENTS_FLAG = "org.eclipse.jdt.debug/debug/jdiEvents"; //$NON-NLS-1$
 	public static final String DEBUG_FLAG = "org.eclipse.jdt.debug/debug"; //$NON-NLS-1$
 	
 	public static boolean DEBUG = false;
 	public static boolean DEBUG_JDI_EVENTS = false;
 	public static boolean DEBUG_JDI_REQUEST_TIMES = false;
+	public static boolean DEBUG_JDI_MIRROR_CACHE = false;
+	public static boolean DEBUG_JDI_PREFETCH = false;
+	public static boolean DEBUG_JDI_METRICS = false;
+	public static boolean DEBUG_JDI_BREAKPOINT_INSTALL = false;
+	public static boolean DEBUG_HCR_TIMINGS = false;
 	public static boolean DEBUG_AST_EVAL = false;
 	public static boolean DEBUG_AST_EVAL_THREAD_TRACE = false;
 
@@ -65,6 +75,11 @@ public class JDIDebugOptions implements DebugOptionsListener {
 		DEBUG = options.getBooleanOption(DEBUG_FLAG, false);
 		DEBUG_JDI_EVENTS = DEBUG && options.getBooleanOption(DEBUG_JDI_EVENTS_FLAG, false);
 		DEBUG_JDI_REQUEST_TIMES = DEBUG && options.getBooleanOption(DEBUG_JDI_REQUEST_TIMES_FLAG, false);
+		DEBUG_JDI_MIRROR_CACHE = DEBUG && options.getBooleanOption(DEBUG_JDI_MIRROR_CACHE_FLAG, false);
+		DEBUG_JDI_PREFETCH = DEBUG && options.getBooleanOption(DEBUG_JDI_PREFETCH_FLAG, false);
+		DEBUG_JDI_METRICS = DEBUG && options.getBooleanOption(DEBUG_JDI_METRICS_FLAG, false);
+		DEBUG_JDI_BREAKPOINT_INSTALL = DEBUG && options.getBooleanOption(DEBUG_JDI_BREAKPOINT_INSTALL_FLAG, false);
+		DEBUG_HCR_TIMINGS = DEBUG && options.getBooleanOption(DEBUG_HCR_TIMINGS_FLAG, false);
 		DEBUG_AST_EVAL = DEBUG && options.getBooleanOption(DEBUG_AST_EVALUATIONS_FLAG, false);
 		DEBUG_AST_EVAL_THREAD_TRACE = DEBUG && options.getBooleanOption(DEBUG_AST_EVALUATIONS_CALLING_THREADS_FLAG, false);
 	}
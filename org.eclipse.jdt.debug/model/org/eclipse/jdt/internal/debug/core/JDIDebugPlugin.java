@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -99,6 +99,14 @@ public class JDIDebugPlugin extends Plugin implements IEclipsePreferences.IPrefe
 	public static final String PREF_ALL_INSTANCES_MAX_COUNT = JDIDebugPlugin
 			.getUniqueIdentifier() + ".all_instances_max_count"; //$NON-NLS-1$
 
+	/**
+	 * Boolean preference controlling whether simple breakpoint conditions are
+	 * evaluated by reading values from the stack frame rather than by the
+	 * evaluation engine
+	 */
+	public static final String PREF_EVALUATE_SIMPLE_CONDITIONS = JDIDebugPlugin
+			.getUniqueIdentifier() + ".evaluate_simple_conditions"; //$NON-NLS-1$
+
 	/**
 	 * Extension point for java logical structures.
 	 * 
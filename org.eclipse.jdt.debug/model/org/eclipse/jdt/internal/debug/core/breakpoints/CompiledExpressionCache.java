@@ -0,0 +1,240 @@
+/*******************************************************************************
+ * Copyright (c) 2015 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.breakpoints;
+
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.Map;
+
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.debug.core.IJavaStackFrame;
+import org.eclipse.jdt.debug.core.IJavaVariable;
+import org.eclipse.jdt.debug.eval.IAstEvaluationEngine;
+import org.eclipse.jdt.debug.eval.ICompiledExpression;
+
+/**
+ * Cache of the compiled conditions of breakpoints in a debug target, shared by
+ * all of its threads.
+ * <p>
+ * A compiled condition only depends on the condition, the project it is
+ * compiled in and the method and locals of the frame it is compiled for, so a
+ * condition hit by many threads at the same location is compiled once. A
+ * compiled expression holds state while it is evaluated, so it is lent to one
+ * evaluation at a time: an evaluation that finds all the compiled copies of
+ * its condition in use compiles one more.
+ * </p>
+ * <p>
+ * The cache is cleared when classes are redefined in the target, since the
+ * types a condition was compiled against may have changed.
+ * </p>
+ */
+public class CompiledExpressionCache {
+
+	/**
+	 * Maximum number of conditions and locations cached
+	 */
+	private static final int MAX_KEYS = 100;
+
+	/**
+	 * Idle compiled expressions by key, least recently used first
+	 */
+	private Map<Key, LinkedList<ICompiledExpression>> fIdle = new LinkedHashMap<Key, LinkedList<ICompiledExpression>>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, LinkedList<ICompiledExpression>> eldest) {
+			return size() > MAX_KEYS;
+		}
+	};
+
+	/**
+	 * Compiled expressions being evaluated, mapped to their keys. Cleared with
+	 * the cache so that expressions compiled before a redefinition are not
+	 * returned to it.
+	 */
+	private Map<ICompiledExpression, Key> fLeased = new IdentityHashMap<ICompiledExpression, Key>();
+
+	private long fHits = 0;
+	private long fMisses = 0;
+
+	/**
+	 * Returns a compiled expression for the given condition in the given
+	 * frame, compiling it with the given engine if no compiled copy is idle.
+	 * The expression must be handed back with {@link #release(ICompiledExpression)}
+	 * once its evaluation is complete.
+	 *
+	 * @param engine
+	 *            the engine to compile with
+	 * @param condition
+	 *            the condition
+	 * @param frame
+	 *            the frame the condition is evaluated in
+	 * @return a compiled expression, possibly with errors
+	 * @throws DebugException
+	 *             if the method or locals of the frame cannot be retrieved
+	 */
+	public ICompiledExpression acquire(IAstEvaluationEngine engine,
+			String condition, IJavaStackFrame frame) throws DebugException {
+		Key key = new Key(engine.getJavaProject(), condition, frame);
+		synchronized (this) {
+			LinkedList<ICompiledExpression> idle = fIdle.get(key);
+			if (idle != null && !idle.isEmpty()) {
+				ICompiledExpression expression = idle.removeFirst();
+				fLeased.put(expression, key);
+				fHits++;
+				return expression;
+			}
+			fMisses++;
+		}
+		ICompiledExpression expression = engine.getCompiledExpression(
+				condition, frame);
+		synchronized (this) {
+			fLeased.put(expression, key);
+		}
+		return expression;
+	}
+
+	/**
+	 * Hands back a compiled expression returned by
+	 * {@link #acquire(IAstEvaluationEngine, String, IJavaStackFrame)}, making
+	 * it available to other evaluations unless the cache was cleared since.
+	 *
+	 * @param expression
+	 *            a compiled expression that is no longer being evaluated
+	 */
+	public synchronized void release(ICompiledExpression expression) {
+		Key key = fLeased.remove(expression);
+		if (key != null) {
+			LinkedList<ICompiledExpression> idle = fIdle.get(key);
+			if (idle == null) {
+				idle = new LinkedList<ICompiledExpression>();
+				fIdle.put(key, idle);
+			}
+			idle.addFirst(expression);
+		}
+	}
+
+	/**
+	 * Forgets a compiled expression returned by
+	 * {@link #acquire(IAstEvaluationEngine, String, IJavaStackFrame)} whose
+	 * evaluation may still be running, so that it is never reused.
+	 *
+	 * @param expression
+	 *            a compiled expression
+	 */
+	public synchronized void discard(ICompiledExpression expression) {
+		fLeased.remove(expression);
+	}
+
+	/**
+	 * Removes all the compiled expressions from this cache. Expressions being
+	 * evaluated are not returned to it.
+	 */
+	public synchronized void clear() {
+		fIdle.clear();
+		fLeased.clear();
+	}
+
+	/**
+	 * Returns the number of times a compiled expression was reused.
+	 *
+	 * @return the number of cache hits
+	 */
+	public synchronized long getHitCount() {
+		return fHits;
+	}
+
+	/**
+	 * Returns the number of times an expression had to be compiled.
+	 *
+	 * @return the number of cache misses
+	 */
+	public synchronized long getMissCount() {
+		return fMisses;
+	}
+
+	/**
+	 * What a compiled condition depends on: the condition, the project, the
+	 * method and line it is evaluated at and the locals visible there.
+	 */
+	private static final class Key {
+
+		private final IJavaProject fProject;
+		private final String fCondition;
+		private final String fDeclaringType;
+		private final String fMethod;
+		private final int fLineNumber;
+		private final boolean fStatic;
+		private final String fLocals;
+		private final int fHashCode;
+
+		Key(IJavaProject project, String condition, IJavaStackFrame frame)
+				throws DebugException {
+			fProject = project;
+			fCondition = condition;
+			fDeclaringType = frame.getDeclaringTypeName();
+			fMethod = frame.getMethodName() + frame.getSignature();
+			fLineNumber = frame.getLineNumber();
+			fStatic = frame.isStatic();
+			StringBuffer locals = new StringBuffer();
+			IJavaVariable[] variables = frame.getLocalVariables();
+			for (int i = 0; i < variables.length; i++) {
+				String signature = variables[i].getGenericSignature();
+				if (signature == null) {
+					signature = variables[i].getSignature();
+				}
+				locals.append(variables[i].getName()).append(' ')
+						.append(signature).append(';');
+			}
+			fLocals = locals.toString();
+			int hash = fCondition.hashCode();
+			hash = 31 * hash + fDeclaringType.hashCode();
+			hash = 31 * hash + fMethod.hashCode();
+			hash = 31 * hash + fLineNumber;
+			hash = 31 * hash + fLocals.hashCode();
+			fHashCode = hash;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return fHashCode;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key key = (Key) obj;
+			return fHashCode == key.fHashCode
+					&& fLineNumber == key.fLineNumber
+					&& fStatic == key.fStatic
+					&& fCondition.equals(key.fCondition)
+					&& fDeclaringType.equals(key.fDeclaringType)
+					&& fMethod.equals(key.fMethod)
+					&& fLocals.equals(key.fLocals)
+					&& (fProject == null ? key.fProject == null : fProject
+							.equals(key.fProject));
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2012 IBM Corporation and others.
+ * Copyright (c) 2009, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -12,6 +12,7 @@ package org.eclipse.jdt.internal.debug.core.breakpoints;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugException;
@@ -31,6 +32,7 @@ import org.eclipse.jdt.debug.eval.IAstEvaluationEngine;
 import org.eclipse.jdt.debug.eval.ICompiledExpression;
 import org.eclipse.jdt.debug.eval.IEvaluationListener;
 import org.eclipse.jdt.debug.eval.IEvaluationResult;
+import org.eclipse.jdt.internal.debug.core.EventDispatchExecutor;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
 import org.eclipse.jdt.internal.debug.core.model.JDIThread;
@@ -184,10 +186,22 @@ public class ConditionalBreakpointHandler implements IJavaBreakpointListener {
 				if (condition == null) {
 					return SUSPEND;
 				}
-				EvaluationListener listener = new EvaluationListener(
-						lineBreakpoint);
 				IJavaStackFrame frame = (IJavaStackFrame) thread
 						.getTopStackFrame();
+				if (lineBreakpoint.isConditionSuspendOnTrue()
+						&& isEvaluateSimpleConditions()) {
+					SimpleCondition simple = lineBreakpoint
+							.getSimpleCondition(condition);
+					if (simple != null) {
+						Boolean value = simple.evaluate(frame);
+						if (value != null) {
+							return value.booleanValue() ? SUSPEND
+									: DONT_SUSPEND;
+						}
+					}
+				}
+				EvaluationListener listener = new EvaluationListener(
+						lineBreakpoint);
 				IJavaProject project = lineBreakpoint.getJavaProject(frame);
 				if (project == null) {
 					fireConditionHasErrors(
@@ -205,38 +219,52 @@ public class ConditionalBreakpointHandler implements IJavaBreakpointListener {
 					// If no engine is available, suspend
 					return SUSPEND;
 				}
-				ICompiledExpression expression = lineBreakpoint
-						.getExpression(thread);
-				if (expression == null) {
-					expression = engine.getCompiledExpression(condition, frame);
-					lineBreakpoint.setExpression(thread, expression);
-				}
-				if (expression.hasErrors()) {
-					fireConditionHasErrors(lineBreakpoint,
-							getMessages(expression));
-					return SUSPEND;
-				}
-				Object lock = listener.getLock();
-				synchronized (lock) {
-					engine.evaluateExpression(expression, frame, listener,
-							DebugEvent.EVALUATION_IMPLICIT, false);
-					// TODO: timeout?
-					try {
-						lock.wait();
-					} catch (InterruptedException e) {
-						fireConditionHasRuntimeErrors(
-								lineBreakpoint,
-								new DebugException(
-										new Status(
-												IStatus.ERROR,
-												JDIDebugPlugin
-														.getUniqueIdentifier(),
-												JDIDebugBreakpointMessages.ConditionalBreakpointHandler_0,
-												e)));
+				// compiled conditions are shared by all the threads of the target
+				CompiledExpressionCache cache = ((JDIDebugTarget) target)
+						.getCompiledExpressionCache();
+				ICompiledExpression expression = cache.acquire(engine,
+						condition, frame);
+				boolean complete = false;
+				try {
+					if (expression.hasErrors()) {
+						complete = true;
+						fireConditionHasErrors(lineBreakpoint,
+								getMessages(expression));
 						return SUSPEND;
 					}
+					Object lock = listener.getLock();
+					synchronized (lock) {
+						engine.evaluateExpression(expression, frame, listener,
+								DebugEvent.EVALUATION_IMPLICIT, false);
+						// TODO: timeout?
+						EventDispatchExecutor.beginBlocking();
+						try {
+							lock.wait();
+						} catch (InterruptedException e) {
+							fireConditionHasRuntimeErrors(
+									lineBreakpoint,
+									new DebugException(
+											new Status(
+													IStatus.ERROR,
+													JDIDebugPlugin
+															.getUniqueIdentifier(),
+													JDIDebugBreakpointMessages.ConditionalBreakpointHandler_0,
+													e)));
+							return SUSPEND;
+						} finally {
+							EventDispatchExecutor.endBlocking();
+						}
+						complete = true;
+					}
+					return listener.getVote();
+				} finally {
+					if (complete) {
+						cache.release(expression);
+					} else {
+						// the evaluation may still be using the expression
+						cache.discard(expression);
+					}
 				}
-				return listener.getVote();
 			} catch (CoreException e) {
 				DebugException de = null;
 				if (e instanceof DebugException) {
@@ -274,6 +302,18 @@ public class ConditionalBreakpointHandler implements IJavaBreakpointListener {
 		return ((JDIDebugTarget) vm).getEvaluationEngine(project);
 	}
 
+	/**
+	 * Returns whether simple conditions are evaluated by reading values from
+	 * the stack frame rather than by the evaluation engine.
+	 * 
+	 * @return whether simple conditions are evaluated directly
+	 */
+	private boolean isEvaluateSimpleConditions() {
+		return Platform.getPreferencesService().getBoolean(
+				JDIDebugPlugin.getUniqueIdentifier(),
+				JDIDebugPlugin.PREF_EVALUATE_SIMPLE_CONDITIONS, false, null);
+	}
+
 	private void fireConditionHasRuntimeErrors(IJavaLineBreakpoint breakpoint, DebugException exception) {
 		fHasErrors = true;
 		JDIDebugPlugin.getDefault().fireBreakpointHasRuntimeException(breakpoint, exception);
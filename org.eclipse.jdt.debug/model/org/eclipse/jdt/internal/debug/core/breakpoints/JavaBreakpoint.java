@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2014 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -22,9 +22,7 @@ import java.util.Set;
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.MultiStatus;
-import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Platform;
-import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugPlugin;
 import org.eclipse.debug.core.IDebugEventSetListener;
@@ -53,7 +51,6 @@ import com.sun.jdi.event.ClassPrepareEvent;
 import com.sun.jdi.event.Event;
 import com.sun.jdi.event.EventSet;
 import com.sun.jdi.event.LocatableEvent;
-import com.sun.jdi.event.ThreadStartEvent;
 import com.sun.jdi.request.ClassPrepareRequest;
 import com.sun.jdi.request.EventRequest;
 import com.sun.jdi.request.EventRequestManager;
@@ -73,6 +70,13 @@ public abstract class JavaBreakpoint extends Breakpoint implements IJavaBreakpoi
 	 * stored as an <code>int</code>.
 	 */
 	protected static final String HIT_COUNT = "org.eclipse.jdt.debug.core.hitCount"; //$NON-NLS-1$
+	/**
+	 * Request property storing the type a request was created in when this
+	 * breakpoint was installed in a loaded type (value
+	 * <code>"org.eclipse.jdt.debug.core.installedType"</code>). This property
+	 * is stored as a <code>ReferenceType</code>.
+	 */
+	private static final String INSTALLED_TYPE = "org.eclipse.jdt.debug.core.installedType"; //$NON-NLS-1$
 	/**
 	 * Breakpoint attribute storing the number of debug targets a breakpoint is
 	 * installed in (value
@@ -295,16 +299,8 @@ public abstract class JavaBreakpoint extends Breakpoint implements IJavaBreakpoi
 		}
 		ThreadReference threadRef = ((LocatableEvent) event).thread();
 		JDIThread thread = target.findThread(threadRef);
-		if (thread == null) {
-			// wait for any thread start event sets to complete processing
-			// see bug 271700
-			try {
-				Job.getJobManager().join(ThreadStartEvent.class, null);
-			} catch (OperationCanceledException e) {
-			} catch (InterruptedException e) {
-			}
-			thread = target.findThread(threadRef);
-		}
+		// the event sets of a thread are dispatched in order, so the start
+		// event of the thread, if any, has been handled (see bug 271700)
 		if (thread == null || thread.isIgnoringBreakpoints()) {
 			return true;
 		}
@@ -368,17 +364,61 @@ public abstract class JavaBreakpoint extends Breakpoint implements IJavaBreakpoi
 	 * @return is the thread should suspend or not
 	 */
 	public boolean handleClassPrepareEvent(ClassPrepareEvent event, JDIDebugTarget target, boolean suspendVote) {
+		installInType(event.referenceType(), target);
+		return true;
+	}
+
+	/**
+	 * Installs this breakpoint in the given type if it is an appropriate type,
+	 * as when the type is prepared in the given target. Nothing is done if
+	 * this breakpoint is already installed in the type, which happens when a
+	 * type is prepared while the target catches up with the types loaded
+	 * during a bulk install.
+	 * 
+	 * @param type
+	 *            a type loaded in the given target
+	 * @param target
+	 *            the target this breakpoint is installed in
+	 */
+	public void installInType(ReferenceType type, JDIDebugTarget target) {
 		try {
-			if (!installableReferenceType(event.referenceType(), target)) {
-				// Don't install this breakpoint in an
-				// inappropriate type
-				return true;
+			synchronized (fRequestsByTarget) {
+				if (hasRequestsInType(type, target)
+						|| !installableReferenceType(type, target)) {
+					// Don't install this breakpoint twice or in an
+					// inappropriate type
+					return;
+				}
+				List<EventRequest> requests = getRequests(target);
+				int count = requests.size();
+				createRequest(target, type);
+				requests = getRequests(target);
+				for (int i = count; i < requests.size(); i++) {
+					requests.get(i).putProperty(INSTALLED_TYPE, type);
+				}
 			}
-			createRequest(target, event.referenceType());
 		} catch (CoreException e) {
 			JDIDebugPlugin.log(e);
 		}
-		return true;
+	}
+
+	/**
+	 * Returns whether this breakpoint has requests in the given target that
+	 * were created when it was installed in the given type.
+	 * 
+	 * @param type
+	 *            a type loaded in the given target
+	 * @param target
+	 *            the target this breakpoint is installed in
+	 * @return whether this breakpoint is installed in the type
+	 */
+	public boolean hasRequestsInType(ReferenceType type, JDIDebugTarget target) {
+		for (EventRequest request : getRequests(target)) {
+			if (type.equals(request.getProperty(INSTALLED_TYPE))) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	/**
@@ -803,7 +843,7 @@ public abstract class JavaBreakpoint extends Breakpoint implements IJavaBreakpoi
 				// if the request has expired, do not disable.
 				// BreakpointRequests that have expired cannot be deleted.
 				if (!isExpired(request)) {
-					request.setEnabled(enabled);
+					target.setRequestEnabled(request, enabled);
 				}
 			} catch (VMDisconnectedException e) {
 			} catch (RuntimeException e) {
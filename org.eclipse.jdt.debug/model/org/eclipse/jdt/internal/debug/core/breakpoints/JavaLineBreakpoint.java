@@ -97,11 +97,11 @@ public class JavaLineBreakpoint extends JavaBreakpoint implements
 	 */
 	private Map<IJavaThread, ICompiledExpression> fSuspendEvents = new HashMap<IJavaThread, ICompiledExpression>();
 	/**
-	 * The map of cached compiled expressions (ICompiledExpression) for this
-	 * breakpoint, keyed by thread. This value must be cleared every time the
-	 * breakpoint is added to a target.
+	 * The condition parsed as a simple condition, or <code>null</code> if it
+	 * is not simple, and the condition it was parsed from.
 	 */
-	private Map<IJavaThread, ICompiledExpression> fCompiledExpressions = new HashMap<IJavaThread, ICompiledExpression>();
+	private SimpleCondition fSimpleCondition;
+	private String fSimpleConditionSource;
 
 	/**
 	 * Cache of projects for stack frames to avoid repetitive project resolution
@@ -216,12 +216,10 @@ public class JavaLineBreakpoint extends JavaBreakpoint implements
 	}
 
 	/**
-	 * Removes all compiled expressions which are currently being cached for
-	 * threads in the given target.
+	 * Removes the projects which are currently being cached for stack frames
+	 * in the given target. Compiled conditions are cached by the target.
 	 */
 	protected void clearCachedExpressionFor(JDIDebugTarget target) {
-		removeCachedThreads(fCompiledExpressions, target);
-
 		// clean up cached projects for stack frames
 		synchronized (fProjectsByFrame) {
 			Set<IJavaStackFrame> frames = fProjectsByFrame.keySet();
@@ -487,8 +485,6 @@ public class JavaLineBreakpoint extends JavaBreakpoint implements
 	 * .String)
 	 */
 	public void setCondition(String condition) throws CoreException {
-		// Clear the cached compiled expressions
-		fCompiledExpressions.clear();
 		fConditionValues.clear();
 		fSuspendEvents.clear();
 		if (condition != null && condition.trim().length() == 0) {
@@ -549,7 +545,6 @@ public class JavaLineBreakpoint extends JavaBreakpoint implements
 	@Override
 	protected void cleanupForThreadTermination(JDIThread thread) {
 		fSuspendEvents.remove(thread);
-		fCompiledExpressions.remove(thread);
 		super.cleanupForThreadTermination(thread);
 	}
 
@@ -596,28 +591,19 @@ public class JavaLineBreakpoint extends JavaBreakpoint implements
 	}
 
 	/**
-	 * Returns existing compiled expression for the given thread or
-	 * <code>null</code>.
+	 * Returns the given condition of this breakpoint as a simple condition, or
+	 * <code>null</code> if it is not simple. The condition is parsed once.
 	 * 
-	 * @param thread
-	 *            thread the breakpoint was hit in
-	 * @return compiled expression or <code>null</code>
-	 */
-	protected ICompiledExpression getExpression(IJavaThread thread) {
-		return fCompiledExpressions.get(thread);
-	}
-
-	/**
-	 * Sets the compiled expression for a thread.
-	 * 
-	 * @param thread
-	 *            thread the breakpoint was hit in
-	 * @param expression
-	 *            associated compiled expression
-	 */
-	protected void setExpression(IJavaThread thread,
-			ICompiledExpression expression) {
-		fCompiledExpressions.put(thread, expression);
+	 * @param condition
+	 *            the condition of this breakpoint
+	 * @return simple condition or <code>null</code>
+	 */
+	protected synchronized SimpleCondition getSimpleCondition(String condition) {
+		if (!condition.equals(fSimpleConditionSource)) {
+			fSimpleCondition = SimpleCondition.parse(condition);
+			fSimpleConditionSource = condition;
+		}
+		return fSimpleCondition;
 	}
 
 	/**
@@ -0,0 +1,628 @@
+/*******************************************************************************
+ * Copyright (c) 2015 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.breakpoints;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.debug.core.DebugException;
+import org.eclipse.debug.core.model.IVariable;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.BooleanLiteral;
+import org.eclipse.jdt.core.dom.CharacterLiteral;
+import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.FieldAccess;
+import org.eclipse.jdt.core.dom.InfixExpression;
+import org.eclipse.jdt.core.dom.MethodInvocation;
+import org.eclipse.jdt.core.dom.NumberLiteral;
+import org.eclipse.jdt.core.dom.ParenthesizedExpression;
+import org.eclipse.jdt.core.dom.PrefixExpression;
+import org.eclipse.jdt.core.dom.SimpleName;
+import org.eclipse.jdt.core.dom.StringLiteral;
+import org.eclipse.jdt.core.dom.ThisExpression;
+import org.eclipse.jdt.debug.core.IJavaObject;
+import org.eclipse.jdt.debug.core.IJavaPrimitiveValue;
+import org.eclipse.jdt.debug.core.IJavaStackFrame;
+import org.eclipse.jdt.debug.core.IJavaValue;
+import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
+import org.eclipse.jdt.internal.debug.core.model.JDILocalVariable;
+import org.eclipse.jdt.internal.debug.core.model.JDIObjectValue;
+import org.eclipse.jdt.internal.debug.core.model.JDIStackFrame;
+import org.eclipse.jdt.internal.debug.core.model.JDIValue;
+
+import com.sun.jdi.ClassType;
+import com.sun.jdi.Field;
+import com.sun.jdi.InterfaceType;
+import com.sun.jdi.ReferenceType;
+import com.sun.jdi.Value;
+
+/**
+ * A breakpoint condition simple enough to be evaluated by reading values from
+ * the stack frame, without compiling it and running it through the AST
+ * evaluation engine.
+ * <p>
+ * Simple conditions combine comparisons of locals, fields of the type that
+ * declares the method of the frame and literals with <code>==</code>, <code>!=</code>,
+ * <code>&lt;</code>, <code>&lt;=</code>, <code>&gt;</code>,
+ * <code>&gt;=</code>, <code>&amp;&amp;</code>, <code>||</code> and
+ * <code>!</code>, and may test strings with <code>equals</code>. Evaluating
+ * one costs a few value reads instead of an evaluation in the thread. When a
+ * hit cannot be evaluated this way, for instance because a name is not a
+ * variable or a value has an unexpected type, the condition is evaluated by
+ * the engine as usual.
+ * </p>
+ * <p>
+ * Names are resolved as the compiler resolves them in the method, not
+ * against the runtime type of <code>this</code>: a name that is not a local
+ * is looked up among the fields of the declaring type and its supertypes.
+ * Fields of enclosing instances are left to the engine, as are names that
+ * are ambiguous or refer to fields the declaring type does not inherit.
+ * </p>
+ */
+public class SimpleCondition {
+
+	private static final String STRING_SIGNATURE = "Ljava/lang/String;"; //$NON-NLS-1$
+
+	/**
+	 * Thrown when a hit cannot be evaluated as a simple condition.
+	 */
+	private static final class CannotEvaluate extends Exception {
+		private static final long serialVersionUID = 1L;
+	}
+
+	/**
+	 * A node of a simple condition. Values are represented by
+	 * <code>Boolean</code>, <code>Long</code> for integral and character
+	 * values, <code>Float</code> and <code>Double</code> for floating point
+	 * values,
+	 * <code>String</code> for string literals, {@link IJavaObject} for
+	 * objects and <code>null</code>.
+	 */
+	private static abstract class Node {
+		abstract Object value(IJavaStackFrame frame) throws DebugException,
+				CannotEvaluate;
+	}
+
+	private final Node fRoot;
+
+	private SimpleCondition(Node root) {
+		fRoot = root;
+	}
+
+	/**
+	 * Returns the given condition as a simple condition, or <code>null</code>
+	 * if it is not one.
+	 *
+	 * @param condition
+	 *            a breakpoint condition
+	 * @return the simple condition or <code>null</code>
+	 */
+	public static SimpleCondition parse(String condition) {
+		ASTParser parser = ASTParser.newParser(AST.JLS8);
+		parser.setKind(ASTParser.K_EXPRESSION);
+		// binary literals and underscores in literals need Java 7 at least
+		Map<String, String> options = JavaCore.getOptions();
+		JavaCore.setComplianceOptions(JavaCore.VERSION_1_8, options);
+		parser.setCompilerOptions(options);
+		parser.setSource(condition.toCharArray());
+		ASTNode node = parser.createAST(null);
+		if (!(node instanceof Expression)
+				|| (node.getFlags() & (ASTNode.MALFORMED | ASTNode.RECOVERED)) != 0) {
+			return null;
+		}
+		Node root = compile((Expression) node);
+		if (root == null) {
+			return null;
+		}
+		return new SimpleCondition(root);
+	}
+
+	/**
+	 * Evaluates this condition in the given frame.
+	 *
+	 * @param frame
+	 *            the frame the breakpoint was hit in
+	 * @return the value of the condition, or <code>null</code> if it cannot be
+	 *         evaluated as a simple condition in the frame
+	 * @throws DebugException
+	 *             if a value cannot be read
+	 */
+	public Boolean evaluate(IJavaStackFrame frame) throws DebugException {
+		try {
+			Object value = fRoot.value(frame);
+			if (value instanceof Boolean) {
+				return (Boolean) value;
+			}
+		} catch (CannotEvaluate e) {
+			// evaluated by the engine
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the node for the given expression, or <code>null</code> if it
+	 * is not part of a simple condition.
+	 */
+	private static Node compile(Expression expression) {
+		switch (expression.getNodeType()) {
+		case ASTNode.PARENTHESIZED_EXPRESSION:
+			return compile(((ParenthesizedExpression) expression)
+					.getExpression());
+		case ASTNode.BOOLEAN_LITERAL:
+			return constant(Boolean.valueOf(((BooleanLiteral) expression)
+					.booleanValue()));
+		case ASTNode.NULL_LITERAL:
+			return constant(null);
+		case ASTNode.CHARACTER_LITERAL:
+			return constant(Long.valueOf(((CharacterLiteral) expression)
+					.charValue()));
+		case ASTNode.STRING_LITERAL:
+			return constant(((StringLiteral) expression).getLiteralValue());
+		case ASTNode.NUMBER_LITERAL:
+			Object number = parseNumber(((NumberLiteral) expression)
+					.getToken());
+			return number == null ? null : constant(number);
+		case ASTNode.SIMPLE_NAME:
+			return variable(((SimpleName) expression).getIdentifier());
+		case ASTNode.FIELD_ACCESS:
+			FieldAccess access = (FieldAccess) expression;
+			if (access.getExpression() instanceof ThisExpression
+					&& ((ThisExpression) access.getExpression())
+							.getQualifier() == null) {
+				return field(access.getName().getIdentifier());
+			}
+			return null;
+		case ASTNode.PREFIX_EXPRESSION:
+			PrefixExpression prefix = (PrefixExpression) expression;
+			if (prefix.getOperator() == PrefixExpression.Operator.NOT) {
+				return not(compile(prefix.getOperand()));
+			}
+			if (prefix.getOperator() == PrefixExpression.Operator.MINUS
+					&& prefix.getOperand() instanceof NumberLiteral) {
+				Object negated = parseNumber('-' + ((NumberLiteral) prefix
+						.getOperand()).getToken());
+				return negated == null ? null : constant(negated);
+			}
+			return null;
+		case ASTNode.INFIX_EXPRESSION:
+			return infix((InfixExpression) expression);
+		case ASTNode.METHOD_INVOCATION:
+			MethodInvocation invocation = (MethodInvocation) expression;
+			List<?> arguments = invocation.arguments();
+			if (invocation.getName().getIdentifier().equals("equals") //$NON-NLS-1$
+					&& invocation.getExpression() != null
+					&& invocation.typeArguments().isEmpty()
+					&& arguments.size() == 1) {
+				return stringEquals(compile(invocation.getExpression()),
+						compile((Expression) arguments.get(0)));
+			}
+			return null;
+		default:
+			return null;
+		}
+	}
+
+	/**
+	 * Returns the node for the given infix expression, folding its extended
+	 * operands from the left.
+	 */
+	private static Node infix(InfixExpression expression) {
+		InfixExpression.Operator operator = expression.getOperator();
+		Node node = compile(expression.getLeftOperand());
+		node = infix(operator, node, compile(expression.getRightOperand()));
+		List<?> extended = expression.extendedOperands();
+		for (int i = 0; i < extended.size(); i++) {
+			node = infix(operator, node,
+					compile((Expression) extended.get(i)));
+		}
+		return node;
+	}
+
+	private static Node infix(final InfixExpression.Operator operator,
+			final Node left, final Node right) {
+		if (left == null || right == null) {
+			return null;
+		}
+		if (operator == InfixExpression.Operator.CONDITIONAL_AND
+				|| operator == InfixExpression.Operator.CONDITIONAL_OR) {
+			final boolean and = operator == InfixExpression.Operator.CONDITIONAL_AND;
+			return new Node() {
+				@Override
+				Object value(IJavaStackFrame frame) throws DebugException,
+						CannotEvaluate {
+					if (toBoolean(left.value(frame)) != and) {
+						return Boolean.valueOf(!and);
+					}
+					return Boolean.valueOf(toBoolean(right.value(frame)));
+				}
+			};
+		}
+		if (operator == InfixExpression.Operator.EQUALS
+				|| operator == InfixExpression.Operator.NOT_EQUALS) {
+			final boolean equals = operator == InfixExpression.Operator.EQUALS;
+			return new Node() {
+				@Override
+				Object value(IJavaStackFrame frame) throws DebugException,
+						CannotEvaluate {
+					return Boolean.valueOf(same(left.value(frame),
+							right.value(frame)) == equals);
+				}
+			};
+		}
+		if (operator == InfixExpression.Operator.LESS
+				|| operator == InfixExpression.Operator.LESS_EQUALS
+				|| operator == InfixExpression.Operator.GREATER
+				|| operator == InfixExpression.Operator.GREATER_EQUALS) {
+			return new Node() {
+				@Override
+				Object value(IJavaStackFrame frame) throws DebugException,
+						CannotEvaluate {
+					int comparison = compare(left.value(frame),
+							right.value(frame));
+					if (operator == InfixExpression.Operator.LESS) {
+						return Boolean.valueOf(comparison < 0);
+					}
+					if (operator == InfixExpression.Operator.LESS_EQUALS) {
+						return Boolean.valueOf(comparison <= 0);
+					}
+					if (operator == InfixExpression.Operator.GREATER) {
+						return Boolean.valueOf(comparison > 0);
+					}
+					return Boolean.valueOf(comparison >= 0);
+				}
+			};
+		}
+		return null;
+	}
+
+	private static Node constant(final Object value) {
+		return new Node() {
+			@Override
+			Object value(IJavaStackFrame frame) {
+				return value;
+			}
+		};
+	}
+
+	private static Node variable(final String name) {
+		return new Node() {
+			@Override
+			Object value(IJavaStackFrame frame) throws DebugException,
+					CannotEvaluate {
+				if (!(frame instanceof JDIStackFrame)) {
+					throw new CannotEvaluate();
+				}
+				JDIStackFrame jdiFrame = (JDIStackFrame) frame;
+				IVariable[] variables = jdiFrame.getVariables();
+				if (!jdiFrame.wereLocalsAvailable()) {
+					// the name may be a local without debug information
+					throw new CannotEvaluate();
+				}
+				for (IVariable variable : variables) {
+					if (variable instanceof JDILocalVariable
+							&& variable.getName().equals(name)) {
+						return toValue((IJavaValue) variable.getValue());
+					}
+				}
+				return fieldValue(jdiFrame, name);
+			}
+		};
+	}
+
+	private static Node field(final String name) {
+		return new Node() {
+			@Override
+			Object value(IJavaStackFrame frame) throws DebugException,
+					CannotEvaluate {
+				if (!(frame instanceof JDIStackFrame)) {
+					throw new CannotEvaluate();
+				}
+				return fieldValue((JDIStackFrame) frame, name);
+			}
+		};
+	}
+
+	/**
+	 * Returns the node value of the field with the given name that is visible
+	 * in the method of the given frame.
+	 */
+	static Object fieldValue(JDIStackFrame frame, String name)
+			throws DebugException, CannotEvaluate {
+		Value value;
+		try {
+			ReferenceType type = frame.getUnderlyingMethod().declaringType();
+			Field field = findField(type, name);
+			if (field == null) {
+				// a type or a field of an enclosing instance
+				throw new CannotEvaluate();
+			}
+			if (!field.declaringType().equals(type)
+					&& (field.isPrivate() || field.isPackagePrivate())) {
+				// possibly not inherited
+				throw new CannotEvaluate();
+			}
+			if (field.isStatic()) {
+				value = field.declaringType().getValue(field);
+			} else {
+				IJavaObject object = frame.getThis();
+				if (!(object instanceof JDIObjectValue)) {
+					throw new CannotEvaluate();
+				}
+				value = ((JDIObjectValue) object).getUnderlyingObject()
+						.getValue(field);
+			}
+		} catch (RuntimeException e) {
+			// left to the engine, which reports the failure
+			throw new CannotEvaluate();
+		}
+		return toValue(JDIValue.createValue(
+				(JDIDebugTarget) frame.getDebugTarget(), value));
+	}
+
+	/**
+	 * Returns the field with the given name that is a member of the given
+	 * type, or <code>null</code> if none. A field declared in the type hides
+	 * the fields of its supertypes.
+	 *
+	 * @throws CannotEvaluate
+	 *             if the type inherits different fields with the name
+	 */
+	static Field findField(ReferenceType type, String name)
+			throws CannotEvaluate {
+		Field field = type.fieldByName(name);
+		if (field == null || field.declaringType().equals(type)) {
+			return field;
+		}
+		List<? extends ReferenceType> supertypes;
+		if (type instanceof ClassType) {
+			supertypes = ((ClassType) type).interfaces();
+			ClassType superclass = ((ClassType) type).superclass();
+			field = superclass == null ? null : findField(superclass, name);
+		} else if (type instanceof InterfaceType) {
+			supertypes = ((InterfaceType) type).superinterfaces();
+			field = null;
+		} else {
+			throw new CannotEvaluate();
+		}
+		for (ReferenceType supertype : supertypes) {
+			Field inherited = findField(supertype, name);
+			if (inherited != null) {
+				if (field != null && !field.equals(inherited)) {
+					// ambiguous
+					throw new CannotEvaluate();
+				}
+				field = inherited;
+			}
+		}
+		return field;
+	}
+
+	private static Node not(final Node operand) {
+		if (operand == null) {
+			return null;
+		}
+		return new Node() {
+			@Override
+			Object value(IJavaStackFrame frame) throws DebugException,
+					CannotEvaluate {
+				return Boolean.valueOf(!toBoolean(operand.value(frame)));
+			}
+		};
+	}
+
+	private static Node stringEquals(final Node receiver, final Node argument) {
+		if (receiver == null || argument == null) {
+			return null;
+		}
+		return new Node() {
+			@Override
+			Object value(IJavaStackFrame frame) throws DebugException,
+					CannotEvaluate {
+				String string = toStringValue(receiver.value(frame));
+				if (string == null) {
+					// a null receiver throws, other receivers may override
+					// equals
+					throw new CannotEvaluate();
+				}
+				return Boolean.valueOf(string.equals(toStringValue(argument
+						.value(frame))));
+			}
+		};
+	}
+
+	/**
+	 * Returns the node value of the given model value.
+	 */
+	static Object toValue(IJavaValue value) throws DebugException,
+			CannotEvaluate {
+		if (value instanceof IJavaPrimitiveValue) {
+			IJavaPrimitiveValue primitive = (IJavaPrimitiveValue) value;
+			switch (primitive.getSignature().charAt(0)) {
+			case 'Z':
+				return Boolean.valueOf(primitive.getBooleanValue());
+			case 'F':
+				return Float.valueOf(primitive.getFloatValue());
+			case 'D':
+				return Double.valueOf(primitive.getDoubleValue());
+			default:
+				return Long.valueOf(primitive.getLongValue());
+			}
+		}
+		if (value.isNull()) {
+			return null;
+		}
+		if (value instanceof IJavaObject) {
+			return value;
+		}
+		throw new CannotEvaluate();
+	}
+
+	static boolean toBoolean(Object value) throws CannotEvaluate {
+		if (value instanceof Boolean) {
+			return ((Boolean) value).booleanValue();
+		}
+		throw new CannotEvaluate();
+	}
+
+	/**
+	 * Returns the characters of the given string literal or string object,
+	 * or <code>null</code> if the value is not a string.
+	 */
+	static String toStringValue(Object value) throws DebugException {
+		if (value instanceof String) {
+			return (String) value;
+		}
+		if (value instanceof IJavaObject
+				&& STRING_SIGNATURE.equals(((IJavaObject) value).getSignature())) {
+			return ((IJavaObject) value).getValueString();
+		}
+		return null;
+	}
+
+	/**
+	 * Returns whether the given values are equal as with <code>==</code>.
+	 */
+	static boolean same(Object left, Object right) throws CannotEvaluate {
+		if (left instanceof Number && right instanceof Number) {
+			return compare(left, right) == 0;
+		}
+		if (left instanceof Boolean && right instanceof Boolean) {
+			return left.equals(right);
+		}
+		if ((left == null || left instanceof IJavaObject)
+				&& (right == null || right instanceof IJavaObject)) {
+			// object identity
+			return left == null ? right == null : left.equals(right);
+		}
+		// string literals are compared by identity with interned strings
+		throw new CannotEvaluate();
+	}
+
+	/**
+	 * Compares the given numbers with binary numeric promotion: as
+	 * <code>long</code> values if both are integral, as <code>float</code>
+	 * values if neither is a <code>double</code>, and as <code>double</code>
+	 * values otherwise.
+	 */
+	static int compare(Object left, Object right) throws CannotEvaluate {
+		if (left instanceof Long && right instanceof Long) {
+			long l = ((Long) left).longValue();
+			long r = ((Long) right).longValue();
+			return l < r ? -1 : (l == r ? 0 : 1);
+		}
+		if (!(left instanceof Number && right instanceof Number)) {
+			throw new CannotEvaluate();
+		}
+		if (!(left instanceof Double || right instanceof Double)) {
+			float l = ((Number) left).floatValue();
+			float r = ((Number) right).floatValue();
+			if (Float.isNaN(l) || Float.isNaN(r)) {
+				throw new CannotEvaluate();
+			}
+			return l < r ? -1 : (l == r ? 0 : 1);
+		}
+		double l = ((Number) left).doubleValue();
+		double r = ((Number) right).doubleValue();
+		if (Double.isNaN(l) || Double.isNaN(r)) {
+			throw new CannotEvaluate();
+		}
+		return l < r ? -1 : (l == r ? 0 : 1);
+	}
+
+	/**
+	 * Returns the value of the given number literal, possibly negated, as a
+	 * <code>Long</code>, <code>Float</code> or <code>Double</code>, or
+	 * <code>null</code> if it is not supported. Integer literals without a
+	 * suffix have <code>int</code> semantics: hexadecimal, octal and binary
+	 * literals up to <code>0xFFFFFFFF</code> wrap to 32 bits, and decimal
+	 * literals out of the range of <code>int</code> are left to the engine,
+	 * as are hexadecimal floating point literals.
+	 */
+	static Object parseNumber(String token) {
+		String literal = token.replace("_", ""); //$NON-NLS-1$ //$NON-NLS-2$
+		boolean negative = literal.startsWith("-"); //$NON-NLS-1$
+		if (negative) {
+			literal = literal.substring(1);
+		}
+		if (literal.length() == 0) {
+			return null;
+		}
+		int radix = 10;
+		int start = 0;
+		if (literal.startsWith("0x") || literal.startsWith("0X")) { //$NON-NLS-1$ //$NON-NLS-2$
+			if (literal.indexOf('.') >= 0 || literal.indexOf('p') >= 0
+					|| literal.indexOf('P') >= 0) {
+				return null;
+			}
+			radix = 16;
+			start = 2;
+		} else if (literal.startsWith("0b") || literal.startsWith("0B")) { //$NON-NLS-1$ //$NON-NLS-2$
+			radix = 2;
+			start = 2;
+		}
+		char last = Character.toLowerCase(literal.charAt(literal.length() - 1));
+		try {
+			if (radix == 10
+					&& (last == 'f' || last == 'd' || literal.indexOf('.') >= 0
+							|| literal.indexOf('e') >= 0 || literal.indexOf('E') >= 0)) {
+				if (last == 'f') {
+					float value = Float.parseFloat(literal);
+					if (Float.isInfinite(value)) {
+						// too large, a compilation error
+						return null;
+					}
+					return Float.valueOf(negative ? -value : value);
+				}
+				double value = Double.parseDouble(literal);
+				if (Double.isInfinite(value)) {
+					// too large, a compilation error
+					return null;
+				}
+				return Double.valueOf(negative ? -value : value);
+			}
+			boolean isLong = last == 'l';
+			String digits = literal.substring(start, isLong ? literal.length() - 1
+					: literal.length());
+			if (radix == 10 && digits.length() > 1 && digits.charAt(0) == '0') {
+				radix = 8;
+			}
+			if (digits.length() == 0) {
+				return null;
+			}
+			BigInteger magnitude = new BigInteger(digits, radix);
+			int bits = isLong ? 64 : 32;
+			if (radix == 10) {
+				// only the magnitude of the minimum value may exceed the
+				// maximum value, when negated
+				if (magnitude.bitLength() > bits - 1
+						&& !(negative && magnitude.equals(BigInteger.ONE
+								.shiftLeft(bits - 1)))) {
+					return null;
+				}
+			} else if (magnitude.bitLength() > bits) {
+				return null;
+			}
+			if (isLong) {
+				long value = magnitude.longValue();
+				return Long.valueOf(negative ? -value : value);
+			}
+			int value = magnitude.intValue();
+			return Long.valueOf(negative ? -value : value);
+		} catch (NumberFormatException e) {
+			// malformed literals are left to the engine
+		}
+		return null;
+	}
+}
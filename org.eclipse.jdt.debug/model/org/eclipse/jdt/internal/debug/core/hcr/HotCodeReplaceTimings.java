@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2015 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.hcr;
+
+import org.eclipse.jdt.debug.core.IJavaDebugTarget;
+
+/**
+ * The time spent in each phase of a hot code replace in one target.
+ * <p>
+ * The phases are:
+ * <ul>
+ * <li>{@link #DELTA_ANALYSIS}: finding the changed class files in the build
+ * delta, shared by all the targets, and the ones loaded in the target</li>
+ * <li>{@link #BYTE_LOADING}: reading the changed class files, which is only
+ * done by the first target that needs each of them</li>
+ * <li>{@link #REDEFINITION}: redefining the classes in the target</li>
+ * <li>{@link #FRAME_UPDATE}: popping or dropping the affected frames and
+ * checking for obsolete methods</li>
+ * </ul>
+ * </p>
+ */
+public class HotCodeReplaceTimings {
+
+	public static final int DELTA_ANALYSIS = 0;
+	public static final int BYTE_LOADING = 1;
+	public static final int REDEFINITION = 2;
+	public static final int FRAME_UPDATE = 3;
+
+	private static final String[] PHASE_NAMES = { "delta analysis", //$NON-NLS-1$
+			"byte loading", "redefinition", "frame update" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+	private final IJavaDebugTarget fTarget;
+	private final long[] fTimes = new long[PHASE_NAMES.length];
+
+	/**
+	 * Creates the timings of a hot code replace in the given target.
+	 *
+	 * @param target
+	 *            the target
+	 */
+	public HotCodeReplaceTimings(IJavaDebugTarget target) {
+		fTarget = target;
+	}
+
+	/**
+	 * Returns the target the hot code replace was performed in.
+	 *
+	 * @return the target
+	 */
+	public IJavaDebugTarget getTarget() {
+		return fTarget;
+	}
+
+	/**
+	 * Adds time spent in the given phase.
+	 *
+	 * @param phase
+	 *            one of the phase constants
+	 * @param nanos
+	 *            the time in nanoseconds
+	 */
+	public synchronized void add(int phase, long nanos) {
+		fTimes[phase] += nanos;
+	}
+
+	/**
+	 * Returns the time spent in the given phase.
+	 *
+	 * @param phase
+	 *            one of the phase constants
+	 * @return the time in nanoseconds
+	 */
+	public synchronized long getTime(int phase) {
+		return fTimes[phase];
+	}
+
+	/**
+	 * Returns the time spent in all the phases.
+	 *
+	 * @return the time in nanoseconds
+	 */
+	public synchronized long getTotalTime() {
+		long total = 0;
+		for (long time : fTimes) {
+			total += time;
+		}
+		return total;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public synchronized String toString() {
+		StringBuffer buffer = new StringBuffer("HCR timings (us): "); //$NON-NLS-1$
+		for (int i = 0; i < fTimes.length; i++) {
+			buffer.append(PHASE_NAMES[i]).append('=')
+					.append(fTimes[i] / 1000).append(", "); //$NON-NLS-1$
+		}
+		buffer.append("total=").append(getTotalTime() / 1000); //$NON-NLS-1$
+		return buffer.toString();
+	}
+}
@@ -0,0 +1,38 @@
+/*******************************************************************************
+ * Copyright (c) 2015 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.hcr;
+
+import org.eclipse.jdt.debug.core.IJavaHotCodeReplaceListener;
+
+/**
+ * A hot code replace listener that is also told how long each phase of a hot
+ * code replace took. Listeners registered with the
+ * {@link JavaHotCodeReplaceManager} or with a target that implement this
+ * interface are notified after each hot code replace attempt, whether it
+ * succeeded or failed.
+ * <p>
+ * Hot code replace is performed in several targets at once, so this method
+ * can be called from several threads at once.
+ * </p>
+ */
+public interface IHotCodeReplaceTimingsListener extends
+		IJavaHotCodeReplaceListener {
+
+	/**
+	 * Notification of the time spent in each phase of a hot code replace
+	 * attempt.
+	 *
+	 * @param timings
+	 *            the timings, of which the target is the one the hot code
+	 *            replace was attempted in
+	 */
+	public void hotCodeReplaceTimings(HotCodeReplaceTimings timings);
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2013 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -19,6 +19,13 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
@@ -68,6 +75,7 @@ import org.eclipse.jdt.debug.core.IJavaStackFrame;
 import org.eclipse.jdt.debug.core.IJavaThread;
 import org.eclipse.jdt.debug.core.JDIDebugModel;
 import org.eclipse.jdt.internal.core.util.Util;
+import org.eclipse.jdt.internal.debug.core.JDIDebugOptions;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.jdt.internal.debug.core.JavaDebugUtils;
 import org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget;
@@ -95,6 +103,10 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 	 * The class file extension
 	 */
 	private static final String CLASS_FILE_EXTENSION = "class"; //$NON-NLS-1$
+	/**
+	 * The largest number of targets hot code replace is performed in at once
+	 */
+	private static final int MAX_PARALLEL_TARGETS = 4;
 
 	/**
 	 * The list of <code>IJavaHotCodeReplaceListeners</code> which this hot code
@@ -119,9 +131,10 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 	private static Date fStartupDate = new Date();
 
 	/**
-	 * Cache of compilation unit deltas renewed on each HCR attempt.
+	 * Cache of compilation unit deltas renewed on each HCR attempt. Shared by
+	 * the targets of an attempt.
 	 */
-	private Map<ICompilationUnit, CompilationUnitDelta> fDeltaCache = new HashMap<ICompilationUnit, CompilationUnitDelta>();
+	private ConcurrentMap<ICompilationUnit, CompilationUnitDelta> fDeltaCache = new ConcurrentHashMap<ICompilationUnit, CompilationUnitDelta>();
 
 	/**
 	 * Utility object used for tracking build times of projects. The HCR manager
@@ -232,12 +245,13 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 				return;
 			}
 		}
+		long start = System.nanoTime();
 		ChangedClassFilesVisitor visitor = getChangedClassFiles(event);
 		if (visitor != null) {
 			List<IResource> resources = visitor.getChangedClassFiles();
 			List<String> names = visitor.getQualifiedNamesList();
 			if (!resources.isEmpty()) {
-				notifyTargets(resources, names);
+				notifyTargets(resources, names, System.nanoTime() - start);
 			}
 		}
 	}
@@ -305,14 +319,19 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 
 	/**
 	 * Notifies the targets of the changed types
+	 * 
+	 * @param deltaTime
+	 *            the time in nanoseconds spent finding the changed types in
+	 *            the build delta
 	 */
-	private void notifyTargets(final List<IResource> resources, final List<String> qualifiedNames) {
+	private void notifyTargets(final List<IResource> resources, final List<String> qualifiedNames,
+			final long deltaTime) {
 		final List<JDIDebugTarget> hotSwapTargets = getHotSwapTargets();
 		final List<JDIDebugTarget> noHotSwapTargets = getNoHotSwapTargets();
 		if (!hotSwapTargets.isEmpty()) {
 			Runnable runnable = new Runnable() {
 				public void run() {
-					doHotCodeReplace(hotSwapTargets, resources, qualifiedNames);
+					doHotCodeReplace(hotSwapTargets, resources, qualifiedNames, deltaTime);
 				}
 			};
 			DebugPlugin.getDefault().asyncExec(runnable);
@@ -382,7 +401,9 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 
 				if (!qualifiedNamesToReplace.isEmpty()) {
 					// Don't notify if the changed types aren't loaded.
-					fireHCRFailed(target, null);
+					List<Runnable> notifications = new ArrayList<Runnable>(1);
+					fireHCRFailed(target, null, notifications);
+					notifyListeners(notifications);
 					notifyFailedHCR(target, qualifiedNamesToReplace);
 				}
 			} else {
@@ -435,64 +456,169 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 	 * on all threads which were affected by the class redefinition.</li>
 	 * </ol>
 	 * 
+	 * <p>
+	 * Hot code replace is performed in up to {@link #MAX_PARALLEL_TARGETS}
+	 * targets at once. The changed class files are only read once, by the
+	 * first target that needs them. Listeners are notified of the outcome in
+	 * each target by the calling thread, in the order of the targets, once
+	 * the replace in the target is done.
+	 * </p>
+	 * 
 	 * @param targets
 	 *            the targets in which to perform HCR
 	 * @param resources
 	 *            the resources which correspond to the changed classes
+	 * @param deltaTime
+	 *            the time in nanoseconds spent finding the changed classes in
+	 *            the build delta
 	 */
-	private void doHotCodeReplace(List<JDIDebugTarget> targets, List<IResource> resources,
-			List<String> qualifiedNames) {
-		MultiStatus ms = new MultiStatus(
+	private void doHotCodeReplace(List<JDIDebugTarget> targets, final List<IResource> resources,
+			final List<String> qualifiedNames, final long deltaTime) {
+		final MultiStatus ms = new MultiStatus(
 				JDIDebugPlugin.getUniqueIdentifier(),
 				DebugException.TARGET_REQUEST_FAILED,
 				"At least one target failed to drop to frame after successful hot code replace.", null); //$NON-NLS-1$
-		Iterator<JDIDebugTarget> iter = targets.iterator();
-		while (iter.hasNext()) {
-			JDIDebugTarget target = iter.next();
-			if (!target.isAvailable()) {
+		final Map<IResource, byte[]> classBytes = new HashMap<IResource, byte[]>(resources.size());
+		List<JDIDebugTarget> availableTargets = new ArrayList<JDIDebugTarget>(targets.size());
+		for (JDIDebugTarget target : targets) {
+			if (target.isAvailable()) {
+				availableTargets.add(target);
+			} else {
 				deregisterTarget(target);
-				continue;
 			}
-			// Make a local copy of the resources/names to swap so we can filter
-			// unloaded types on a per-target basis.
-			List<IResource> resourcesToReplace = new ArrayList<IResource>(resources);
-			List<String> qualifiedNamesToReplace = new ArrayList<String>(qualifiedNames);
-			filterUnloadedTypes(target, resourcesToReplace,
-					qualifiedNamesToReplace);
-			if (qualifiedNamesToReplace.isEmpty()) {
-				// If none of the changed types are loaded, do nothing.
-				continue;
-			}
-
-			List<IThread> poppedThreads = new ArrayList<IThread>();
-			target.setIsPerformingHotCodeReplace(true);
+		}
+		if (availableTargets.size() == 1) {
+			List<Runnable> notifications = new ArrayList<Runnable>();
+			doHotCodeReplace(availableTargets.get(0), resources, qualifiedNames, classBytes, ms, deltaTime, notifications);
+			notifyListeners(notifications);
+		} else if (!availableTargets.isEmpty()) {
+			ExecutorService executor = Executors.newFixedThreadPool(
+					Math.min(availableTargets.size(), MAX_PARALLEL_TARGETS),
+					new ThreadFactory() {
+						public Thread newThread(Runnable r) {
+							Thread thread = new Thread(r, "Hot Code Replace"); //$NON-NLS-1$
+							thread.setDaemon(true);
+							return thread;
+						}
+					});
 			try {
-				boolean framesPopped = false;
-				if (target.canPopFrames()) {
-					// JDK 1.4 drop to frame support:
-					// JDK 1.4 spec is faulty around methods that have
-					// been rendered obsolete after class redefinition.
-					// Thus, pop the frames that contain affected methods
-					// *before* the class redefinition to avoid problems.
+				List<Future<?>> replaces = new ArrayList<Future<?>>(availableTargets.size());
+				List<List<Runnable>> notifications = new ArrayList<List<Runnable>>(availableTargets.size());
+				for (final JDIDebugTarget target : availableTargets) {
+					final List<Runnable> targetNotifications = new ArrayList<Runnable>();
+					notifications.add(targetNotifications);
+					replaces.add(executor.submit(new Runnable() {
+						public void run() {
+							doHotCodeReplace(target, resources, qualifiedNames, classBytes, ms, deltaTime, targetNotifications);
+						}
+					}));
+				}
+				for (int i = 0; i < replaces.size(); i++) {
 					try {
-						attemptPopFrames(target, resourcesToReplace,
-								qualifiedNamesToReplace, poppedThreads);
-						framesPopped = true; // No exception occurred
-					} catch (DebugException de) {
-						if (shouldLogHCRException(de)) {
+						replaces.get(i).get();
+					} catch (ExecutionException e) {
+						JDIDebugPlugin.log(e.getCause());
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						break;
+					}
+					notifyListeners(notifications.get(i));
+				}
+			} finally {
+				executor.shutdown();
+			}
+		}
+		if (!ms.isOK()) {
+			JDIDebugPlugin.log(ms);
+		}
+		fDeltaCache.clear();
+	}
+
+	/**
+	 * Performs a hot code replace with the given resources in the given
+	 * target, as described in
+	 * {@link #doHotCodeReplace(List, List, List, long)}. The notifications of
+	 * listeners about the outcome are added to the given list instead of
+	 * being run.
+	 * 
+	 * @param target
+	 *            the target in which to perform HCR
+	 * @param resources
+	 *            the resources which correspond to the changed classes
+	 * @param qualifiedNames
+	 *            the names of the changed classes
+	 * @param classBytes
+	 *            the bytes of the changed class files read so far, shared by
+	 *            the targets
+	 * @param ms
+	 *            the status the failures to drop to frame are merged into,
+	 *            shared by the targets
+	 * @param deltaTime
+	 *            the time in nanoseconds spent finding the changed classes in
+	 *            the build delta
+	 * @param notifications
+	 *            the list the notifications of listeners are added to
+	 */
+	private void doHotCodeReplace(JDIDebugTarget target, List<IResource> resources,
+			List<String> qualifiedNames, Map<IResource, byte[]> classBytes, MultiStatus ms,
+			long deltaTime, List<Runnable> notifications) {
+		HotCodeReplaceTimings timings = new HotCodeReplaceTimings(target);
+		long start = System.nanoTime();
+		// Make a local copy of the resources/names to swap so we can filter
+		// unloaded types on a per-target basis.
+		List<IResource> resourcesToReplace = new ArrayList<IResource>(resources);
+		List<String> qualifiedNamesToReplace = new ArrayList<String>(qualifiedNames);
+		filterUnloadedTypes(target, resourcesToReplace,
+				qualifiedNamesToReplace);
+		timings.add(HotCodeReplaceTimings.DELTA_ANALYSIS, deltaTime + System.nanoTime() - start);
+		if (qualifiedNamesToReplace.isEmpty()) {
+			// If none of the changed types are loaded, do nothing.
+			return;
+		}
+
+		List<IThread> poppedThreads = new ArrayList<IThread>();
+		target.setIsPerformingHotCodeReplace(true);
+		try {
+			boolean framesPopped = false;
+			if (target.canPopFrames()) {
+				// JDK 1.4 drop to frame support:
+				// JDK 1.4 spec is faulty around methods that have
+				// been rendered obsolete after class redefinition.
+				// Thus, pop the frames that contain affected methods
+				// *before* the class redefinition to avoid problems.
+				start = System.nanoTime();
+				try {
+					attemptPopFrames(target, resourcesToReplace,
+							qualifiedNamesToReplace, poppedThreads);
+					framesPopped = true; // No exception occurred
+				} catch (DebugException de) {
+					if (shouldLogHCRException(de)) {
+						synchronized (ms) {
 							ms.merge(de.getStatus());
 						}
 					}
+				} finally {
+					timings.add(HotCodeReplaceTimings.FRAME_UPDATE, System.nanoTime() - start);
 				}
-				target.removeOutOfSynchTypes(qualifiedNamesToReplace);
+			}
+			target.removeOutOfSynchTypes(qualifiedNamesToReplace);
+			start = System.nanoTime();
+			try {
 				if (target.supportsJDKHotCodeReplace()) {
 					redefineTypesJDK(target, resourcesToReplace,
-							qualifiedNamesToReplace);
+							qualifiedNamesToReplace, classBytes, timings);
 				} else if (target.supportsJ9HotCodeReplace()) {
 					redefineTypesJ9(target, qualifiedNamesToReplace);
 				}
+			} finally {
+				// the class files are read while redefining
+				timings.add(HotCodeReplaceTimings.REDEFINITION, System.nanoTime() - start
+						- timings.getTime(HotCodeReplaceTimings.BYTE_LOADING));
+			}
+			start = System.nanoTime();
+			try {
 				if (containsObsoleteMethods(target)) {
-					fireObsoleteMethods(target);
+					fireObsoleteMethods(target, notifications);
 				}
 				try {
 					if (target.canPopFrames() && framesPopped) {
@@ -511,22 +637,23 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 					}
 				} catch (DebugException de) {
 					if (shouldLogHCRException(de)) {
-						ms.merge(de.getStatus());
+						synchronized (ms) {
+							ms.merge(de.getStatus());
+						}
 					}
 				}
-				fireHCRSucceeded(target);
-			} catch (DebugException de) {
-				// target update failed
-				fireHCRFailed(target, de);
+			} finally {
+				timings.add(HotCodeReplaceTimings.FRAME_UPDATE, System.nanoTime() - start);
 			}
-			// also re-set 'is doing HCR' here in case HCR failed
-			target.setIsPerformingHotCodeReplace(false);
-			target.fireChangeEvent(DebugEvent.CONTENT);
+			fireHCRSucceeded(target, notifications);
+		} catch (DebugException de) {
+			// target update failed
+			fireHCRFailed(target, de, notifications);
 		}
-		if (!ms.isOK()) {
-			JDIDebugPlugin.log(ms);
-		}
-		fDeltaCache.clear();
+		// also re-set 'is doing HCR' here in case HCR failed
+		target.setIsPerformingHotCodeReplace(false);
+		target.fireChangeEvent(DebugEvent.CONTENT);
+		fireHCRTimings(timings, notifications);
 	}
 
 	/**
@@ -605,11 +732,12 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 	 * This method is to be used for JDK hot code replace.
 	 */
 	private void redefineTypesJDK(JDIDebugTarget target, List<IResource> resources,
-			List<String> qualifiedNames) throws DebugException {
+			List<String> qualifiedNames, Map<IResource, byte[]> classBytes,
+			HotCodeReplaceTimings timings) throws DebugException {
 		if (target.supportsJDKHotCodeReplace()) {
 			target.setHCROccurred(true);
 			Map<ReferenceType, byte[]> typesToBytes = getTypesToBytes(target, resources,
-					qualifiedNames);
+					qualifiedNames, classBytes, timings);
 			try {
 				VirtualMachine vm = target.getVM();
 				if (vm == null) {
@@ -703,11 +831,17 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 	 *            the fully qualified type names corresponding to the
 	 *            classfiles. The typeNames correspond to the resources on a
 	 *            one-to-one basis.
+	 * @param classBytes
+	 *            the bytes of the class files read so far, by class file,
+	 *            which the class files read by this method are added to
+	 * @param timings
+	 *            the timings the time spent reading class files is added to
 	 * @return a mapping of class files to bytes key: class file value: the
 	 *         bytes which make up that classfile
 	 */
 	private Map<ReferenceType, byte[]> getTypesToBytes(JDIDebugTarget target, List<IResource> resources,
-			List<String> qualifiedNames) {
+			List<String> qualifiedNames, Map<IResource, byte[]> classBytes,
+			HotCodeReplaceTimings timings) {
 		Map<ReferenceType, byte[]> typesToBytes = new HashMap<ReferenceType, byte[]>(resources.size());
 		Iterator<IResource> resourceIter = resources.iterator();
 		Iterator<String> nameIter = qualifiedNames.iterator();
@@ -718,10 +852,13 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 			name = nameIter.next();
 			List<ReferenceType> classes = target.jdiClassesByName(name);
 			byte[] bytes = null;
+			long start = System.nanoTime();
 			try {
-				bytes = Util.getResourceContentsAsByteArray((IFile) resource);
+				bytes = getClassBytes(resource, classBytes);
 			} catch (JavaModelException jme) {
 				continue;
+			} finally {
+				timings.add(HotCodeReplaceTimings.BYTE_LOADING, System.nanoTime() - start);
 			}
 			for(ReferenceType type : classes) {
 				typesToBytes.put(type, bytes);
@@ -730,6 +867,31 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 		return typesToBytes;
 	}
 
+	/**
+	 * Returns the bytes of the given class file, reading them if they are not
+	 * among the given bytes read so far. The targets of a hot code replace
+	 * share the bytes read, so each class file is read once.
+	 * 
+	 * @param resource
+	 *            the class file
+	 * @param classBytes
+	 *            the bytes of the class files read so far, by class file
+	 * @return the bytes of the class file
+	 * @throws JavaModelException
+	 *             if the class file cannot be read
+	 */
+	private byte[] getClassBytes(IResource resource, Map<IResource, byte[]> classBytes)
+			throws JavaModelException {
+		synchronized (classBytes) {
+			byte[] bytes = classBytes.get(resource);
+			if (bytes == null) {
+				bytes = Util.getResourceContentsAsByteArray((IFile) resource);
+				classBytes.put(resource, bytes);
+			}
+			return bytes;
+		}
+	}
+
 	/**
 	 * Return the listeners to notify for the given target. Target specific
 	 * listeners take precedence over generic listeners registered with the
@@ -751,35 +913,86 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 	}
 
 	/**
-	 * Notifies listeners that a hot code replace attempt succeeded
+	 * Adds the notification of listeners that a hot code replace attempt
+	 * succeeded to the given notifications
 	 */
-	private void fireHCRSucceeded(IJavaDebugTarget target) {
-		Object[] listeners = getHotCodeReplaceListeners(target);
-		for (Object listener : listeners) {
-			((IJavaHotCodeReplaceListener) listener)
-					.hotCodeReplaceSucceeded(target);
-		}
+	private void fireHCRSucceeded(final IJavaDebugTarget target, List<Runnable> notifications) {
+		final Object[] listeners = getHotCodeReplaceListeners(target);
+		notifications.add(new Runnable() {
+			public void run() {
+				for (Object listener : listeners) {
+					((IJavaHotCodeReplaceListener) listener)
+							.hotCodeReplaceSucceeded(target);
+				}
+			}
+		});
 	}
 
 	/**
-	 * Notifies listeners that a hot code replace attempt failed with the given
-	 * exception
+	 * Adds the notification of listeners that a hot code replace attempt
+	 * failed with the given exception to the given notifications
 	 */
-	private void fireHCRFailed(JDIDebugTarget target, DebugException exception) {
-		Object[] listeners = getHotCodeReplaceListeners(target);
-		for (Object listener : listeners) {
-			((IJavaHotCodeReplaceListener) listener).hotCodeReplaceFailed(
-					target, exception);
+	private void fireHCRFailed(final JDIDebugTarget target, final DebugException exception,
+			List<Runnable> notifications) {
+		final Object[] listeners = getHotCodeReplaceListeners(target);
+		notifications.add(new Runnable() {
+			public void run() {
+				for (Object listener : listeners) {
+					((IJavaHotCodeReplaceListener) listener).hotCodeReplaceFailed(
+							target, exception);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Adds the notification of listeners of the time spent in each phase of a
+	 * hot code replace attempt to the given notifications
+	 */
+	private void fireHCRTimings(final HotCodeReplaceTimings timings, List<Runnable> notifications) {
+		if (JDIDebugOptions.DEBUG_HCR_TIMINGS) {
+			JDIDebugOptions.trace(timings.getTarget() + ": " + timings); //$NON-NLS-1$
 		}
+		final Object[] listeners = getHotCodeReplaceListeners(timings.getTarget());
+		notifications.add(new Runnable() {
+			public void run() {
+				for (Object listener : listeners) {
+					if (listener instanceof IHotCodeReplaceTimingsListener) {
+						((IHotCodeReplaceTimingsListener) listener)
+								.hotCodeReplaceTimings(timings);
+					}
+				}
+			}
+		});
 	}
 
 	/**
-	 * Notifies listeners that obsolete methods remain on the stack
+	 * Adds the notification of listeners that obsolete methods remain on the
+	 * stack to the given notifications
 	 */
-	private void fireObsoleteMethods(JDIDebugTarget target) {
-		Object[] listeners = getHotCodeReplaceListeners(target);
-		for (Object listener : listeners) {
-			((IJavaHotCodeReplaceListener) listener).obsoleteMethods(target);
+	private void fireObsoleteMethods(final JDIDebugTarget target, List<Runnable> notifications) {
+		final Object[] listeners = getHotCodeReplaceListeners(target);
+		notifications.add(new Runnable() {
+			public void run() {
+				for (Object listener : listeners) {
+					((IJavaHotCodeReplaceListener) listener).obsoleteMethods(target);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Runs the given notifications of listeners in order on the calling
+	 * thread. A listener that throws an exception is logged, and does not
+	 * prevent later notifications.
+	 */
+	private void notifyListeners(List<Runnable> notifications) {
+		for (Runnable notification : notifications) {
+			try {
+				notification.run();
+			} catch (RuntimeException e) {
+				JDIDebugPlugin.log(e);
+			}
 		}
 	}
 
@@ -985,8 +1198,13 @@ public class JavaHotCodeReplaceManager implements IResourceChangeListener,
 			throws CoreException {
 		CompilationUnitDelta delta = fDeltaCache.get(cu);
 		if (delta == null) {
+			// computed without a lock, so that the targets compute the deltas
+			// of different compilation units in parallel
 			delta = new CompilationUnitDelta(cu, time);
-			fDeltaCache.put(cu, delta);
+			CompilationUnitDelta existing = fDeltaCache.putIfAbsent(cu, delta);
+			if (existing != null) {
+				delta = existing;
+			}
 		}
 		return delta;
 	}
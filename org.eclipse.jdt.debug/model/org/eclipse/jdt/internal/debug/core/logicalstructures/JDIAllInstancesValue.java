@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2013 IBM Corporation and others.
+ * Copyright (c) 2007, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -137,6 +137,23 @@ public class JDIAllInstancesValue extends JDIArrayValue {
 		return getInstances();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.eclipse.jdt.internal.debug.core.model.JDIArrayValue#getValues(int,
+	 * int)
+	 */
+	@Override
+	public IJavaValue[] getValues(int offset, int length)
+			throws DebugException {
+		IJavaValue[] values = new IJavaValue[length];
+		for (int i = 0; i < length; i++) {
+			values[i] = getValue(offset + i);
+		}
+		return values;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2012 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,6 +14,7 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.model.IVariable;
+import org.eclipse.jdi.internal.PrimitiveArrayView;
 import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.core.IJavaVariable;
 
@@ -56,6 +57,18 @@ public class JDIArrayEntryVariable extends JDIModificationVariable {
 	 */
 	private IJavaValue fLogicalParent;
 
+	/**
+	 * The value fetched with the values of other entries, or the view of the
+	 * primitive components it is read from, and the stamp of the values of the
+	 * target when it was fetched, or -1 if none. The value is returned by the
+	 * next retrieval if the stamp is still the same, that is if all the
+	 * threads are still suspended and nothing has run or changed in the target
+	 * since.
+	 */
+	private Value fPrefetchedValue;
+	private PrimitiveArrayView fPrefetchedView;
+	private int fPrefetchedStamp = -1;
+
 	/**
 	 * Constructs an array entry at the given index in an array.
 	 * 
@@ -82,6 +95,30 @@ public class JDIArrayEntryVariable extends JDIModificationVariable {
 	 */
 	@Override
 	protected Value retrieveValue() {
+		boolean current = false;
+		Value value = null;
+		PrimitiveArrayView view = null;
+		synchronized (this) {
+			if (fPrefetchedStamp != -1) {
+				current = fPrefetchedStamp == getJavaDebugTarget()
+						.getValuesStamp();
+				value = fPrefetchedValue;
+				view = fPrefetchedView;
+				fPrefetchedValue = null;
+				fPrefetchedView = null;
+				fPrefetchedStamp = -1;
+			}
+		}
+		if (current) {
+			if (view == null) {
+				return value;
+			}
+			try {
+				return view.getValue(getIndex());
+			} catch (RuntimeException e) {
+				// retrieve the value on its own
+			}
+		}
 		ArrayReference ar = getArrayReference();
 		if (ar != null) {
 			return ar.getValue(getIndex());
@@ -89,6 +126,44 @@ public class JDIArrayEntryVariable extends JDIModificationVariable {
 		return null;
 	}
 
+	/**
+	 * Sets the value of this entry fetched along with the values of other
+	 * entries, to be returned by the next retrieval of the value unless the
+	 * values of the target have changed in the meantime.
+	 * 
+	 * @param value
+	 *            the value fetched
+	 * @param stamp
+	 *            the stamp of the values of the target before the value was
+	 *            fetched
+	 * @see JDIDebugTarget#getValuesStamp()
+	 */
+	protected synchronized void setPrefetchedValue(Value value, int stamp) {
+		fPrefetchedValue = value;
+		fPrefetchedView = null;
+		fPrefetchedStamp = stamp;
+	}
+
+	/**
+	 * Sets the view of the primitive components of the array that the next
+	 * retrieval of the value reads this entry from, unless the values of the
+	 * target have changed in the meantime. The view is shared by the entries
+	 * of one partition of the array, so that they are read page by page.
+	 * 
+	 * @param view
+	 *            a view of the components of the array
+	 * @param stamp
+	 *            the stamp of the values of the target before the view was
+	 *            created
+	 * @see JDIDebugTarget#getValuesStamp()
+	 */
+	protected synchronized void setPrefetchedView(PrimitiveArrayView view,
+			int stamp) {
+		fPrefetchedValue = null;
+		fPrefetchedView = view;
+		fPrefetchedStamp = stamp;
+	}
+
 	/**
 	 * @see IVariable#getName()
 	 */
@@ -98,6 +173,11 @@ public class JDIArrayEntryVariable extends JDIModificationVariable {
 
 	@Override
 	protected void setJDIValue(Value value) throws DebugException {
+		synchronized (this) {
+			fPrefetchedStamp = -1;
+			fPrefetchedValue = null;
+			fPrefetchedView = null;
+		}
 		ArrayReference ar = getArrayReference();
 		if (ar == null) {
 			requestFailed(
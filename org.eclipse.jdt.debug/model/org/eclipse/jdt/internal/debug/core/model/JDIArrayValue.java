@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,6 +17,8 @@ import java.util.List;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.model.IIndexedValue;
 import org.eclipse.debug.core.model.IVariable;
+import org.eclipse.jdi.internal.ArrayReferenceImpl;
+import org.eclipse.jdi.internal.PrimitiveArrayView;
 import org.eclipse.jdt.debug.core.IJavaArray;
 import org.eclipse.jdt.debug.core.IJavaValue;
 
@@ -59,6 +61,43 @@ public class JDIArrayValue extends JDIObjectValue implements IJavaArray,
 		return values;
 	}
 
+	/**
+	 * Returns the values of a range of components of this array, read with a
+	 * single request.
+	 * 
+	 * @param offset
+	 *            index of the first component
+	 * @param length
+	 *            number of components
+	 * @return the values of the components
+	 * @exception DebugException
+	 *                if this method fails. Reasons include:
+	 *                <ul>
+	 *                <li>Failure communicating with the VM. The
+	 *                DebugException's status code contains the underlying
+	 *                exception responsible for the failure.</li>
+	 *                </ul>
+	 */
+	public IJavaValue[] getValues(int offset, int length)
+			throws DebugException {
+		IJavaValue[] values = new IJavaValue[length];
+		JDIDebugTarget target = (JDIDebugTarget) getDebugTarget();
+		try {
+			List<Value> list = getArrayReference().getValues(offset, length);
+			for (int i = 0; i < length; i++) {
+				values[i] = JDIValue.createValue(target, list.get(i));
+			}
+		} catch (IndexOutOfBoundsException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			targetRequestFailed(
+					MessageFormat.format(
+							JDIDebugModelMessages.JDIArrayValue_exception_while_retrieving_values_from_array,
+							e.toString()), e);
+		}
+		return values;
+	}
+
 	/**
 	 * @see IJavaArray#getValue(int)
 	 */
@@ -215,16 +254,63 @@ public class JDIArrayValue extends JDIObjectValue implements IJavaArray,
 		if ((offset + length - 1) >= getLength()) {
 			requestFailed(JDIDebugModelMessages.JDIArrayValue_8, null);
 		}
-		IVariable[] variables = new IVariable[length];
+		JDIArrayEntryVariable[] variables = new JDIArrayEntryVariable[length];
 		int index = offset;
 		for (int i = 0; i < length; i++) {
 			variables[i] = new JDIArrayEntryVariable(getJavaDebugTarget(),
 					getArrayReference(), index, fLogicalParent);
 			index++;
 		}
+		prefetchValues(variables, offset, length);
 		return variables;
 	}
 
+	/**
+	 * Fetches the values of the given entries of this array together, and sets
+	 * them as the prefetched values of the entries. Components of primitive
+	 * type are read a page at a time through a view shared by the entries,
+	 * which only creates a value for the entries that are retrieved. Other
+	 * components are read with a single request. The values are retrieved one
+	 * by one if they cannot be fetched together, or if a thread of the target
+	 * is running.
+	 * 
+	 * @param variables
+	 *            entries of the components from <code>offset</code> on
+	 * @param offset
+	 *            index of the first component
+	 * @param length
+	 *            number of components
+	 */
+	private void prefetchValues(JDIArrayEntryVariable[] variables, int offset,
+			int length) {
+		if (length < 2) {
+			return;
+		}
+		int stamp = getJavaDebugTarget().getValuesStamp();
+		if (stamp == -1) {
+			return;
+		}
+		try {
+			ArrayReference array = getArrayReference();
+			PrimitiveArrayView view = null;
+			if (array instanceof ArrayReferenceImpl) {
+				view = ((ArrayReferenceImpl) array).primitiveView();
+			}
+			if (view != null) {
+				for (int i = 0; i < length; i++) {
+					variables[i].setPrefetchedView(view, stamp);
+				}
+			} else {
+				List<Value> list = array.getValues(offset, length);
+				for (int i = 0; i < length; i++) {
+					variables[i].setPrefetchedValue(list.get(i), stamp);
+				}
+			}
+		} catch (RuntimeException e) {
+			// the values are retrieved one by one
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -101,14 +101,20 @@ public class JDIClassType extends JDIReferenceType implements IJavaClassType {
 			List<Value> arguments = convertArguments(args);
 			Method method = null;
 			try {
-				List<Method> methods = clazz.methodsByName(selector, signature);
-				if (methods.isEmpty()) {
-					requestFailed(
-							MessageFormat.format(
-									JDIDebugModelMessages.JDIClassType_Type_does_not_implement_selector,
-									selector, signature), null);
-				} else {
-					method = methods.get(0);
+				TypeResolutionCache cache = getJavaDebugTarget()
+						.getTypeResolutionCache();
+				method = cache.getMethod(clazz, selector, signature, false);
+				if (method == null) {
+					List<Method> methods = clazz.methodsByName(selector, signature);
+					if (methods.isEmpty()) {
+						requestFailed(
+								MessageFormat.format(
+										JDIDebugModelMessages.JDIClassType_Type_does_not_implement_selector,
+										selector, signature), null);
+					} else {
+						method = methods.get(0);
+						cache.putMethod(clazz, selector, signature, false, method);
+					}
 				}
 			} catch (RuntimeException e) {
 				targetRequestFailed(
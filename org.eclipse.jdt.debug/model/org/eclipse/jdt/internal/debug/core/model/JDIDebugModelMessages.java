@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -227,4 +227,6 @@ public class JDIDebugModelMessages extends NLS {
 
 	public static String JDIDebugTarget_1;
 
+	public static String JDIDebugTarget_prefetch_type_information;
+
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2014 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,10 +14,13 @@ package org.eclipse.jdt.internal.debug.core.model;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.core.resources.IMarkerDelta;
@@ -27,7 +30,6 @@ import org.eclipse.core.runtime.IAdaptable;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.ListenerList;
-import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
@@ -50,8 +52,11 @@ import org.eclipse.debug.core.model.ISuspendResume;
 import org.eclipse.debug.core.model.ITerminate;
 import org.eclipse.debug.core.model.IThread;
 import org.eclipse.jdi.TimeoutException;
+import org.eclipse.jdi.internal.ReferenceTypePrefetcher;
 import org.eclipse.jdi.internal.VirtualMachineImpl;
+import org.eclipse.jdi.internal.VirtualMachineManagerImpl;
 import org.eclipse.jdi.internal.jdwp.JdwpReplyPacket;
+import org.eclipse.jdi.internal.request.EventRequestManagerImpl;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.debug.core.IJavaBreakpoint;
 import org.eclipse.jdt.debug.core.IJavaDebugTarget;
@@ -66,8 +71,11 @@ import org.eclipse.jdt.debug.eval.EvaluationManager;
 import org.eclipse.jdt.debug.eval.IAstEvaluationEngine;
 import org.eclipse.jdt.internal.debug.core.EventDispatcher;
 import org.eclipse.jdt.internal.debug.core.IJDIEventListener;
+import org.eclipse.jdt.internal.debug.core.JDIDebugOptions;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
+import org.eclipse.jdt.internal.debug.core.breakpoints.CompiledExpressionCache;
 import org.eclipse.jdt.internal.debug.core.breakpoints.JavaBreakpoint;
+import org.eclipse.jdt.internal.debug.core.breakpoints.JavaClassPrepareBreakpoint;
 import org.eclipse.jdt.internal.debug.core.breakpoints.JavaLineBreakpoint;
 
 import com.ibm.icu.text.MessageFormat;
@@ -79,6 +87,7 @@ import com.sun.jdi.ThreadReference;
 import com.sun.jdi.VMDisconnectedException;
 import com.sun.jdi.Value;
 import com.sun.jdi.VirtualMachine;
+import com.sun.jdi.event.ClassUnloadEvent;
 import com.sun.jdi.event.Event;
 import com.sun.jdi.event.EventSet;
 import com.sun.jdi.event.ThreadDeathEvent;
@@ -205,6 +214,17 @@ public class JDIDebugTarget extends JDIDebugElement implements
 	 */
 	private HashMap<IJavaProject, IAstEvaluationEngine> fEngines;
 
+	/**
+	 * Compiled breakpoint conditions, shared by all the threads of this target
+	 */
+	private CompiledExpressionCache fCompiledExpressions = new CompiledExpressionCache();
+
+	/**
+	 * Types and methods resolved by evaluations, created with a class unload
+	 * request on first use
+	 */
+	private TypeResolutionCache fResolvedTypes;
+
 	/**
 	 * List of step filters - each string is a pattern/fully qualified name of a
 	 * type to filter.
@@ -274,6 +294,17 @@ public class JDIDebugTarget extends JDIDebugElement implements
 	 */
 	private ListenerList fHCRListeners = new ListenerList();
 
+	/**
+	 * The installation of breakpoints in bulk each thread is running, if any
+	 */
+	private final ThreadLocal<BreakpointInstall> fBreakpointInstall = new ThreadLocal<BreakpointInstall>();
+
+	/**
+	 * Time in milliseconds the breakpoints that existed when this target was
+	 * initialized took to install, or -1 if they are not installed yet
+	 */
+	private long fBreakpointInstallTime = -1;
+
 	/**
 	 * Creates a new JDI debug target for the given virtual machine.
 	 * 
@@ -450,6 +481,7 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		initializeRequests();
 		initializeState();
 		initializeBreakpoints();
+		initializePrefetch();
 		getLaunch().addDebugTarget(this);
 		DebugPlugin plugin = DebugPlugin.getDefault();
 		plugin.addDebugEventListener(this);
@@ -503,6 +535,24 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		}
 	}
 
+	/**
+	 * Schedules the prefetching of the information of the types of the
+	 * packages configured for the JDI client, if any.
+	 * 
+	 * @see VirtualMachineManagerImpl#getPrefetchPackages()
+	 */
+	protected void initializePrefetch() {
+		if (getVM() instanceof VirtualMachineImpl) {
+			VirtualMachineManagerImpl manager = ((VirtualMachineImpl) getVM())
+					.virtualMachineManagerImpl();
+			String[] packages = manager.getPrefetchPackages();
+			if (packages.length > 0) {
+				new PrefetchJob(packages, manager.getPrefetchBatchSize())
+						.schedule();
+			}
+		}
+	}
+
 	/**
 	 * Registers event handlers for thread creation, thread termination.
 	 */
@@ -521,13 +571,287 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		manager.addBreakpointListener(this);
 		IBreakpoint[] bps = manager.getBreakpoints(JDIDebugModel
 				.getPluginIdentifier());
-		for (IBreakpoint bp : bps) {
-			if (bp instanceof IJavaBreakpoint) {
+		installBreakpoints(bps);
+	}
+
+	/**
+	 * Installs the given breakpoints in bulk. The types loaded in the VM are
+	 * listed once and grouped by name instead of being looked up for each
+	 * breakpoint, the line tables of the types the breakpoints are set in are
+	 * fetched in a few batches, and the requests created are enabled in one
+	 * batch at the end. Types loaded meanwhile, whose prepare events may have
+	 * been missed, are then handled like prepared types.
+	 * <p>
+	 * Class prepare breakpoints are installed one at a time, since suspending
+	 * on the preparation of a type cannot be caught up with.
+	 * </p>
+	 * 
+	 * @param breakpoints
+	 *            the breakpoints to install
+	 */
+	protected void installBreakpoints(IBreakpoint[] breakpoints) {
+		long start = System.currentTimeMillis();
+		List<JavaBreakpoint> bulk = new ArrayList<JavaBreakpoint>(
+				breakpoints.length);
+		Set<String> typeNames = new HashSet<String>();
+		for (IBreakpoint bp : breakpoints) {
+			if (bp instanceof JavaBreakpoint
+					&& !(bp instanceof JavaClassPrepareBreakpoint)) {
+				bulk.add((JavaBreakpoint) bp);
+				try {
+					String typeName = ((JavaBreakpoint) bp).getTypeName();
+					if (typeName != null) {
+						typeNames.add(typeName);
+					}
+				} catch (CoreException e) {
+					logError(e);
+				}
+			} else if (bp instanceof IJavaBreakpoint) {
+				breakpointAdded(bp);
+			}
+		}
+		Map<String, List<ReferenceType>> loadedTypes = null;
+		if (!bulk.isEmpty()) {
+			loadedTypes = loadedTypesByName();
+		}
+		if (loadedTypes == null) {
+			for (JavaBreakpoint bp : bulk) {
+				breakpointAdded(bp);
+			}
+			fBreakpointInstallTime = System.currentTimeMillis() - start;
+			return;
+		}
+		prefetchLineTables(loadedTypes, typeNames);
+		BreakpointInstall install = new BreakpointInstall(loadedTypes);
+		fBreakpointInstall.set(install);
+		try {
+			for (JavaBreakpoint bp : bulk) {
 				breakpointAdded(bp);
 			}
+		} finally {
+			fBreakpointInstall.remove();
+		}
+		enableRequests(install.fDeferredRequests);
+		int caughtUp = installInTypesLoadedSince(loadedTypes, bulk);
+		fBreakpointInstallTime = System.currentTimeMillis() - start;
+		if (JDIDebugOptions.DEBUG_JDI_BREAKPOINT_INSTALL) {
+			StringBuffer buf = new StringBuffer();
+			buf.append(JDIDebugOptions.FORMAT.format(new Date(start)));
+			buf.append(" JDI breakpoint install: "); //$NON-NLS-1$
+			buf.append(breakpoints.length);
+			buf.append(" breakpoints, "); //$NON-NLS-1$
+			buf.append(install.fDeferredRequests.size());
+			buf.append(" requests enabled in one batch, "); //$NON-NLS-1$
+			buf.append(caughtUp);
+			buf.append(" types loaded meanwhile, in "); //$NON-NLS-1$
+			buf.append(fBreakpointInstallTime);
+			buf.append("ms"); //$NON-NLS-1$
+			JDIDebugOptions.trace(buf.toString());
+		}
+	}
+
+	/**
+	 * Returns the time the breakpoints that existed when this target was
+	 * initialized took to install.
+	 * 
+	 * @return the time in milliseconds, or -1 if they are not installed yet
+	 */
+	public long getBreakpointInstallTime() {
+		return fBreakpointInstallTime;
+	}
+
+	/**
+	 * The state of an installation of breakpoints in bulk, which only applies
+	 * to the thread installing the breakpoints: the types loaded when it
+	 * started, by name, or <code>null</code> if they are looked up in the VM,
+	 * and the requests whose enabling is deferred to its end.
+	 */
+	private static class BreakpointInstall {
+		final Map<String, List<ReferenceType>> fLoadedTypes;
+		final Set<EventRequest> fDeferredRequests = new LinkedHashSet<EventRequest>();
+
+		BreakpointInstall(Map<String, List<ReferenceType>> loadedTypes) {
+			fLoadedTypes = loadedTypes;
 		}
 	}
 
+	/**
+	 * Returns the installation of breakpoints in bulk the current thread is
+	 * running, or <code>null</code> if none.
+	 */
+	private BreakpointInstall getBreakpointInstall() {
+		return fBreakpointInstall.get();
+	}
+
+	/**
+	 * Defers enabling the requests the current thread creates until
+	 * {@link #endDeferredRequests()} is called, so that the requests created
+	 * while handling an event set, such as the breakpoint requests created
+	 * when a type is prepared, are enabled in one batch. Nothing is done if
+	 * the current thread is already deferring requests.
+	 * 
+	 * @return whether the current thread started deferring requests, in which
+	 *         case it must call {@link #endDeferredRequests()}
+	 */
+	public boolean beginDeferredRequests() {
+		if (fBreakpointInstall.get() != null) {
+			return false;
+		}
+		fBreakpointInstall.set(new BreakpointInstall(null));
+		return true;
+	}
+
+	/**
+	 * Enables the requests the current thread deferred since
+	 * {@link #beginDeferredRequests()} in one batch.
+	 */
+	public void endDeferredRequests() {
+		BreakpointInstall install = fBreakpointInstall.get();
+		fBreakpointInstall.remove();
+		if (install != null) {
+			enableRequests(install.fDeferredRequests);
+		}
+	}
+
+	/**
+	 * Returns the types loaded in the VM by name, or <code>null</code> if
+	 * they cannot be retrieved.
+	 */
+	private Map<String, List<ReferenceType>> loadedTypesByName() {
+		VirtualMachine vm = getVM();
+		if (vm == null) {
+			return null;
+		}
+		try {
+			List<ReferenceType> types = vm.allClasses();
+			Map<String, List<ReferenceType>> byName = new HashMap<String, List<ReferenceType>>(
+					types.size());
+			for (ReferenceType type : types) {
+				List<ReferenceType> named = byName.get(type.name());
+				if (named == null) {
+					named = new ArrayList<ReferenceType>(1);
+					byName.put(type.name(), named);
+				}
+				named.add(type);
+			}
+			return byName;
+		} catch (VMDisconnectedException e) {
+		} catch (RuntimeException e) {
+			logError(e);
+		}
+		return null;
+	}
+
+	/**
+	 * Fetches the methods and line tables of the loaded types that have one of
+	 * the given names in a few batches of requests.
+	 */
+	private void prefetchLineTables(
+			Map<String, List<ReferenceType>> loadedTypes, Set<String> typeNames) {
+		VirtualMachine vm = getVM();
+		if (!(vm instanceof VirtualMachineImpl)) {
+			return;
+		}
+		List<ReferenceType> types = new ArrayList<ReferenceType>();
+		for (String typeName : typeNames) {
+			List<ReferenceType> named = loadedTypes.get(typeName);
+			if (named != null) {
+				types.addAll(named);
+			}
+		}
+		if (types.isEmpty()) {
+			return;
+		}
+		try {
+			new ReferenceTypePrefetcher((VirtualMachineImpl) vm)
+					.prefetch(types);
+		} catch (VMDisconnectedException e) {
+		} catch (RuntimeException e) {
+			logError(e);
+		}
+	}
+
+	/**
+	 * Enables the given requests in one batch when the VM supports it.
+	 */
+	private void enableRequests(Set<EventRequest> requests) {
+		EventRequestManager manager = getEventRequestManager();
+		if (requests.isEmpty() || manager == null) {
+			return;
+		}
+		try {
+			if (manager instanceof EventRequestManagerImpl) {
+				((EventRequestManagerImpl) manager)
+						.enableEventRequests(new ArrayList<EventRequest>(
+								requests));
+			} else {
+				for (EventRequest request : requests) {
+					request.enable();
+				}
+			}
+		} catch (VMDisconnectedException e) {
+		} catch (RuntimeException e) {
+			internalError(e);
+		}
+	}
+
+	/**
+	 * Installs the given breakpoints in the types loaded since the given types
+	 * were listed, as if they had just been prepared.
+	 * 
+	 * @return the number of types loaded since
+	 */
+	private int installInTypesLoadedSince(
+			Map<String, List<ReferenceType>> loadedTypes,
+			List<JavaBreakpoint> breakpoints) {
+		Map<String, List<ReferenceType>> nowLoaded = loadedTypesByName();
+		if (nowLoaded == null) {
+			return 0;
+		}
+		int count = 0;
+		for (Map.Entry<String, List<ReferenceType>> entry : nowLoaded
+				.entrySet()) {
+			List<ReferenceType> before = loadedTypes.get(entry.getKey());
+			for (ReferenceType type : entry.getValue()) {
+				if (before != null && before.contains(type)) {
+					continue;
+				}
+				count++;
+				for (JavaBreakpoint bp : breakpoints) {
+					// the type may have been prepared after the requests
+					// were enabled and already have the breakpoint installed
+					if (getBreakpoints().contains(bp)
+							&& !bp.hasRequestsInType(type, this)) {
+						bp.installInType(type, this);
+					}
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Sets the enabled state of the given request. While breakpoints are being
+	 * installed in bulk by the current thread, or it defers requests, enabling
+	 * the request is deferred to the end of the installation.
+	 * 
+	 * @param request
+	 *            the request
+	 * @param enabled
+	 *            whether to enable the request
+	 */
+	public void setRequestEnabled(EventRequest request, boolean enabled) {
+		BreakpointInstall install = getBreakpointInstall();
+		if (install != null) {
+			if (enabled) {
+				install.fDeferredRequests.add(request);
+				return;
+			}
+			install.fDeferredRequests.remove(request);
+		}
+		request.setEnabled(enabled);
+	}
+
 	/**
 	 * Creates, adds and returns a thread for the given underlying thread
 	 * reference. A creation event is fired for the thread. Returns
@@ -825,6 +1149,14 @@ public class JDIDebugTarget extends JDIDebugElement implements
 	 */
 	public void setHCROccurred(boolean occurred) {
 		fHasHCROccurred = occurred;
+		if (occurred) {
+			// conditions may have been compiled against the replaced types
+			fCompiledExpressions.clear();
+			TypeResolutionCache types = getTypeResolutionCache(false);
+			if (types != null) {
+				types.clear();
+			}
+		}
 	}
 
 	public void removeOutOfSynchTypes(List<String> qualifiedNames) {
@@ -1194,7 +1526,7 @@ public class JDIDebugTarget extends JDIDebugElement implements
 				req.addSourceNameFilter(sourceName);
 			}
 			if (enabled) {
-				req.enable();
+				setRequestEnabled(req, true);
 			}
 		} catch (RuntimeException e) {
 			targetRequestFailed(
@@ -1536,6 +1868,11 @@ public class JDIDebugTarget extends JDIDebugElement implements
 			}
 			fEngines.clear();
 		}
+		fCompiledExpressions.clear();
+		TypeResolutionCache types = getTypeResolutionCache(false);
+		if (types != null) {
+			types.clear();
+		}
 		fVirtualMachine = null;
 		setThreadStartHandler(null);
 		setEventDispatcher(null);
@@ -1598,6 +1935,14 @@ public class JDIDebugTarget extends JDIDebugElement implements
 	 * @see com.sun.jdi.VirtualMachine
 	 */
 	public List<ReferenceType> jdiClassesByName(String className) {
+		BreakpointInstall install = getBreakpointInstall();
+		if (install != null && install.fLoadedTypes != null) {
+			List<ReferenceType> types = install.fLoadedTypes.get(className);
+			if (types == null) {
+				return Collections.EMPTY_LIST;
+			}
+			return types;
+		}
 		VirtualMachine vm = getVM();
 		if (vm != null) {
 			try {
@@ -2054,16 +2399,8 @@ public class JDIDebugTarget extends JDIDebugElement implements
 				boolean suspendVote, EventSet eventSet) {
 			ThreadReference ref = ((ThreadDeathEvent) event).thread();
 			JDIThread thread = findThread(ref);
-			if (thread == null) {
-				// wait for any thread start event sets to complete processing
-				// see bug 272494
-				try {
-					Job.getJobManager().join(ThreadStartEvent.class, null);
-				} catch (OperationCanceledException e) {
-				} catch (InterruptedException e) {
-				}
-				thread = target.findThread(ref);
-			}
+			// the event sets of a thread are dispatched in order, so the start
+			// event of the thread, if any, has been handled (see bug 272494)
 			if (thread != null) {
 				synchronized (fThreads) {
 					fThreads.remove(thread);
@@ -2088,6 +2425,66 @@ public class JDIDebugTarget extends JDIDebugElement implements
 
 	}
 
+	/**
+	 * Removes unloaded classes from the type resolution cache.
+	 */
+	class ClassUnloadHandler implements IJDIEventListener {
+
+		protected ClassUnloadHandler() {
+			createRequest();
+		}
+
+		/**
+		 * Creates and registers a request to listen to class unload events.
+		 */
+		protected void createRequest() {
+			EventRequestManager manager = getEventRequestManager();
+			if (manager != null) {
+				try {
+					EventRequest req = manager.createClassUnloadRequest();
+					req.setSuspendPolicy(EventRequest.SUSPEND_NONE);
+					req.enable();
+					addJDIEventListener(this, req);
+				} catch (RuntimeException e) {
+					logError(e);
+				}
+			}
+		}
+
+		/**
+		 * Removes the types and methods of the unloaded class from the type
+		 * resolution cache.
+		 * 
+		 * @param event
+		 *            a class unload event
+		 * @param target
+		 *            the target in which the class was unloaded
+		 * @return <code>true</code> - nothing is suspended
+		 */
+		public boolean handleEvent(Event event, JDIDebugTarget target,
+				boolean suspendVote, EventSet eventSet) {
+			TypeResolutionCache types = getTypeResolutionCache(false);
+			if (types != null) {
+				types.classUnloaded(((ClassUnloadEvent) event).className());
+			}
+			return true;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see
+		 * org.eclipse.jdt.internal.debug.core.IJDIEventListener#eventSetComplete
+		 * (com.sun.jdi.event.Event,
+		 * org.eclipse.jdt.internal.debug.core.model.JDIDebugTarget, boolean)
+		 */
+		public void eventSetComplete(Event event, JDIDebugTarget target,
+				boolean suspend, EventSet eventSet) {
+			// do nothing
+		}
+
+	}
+
 	class CleanUpJob extends Job {
 
 		/**
@@ -2138,6 +2535,110 @@ public class JDIDebugTarget extends JDIDebugElement implements
 
 	}
 
+	/**
+	 * Fills the caches of the types of some packages with their fields,
+	 * methods, source names and line tables, so that installing the first
+	 * breakpoints and showing the first stack frames does not request them
+	 * one type and one method at a time.
+	 */
+	class PrefetchJob extends Job {
+
+		/**
+		 * Prefixes of the names of the types to prefetch
+		 */
+		private String[] fPackages;
+
+		/**
+		 * Number of types prefetched in one batch of requests
+		 */
+		private int fBatchSize;
+
+		/**
+		 * Constructs a job to prefetch the information of the types whose
+		 * names start with one of the given prefixes.
+		 */
+		public PrefetchJob(String[] packages, int batchSize) {
+			super(JDIDebugModelMessages.JDIDebugTarget_prefetch_type_information);
+			fPackages = packages;
+			fBatchSize = Math.max(1, batchSize);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see
+		 * org.eclipse.core.internal.jobs.InternalJob#run(org.eclipse.core.runtime
+		 * .IProgressMonitor)
+		 */
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			VirtualMachine vm = getVM();
+			if (vm == null) {
+				return Status.OK_STATUS;
+			}
+			long start = System.currentTimeMillis();
+			ReferenceTypePrefetcher prefetcher = new ReferenceTypePrefetcher(
+					(VirtualMachineImpl) vm);
+			int done = 0;
+			int count = 0;
+			try {
+				List<ReferenceType> types = prefetcher.selectTypes(fPackages);
+				count = types.size();
+				monitor.beginTask(getName(), count);
+				while (done < count && !monitor.isCanceled() && isAvailable()) {
+					int end = Math.min(count, done + fBatchSize);
+					prefetcher.prefetch(types.subList(done, end));
+					monitor.worked(end - done);
+					done = end;
+				}
+			} catch (VMDisconnectedException e) {
+			} catch (RuntimeException e) {
+				logError(e);
+			} finally {
+				monitor.done();
+			}
+			if (JDIDebugOptions.DEBUG_JDI_PREFETCH) {
+				StringBuffer buf = new StringBuffer();
+				buf.append(JDIDebugOptions.FORMAT.format(new Date(start)));
+				buf.append(" JDI prefetch: "); //$NON-NLS-1$
+				buf.append(done);
+				buf.append(" of "); //$NON-NLS-1$
+				buf.append(count);
+				buf.append(" types, "); //$NON-NLS-1$
+				buf.append(prefetcher.getRequestCount());
+				buf.append(" requests in "); //$NON-NLS-1$
+				buf.append(System.currentTimeMillis() - start);
+				buf.append("ms"); //$NON-NLS-1$
+				JDIDebugOptions.trace(buf.toString());
+			}
+			if (monitor.isCanceled()) {
+				return Status.CANCEL_STATUS;
+			}
+			return Status.OK_STATUS;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see org.eclipse.core.runtime.jobs.Job#shouldRun()
+		 */
+		@Override
+		public boolean shouldRun() {
+			return isAvailable();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * 
+		 * @see org.eclipse.core.internal.jobs.InternalJob#shouldSchedule()
+		 */
+		@Override
+		public boolean shouldSchedule() {
+			return isAvailable();
+		}
+
+	}
+
 	protected ThreadStartHandler getThreadStartHandler() {
 		return fThreadStartHandler;
 	}
@@ -2398,6 +2899,45 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		}
 	}
 
+	/**
+	 * Returns the number of times that code has run or values have been set
+	 * in the VM of this target, or -1 if the VM does not count them.
+	 * 
+	 * @return the change count of the VM, or -1
+	 */
+	protected int getChangeCount() {
+		VirtualMachine vm = getVM();
+		if (!(vm instanceof VirtualMachineImpl)) {
+			return -1;
+		}
+		return ((VirtualMachineImpl) vm).changeCount();
+	}
+
+	/**
+	 * Returns a stamp of the values in this target. Values read while the
+	 * stamp is the same, other than -1, are the same as the current values:
+	 * no thread has run, no method has been invoked and no value has been set
+	 * in between. The stamp is -1 if a thread is running, as it may change
+	 * values at any time, or if the changes in the VM are not counted.
+	 * 
+	 * @return the stamp of the values in this target, or -1 if values read
+	 *         now may not be reused
+	 */
+	protected int getValuesStamp() {
+		// read first, so that a thread resumed meanwhile changes the stamp
+		int stamp = getChangeCount();
+		if (stamp == -1) {
+			return -1;
+		}
+		Iterator<JDIThread> threads = getThreadIterator();
+		while (threads.hasNext()) {
+			if (!threads.next().isSuspended()) {
+				return -1;
+			}
+		}
+		return stamp;
+	}
+
 	/**
 	 * Returns an evaluation engine for the given project, creating one if
 	 * necessary.
@@ -2419,6 +2959,43 @@ public class JDIDebugTarget extends JDIDebugElement implements
 		return engine;
 	}
 
+	/**
+	 * Returns the cache of the compiled breakpoint conditions of this target.
+	 * 
+	 * @return compiled expression cache
+	 */
+	public CompiledExpressionCache getCompiledExpressionCache() {
+		return fCompiledExpressions;
+	}
+
+	/**
+	 * Returns the cache of the types and methods resolved by evaluations in
+	 * this target.
+	 * 
+	 * @return type resolution cache
+	 */
+	public TypeResolutionCache getTypeResolutionCache() {
+		return getTypeResolutionCache(true);
+	}
+
+	/**
+	 * Returns the cache of the types and methods resolved by evaluations in
+	 * this target, creating it and listening to class unload events if
+	 * required.
+	 * 
+	 * @param create
+	 *            whether to create the cache if it does not exist yet
+	 * @return type resolution cache or <code>null</code> if none and not
+	 *         created
+	 */
+	private synchronized TypeResolutionCache getTypeResolutionCache(boolean create) {
+		if (fResolvedTypes == null && create) {
+			fResolvedTypes = new TypeResolutionCache();
+			new ClassUnloadHandler();
+		}
+		return fResolvedTypes;
+	}
+
 	/**
 	 * @see org.eclipse.jdt.debug.core.IJavaDebugTarget#supportsMonitorInformation()
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -10,6 +10,9 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.debug.core.model;
 
+import java.util.List;
+import java.util.Map;
+
 import org.eclipse.debug.core.DebugEvent;
 import org.eclipse.debug.core.DebugException;
 import org.eclipse.debug.core.model.IVariable;
@@ -59,6 +62,16 @@ public class JDIFieldVariable extends JDIModificationVariable implements
 	 */
 	private IJavaValue fLogicalParent;
 
+	/**
+	 * The value fetched with the values of other fields, and the stamp of the
+	 * values of the target when it was fetched, or -1 if none. The value is
+	 * returned by the next retrieval if the stamp is still the same, that is
+	 * if all the threads are still suspended and nothing has run or changed
+	 * in the target since.
+	 */
+	private Value fPrefetchedValue;
+	private int fPrefetchedStamp = -1;
+
 	/**
 	 * Constructs a field for the given field.
 	 */
@@ -88,12 +101,119 @@ public class JDIFieldVariable extends JDIModificationVariable implements
 	 */
 	@Override
 	protected Value retrieveValue() {
+		synchronized (this) {
+			if (fPrefetchedStamp != -1) {
+				Value value = fPrefetchedValue;
+				boolean current = fPrefetchedStamp == getJavaDebugTarget()
+						.getValuesStamp();
+				fPrefetchedValue = null;
+				fPrefetchedStamp = -1;
+				if (current) {
+					return value;
+				}
+			}
+		}
 		if (getField().isStatic()) {
 			return (getField().declaringType().getValue(getField()));
 		}
 		return getObjectReference().getValue(getField());
 	}
 
+	/**
+	 * Sets the value of this field fetched along with the values of other
+	 * fields, to be returned by the next retrieval of the value unless the
+	 * values of the target have changed in the meantime.
+	 * 
+	 * @param value
+	 *            the value fetched
+	 * @param stamp
+	 *            the stamp of the values of the target before the value was
+	 *            fetched
+	 * @see JDIDebugTarget#getValuesStamp()
+	 */
+	protected synchronized void setPrefetchedValue(Value value, int stamp) {
+		fPrefetchedValue = value;
+		fPrefetchedStamp = stamp;
+	}
+
+	/**
+	 * Fetches the values of the given static fields of a type with a single
+	 * request, and sets them as the prefetched values of the variables for
+	 * those fields. The values are retrieved one by one if they cannot be
+	 * fetched together, or if a thread of the target is running.
+	 * 
+	 * @param target
+	 *            the target of the variables
+	 * @param variables
+	 *            variables, of which the field variables for the given fields
+	 *            are updated
+	 * @param type
+	 *            the type declaring or inheriting the fields
+	 * @param fields
+	 *            static fields
+	 */
+	static void prefetchValues(JDIDebugTarget target,
+			List<IJavaVariable> variables, ReferenceType type,
+			List<Field> fields) {
+		if (fields.size() < 2) {
+			return;
+		}
+		int stamp = target.getValuesStamp();
+		if (stamp == -1) {
+			return;
+		}
+		try {
+			setPrefetchedValues(variables, type.getValues(fields), stamp);
+		} catch (RuntimeException e) {
+			// the values are retrieved one by one
+		}
+	}
+
+	/**
+	 * Fetches the values of the given fields of an object with a single
+	 * request, and sets them as the prefetched values of the variables for
+	 * those fields. The values are retrieved one by one if they cannot be
+	 * fetched together, or if a thread of the target is running.
+	 * 
+	 * @param target
+	 *            the target of the variables
+	 * @param variables
+	 *            variables, of which the field variables for the given fields
+	 *            are updated
+	 * @param object
+	 *            the object
+	 * @param fields
+	 *            fields of the object
+	 */
+	static void prefetchValues(JDIDebugTarget target,
+			List<IJavaVariable> variables, ObjectReference object,
+			List<Field> fields) {
+		if (fields.size() < 2) {
+			return;
+		}
+		int stamp = target.getValuesStamp();
+		if (stamp == -1) {
+			return;
+		}
+		try {
+			setPrefetchedValues(variables, object.getValues(fields), stamp);
+		} catch (RuntimeException e) {
+			// the values are retrieved one by one
+		}
+	}
+
+	private static void setPrefetchedValues(List<IJavaVariable> variables,
+			Map<Field, Value> values, int stamp) {
+		for (IJavaVariable variable : variables) {
+			if (variable instanceof JDIFieldVariable) {
+				JDIFieldVariable field = (JDIFieldVariable) variable;
+				if (values.containsKey(field.getField())) {
+					field.setPrefetchedValue(values.get(field.getField()), stamp);
+				}
+			}
+		}
+	}
+
 	/**
 	 * @see IJavaFieldVariable#getDeclaringType()
 	 */
@@ -121,6 +241,10 @@ public class JDIFieldVariable extends JDIModificationVariable implements
 
 	@Override
 	protected void setJDIValue(Value value) throws DebugException {
+		synchronized (this) {
+			fPrefetchedStamp = -1;
+			fPrefetchedValue = null;
+		}
 		try {
 			if (isStatic()) {
 				ReferenceType declaringType = getField().declaringType();
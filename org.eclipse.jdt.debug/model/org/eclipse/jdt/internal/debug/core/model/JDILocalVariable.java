@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -20,6 +20,7 @@ import com.sun.jdi.ClassNotLoadedException;
 import com.sun.jdi.InvalidTypeException;
 import com.sun.jdi.LocalVariable;
 import com.sun.jdi.ReferenceType;
+import com.sun.jdi.StackFrame;
 import com.sun.jdi.Type;
 import com.sun.jdi.Value;
 
@@ -38,6 +39,17 @@ public class JDILocalVariable extends JDIModificationVariable {
 	 */
 	private JDIStackFrame fStackFrame;
 
+	/**
+	 * The value fetched with the other locals of the frame, the underlying
+	 * frame it was fetched from, or <code>null</code> if none, and the change
+	 * count of the target then. The value is returned by the next retrieval if
+	 * the frame is still the same and nothing has run or changed in the
+	 * target since, such as an evaluation.
+	 */
+	private Value fPrefetchedValue;
+	private StackFrame fPrefetchedFrame;
+	private int fPrefetchedChangeCount = -1;
+
 	/**
 	 * Constructs a local variable for the given local in a stack frame.
 	 */
@@ -54,14 +66,47 @@ public class JDILocalVariable extends JDIModificationVariable {
 	protected Value retrieveValue() throws DebugException {
 		synchronized (fStackFrame.getThread()) {
 			if (getStackFrame().isSuspended()) {
-				return getStackFrame().getUnderlyingStackFrame().getValue(
-						fLocal);
+				StackFrame frame = getStackFrame().getUnderlyingStackFrame();
+				if (fPrefetchedFrame != null) {
+					Value value = fPrefetchedValue;
+					boolean current = fPrefetchedFrame == frame
+							&& fPrefetchedChangeCount != -1
+							&& fPrefetchedChangeCount == getJavaDebugTarget()
+									.getChangeCount();
+					setPrefetchedValue(null, null, -1);
+					if (current) {
+						return value;
+					}
+				}
+				return frame.getValue(fLocal);
 			}
 		}
 		// bug 6518
 		return getLastKnownValue();
 	}
 
+	/**
+	 * Sets the value of this local fetched from the given underlying frame
+	 * along with the other locals of the frame, to be returned by the next
+	 * retrieval of the value from the same frame unless the target has
+	 * changed in the meantime.
+	 * 
+	 * @param value
+	 *            the value fetched
+	 * @param frame
+	 *            the underlying frame the value was fetched from, or
+	 *            <code>null</code> to forget the value
+	 * @param changeCount
+	 *            the change count of the target before the value was fetched
+	 * @see JDIDebugTarget#getChangeCount()
+	 */
+	protected void setPrefetchedValue(Value value, StackFrame frame,
+			int changeCount) {
+		fPrefetchedValue = value;
+		fPrefetchedFrame = frame;
+		fPrefetchedChangeCount = changeCount;
+	}
+
 	/**
 	 * @see IVariable#getName()
 	 */
@@ -86,6 +131,7 @@ public class JDILocalVariable extends JDIModificationVariable {
 	protected void setJDIValue(Value value) throws DebugException {
 		try {
 			synchronized (getStackFrame().getThread()) {
+				setPrefetchedValue(null, null, -1);
 				getStackFrame().getUnderlyingStackFrame().setValue(getLocal(),
 						value);
 			}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2014 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -17,6 +17,7 @@ import java.util.Iterator;
 import java.util.List;
 
 import org.eclipse.debug.core.DebugException;
+import org.eclipse.jdi.internal.ObjectReferenceImpl;
 import org.eclipse.jdt.debug.core.IJavaFieldVariable;
 import org.eclipse.jdt.debug.core.IJavaObject;
 import org.eclipse.jdt.debug.core.IJavaThread;
@@ -149,8 +150,27 @@ public class JDIObjectValue extends JDIValue implements IJavaObject {
 		return JDIValue.createValue((JDIDebugTarget) getDebugTarget(), result);
 	}
 
+	/**
+	 * Returns the concrete method with the given selector and signature in
+	 * the given type or its supertypes, looked up in the type resolution cache
+	 * of the target first.
+	 */
 	private Method concreteMethodByName(ReferenceType refType, String selector,
 			String signature) throws DebugException {
+		TypeResolutionCache cache = getJavaDebugTarget()
+				.getTypeResolutionCache();
+		Method method = cache.getMethod(refType, selector, signature, true);
+		if (method == null) {
+			method = lookupConcreteMethod(refType, selector, signature);
+			if (method != null) {
+				cache.putMethod(refType, selector, signature, true, method);
+			}
+		}
+		return method;
+	}
+
+	private Method lookupConcreteMethod(ReferenceType refType, String selector,
+			String signature) throws DebugException {
 		if (refType instanceof ClassType) {
 			Method m = ((ClassType) refType).concreteMethodByName(selector,
 					signature);
@@ -561,4 +581,42 @@ public class JDIObjectValue extends JDIValue implements IJavaObject {
 			}
 		}
 	}
+
+	/**
+	 * Enables garbage collection of the given objects, which must belong to
+	 * the same target. The requests are sent in a single batch.
+	 * 
+	 * @param objects
+	 *            objects to enable garbage collection for
+	 * @throws DebugException
+	 *             if garbage collection cannot be enabled
+	 */
+	public static void enableCollection(List<? extends IJavaObject> objects)
+			throws DebugException {
+		List<ObjectReference> references = new ArrayList<ObjectReference>(
+				objects.size());
+		JDIObjectValue first = null;
+		for (IJavaObject object : objects) {
+			if (object instanceof JDIObjectValue
+					&& ((JDIObjectValue) object).getUnderlyingObject() instanceof ObjectReferenceImpl) {
+				if (first == null) {
+					first = (JDIObjectValue) object;
+				}
+				references.add(((JDIObjectValue) object)
+						.getUnderlyingObject());
+			} else {
+				object.enableCollection();
+			}
+		}
+		if (first != null
+				&& first.getJavaDebugTarget()
+						.supportsSelectiveGarbageCollection()) {
+			try {
+				ObjectReferenceImpl.enableCollection(references);
+			} catch (RuntimeException e) {
+				first.targetRequestFailed(
+						JDIDebugModelMessages.JDIObjectValue_14, e);
+			}
+		}
+	}
 }
\ No newline at end of file
@@ -16,6 +16,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.core.runtime.IAdaptable;
 import org.eclipse.core.runtime.IStatus;
@@ -57,6 +58,7 @@ import com.sun.jdi.ObjectReference;
 import com.sun.jdi.ReferenceType;
 import com.sun.jdi.StackFrame;
 import com.sun.jdi.Type;
+import com.sun.jdi.Value;
 import com.sun.jdi.VirtualMachine;
 
 /**
@@ -308,6 +310,7 @@ public class JDIStackFrame extends JDIDebugElement implements IJavaStackFrame {
 						return Collections.EMPTY_LIST;
 					}
 					if (allFields != null) {
+						List<Field> staticFields = new ArrayList<Field>();
 						Iterator<Field> fields = allFields.iterator();
 						while (fields.hasNext()) {
 							Field field = fields.next();
@@ -315,8 +318,11 @@ public class JDIStackFrame extends JDIDebugElement implements IJavaStackFrame {
 								fVariables.add(new JDIFieldVariable(
 										(JDIDebugTarget) getDebugTarget(),
 										field, declaringType));
+								staticFields.add(field);
 							}
 						}
+						JDIFieldVariable.prefetchValues(getJavaDebugTarget(),
+								fVariables, declaringType, staticFields);
 						Collections.sort(fVariables,
 								new Comparator<IJavaVariable>() {
 									public int compare(IJavaVariable a, IJavaVariable b) {
@@ -348,14 +354,60 @@ public class JDIStackFrame extends JDIDebugElement implements IJavaStackFrame {
 					LocalVariable var = variables.next();
 					fVariables.add(new JDILocalVariable(this, var));
 				}
+				prefetchValues(fVariables);
 			} else if (fRefreshVariables) {
 				updateVariables();
+				prefetchValues(fVariables);
 			}
 			fRefreshVariables = false;
 			return fVariables;
 		}
 	}
 
+	/**
+	 * Fetches the values of the locals among the given variables with a
+	 * single request, for each local to return on its next retrieval instead
+	 * of requesting its own value unless the target has changed in the
+	 * meantime. The values are retrieved one by one if they cannot be fetched
+	 * together.
+	 * 
+	 * @param variables
+	 *            the variables of this frame
+	 */
+	private void prefetchValues(List<IJavaVariable> variables) {
+		List<LocalVariable> locals = new ArrayList<LocalVariable>(
+				variables.size());
+		for (IJavaVariable variable : variables) {
+			if (variable instanceof JDILocalVariable) {
+				locals.add(((JDILocalVariable) variable).getLocal());
+			}
+		}
+		if (locals.size() < 2) {
+			return;
+		}
+		int changeCount = getJavaDebugTarget().getChangeCount();
+		if (changeCount == -1) {
+			return;
+		}
+		try {
+			StackFrame frame = getUnderlyingStackFrame();
+			Map<LocalVariable, Value> values = frame.getValues(locals);
+			for (IJavaVariable variable : variables) {
+				if (variable instanceof JDILocalVariable) {
+					JDILocalVariable local = (JDILocalVariable) variable;
+					if (values.containsKey(local.getLocal())) {
+						local.setPrefetchedValue(values.get(local.getLocal()),
+								frame, changeCount);
+					}
+				}
+			}
+		} catch (DebugException e) {
+			// the values are retrieved one by one
+		} catch (RuntimeException e) {
+			// the values are retrieved one by one
+		}
+	}
+
 	/**
 	 * @see IStackFrame#getName()
 	 */
@@ -49,6 +49,7 @@ import org.eclipse.jdt.debug.core.IJavaThreadGroup;
 import org.eclipse.jdt.debug.core.IJavaValue;
 import org.eclipse.jdt.debug.core.IJavaVariable;
 import org.eclipse.jdt.debug.core.JDIDebugModel;
+import org.eclipse.jdt.internal.debug.core.EventDispatchExecutor;
 import org.eclipse.jdt.internal.debug.core.IJDIEventListener;
 import org.eclipse.jdt.internal.debug.core.JDIDebugPlugin;
 import org.eclipse.jdt.internal.debug.core.breakpoints.ConditionalBreakpointHandler;
@@ -956,12 +957,17 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 				// Superclass method invocation must be performed non-virtual.
 				flags |= ObjectReference.INVOKE_NONVIRTUAL;
 			}
-			if (receiverClass == null) {
-				result = receiverObject.invokeMethod(fThread, method, args,
-						flags);
-			} else {
-				result = receiverClass.invokeMethod(fThread, method, args,
-						flags);
+			EventDispatchExecutor.beginBlocking();
+			try {
+				if (receiverClass == null) {
+					result = receiverObject.invokeMethod(fThread, method, args,
+							flags);
+				} else {
+					result = receiverClass.invokeMethod(fThread, method, args,
+							flags);
+				}
+			} finally {
+				EventDispatchExecutor.endBlocking();
 			}
 		} catch (InvalidTypeException e) {
 			invokeFailed(e, timeout);
@@ -1037,8 +1043,13 @@ public class JDIThread extends JDIDebugElement implements IJavaThread {
 			setRunning(true);
 			setInvokingMethod(true);
 			preserveStackFrames();
-			result = receiverClass.newInstance(fThread, constructor, args,
-					ClassType.INVOKE_SINGLE_THREADED);
+			EventDispatchExecutor.beginBlocking();
+			try {
+				result = receiverClass.newInstance(fThread, constructor, args,
+						ClassType.INVOKE_SINGLE_THREADED);
+			} finally {
+				EventDispatchExecutor.endBlocking();
+			}
 		} catch (InvalidTypeException e) {
 			invokeFailed(e, timeout);
 		} catch (ClassNotLoadedException e) {
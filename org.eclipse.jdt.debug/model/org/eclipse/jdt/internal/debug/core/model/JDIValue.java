@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2011 IBM Corporation and others.
+ * Copyright (c) 2000, 2015 IBM Corporation and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -272,6 +272,8 @@ public class JDIValue extends JDIDebugElement implements IJavaValue {
 							(JDIDebugTarget) getDebugTarget(), field, object,
 							fLogicalParent));
 				}
+				JDIFieldVariable.prefetchValues(getJavaDebugTarget(),
+						fVariables, object, fields);
 				Collections.sort(fVariables, new Comparator<IJavaVariable>() {
 					public int compare(IJavaVariable a, IJavaVariable b) {
 						return sortChildren(a, b);
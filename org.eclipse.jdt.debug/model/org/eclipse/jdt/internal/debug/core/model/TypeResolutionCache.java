@@ -0,0 +1,322 @@
+/*******************************************************************************
+ * Copyright (c) 2015 IBM Corporation and others.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.debug.core.model;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.debug.core.IJavaClassObject;
+import org.eclipse.jdt.debug.core.IJavaObject;
+
+import com.sun.jdi.Method;
+import com.sun.jdi.ReferenceType;
+
+/**
+ * Cache of the types and methods resolved by evaluations in a debug target.
+ * <p>
+ * Types are cached by name and by the class loader they were requested from,
+ * so that resolving a type an evaluation already resolved does not look up
+ * the loaded classes and their loaders, or call <code>Class.forName</code>,
+ * again. Methods are cached by receiving type, selector and signature.
+ * </p>
+ * <p>
+ * Entries are removed when their class is unloaded, and the cache is cleared
+ * when classes are redefined in the target.
+ * </p>
+ */
+public class TypeResolutionCache {
+
+	/**
+	 * Maximum number of types or methods cached
+	 */
+	private static final int MAX_ENTRIES = 500;
+
+	/**
+	 * Class objects by loader and name, least recently used first
+	 */
+	private Map<TypeKey, IJavaClassObject> fTypes = new LinkedHashMap<TypeKey, IJavaClassObject>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<TypeKey, IJavaClassObject> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	/**
+	 * Methods by type, selector and signature, least recently used first
+	 */
+	private Map<MethodKey, Method> fMethods = new LinkedHashMap<MethodKey, Method>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<MethodKey, Method> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	private long fTypeHits = 0;
+	private long fTypeMisses = 0;
+	private long fMethodHits = 0;
+	private long fMethodMisses = 0;
+
+	/**
+	 * Returns the class object cached for the given type name requested from
+	 * the given class loader, or <code>null</code> if none.
+	 *
+	 * @param loader
+	 *            the class loader the type is requested from or
+	 *            <code>null</code> for the bootstrap loader
+	 * @param name
+	 *            qualified type name, or signature of an array type
+	 * @return the cached class object or <code>null</code>
+	 */
+	public synchronized IJavaClassObject getClassObject(IJavaObject loader, String name) {
+		IJavaClassObject classObject = fTypes.get(new TypeKey(loader, name));
+		if (classObject == null) {
+			fTypeMisses++;
+		} else {
+			fTypeHits++;
+		}
+		return classObject;
+	}
+
+	/**
+	 * Caches the class object resolved for the given type name requested from
+	 * the given class loader.
+	 *
+	 * @param loader
+	 *            the class loader the type was requested from or
+	 *            <code>null</code> for the bootstrap loader
+	 * @param name
+	 *            qualified type name, or signature of an array type
+	 * @param classObject
+	 *            the class object resolved
+	 */
+	public synchronized void putClassObject(IJavaObject loader, String name, IJavaClassObject classObject) {
+		fTypes.put(new TypeKey(loader, name), classObject);
+	}
+
+	/**
+	 * Returns the method cached for the given selector and signature in the
+	 * given type, or <code>null</code> if none.
+	 *
+	 * @param type
+	 *            the type the method is looked up in
+	 * @param selector
+	 *            method name
+	 * @param signature
+	 *            method signature
+	 * @param concrete
+	 *            whether the method was looked up as a concrete method of the
+	 *            type and its supertypes, rather than as a method declared by
+	 *            the type
+	 * @return the cached method or <code>null</code>
+	 */
+	public synchronized Method getMethod(ReferenceType type, String selector, String signature, boolean concrete) {
+		Method method = fMethods.get(new MethodKey(type, selector, signature, concrete));
+		if (method == null) {
+			fMethodMisses++;
+		} else {
+			fMethodHits++;
+		}
+		return method;
+	}
+
+	/**
+	 * Caches the method resolved for the given selector and signature in the
+	 * given type.
+	 *
+	 * @param type
+	 *            the type the method was looked up in
+	 * @param selector
+	 *            method name
+	 * @param signature
+	 *            method signature
+	 * @param concrete
+	 *            whether the method was looked up as a concrete method of the
+	 *            type and its supertypes, rather than as a method declared by
+	 *            the type
+	 * @param method
+	 *            the method resolved
+	 */
+	public synchronized void putMethod(ReferenceType type, String selector, String signature, boolean concrete, Method method) {
+		fMethods.put(new MethodKey(type, selector, signature, concrete), method);
+	}
+
+	/**
+	 * Removes the types and methods of the class with the given name, which
+	 * has been unloaded by one of its loaders.
+	 *
+	 * @param className
+	 *            qualified name of the unloaded class
+	 */
+	public synchronized void classUnloaded(String className) {
+		Iterator<TypeKey> types = fTypes.keySet().iterator();
+		while (types.hasNext()) {
+			if (types.next().fClassName.equals(className)) {
+				types.remove();
+			}
+		}
+		Iterator<MethodKey> methods = fMethods.keySet().iterator();
+		while (methods.hasNext()) {
+			if (methods.next().fTypeName.equals(className)) {
+				methods.remove();
+			}
+		}
+	}
+
+	/**
+	 * Removes all the types and methods from this cache.
+	 */
+	public synchronized void clear() {
+		fTypes.clear();
+		fMethods.clear();
+	}
+
+	/**
+	 * Returns the number of times a type was found in this cache.
+	 *
+	 * @return the number of type cache hits
+	 */
+	public synchronized long getTypeHitCount() {
+		return fTypeHits;
+	}
+
+	/**
+	 * Returns the number of times a type was not found in this cache.
+	 *
+	 * @return the number of type cache misses
+	 */
+	public synchronized long getTypeMissCount() {
+		return fTypeMisses;
+	}
+
+	/**
+	 * Returns the number of times a method was found in this cache.
+	 *
+	 * @return the number of method cache hits
+	 */
+	public synchronized long getMethodHitCount() {
+		return fMethodHits;
+	}
+
+	/**
+	 * Returns the number of times a method was not found in this cache.
+	 *
+	 * @return the number of method cache misses
+	 */
+	public synchronized long getMethodMissCount() {
+		return fMethodMisses;
+	}
+
+	/**
+	 * A type name and the class loader it is requested from.
+	 */
+	private static final class TypeKey {
+
+		private final IJavaObject fLoader;
+		private final String fName;
+		/**
+		 * Name of the class whose unloading removes the entry, which is the
+		 * element class of an array type
+		 */
+		private final String fClassName;
+
+		TypeKey(IJavaObject loader, String name) {
+			fLoader = loader;
+			fName = name;
+			String className = name;
+			if (className.startsWith("[")) { //$NON-NLS-1$
+				int start = className.lastIndexOf('[') + 1;
+				if (className.charAt(start) == 'L') {
+					className = className.substring(start + 1, className.length() - 1).replace('/', '.');
+				}
+			}
+			fClassName = className;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return fName.hashCode() * 31 + (fLoader == null ? 0 : fLoader.hashCode());
+		}
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof TypeKey)) {
+				return false;
+			}
+			TypeKey key = (TypeKey) obj;
+			return fName.equals(key.fName)
+					&& (fLoader == null ? key.fLoader == null : fLoader.equals(key.fLoader));
+		}
+	}
+
+	/**
+	 * A method lookup in a type.
+	 */
+	private static final class MethodKey {
+
+		private final ReferenceType fType;
+		private final String fTypeName;
+		private final String fSelector;
+		private final String fSignature;
+		private final boolean fConcrete;
+
+		MethodKey(ReferenceType type, String selector, String signature, boolean concrete) {
+			fType = type;
+			fTypeName = type.name();
+			fSelector = selector;
+			fSignature = signature;
+			fConcrete = concrete;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			int hash = fType.hashCode();
+			hash = 31 * hash + fSelector.hashCode();
+			hash = 31 * hash + fSignature.hashCode();
+			return fConcrete ? hash : -hash;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 *
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof MethodKey)) {
+				return false;
+			}
+			MethodKey key = (MethodKey) obj;
+			return fConcrete == key.fConcrete && fType.equals(key.fType)
+					&& fSelector.equals(key.fSelector)
+					&& fSignature.equals(key.fSignature);
+		}
+	}
+}